@@ -15,13 +15,20 @@ public record SliceApiResponse<T>(
         @Schema(description = "현재 슬라이스의 데이터 목록") List<T> content,
         @Schema(description = "슬라이스 크기", example = "20") int size,
         @Schema(description = "다음 슬라이스 존재 여부") boolean hasNext,
-        @Schema(description = "다음 슬라이스 조회를 위한 커서") String nextCursor) {
+        @Schema(description = "다음 슬라이스 조회를 위한 커서") String nextCursor,
+        @Schema(description = "전체 데이터 개수 (includeTotal=true 요청 시에만 포함, 그 외 null)", example = "1500")
+                Long totalElements) {
 
     /** Compact Constructor - Defensive Copy */
     public SliceApiResponse {
         content = List.copyOf(content);
     }
 
+    /** 전체 개수 없이 생성 */
+    public SliceApiResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this(content, size, hasNext, nextCursor, null);
+    }
+
     /**
      * REST API SliceApiResponse 생성
      *
@@ -36,4 +43,20 @@ public record SliceApiResponse<T>(
             List<T> content, int size, boolean hasNext, String nextCursor) {
         return new SliceApiResponse<>(content, size, hasNext, nextCursor);
     }
+
+    /**
+     * REST API SliceApiResponse 생성 (전체 개수 포함)
+     *
+     * @param content 데이터 목록
+     * @param size 슬라이스 크기
+     * @param hasNext 다음 슬라이스 존재 여부
+     * @param nextCursor 다음 커서
+     * @param totalElements 전체 데이터 개수 (조회하지 않았으면 null)
+     * @param <T> 콘텐츠 타입
+     * @return SliceApiResponse
+     */
+    public static <T> SliceApiResponse<T> of(
+            List<T> content, int size, boolean hasNext, String nextCursor, Long totalElements) {
+        return new SliceApiResponse<>(content, size, hasNext, nextCursor, totalElements);
+    }
 }
@@ -28,6 +28,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -49,6 +50,7 @@ public class MonitoringQueryController {
     private final GetProductSyncFailureSummaryUseCase getProductSyncFailureSummaryUseCase;
     private final GetCrawlExecutionSummaryUseCase getCrawlExecutionSummaryUseCase;
     private final MonitoringQueryApiMapper monitoringQueryApiMapper;
+    private final Duration dashboardMaxStaleness;
 
     public MonitoringQueryController(
             GetDashboardSummaryUseCase getDashboardSummaryUseCase,
@@ -58,7 +60,8 @@ public class MonitoringQueryController {
             GetExternalSystemHealthUseCase getExternalSystemHealthUseCase,
             GetProductSyncFailureSummaryUseCase getProductSyncFailureSummaryUseCase,
             GetCrawlExecutionSummaryUseCase getCrawlExecutionSummaryUseCase,
-            MonitoringQueryApiMapper monitoringQueryApiMapper) {
+            MonitoringQueryApiMapper monitoringQueryApiMapper,
+            @Value("${monitoring.dashboard.max-staleness:PT30S}") Duration dashboardMaxStaleness) {
         this.getDashboardSummaryUseCase = getDashboardSummaryUseCase;
         this.getCrawlTaskSummaryUseCase = getCrawlTaskSummaryUseCase;
         this.getOutboxSummaryUseCase = getOutboxSummaryUseCase;
@@ -67,18 +70,26 @@ public class MonitoringQueryController {
         this.getProductSyncFailureSummaryUseCase = getProductSyncFailureSummaryUseCase;
         this.getCrawlExecutionSummaryUseCase = getCrawlExecutionSummaryUseCase;
         this.monitoringQueryApiMapper = monitoringQueryApiMapper;
+        this.dashboardMaxStaleness = dashboardMaxStaleness;
     }
 
     @GetMapping(MonitoringEndpoints.DASHBOARD)
-    @Operation(summary = "대시보드 요약", description = "시스템 전체 대시보드 요약 정보를 조회합니다.")
+    @Operation(
+            summary = "대시보드 요약",
+            description =
+                    "시스템 전체 대시보드 요약 정보를 조회합니다. 스냅샷을 반환하므로 집계 시각(aggregatedAt)은"
+                            + " 최대 maxStalenessSeconds만큼 지연될 수 있습니다.")
     public ResponseEntity<ApiResponse<DashboardSummaryApiResponse>> getDashboardSummary(
             @Parameter(description = "조회 기간 (분)", example = "60")
                     @RequestParam(value = "lookbackMinutes", required = false)
                     Integer lookbackMinutes) {
         Duration lookback = Duration.ofMinutes(resolveMinutes(lookbackMinutes));
-        DashboardSummaryResult result = getDashboardSummaryUseCase.execute(lookback);
+        DashboardSummaryResult result =
+                getDashboardSummaryUseCase.execute(lookback, dashboardMaxStaleness);
         return ResponseEntity.ok(
-                ApiResponse.of(monitoringQueryApiMapper.toDashboardApiResponse(result)));
+                ApiResponse.of(
+                        monitoringQueryApiMapper.toDashboardApiResponse(
+                                result, dashboardMaxStaleness)));
     }
 
     @GetMapping(MonitoringEndpoints.CRAWL_TASKS_SUMMARY)
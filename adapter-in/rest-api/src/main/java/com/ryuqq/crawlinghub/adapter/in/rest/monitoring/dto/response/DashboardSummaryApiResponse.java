@@ -5,4 +5,6 @@ public record DashboardSummaryApiResponse(
         long runningTasks,
         long pendingOutbox,
         long recentErrors,
-        String overallStatus) {}
+        String overallStatus,
+        String aggregatedAt,
+        long maxStalenessSeconds) {}
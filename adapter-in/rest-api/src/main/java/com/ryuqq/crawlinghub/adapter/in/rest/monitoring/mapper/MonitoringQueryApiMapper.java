@@ -1,5 +1,7 @@
 package com.ryuqq.crawlinghub.adapter.in.rest.monitoring.mapper;
 
+import static com.ryuqq.crawlinghub.adapter.in.rest.common.util.DateTimeFormatUtils.format;
+
 import com.ryuqq.crawlinghub.adapter.in.rest.monitoring.dto.response.CrawlExecutionSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.monitoring.dto.response.CrawlTaskSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.monitoring.dto.response.CrawledRawSummaryApiResponse;
@@ -17,19 +19,23 @@ import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSumma
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.ExternalSystemHealthResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.OutboxSummaryResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.ProductSyncFailureSummaryResult;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MonitoringQueryApiMapper {
 
-    public DashboardSummaryApiResponse toDashboardApiResponse(DashboardSummaryResult result) {
+    public DashboardSummaryApiResponse toDashboardApiResponse(
+            DashboardSummaryResult result, Duration maxStaleness) {
         return new DashboardSummaryApiResponse(
                 result.activeSchedulers(),
                 result.runningTasks(),
                 result.pendingOutbox(),
                 result.recentErrors(),
-                result.overallStatus().name());
+                result.overallStatus().name(),
+                format(result.aggregatedAt()),
+                maxStaleness.toSeconds());
     }
 
     public CrawlTaskSummaryApiResponse toCrawlTaskSummaryApiResponse(
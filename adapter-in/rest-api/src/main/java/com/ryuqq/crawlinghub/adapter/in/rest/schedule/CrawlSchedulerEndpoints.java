@@ -8,5 +8,6 @@ public final class CrawlSchedulerEndpoints {
 
     public static final String BASE = "/api/v1/crawling/schedules";
     public static final String BY_ID = "/{id}";
+    public static final String CURSOR = "/cursor";
     public static final String TRIGGER = "/{id}/trigger";
 }
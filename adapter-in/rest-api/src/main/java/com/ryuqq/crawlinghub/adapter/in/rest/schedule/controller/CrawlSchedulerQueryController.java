@@ -2,15 +2,20 @@ package com.ryuqq.crawlinghub.adapter.in.rest.schedule.controller;
 
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.ApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.PageApiResponse;
+import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.SliceApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.CrawlSchedulerEndpoints;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.query.SearchCrawlSchedulersApiRequest;
+import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.query.SearchCrawlSchedulersCursorApiRequest;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.mapper.CrawlSchedulerQueryApiMapper;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult;
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerPageResult;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
 import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlScheduleUseCase;
+import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlSchedulerByCursorUseCase;
 import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlSchedulerByOffsetUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -43,14 +48,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class CrawlSchedulerQueryController {
 
     private final SearchCrawlSchedulerByOffsetUseCase searchCrawlSchedulerByOffsetUseCase;
+    private final SearchCrawlSchedulerByCursorUseCase searchCrawlSchedulerByCursorUseCase;
     private final SearchCrawlScheduleUseCase searchCrawlScheduleUseCase;
     private final CrawlSchedulerQueryApiMapper crawlSchedulerQueryApiMapper;
 
     public CrawlSchedulerQueryController(
             SearchCrawlSchedulerByOffsetUseCase searchCrawlSchedulerByOffsetUseCase,
+            SearchCrawlSchedulerByCursorUseCase searchCrawlSchedulerByCursorUseCase,
             SearchCrawlScheduleUseCase searchCrawlScheduleUseCase,
             CrawlSchedulerQueryApiMapper crawlSchedulerQueryApiMapper) {
         this.searchCrawlSchedulerByOffsetUseCase = searchCrawlSchedulerByOffsetUseCase;
+        this.searchCrawlSchedulerByCursorUseCase = searchCrawlSchedulerByCursorUseCase;
         this.searchCrawlScheduleUseCase = searchCrawlScheduleUseCase;
         this.crawlSchedulerQueryApiMapper = crawlSchedulerQueryApiMapper;
     }
@@ -89,6 +97,41 @@ public class CrawlSchedulerQueryController {
                 ApiResponse.of(crawlSchedulerQueryApiMapper.toPageResponse(pageResult)));
     }
 
+    @GetMapping(CrawlSchedulerEndpoints.CURSOR)
+    @Operation(
+            summary = "크롤 스케줄러 목록 커서 조회",
+            description =
+                    "크롤 스케줄러 목록을 (정렬 키, ID) 커서(keyset)로 조회합니다. "
+                            + "다음 슬라이스는 응답의 nextCursor로 요청하며, 커서는 발급 시점과 같은"
+                            + " sortKey/sortDirection으로만 사용할 수 있습니다 (다르면 400)."
+                            + " 전체 개수는 includeTotal=true일 때만 포함합니다. "
+                            + "scheduler:read 권한이 필요합니다.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 파라미터 (커서 형식 오류 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "401",
+                description = "인증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "403",
+                description = "권한 없음 (scheduler:read 권한 필요)")
+    })
+    public ResponseEntity<ApiResponse<SliceApiResponse<CrawlSchedulerSummaryApiResponse>>>
+            listCrawlSchedulersByCursor(
+                    @ModelAttribute @Valid SearchCrawlSchedulersCursorApiRequest request) {
+        CrawlSchedulerCursorSearchParams params =
+                crawlSchedulerQueryApiMapper.toCursorSearchParams(request);
+        CrawlSchedulerSliceResult sliceResult =
+                searchCrawlSchedulerByCursorUseCase.execute(params);
+        return ResponseEntity.ok(
+                ApiResponse.of(crawlSchedulerQueryApiMapper.toSliceResponse(sliceResult)));
+    }
+
     @GetMapping(CrawlSchedulerEndpoints.BY_ID)
     @Operation(
             summary = "크롤 스케줄러 상세 조회",
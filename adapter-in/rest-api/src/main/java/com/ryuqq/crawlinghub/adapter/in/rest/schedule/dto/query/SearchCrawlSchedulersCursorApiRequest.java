@@ -0,0 +1,53 @@
+package com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+
+/**
+ * 크롤 스케줄러 커서(keyset) 목록 조회 요청 DTO
+ *
+ * <p>{@code (정렬 키, id)} 순서로 조회합니다. 다음 슬라이스는 직전 응답의 nextCursor와 같은 sortKey/sortDirection으로
+ * 요청해야 하며, 전체 개수는 includeTotal=true일 때만 조회합니다.
+ *
+ * @param sellerId 셀러 ID 필터 (선택)
+ * @param statuses 상태 필터 목록 (선택)
+ * @param searchField 검색 필드 (선택)
+ * @param searchWord 검색어 (선택)
+ * @param sortKey 정렬 키 (선택, 기본값: createdAt)
+ * @param sortDirection 정렬 방향 (선택, 기본값: DESC)
+ * @param cursor 다음 슬라이스 커서 (선택)
+ * @param size 슬라이스 크기 (기본값: 20, 최대: 100)
+ * @param includeTotal 전체 개수 포함 여부 (기본값: false)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record SearchCrawlSchedulersCursorApiRequest(
+        @Positive(message = "셀러 ID는 양수여야 합니다") @Schema(description = "셀러 ID 필터", example = "1")
+                Long sellerId,
+        @Schema(description = "상태 필터 목록 (다중 선택 가능)", example = "[\"ACTIVE\", \"INACTIVE\"]")
+                List<String> statuses,
+        @Schema(description = "검색 필드", example = "schedulerName") String searchField,
+        @Schema(description = "검색어", example = "DAILY") String searchWord,
+        @Schema(description = "정렬 키 (createdAt, updatedAt, schedulerName)", example = "createdAt")
+                String sortKey,
+        @Schema(description = "정렬 방향 (ASC, DESC)", example = "DESC") String sortDirection,
+        @Schema(description = "직전 응답의 nextCursor (없으면 첫 슬라이스)") String cursor,
+        @Min(value = 1, message = "슬라이스 크기는 1 이상이어야 합니다")
+                @Max(value = 100, message = "슬라이스 크기는 100 이하여야 합니다")
+                @Schema(description = "슬라이스 크기 (최대 100)", example = "20")
+                Integer size,
+        @Schema(description = "전체 개수 포함 여부 (COUNT 쿼리 실행)", example = "false")
+                Boolean includeTotal) {
+
+    public SearchCrawlSchedulersCursorApiRequest {
+        if (size == null) {
+            size = 20;
+        }
+        if (includeTotal == null) {
+            includeTotal = false;
+        }
+    }
+}
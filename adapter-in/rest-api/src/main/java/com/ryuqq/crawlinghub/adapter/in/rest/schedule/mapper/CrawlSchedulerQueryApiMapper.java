@@ -3,22 +3,27 @@ package com.ryuqq.crawlinghub.adapter.in.rest.schedule.mapper;
 import static com.ryuqq.crawlinghub.adapter.in.rest.common.util.DateTimeFormatUtils.format;
 
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.PageApiResponse;
+import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.SliceApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.query.SearchCrawlSchedulersApiRequest;
+import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.query.SearchCrawlSchedulersCursorApiRequest;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse.ExecutionInfoApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse.SchedulerStatisticsApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse.SellerSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse.TaskSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerSummaryApiResponse;
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
 import com.ryuqq.crawlinghub.application.common.dto.query.CommonSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult.ExecutionInfo;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult.SchedulerStatistics;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult.SellerSummary;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult.TaskSummary;
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerPageResult;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerResult;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Component;
@@ -57,6 +62,43 @@ public class CrawlSchedulerQueryApiMapper {
                 searchParams);
     }
 
+    /**
+     * SearchCrawlSchedulersCursorApiRequest → CrawlSchedulerCursorSearchParams 변환
+     *
+     * @param request REST API 커서 조회 요청
+     * @return Application Layer 커서 검색 파라미터
+     */
+    public CrawlSchedulerCursorSearchParams toCursorSearchParams(
+            SearchCrawlSchedulersCursorApiRequest request) {
+        return CrawlSchedulerCursorSearchParams.of(
+                request.sellerId(),
+                request.statuses(),
+                request.searchField(),
+                request.searchWord(),
+                request.sortKey(),
+                request.sortDirection(),
+                CommonCursorParams.of(request.cursor(), request.size()),
+                request.includeTotal());
+    }
+
+    /**
+     * CrawlSchedulerSliceResult → SliceApiResponse 변환
+     *
+     * @param sliceResult Application Layer 슬라이스 결과
+     * @return REST API 슬라이스 응답
+     */
+    public SliceApiResponse<CrawlSchedulerSummaryApiResponse> toSliceResponse(
+            CrawlSchedulerSliceResult sliceResult) {
+        List<CrawlSchedulerSummaryApiResponse> content =
+                sliceResult.results().stream().map(this::toSummaryApiResponse).toList();
+        return SliceApiResponse.of(
+                content,
+                sliceResult.sliceMeta().size(),
+                sliceResult.sliceMeta().hasNext(),
+                sliceResult.sliceMeta().cursor(),
+                sliceResult.totalElements());
+    }
+
     /**
      * CrawlSchedulerPageResult → PageApiResponse 변환
      *
@@ -8,4 +8,5 @@ public final class SellerEndpoints {
 
     public static final String BASE = "/api/v1/crawling/sellers";
     public static final String BY_ID = "/{id}";
+    public static final String CURSOR = "/cursor";
 }
@@ -2,15 +2,20 @@ package com.ryuqq.crawlinghub.adapter.in.rest.seller.controller;
 
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.ApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.PageApiResponse;
+import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.SliceApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.SellerEndpoints;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.query.SearchSellersApiRequest;
+import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.query.SearchSellersCursorApiRequest;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SellerDetailApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SellerSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.mapper.SellerQueryApiMapper;
 import com.ryuqq.crawlinghub.application.seller.dto.composite.SellerDetailResult;
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.query.SellerSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerPageResult;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
 import com.ryuqq.crawlinghub.application.seller.port.in.query.GetSellerUseCase;
+import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByCursorUseCase;
 import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByOffsetUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,14 +50,17 @@ public class SellerQueryController {
 
     private final GetSellerUseCase getSellerUseCase;
     private final SearchSellerByOffsetUseCase searchSellerByOffsetUseCase;
+    private final SearchSellerByCursorUseCase searchSellerByCursorUseCase;
     private final SellerQueryApiMapper sellerQueryApiMapper;
 
     public SellerQueryController(
             GetSellerUseCase getSellerUseCase,
             SearchSellerByOffsetUseCase searchSellerByOffsetUseCase,
+            SearchSellerByCursorUseCase searchSellerByCursorUseCase,
             SellerQueryApiMapper sellerQueryApiMapper) {
         this.getSellerUseCase = getSellerUseCase;
         this.searchSellerByOffsetUseCase = searchSellerByOffsetUseCase;
+        this.searchSellerByCursorUseCase = searchSellerByCursorUseCase;
         this.sellerQueryApiMapper = sellerQueryApiMapper;
     }
 
@@ -115,4 +123,36 @@ public class SellerQueryController {
         SellerPageResult pageResult = searchSellerByOffsetUseCase.execute(params);
         return ResponseEntity.ok(ApiResponse.of(sellerQueryApiMapper.toPageResponse(pageResult)));
     }
+
+    @GetMapping(SellerEndpoints.CURSOR)
+    @Operation(
+            summary = "셀러 목록 커서 조회",
+            description =
+                    "셀러 목록을 (정렬 키, ID) 커서(keyset)로 조회합니다. "
+                            + "다음 슬라이스는 응답의 nextCursor로 요청하며, 커서는 발급 시점과 같은"
+                            + " sortKey/sortDirection으로만 사용할 수 있습니다 (다르면 400)."
+                            + " 전체 개수는 includeTotal=true일 때만 포함합니다. "
+                            + "seller:read 권한이 필요합니다.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 파라미터 (커서 형식 오류 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "401",
+                description = "인증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "403",
+                description = "권한 없음 (seller:read 권한 필요)")
+    })
+    public ResponseEntity<ApiResponse<SliceApiResponse<SellerSummaryApiResponse>>>
+            listSellersByCursor(@ModelAttribute @Valid SearchSellersCursorApiRequest request) {
+        SellerCursorSearchParams params = sellerQueryApiMapper.toCursorSearchParams(request);
+        SellerSliceResult sliceResult = searchSellerByCursorUseCase.execute(params);
+        return ResponseEntity.ok(
+                ApiResponse.of(sellerQueryApiMapper.toSliceResponse(sliceResult)));
+    }
 }
@@ -0,0 +1,77 @@
+package com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Search Sellers Cursor API Request
+ *
+ * <p>셀러 커서(keyset) 목록 조회 API 요청 DTO. {@code (정렬 키, ID)} 순서로 조회하며, 전체 개수는 includeTotal=true일
+ * 때만 조회합니다. 커서는 발급 시점과 같은 sortKey/sortDirection으로만 사용할 수 있습니다.
+ *
+ * <p><strong>Validation 규칙:</strong>
+ *
+ * <ul>
+ *   <li>sellerName: 선택, 최대 100자 (부분 일치 검색)
+ *   <li>mustItSellerName: 선택, 최대 100자 (부분 일치 검색)
+ *   <li>statuses: 선택, "ACTIVE" 또는 "INACTIVE" 목록 (다중 선택 가능)
+ *   <li>createdFrom: 선택, 생성일 시작 (ISO-8601 형식)
+ *   <li>createdTo: 선택, 생성일 종료 (ISO-8601 형식)
+ *   <li>sortKey: 정렬 키 (선택, createdAt/updatedAt, 기본값: createdAt)
+ *   <li>sortDirection: 정렬 방향 (선택, 기본값: DESC)
+ *   <li>cursor: 선택, 직전 응답의 nextCursor (없으면 첫 슬라이스)
+ *   <li>size: 1-100 (기본값: 20)
+ *   <li>includeTotal: 선택, 기본값 false
+ * </ul>
+ *
+ * @param sellerName 셀러명 필터 (부분 일치 검색, 선택)
+ * @param mustItSellerName 머스트잇 셀러명 필터 (부분 일치 검색, 선택)
+ * @param statuses 셀러 상태 필터 목록 (다중 선택 가능, 선택)
+ * @param createdFrom 생성일 시작 (선택)
+ * @param createdTo 생성일 종료 (선택)
+ * @param sortKey 정렬 키 (선택, 기본값: createdAt)
+ * @param sortDirection 정렬 방향 (선택, 기본값: DESC)
+ * @param cursor 다음 슬라이스 커서 (선택, 같은 sortKey/sortDirection으로만 사용 가능)
+ * @param size 슬라이스 크기 (기본값: 20, 최대: 100)
+ * @param includeTotal 전체 개수 포함 여부 (기본값: false)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record SearchSellersCursorApiRequest(
+        @Size(max = 100, message = "셀러명은 최대 100자까지 허용됩니다")
+                @Schema(description = "셀러명 필터 (부분 일치 검색)", example = "테스트셀러")
+                String sellerName,
+        @Size(max = 100, message = "머스트잇 셀러명은 최대 100자까지 허용됩니다")
+                @Schema(description = "머스트잇 셀러명 필터 (부분 일치 검색)", example = "머스트잇셀러")
+                String mustItSellerName,
+        @Schema(description = "상태 필터 목록 (다중 선택 가능)", example = "[\"ACTIVE\", \"INACTIVE\"]")
+                List<String> statuses,
+        @Schema(description = "생성일 시작 (ISO-8601)", example = "2025-01-01T00:00:00Z")
+                Instant createdFrom,
+        @Schema(description = "생성일 종료 (ISO-8601)", example = "2025-12-31T23:59:59Z")
+                Instant createdTo,
+        @Schema(description = "정렬 키 (createdAt, updatedAt, 기본값: createdAt)", example = "createdAt")
+                String sortKey,
+        @Schema(description = "정렬 방향 (ASC/DESC, 기본값: DESC)", example = "DESC") String sortDirection,
+        @Schema(description = "직전 응답의 nextCursor (없으면 첫 슬라이스)") String cursor,
+        @Min(value = 1, message = "슬라이스 크기는 최소 1이어야 합니다")
+                @Max(value = 100, message = "슬라이스 크기는 최대 100까지 허용됩니다")
+                @Schema(description = "슬라이스 크기 (최대 100)", example = "20")
+                Integer size,
+        @Schema(description = "전체 개수 포함 여부 (COUNT 쿼리 실행)", example = "false")
+                Boolean includeTotal) {
+
+    /** 기본값 적용 생성자 */
+    public SearchSellersCursorApiRequest {
+        if (size == null) {
+            size = 20;
+        }
+        if (includeTotal == null) {
+            includeTotal = false;
+        }
+    }
+}
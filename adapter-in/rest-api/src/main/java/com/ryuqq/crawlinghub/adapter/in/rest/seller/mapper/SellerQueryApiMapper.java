@@ -3,17 +3,22 @@ package com.ryuqq.crawlinghub.adapter.in.rest.seller.mapper;
 import static com.ryuqq.crawlinghub.adapter.in.rest.common.util.DateTimeFormatUtils.format;
 
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.PageApiResponse;
+import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.SliceApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.query.SearchSellersApiRequest;
+import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.query.SearchSellersCursorApiRequest;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SchedulerSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SellerDetailApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SellerDetailStatisticsApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SellerSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.TaskSummaryApiResponse;
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
 import com.ryuqq.crawlinghub.application.common.dto.query.CommonSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.composite.SellerDetailResult;
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.query.SellerSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerPageResult;
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerResult;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Component;
@@ -36,6 +41,7 @@ import org.springframework.stereotype.Component;
  *   <li>필드 매핑만 수행 (비즈니스 로직 포함 금지)
  *   <li>API DTO ↔ Application DTO 단순 변환
  *   <li>페이징 응답 변환 (SellerPageResult → PageApiResponse)
+ *   <li>슬라이스 응답 변환 (SellerSliceResult → SliceApiResponse)
  * </ul>
  *
  * @author development-team
@@ -70,6 +76,25 @@ public class SellerQueryApiMapper {
                 searchParams);
     }
 
+    /**
+     * SearchSellersCursorApiRequest → SellerCursorSearchParams 변환
+     *
+     * @param request REST API 셀러 커서 목록 조회 요청
+     * @return Application Layer 셀러 커서 검색 파라미터
+     */
+    public SellerCursorSearchParams toCursorSearchParams(SearchSellersCursorApiRequest request) {
+        return SellerCursorSearchParams.of(
+                isNotBlank(request.mustItSellerName()) ? request.mustItSellerName() : null,
+                isNotBlank(request.sellerName()) ? request.sellerName() : null,
+                request.statuses(),
+                request.createdFrom(),
+                request.createdTo(),
+                request.sortKey(),
+                request.sortDirection(),
+                CommonCursorParams.of(request.cursor(), request.size()),
+                request.includeTotal());
+    }
+
     /**
      * SellerResult → SellerSummaryApiResponse 변환
      *
@@ -102,6 +127,24 @@ public class SellerQueryApiMapper {
                 pageResult.pageMeta().totalElements());
     }
 
+    /**
+     * SellerSliceResult → SliceApiResponse<SellerSummaryApiResponse> 변환
+     *
+     * @param sliceResult Application Layer 셀러 슬라이스 결과
+     * @return REST API 슬라이스 응답
+     */
+    public SliceApiResponse<SellerSummaryApiResponse> toSliceResponse(
+            SellerSliceResult sliceResult) {
+        List<SellerSummaryApiResponse> content =
+                sliceResult.results().stream().map(this::toSummaryApiResponse).toList();
+        return SliceApiResponse.of(
+                content,
+                sliceResult.sliceMeta().size(),
+                sliceResult.sliceMeta().hasNext(),
+                sliceResult.sliceMeta().cursor(),
+                sliceResult.totalElements());
+    }
+
     /**
      * SellerDetailResult → SellerDetailApiResponse 변환
      *
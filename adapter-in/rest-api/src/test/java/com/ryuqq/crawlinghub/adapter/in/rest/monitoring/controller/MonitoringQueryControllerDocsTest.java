@@ -33,6 +33,7 @@ import com.ryuqq.crawlinghub.application.monitoring.port.in.query.GetExternalSys
 import com.ryuqq.crawlinghub.application.monitoring.port.in.query.GetOutboxSummaryUseCase;
 import com.ryuqq.crawlinghub.application.monitoring.port.in.query.GetProductSyncFailureSummaryUseCase;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
@@ -77,13 +78,22 @@ class MonitoringQueryControllerDocsTest extends RestDocsTestSupport {
         // given
         DashboardSummaryResult useCaseResult =
                 new DashboardSummaryResult(
-                        5L, 3L, 10L, 0L, DashboardSummaryResult.SystemStatus.HEALTHY);
+                        5L,
+                        3L,
+                        10L,
+                        0L,
+                        DashboardSummaryResult.SystemStatus.HEALTHY,
+                        Instant.parse("2024-01-15T10:00:00Z"));
 
         DashboardSummaryApiResponse apiResponse =
-                new DashboardSummaryApiResponse(5L, 3L, 10L, 0L, "HEALTHY");
+                new DashboardSummaryApiResponse(
+                        5L, 3L, 10L, 0L, "HEALTHY", "2024-01-15 19:00:00", 30L);
 
-        given(getDashboardSummaryUseCase.execute(any(Duration.class))).willReturn(useCaseResult);
-        given(monitoringQueryApiMapper.toDashboardApiResponse(any(DashboardSummaryResult.class)))
+        given(getDashboardSummaryUseCase.execute(any(Duration.class), any(Duration.class)))
+                .willReturn(useCaseResult);
+        given(
+                        monitoringQueryApiMapper.toDashboardApiResponse(
+                                any(DashboardSummaryResult.class), any(Duration.class)))
                 .willReturn(apiResponse);
 
         // when & then
@@ -118,6 +128,12 @@ class MonitoringQueryControllerDocsTest extends RestDocsTestSupport {
                                                 .type(JsonFieldType.STRING)
                                                 .description(
                                                         "전체 시스템 상태 (HEALTHY / WARNING / CRITICAL)"),
+                                        fieldWithPath("data.aggregatedAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("집계 시각 (스냅샷 기준 시각)"),
+                                        fieldWithPath("data.maxStalenessSeconds")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("스냅샷 최대 허용 지연 (초)"),
                                         fieldWithPath("timestamp")
                                                 .type(JsonFieldType.STRING)
                                                 .description("응답 시각"),
@@ -12,6 +12,8 @@ import com.ryuqq.crawlinghub.application.monitoring.dto.composite.CrawledRawSumm
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.ExternalSystemHealthResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.OutboxSummaryResult;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +40,9 @@ import org.junit.jupiter.api.Test;
 @Tag("adapter-rest")
 class MonitoringQueryApiMapperTest {
 
+    private static final Instant AGGREGATED_AT = Instant.parse("2024-01-15T10:00:00Z");
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
     private MonitoringQueryApiMapper mapper;
 
     @BeforeEach
@@ -46,7 +51,7 @@ class MonitoringQueryApiMapperTest {
     }
 
     @Nested
-    @DisplayName("toDashboardApiResponse(DashboardSummaryResult) - 대시보드 응답 변환")
+    @DisplayName("toDashboardApiResponse(DashboardSummaryResult, Duration) - 대시보드 응답 변환")
     class ToDashboardApiResponseTests {
 
         @Test
@@ -55,10 +60,16 @@ class MonitoringQueryApiMapperTest {
             // Given
             DashboardSummaryResult result =
                     new DashboardSummaryResult(
-                            5L, 3L, 10L, 0L, DashboardSummaryResult.SystemStatus.HEALTHY);
+                            5L,
+                            3L,
+                            10L,
+                            0L,
+                            DashboardSummaryResult.SystemStatus.HEALTHY,
+                            AGGREGATED_AT);
 
             // When
-            DashboardSummaryApiResponse response = mapper.toDashboardApiResponse(result);
+            DashboardSummaryApiResponse response =
+                    mapper.toDashboardApiResponse(result, MAX_STALENESS);
 
             // Then
             assertThat(response).isNotNull();
@@ -67,6 +78,8 @@ class MonitoringQueryApiMapperTest {
             assertThat(response.pendingOutbox()).isEqualTo(10L);
             assertThat(response.recentErrors()).isEqualTo(0L);
             assertThat(response.overallStatus()).isEqualTo("HEALTHY");
+            assertThat(response.aggregatedAt()).isNotBlank();
+            assertThat(response.maxStalenessSeconds()).isEqualTo(30L);
         }
 
         @Test
@@ -75,10 +88,16 @@ class MonitoringQueryApiMapperTest {
             // Given
             DashboardSummaryResult result =
                     new DashboardSummaryResult(
-                            3L, 2L, 50L, 5L, DashboardSummaryResult.SystemStatus.WARNING);
+                            3L,
+                            2L,
+                            50L,
+                            5L,
+                            DashboardSummaryResult.SystemStatus.WARNING,
+                            AGGREGATED_AT);
 
             // When
-            DashboardSummaryApiResponse response = mapper.toDashboardApiResponse(result);
+            DashboardSummaryApiResponse response =
+                    mapper.toDashboardApiResponse(result, MAX_STALENESS);
 
             // Then
             assertThat(response).isNotNull();
@@ -92,10 +111,16 @@ class MonitoringQueryApiMapperTest {
             // Given
             DashboardSummaryResult result =
                     new DashboardSummaryResult(
-                            1L, 0L, 100L, 30L, DashboardSummaryResult.SystemStatus.CRITICAL);
+                            1L,
+                            0L,
+                            100L,
+                            30L,
+                            DashboardSummaryResult.SystemStatus.CRITICAL,
+                            AGGREGATED_AT);
 
             // When
-            DashboardSummaryApiResponse response = mapper.toDashboardApiResponse(result);
+            DashboardSummaryApiResponse response =
+                    mapper.toDashboardApiResponse(result, MAX_STALENESS);
 
             // Then
             assertThat(response).isNotNull();
@@ -112,10 +137,16 @@ class MonitoringQueryApiMapperTest {
             // Given
             DashboardSummaryResult result =
                     new DashboardSummaryResult(
-                            0L, 0L, 0L, 0L, DashboardSummaryResult.SystemStatus.HEALTHY);
+                            0L,
+                            0L,
+                            0L,
+                            0L,
+                            DashboardSummaryResult.SystemStatus.HEALTHY,
+                            AGGREGATED_AT);
 
             // When
-            DashboardSummaryApiResponse response = mapper.toDashboardApiResponse(result);
+            DashboardSummaryApiResponse response =
+                    mapper.toDashboardApiResponse(result, MAX_STALENESS);
 
             // Then
             assertThat(response).isNotNull();
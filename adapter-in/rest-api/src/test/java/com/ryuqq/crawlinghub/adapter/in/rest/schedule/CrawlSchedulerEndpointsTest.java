@@ -33,6 +33,12 @@ class CrawlSchedulerEndpointsTest {
         assertThat(CrawlSchedulerEndpoints.BY_ID).isEqualTo("/{id}");
     }
 
+    @Test
+    @DisplayName("CURSOR 상수가 올바른 경로이다")
+    void shouldHaveCorrectCursorConstant() {
+        assertThat(CrawlSchedulerEndpoints.CURSOR).isEqualTo("/cursor");
+    }
+
     @Test
     @DisplayName("TRIGGER 상수가 올바른 경로이다")
     void shouldHaveCorrectTriggerConstant() {
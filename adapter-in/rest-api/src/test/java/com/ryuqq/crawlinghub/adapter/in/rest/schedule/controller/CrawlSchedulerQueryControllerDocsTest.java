@@ -15,6 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.ryuqq.crawlinghub.adapter.in.rest.common.RestDocsSecuritySnippets;
 import com.ryuqq.crawlinghub.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.PageApiResponse;
+import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.SliceApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.config.TestConfiguration;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.schedule.dto.response.CrawlSchedulerDetailApiResponse.ExecutionInfoApiResponse;
@@ -27,7 +28,9 @@ import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDe
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult.SchedulerInfo;
 import com.ryuqq.crawlinghub.application.schedule.dto.composite.CrawlSchedulerDetailResult.SellerSummary;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerPageResult;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
 import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlScheduleUseCase;
+import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlSchedulerByCursorUseCase;
 import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlSchedulerByOffsetUseCase;
 import java.time.Instant;
 import java.util.List;
@@ -53,6 +56,9 @@ class CrawlSchedulerQueryControllerDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private SearchCrawlSchedulerByOffsetUseCase searchCrawlSchedulerByOffsetUseCase;
 
+    @MockitoBean
+    private SearchCrawlSchedulerByCursorUseCase searchCrawlSchedulerByCursorUseCase;
+
     @MockitoBean private SearchCrawlScheduleUseCase searchCrawlScheduleUseCase;
 
     @MockitoBean private CrawlSchedulerQueryApiMapper crawlSchedulerQueryApiMapper;
@@ -190,6 +196,131 @@ class CrawlSchedulerQueryControllerDocsTest extends RestDocsTestSupport {
                                                 .description("요청 ID"))));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/crawling/schedules/cursor - 크롤 스케줄러 목록 커서 조회 API 문서")
+    void listCrawlSchedulersByCursor() throws Exception {
+        // given
+        List<CrawlSchedulerSummaryApiResponse> apiContent =
+                List.of(
+                        new CrawlSchedulerSummaryApiResponse(
+                                10L,
+                                1L,
+                                "daily-crawl",
+                                "0 0 9 * * ?",
+                                "ACTIVE",
+                                "2025-11-20 10:30:00",
+                                null));
+
+        SliceApiResponse<CrawlSchedulerSummaryApiResponse> apiSliceResponse =
+                SliceApiResponse.of(
+                        apiContent,
+                        1,
+                        true,
+                        "Y3JlYXRlZEF0fERFU0N8MjAyNS0xMS0yMFQwMTozMDowMFp8MTA",
+                        12L);
+
+        given(crawlSchedulerQueryApiMapper.toCursorSearchParams(any())).willReturn(null);
+        given(searchCrawlSchedulerByCursorUseCase.execute(any()))
+                .willReturn(CrawlSchedulerSliceResult.empty());
+        given(crawlSchedulerQueryApiMapper.toSliceResponse(any())).willReturn(apiSliceResponse);
+
+        // when & then
+        mockMvc.perform(
+                        get("/api/v1/crawling/schedules/cursor")
+                                .param("sellerId", "1")
+                                .param("statuses", "ACTIVE")
+                                .param("sortKey", "createdAt")
+                                .param("sortDirection", "DESC")
+                                .param(
+                                        "cursor",
+                                        "Y3JlYXRlZEF0fERFU0N8MjAyNS0xMS0yMVQwMTozMDowMFp8MTE")
+                                .param("size", "1")
+                                .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").value(12))
+                .andDo(
+                        document(
+                                "schedule-query/cursor",
+                                RestDocsSecuritySnippets.authorization("scheduler:read"),
+                                queryParameters(
+                                        parameterWithName("sellerId")
+                                                .description("셀러 ID 필터 (양수, 선택)")
+                                                .optional(),
+                                        parameterWithName("statuses")
+                                                .description("상태 필터 (ACTIVE/INACTIVE, 다중 선택 가능)")
+                                                .optional(),
+                                        parameterWithName("sortKey")
+                                                .description(
+                                                        "정렬 키 (createdAt, updatedAt,"
+                                                                + " schedulerName)")
+                                                .optional(),
+                                        parameterWithName("sortDirection")
+                                                .description("정렬 방향 (ASC, DESC)")
+                                                .optional(),
+                                        parameterWithName("cursor")
+                                                .description(
+                                                        "직전 응답의 nextCursor (없으면 첫 슬라이스, 같은"
+                                                                + " sortKey/sortDirection으로만 사용"
+                                                                + " 가능)")
+                                                .optional(),
+                                        parameterWithName("size")
+                                                .description("슬라이스 크기 (기본값: 20, 최대: 100)")
+                                                .optional(),
+                                        parameterWithName("includeTotal")
+                                                .description("전체 개수 포함 여부 (기본값: false)")
+                                                .optional()),
+                                responseFields(
+                                        fieldWithPath("data")
+                                                .type(JsonFieldType.OBJECT)
+                                                .description("응답 데이터"),
+                                        fieldWithPath("data.content")
+                                                .type(JsonFieldType.ARRAY)
+                                                .description("스케줄러 목록"),
+                                        fieldWithPath("data.content[].crawlSchedulerId")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("크롤 스케줄러 ID"),
+                                        fieldWithPath("data.content[].sellerId")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("셀러 ID"),
+                                        fieldWithPath("data.content[].schedulerName")
+                                                .type(JsonFieldType.STRING)
+                                                .description("스케줄러 이름"),
+                                        fieldWithPath("data.content[].cronExpression")
+                                                .type(JsonFieldType.STRING)
+                                                .description("크론 표현식"),
+                                        fieldWithPath("data.content[].status")
+                                                .type(JsonFieldType.STRING)
+                                                .description("상태 (ACTIVE/INACTIVE)"),
+                                        fieldWithPath("data.content[].createdAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("생성 시각"),
+                                        fieldWithPath("data.content[].updatedAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("수정 시각")
+                                                .optional(),
+                                        fieldWithPath("data.size")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("슬라이스 크기"),
+                                        fieldWithPath("data.hasNext")
+                                                .type(JsonFieldType.BOOLEAN)
+                                                .description("다음 슬라이스 존재 여부"),
+                                        fieldWithPath("data.nextCursor")
+                                                .type(JsonFieldType.STRING)
+                                                .description("다음 슬라이스 커서 (불투명 문자열)")
+                                                .optional(),
+                                        fieldWithPath("data.totalElements")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("전체 개수 (includeTotal=true일 때만 포함)")
+                                                .optional(),
+                                        fieldWithPath("timestamp")
+                                                .type(JsonFieldType.STRING)
+                                                .description("응답 시각"),
+                                        fieldWithPath("requestId")
+                                                .type(JsonFieldType.STRING)
+                                                .description("요청 ID"))));
+    }
+
     @Test
     @DisplayName("GET /api/v1/crawling/schedules/{crawlSchedulerId} - 크롤 스케줄러 상세 조회 API 문서")
     void getCrawlScheduler() throws Exception {
@@ -33,6 +33,12 @@ class SellerEndpointsTest {
         assertThat(SellerEndpoints.BY_ID).isEqualTo("/{id}");
     }
 
+    @Test
+    @DisplayName("CURSOR 상수가 올바른 경로이다")
+    void shouldHaveCorrectCursorConstant() {
+        assertThat(SellerEndpoints.CURSOR).isEqualTo("/cursor");
+    }
+
     @Test
     @DisplayName("생성자를 호출하면 UnsupportedOperationException이 발생한다")
     void shouldThrowExceptionWhenInstantiated() throws Exception {
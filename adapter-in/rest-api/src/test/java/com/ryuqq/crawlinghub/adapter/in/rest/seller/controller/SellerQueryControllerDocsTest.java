@@ -15,6 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.ryuqq.crawlinghub.adapter.in.rest.common.RestDocsSecuritySnippets;
 import com.ryuqq.crawlinghub.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.PageApiResponse;
+import com.ryuqq.crawlinghub.adapter.in.rest.common.dto.response.SliceApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.config.TestConfiguration;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SchedulerSummaryApiResponse;
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.SellerDetailApiResponse;
@@ -24,8 +25,10 @@ import com.ryuqq.crawlinghub.adapter.in.rest.seller.dto.response.TaskSummaryApiR
 import com.ryuqq.crawlinghub.adapter.in.rest.seller.mapper.SellerQueryApiMapper;
 import com.ryuqq.crawlinghub.application.seller.dto.composite.SellerDetailResult;
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerPageResult;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
 import com.ryuqq.crawlinghub.application.seller.port.in.query.GetSellerUseCase;
 import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByOffsetUseCase;
+import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByCursorUseCase;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -52,6 +55,8 @@ class SellerQueryControllerDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private SearchSellerByOffsetUseCase searchSellerByOffsetUseCase;
 
+    @MockitoBean private SearchSellerByCursorUseCase searchSellerByCursorUseCase;
+
     @MockitoBean private SellerQueryApiMapper sellerQueryApiMapper;
 
     @Test
@@ -299,4 +304,122 @@ class SellerQueryControllerDocsTest extends RestDocsTestSupport {
                                                 .type(JsonFieldType.STRING)
                                                 .description("요청 ID"))));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/crawling/sellers/cursor - 셀러 목록 커서 조회 API 문서")
+    void listSellersByCursor() throws Exception {
+        // given
+        List<SellerSummaryApiResponse> apiContent =
+                List.of(
+                        new SellerSummaryApiResponse(
+                                120L,
+                                "머스트잇 셀러1",
+                                "커머스 셀러1",
+                                "ACTIVE",
+                                "2025-11-19 19:30:00",
+                                "2025-11-19 19:30:00"));
+
+        SliceApiResponse<SellerSummaryApiResponse> apiSliceResponse =
+                SliceApiResponse.of(
+                        apiContent,
+                        1,
+                        true,
+                        "Y3JlYXRlZEF0fERFU0N8MjAyNS0xMS0xOVQxMDozMDowMFp8MTIw",
+                        35L);
+
+        given(sellerQueryApiMapper.toCursorSearchParams(any())).willReturn(null);
+        given(searchSellerByCursorUseCase.execute(any())).willReturn(SellerSliceResult.empty());
+        given(sellerQueryApiMapper.toSliceResponse(any())).willReturn(apiSliceResponse);
+
+        // when & then
+        mockMvc.perform(
+                        get("/api/v1/crawling/sellers/cursor")
+                                .param("statuses", "ACTIVE")
+                                .param("sortKey", "createdAt")
+                                .param("sortDirection", "DESC")
+                                .param(
+                                        "cursor",
+                                        "Y3JlYXRlZEF0fERFU0N8MjAyNS0xMS0xOVQxMDozMTowMFp8MTIx")
+                                .param("size", "1")
+                                .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(
+                        jsonPath("$.data.nextCursor")
+                                .value("Y3JlYXRlZEF0fERFU0N8MjAyNS0xMS0xOVQxMDozMDowMFp8MTIw"))
+                .andDo(
+                        document(
+                                "seller-query/cursor",
+                                RestDocsSecuritySnippets.authorization("seller:read"),
+                                queryParameters(
+                                        parameterWithName("statuses")
+                                                .description("상태 필터 (ACTIVE/INACTIVE, 선택)")
+                                                .optional(),
+                                        parameterWithName("sortKey")
+                                                .description(
+                                                        "정렬 키 (createdAt/updatedAt, 기본값:"
+                                                                + " createdAt)")
+                                                .optional(),
+                                        parameterWithName("sortDirection")
+                                                .description("정렬 방향 (ASC/DESC, 기본값: DESC)")
+                                                .optional(),
+                                        parameterWithName("cursor")
+                                                .description(
+                                                        "직전 응답의 nextCursor (없으면 첫 슬라이스, 같은"
+                                                                + " sortKey/sortDirection으로만 사용"
+                                                                + " 가능)")
+                                                .optional(),
+                                        parameterWithName("size")
+                                                .description("슬라이스 크기 (기본값: 20, 최대: 100)")
+                                                .optional(),
+                                        parameterWithName("includeTotal")
+                                                .description("전체 개수 포함 여부 (기본값: false)")
+                                                .optional()),
+                                responseFields(
+                                        fieldWithPath("data")
+                                                .type(JsonFieldType.OBJECT)
+                                                .description("응답 데이터"),
+                                        fieldWithPath("data.content")
+                                                .type(JsonFieldType.ARRAY)
+                                                .description("셀러 목록"),
+                                        fieldWithPath("data.content[].sellerId")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("셀러 ID"),
+                                        fieldWithPath("data.content[].mustItSellerName")
+                                                .type(JsonFieldType.STRING)
+                                                .description("머스트잇 셀러명"),
+                                        fieldWithPath("data.content[].sellerName")
+                                                .type(JsonFieldType.STRING)
+                                                .description("커머스 셀러명"),
+                                        fieldWithPath("data.content[].status")
+                                                .type(JsonFieldType.STRING)
+                                                .description("상태 (ACTIVE/INACTIVE)"),
+                                        fieldWithPath("data.content[].createdAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("생성 시각"),
+                                        fieldWithPath("data.content[].updatedAt")
+                                                .type(JsonFieldType.STRING)
+                                                .description("수정 시각")
+                                                .optional(),
+                                        fieldWithPath("data.size")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("슬라이스 크기"),
+                                        fieldWithPath("data.hasNext")
+                                                .type(JsonFieldType.BOOLEAN)
+                                                .description("다음 슬라이스 존재 여부"),
+                                        fieldWithPath("data.nextCursor")
+                                                .type(JsonFieldType.STRING)
+                                                .description("다음 슬라이스 커서 (불투명 문자열)")
+                                                .optional(),
+                                        fieldWithPath("data.totalElements")
+                                                .type(JsonFieldType.NUMBER)
+                                                .description("전체 개수 (includeTotal=true일 때만 포함)")
+                                                .optional(),
+                                        fieldWithPath("timestamp")
+                                                .type(JsonFieldType.STRING)
+                                                .description("응답 시각"),
+                                        fieldWithPath("requestId")
+                                                .type(JsonFieldType.STRING)
+                                                .description("요청 ID"))));
+    }
 }
@@ -22,6 +22,7 @@ import com.ryuqq.crawlinghub.application.seller.dto.composite.SellerDetailResult
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerPageResult;
 import com.ryuqq.crawlinghub.application.seller.port.in.query.GetSellerUseCase;
 import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByOffsetUseCase;
+import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByCursorUseCase;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -60,17 +61,22 @@ class SellerQueryControllerTest {
     private ObjectMapper objectMapper;
     private GetSellerUseCase getSellerUseCase;
     private SearchSellerByOffsetUseCase searchSellerByOffsetUseCase;
+    private SearchSellerByCursorUseCase searchSellerByCursorUseCase;
     private SellerQueryApiMapper sellerQueryApiMapper;
 
     @BeforeEach
     void setUp() {
         getSellerUseCase = mock(GetSellerUseCase.class);
         searchSellerByOffsetUseCase = mock(SearchSellerByOffsetUseCase.class);
+        searchSellerByCursorUseCase = mock(SearchSellerByCursorUseCase.class);
         sellerQueryApiMapper = mock(SellerQueryApiMapper.class);
 
         SellerQueryController controller =
                 new SellerQueryController(
-                        getSellerUseCase, searchSellerByOffsetUseCase, sellerQueryApiMapper);
+                        getSellerUseCase,
+                        searchSellerByOffsetUseCase,
+                        searchSellerByCursorUseCase,
+                        sellerQueryApiMapper);
 
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
         validator.afterPropertiesSet();
@@ -386,4 +392,48 @@ class SellerQueryControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/crawling/sellers/cursor - 셀러 목록 커서 조회")
+    class ListSellersByCursorTests {
+
+        @Test
+        @DisplayName("실패: 다른 정렬 조건으로 발급된 커서 (400 Bad Request)")
+        void listSellersByCursor_SortMismatch_BadRequest() throws Exception {
+            // Given
+            given(searchSellerByCursorUseCase.execute(any()))
+                    .willThrow(
+                            new IllegalArgumentException(
+                                    "Cursor was issued for sortKey updatedAt DESC, but request is"
+                                            + " createdAt DESC"));
+
+            // When & Then
+            mockMvc.perform(
+                            get("/api/v1/crawling/sellers/cursor")
+                                    .param("sortKey", "createdAt")
+                                    .param("sortDirection", "DESC")
+                                    .param(
+                                            "cursor",
+                                            "dXBkYXRlZEF0fERFU0N8MjAyNS0xMS0yMFQwMTozMDowMFp8MTIw")
+                                    .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+        }
+
+        @Test
+        @DisplayName("실패: 형식이 잘못된 커서 (400 Bad Request)")
+        void listSellersByCursor_InvalidCursor_BadRequest() throws Exception {
+            // Given
+            given(searchSellerByCursorUseCase.execute(any()))
+                    .willThrow(new IllegalArgumentException("Invalid cursor: not-a-cursor"));
+
+            // When & Then
+            mockMvc.perform(
+                            get("/api/v1/crawling/sellers/cursor")
+                                    .param("cursor", "not-a-cursor")
+                                    .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+        }
+    }
 }
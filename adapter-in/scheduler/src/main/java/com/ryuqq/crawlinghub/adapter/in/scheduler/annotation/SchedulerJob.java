@@ -8,7 +8,7 @@ import java.lang.annotation.Target;
 /**
  * 스케줄러 작업 메서드에 적용하는 AOP 어노테이션
  *
- * <p><strong>용도</strong>: TraceId 자동 주입 + 시작/종료/결과 로깅
+ * <p><strong>용도</strong>: TraceId 자동 주입 + 시작/종료/결과 로깅 + 인스턴스 간 단일 실행(리더 락)
  *
  * @author development-team
  * @since 1.0.0
@@ -23,4 +23,23 @@ public @interface SchedulerJob {
      * @return 작업 이름
      */
     String value();
+
+    /**
+     * 여러 스케줄러 인스턴스 중 한 곳에서만 실행할지 여부
+     *
+     * <p>true이면 작업 이름으로 분산 락을 획득한 인스턴스만 해당 틱을 실행하고, 나머지는 건너뜁니다.
+     *
+     * @return 단일 실행 여부 (기본 true)
+     */
+    boolean exclusive() default true;
+
+    /**
+     * 리더 락 최소 보유 시간 (밀리초)
+     *
+     * <p>작업이 이보다 빨리 끝나도 획득 시점부터 이 시간 동안은 락을 놓지 않아, 시계가 조금 늦은 다른 인스턴스가 같은 틱을 다시
+     * 실행하지 않습니다. 틱 간격에서 인스턴스 간 시계 오차 여유를 뺀 값으로 지정합니다. 기본값은 가장 짧은 틱(5초)에 맞춘 4초입니다.
+     *
+     * @return 최소 보유 시간 (밀리초)
+     */
+    long lockAtLeastForMillis() default 4_000L;
 }
@@ -1,11 +1,16 @@
 package com.ryuqq.crawlinghub.adapter.in.scheduler.aspect;
 
 import com.ryuqq.crawlinghub.adapter.in.scheduler.annotation.SchedulerJob;
+import com.ryuqq.crawlinghub.application.common.component.lock.DistributedLockHandle;
+import com.ryuqq.crawlinghub.application.common.component.lock.DistributedLockManager;
+import com.ryuqq.crawlinghub.application.common.component.lock.LockType;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -23,10 +28,17 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>TraceId MDC 자동 주입
+ *   <li>리더 락: {@link SchedulerJob#exclusive()}이면 작업 이름으로 분산 락을 획득한 인스턴스만 실행
  *   <li>시작/종료 로깅
  *   <li>SchedulerBatchProcessingResult 인식하여 결과 로깅
  * </ul>
  *
+ * <p><strong>리더 락</strong>: 락은 대기 없이 시도하며, 다른 인스턴스가 보유 중이면 이번 틱을 건너뜁니다. lease는 Redisson
+ * watchdog이 실행 중 자동 연장하고, 펜싱 토큰은 MDC({@code leaseToken})에 남깁니다. 작업이 빨리 끝나도 {@link
+ * SchedulerJob#lockAtLeastForMillis()} 동안은 락을 유지해 같은 틱의 중복 실행을 막습니다. 실행 후 lease를 잃은 것으로
+ * 확인되면(다른 인스턴스가 더 큰 토큰으로 획득) 경고와 함께 메트릭을 남깁니다. Redis 장애로 락을 시도할 수 없으면 작업을 멈추지 않도록
+ * 락 없이 실행합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -36,15 +48,18 @@ public class SchedulerLoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(SchedulerLoggingAspect.class);
     private static final String TRACE_ID_KEY = "traceId";
+    private static final String LEASE_TOKEN_KEY = "leaseToken";
     private static final String METRIC_PREFIX = "crawlinghub.";
 
     private final MeterRegistry meterRegistry;
+    private final DistributedLockManager lockManager;
 
     @SuppressFBWarnings(
             value = "EI_EXPOSE_REP2",
             justification = "MeterRegistry는 Spring IoC 컨테이너가 관리하는 싱글톤이며, 외부 변경 위험 없음")
-    public SchedulerLoggingAspect(MeterRegistry meterRegistry) {
+    public SchedulerLoggingAspect(MeterRegistry meterRegistry, DistributedLockManager lockManager) {
         this.meterRegistry = meterRegistry;
+        this.lockManager = lockManager;
     }
 
     @Around("@annotation(schedulerJob)")
@@ -54,6 +69,63 @@ public class SchedulerLoggingAspect {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
 
         MDC.put(TRACE_ID_KEY, traceId);
+        try {
+            if (!schedulerJob.exclusive()) {
+                return execute(joinPoint, jobName);
+            }
+            return executeAsLeader(
+                    joinPoint, jobName, Duration.ofMillis(schedulerJob.lockAtLeastForMillis()));
+        } finally {
+            MDC.remove(TRACE_ID_KEY);
+        }
+    }
+
+    private Object executeAsLeader(
+            ProceedingJoinPoint joinPoint, String jobName, Duration lockAtLeastFor)
+            throws Throwable {
+        DistributedLockHandle lease;
+        try {
+            Optional<DistributedLockHandle> acquired =
+                    lockManager.tryAcquire(LockType.SCHEDULER_JOB, jobName);
+            if (acquired.isEmpty()) {
+                log.debug("[{}] 다른 인스턴스가 실행 중, 이번 틱 건너뜀", jobName);
+                recordLeaseMetric(jobName, "skipped");
+                return null;
+            }
+            lease = acquired.get();
+        } catch (RuntimeException e) {
+            log.warn("[{}] 리더 락 획득 불가, 락 없이 실행: error={}", jobName, e.getMessage());
+            recordLeaseMetric(jobName, "unavailable");
+            return execute(joinPoint, jobName);
+        }
+
+        recordLeaseMetric(jobName, "acquired");
+        MDC.put(LEASE_TOKEN_KEY, String.valueOf(lease.fencingToken()));
+        try {
+            return execute(joinPoint, jobName);
+        } finally {
+            releaseLease(jobName, lease, lockAtLeastFor);
+            MDC.remove(LEASE_TOKEN_KEY);
+        }
+    }
+
+    private void releaseLease(
+            String jobName, DistributedLockHandle lease, Duration lockAtLeastFor) {
+        try {
+            if (!lease.isHeld()) {
+                log.warn(
+                        "[{}] 실행 중 리더 락 lease 상실 (다른 인스턴스와 중복 실행 가능): token={}",
+                        jobName,
+                        lease.fencingToken());
+                recordLeaseMetric(jobName, "lost");
+            }
+            lease.release(lockAtLeastFor);
+        } catch (RuntimeException e) {
+            log.warn("[{}] 리더 락 해제 실패, lease 만료로 정리됨: error={}", jobName, e.getMessage());
+        }
+    }
+
+    private Object execute(ProceedingJoinPoint joinPoint, String jobName) throws Throwable {
         long startTime = System.currentTimeMillis();
 
         try {
@@ -97,8 +169,6 @@ public class SchedulerLoggingAspect {
             recordTimerMetric(jobName, elapsed, "error");
             recordCounterMetric(jobName, "error");
             throw e;
-        } finally {
-            MDC.remove(TRACE_ID_KEY);
         }
     }
 
@@ -116,6 +186,13 @@ public class SchedulerLoggingAspect {
                 .increment();
     }
 
+    private void recordLeaseMetric(String jobName, String result) {
+        Counter.builder(METRIC_PREFIX + "scheduler_job_lease_total")
+                .tags("job_name", jobName, "result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
     private void recordBatchItemsMetric(String jobName, SchedulerBatchProcessingResult result) {
         Counter.builder(METRIC_PREFIX + "scheduler_job_batch_items_total")
                 .tags("job_name", jobName, "result", "total")
@@ -0,0 +1,45 @@
+package com.ryuqq.crawlinghub.adapter.in.scheduler.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CrawledRaw 가공 Executor 설정
+ *
+ * <p>CrawledRaw 파티션 병렬 처리({@code scheduler.jobs.crawled-raw-processing.parallel})에서 파티션 레인을 실행할
+ * 고정 크기 스레드 풀을 정의합니다. MINI_SHOP, DETAIL, OPTION 잡이 동시에 실행될 수 있으므로 잡별 병렬도의 3배 크기로 생성합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+public class CrawledRawProcessingExecutorConfig {
+
+    private static final int JOB_TYPE_COUNT = 3;
+
+    /**
+     * CrawledRaw 파티션 레인 Executor
+     *
+     * <p>가공 작업은 DB I/O가 포함된 트랜잭션 단위 작업이므로 커넥션 풀 점유를 제한할 수 있도록 고정 크기 플랫폼 스레드 풀을 사용합니다. 종료 시
+     * {@link ExecutorService#close()}가 실행 중인 작업 완료를 대기합니다.
+     *
+     * @param properties 스케줄러 설정
+     * @return 고정 크기 ExecutorService
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService crawledRawProcessingExecutor(SchedulerProperties properties) {
+        return Executors.newFixedThreadPool(
+                resolveParallelism(properties) * JOB_TYPE_COUNT,
+                Thread.ofPlatform().name("crawled-raw-", 0).factory());
+    }
+
+    private static int resolveParallelism(SchedulerProperties properties) {
+        if (properties.jobs() == null || properties.jobs().crawledRawProcessing() == null) {
+            return 1;
+        }
+        SchedulerProperties.CrawledRawProcessing config = properties.jobs().crawledRawProcessing();
+        return config.parallelEnabled() ? config.parallel().parallelism() : 1;
+    }
+}
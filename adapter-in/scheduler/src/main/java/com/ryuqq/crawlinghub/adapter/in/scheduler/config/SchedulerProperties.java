@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.adapter.in.scheduler.config;
 
+import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand.PartitionKey;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -23,7 +24,25 @@ public record SchedulerProperties(Jobs jobs) {
 
     public record ProductRefresh(RefreshStale refreshStale) {}
 
-    public record RefreshStale(boolean enabled, String cron, String timezone, int batchSize) {}
+    /**
+     * stale 상품 갱신 설정 (짧은 주기 틱마다 조금씩 태스크 생성)
+     *
+     * @param enabled 활성화 여부
+     * @param cron 틱 주기 (예: 매분)
+     * @param timezone 타임존
+     * @param tasksPerTick 틱당 목표 태스크 생성 수
+     * @param maxQueueDepth 허용하는 대기 태스크 최대 수 (초과 시 틱 건너뜀)
+     * @param tasksPerIdleAgent IDLE UserAgent 1개당 틱당 허용 태스크 수
+     * @param staleAfterMinutes 마지막 갱신 후 이 시간(분)이 지난 상품만 갱신
+     */
+    public record RefreshStale(
+            boolean enabled,
+            String cron,
+            String timezone,
+            int tasksPerTick,
+            int maxQueueDepth,
+            int tasksPerIdleAgent,
+            int staleAfterMinutes) {}
 
     public record UserAgentHousekeeper(
             boolean enabled,
@@ -37,7 +56,23 @@ public record SchedulerProperties(Jobs jobs) {
     public record CrawledRawProcessing(
             ProcessCrawledRaw processMiniShop,
             ProcessCrawledRaw processDetail,
-            ProcessCrawledRaw processOption) {}
+            ProcessCrawledRaw processOption,
+            ParallelProcessing parallel) {
+
+        /** 병렬 처리 설정이 활성화되어 있는지 여부 (설정 누락 시 순차 처리) */
+        public boolean parallelEnabled() {
+            return parallel != null && parallel.enabled() && parallel.parallelism() > 1;
+        }
+    }
+
+    /**
+     * CrawledRaw 파티션 병렬 처리 설정
+     *
+     * @param enabled 병렬 처리 활성화 여부
+     * @param parallelism 잡 1회 실행당 동시에 처리할 최대 파티션 레인 수
+     * @param partitionBy 파티션 기준 (SELLER, SELLER_ITEM)
+     */
+    public record ParallelProcessing(boolean enabled, int parallelism, PartitionKey partitionBy) {}
 
     public record ProcessCrawledRaw(boolean enabled, String cron, String timezone, int batchSize) {}
 
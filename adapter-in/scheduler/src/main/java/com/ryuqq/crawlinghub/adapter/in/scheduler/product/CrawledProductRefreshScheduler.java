@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.adapter.in.scheduler.product;
 
 import com.ryuqq.crawlinghub.adapter.in.scheduler.annotation.SchedulerJob;
 import com.ryuqq.crawlinghub.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
 import com.ryuqq.crawlinghub.application.product.port.in.command.RefreshStaleCrawledProductsUseCase;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,7 +11,9 @@ import org.springframework.stereotype.Component;
 /**
  * 기존 상품 재고/가격 갱신 스케줄러
  *
- * <p>updatedAt이 가장 오래된 상품부터 주기적으로 DETAIL + OPTION 태스크를 생성하여 재고/가격을 갱신합니다.
+ * <p>updatedAt이 가장 오래된 상품부터 짧은 주기(틱)마다 DETAIL + OPTION 태스크를 조금씩 생성하여 재고/가격을 갱신합니다.
+ * 틱당 생성량은 목표 속도, 대기 큐 깊이, IDLE UserAgent 수에 맞춰 조절되며, 진행 위치(커서)는 Redis에 저장되어 재시작 후에도
+ * 이어서 진행합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -33,15 +36,20 @@ public class CrawledProductRefreshScheduler {
     }
 
     /**
-     * stale 상품에 대한 DETAIL + OPTION 태스크 생성
+     * stale 상품에 대한 DETAIL + OPTION 태스크 생성 (1틱)
      *
-     * <p>batchSize만큼의 오래된 상품을 조회하여 재크롤링 태스크를 생성합니다.
+     * <p>이번 틱의 예산만큼 커서 이후의 오래된 상품을 조회하여 재크롤링 태스크를 생성합니다.
      */
     @Scheduled(
             cron = "${scheduler.jobs.product-refresh.refresh-stale.cron}",
             zone = "${scheduler.jobs.product-refresh.refresh-stale.timezone}")
-    @SchedulerJob("ProductRefresh-RefreshStale")
+    @SchedulerJob(value = "ProductRefresh-RefreshStale", lockAtLeastForMillis = 55_000L)
     public void refreshStale() {
-        useCase.execute(config.batchSize());
+        useCase.execute(
+                RefreshStaleCrawledProductsCommand.of(
+                        config.tasksPerTick(),
+                        config.maxQueueDepth(),
+                        config.tasksPerIdleAgent(),
+                        config.staleAfterMinutes()));
     }
 }
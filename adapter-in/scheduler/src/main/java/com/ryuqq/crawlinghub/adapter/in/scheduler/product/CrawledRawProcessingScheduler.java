@@ -6,6 +6,8 @@ import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcess
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand;
 import com.ryuqq.crawlinghub.application.product.port.in.command.ProcessPendingCrawledRawUseCase;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -25,6 +27,10 @@ import org.springframework.stereotype.Component;
  *
  * <p><strong>순서 보장</strong>: MINI_SHOP → DETAIL → OPTION 순서로 처리하여 CrawledProduct가 먼저 생성됨을 보장합니다.
  *
+ * <p><strong>병렬 처리</strong>: {@code parallel.enabled}이면 배치를 셀러 기준 파티션으로 나누어 {@code
+ * crawledRawProcessingExecutor}에서 최대 {@code parallel.parallelism}개 레인으로 처리합니다. 같은 파티션은 한 레인에서 순서대로
+ * 처리되므로 같은 CrawledProduct를 두 워커가 동시에 갱신하지 않습니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -38,12 +44,16 @@ public class CrawledRawProcessingScheduler {
 
     private final ProcessPendingCrawledRawUseCase processPendingCrawledRawUseCase;
     private final SchedulerProperties.CrawledRawProcessing config;
+    private final ExecutorService crawledRawProcessingExecutor;
 
     public CrawledRawProcessingScheduler(
             ProcessPendingCrawledRawUseCase processPendingCrawledRawUseCase,
-            SchedulerProperties properties) {
+            SchedulerProperties properties,
+            @Qualifier("crawledRawProcessingExecutor")
+                    ExecutorService crawledRawProcessingExecutor) {
         this.processPendingCrawledRawUseCase = processPendingCrawledRawUseCase;
         this.config = properties.jobs().crawledRawProcessing();
+        this.crawledRawProcessingExecutor = crawledRawProcessingExecutor;
     }
 
     /**
@@ -60,10 +70,7 @@ public class CrawledRawProcessingScheduler {
     public SchedulerBatchProcessingResult processMiniShop() {
         SchedulerProperties.ProcessCrawledRaw miniShop = config.processMiniShop();
 
-        ProcessPendingCrawledRawCommand command =
-                ProcessPendingCrawledRawCommand.of(CrawlType.MINI_SHOP, miniShop.batchSize());
-
-        return processPendingCrawledRawUseCase.execute(command);
+        return process(CrawlType.MINI_SHOP, miniShop.batchSize());
     }
 
     /**
@@ -80,10 +87,7 @@ public class CrawledRawProcessingScheduler {
     public SchedulerBatchProcessingResult processDetail() {
         SchedulerProperties.ProcessCrawledRaw detail = config.processDetail();
 
-        ProcessPendingCrawledRawCommand command =
-                ProcessPendingCrawledRawCommand.of(CrawlType.DETAIL, detail.batchSize());
-
-        return processPendingCrawledRawUseCase.execute(command);
+        return process(CrawlType.DETAIL, detail.batchSize());
     }
 
     /**
@@ -100,9 +104,19 @@ public class CrawledRawProcessingScheduler {
     public SchedulerBatchProcessingResult processOption() {
         SchedulerProperties.ProcessCrawledRaw option = config.processOption();
 
-        ProcessPendingCrawledRawCommand command =
-                ProcessPendingCrawledRawCommand.of(CrawlType.OPTION, option.batchSize());
+        return process(CrawlType.OPTION, option.batchSize());
+    }
 
-        return processPendingCrawledRawUseCase.execute(command);
+    private SchedulerBatchProcessingResult process(CrawlType crawlType, int batchSize) {
+        if (!config.parallelEnabled()) {
+            return processPendingCrawledRawUseCase.execute(
+                    ProcessPendingCrawledRawCommand.of(crawlType, batchSize));
+        }
+
+        SchedulerProperties.ParallelProcessing parallel = config.parallel();
+        ProcessPendingCrawledRawCommand command =
+                ProcessPendingCrawledRawCommand.of(
+                        crawlType, batchSize, parallel.parallelism(), parallel.partitionBy());
+        return processPendingCrawledRawUseCase.execute(command, crawledRawProcessingExecutor);
     }
 }
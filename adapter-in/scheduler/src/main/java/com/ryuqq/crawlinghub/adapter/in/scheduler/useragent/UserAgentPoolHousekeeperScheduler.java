@@ -73,7 +73,7 @@ public class UserAgentPoolHousekeeperScheduler {
     }
 
     @Scheduled(fixedDelayString = "${scheduler.jobs.user-agent-housekeeper.fixed-delay-ms}")
-    @SchedulerJob("UserAgentPool-Housekeeper")
+    @SchedulerJob(value = "UserAgentPool-Housekeeper", lockAtLeastForMillis = 25_000L)
     public void maintain() {
         log.debug("Housekeeper 유지보수 시작");
 
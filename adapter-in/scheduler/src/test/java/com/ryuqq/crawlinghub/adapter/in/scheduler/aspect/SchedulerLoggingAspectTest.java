@@ -3,13 +3,20 @@ package com.ryuqq.crawlinghub.adapter.in.scheduler.aspect;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.crawlinghub.adapter.in.scheduler.annotation.SchedulerJob;
+import com.ryuqq.crawlinghub.application.common.component.lock.DistributedLockHandle;
+import com.ryuqq.crawlinghub.application.common.component.lock.DistributedLockManager;
+import com.ryuqq.crawlinghub.application.common.component.lock.LockType;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,8 +40,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("SchedulerLoggingAspect 단위 테스트")
 class SchedulerLoggingAspectTest {
 
+    private static final long LOCK_AT_LEAST_FOR_MS = 4_000L;
+
     @Mock private ProceedingJoinPoint joinPoint;
     @Mock private SchedulerJob schedulerJob;
+    @Mock private DistributedLockManager lockManager;
+    @Mock private DistributedLockHandle lease;
 
     private MeterRegistry meterRegistry;
     private SchedulerLoggingAspect sut;
@@ -42,7 +53,7 @@ class SchedulerLoggingAspectTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        sut = new SchedulerLoggingAspect(meterRegistry);
+        sut = new SchedulerLoggingAspect(meterRegistry, lockManager);
     }
 
     @Nested
@@ -184,4 +195,115 @@ class SchedulerLoggingAspectTest {
             assertThat(successCounter).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("around() 메서드 테스트 - 리더 락")
+    class AroundLeaderLockTest {
+
+        private double leaseCount(String jobName, String result) {
+            Counter counter =
+                    meterRegistry
+                            .find("crawlinghub.scheduler_job_lease_total")
+                            .tags("job_name", jobName, "result", result)
+                            .counter();
+            return counter != null ? counter.count() : 0.0;
+        }
+
+        @Test
+        @DisplayName("[성공] 락 획득 시 작업을 실행하고 최소 보유 시간을 지키며 락을 해제한다")
+        void shouldProceedAndReleaseWhenLeaseAcquired() throws Throwable {
+            // Given
+            given(schedulerJob.value()).willReturn("leader-job");
+            given(schedulerJob.exclusive()).willReturn(true);
+            given(schedulerJob.lockAtLeastForMillis()).willReturn(LOCK_AT_LEAST_FOR_MS);
+            given(lockManager.tryAcquire(LockType.SCHEDULER_JOB, "leader-job"))
+                    .willReturn(Optional.of(lease));
+            given(lease.isHeld()).willReturn(true);
+            given(joinPoint.proceed()).willReturn("result");
+
+            // When
+            Object result = sut.around(joinPoint, schedulerJob);
+
+            // Then
+            assertThat(result).isEqualTo("result");
+            then(lease).should().release(Duration.ofMillis(LOCK_AT_LEAST_FOR_MS));
+            assertThat(leaseCount("leader-job", "acquired")).isEqualTo(1.0);
+            assertThat(leaseCount("leader-job", "lost")).isZero();
+        }
+
+        @Test
+        @DisplayName("[스킵] 다른 인스턴스가 락을 보유 중이면 실행하지 않고 skipped를 기록한다")
+        void shouldSkipWhenLeaseHeldByOtherInstance() throws Throwable {
+            // Given
+            given(schedulerJob.value()).willReturn("leader-job");
+            given(schedulerJob.exclusive()).willReturn(true);
+            given(lockManager.tryAcquire(LockType.SCHEDULER_JOB, "leader-job"))
+                    .willReturn(Optional.empty());
+
+            // When
+            Object result = sut.around(joinPoint, schedulerJob);
+
+            // Then
+            assertThat(result).isNull();
+            then(joinPoint).should(never()).proceed();
+            assertThat(leaseCount("leader-job", "skipped")).isEqualTo(1.0);
+            assertThat(meterRegistry.find("crawlinghub.scheduler_job_total").counter()).isNull();
+        }
+
+        @Test
+        @DisplayName("[경고] 실행 중 lease를 잃으면 lost를 기록한다")
+        void shouldRecordLostWhenLeaseExpiredDuringExecution() throws Throwable {
+            // Given
+            given(schedulerJob.value()).willReturn("leader-job");
+            given(schedulerJob.exclusive()).willReturn(true);
+            given(schedulerJob.lockAtLeastForMillis()).willReturn(LOCK_AT_LEAST_FOR_MS);
+            given(lockManager.tryAcquire(LockType.SCHEDULER_JOB, "leader-job"))
+                    .willReturn(Optional.of(lease));
+            given(lease.isHeld()).willReturn(false);
+            given(joinPoint.proceed()).willReturn(null);
+
+            // When
+            sut.around(joinPoint, schedulerJob);
+
+            // Then
+            assertThat(leaseCount("leader-job", "lost")).isEqualTo(1.0);
+            then(lease).should().release(Duration.ofMillis(LOCK_AT_LEAST_FOR_MS));
+        }
+
+        @Test
+        @DisplayName("[성공] 락 저장소 장애 시 락 없이 실행한다")
+        void shouldProceedWithoutLeaseWhenLockUnavailable() throws Throwable {
+            // Given
+            given(schedulerJob.value()).willReturn("leader-job");
+            given(schedulerJob.exclusive()).willReturn(true);
+            given(lockManager.tryAcquire(LockType.SCHEDULER_JOB, "leader-job"))
+                    .willThrow(new IllegalStateException("Redis 연결 실패"));
+            given(joinPoint.proceed()).willReturn("result");
+
+            // When
+            Object result = sut.around(joinPoint, schedulerJob);
+
+            // Then
+            assertThat(result).isEqualTo("result");
+            assertThat(leaseCount("leader-job", "unavailable")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("[성공] 작업이 실패해도 락을 해제하고 예외를 전파한다")
+        void shouldReleaseLeaseWhenJobFails() throws Throwable {
+            // Given
+            given(schedulerJob.value()).willReturn("leader-job");
+            given(schedulerJob.exclusive()).willReturn(true);
+            given(schedulerJob.lockAtLeastForMillis()).willReturn(LOCK_AT_LEAST_FOR_MS);
+            given(lockManager.tryAcquire(LockType.SCHEDULER_JOB, "leader-job"))
+                    .willReturn(Optional.of(lease));
+            given(lease.isHeld()).willReturn(true);
+            given(joinPoint.proceed()).willThrow(new RuntimeException("오류"));
+
+            // When & Then
+            assertThatThrownBy(() -> sut.around(joinPoint, schedulerJob))
+                    .isInstanceOf(RuntimeException.class);
+            then(lease).should().release(Duration.ofMillis(LOCK_AT_LEAST_FOR_MS));
+        }
+    }
 }
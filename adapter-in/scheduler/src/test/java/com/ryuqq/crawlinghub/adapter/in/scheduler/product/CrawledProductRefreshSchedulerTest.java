@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.adapter.in.scheduler.product;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.crawlinghub.adapter.in.scheduler.config.SchedulerProperties;
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
 import com.ryuqq.crawlinghub.application.product.port.in.command.RefreshStaleCrawledProductsUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 /**
  * CrawledProductRefreshScheduler 단위 테스트
  *
- * <p>스케줄러가 설정된 batchSize로 UseCase를 호출하는지 검증합니다.
+ * <p>스케줄러가 설정된 속도/조절 기준으로 UseCase를 호출하는지 검증합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -39,7 +40,7 @@ class CrawledProductRefreshSchedulerTest {
     private SchedulerProperties buildSchedulerProperties() {
         SchedulerProperties.RefreshStale refreshStale =
                 new SchedulerProperties.RefreshStale(
-                        true, "0 0 10,14,18 * * *", "Asia/Seoul", 3000);
+                        true, "0 * * * * *", "Asia/Seoul", 40, 500, 1, 180);
         SchedulerProperties.ProductRefresh productRefresh =
                 new SchedulerProperties.ProductRefresh(refreshStale);
 
@@ -88,7 +89,7 @@ class CrawledProductRefreshSchedulerTest {
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 30);
         SchedulerProperties.ProcessCrawledRaw option =
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 20);
-        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option);
+        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option, null);
     }
 
     private SchedulerProperties.UserAgentHousekeeper buildUserAgentHousekeeper() {
@@ -112,13 +113,13 @@ class CrawledProductRefreshSchedulerTest {
     class RefreshStaleTest {
 
         @Test
-        @DisplayName("[성공] 설정된 batchSize(3000)로 UseCase를 호출한다")
-        void shouldCallUseCaseWithConfiguredBatchSize() {
+        @DisplayName("[성공] 설정된 속도/조절 기준으로 UseCase를 호출한다")
+        void shouldCallUseCaseWithConfiguredPacing() {
             // When
             sut.refreshStale();
 
             // Then
-            verify(useCase).execute(3000);
+            verify(useCase).execute(RefreshStaleCrawledProductsCommand.of(40, 500, 1, 180));
         }
     }
 }
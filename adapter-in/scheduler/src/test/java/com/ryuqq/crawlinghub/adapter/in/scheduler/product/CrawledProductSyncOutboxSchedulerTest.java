@@ -119,7 +119,7 @@ class CrawledProductSyncOutboxSchedulerTest {
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 50);
         SchedulerProperties.ProcessCrawledRaw option =
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 50);
-        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option);
+        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option, null);
     }
 
     private SchedulerProperties.UserAgentHousekeeper buildUserAgentHousekeeper() {
@@ -129,7 +129,7 @@ class CrawledProductSyncOutboxSchedulerTest {
     private SchedulerProperties.ProductRefresh buildProductRefresh() {
         SchedulerProperties.RefreshStale refreshStale =
                 new SchedulerProperties.RefreshStale(
-                        true, "0 0 10,14,18 * * *", "Asia/Seoul", 3000);
+                        true, "0 * * * * *", "Asia/Seoul", 40, 500, 1, 180);
         return new SchedulerProperties.ProductRefresh(refreshStale);
     }
 
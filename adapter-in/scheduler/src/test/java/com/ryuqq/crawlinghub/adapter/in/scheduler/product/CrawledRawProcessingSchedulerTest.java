@@ -3,14 +3,18 @@ package com.ryuqq.crawlinghub.adapter.in.scheduler.product;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.crawlinghub.adapter.in.scheduler.config.SchedulerProperties;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand;
+import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand.PartitionKey;
 import com.ryuqq.crawlinghub.application.product.port.in.command.ProcessPendingCrawledRawUseCase;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,15 +40,20 @@ class CrawledRawProcessingSchedulerTest {
 
     @Mock private ProcessPendingCrawledRawUseCase processPendingCrawledRawUseCase;
 
+    @Mock private ExecutorService crawledRawProcessingExecutor;
+
     private CrawledRawProcessingScheduler sut;
 
     @BeforeEach
     void setUp() {
-        SchedulerProperties properties = buildSchedulerProperties();
-        sut = new CrawledRawProcessingScheduler(processPendingCrawledRawUseCase, properties);
+        SchedulerProperties properties = buildSchedulerProperties(null);
+        sut =
+                new CrawledRawProcessingScheduler(
+                        processPendingCrawledRawUseCase, properties, crawledRawProcessingExecutor);
     }
 
-    private SchedulerProperties buildSchedulerProperties() {
+    private SchedulerProperties buildSchedulerProperties(
+            SchedulerProperties.ParallelProcessing parallel) {
         // 각 CrawlType별 배치 사이즈를 다르게 설정하여 구분 가능하게 함
         SchedulerProperties.ProcessCrawledRaw miniShop =
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 50);
@@ -54,7 +63,7 @@ class CrawledRawProcessingSchedulerTest {
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 20);
 
         SchedulerProperties.CrawledRawProcessing crawledRawProcessing =
-                new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option);
+                new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option, parallel);
 
         SchedulerProperties.Jobs jobs =
                 new SchedulerProperties.Jobs(
@@ -72,7 +81,7 @@ class CrawledRawProcessingSchedulerTest {
     private SchedulerProperties.ProductRefresh buildProductRefresh() {
         SchedulerProperties.RefreshStale refreshStale =
                 new SchedulerProperties.RefreshStale(
-                        true, "0 0 10,14,18 * * *", "Asia/Seoul", 3000);
+                        true, "0 * * * * *", "Asia/Seoul", 40, 500, 1, 180);
         return new SchedulerProperties.ProductRefresh(refreshStale);
     }
 
@@ -197,4 +206,69 @@ class CrawledRawProcessingSchedulerTest {
             assertThat(captured.batchSize()).isEqualTo(20);
         }
     }
+
+    @Nested
+    @DisplayName("병렬 처리 설정 테스트")
+    class ParallelProcessingTest {
+
+        @Test
+        @DisplayName("[성공] 병렬 처리가 활성화되면 병렬도/파티션 기준과 Executor를 함께 전달한다")
+        void shouldCallParallelUseCaseWhenEnabled() {
+            // Given
+            SchedulerProperties properties =
+                    buildSchedulerProperties(
+                            new SchedulerProperties.ParallelProcessing(
+                                    true, 4, PartitionKey.SELLER_ITEM));
+            CrawledRawProcessingScheduler parallelSut =
+                    new CrawledRawProcessingScheduler(
+                            processPendingCrawledRawUseCase,
+                            properties,
+                            crawledRawProcessingExecutor);
+            SchedulerBatchProcessingResult expected = SchedulerBatchProcessingResult.of(30, 30, 0);
+            given(processPendingCrawledRawUseCase.execute(any(), eq(crawledRawProcessingExecutor)))
+                    .willReturn(expected);
+
+            // When
+            SchedulerBatchProcessingResult result = parallelSut.processDetail();
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+
+            ArgumentCaptor<ProcessPendingCrawledRawCommand> captor =
+                    forClass(ProcessPendingCrawledRawCommand.class);
+            verify(processPendingCrawledRawUseCase)
+                    .execute(captor.capture(), eq(crawledRawProcessingExecutor));
+            verify(processPendingCrawledRawUseCase, never()).execute(any());
+
+            ProcessPendingCrawledRawCommand captured = captor.getValue();
+            assertThat(captured.crawlType()).isEqualTo(CrawlType.DETAIL);
+            assertThat(captured.batchSize()).isEqualTo(30);
+            assertThat(captured.parallelism()).isEqualTo(4);
+            assertThat(captured.partitionKey()).isEqualTo(PartitionKey.SELLER_ITEM);
+        }
+
+        @Test
+        @DisplayName("[성공] 병렬도가 1이면 순차 처리 UseCase를 호출한다")
+        void shouldCallSequentialUseCaseWhenParallelismIsOne() {
+            // Given
+            SchedulerProperties properties =
+                    buildSchedulerProperties(
+                            new SchedulerProperties.ParallelProcessing(
+                                    true, 1, PartitionKey.SELLER));
+            CrawledRawProcessingScheduler sequentialSut =
+                    new CrawledRawProcessingScheduler(
+                            processPendingCrawledRawUseCase,
+                            properties,
+                            crawledRawProcessingExecutor);
+            given(processPendingCrawledRawUseCase.execute(any()))
+                    .willReturn(SchedulerBatchProcessingResult.empty());
+
+            // When
+            sequentialSut.processOption();
+
+            // Then
+            verify(processPendingCrawledRawUseCase).execute(any());
+            verify(processPendingCrawledRawUseCase, never()).execute(any(), any());
+        }
+    }
 }
@@ -83,7 +83,7 @@ class CrawlTaskOutboxSchedulerTest {
     private SchedulerProperties.ProductRefresh buildProductRefresh() {
         SchedulerProperties.RefreshStale refreshStale =
                 new SchedulerProperties.RefreshStale(
-                        true, "0 0 10,14,18 * * *", "Asia/Seoul", 3000);
+                        true, "0 * * * * *", "Asia/Seoul", 40, 500, 1, 180);
         return new SchedulerProperties.ProductRefresh(refreshStale);
     }
 
@@ -108,7 +108,7 @@ class CrawlTaskOutboxSchedulerTest {
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 30);
         SchedulerProperties.ProcessCrawledRaw option =
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 20);
-        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option);
+        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option, null);
     }
 
     private SchedulerProperties.UserAgentHousekeeper buildUserAgentHousekeeper() {
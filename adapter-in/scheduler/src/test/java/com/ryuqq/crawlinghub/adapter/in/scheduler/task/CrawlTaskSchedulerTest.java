@@ -65,7 +65,7 @@ class CrawlTaskSchedulerTest {
     private SchedulerProperties.ProductRefresh buildProductRefresh() {
         SchedulerProperties.RefreshStale refreshStale =
                 new SchedulerProperties.RefreshStale(
-                        true, "0 0 10,14,18 * * *", "Asia/Seoul", 3000);
+                        true, "0 * * * * *", "Asia/Seoul", 40, 500, 1, 180);
         return new SchedulerProperties.ProductRefresh(refreshStale);
     }
 
@@ -95,7 +95,7 @@ class CrawlTaskSchedulerTest {
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 30);
         SchedulerProperties.ProcessCrawledRaw option =
                 new SchedulerProperties.ProcessCrawledRaw(true, "0 * * * * *", "Asia/Seoul", 20);
-        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option);
+        return new SchedulerProperties.CrawledRawProcessing(miniShop, detail, option, null);
     }
 
     private SchedulerProperties.UserAgentHousekeeper buildUserAgentHousekeeper() {
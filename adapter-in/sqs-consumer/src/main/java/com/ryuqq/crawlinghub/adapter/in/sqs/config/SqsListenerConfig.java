@@ -1,6 +1,9 @@
 package com.ryuqq.crawlinghub.adapter.in.sqs.config;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -8,7 +11,8 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p><strong>용도</strong>: Spring Cloud AWS SQS 리스너 설정
  *
- * <p>Spring Cloud AWS SQS가 자동으로 SqsClient를 구성하므로 별도 Bean 정의 없이 Properties만 활성화
+ * <p>Spring Cloud AWS SQS가 자동으로 SqsClient를 구성하므로 SqsClient Bean은 정의하지 않습니다. CrawlTask 리스너의 가상 스레드
+ * 실행 모드({@code aws.sqs.listener.crawl-task-virtual-thread-enabled})에서 사용할 Executor만 정의합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -16,5 +20,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableConfigurationProperties(SqsListenerProperties.class)
 public class SqsListenerConfig {
-    // Configuration class - properties only
+
+    /**
+     * CrawlTask 가상 스레드 Executor
+     *
+     * <p>메시지마다 가상 스레드를 생성합니다. 종료 시 {@link ExecutorService#close()}가 실행 중인 작업 완료를 대기합니다.
+     *
+     * @return 가상 스레드 per-task ExecutorService
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService crawlTaskVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("crawl-task-vt-", 0).factory());
+    }
 }
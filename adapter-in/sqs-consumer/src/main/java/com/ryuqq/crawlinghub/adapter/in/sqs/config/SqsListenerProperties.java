@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.adapter.in.sqs.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -51,6 +52,29 @@ public class SqsListenerProperties {
     /** CrawlTask DLQ 리스너 활성화 여부 */
     private boolean crawlTaskDlqListenerEnabled = true;
 
+    /** ProductSync 메시지 수신 시 같은 상품의 발행 완료 UPDATE Outbox를 병합 처리할지 여부 */
+    private boolean productSyncCoalesceEnabled = true;
+
+    /** CrawlTask 리스너 가상 스레드 실행 모드 활성화 여부 (false: 컨테이너 스레드에서 직접 실행) */
+    private boolean crawlTaskVirtualThreadEnabled = false;
+
+    /** CrawlTask 리스너 최대 동시 처리 메시지 수 (기본 모드의 SQS 컨테이너 maxConcurrentMessages) */
+    private int crawlTaskMaxConcurrentMessages = 20;
+
+    /**
+     * 가상 스레드 모드의 CrawlTask 리스너 최대 동시 처리 메시지 수 (SQS 컨테이너 수신 상한)
+     *
+     * <p>실제 동시 실행 수는 CrawlTaskConcurrencyLimiter가 Hikari 커넥션 수와 UserAgent 수 기준으로 제한하므로, 수신 상한은
+     * 그보다 넉넉하게 둡니다.
+     */
+    private int crawlTaskVirtualThreadMaxConcurrentMessages = 200;
+
+    /** DB 커넥션 1개당 허용할 동시 CrawlTask 수 (동시성 상한 = Hikari 최대 커넥션 수 × 이 값) */
+    private int crawlTaskTasksPerDbConnection = 4;
+
+    /** 가상 스레드 모드에서 실행 허가 대기 최대 시간 (초과 시 SQS 재시도 위임) */
+    private Duration crawlTaskPermitTimeout = Duration.ofSeconds(30);
+
     public String getCrawlTaskQueueUrl() {
         return crawlTaskQueueUrl;
     }
@@ -114,4 +138,54 @@ public class SqsListenerProperties {
     public void setCrawlTaskDlqListenerEnabled(boolean crawlTaskDlqListenerEnabled) {
         this.crawlTaskDlqListenerEnabled = crawlTaskDlqListenerEnabled;
     }
+
+    public boolean isProductSyncCoalesceEnabled() {
+        return productSyncCoalesceEnabled;
+    }
+
+    public void setProductSyncCoalesceEnabled(boolean productSyncCoalesceEnabled) {
+        this.productSyncCoalesceEnabled = productSyncCoalesceEnabled;
+    }
+
+    public boolean isCrawlTaskVirtualThreadEnabled() {
+        return crawlTaskVirtualThreadEnabled;
+    }
+
+    public void setCrawlTaskVirtualThreadEnabled(boolean crawlTaskVirtualThreadEnabled) {
+        this.crawlTaskVirtualThreadEnabled = crawlTaskVirtualThreadEnabled;
+    }
+
+    public int getCrawlTaskMaxConcurrentMessages() {
+        return crawlTaskMaxConcurrentMessages;
+    }
+
+    public void setCrawlTaskMaxConcurrentMessages(int crawlTaskMaxConcurrentMessages) {
+        this.crawlTaskMaxConcurrentMessages = crawlTaskMaxConcurrentMessages;
+    }
+
+    public int getCrawlTaskVirtualThreadMaxConcurrentMessages() {
+        return crawlTaskVirtualThreadMaxConcurrentMessages;
+    }
+
+    public void setCrawlTaskVirtualThreadMaxConcurrentMessages(
+            int crawlTaskVirtualThreadMaxConcurrentMessages) {
+        this.crawlTaskVirtualThreadMaxConcurrentMessages =
+                crawlTaskVirtualThreadMaxConcurrentMessages;
+    }
+
+    public int getCrawlTaskTasksPerDbConnection() {
+        return crawlTaskTasksPerDbConnection;
+    }
+
+    public void setCrawlTaskTasksPerDbConnection(int crawlTaskTasksPerDbConnection) {
+        this.crawlTaskTasksPerDbConnection = crawlTaskTasksPerDbConnection;
+    }
+
+    public Duration getCrawlTaskPermitTimeout() {
+        return crawlTaskPermitTimeout;
+    }
+
+    public void setCrawlTaskPermitTimeout(Duration crawlTaskPermitTimeout) {
+        this.crawlTaskPermitTimeout = crawlTaskPermitTimeout;
+    }
 }
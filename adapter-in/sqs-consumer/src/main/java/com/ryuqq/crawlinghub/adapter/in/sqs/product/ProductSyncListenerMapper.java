@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.adapter.in.sqs.product;
 
+import com.ryuqq.crawlinghub.adapter.in.sqs.config.SqsListenerProperties;
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessProductSyncCommand;
 import com.ryuqq.crawlinghub.application.product.dto.messaging.ProductSyncPayload;
 import org.springframework.stereotype.Component;
@@ -9,12 +10,20 @@ import org.springframework.stereotype.Component;
  *
  * <p><strong>용도</strong>: ProductSyncPayload → ProcessProductSyncCommand 변환
  *
+ * <p>병합 처리 여부는 {@code aws.sqs.listener.product-sync-coalesce-enabled} 설정을 따릅니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Component
 public class ProductSyncListenerMapper {
 
+    private final SqsListenerProperties properties;
+
+    public ProductSyncListenerMapper(SqsListenerProperties properties) {
+        this.properties = properties;
+    }
+
     public ProcessProductSyncCommand toCommand(ProductSyncPayload payload) {
         return new ProcessProductSyncCommand(
                 payload.outboxId(),
@@ -23,6 +32,7 @@ public class ProductSyncListenerMapper {
                 payload.itemNo(),
                 payload.syncType(),
                 payload.externalProductId(),
-                payload.idempotencyKey());
+                payload.idempotencyKey(),
+                properties.isProductSyncCoalesceEnabled());
     }
 }
@@ -0,0 +1,215 @@
+package com.ryuqq.crawlinghub.adapter.in.sqs.task;
+
+import com.ryuqq.crawlinghub.adapter.in.sqs.config.SqsListenerProperties;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.port.in.query.GetUserAgentPoolStatsUseCase;
+import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawlTask 동시 실행 제한기
+ *
+ * <p><strong>용도</strong>: 가상 스레드 실행 모드에서 스레드 수가 더 이상 동시성을 제한하지 않으므로, 실제 병목 자원 기준으로 동시 실행
+ * CrawlTask 수를 제한합니다.
+ *
+ * <p><strong>동시성 상한</strong> (둘 중 작은 값): SQS 컨테이너 상한({@code
+ * crawl-task-virtual-thread-max-concurrent-messages})은 수신량만 정하고, 실제 실행 수는 이 상한으로만 제한합니다.
+ *
+ * <ul>
+ *   <li>Hikari 최대 커넥션 수 × 커넥션당 Task 수 ({@code crawl-task-tasks-per-db-connection})
+ *   <li>UserAgent Pool의 AVAILABLE + BORROWED 수 (최소 1)
+ * </ul>
+ *
+ * <p>UserAgent Pool 통계는 {@value #REFRESH_INTERVAL_SECONDS}초마다 한 스레드만 조회하며, 조회 실패 시 직전 상한을 유지합니다.
+ *
+ * <p><strong>대기 초과</strong>: 허가 대기 시간이 {@code crawl-task-permit-timeout}을 넘으면 {@link
+ * RetryableExecutionException}을 던져 SQS 재시도(NACK)에 위임합니다.
+ *
+ * <p><strong>가상 스레드</strong>: {@code synchronized} 대신 {@link ReentrantLock}을 사용하여 대기 중 캐리어 스레드가
+ * 고정(pinning)되지 않도록 합니다.
+ *
+ * <p>가상 스레드 실행 모드({@code crawl-task-virtual-thread-enabled=true})에서만 등록되며, 기본 모드에서는 제한기와
+ * 게이지를 생성하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(
+        name = "aws.sqs.listener.crawl-task-listener-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+@ConditionalOnProperty(
+        name = "aws.sqs.listener.crawl-task-virtual-thread-enabled",
+        havingValue = "true")
+public class CrawlTaskConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawlTaskConcurrencyLimiter.class);
+    private static final String PREFIX = "crawlinghub.";
+    private static final long REFRESH_INTERVAL_SECONDS = 5;
+    private static final long REFRESH_INTERVAL_NANOS =
+            TimeUnit.SECONDS.toNanos(REFRESH_INTERVAL_SECONDS);
+    private static final int MIN_LIMIT = 1;
+
+    private final GetUserAgentPoolStatsUseCase getUserAgentPoolStatsUseCase;
+    private final int dbConnectionBound;
+    private final long permitTimeoutNanos;
+    private final Counter permitTimeoutCounter;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final AtomicLong nextRefreshAt = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private volatile int limit;
+
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP2",
+            justification = "MeterRegistry is a Spring-managed singleton bean")
+    public CrawlTaskConcurrencyLimiter(
+            SqsListenerProperties properties,
+            GetUserAgentPoolStatsUseCase getUserAgentPoolStatsUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbMaxPoolSize) {
+        this.getUserAgentPoolStatsUseCase = getUserAgentPoolStatsUseCase;
+        this.dbConnectionBound =
+                Math.max(MIN_LIMIT, dbMaxPoolSize * properties.getCrawlTaskTasksPerDbConnection());
+        this.permitTimeoutNanos = properties.getCrawlTaskPermitTimeout().toNanos();
+        this.limit = dbConnectionBound;
+
+        Gauge.builder(PREFIX + "crawl_task_listener_inflight", inFlight, AtomicInteger::get)
+                .description("실행 중인 CrawlTask 수")
+                .register(meterRegistry);
+
+        Gauge.builder(PREFIX + "crawl_task_listener_waiting", waiting, AtomicInteger::get)
+                .description("실행 허가 대기 중인 CrawlTask 수")
+                .register(meterRegistry);
+
+        Gauge.builder(PREFIX + "crawl_task_listener_concurrency_limit", this, l -> l.limit)
+                .description("CrawlTask 동시 실행 상한")
+                .register(meterRegistry);
+
+        this.permitTimeoutCounter =
+                Counter.builder(PREFIX + "crawl_task_listener_permit_timeout_total")
+                        .description("실행 허가 대기 초과로 SQS 재시도에 위임된 CrawlTask 수")
+                        .register(meterRegistry);
+    }
+
+    /**
+     * 실행 허가를 얻은 뒤 비동기 작업 시작
+     *
+     * <p>허가는 작업 Future가 완료(성공/실패 무관)될 때 반환됩니다. 허가 대기는 호출 스레드에서 블로킹되므로 가상 스레드에서 호출해야
+     * 합니다.
+     *
+     * @param task 비동기 작업 시작 함수
+     * @return 작업 완료 Future
+     * @throws RetryableExecutionException 허가 대기 시간 초과 또는 대기 중 인터럽트
+     */
+    public CompletableFuture<Void> executeAsync(Supplier<CompletableFuture<Void>> task) {
+        acquire();
+        CompletableFuture<Void> future;
+        try {
+            future = task.get();
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        return future.whenComplete((ignored, error) -> release());
+    }
+
+    private void acquire() {
+        refreshLimitIfStale();
+        long deadline = System.nanoTime() + permitTimeoutNanos;
+
+        lock.lock();
+        try {
+            waiting.incrementAndGet();
+            try {
+                while (inFlight.get() >= limit) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        permitTimeoutCounter.increment();
+                        throw new RetryableExecutionException(
+                                "CrawlTask 실행 허가 대기 초과: inFlight="
+                                        + inFlight.get()
+                                        + ", limit="
+                                        + limit,
+                                null);
+                    }
+                    permitReleased.awaitNanos(Math.min(remaining, REFRESH_INTERVAL_NANOS));
+                    lock.unlock();
+                    try {
+                        refreshLimitIfStale();
+                    } finally {
+                        lock.lock();
+                    }
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+            inFlight.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryableExecutionException("CrawlTask 실행 허가 대기 중 인터럽트", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight.decrementAndGet();
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refreshLimitIfStale() {
+        long now = System.nanoTime();
+        long scheduled = nextRefreshAt.get();
+        if (now - scheduled < 0
+                || !nextRefreshAt.compareAndSet(scheduled, now + REFRESH_INTERVAL_NANOS)) {
+            return;
+        }
+
+        int newLimit;
+        try {
+            PoolStats stats = getUserAgentPoolStatsUseCase.execute();
+            long agentBound = Math.max(MIN_LIMIT, stats.available() + stats.borrowed());
+            newLimit = (int) Math.min(agentBound, dbConnectionBound);
+        } catch (Exception e) {
+            log.warn("UserAgent Pool 통계 조회 실패, 기존 동시성 상한 유지: limit={}", limit, e);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (newLimit != limit) {
+                log.debug("CrawlTask 동시성 상한 변경: {} → {}", limit, newLimit);
+            }
+            limit = newLimit;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
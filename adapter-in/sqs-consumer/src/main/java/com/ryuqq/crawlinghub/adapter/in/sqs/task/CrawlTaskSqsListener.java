@@ -1,13 +1,20 @@
 package com.ryuqq.crawlinghub.adapter.in.sqs.task;
 
+import com.ryuqq.crawlinghub.adapter.in.sqs.config.SqsListenerProperties;
 import com.ryuqq.crawlinghub.application.execution.dto.command.ExecuteCrawlTaskCommand;
 import com.ryuqq.crawlinghub.application.execution.port.in.command.CrawlTaskExecutionUseCase;
 import com.ryuqq.crawlinghub.application.execution.port.in.command.FailCrawlTaskDirectlyUseCase;
 import com.ryuqq.crawlinghub.application.task.dto.messaging.CrawlTaskPayload;
 import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
@@ -32,6 +39,15 @@ import org.springframework.stereotype.Component;
  *   <li>영구적 오류 (비즈니스 실패, 잘못된 페이로드): 예외 삼킴 → ACK → 재시도 무의미
  * </ul>
  *
+ * <p><strong>실행 모드</strong> ({@code aws.sqs.listener.crawl-task-virtual-thread-enabled}):
+ *
+ * <ul>
+ *   <li>false (기본): SQS 컨테이너 스레드에서 직접 실행. 동시성은 컨테이너 maxConcurrentMessages로 제한
+ *   <li>true: 가상 스레드에서 비동기 실행 후 CompletableFuture로 ACK/NACK. HTTP 응답 대기 중에는 스레드를 점유하지
+ *       않으며, 컨테이너는 {@code crawl-task-virtual-thread-max-concurrent-messages}까지 수신하고 실제 실행 수는 {@link
+ *       CrawlTaskConcurrencyLimiter}가 UserAgent Pool, Hikari 커넥션 수 기준으로 제한
+ * </ul>
+ *
  * <p><strong>멱등성</strong>: Application Layer(CrawlTaskExecutionValidator)에서 상태 체크로 보장
  *
  * <p><strong>실패 처리</strong>:
@@ -57,14 +73,29 @@ public class CrawlTaskSqsListener {
     private final CrawlTaskListenerMapper mapper;
     private final CrawlTaskExecutionUseCase crawlTaskExecutionUseCase;
     private final FailCrawlTaskDirectlyUseCase failCrawlTaskDirectlyUseCase;
+    private final CrawlTaskConcurrencyLimiter concurrencyLimiter;
+    private final ExecutorService virtualThreadExecutor;
+    private final boolean virtualThreadEnabled;
 
     public CrawlTaskSqsListener(
             CrawlTaskListenerMapper mapper,
             CrawlTaskExecutionUseCase crawlTaskExecutionUseCase,
-            FailCrawlTaskDirectlyUseCase failCrawlTaskDirectlyUseCase) {
+            FailCrawlTaskDirectlyUseCase failCrawlTaskDirectlyUseCase,
+            Optional<CrawlTaskConcurrencyLimiter> concurrencyLimiter,
+            @Qualifier("crawlTaskVirtualThreadExecutor") ExecutorService virtualThreadExecutor,
+            SqsListenerProperties properties) {
         this.mapper = mapper;
         this.crawlTaskExecutionUseCase = crawlTaskExecutionUseCase;
         this.failCrawlTaskDirectlyUseCase = failCrawlTaskDirectlyUseCase;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.virtualThreadEnabled = properties.isCrawlTaskVirtualThreadEnabled();
+        this.concurrencyLimiter =
+                virtualThreadEnabled
+                        ? concurrencyLimiter.orElseThrow(
+                                () ->
+                                        new IllegalStateException(
+                                                "가상 스레드 모드에는 CrawlTaskConcurrencyLimiter가 필요합니다."))
+                        : null;
     }
 
     /**
@@ -77,34 +108,103 @@ public class CrawlTaskSqsListener {
      *   <li>영구적 오류 (페이로드 변환 실패, 비즈니스 실패): failDirectly로 즉시 FAILED 처리 → ACK
      * </ul>
      *
+     * <p>가상 스레드 모드에서는 처리 결과를 CompletableFuture로 반환하며, 일시적 오류(허가 대기 초과 포함)는 예외로 완료되어 SQS
+     * 재시도로 이어집니다.
+     *
      * @param payload CrawlTask 페이로드
+     * @return 처리 완료 Future (기본 모드에서는 이미 완료된 Future)
+     */
+    @SqsListener(
+            value = "${aws.sqs.listener.crawl-task-queue-url}",
+            maxConcurrentMessages =
+                    "#{${aws.sqs.listener.crawl-task-virtual-thread-enabled:false}"
+                            + " ? ${aws.sqs.listener.crawl-task-virtual-thread-max-concurrent-messages:200}"
+                            + " : ${aws.sqs.listener.crawl-task-max-concurrent-messages:20}}")
+    public CompletableFuture<Void> handleMessage(@Payload CrawlTaskPayload payload) {
+        if (!virtualThreadEnabled) {
+            process(payload);
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(
+                        () -> concurrencyLimiter.executeAsync(() -> processAsync(payload)),
+                        virtualThreadExecutor)
+                .thenCompose(Function.identity());
+    }
+
+    private void process(CrawlTaskPayload payload) {
+        Long taskId = payload.taskId();
+        logReceived(payload);
+
+        try {
+            ExecuteCrawlTaskCommand command = mapper.toCommand(payload);
+            crawlTaskExecutionUseCase.execute(command);
+            log.info("CrawlTask 처리 완료: taskId={}, taskType={}", taskId, payload.taskType());
+        } catch (Exception e) {
+            handleFailure(taskId, e);
+        }
+    }
+
+    /**
+     * 비동기 처리 (가상 스레드 모드)
+     *
+     * <p>HTTP 응답 대기 중에는 스레드를 점유하지 않으며, 이후 후처리와 실패 처리는 가상 스레드 Executor에서 실행됩니다.
      */
-    @SqsListener("${aws.sqs.listener.crawl-task-queue-url}")
-    public void handleMessage(@Payload CrawlTaskPayload payload) {
+    private CompletableFuture<Void> processAsync(CrawlTaskPayload payload) {
         Long taskId = payload.taskId();
+        logReceived(payload);
+
+        CompletableFuture<Void> execution;
+        try {
+            ExecuteCrawlTaskCommand command = mapper.toCommand(payload);
+            execution = crawlTaskExecutionUseCase.executeAsync(command, virtualThreadExecutor);
+        } catch (Exception e) {
+            execution = CompletableFuture.failedFuture(e);
+        }
+
+        return execution.handle(
+                (ignored, error) -> {
+                    if (error == null) {
+                        log.info(
+                                "CrawlTask 처리 완료: taskId={}, taskType={}",
+                                taskId,
+                                payload.taskType());
+                        return null;
+                    }
+                    handleFailure(taskId, unwrap(error));
+                    return null;
+                });
+    }
 
+    private void logReceived(CrawlTaskPayload payload) {
         log.debug(
                 "CrawlTask 메시지 수신: taskId={}, schedulerId={}, sellerId={}, taskType={}",
-                taskId,
+                payload.taskId(),
                 payload.schedulerId(),
                 payload.sellerId(),
                 payload.taskType());
+    }
 
-        try {
-            ExecuteCrawlTaskCommand command = mapper.toCommand(payload);
-            crawlTaskExecutionUseCase.execute(command);
-            log.info("CrawlTask 처리 완료: taskId={}, taskType={}", taskId, payload.taskType());
-        } catch (Exception e) {
-            if (isRetryable(e)) {
-                log.warn(
-                        "CrawlTask 일시적 오류, SQS 재시도 위임: taskId={}, error={}",
-                        taskId,
-                        e.getMessage());
-                throw e;
-            }
-            log.error("CrawlTask 영구적 오류, 즉시 실패 처리: taskId={}, error={}", taskId, e.getMessage(), e);
-            failSafely(taskId, e.getMessage());
+    /**
+     * 오류 분류 처리
+     *
+     * @param taskId CrawlTask ID
+     * @param e 발생한 예외
+     * @throws RetryableExecutionException 일시적 오류인 경우 재전파 (SQS 재시도)
+     */
+    private void handleFailure(Long taskId, Throwable e) {
+        if (e instanceof RetryableExecutionException retryable) {
+            log.warn("CrawlTask 일시적 오류, SQS 재시도 위임: taskId={}, error={}", taskId, e.getMessage());
+            throw retryable;
+        }
+        log.error("CrawlTask 영구적 오류, 즉시 실패 처리: taskId={}, error={}", taskId, e.getMessage(), e);
+        failSafely(taskId, e.getMessage());
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
         }
+        return error;
     }
 
     /**
@@ -128,14 +228,4 @@ public class CrawlTaskSqsListener {
                     e);
         }
     }
-
-    /**
-     * 일시적 오류 여부 판별
-     *
-     * @param e 발생한 예외
-     * @return 일시적 오류이면 true
-     */
-    private boolean isRetryable(Exception e) {
-        return e instanceof RetryableExecutionException;
-    }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.adapter.in.sqs.product;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.ryuqq.crawlinghub.adapter.in.sqs.config.SqsListenerProperties;
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessProductSyncCommand;
 import com.ryuqq.crawlinghub.application.product.dto.messaging.ProductSyncPayload;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,11 +23,13 @@ import org.junit.jupiter.api.Test;
 @DisplayName("ProductSyncListenerMapper 단위 테스트")
 class ProductSyncListenerMapperTest {
 
+    private SqsListenerProperties properties;
     private ProductSyncListenerMapper sut;
 
     @BeforeEach
     void setUp() {
-        sut = new ProductSyncListenerMapper();
+        properties = new SqsListenerProperties();
+        sut = new ProductSyncListenerMapper(properties);
     }
 
     @Nested
@@ -102,5 +105,22 @@ class ProductSyncListenerMapperTest {
             assertThat(command1.crawledProductId()).isEqualTo(command2.crawledProductId());
             assertThat(command1.syncType()).isEqualTo(command2.syncType());
         }
+
+        @Test
+        @DisplayName("[성공] 병합 처리 여부는 리스너 설정을 따른다")
+        void shouldMapCoalesceFlagFromProperties() {
+            // Given
+            ProductSyncPayload payload =
+                    new ProductSyncPayload(1L, 2L, 3L, 4L, "UPDATE_PRICE", 999L, "key-001");
+
+            // When
+            boolean defaultFlag = sut.toCommand(payload).coalesceChanges();
+            properties.setProductSyncCoalesceEnabled(false);
+            boolean disabledFlag = sut.toCommand(payload).coalesceChanges();
+
+            // Then
+            assertThat(defaultFlag).isTrue();
+            assertThat(disabledFlag).isFalse();
+        }
     }
 }
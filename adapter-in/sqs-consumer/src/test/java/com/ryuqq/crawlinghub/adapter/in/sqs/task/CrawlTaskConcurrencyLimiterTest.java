@@ -0,0 +1,209 @@
+package com.ryuqq.crawlinghub.adapter.in.sqs.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.crawlinghub.adapter.in.sqs.config.SqsListenerProperties;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.port.in.query.GetUserAgentPoolStatsUseCase;
+import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawlTaskConcurrencyLimiter 단위 테스트
+ *
+ * <p>동시성 상한 산정(리스너 설정, Hikari 커넥션 수, UserAgent Pool)과 허가 대기 초과 처리를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlTaskConcurrencyLimiter 단위 테스트")
+class CrawlTaskConcurrencyLimiterTest {
+
+    private static final int DB_MAX_POOL_SIZE = 5;
+
+    @Mock private GetUserAgentPoolStatsUseCase getUserAgentPoolStatsUseCase;
+
+    private SqsListenerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqsListenerProperties();
+        properties.setCrawlTaskTasksPerDbConnection(4);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private CrawlTaskConcurrencyLimiter createLimiter() {
+        return new CrawlTaskConcurrencyLimiter(
+                properties, getUserAgentPoolStatsUseCase, meterRegistry, DB_MAX_POOL_SIZE);
+    }
+
+    private PoolStats poolStats(long available, long borrowed) {
+        return new PoolStats(available + borrowed, available, borrowed, 0, 0, 100.0, 100, 100);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get("crawlinghub." + name).gauge().value();
+    }
+
+    @Nested
+    @DisplayName("동시성 상한 산정 테스트")
+    class LimitTest {
+
+        @Test
+        @DisplayName("[성공] UserAgent Pool(AVAILABLE + BORROWED)이 가장 작으면 상한이 된다")
+        void shouldUseUserAgentPoolAsLimit() {
+            // Given
+            given(getUserAgentPoolStatsUseCase.execute()).willReturn(poolStats(3, 4));
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+
+            // When
+            sut.executeAsync(CrawlTaskConcurrencyLimiterTest::completed).join();
+
+            // Then
+            assertThat(gauge("crawl_task_listener_concurrency_limit")).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("[성공] Hikari 커넥션 수 × 커넥션당 Task 수가 가장 작으면 상한이 된다")
+        void shouldUseDbConnectionBoundAsLimit() {
+            // Given
+            given(getUserAgentPoolStatsUseCase.execute()).willReturn(poolStats(50, 10));
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+
+            // When
+            sut.executeAsync(CrawlTaskConcurrencyLimiterTest::completed).join();
+
+            // Then
+            assertThat(gauge("crawl_task_listener_concurrency_limit")).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("[성공] UserAgent Pool이 비어 있어도 상한은 최소 1이다")
+        void shouldKeepMinimumLimitWhenPoolIsEmpty() {
+            // Given
+            given(getUserAgentPoolStatsUseCase.execute()).willReturn(PoolStats.empty());
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+
+            // When
+            sut.executeAsync(CrawlTaskConcurrencyLimiterTest::completed).join();
+
+            // Then
+            assertThat(gauge("crawl_task_listener_concurrency_limit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("[성공] Pool 통계 조회 실패 시 설정 기반 상한을 유지한다")
+        void shouldKeepLimitWhenPoolStatsFails() {
+            // Given
+            given(getUserAgentPoolStatsUseCase.execute())
+                    .willThrow(new RuntimeException("Redis 연결 실패"));
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+
+            // When
+            sut.executeAsync(CrawlTaskConcurrencyLimiterTest::completed).join();
+
+            // Then
+            assertThat(gauge("crawl_task_listener_concurrency_limit")).isEqualTo(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("executeAsync() 메서드 테스트")
+    class ExecuteAsyncTest {
+
+        @Test
+        @DisplayName("[성공] 작업 Future가 완료될 때까지 허가를 점유하고, 완료 시 반환한다")
+        void shouldHoldPermitUntilFutureCompletes() {
+            // Given
+            given(getUserAgentPoolStatsUseCase.execute()).willReturn(poolStats(5, 0));
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+
+            // When
+            CompletableFuture<Void> result = sut.executeAsync(() -> pending);
+
+            // Then
+            assertThat(gauge("crawl_task_listener_inflight")).isEqualTo(1);
+            pending.complete(null);
+            assertThat(result).isCompleted();
+            assertThat(gauge("crawl_task_listener_inflight")).isZero();
+        }
+
+        @Test
+        @DisplayName("[성공] 작업이 실패해도 허가를 반환한다")
+        void shouldReleasePermitWhenTaskFails() {
+            // Given
+            given(getUserAgentPoolStatsUseCase.execute()).willReturn(poolStats(1, 0));
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+
+            // When
+            CompletableFuture<Void> failed =
+                    sut.executeAsync(
+                            () -> CompletableFuture.failedFuture(new IllegalStateException("실패")));
+            assertThatThrownBy(
+                            () ->
+                                    sut.executeAsync(
+                                            () -> {
+                                                throw new IllegalStateException("시작 실패");
+                                            }))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // Then
+            assertThat(failed).isCompletedExceptionally();
+            assertThat(gauge("crawl_task_listener_inflight")).isZero();
+        }
+
+        @Test
+        @DisplayName("[실패] 허가 대기 시간 초과 시 RetryableExecutionException을 던지고 작업을 시작하지 않는다")
+        void shouldThrowRetryableExceptionWhenPermitTimesOut() {
+            // Given: 상한 1, 허가 1개를 미완료 작업이 점유
+            given(getUserAgentPoolStatsUseCase.execute()).willReturn(poolStats(1, 0));
+            properties.setCrawlTaskPermitTimeout(Duration.ofMillis(50));
+            CrawlTaskConcurrencyLimiter sut = createLimiter();
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            sut.executeAsync(() -> pending);
+
+            // When & Then
+            AtomicBoolean started = new AtomicBoolean();
+            assertThatThrownBy(
+                            () ->
+                                    sut.executeAsync(
+                                            () -> {
+                                                started.set(true);
+                                                return completed();
+                                            }))
+                    .isInstanceOf(RetryableExecutionException.class)
+                    .hasMessageContaining("허가 대기 초과");
+            assertThat(started).isFalse();
+            assertThat(
+                            meterRegistry
+                                    .get("crawlinghub.crawl_task_listener_permit_timeout_total")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1.0);
+
+            pending.complete(null);
+            assertThat(gauge("crawl_task_listener_inflight")).isZero();
+        }
+    }
+
+    private static CompletableFuture<Void> completed() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ryuqq.crawlinghub.adapter.in.sqs.task;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -10,11 +12,19 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.ryuqq.crawlinghub.adapter.in.sqs.config.SqsListenerProperties;
 import com.ryuqq.crawlinghub.application.execution.dto.command.ExecuteCrawlTaskCommand;
 import com.ryuqq.crawlinghub.application.execution.port.in.command.CrawlTaskExecutionUseCase;
 import com.ryuqq.crawlinghub.application.execution.port.in.command.FailCrawlTaskDirectlyUseCase;
 import com.ryuqq.crawlinghub.application.task.dto.messaging.CrawlTaskPayload;
 import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  *   <li>일시적 오류(RetryableExecutionException): 예외 재전파 → SQS 재시도
  *   <li>영구적 오류(그 외): failSafely 호출 → ACK (고아 PUBLISHED Task 방지)
  *   <li>failSafely 실패: 예외가 다시 전파되지 않음
+ *   <li>가상 스레드 모드: 동시성 제한기를 거쳐 실행되고 결과가 CompletableFuture로 전달됨
  * </ul>
  *
  * @author development-team
@@ -47,14 +58,33 @@ class CrawlTaskSqsListenerTest {
     @Mock private CrawlTaskListenerMapper mapper;
     @Mock private CrawlTaskExecutionUseCase crawlTaskExecutionUseCase;
     @Mock private FailCrawlTaskDirectlyUseCase failCrawlTaskDirectlyUseCase;
+    @Mock private CrawlTaskConcurrencyLimiter concurrencyLimiter;
+
+    private ExecutorService virtualThreadExecutor;
 
     private CrawlTaskSqsListener sut;
 
     @BeforeEach
     void setUp() {
-        sut =
-                new CrawlTaskSqsListener(
-                        mapper, crawlTaskExecutionUseCase, failCrawlTaskDirectlyUseCase);
+        virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        sut = createListener(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        virtualThreadExecutor.close();
+    }
+
+    private CrawlTaskSqsListener createListener(boolean virtualThreadEnabled) {
+        SqsListenerProperties properties = new SqsListenerProperties();
+        properties.setCrawlTaskVirtualThreadEnabled(virtualThreadEnabled);
+        return new CrawlTaskSqsListener(
+                mapper,
+                crawlTaskExecutionUseCase,
+                failCrawlTaskDirectlyUseCase,
+                Optional.of(concurrencyLimiter),
+                virtualThreadExecutor,
+                properties);
     }
 
     private CrawlTaskPayload createPayload(Long taskId) {
@@ -193,4 +223,122 @@ class CrawlTaskSqsListenerTest {
             verify(failCrawlTaskDirectlyUseCase).execute(eq(6L), anyString());
         }
     }
+
+    @Nested
+    @DisplayName("handleMessage() 메서드 - 가상 스레드 모드 테스트")
+    class VirtualThreadModeTest {
+
+        @BeforeEach
+        void setUp() {
+            sut = createListener(true);
+            given(concurrencyLimiter.executeAsync(any()))
+                    .willAnswer(
+                            invocation ->
+                                    invocation
+                                            .<Supplier<CompletableFuture<Void>>>getArgument(0)
+                                            .get());
+        }
+
+        @Test
+        @DisplayName("[성공] 동시성 제한기를 거쳐 비동기 UseCase를 실행하고 정상 완료된 Future를 반환한다")
+        void shouldExecuteAsyncThroughLimiterAndCompleteFuture() {
+            // Given
+            CrawlTaskPayload payload = createPayload(7L);
+            ExecuteCrawlTaskCommand command = createCommand(7L);
+            given(mapper.toCommand(payload)).willReturn(command);
+            given(crawlTaskExecutionUseCase.executeAsync(command, virtualThreadExecutor))
+                    .willReturn(CompletableFuture.completedFuture(null));
+
+            // When
+            CompletableFuture<Void> future = sut.handleMessage(payload);
+            future.join();
+
+            // Then
+            assertThat(future).isCompleted();
+            verify(concurrencyLimiter).executeAsync(any());
+            verify(crawlTaskExecutionUseCase, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("[실패] RetryableExecutionException 발생 시 Future가 예외로 완료되어 SQS 재시도를 트리거한다")
+        void shouldCompleteExceptionallyForRetryableError() {
+            // Given
+            CrawlTaskPayload payload = createPayload(8L);
+            ExecuteCrawlTaskCommand command = createCommand(8L);
+            given(mapper.toCommand(payload)).willReturn(command);
+            given(crawlTaskExecutionUseCase.executeAsync(command, virtualThreadExecutor))
+                    .willThrow(new RetryableExecutionException("UserAgent borrow 실패", null));
+
+            // When
+            CompletableFuture<Void> future = sut.handleMessage(payload);
+
+            // Then
+            assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RetryableExecutionException.class);
+            verify(failCrawlTaskDirectlyUseCase, never()).execute(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("[실패] 영구적 오류로 Future가 실패하면 failSafely 후 정상 완료된 Future를 반환한다 (ACK)")
+        void shouldCompleteNormallyAfterFailSafelyForPermanentError() {
+            // Given
+            CrawlTaskPayload payload = createPayload(9L);
+            ExecuteCrawlTaskCommand command = createCommand(9L);
+            given(mapper.toCommand(payload)).willReturn(command);
+            given(crawlTaskExecutionUseCase.executeAsync(command, virtualThreadExecutor))
+                    .willReturn(
+                            CompletableFuture.failedFuture(new RuntimeException("비즈니스 검증 실패")));
+
+            // When
+            sut.handleMessage(payload).join();
+
+            // Then
+            verify(failCrawlTaskDirectlyUseCase).execute(eq(9L), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("생성자 - 실행 모드별 동시성 제한기 테스트")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("[성공] 기본 모드에서는 동시성 제한기 없이 생성된다")
+        void shouldCreateWithoutLimiterInDefaultMode() {
+            // Given
+            SqsListenerProperties properties = new SqsListenerProperties();
+
+            // When & Then
+            assertThatCode(
+                            () ->
+                                    new CrawlTaskSqsListener(
+                                            mapper,
+                                            crawlTaskExecutionUseCase,
+                                            failCrawlTaskDirectlyUseCase,
+                                            Optional.empty(),
+                                            virtualThreadExecutor,
+                                            properties))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("[실패] 가상 스레드 모드에서 동시성 제한기가 없으면 IllegalStateException")
+        void shouldRequireLimiterInVirtualThreadMode() {
+            // Given
+            SqsListenerProperties properties = new SqsListenerProperties();
+            properties.setCrawlTaskVirtualThreadEnabled(true);
+
+            // When & Then
+            assertThatThrownBy(
+                            () ->
+                                    new CrawlTaskSqsListener(
+                                            mapper,
+                                            crawlTaskExecutionUseCase,
+                                            failCrawlTaskDirectlyUseCase,
+                                            Optional.empty(),
+                                            virtualThreadExecutor,
+                                            properties))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
 }
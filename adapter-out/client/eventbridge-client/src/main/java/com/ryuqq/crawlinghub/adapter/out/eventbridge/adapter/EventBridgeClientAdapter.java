@@ -2,32 +2,62 @@ package com.ryuqq.crawlinghub.adapter.out.eventbridge.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.eventbridge.exception.EventBridgePublishException;
 import com.ryuqq.crawlinghub.adapter.out.eventbridge.mapper.EventBridgeScheduleMapper;
+import com.ryuqq.crawlinghub.adapter.out.eventbridge.support.EventBridgeScheduleNameCache;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.OutboundClientMetric;
 import com.ryuqq.crawlinghub.application.schedule.port.out.client.EventBridgeClientPort;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
 import com.ryuqq.crawlinghub.domain.schedule.vo.SchedulerStatus;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.scheduler.SchedulerClient;
 import software.amazon.awssdk.services.scheduler.model.ConflictException;
+import software.amazon.awssdk.services.scheduler.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.scheduler.model.ScheduleState;
 import software.amazon.awssdk.services.scheduler.model.Target;
 
+/**
+ * EventBridge Scheduler 동기화 Adapter
+ *
+ * <p><strong>단건 동기화</strong>({@link #syncFromOutBox}): createSchedule을 먼저 시도하고 ConflictException이면
+ * updateSchedule로 전환합니다.
+ *
+ * <p><strong>일괄 동기화</strong>({@link #syncAllFromOutBox}): {@link
+ * EventBridgeScheduleNameCache}에 이미 있는 스케줄은 updateSchedule, 없는 스케줄은 createSchedule을 먼저 호출해
+ * Conflict 왕복을 줄이고, {@code eventBridgeSyncExecutor} 풀 크기만큼 동시에 호출합니다. 캐시가 틀린 경우
+ * (ResourceNotFound/Conflict)에는 반대 API로 전환하고 캐시를 보정합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
 @Component
 @ConditionalOnProperty(prefix = "eventbridge", name = "target-arn")
 public class EventBridgeClientAdapter implements EventBridgeClientPort {
 
     private static final Logger log = LoggerFactory.getLogger(EventBridgeClientAdapter.class);
 
+    static final String SYNC_FAILED_CODE = "EVENTBRIDGE_SYNC_FAILED";
+
     private final SchedulerClient schedulerClient;
     private final EventBridgeScheduleMapper mapper;
+    private final EventBridgeScheduleNameCache scheduleNameCache;
+    private final ExecutorService syncExecutor;
 
     public EventBridgeClientAdapter(
-            SchedulerClient schedulerClient, EventBridgeScheduleMapper mapper) {
+            SchedulerClient schedulerClient,
+            EventBridgeScheduleMapper mapper,
+            EventBridgeScheduleNameCache scheduleNameCache,
+            @Qualifier("eventBridgeSyncExecutor") ExecutorService syncExecutor) {
         this.schedulerClient = schedulerClient;
         this.mapper = mapper;
+        this.scheduleNameCache = scheduleNameCache;
+        this.syncExecutor = syncExecutor;
     }
 
     @OutboundClientMetric(system = "eventbridge", operation = "sync_schedule")
@@ -46,6 +76,7 @@ public class EventBridgeClientAdapter implements EventBridgeClientPort {
             } else {
                 createOrUpdateSchedule(scheduleName, cronExpression, target, outBox);
             }
+            scheduleNameCache.add(scheduleName);
 
             log.info(
                     "OutBox EventBridge 동기화 완료: outBoxId={}, schedulerId={}",
@@ -62,6 +93,65 @@ public class EventBridgeClientAdapter implements EventBridgeClientPort {
         }
     }
 
+    @OutboundClientMetric(system = "eventbridge", operation = "sync_schedule_batch")
+    @Override
+    public List<BatchItemResult<Long>> syncAllFromOutBox(List<CrawlSchedulerOutBox> outBoxes) {
+        List<CompletableFuture<BatchItemResult<Long>>> futures =
+                outBoxes.stream()
+                        .map(
+                                outBox ->
+                                        CompletableFuture.supplyAsync(
+                                                () -> syncWithKnownSchedules(outBox), syncExecutor))
+                        .toList();
+        List<BatchItemResult<Long>> results =
+                futures.stream().map(CompletableFuture::join).toList();
+
+        log.info(
+                "OutBox EventBridge 일괄 동기화 완료: total={}, failed={}",
+                results.size(),
+                results.stream().filter(result -> !result.success()).count());
+        return results;
+    }
+
+    private BatchItemResult<Long> syncWithKnownSchedules(CrawlSchedulerOutBox outBox) {
+        Long outBoxId = outBox.getOutBoxIdValue();
+        try {
+            Long schedulerId = outBox.getSchedulerId();
+            String scheduleName = mapper.toScheduleName(schedulerId);
+            String cronExpression = mapper.toCronExpression(outBox.getCronExpression());
+            Target target =
+                    mapper.toTarget(schedulerId, outBox.getSellerId(), outBox.getSchedulerName());
+
+            if (outBox.getSchedulerStatus() == SchedulerStatus.INACTIVE) {
+                updateSchedule(
+                        scheduleName, cronExpression, target, ScheduleState.DISABLED, outBox);
+            } else if (scheduleNameCache.contains(scheduleName)) {
+                updateOrCreateSchedule(scheduleName, cronExpression, target, outBox);
+            } else {
+                createOrUpdateSchedule(scheduleName, cronExpression, target, outBox);
+            }
+            scheduleNameCache.add(scheduleName);
+            return BatchItemResult.success(outBoxId);
+        } catch (Exception e) {
+            log.error("OutBox 동기화 실패: outBoxId={}, error={}", outBoxId, e.getMessage());
+            return BatchItemResult.failure(outBoxId, SYNC_FAILED_CODE, e.getMessage());
+        }
+    }
+
+    private void updateOrCreateSchedule(
+            String scheduleName,
+            String cronExpression,
+            Target target,
+            CrawlSchedulerOutBox outBox) {
+        try {
+            updateSchedule(scheduleName, cronExpression, target, ScheduleState.ENABLED, outBox);
+        } catch (ResourceNotFoundException e) {
+            log.debug("캐시와 달리 스케줄이 없어 생성 수행: scheduleName={}", scheduleName);
+            scheduleNameCache.remove(scheduleName);
+            createOrUpdateSchedule(scheduleName, cronExpression, target, outBox);
+        }
+    }
+
     private void createOrUpdateSchedule(
             String scheduleName,
             String cronExpression,
@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.adapter.out.eventbridge.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -15,6 +16,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *   schedule-group-name: crawlinghub-schedules
  *   target-arn: arn:aws:lambda:...
  *   role-arn: arn:aws:iam::...
+ *   sync-concurrency: 8
+ *   schedule-name-cache-ttl: 10m
  * }</pre>
  */
 @ConfigurationProperties(prefix = "eventbridge")
@@ -27,6 +30,12 @@ public class EventBridgeClientProperties {
     private String roleArn;
     private String scheduleNamePrefix = "crawler-";
 
+    /** 일괄 동기화 시 동시 API 호출 수 (Scheduler API TPS 한도 내로 유지) */
+    private int syncConcurrency = 8;
+
+    /** 기존 스케줄 이름 목록 캐시 유지 시간 */
+    private Duration scheduleNameCacheTtl = Duration.ofMinutes(10);
+
     public String getRegion() {
         return region;
     }
@@ -74,4 +83,20 @@ public class EventBridgeClientProperties {
     public void setScheduleNamePrefix(String scheduleNamePrefix) {
         this.scheduleNamePrefix = scheduleNamePrefix;
     }
+
+    public int getSyncConcurrency() {
+        return syncConcurrency;
+    }
+
+    public void setSyncConcurrency(int syncConcurrency) {
+        this.syncConcurrency = syncConcurrency;
+    }
+
+    public Duration getScheduleNameCacheTtl() {
+        return scheduleNameCacheTtl;
+    }
+
+    public void setScheduleNameCacheTtl(Duration scheduleNameCacheTtl) {
+        this.scheduleNameCacheTtl = scheduleNameCacheTtl;
+    }
 }
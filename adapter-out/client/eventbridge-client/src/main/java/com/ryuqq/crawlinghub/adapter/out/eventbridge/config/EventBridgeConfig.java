@@ -1,6 +1,9 @@
 package com.ryuqq.crawlinghub.adapter.out.eventbridge.config;
 
+import com.ryuqq.crawlinghub.adapter.out.eventbridge.support.EventBridgeScheduleNameCache;
 import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +14,7 @@ import software.amazon.awssdk.services.scheduler.SchedulerClient;
 /**
  * AWS EventBridge Scheduler Client Configuration.
  *
- * <p>SchedulerClient 빈을 생성합니다.
+ * <p>SchedulerClient와 일괄 동기화용 스케줄 이름 캐시, 동시 호출 Executor 빈을 생성합니다.
  *
  * <p>eventbridge.target-arn 설정이 있을 때만 활성화됩니다.
  */
@@ -30,4 +33,29 @@ public class EventBridgeConfig {
 
         return builder.build();
     }
+
+    @Bean
+    public EventBridgeScheduleNameCache eventBridgeScheduleNameCache(
+            SchedulerClient schedulerClient, EventBridgeClientProperties properties) {
+        return new EventBridgeScheduleNameCache(
+                schedulerClient,
+                properties.getScheduleGroupName(),
+                properties.getScheduleNamePrefix(),
+                properties.getScheduleNameCacheTtl());
+    }
+
+    /**
+     * 일괄 동기화 Executor
+     *
+     * <p>풀 크기가 EventBridge Scheduler API 동시 호출 수의 상한입니다.
+     *
+     * @param properties EventBridge 설정
+     * @return 고정 크기 ExecutorService
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService eventBridgeSyncExecutor(EventBridgeClientProperties properties) {
+        return Executors.newFixedThreadPool(
+                properties.getSyncConcurrency(),
+                Thread.ofPlatform().name("eventbridge-sync-", 0).daemon(true).factory());
+    }
 }
@@ -0,0 +1,112 @@
+package com.ryuqq.crawlinghub.adapter.out.eventbridge.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.scheduler.SchedulerClient;
+import software.amazon.awssdk.services.scheduler.model.ListSchedulesRequest;
+import software.amazon.awssdk.services.scheduler.model.ListSchedulesResponse;
+import software.amazon.awssdk.services.scheduler.model.ScheduleSummary;
+
+/**
+ * EventBridge 스케줄 이름 캐시
+ *
+ * <p>스케줄 그룹에 이미 존재하는 스케줄 이름을 ListSchedules로 한 번에 읽어 두고, 일괄 동기화 시 create/update 중 어느 API를
+ * 먼저 호출할지 판단하는 데 사용합니다. 존재하는 스케줄에 createSchedule을 보냈다가 ConflictException 후
+ * updateSchedule을 다시 보내는 왕복을 없애는 것이 목적입니다.
+ *
+ * <p><strong>정합성</strong>: 캐시는 힌트일 뿐입니다. 호출자는 update가 ResourceNotFoundException이면 create로,
+ * create가 ConflictException이면 update로 되돌아가야 하며, 결과에 따라 {@link #add(String)} / {@link
+ * #remove(String)}로 캐시를 보정합니다. 목록 조회가 실패하면 빈 캐시로 동작합니다. (create 우선, 기존 동작과 동일)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class EventBridgeScheduleNameCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBridgeScheduleNameCache.class);
+
+    /** ListSchedules 페이지당 최대 항목 수 (API 제한) */
+    static final int LIST_PAGE_SIZE = 100;
+
+    private final SchedulerClient schedulerClient;
+    private final String groupName;
+    private final String namePrefix;
+    private final Duration ttl;
+    private final Set<String> names = ConcurrentHashMap.newKeySet();
+
+    private volatile Instant expiresAt = Instant.MIN;
+
+    public EventBridgeScheduleNameCache(
+            SchedulerClient schedulerClient, String groupName, String namePrefix, Duration ttl) {
+        this.schedulerClient = schedulerClient;
+        this.groupName = groupName;
+        this.namePrefix = namePrefix;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 스케줄 존재 여부 (캐시 기준)
+     *
+     * @param scheduleName 스케줄 이름
+     * @return 캐시에 존재하면 true
+     */
+    public boolean contains(String scheduleName) {
+        refreshIfExpired();
+        return names.contains(scheduleName);
+    }
+
+    /** 생성/수정에 성공한 스케줄 이름 반영 */
+    public void add(String scheduleName) {
+        names.add(scheduleName);
+    }
+
+    /** 존재하지 않는 것으로 확인된 스케줄 이름 제거 */
+    public void remove(String scheduleName) {
+        names.remove(scheduleName);
+    }
+
+    private void refreshIfExpired() {
+        if (Instant.now().isBefore(expiresAt)) {
+            return;
+        }
+        synchronized (this) {
+            if (Instant.now().isBefore(expiresAt)) {
+                return;
+            }
+            try {
+                Set<String> loaded = listScheduleNames();
+                names.clear();
+                names.addAll(loaded);
+                log.debug("EventBridge 스케줄 이름 캐시 갱신: group={}, count={}", groupName, loaded.size());
+            } catch (Exception e) {
+                log.warn("EventBridge 스케줄 목록 조회 실패, 기존 캐시 유지: error={}", e.getMessage());
+            }
+            expiresAt = Instant.now().plus(ttl);
+        }
+    }
+
+    private Set<String> listScheduleNames() {
+        Set<String> loaded = new HashSet<>();
+        String nextToken = null;
+        do {
+            ListSchedulesResponse response =
+                    schedulerClient.listSchedules(
+                            ListSchedulesRequest.builder()
+                                    .groupName(groupName)
+                                    .namePrefix(namePrefix)
+                                    .maxResults(LIST_PAGE_SIZE)
+                                    .nextToken(nextToken)
+                                    .build());
+            for (ScheduleSummary summary : response.schedules()) {
+                loaded.add(summary.name());
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null && !nextToken.isEmpty());
+        return loaded;
+    }
+}
@@ -1,20 +1,35 @@
 package com.ryuqq.crawlinghub.adapter.out.eventbridge.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.crawlinghub.adapter.out.eventbridge.config.EventBridgeClientProperties;
 import com.ryuqq.crawlinghub.adapter.out.eventbridge.exception.EventBridgePublishException;
 import com.ryuqq.crawlinghub.adapter.out.eventbridge.mapper.EventBridgeScheduleMapper;
+import com.ryuqq.crawlinghub.adapter.out.eventbridge.support.EventBridgeScheduleNameCache;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerHistoryId;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerOutBoxId;
 import com.ryuqq.crawlinghub.domain.schedule.vo.CrawlSchedulerOubBoxStatus;
 import com.ryuqq.crawlinghub.domain.schedule.vo.SchedulerStatus;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,7 +41,11 @@ import software.amazon.awssdk.services.scheduler.SchedulerClient;
 import software.amazon.awssdk.services.scheduler.model.ConflictException;
 import software.amazon.awssdk.services.scheduler.model.CreateScheduleRequest;
 import software.amazon.awssdk.services.scheduler.model.CreateScheduleResponse;
+import software.amazon.awssdk.services.scheduler.model.ListSchedulesRequest;
+import software.amazon.awssdk.services.scheduler.model.ListSchedulesResponse;
+import software.amazon.awssdk.services.scheduler.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.scheduler.model.ScheduleState;
+import software.amazon.awssdk.services.scheduler.model.ScheduleSummary;
 import software.amazon.awssdk.services.scheduler.model.Target;
 import software.amazon.awssdk.services.scheduler.model.UpdateScheduleRequest;
 import software.amazon.awssdk.services.scheduler.model.UpdateScheduleResponse;
@@ -45,11 +64,23 @@ class EventBridgeClientAdapterTest {
 
     @Mock private EventBridgeScheduleMapper mapper;
 
+    @Mock private EventBridgeScheduleNameCache scheduleNameCache;
+
+    private ExecutorService syncExecutor;
+
     private EventBridgeClientAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new EventBridgeClientAdapter(schedulerClient, mapper);
+        syncExecutor = Executors.newFixedThreadPool(4);
+        adapter =
+                new EventBridgeClientAdapter(
+                        schedulerClient, mapper, scheduleNameCache, syncExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncExecutor.shutdownNow();
     }
 
     // ===== 테스트용 OutBox 헬퍼 =====
@@ -260,4 +291,183 @@ class EventBridgeClientAdapterTest {
                     .hasMessageContaining("OutBox 동기화 실패");
         }
     }
+
+    @Nested
+    @DisplayName("syncAllFromOutBox - 로컬 Fake SchedulerClient 기반 일괄 동기화")
+    class SyncAllFromOutBoxTest {
+
+        private FakeSchedulerClient fake;
+        private EventBridgeScheduleNameCache nameCache;
+        private EventBridgeClientAdapter bulkAdapter;
+
+        @BeforeEach
+        void setUpFake() {
+            EventBridgeClientProperties properties = new EventBridgeClientProperties();
+            properties.setTargetArn("arn:aws:lambda:ap-northeast-2:123456789:function:test");
+            properties.setRoleArn("arn:aws:iam::123456789:role/test-role");
+
+            fake = new FakeSchedulerClient();
+            nameCache =
+                    new EventBridgeScheduleNameCache(
+                            fake.client,
+                            properties.getScheduleGroupName(),
+                            properties.getScheduleNamePrefix(),
+                            Duration.ofMinutes(10));
+            bulkAdapter =
+                    new EventBridgeClientAdapter(
+                            fake.client,
+                            new EventBridgeScheduleMapper(properties, new ObjectMapper()),
+                            nameCache,
+                            syncExecutor);
+        }
+
+        private CrawlSchedulerOutBox outBox(
+                long outBoxId, long schedulerId, SchedulerStatus status) {
+            return CrawlSchedulerOutBox.reconstitute(
+                    CrawlSchedulerOutBoxId.of(outBoxId),
+                    CrawlSchedulerHistoryId.of(outBoxId),
+                    CrawlSchedulerOubBoxStatus.PROCESSING,
+                    schedulerId,
+                    200L,
+                    "scheduler-" + schedulerId,
+                    "0 9 * * ? *",
+                    status,
+                    null,
+                    1L,
+                    Instant.now(),
+                    null);
+        }
+
+        @Test
+        @DisplayName("이미 존재하는 스케줄은 update, 없는 스케줄은 create만 호출한다 (Conflict 왕복 없음)")
+        void syncAll_usesCachedNamesToChooseCreateOrUpdate() {
+            // given
+            fake.schedules.put("crawler-100", ScheduleState.ENABLED);
+            List<CrawlSchedulerOutBox> outBoxes =
+                    List.of(
+                            outBox(1L, 100L, SchedulerStatus.ACTIVE),
+                            outBox(2L, 101L, SchedulerStatus.ACTIVE));
+
+            // when
+            List<BatchItemResult<Long>> results = bulkAdapter.syncAllFromOutBox(outBoxes);
+
+            // then
+            assertThat(results).allMatch(BatchItemResult::success);
+            assertThat(results).extracting(BatchItemResult::id).containsExactly(1L, 2L);
+            assertThat(fake.createCalls).hasValue(1);
+            assertThat(fake.updateCalls).hasValue(1);
+            assertThat(fake.listCalls).hasValue(1);
+            assertThat(fake.schedules).containsKeys("crawler-100", "crawler-101");
+        }
+
+        @Test
+        @DisplayName("캐시에는 있지만 실제로 삭제된 스케줄은 update 실패 후 create로 복구한다")
+        void syncAll_whenCachedScheduleWasDeleted_fallsBackToCreate() {
+            // given
+            fake.schedules.put("crawler-100", ScheduleState.ENABLED);
+            assertThat(nameCache.contains("crawler-100")).isTrue();
+            fake.schedules.remove("crawler-100");
+
+            // when
+            List<BatchItemResult<Long>> results =
+                    bulkAdapter.syncAllFromOutBox(
+                            List.of(outBox(1L, 100L, SchedulerStatus.ACTIVE)));
+
+            // then
+            assertThat(results).singleElement().matches(BatchItemResult::success);
+            assertThat(fake.schedules).containsEntry("crawler-100", ScheduleState.ENABLED);
+        }
+
+        @Test
+        @DisplayName("일부 항목이 실패해도 예외 없이 항목별 결과를 반환한다")
+        void syncAll_whenSomeItemsFail_returnsPerItemResults() {
+            // given - 존재하지 않는 스케줄의 INACTIVE 전환은 update만 시도하므로 실패
+            List<CrawlSchedulerOutBox> outBoxes =
+                    List.of(
+                            outBox(1L, 100L, SchedulerStatus.ACTIVE),
+                            outBox(2L, 101L, SchedulerStatus.INACTIVE));
+
+            // when
+            List<BatchItemResult<Long>> results = bulkAdapter.syncAllFromOutBox(outBoxes);
+
+            // then
+            assertThat(results.get(0).success()).isTrue();
+            assertThat(results.get(1).success()).isFalse();
+            assertThat(results.get(1).errorCode())
+                    .isEqualTo(EventBridgeClientAdapter.SYNC_FAILED_CODE);
+        }
+
+        @Test
+        @DisplayName("여러 스케줄을 동시에 동기화해도 모든 스케줄이 최종 상태로 반영된다")
+        void syncAll_withManyOutBoxes_syncsAllConcurrently() {
+            // given
+            List<CrawlSchedulerOutBox> outBoxes =
+                    LongStream.rangeClosed(1, 200)
+                            .mapToObj(id -> outBox(id, 1_000L + id, SchedulerStatus.ACTIVE))
+                            .toList();
+
+            // when
+            List<BatchItemResult<Long>> results = bulkAdapter.syncAllFromOutBox(outBoxes);
+
+            // then
+            assertThat(results).hasSize(200).allMatch(BatchItemResult::success);
+            assertThat(fake.schedules).hasSize(200);
+            assertThat(fake.createCalls).hasValue(200);
+            assertThat(fake.updateCalls).hasValue(0);
+        }
+    }
+
+    /** 스케줄 이름 → 상태를 메모리에 보관하는 SchedulerClient Fake */
+    private static final class FakeSchedulerClient {
+
+        private final Map<String, ScheduleState> schedules = new ConcurrentHashMap<>();
+        private final AtomicInteger createCalls = new AtomicInteger();
+        private final AtomicInteger updateCalls = new AtomicInteger();
+        private final AtomicInteger listCalls = new AtomicInteger();
+        private final SchedulerClient client = mock(SchedulerClient.class);
+
+        private FakeSchedulerClient() {
+            lenient()
+                    .when(client.createSchedule(any(CreateScheduleRequest.class)))
+                    .thenAnswer(
+                            invocation -> {
+                                CreateScheduleRequest request = invocation.getArgument(0);
+                                createCalls.incrementAndGet();
+                                if (schedules.putIfAbsent(request.name(), request.state())
+                                        != null) {
+                                    throw ConflictException.builder().message("exists").build();
+                                }
+                                return CreateScheduleResponse.builder().build();
+                            });
+            lenient()
+                    .when(client.updateSchedule(any(UpdateScheduleRequest.class)))
+                    .thenAnswer(
+                            invocation -> {
+                                UpdateScheduleRequest request = invocation.getArgument(0);
+                                updateCalls.incrementAndGet();
+                                if (schedules.replace(request.name(), request.state()) == null) {
+                                    throw ResourceNotFoundException.builder()
+                                            .message("not found")
+                                            .build();
+                                }
+                                return UpdateScheduleResponse.builder().build();
+                            });
+            lenient()
+                    .when(client.listSchedules(any(ListSchedulesRequest.class)))
+                    .thenAnswer(
+                            invocation -> {
+                                listCalls.incrementAndGet();
+                                return ListSchedulesResponse.builder()
+                                        .schedules(
+                                                schedules.keySet().stream()
+                                                        .map(
+                                                                name ->
+                                                                        ScheduleSummary.builder()
+                                                                                .name(name)
+                                                                                .build())
+                                                        .toList())
+                                        .build();
+                            });
+        }
+    }
 }
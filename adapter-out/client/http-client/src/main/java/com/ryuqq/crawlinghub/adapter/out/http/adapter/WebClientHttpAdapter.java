@@ -6,12 +6,14 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpRequ
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
 import com.ryuqq.crawlinghub.application.execution.port.out.client.HttpClient;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 /**
  * WebClient 기반 HTTP 클라이언트 어댑터
@@ -21,7 +23,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * <p><strong>특징</strong>:
  *
  * <ul>
- *   <li>동기식 블로킹 호출 (block())
+ *   <li>동기식 블로킹 호출 (block()) 및 비동기 호출 (Mono → CompletableFuture)
  *   <li>User-Agent, Cookie 헤더 지원
  *   <li>HTTP 에러 응답도 HttpResponse로 변환 (예외 발생 X)
  * </ul>
@@ -45,22 +47,48 @@ public class WebClientHttpAdapter implements HttpClient {
     @OutboundClientMetric(system = "http_crawl", operation = "get")
     @Override
     public HttpResponse get(HttpRequest request) {
-        log.debug("HTTP GET 요청: url={}", request.url());
+        return exchangeGet(request).block();
+    }
 
-        try {
-            return webClient
-                    .get()
-                    .uri(URI.create(request.url()))
-                    .headers(headers -> request.headers().forEach(headers::set))
-                    .exchangeToMono(mapper::toHttpResponse)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.warn("HTTP GET 에러 응답: url={}, status={}", request.url(), e.getStatusCode());
-            return mapper.fromException(e);
-        } catch (Exception e) {
-            log.error("HTTP GET 요청 실패: url={}, error={}", request.url(), e.getMessage());
-            return mapper.fromConnectionFailure(e);
-        }
+    /**
+     * HTTP GET 비동기 요청
+     *
+     * <p>block() 없이 WebClient Mono를 Future로 변환하므로 응답 대기 중 호출 스레드를 점유하지 않습니다. Future는 Reactor
+     * Netty 이벤트 루프 스레드에서 완료됩니다.
+     */
+    @OutboundClientMetric(system = "http_crawl", operation = "get_async")
+    @Override
+    public CompletableFuture<HttpResponse> getAsync(HttpRequest request) {
+        return exchangeGet(request).toFuture();
+    }
+
+    private Mono<HttpResponse> exchangeGet(HttpRequest request) {
+        return Mono.defer(
+                        () -> {
+                            log.debug("HTTP GET 요청: url={}", request.url());
+                            return webClient
+                                    .get()
+                                    .uri(URI.create(request.url()))
+                                    .headers(headers -> request.headers().forEach(headers::set))
+                                    .exchangeToMono(mapper::toHttpResponse);
+                        })
+                .onErrorResume(
+                        WebClientResponseException.class,
+                        e -> {
+                            log.warn(
+                                    "HTTP GET 에러 응답: url={}, status={}",
+                                    request.url(),
+                                    e.getStatusCode());
+                            return Mono.just(mapper.fromException(e));
+                        })
+                .onErrorResume(
+                        e -> {
+                            log.error(
+                                    "HTTP GET 요청 실패: url={}, error={}",
+                                    request.url(),
+                                    e.getMessage());
+                            return Mono.just(mapper.fromConnectionFailure(e));
+                        });
     }
 
     @OutboundClientMetric(system = "http_crawl", operation = "post")
@@ -1,8 +1,14 @@
 package com.ryuqq.crawlinghub.adapter.out.http.mapper;
 
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
@@ -14,6 +20,9 @@ import reactor.core.publisher.Mono;
  *
  * <p>WebClient의 ClientResponse를 application 레이어의 HttpResponse로 변환합니다.
  *
+ * <p><strong>응답 바디</strong>: 바디를 String으로 디코딩하지 않고, 코덱이 합친 {@link DataBuffer}(maxInMemorySize 적용)를
+ * 복사 없이 {@link ResponsePayload}로 감쌉니다. 버퍼는 {@link ResponsePayload#close()} 시 풀로 반환됩니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -30,9 +39,12 @@ public class HttpResponseMapper {
         HttpStatusCode statusCode = clientResponse.statusCode();
         Map<String, String> headers = extractHeaders(clientResponse);
         return clientResponse
-                .bodyToMono(String.class)
-                .defaultIfEmpty("")
-                .map(body -> HttpResponse.of(statusCode.value(), body, headers));
+                .bodyToMono(DataBuffer.class)
+                .map(this::toPayload)
+                .defaultIfEmpty(ResponsePayload.empty())
+                .map(body -> HttpResponse.of(statusCode.value(), body, headers))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doOnDiscard(HttpResponse.class, response -> response.body().close());
     }
 
     /**
@@ -42,7 +54,8 @@ public class HttpResponseMapper {
      * @return HttpResponse
      */
     public HttpResponse fromException(WebClientResponseException e) {
-        return HttpResponse.of(e.getStatusCode().value(), e.getResponseBodyAsString());
+        return HttpResponse.of(
+                e.getStatusCode().value(), ResponsePayload.of(e.getResponseBodyAsByteArray()));
     }
 
     /**
@@ -51,10 +64,38 @@ public class HttpResponseMapper {
      * @param e 예외
      * @return HttpResponse (statusCode=0)
      */
-    public HttpResponse fromConnectionFailure(Exception e) {
+    public HttpResponse fromConnectionFailure(Throwable e) {
         return HttpResponse.of(0, "Connection failed: " + e.getMessage());
     }
 
+    /**
+     * DataBuffer → ResponsePayload (복사 없음)
+     *
+     * <p>{@link DataBuffer#readableByteBuffers()}가 노출하는 ByteBuffer는 반복자를 닫기 전까지만 유효하므로, 반복자는
+     * 바디 해제 시점에 버퍼와 함께 닫습니다.
+     */
+    private ResponsePayload toPayload(DataBuffer buffer) {
+        if (buffer.readableByteCount() == 0) {
+            DataBufferUtils.release(buffer);
+            return ResponsePayload.empty();
+        }
+        DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers();
+        try {
+            List<ByteBuffer> segments = new ArrayList<>();
+            iterator.forEachRemaining(segments::add);
+            return ResponsePayload.pooled(
+                    segments,
+                    () -> {
+                        iterator.close();
+                        DataBufferUtils.release(buffer);
+                    });
+        } catch (RuntimeException e) {
+            iterator.close();
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
     private Map<String, String> extractHeaders(ClientResponse clientResponse) {
         Map<String, String> headers = new HashMap<>();
         clientResponse
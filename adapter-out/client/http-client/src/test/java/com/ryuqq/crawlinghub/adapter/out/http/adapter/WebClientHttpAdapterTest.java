@@ -10,6 +10,7 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpRequ
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
 import java.net.URI;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -71,7 +72,7 @@ class WebClientHttpAdapterTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.statusCode()).isEqualTo(200);
-            assertThat(result.body()).isEqualTo("response body");
+            assertThat(result.body().asText()).isEqualTo("response body");
         }
 
         @Test
@@ -130,7 +131,7 @@ class WebClientHttpAdapterTest {
 
             // then
             assertThat(result.statusCode()).isZero();
-            assertThat(result.body()).isEqualTo("Connection failed: Connection refused");
+            assertThat(result.body().asText()).isEqualTo("Connection failed: Connection refused");
         }
 
         @Test
@@ -281,4 +282,57 @@ class WebClientHttpAdapterTest {
             assertThat(result.statusCode()).isZero();
         }
     }
+
+    @Nested
+    @DisplayName("getAsync 메서드 테스트")
+    class GetAsyncMethodTest {
+
+        @Test
+        @DisplayName("GET 비동기 요청 성공 시 HttpResponse로 완료되는 Future를 반환한다")
+        void getAsync_withSuccessResponse_completesWithHttpResponse() {
+            // given
+            HttpRequest request = HttpRequest.get("https://example.com/api");
+            HttpResponse expectedResponse = HttpResponse.of(200, "response body");
+
+            WebClient.RequestHeadersUriSpec uriSpec = mock(WebClient.RequestHeadersUriSpec.class);
+            WebClient.RequestHeadersSpec headersSpec = mock(WebClient.RequestHeadersSpec.class);
+
+            when(webClient.get()).thenReturn(uriSpec);
+            when(uriSpec.uri(any(URI.class))).thenReturn(headersSpec);
+            when(headersSpec.headers(any())).thenReturn(headersSpec);
+            when(headersSpec.exchangeToMono(any())).thenReturn(Mono.just(expectedResponse));
+
+            // when
+            CompletableFuture<HttpResponse> result = adapter.getAsync(request);
+
+            // then
+            assertThat(result.join()).isEqualTo(expectedResponse);
+        }
+
+        @Test
+        @DisplayName("GET 비동기 요청 연결 실패 시 Future는 예외 대신 연결 실패 응답으로 완료된다")
+        void getAsync_whenConnectionFails_completesWithConnectionFailureResponse() {
+            // given
+            HttpRequest request = HttpRequest.get("https://example.com/api");
+            RuntimeException connectionError = new RuntimeException("Connection refused");
+            HttpResponse connectionFailureResponse =
+                    HttpResponse.of(0, "Connection failed: Connection refused");
+
+            WebClient.RequestHeadersUriSpec uriSpec = mock(WebClient.RequestHeadersUriSpec.class);
+            WebClient.RequestHeadersSpec headersSpec = mock(WebClient.RequestHeadersSpec.class);
+
+            when(webClient.get()).thenReturn(uriSpec);
+            when(uriSpec.uri(any(URI.class))).thenReturn(headersSpec);
+            when(headersSpec.headers(any())).thenReturn(headersSpec);
+            when(headersSpec.exchangeToMono(any())).thenReturn(Mono.error(connectionError));
+            when(mapper.fromConnectionFailure(connectionError))
+                    .thenReturn(connectionFailureResponse);
+
+            // when
+            CompletableFuture<HttpResponse> result = adapter.getAsync(request);
+
+            // then
+            assertThat(result.join().statusCode()).isZero();
+        }
+    }
 }
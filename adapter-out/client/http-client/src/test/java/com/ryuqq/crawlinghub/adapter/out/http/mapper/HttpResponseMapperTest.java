@@ -1,6 +1,7 @@
 package com.ryuqq.crawlinghub.adapter.out.http.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -42,10 +43,27 @@ class HttpResponseMapperTest {
             // then
             assertThat(response).isNotNull();
             assertThat(response.statusCode()).isEqualTo(200);
-            assertThat(response.body()).isEqualTo("response body");
+            assertThat(response.body().asText()).isEqualTo("response body");
             assertThat(response.headers()).containsKey("Content-Type");
         }
 
+        @Test
+        @DisplayName("바디를 해제하면 이후 읽기가 거부된다")
+        void shouldRejectReadAfterBodyReleased() {
+            // given
+            ClientResponse clientResponse =
+                    ClientResponse.create(HttpStatus.OK).body("response body").build();
+            HttpResponse response = mapper.toHttpResponse(clientResponse).block();
+
+            // when
+            response.body().close();
+
+            // then
+            assertThat(response.body().isReleased()).isTrue();
+            assertThatThrownBy(() -> response.body().openStream())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
         @Test
         @DisplayName("빈 바디 응답을 빈 문자열로 변환")
         void shouldConvertEmptyBodyToEmptyString() {
@@ -58,7 +76,7 @@ class HttpResponseMapperTest {
             // then
             assertThat(response).isNotNull();
             assertThat(response.statusCode()).isEqualTo(204);
-            assertThat(response.body()).isEmpty();
+            assertThat(response.body().isEmpty()).isTrue();
         }
     }
 
@@ -79,7 +97,7 @@ class HttpResponseMapperTest {
 
             // then
             assertThat(response.statusCode()).isEqualTo(404);
-            assertThat(response.body()).isEqualTo("error body");
+            assertThat(response.body().asText()).isEqualTo("error body");
         }
     }
 
@@ -98,7 +116,8 @@ class HttpResponseMapperTest {
 
             // then
             assertThat(response.statusCode()).isZero();
-            assertThat(response.body()).isEqualTo("Connection failed: Connection refused");
+            assertThat(response.body().asText())
+                    .isEqualTo("Connection failed: Connection refused");
         }
     }
 }
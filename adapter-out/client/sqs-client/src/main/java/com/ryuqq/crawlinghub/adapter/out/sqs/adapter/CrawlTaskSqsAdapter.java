@@ -4,11 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.crawlinghub.adapter.out.sqs.config.SqsClientProperties;
 import com.ryuqq.crawlinghub.adapter.out.sqs.exception.SqsPublishException;
+import com.ryuqq.crawlinghub.adapter.out.sqs.support.SqsBatchMessage;
+import com.ryuqq.crawlinghub.adapter.out.sqs.support.SqsBatchSender;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.OutboundClientMetric;
 import com.ryuqq.crawlinghub.application.task.dto.messaging.CrawlTaskPayload;
 import com.ryuqq.crawlinghub.application.task.port.out.client.CrawlTaskMessageClient;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -28,6 +32,7 @@ public class CrawlTaskSqsAdapter implements CrawlTaskMessageClient {
     private final String queueUrl;
     private final String messageGroupIdPrefix;
     private final ObjectMapper objectMapper;
+    private final SqsBatchSender batchSender;
 
     public CrawlTaskSqsAdapter(
             SqsClient sqsClient, SqsClientProperties properties, ObjectMapper objectMapper) {
@@ -35,6 +40,7 @@ public class CrawlTaskSqsAdapter implements CrawlTaskMessageClient {
         this.queueUrl = properties.getQueues().getCrawlTask();
         this.messageGroupIdPrefix = properties.getMessageGroupIdPrefix();
         this.objectMapper = objectMapper;
+        this.batchSender = new SqsBatchSender(sqsClient, queueUrl);
     }
 
     @OutboundClientMetric(system = "sqs", operation = "publish_crawl_task")
@@ -66,6 +72,29 @@ public class CrawlTaskSqsAdapter implements CrawlTaskMessageClient {
                 idempotencyKey);
     }
 
+    @OutboundClientMetric(system = "sqs", operation = "publish_crawl_task_outbox_batch")
+    @Override
+    public List<BatchItemResult<Long>> publishAllFromOutbox(List<CrawlTaskOutbox> outboxes) {
+        List<SqsBatchMessage<Long>> messages =
+                outboxes.stream()
+                        .map(
+                                outbox ->
+                                        new SqsBatchMessage<>(
+                                                outbox.getCrawlTaskIdValue(),
+                                                outbox.getPayload(),
+                                                outbox.getIdempotencyKey(),
+                                                buildMessageGroupId(outbox.getCrawlTaskIdValue())))
+                        .toList();
+
+        List<BatchItemResult<Long>> results = batchSender.sendAll(messages);
+
+        log.info(
+                "CrawlTask SQS 메시지 일괄 발행 완료 (Outbox): total={}, failed={}",
+                results.size(),
+                results.stream().filter(result -> !result.success()).count());
+        return results;
+    }
+
     private void sendMessage(String payload, String idempotencyKey, String messageGroupId) {
         SendMessageRequest.Builder requestBuilder =
                 SendMessageRequest.builder().queueUrl(queueUrl).messageBody(payload);
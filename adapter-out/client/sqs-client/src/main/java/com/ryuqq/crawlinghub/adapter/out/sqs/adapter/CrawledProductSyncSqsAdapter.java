@@ -4,10 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.crawlinghub.adapter.out.sqs.config.SqsClientProperties;
 import com.ryuqq.crawlinghub.adapter.out.sqs.exception.SqsPublishException;
+import com.ryuqq.crawlinghub.adapter.out.sqs.support.SqsBatchMessage;
+import com.ryuqq.crawlinghub.adapter.out.sqs.support.SqsBatchSender;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.OutboundClientMetric;
 import com.ryuqq.crawlinghub.application.product.dto.messaging.ProductSyncPayload;
 import com.ryuqq.crawlinghub.application.product.port.out.client.CrawledProductSyncMessageClient;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -23,16 +28,19 @@ public class CrawledProductSyncSqsAdapter implements CrawledProductSyncMessageCl
 
     private static final Logger log = LoggerFactory.getLogger(CrawledProductSyncSqsAdapter.class);
     private static final String MESSAGE_GROUP_PREFIX = "product-sync-";
+    private static final String SERIALIZATION_FAILED_CODE = "PAYLOAD_SERIALIZATION_FAILED";
 
     private final SqsClient sqsClient;
     private final String queueUrl;
     private final ObjectMapper objectMapper;
+    private final SqsBatchSender batchSender;
 
     public CrawledProductSyncSqsAdapter(
             SqsClient sqsClient, SqsClientProperties properties, ObjectMapper objectMapper) {
         this.sqsClient = sqsClient;
         this.queueUrl = properties.getQueues().getProductSync();
         this.objectMapper = objectMapper;
+        this.batchSender = new SqsBatchSender(sqsClient, queueUrl);
     }
 
     @OutboundClientMetric(system = "sqs", operation = "publish_product_sync")
@@ -50,6 +58,35 @@ public class CrawledProductSyncSqsAdapter implements CrawledProductSyncMessageCl
                 outbox.getSyncType());
     }
 
+    @OutboundClientMetric(system = "sqs", operation = "publish_product_sync_batch")
+    @Override
+    public List<BatchItemResult<Long>> publishAll(List<CrawledProductSyncOutbox> outboxes) {
+        List<BatchItemResult<Long>> results = new ArrayList<>(outboxes.size());
+        List<SqsBatchMessage<Long>> messages = new ArrayList<>(outboxes.size());
+        for (CrawledProductSyncOutbox outbox : outboxes) {
+            try {
+                messages.add(
+                        new SqsBatchMessage<>(
+                                outbox.getIdValue(),
+                                buildPayload(outbox),
+                                outbox.getIdempotencyKey(),
+                                buildMessageGroupId(outbox.getCrawledProductIdValue())));
+            } catch (SqsPublishException e) {
+                results.add(
+                        BatchItemResult.failure(
+                                outbox.getIdValue(), SERIALIZATION_FAILED_CODE, e.getMessage()));
+            }
+        }
+
+        results.addAll(batchSender.sendAll(messages));
+
+        log.info(
+                "CrawledProductSync SQS 메시지 일괄 발행 완료: total={}, failed={}",
+                results.size(),
+                results.stream().filter(result -> !result.success()).count());
+        return results;
+    }
+
     private void sendMessage(String payload, String idempotencyKey, String messageGroupId) {
         SendMessageRequest.Builder requestBuilder =
                 SendMessageRequest.builder().queueUrl(queueUrl).messageBody(payload);
@@ -0,0 +1,15 @@
+package com.ryuqq.crawlinghub.adapter.out.sqs.support;
+
+/**
+ * SendMessageBatch로 전송할 단일 메시지
+ *
+ * @param <K> 결과 매칭용 키 타입 (Outbox 식별자)
+ * @param key 결과 매칭용 키
+ * @param body 메시지 본문
+ * @param deduplicationId FIFO 중복 제거 ID (표준 큐에서는 무시)
+ * @param messageGroupId FIFO 메시지 그룹 ID (표준 큐에서는 무시)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record SqsBatchMessage<K>(
+        K key, String body, String deduplicationId, String messageGroupId) {}
@@ -0,0 +1,160 @@
+package com.ryuqq.crawlinghub.adapter.out.sqs.support;
+
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+/**
+ * SQS SendMessageBatch 전송기
+ *
+ * <p>메시지를 최대 {@value #MAX_BATCH_ENTRIES}건, 본문 합계 {@value #MAX_BATCH_PAYLOAD_BYTES}바이트 단위로 묶어
+ * SendMessageBatch로 전송하고, 응답의 Successful/Failed 항목을 메시지 키별 결과로 되돌려 줍니다.
+ *
+ * <p><strong>실패 처리</strong>:
+ *
+ * <ul>
+ *   <li>항목 단위 실패(Failed)는 해당 키만 실패로 반환합니다.
+ *   <li>요청 자체가 실패하면 그 배치의 모든 키를 실패로 반환하고 다음 배치는 계속 전송합니다. 이미 전송된 앞 배치가 실패로 뒤집혀
+ *       중복 발행되지 않도록 예외를 던지지 않습니다.
+ * </ul>
+ *
+ * <p>FIFO 큐이면 메시지별 deduplicationId/messageGroupId를 그대로 전달합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class SqsBatchSender {
+
+    private static final Logger log = LoggerFactory.getLogger(SqsBatchSender.class);
+
+    /** SendMessageBatch 최대 항목 수 (SQS 제한) */
+    static final int MAX_BATCH_ENTRIES = 10;
+
+    /** SendMessageBatch 본문 합계 최대 크기 (SQS 제한 256 KiB) */
+    static final int MAX_BATCH_PAYLOAD_BYTES = 256 * 1024;
+
+    static final String REQUEST_FAILED_CODE = "SQS_BATCH_REQUEST_FAILED";
+    static final String MISSING_RESULT_CODE = "SQS_BATCH_RESULT_MISSING";
+
+    private final SqsClient sqsClient;
+    private final String queueUrl;
+
+    public SqsBatchSender(SqsClient sqsClient, String queueUrl) {
+        this.sqsClient = sqsClient;
+        this.queueUrl = queueUrl;
+    }
+
+    /**
+     * 메시지 일괄 전송
+     *
+     * @param messages 전송할 메시지 목록
+     * @param <K> 결과 매칭용 키 타입
+     * @return 메시지별 전송 결과 (입력 순서 유지)
+     */
+    public <K> List<BatchItemResult<K>> sendAll(List<SqsBatchMessage<K>> messages) {
+        List<BatchItemResult<K>> results = new ArrayList<>(messages.size());
+        List<SqsBatchMessage<K>> chunk = new ArrayList<>(MAX_BATCH_ENTRIES);
+        int chunkBytes = 0;
+
+        for (SqsBatchMessage<K> message : messages) {
+            int bytes = message.body().getBytes(StandardCharsets.UTF_8).length;
+            if (!chunk.isEmpty()
+                    && (chunk.size() == MAX_BATCH_ENTRIES
+                            || chunkBytes + bytes > MAX_BATCH_PAYLOAD_BYTES)) {
+                results.addAll(sendChunk(chunk));
+                chunk = new ArrayList<>(MAX_BATCH_ENTRIES);
+                chunkBytes = 0;
+            }
+            chunk.add(message);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(sendChunk(chunk));
+        }
+        return results;
+    }
+
+    private <K> List<BatchItemResult<K>> sendChunk(List<SqsBatchMessage<K>> chunk) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            entries.add(toEntry(String.valueOf(i), chunk.get(i)));
+        }
+
+        SendMessageBatchResponse response;
+        try {
+            response =
+                    sqsClient.sendMessageBatch(
+                            SendMessageBatchRequest.builder()
+                                    .queueUrl(queueUrl)
+                                    .entries(entries)
+                                    .build());
+        } catch (SdkException e) {
+            log.error("SQS 일괄 발행 요청 실패: count={}, error={}", chunk.size(), e.getMessage());
+            List<BatchItemResult<K>> failures = new ArrayList<>(chunk.size());
+            for (SqsBatchMessage<K> message : chunk) {
+                failures.add(
+                        BatchItemResult.failure(
+                                message.key(), REQUEST_FAILED_CODE, e.getMessage()));
+            }
+            return failures;
+        }
+
+        Set<String> succeededIds = new HashSet<>();
+        for (SendMessageBatchResultEntry entry : response.successful()) {
+            succeededIds.add(entry.id());
+        }
+        Map<String, BatchResultErrorEntry> failedById = new HashMap<>();
+        for (BatchResultErrorEntry entry : response.failed()) {
+            failedById.put(entry.id(), entry);
+        }
+
+        List<BatchItemResult<K>> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            String entryId = String.valueOf(i);
+            K key = chunk.get(i).key();
+            BatchResultErrorEntry failed = failedById.get(entryId);
+            if (failed != null) {
+                log.warn(
+                        "SQS 일괄 발행 항목 실패: key={}, code={}, message={}",
+                        key,
+                        failed.code(),
+                        failed.message());
+                results.add(BatchItemResult.failure(key, failed.code(), failed.message()));
+            } else if (succeededIds.contains(entryId)) {
+                results.add(BatchItemResult.success(key));
+            } else {
+                results.add(
+                        BatchItemResult.failure(key, MISSING_RESULT_CODE, "SQS 응답에 결과가 없습니다."));
+            }
+        }
+        return results;
+    }
+
+    private SendMessageBatchRequestEntry toEntry(String entryId, SqsBatchMessage<?> message) {
+        SendMessageBatchRequestEntry.Builder builder =
+                SendMessageBatchRequestEntry.builder().id(entryId).messageBody(message.body());
+        if (isFifoQueue()) {
+            builder.messageDeduplicationId(message.deduplicationId())
+                    .messageGroupId(message.messageGroupId());
+        }
+        return builder.build();
+    }
+
+    private boolean isFifoQueue() {
+        return queueUrl != null && queueUrl.endsWith(".fifo");
+    }
+}
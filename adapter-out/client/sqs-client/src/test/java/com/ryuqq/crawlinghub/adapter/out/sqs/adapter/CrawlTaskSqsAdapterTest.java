@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.adapter.out.sqs.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,7 +22,9 @@ import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.RetryCount;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +34,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 import software.amazon.awssdk.services.sqs.model.SqsException;
@@ -91,10 +98,14 @@ class CrawlTaskSqsAdapterTest {
     }
 
     private CrawlTaskOutbox createCrawlTaskOutbox() {
+        return createCrawlTaskOutbox(1L);
+    }
+
+    private CrawlTaskOutbox createCrawlTaskOutbox(long taskId) {
         return CrawlTaskOutbox.reconstitute(
-                CrawlTaskId.of(1L),
-                "outbox-1",
-                "{\"taskId\":1,\"schedulerId\":10}",
+                CrawlTaskId.of(taskId),
+                "outbox-" + taskId,
+                "{\"taskId\":" + taskId + ",\"schedulerId\":10}",
                 OutboxStatus.PENDING,
                 0,
                 Instant.now(),
@@ -269,4 +280,67 @@ class CrawlTaskSqsAdapterTest {
                     .hasMessageContaining("SQS 메시지 발행 실패");
         }
     }
+
+    @Nested
+    @DisplayName("publishAllFromOutbox - Outbox 일괄 발행 테스트")
+    class PublishAllFromOutboxTest {
+
+        @Test
+        @DisplayName("Outbox 목록을 SendMessageBatch로 발행하고 taskId별 결과를 반환한다")
+        void publishAllFromOutbox_mapsEntryResultsToTaskIds() {
+            // given
+            List<CrawlTaskOutbox> outboxes =
+                    List.of(createCrawlTaskOutbox(1L), createCrawlTaskOutbox(2L));
+
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenReturn(
+                            SendMessageBatchResponse.builder()
+                                    .successful(
+                                            SendMessageBatchResultEntry.builder()
+                                                    .id("0")
+                                                    .messageId("msg-1")
+                                                    .build())
+                                    .failed(
+                                            BatchResultErrorEntry.builder()
+                                                    .id("1")
+                                                    .code("InternalError")
+                                                    .message("SQS 오류")
+                                                    .senderFault(false)
+                                                    .build())
+                                    .build());
+
+            // when
+            List<BatchItemResult<Long>> results = adapter.publishAllFromOutbox(outboxes);
+
+            // then
+            assertThat(results)
+                    .containsExactly(
+                            BatchItemResult.success(1L),
+                            BatchItemResult.failure(2L, "InternalError", "SQS 오류"));
+        }
+
+        @Test
+        @DisplayName("FIFO 큐로 일괄 발행 시 항목별 deduplicationId와 messageGroupId가 설정된다")
+        void publishAllFromOutbox_withFifoQueue_setsIdsPerEntry() {
+            // given
+            List<CrawlTaskOutbox> outboxes =
+                    List.of(createCrawlTaskOutbox(1L), createCrawlTaskOutbox(2L));
+
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenReturn(SendMessageBatchResponse.builder().build());
+
+            ArgumentCaptor<SendMessageBatchRequest> requestCaptor =
+                    ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+
+            // when
+            adapterWithFifo.publishAllFromOutbox(outboxes);
+
+            // then
+            verify(sqsClient).sendMessageBatch(requestCaptor.capture());
+            assertThat(requestCaptor.getValue().entries())
+                    .extracting("messageDeduplicationId", "messageGroupId")
+                    .containsExactly(
+                            tuple("outbox-1", "crawl-task-1"), tuple("outbox-2", "crawl-task-2"));
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.adapter.out.sqs.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,7 +18,9 @@ import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +30,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 import software.amazon.awssdk.services.sqs.model.SqsException;
@@ -218,4 +224,66 @@ class CrawledProductSyncSqsAdapterTest {
                     .hasMessageContaining("페이로드 직렬화 실패");
         }
     }
+
+    @Nested
+    @DisplayName("publishAll - 일괄 발행 테스트")
+    class PublishAllTest {
+
+        @Test
+        @DisplayName("Outbox 목록을 한 번의 SendMessageBatch로 발행하고 outboxId별 결과를 반환한다")
+        void publishAll_sendsSingleBatchAndMapsResultsToOutboxIds() {
+            // given
+            List<CrawledProductSyncOutbox> outboxes =
+                    List.of(createCreateOutbox(), createUpdatePriceOutbox());
+
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenReturn(
+                            SendMessageBatchResponse.builder()
+                                    .successful(
+                                            SendMessageBatchResultEntry.builder().id("0").build(),
+                                            SendMessageBatchResultEntry.builder().id("1").build())
+                                    .build());
+
+            // when
+            List<BatchItemResult<Long>> results = adapter.publishAll(outboxes);
+
+            // then
+            assertThat(results)
+                    .containsExactly(BatchItemResult.success(1L), BatchItemResult.success(2L));
+            verify(sqsClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+            verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
+        }
+
+        @Test
+        @DisplayName("페이로드 직렬화 실패 Outbox만 실패로 반환하고 나머지는 발행한다")
+        void publishAll_whenSerializationFails_returnsFailureOnlyForThatOutbox()
+                throws JsonProcessingException {
+            // given
+            SqsClientProperties properties =
+                    createProperties("https://sqs.ap-northeast-2.amazonaws.com/123/product-sync");
+            CrawledProductSyncSqsAdapter adapterWithMockMapper =
+                    new CrawledProductSyncSqsAdapter(sqsClient, properties, mockObjectMapper);
+
+            when(mockObjectMapper.writeValueAsString(any()))
+                    .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "직렬화 실패"))
+                    .thenReturn("{\"outboxId\":2}");
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenReturn(
+                            SendMessageBatchResponse.builder()
+                                    .successful(
+                                            SendMessageBatchResultEntry.builder().id("0").build())
+                                    .build());
+
+            // when
+            List<BatchItemResult<Long>> results =
+                    adapterWithMockMapper.publishAll(
+                            List.of(createCreateOutbox(), createUpdatePriceOutbox()));
+
+            // then
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).id()).isEqualTo(1L);
+            assertThat(results.get(0).success()).isFalse();
+            assertThat(results.get(1)).isEqualTo(BatchItemResult.success(2L));
+        }
+    }
 }
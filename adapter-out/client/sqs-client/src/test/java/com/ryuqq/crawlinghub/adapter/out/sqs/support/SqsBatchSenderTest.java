@@ -0,0 +1,238 @@
+package com.ryuqq.crawlinghub.adapter.out.sqs.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+/**
+ * SqsBatchSender 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsBatchSender 테스트")
+class SqsBatchSenderTest {
+
+    private static final String QUEUE_URL = "https://sqs.ap-northeast-2.amazonaws.com/123/queue";
+    private static final String FIFO_QUEUE_URL = QUEUE_URL + ".fifo";
+
+    @Mock private SqsClient sqsClient;
+
+    private static List<SqsBatchMessage<Long>> messages(int count) {
+        List<SqsBatchMessage<Long>> messages = new ArrayList<>(count);
+        for (long key = 1; key <= count; key++) {
+            messages.add(new SqsBatchMessage<>(key, "body-" + key, "dedup-" + key, "group-" + key));
+        }
+        return messages;
+    }
+
+    private static SendMessageBatchResponse allSucceeded(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                .successful(
+                        request.entries().stream()
+                                .map(
+                                        entry ->
+                                                SendMessageBatchResultEntry.builder()
+                                                        .id(entry.id())
+                                                        .messageId("msg-" + entry.id())
+                                                        .build())
+                                .toList())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("sendAll - 배치 분할 테스트")
+    class ChunkingTest {
+
+        @Test
+        @DisplayName("25건은 10/10/5건 세 번의 SendMessageBatch로 전송하고 입력 순서대로 결과를 반환한다")
+        void sendAll_splitsIntoChunksOfTen() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, QUEUE_URL);
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenAnswer(invocation -> allSucceeded(invocation.getArgument(0)));
+
+            ArgumentCaptor<SendMessageBatchRequest> requestCaptor =
+                    ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+
+            // when
+            List<BatchItemResult<Long>> results = sender.sendAll(messages(25));
+
+            // then
+            verify(sqsClient, times(3)).sendMessageBatch(requestCaptor.capture());
+            assertThat(requestCaptor.getAllValues())
+                    .extracting(request -> request.entries().size())
+                    .containsExactly(10, 10, 5);
+            assertThat(results).hasSize(25).allMatch(BatchItemResult::success);
+            assertThat(results).extracting(BatchItemResult::id).startsWith(1L, 2L, 3L);
+            assertThat(results.get(24).id()).isEqualTo(25L);
+        }
+
+        @Test
+        @DisplayName("본문 합계가 256KiB를 넘으면 10건 미만이어도 배치를 나눈다")
+        void sendAll_splitsWhenPayloadLimitExceeded() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, QUEUE_URL);
+            String largeBody = "x".repeat(100 * 1024);
+            List<SqsBatchMessage<Long>> messages =
+                    List.of(
+                            new SqsBatchMessage<>(1L, largeBody, "d1", "g1"),
+                            new SqsBatchMessage<>(2L, largeBody, "d2", "g2"),
+                            new SqsBatchMessage<>(3L, largeBody, "d3", "g3"));
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenAnswer(invocation -> allSucceeded(invocation.getArgument(0)));
+
+            // when
+            List<BatchItemResult<Long>> results = sender.sendAll(messages);
+
+            // then
+            verify(sqsClient, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+            assertThat(results).hasSize(3).allMatch(BatchItemResult::success);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 SQS를 호출하지 않는다")
+        void sendAll_withEmptyList_doesNotCallSqs() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, QUEUE_URL);
+
+            // when
+            List<BatchItemResult<Long>> results = sender.sendAll(List.of());
+
+            // then
+            assertThat(results).isEmpty();
+            verify(sqsClient, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("sendAll - 실패 매핑 테스트")
+    class FailureMappingTest {
+
+        @Test
+        @DisplayName("Failed 항목은 해당 키만 실패로, 응답에 없는 항목은 결과 누락 실패로 반환한다")
+        void sendAll_mapsFailedAndMissingEntries() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, QUEUE_URL);
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenReturn(
+                            SendMessageBatchResponse.builder()
+                                    .successful(
+                                            SendMessageBatchResultEntry.builder().id("0").build())
+                                    .failed(
+                                            BatchResultErrorEntry.builder()
+                                                    .id("1")
+                                                    .code("InternalError")
+                                                    .message("SQS 오류")
+                                                    .senderFault(false)
+                                                    .build())
+                                    .build());
+
+            // when
+            List<BatchItemResult<Long>> results = sender.sendAll(messages(3));
+
+            // then
+            assertThat(results)
+                    .containsExactly(
+                            BatchItemResult.success(1L),
+                            BatchItemResult.failure(2L, "InternalError", "SQS 오류"),
+                            BatchItemResult.failure(
+                                    3L,
+                                    SqsBatchSender.MISSING_RESULT_CODE,
+                                    "SQS 응답에 결과가 없습니다."));
+        }
+
+        @Test
+        @DisplayName("요청 자체가 실패하면 그 배치만 실패로 반환하고 다음 배치는 계속 전송한다")
+        void sendAll_whenRequestFails_failsOnlyThatChunk() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, QUEUE_URL);
+            SqsException sqsException =
+                    (SqsException) SqsException.builder().message("SQS 연결 실패").build();
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenThrow(sqsException)
+                    .thenAnswer(invocation -> allSucceeded(invocation.getArgument(0)));
+
+            // when
+            List<BatchItemResult<Long>> results = sender.sendAll(messages(15));
+
+            // then
+            assertThat(results.subList(0, 10))
+                    .extracting(BatchItemResult::success, BatchItemResult::errorCode)
+                    .containsOnly(tuple(false, SqsBatchSender.REQUEST_FAILED_CODE));
+            assertThat(results.subList(10, 15)).allMatch(BatchItemResult::success);
+        }
+    }
+
+    @Nested
+    @DisplayName("sendAll - FIFO 큐 테스트")
+    class FifoTest {
+
+        @Test
+        @DisplayName("FIFO 큐이면 항목별 deduplicationId와 messageGroupId를 설정한다")
+        void sendAll_withFifoQueue_setsIds() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, FIFO_QUEUE_URL);
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenAnswer(invocation -> allSucceeded(invocation.getArgument(0)));
+
+            ArgumentCaptor<SendMessageBatchRequest> requestCaptor =
+                    ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+
+            // when
+            sender.sendAll(messages(2));
+
+            // then
+            verify(sqsClient).sendMessageBatch(requestCaptor.capture());
+            List<SendMessageBatchRequestEntry> entries = requestCaptor.getValue().entries();
+            assertThat(entries.get(0).messageDeduplicationId()).isEqualTo("dedup-1");
+            assertThat(entries.get(0).messageGroupId()).isEqualTo("group-1");
+            assertThat(entries.get(1).messageDeduplicationId()).isEqualTo("dedup-2");
+            assertThat(entries.get(1).messageGroupId()).isEqualTo("group-2");
+        }
+
+        @Test
+        @DisplayName("표준 큐이면 deduplicationId와 messageGroupId를 설정하지 않는다")
+        void sendAll_withStandardQueue_omitsIds() {
+            // given
+            SqsBatchSender sender = new SqsBatchSender(sqsClient, QUEUE_URL);
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenAnswer(invocation -> allSucceeded(invocation.getArgument(0)));
+
+            ArgumentCaptor<SendMessageBatchRequest> requestCaptor =
+                    ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+
+            // when
+            sender.sendAll(messages(1));
+
+            // then
+            verify(sqsClient).sendMessageBatch(requestCaptor.capture());
+            SendMessageBatchRequestEntry entry = requestCaptor.getValue().entries().get(0);
+            assertThat(entry.messageDeduplicationId()).isNull();
+            assertThat(entry.messageGroupId()).isNull();
+        }
+    }
+}
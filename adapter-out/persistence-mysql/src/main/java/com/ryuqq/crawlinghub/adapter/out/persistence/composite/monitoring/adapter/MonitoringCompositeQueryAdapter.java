@@ -19,7 +19,12 @@ import com.ryuqq.crawlinghub.application.monitoring.port.out.query.MonitoringCom
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
@@ -28,18 +33,43 @@ public class MonitoringCompositeQueryAdapter implements MonitoringCompositeQuery
 
     private final MonitoringCompositeQueryDslRepository repository;
     private final MonitoringCompositeMapper mapper;
+    private final ExecutorService monitoringQueryExecutor;
 
     public MonitoringCompositeQueryAdapter(
-            MonitoringCompositeQueryDslRepository repository, MonitoringCompositeMapper mapper) {
+            MonitoringCompositeQueryDslRepository repository,
+            MonitoringCompositeMapper mapper,
+            @Qualifier("monitoringQueryExecutor") ExecutorService monitoringQueryExecutor) {
         this.repository = repository;
         this.mapper = mapper;
+        this.monitoringQueryExecutor = monitoringQueryExecutor;
     }
 
+    /**
+     * 대시보드 요약 조회
+     *
+     * <p>서로 독립적인 count 쿼리 4개를 {@code monitoringQueryExecutor}에서 동시에 실행합니다. 각 쿼리가 별도 커넥션에서
+     * 실행되므로 호출 스레드는 트랜잭션(커넥션)을 잡지 않습니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardSummaryResult getDashboardSummary(Duration lookback) {
-        Instant threshold = Instant.now().minus(lookback);
-        DashboardCountsDto counts = repository.fetchDashboardCounts(threshold);
-        return mapper.toDashboardSummaryResult(counts);
+        Instant now = Instant.now();
+        Instant threshold = now.minus(lookback);
+
+        CompletableFuture<Long> activeSchedulers = supplyAsync(repository::countActiveSchedulers);
+        CompletableFuture<Long> runningTasks = supplyAsync(repository::countRunningCrawlTasks);
+        CompletableFuture<Long> pendingOutbox =
+                supplyAsync(repository::countPendingCrawlTaskOutbox);
+        CompletableFuture<Long> recentErrors =
+                supplyAsync(() -> repository.countRecentFailedCrawlTasks(threshold));
+
+        DashboardCountsDto counts =
+                new DashboardCountsDto(
+                        activeSchedulers.join(),
+                        runningTasks.join(),
+                        pendingOutbox.join(),
+                        recentErrors.join());
+        return mapper.toDashboardSummaryResult(counts, now);
     }
 
     @Override
@@ -87,4 +117,8 @@ public class MonitoringCompositeQueryAdapter implements MonitoringCompositeQuery
         List<StatusCountDto> statusCounts = repository.fetchCrawlExecutionCountsByStatus(threshold);
         return mapper.toCrawlExecutionSummaryResult(statusCounts);
     }
+
+    private CompletableFuture<Long> supplyAsync(Supplier<Long> query) {
+        return CompletableFuture.supplyAsync(query, monitoringQueryExecutor);
+    }
 }
@@ -17,6 +17,7 @@ import com.ryuqq.crawlinghub.application.monitoring.dto.composite.OutboxSummaryR
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.OutboxSummaryResult.OutboxDetail;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.ProductSyncFailureSummaryResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.ProductSyncFailureSummaryResult.FailureDetail;
+import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,14 +32,16 @@ public class MonitoringCompositeMapper {
     private static final long FAILURE_THRESHOLD_CRITICAL = 50;
     private static final long FAILURE_THRESHOLD_WARNING = 5;
 
-    public DashboardSummaryResult toDashboardSummaryResult(DashboardCountsDto dto) {
+    public DashboardSummaryResult toDashboardSummaryResult(
+            DashboardCountsDto dto, Instant aggregatedAt) {
         SystemStatus status = determineSystemStatus(dto.recentErrors());
         return new DashboardSummaryResult(
                 dto.activeSchedulers(),
                 dto.runningTasks(),
                 dto.pendingOutbox(),
                 dto.recentErrors(),
-                status);
+                status,
+                aggregatedAt);
     }
 
     public CrawlTaskSummaryResult toCrawlTaskSummaryResult(
@@ -3,7 +3,6 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.composite.monitoring.repos
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.ryuqq.crawlinghub.adapter.out.persistence.composite.monitoring.dto.DashboardCountsDto;
 import com.ryuqq.crawlinghub.adapter.out.persistence.composite.monitoring.dto.FailureDetailDto;
 import com.ryuqq.crawlinghub.adapter.out.persistence.composite.monitoring.dto.OutboxStatusCountDto;
 import com.ryuqq.crawlinghub.adapter.out.persistence.composite.monitoring.dto.StatusCountDto;
@@ -45,31 +44,40 @@ public class MonitoringCompositeQueryDslRepository {
         this.queryFactory = queryFactory;
     }
 
-    public DashboardCountsDto fetchDashboardCounts(Instant threshold) {
-        LocalDateTime thresholdLdt = LocalDateTime.ofInstant(threshold, ZoneOffset.UTC);
-
-        Long activeSchedulers =
+    public long countActiveSchedulers() {
+        Long count =
                 queryFactory
                         .select(crawlScheduler.count())
                         .from(crawlScheduler)
                         .where(crawlScheduler.status.stringValue().eq("ACTIVE"))
                         .fetchOne();
+        return nullToZero(count);
+    }
 
-        Long runningTasks =
+    public long countRunningCrawlTasks() {
+        Long count =
                 queryFactory
                         .select(crawlTask.count())
                         .from(crawlTask)
                         .where(crawlTask.status.stringValue().eq("RUNNING"))
                         .fetchOne();
+        return nullToZero(count);
+    }
 
-        Long pendingOutbox =
+    public long countPendingCrawlTaskOutbox() {
+        Long count =
                 queryFactory
                         .select(crawlTaskOutbox.count())
                         .from(crawlTaskOutbox)
                         .where(crawlTaskOutbox.status.stringValue().eq("PENDING"))
                         .fetchOne();
+        return nullToZero(count);
+    }
+
+    public long countRecentFailedCrawlTasks(Instant threshold) {
+        LocalDateTime thresholdLdt = LocalDateTime.ofInstant(threshold, ZoneOffset.UTC);
 
-        Long recentErrors =
+        Long count =
                 queryFactory
                         .select(crawlTask.count())
                         .from(crawlTask)
@@ -80,12 +88,7 @@ public class MonitoringCompositeQueryDslRepository {
                                         .eq("FAILED")
                                         .and(crawlTask.updatedAt.after(thresholdLdt)))
                         .fetchOne();
-
-        return new DashboardCountsDto(
-                nullToZero(activeSchedulers),
-                nullToZero(runningTasks),
-                nullToZero(pendingOutbox),
-                nullToZero(recentErrors));
+        return nullToZero(count);
     }
 
     public List<StatusCountDto> fetchCrawlTaskCountsByStatus() {
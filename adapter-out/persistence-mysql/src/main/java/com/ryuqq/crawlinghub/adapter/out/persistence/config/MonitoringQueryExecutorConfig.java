@@ -0,0 +1,32 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모니터링 집계 쿼리 Executor 설정
+ *
+ * <p>대시보드 요약의 서로 독립적인 count 쿼리를 동시에 실행할 고정 크기 스레드 풀을 정의합니다. 스레드마다 커넥션을 하나씩 점유하므로 풀
+ * 크기를 대시보드 집계 쿼리 수로 제한합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+public class MonitoringQueryExecutorConfig {
+
+    private static final int DASHBOARD_QUERY_COUNT = 4;
+
+    /**
+     * 모니터링 집계 쿼리 Executor
+     *
+     * @return 고정 크기 ExecutorService
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService monitoringQueryExecutor() {
+        return Executors.newFixedThreadPool(
+                DASHBOARD_QUERY_COUNT, Thread.ofPlatform().name("monitoring-query-", 0).factory());
+    }
+}
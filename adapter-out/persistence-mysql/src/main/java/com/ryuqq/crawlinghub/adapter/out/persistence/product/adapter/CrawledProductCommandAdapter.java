@@ -2,10 +2,13 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledProductJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.CrawledProductJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledProductJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledProductJpaRepository;
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,6 +21,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Domain Aggregate → JPA Entity 변환
  *   <li>JpaRepository.save() / deleteById() 호출
+ *   <li>배치 저장 시 JdbcRepository 일괄 UPDATE/INSERT IGNORE 호출
  *   <li>CrawledProductId 반환
  * </ul>
  *
@@ -36,12 +40,15 @@ import org.springframework.stereotype.Component;
 public class CrawledProductCommandAdapter implements CrawledProductPersistencePort {
 
     private final CrawledProductJpaRepository crawledProductJpaRepository;
+    private final CrawledProductJdbcRepository crawledProductJdbcRepository;
     private final CrawledProductJpaEntityMapper crawledProductJpaEntityMapper;
 
     public CrawledProductCommandAdapter(
             CrawledProductJpaRepository crawledProductJpaRepository,
+            CrawledProductJdbcRepository crawledProductJdbcRepository,
             CrawledProductJpaEntityMapper crawledProductJpaEntityMapper) {
         this.crawledProductJpaRepository = crawledProductJpaRepository;
+        this.crawledProductJdbcRepository = crawledProductJdbcRepository;
         this.crawledProductJpaEntityMapper = crawledProductJpaEntityMapper;
     }
 
@@ -61,4 +68,49 @@ public class CrawledProductCommandAdapter implements CrawledProductPersistencePo
         CrawledProductJpaEntity savedEntity = crawledProductJpaRepository.save(entity);
         return CrawledProductId.of(savedEntity.getId());
     }
+
+    /**
+     * CrawledProduct 일괄 저장
+     *
+     * <p><strong>기존 상품 (ID 있음)</strong>: version 조건 JDBC batch UPDATE
+     *
+     * <p><strong>신규 상품 (ID 없음)</strong>: 다중 VALUES INSERT IGNORE (유니크 키 중복 행은 덮어쓰지 않음)
+     *
+     * @param crawledProducts 저장할 CrawledProduct 목록
+     * @return version 충돌 또는 유니크 키 중복으로 반영되지 않은 상품 목록
+     */
+    @Override
+    public List<CrawledProduct> persistAll(List<CrawledProduct> crawledProducts) {
+        List<CrawledProduct> existingProducts = new ArrayList<>();
+        List<CrawledProductJpaEntity> existing = new ArrayList<>();
+        List<CrawledProduct> createdProducts = new ArrayList<>();
+        List<CrawledProductJpaEntity> created = new ArrayList<>();
+        for (CrawledProduct crawledProduct : crawledProducts) {
+            CrawledProductJpaEntity entity = crawledProductJpaEntityMapper.toEntity(crawledProduct);
+            if (entity.getId() == null) {
+                createdProducts.add(crawledProduct);
+                created.add(entity);
+            } else {
+                existingProducts.add(crawledProduct);
+                existing.add(entity);
+            }
+        }
+
+        int[] updatedCounts = crawledProductJdbcRepository.updateAllIfVersionMatches(existing);
+        int[] insertedCounts = crawledProductJdbcRepository.insertAllIgnoringDuplicates(created);
+
+        List<CrawledProduct> unapplied = new ArrayList<>();
+        collectUnapplied(existingProducts, updatedCounts, unapplied);
+        collectUnapplied(createdProducts, insertedCounts, unapplied);
+        return unapplied;
+    }
+
+    private static void collectUnapplied(
+            List<CrawledProduct> products, int[] affectedCounts, List<CrawledProduct> unapplied) {
+        for (int i = 0; i < affectedCounts.length; i++) {
+            if (affectedCounts[i] == 0) {
+                unapplied.add(products.get(i));
+            }
+        }
+    }
 }
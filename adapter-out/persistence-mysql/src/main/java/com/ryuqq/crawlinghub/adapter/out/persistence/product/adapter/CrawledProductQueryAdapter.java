@@ -3,10 +3,16 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledProductJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.CrawledProductJpaEntityMapper;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledProductQueryDslRepository;
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
 import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductQueryPort;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -68,6 +74,17 @@ public class CrawledProductQueryAdapter implements CrawledProductQueryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<CrawledProduct> findAllBySellerIdsAndItemNosIncludingDeleted(
+            Collection<SellerId> sellerIds, Collection<Long> itemNos) {
+        List<Long> sellerIdValues = sellerIds.stream().map(SellerId::value).distinct().toList();
+        return queryDslRepository
+                .findAllBySellerIdInAndItemNoInIncludingDeleted(sellerIdValues, itemNos)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<CrawledProduct> findBySellerId(SellerId sellerId) {
         List<CrawledProductJpaEntity> entities =
@@ -82,8 +99,23 @@ public class CrawledProductQueryAdapter implements CrawledProductQueryPort {
     }
 
     @Override
-    public List<CrawledProduct> findStaleProducts(int limit) {
-        return queryDslRepository.findStaleProducts(limit).stream().map(mapper::toDomain).toList();
+    public List<StaleCrawledProductKey> findStaleProductKeys(
+            Instant staleBefore, KeysetCursor cursor, int limit) {
+        LocalDateTime cursorUpdatedAt =
+                cursor != null ? toLocalDateTime(Instant.parse(cursor.sortValue())) : null;
+        long cursorId = cursor != null ? cursor.id() : 0L;
+        return queryDslRepository
+                .findStaleProductKeys(
+                        toLocalDateTime(staleBefore), cursorUpdatedAt, cursorId, limit)
+                .stream()
+                .map(
+                        dto ->
+                                new StaleCrawledProductKey(
+                                        dto.id(),
+                                        dto.sellerId(),
+                                        dto.itemNo(),
+                                        toInstant(dto.updatedAt())))
+                .toList();
     }
 
     @Override
@@ -101,4 +133,13 @@ public class CrawledProductQueryAdapter implements CrawledProductQueryPort {
     public long countBySellerId(SellerId sellerId) {
         return queryDslRepository.countBySellerId(sellerId.value());
     }
+
+    /** Entity 매퍼와 같은 시스템 기본 시간대로 변환합니다. */
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private Instant toInstant(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
 }
@@ -2,9 +2,17 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.ProductSyncOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.ProductSyncOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxJpaRepository;
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductSyncOutboxPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,6 +25,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Domain Aggregate -> JPA Entity 변환
  *   <li>JpaRepository.save() 호출
+ *   <li>발행 배치 상태 일괄 전환 시 JdbcRepository 호출
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -35,11 +44,15 @@ public class CrawledProductSyncOutboxCommandAdapter
         implements CrawledProductSyncOutboxPersistencePort {
 
     private final ProductSyncOutboxJpaRepository jpaRepository;
+    private final ProductSyncOutboxJdbcRepository jdbcRepository;
     private final ProductSyncOutboxJpaEntityMapper mapper;
 
     public CrawledProductSyncOutboxCommandAdapter(
-            ProductSyncOutboxJpaRepository jpaRepository, ProductSyncOutboxJpaEntityMapper mapper) {
+            ProductSyncOutboxJpaRepository jpaRepository,
+            ProductSyncOutboxJdbcRepository jdbcRepository,
+            ProductSyncOutboxJpaEntityMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.jdbcRepository = jdbcRepository;
         this.mapper = mapper;
     }
 
@@ -66,4 +79,59 @@ public class CrawledProductSyncOutboxCommandAdapter
         ProductSyncOutboxJpaEntity entity = mapper.toEntity(outbox);
         jpaRepository.save(entity);
     }
+
+    /**
+     * PROCESSING 일괄 전환
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsProcessing(List<CrawledProductSyncOutboxId> ids, Instant processedAt) {
+        jdbcRepository.markAllAsProcessing(toLongs(ids), toLocalDateTime(processedAt));
+    }
+
+    /**
+     * SENT 일괄 전환
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsSent(List<CrawledProductSyncOutboxId> ids, Instant processedAt) {
+        jdbcRepository.markAllAsSent(toLongs(ids), toLocalDateTime(processedAt));
+    }
+
+    /**
+     * COMPLETED 일괄 전환
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsCompleted(List<CrawledProductSyncOutboxId> ids, Instant processedAt) {
+        jdbcRepository.markAllAsCompleted(toLongs(ids), toLocalDateTime(processedAt));
+    }
+
+    /**
+     * FAILED 일괄 전환
+     *
+     * @param errorMessages Outbox ID별 오류 메시지
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsFailed(
+            Map<CrawledProductSyncOutboxId, String> errorMessages, Instant processedAt) {
+        Map<Long, String> errorMessagesById = new LinkedHashMap<>();
+        errorMessages.forEach((id, message) -> errorMessagesById.put(id.value(), message));
+        jdbcRepository.markAllAsFailed(errorMessagesById, toLocalDateTime(processedAt));
+    }
+
+    private static List<Long> toLongs(List<CrawledProductSyncOutboxId> ids) {
+        return ids.stream().map(CrawledProductSyncOutboxId::value).toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
 }
@@ -2,11 +2,13 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.ProductSyncOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.ProductSyncOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxLockRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxQueryDslRepository;
 import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductSyncOutboxQueryPort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox.SyncType;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.query.ProductSyncOutboxCriteria;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
 import java.time.Instant;
@@ -25,6 +27,7 @@ import org.springframework.stereotype.Component;
  *   <li>ID/Key로 단건 조회
  *   <li>상태별 목록 조회
  *   <li>재시도 가능한 Outbox 조회 (스케줄러용)
+ *   <li>PENDING/SENT Outbox 선점 조회 (LockRepository, FOR UPDATE SKIP LOCKED)
  *   <li>QueryDslRepository 호출
  *   <li>Mapper를 통한 Entity -> Domain 변환
  * </ul>
@@ -44,12 +47,15 @@ import org.springframework.stereotype.Component;
 public class CrawledProductSyncOutboxQueryAdapter implements CrawledProductSyncOutboxQueryPort {
 
     private final ProductSyncOutboxQueryDslRepository queryDslRepository;
+    private final ProductSyncOutboxLockRepository lockRepository;
     private final ProductSyncOutboxJpaEntityMapper mapper;
 
     public CrawledProductSyncOutboxQueryAdapter(
             ProductSyncOutboxQueryDslRepository queryDslRepository,
+            ProductSyncOutboxLockRepository lockRepository,
             ProductSyncOutboxJpaEntityMapper mapper) {
         this.queryDslRepository = queryDslRepository;
+        this.lockRepository = lockRepository;
         this.mapper = mapper;
     }
 
@@ -114,6 +120,37 @@ public class CrawledProductSyncOutboxQueryAdapter implements CrawledProductSyncO
         return entities.stream().map(mapper::toDomain).toList();
     }
 
+    /**
+     * PENDING 상태의 CrawledProductSyncOutbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param limit 조회 개수 제한
+     * @return 잠금을 획득한 PENDING 상태의 CrawledProductSyncOutbox 목록
+     */
+    @Override
+    public List<CrawledProductSyncOutbox> findPendingOutboxesForUpdate(int limit) {
+        List<ProductSyncOutboxJpaEntity> entities =
+                lockRepository.findPendingOutboxesForUpdateSkipLocked(limit);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    /**
+     * 지정한 ID의 SENT 상태 CrawledProductSyncOutbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param ids Outbox ID 목록
+     * @return 잠금을 획득한 SENT 상태의 CrawledProductSyncOutbox 목록
+     */
+    @Override
+    public List<CrawledProductSyncOutbox> findSentByIdsForUpdate(
+            List<CrawledProductSyncOutboxId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<ProductSyncOutboxJpaEntity> entities =
+                lockRepository.findSentByIdsForUpdateSkipLocked(
+                        ids.stream().map(CrawledProductSyncOutboxId::value).toList());
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
     /**
      * FAILED 상태이고 재시도 가능한 CrawledProductSyncOutbox 조회
      *
@@ -2,11 +2,15 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledRawJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.CrawledRawJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledRawJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledRawJpaRepository;
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledRawPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,7 +22,9 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>Domain Aggregate → JPA Entity 변환
- *   <li>JpaRepository.save() / saveAll() 호출
+ *   <li>JpaRepository.save() 호출 (단건)
+ *   <li>JdbcRepository.insertAll() 호출 (벌크, multi-row INSERT)
+ *   <li>JdbcRepository.markAllAs*() 호출 (가공 결과 일괄 UPDATE)
  *   <li>CrawledRawId 반환
  * </ul>
  *
@@ -37,12 +43,15 @@ import org.springframework.stereotype.Component;
 public class CrawledRawCommandAdapter implements CrawledRawPersistencePort {
 
     private final CrawledRawJpaRepository crawledRawJpaRepository;
+    private final CrawledRawJdbcRepository crawledRawJdbcRepository;
     private final CrawledRawJpaEntityMapper crawledRawJpaEntityMapper;
 
     public CrawledRawCommandAdapter(
             CrawledRawJpaRepository crawledRawJpaRepository,
+            CrawledRawJdbcRepository crawledRawJdbcRepository,
             CrawledRawJpaEntityMapper crawledRawJpaEntityMapper) {
         this.crawledRawJpaRepository = crawledRawJpaRepository;
+        this.crawledRawJdbcRepository = crawledRawJdbcRepository;
         this.crawledRawJpaEntityMapper = crawledRawJpaEntityMapper;
     }
 
@@ -66,18 +75,44 @@ public class CrawledRawCommandAdapter implements CrawledRawPersistencePort {
     /**
      * CrawledRaw 벌크 저장
      *
-     * <p>여러 CrawledRaw를 한 번에 저장합니다.
+     * <p>여러 신규 CrawledRaw를 한 번에 저장합니다. IDENTITY 전략에서 saveAll()은 건별 INSERT가 되므로 JDBC batch
+     * (multi-row INSERT)로 저장합니다.
      *
-     * @param crawledRaws 저장할 CrawledRaw 목록
-     * @return 저장된 CrawledRaw ID 목록
+     * @param crawledRaws 저장할 신규 CrawledRaw 목록
+     * @return 저장된 CrawledRaw ID 목록 (입력 순서 유지)
      */
     @Override
     public List<CrawledRawId> persistAll(List<CrawledRaw> crawledRaws) {
         List<CrawledRawJpaEntity> entities =
                 crawledRaws.stream().map(crawledRawJpaEntityMapper::toEntity).toList();
 
-        List<CrawledRawJpaEntity> savedEntities = crawledRawJpaRepository.saveAll(entities);
+        List<Long> ids = crawledRawJdbcRepository.insertAll(entities);
 
-        return savedEntities.stream().map(entity -> CrawledRawId.of(entity.getId())).toList();
+        return ids.stream().map(CrawledRawId::of).toList();
+    }
+
+    /**
+     * CrawledRaw 일괄 처리 완료 반영 (ID 집합 기반 단일 UPDATE)
+     *
+     * @param crawledRawIds 처리 완료된 CrawledRaw ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsProcessed(List<CrawledRawId> crawledRawIds, Instant processedAt) {
+        crawledRawJdbcRepository.markAllAsProcessed(
+                crawledRawIds.stream().map(CrawledRawId::value).toList(), processedAt);
+    }
+
+    /**
+     * CrawledRaw 일괄 처리 실패 반영 (ID별 에러 메시지 단일 UPDATE)
+     *
+     * @param errorMessagesById CrawledRaw ID별 에러 메시지
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsFailed(Map<CrawledRawId, String> errorMessagesById, Instant processedAt) {
+        Map<Long, String> errorMessages = new LinkedHashMap<>();
+        errorMessagesById.forEach((id, message) -> errorMessages.put(id.value(), message));
+        crawledRawJdbcRepository.markAllAsFailed(errorMessages, processedAt);
     }
 }
@@ -0,0 +1,18 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.product.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * CrawledProduct 식별 키 DTO
+ *
+ * <p>QueryDSL Projections.constructor 용 Persistence 레이어 전용 DTO
+ *
+ * @param id CrawledProduct ID
+ * @param sellerId 셀러 ID
+ * @param itemNo 상품 번호
+ * @param updatedAt 마지막 갱신 시각 (keyset 커서용)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawledProductKeyDto(
+        Long id, Long sellerId, Long itemNo, LocalDateTime updatedAt) {}
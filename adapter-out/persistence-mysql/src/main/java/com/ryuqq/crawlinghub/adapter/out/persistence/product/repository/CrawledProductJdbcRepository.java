@@ -0,0 +1,283 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.product.repository;
+
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledProductJpaEntity;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CrawledProductJdbcRepository - CrawledProduct JDBC Bulk Repository
+ *
+ * <p>CrawledRaw 배치 가공 시 상품마다 {@code save()}(merge → SELECT + UPDATE/INSERT)가 발생하지 않도록 변경된 상품을 JDBC
+ * batch로 일괄 반영합니다.
+ *
+ * <ul>
+ *   <li><strong>기존 상품</strong>: {@code WHERE id = ? AND version = ?} 조건의 UPDATE로 {@code @Version}과
+ *       동일한 낙관적 락을 적용합니다. 반영되지 않은 행(0건)은 다른 트랜잭션이 먼저 수정한 것입니다.
+ *   <li><strong>신규 상품</strong>: 다중 VALUES {@code INSERT IGNORE}로 저장합니다. 선조회 이후 다른 트랜잭션이 같은
+ *       {@code (seller_id, item_no)} 상품을 먼저 INSERT했다면 해당 행은 무시되고, 기존 행은 도메인 updater를 거치지
+ *       않은 채 덮어쓰이지 않습니다. 호출 측은 반영되지 않은 상품을 단건 흐름으로 재처리해야 합니다.
+ * </ul>
+ *
+ * <p><strong>INSERT IGNORE 경고:</strong> {@code IGNORE}는 유니크 키 중복뿐 아니라 strict 모드에서 오류가 될 컬럼
+ * 길이 초과(truncation)나 NOT NULL 위반도 경고로 낮춰 잘리거나 기본값이 채워진 행을 그대로 저장합니다. 이를 막기 위해
+ * INSERT 직후 문장 경고를 확인하고 중복 키(1062) 이외의 경고가 있으면 {@link DataIntegrityViolationException}을 던져
+ * 호출 측 트랜잭션을 롤백시킵니다.
+ *
+ * <p><strong>트랜잭션:</strong> JdbcTemplate은 JpaTransactionManager가 바인딩한 동일 커넥션을 사용하므로 호출 측
+ * 트랜잭션에 참여합니다.
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>❌ 조회 쿼리 (QueryDslRepository 사용, INSERT IGNORE 반영 행 확인용 재조회만 예외)
+ *   <li>❌ 단건 저장 (JpaRepository 사용)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class CrawledProductJdbcRepository {
+
+    private static final String UPDATE_SQL =
+            "UPDATE crawled_product SET item_name = ?, brand_name = ?, brand_code = ?,"
+                    + " original_price = ?, discount_price = ?, discount_rate = ?, images_json = ?,"
+                    + " free_shipping = ?, category_json = ?, shipping_info_json = ?,"
+                    + " original_description_mark_up = ?, description_mark_up = ?, item_status = ?,"
+                    + " origin_country = ?, shipping_location = ?, options_json = ?,"
+                    + " mini_shop_crawled_at = ?, detail_crawled_at = ?, option_crawled_at = ?,"
+                    + " external_product_id = ?, last_synced_at = ?, needs_sync = ?,"
+                    + " pending_changes = ?, deleted_at = ?, updated_at = ?, version = version + 1"
+                    + " WHERE id = ? AND version = ?";
+
+    private static final String INSERT_IGNORE_SQL_PREFIX =
+            "INSERT IGNORE INTO crawled_product (seller_id, item_no, item_name, brand_name,"
+                    + " brand_code, original_price, discount_price, discount_rate, images_json,"
+                    + " free_shipping, options_json, mini_shop_crawled_at, needs_sync, version,"
+                    + " created_at, updated_at) VALUES ";
+
+    private static final String INSERT_VALUES_ROW =
+            "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String SELECT_INSERTED_SQL_PREFIX =
+            "SELECT seller_id, item_no FROM crawled_product"
+                    + " WHERE (seller_id, item_no, created_at) IN (";
+
+    private static final String SELECT_INSERTED_ROW = "(?, ?, ?)";
+
+    /** 다중 VALUES INSERT 한 문장에 담는 최대 행 수 */
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    /** MySQL ER_DUP_ENTRY - INSERT IGNORE가 무시한 유니크 키 중복 경고 코드 */
+    private static final int ER_DUP_ENTRY = 1062;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CrawledProductJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기존 상품 일괄 UPDATE (version 조건)
+     *
+     * @param entities 저장할 Entity 목록 (id, version 필수)
+     * @return Entity별 반영 행 수 (입력 순서 유지, 0이면 version 충돌)
+     */
+    public int[] updateAllIfVersionMatches(List<CrawledProductJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return new int[0];
+        }
+
+        return jdbcTemplate.batchUpdate(
+                UPDATE_SQL,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CrawledProductJpaEntity entity = entities.get(i);
+                        ps.setString(1, entity.getItemName());
+                        ps.setString(2, entity.getBrandName());
+                        ps.setLong(3, entity.getBrandCode());
+                        setLong(ps, 4, entity.getOriginalPrice());
+                        setLong(ps, 5, entity.getDiscountPrice());
+                        setInteger(ps, 6, entity.getDiscountRate());
+                        ps.setString(7, entity.getImagesJson());
+                        ps.setBoolean(8, entity.isFreeShipping());
+                        ps.setString(9, entity.getCategoryJson());
+                        ps.setString(10, entity.getShippingInfoJson());
+                        ps.setString(11, entity.getOriginalDescriptionMarkUp());
+                        ps.setString(12, entity.getDescriptionMarkUp());
+                        ps.setString(13, entity.getItemStatus());
+                        ps.setString(14, entity.getOriginCountry());
+                        ps.setString(15, entity.getShippingLocation());
+                        ps.setString(16, entity.getOptionsJson());
+                        setDateTime(ps, 17, entity.getMiniShopCrawledAt());
+                        setDateTime(ps, 18, entity.getDetailCrawledAt());
+                        setDateTime(ps, 19, entity.getOptionCrawledAt());
+                        setLong(ps, 20, entity.getExternalProductId());
+                        setDateTime(ps, 21, entity.getLastSyncedAt());
+                        ps.setBoolean(22, entity.isNeedsSync());
+                        ps.setString(23, entity.getPendingChanges());
+                        setDateTime(ps, 24, entity.getDeletedAt());
+                        setDateTime(ps, 25, entity.getUpdatedAt());
+                        ps.setLong(26, entity.getId());
+                        ps.setLong(27, entity.getVersion());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entities.size();
+                    }
+                });
+    }
+
+    /**
+     * 신규 상품 일괄 INSERT IGNORE
+     *
+     * <p>{@code rewriteBatchedStatements=true} 환경에서 JDBC batch의 행별 반영 수는 {@code
+     * Statement.SUCCESS_NO_INFO}로 채워져 중복 여부를 알 수 없으므로, 청크 단위 다중 VALUES 문장을 직접 실행하고 문장의 반영 행
+     * 수를 청크 크기와 비교합니다. 반영 수가 모자란 청크만 같은 트랜잭션에서 {@code (seller_id, item_no, created_at)}로
+     * 재조회해 행별 반영 여부를 판정합니다. {@code created_at}은 {@code DATETIME(6)}이고 INSERT와 동일한 값을 바인딩하므로,
+     * 일치하는 행은 이 문장이 저장한 행이고 일치하지 않는 행은 다른 트랜잭션이 먼저 저장해 무시된 행입니다.
+     *
+     * @param entities 저장할 Entity 목록 (id는 null, MINI_SHOP 데이터로 생성된 상품)
+     * @return Entity별 반영 여부 (입력 순서 유지, 0이면 유니크 키 중복으로 무시됨)
+     * @throws DataIntegrityViolationException 중복 키 이외의 경고(truncation, NOT NULL 등)가 발생한 경우
+     */
+    public int[] insertAllIgnoringDuplicates(List<CrawledProductJpaEntity> entities) {
+        int[] insertedCounts = new int[entities.size()];
+        for (int from = 0; from < entities.size(); from += INSERT_CHUNK_SIZE) {
+            int to = Math.min(from + INSERT_CHUNK_SIZE, entities.size());
+            List<CrawledProductJpaEntity> chunk = entities.subList(from, to);
+            int inserted = insertChunk(chunk);
+            if (inserted == chunk.size()) {
+                Arrays.fill(insertedCounts, from, to, 1);
+                continue;
+            }
+            Set<String> insertedKeys = findInsertedKeys(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                CrawledProductJpaEntity entity = chunk.get(i);
+                boolean applied =
+                        insertedKeys.contains(keyOf(entity.getSellerId(), entity.getItemNo()));
+                insertedCounts[from + i] = applied ? 1 : 0;
+            }
+        }
+        return insertedCounts;
+    }
+
+    private int insertChunk(List<CrawledProductJpaEntity> chunk) {
+        Integer inserted =
+                jdbcTemplate.execute(
+                        insertIgnoreSql(chunk.size()),
+                        (PreparedStatementCallback<Integer>)
+                                ps -> {
+                                    setRows(ps, chunk);
+                                    int count = ps.executeUpdate();
+                                    rejectNonDuplicateWarnings(ps.getWarnings());
+                                    return count;
+                                });
+        return inserted != null ? inserted : 0;
+    }
+
+    private Set<String> findInsertedKeys(List<CrawledProductJpaEntity> chunk) {
+        String sql =
+                SELECT_INSERTED_SQL_PREFIX
+                        + String.join(", ", Collections.nCopies(chunk.size(), SELECT_INSERTED_ROW))
+                        + ")";
+        List<String> keys =
+                jdbcTemplate.query(
+                        sql,
+                        ps -> {
+                            int index = 0;
+                            for (CrawledProductJpaEntity entity : chunk) {
+                                ps.setLong(++index, entity.getSellerId());
+                                ps.setLong(++index, entity.getItemNo());
+                                setDateTime(ps, ++index, entity.getCreatedAt());
+                            }
+                        },
+                        (rs, rowNum) -> keyOf(rs.getLong("seller_id"), rs.getLong("item_no")));
+        return new HashSet<>(keys);
+    }
+
+    private static void rejectNonDuplicateWarnings(SQLWarning warnings) {
+        for (SQLWarning warning = warnings; warning != null; warning = warning.getNextWarning()) {
+            if (warning.getErrorCode() != ER_DUP_ENTRY) {
+                throw new DataIntegrityViolationException(
+                        "INSERT IGNORE 중 중복 키 이외의 경고가 발생했습니다: code="
+                                + warning.getErrorCode()
+                                + ", message="
+                                + warning.getMessage());
+            }
+        }
+    }
+
+    private static String keyOf(long sellerId, long itemNo) {
+        return sellerId + ":" + itemNo;
+    }
+
+    private static String insertIgnoreSql(int rows) {
+        return INSERT_IGNORE_SQL_PREFIX
+                + String.join(", ", Collections.nCopies(rows, INSERT_VALUES_ROW));
+    }
+
+    private static void setRows(PreparedStatement ps, List<CrawledProductJpaEntity> entities)
+            throws SQLException {
+        int index = 0;
+        for (CrawledProductJpaEntity entity : entities) {
+            ps.setLong(++index, entity.getSellerId());
+            ps.setLong(++index, entity.getItemNo());
+            ps.setString(++index, entity.getItemName());
+            ps.setString(++index, entity.getBrandName());
+            ps.setLong(++index, entity.getBrandCode());
+            setLong(ps, ++index, entity.getOriginalPrice());
+            setLong(ps, ++index, entity.getDiscountPrice());
+            setInteger(ps, ++index, entity.getDiscountRate());
+            ps.setString(++index, entity.getImagesJson());
+            ps.setBoolean(++index, entity.isFreeShipping());
+            ps.setString(++index, entity.getOptionsJson());
+            setDateTime(ps, ++index, entity.getMiniShopCrawledAt());
+            ps.setBoolean(++index, entity.isNeedsSync());
+            setDateTime(ps, ++index, entity.getCreatedAt());
+            setDateTime(ps, ++index, entity.getUpdatedAt());
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value)
+            throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+            return;
+        }
+        ps.setLong(index, value);
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value)
+            throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+            return;
+        }
+        ps.setInt(index, value);
+    }
+
+    private static void setDateTime(PreparedStatement ps, int index, LocalDateTime value)
+            throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+            return;
+        }
+        ps.setObject(index, value);
+    }
+}
@@ -2,8 +2,13 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.repository;
 
 import static com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.QCrawledProductJpaEntity.crawledProductJpaEntity;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.dto.CrawledProductKeyDto;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledProductJpaEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -18,7 +23,9 @@ import org.springframework.stereotype.Repository;
  * <ul>
  *   <li>ID, SellerId+ItemNo 기반 단건 조회
  *   <li>SellerId 기반 목록 조회
+ *   <li>SellerId+ItemNo 배치 선조회 (soft-delete 포함)
  *   <li>동기화 필요 상품 조회
+ *   <li>갱신 대상 상품 키 조회 (projection)
  *   <li>존재 여부 확인
  * </ul>
  *
@@ -95,6 +102,29 @@ public class CrawledProductQueryDslRepository {
         return Optional.ofNullable(entity);
     }
 
+    /**
+     * SellerId 목록과 ItemNo 목록으로 일괄 조회 (soft-delete 포함)
+     *
+     * <p>{@code (seller_id, item_no)} 유니크 인덱스를 사용하는 IN 조건 조회입니다. 두 목록의 조합에 해당하는 행을 모두 반환하므로 정확한 키
+     * 매칭은 호출 측에서 수행합니다.
+     *
+     * @param sellerIds 판매자 ID 목록
+     * @param itemNos 상품 번호 목록
+     * @return Entity 목록 (soft-deleted 포함)
+     */
+    public List<CrawledProductJpaEntity> findAllBySellerIdInAndItemNoInIncludingDeleted(
+            Collection<Long> sellerIds, Collection<Long> itemNos) {
+        if (sellerIds.isEmpty() || itemNos.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(crawledProductJpaEntity)
+                .where(
+                        crawledProductJpaEntity.sellerId.in(sellerIds),
+                        crawledProductJpaEntity.itemNo.in(itemNos))
+                .fetch();
+    }
+
     /**
      * SellerId로 목록 조회
      *
@@ -152,20 +182,36 @@ public class CrawledProductQueryDslRepository {
     }
 
     /**
-     * 갱신이 오래된 상품 조회 (updatedAt ASC)
+     * 갱신이 오래된 상품 키 조회 ({@code (updatedAt, id)} ASC, keyset)
      *
-     * <p>externalProductId가 존재하고 soft-delete되지 않은 상품 중 updatedAt이 가장 오래된 순으로 조회
+     * <p>externalProductId가 존재하고 soft-delete되지 않은 상품 중 updatedAt이 staleBefore 이전인 상품을 가장 오래된
+     * 순으로 id, sellerId, itemNo, updatedAt만 조회합니다. 커서가 있으면 {@code updated_at > v OR (updated_at = v
+     * AND id > cursorId)} 조건으로 이어서 읽습니다. LONGTEXT 컬럼(이미지, 상세 설명, 옵션)을 읽지 않으며 {@code
+     * (updated_at, deleted_at)} 인덱스 순서로 읽어 LIMIT 건에서 멈춥니다.
      *
+     * @param staleBefore 이 시각 이전에 갱신된 상품만 조회
+     * @param cursorUpdatedAt 커서 updatedAt (null이면 처음부터)
+     * @param cursorId 커서 상품 ID (cursorUpdatedAt이 null이면 무시)
      * @param limit 조회 개수 제한
-     * @return Entity 목록
+     * @return 상품 키 DTO 목록
      */
-    public List<CrawledProductJpaEntity> findStaleProducts(int limit) {
+    public List<CrawledProductKeyDto> findStaleProductKeys(
+            LocalDateTime staleBefore, LocalDateTime cursorUpdatedAt, long cursorId, int limit) {
         return queryFactory
-                .selectFrom(crawledProductJpaEntity)
+                .select(
+                        Projections.constructor(
+                                CrawledProductKeyDto.class,
+                                crawledProductJpaEntity.id,
+                                crawledProductJpaEntity.sellerId,
+                                crawledProductJpaEntity.itemNo,
+                                crawledProductJpaEntity.updatedAt))
+                .from(crawledProductJpaEntity)
                 .where(
                         crawledProductJpaEntity.deletedAt.isNull(),
-                        crawledProductJpaEntity.externalProductId.isNotNull())
-                .orderBy(crawledProductJpaEntity.updatedAt.asc())
+                        crawledProductJpaEntity.externalProductId.isNotNull(),
+                        crawledProductJpaEntity.updatedAt.lt(staleBefore),
+                        afterCursor(cursorUpdatedAt, cursorId))
+                .orderBy(crawledProductJpaEntity.updatedAt.asc(), crawledProductJpaEntity.id.asc())
                 .limit(limit)
                 .fetch();
     }
@@ -188,4 +234,18 @@ public class CrawledProductQueryDslRepository {
 
         return count != null ? count : 0L;
     }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorUpdatedAt, long cursorId) {
+        if (cursorUpdatedAt == null) {
+            return null;
+        }
+        return crawledProductJpaEntity
+                .updatedAt
+                .gt(cursorUpdatedAt)
+                .or(
+                        crawledProductJpaEntity
+                                .updatedAt
+                                .eq(cursorUpdatedAt)
+                                .and(crawledProductJpaEntity.id.gt(cursorId)));
+    }
 }
@@ -0,0 +1,200 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.product.repository;
+
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledRawJpaEntity;
+import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CrawledRawJdbcRepository - CrawledRaw JDBC Bulk Repository
+ *
+ * <p>IDENTITY 전략 Entity는 Hibernate JDBC batch가 적용되지 않아 saveAll() 시 건별 INSERT가 발생합니다. SEARCH
+ * 페이지는 상품마다 CrawledRaw를 생성하므로, 신규 CrawledRaw 일괄 저장 시 JDBC batch로 INSERT하여 {@code
+ * rewriteBatchedStatements} 설정에 의해 multi-row INSERT로 전송되도록 합니다.
+ *
+ * <p>가공 결과 상태 반영도 Raw마다 dirty checking UPDATE를 발생시키지 않도록 배치 단위 UPDATE로 처리합니다. PROCESSED는
+ * {@code WHERE id IN (...)}, 행마다 에러 메시지가 다른 FAILED는 {@code CASE id WHEN ...} 단일 UPDATE로 전송합니다.
+ *
+ * <p><strong>트랜잭션:</strong> JdbcTemplate은 JpaTransactionManager가 바인딩한 동일 커넥션을 사용하므로 호출 측
+ * 트랜잭션에 참여합니다.
+ *
+ * <p><strong>시각 바인딩:</strong> Hibernate의 {@link Instant} 기본 매핑(TIMESTAMP_UTC)과 동일하게 UTC 기준으로
+ * 바인딩합니다.
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>❌ 조회 쿼리 (QueryDslRepository 사용)
+ *   <li>❌ 가공 결과 상태 반영 외 UPDATE (JpaRepository dirty checking 사용)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class CrawledRawJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO crawled_raw (crawl_scheduler_id, seller_id, item_no, crawl_type, raw_data,"
+                    + " status, error_message, created_at, processed_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_PROCESSED_SQL =
+            "UPDATE crawled_raw SET status = ?, error_message = NULL, processed_at = ?"
+                    + " WHERE id IN (%s)";
+
+    private static final String UPDATE_FAILED_SQL =
+            "UPDATE crawled_raw SET status = ?, error_message = CASE id %s END, processed_at = ?"
+                    + " WHERE id IN (%s)";
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CrawledRawJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 신규 CrawledRaw 일괄 INSERT
+     *
+     * <p>MySQL은 multi-row INSERT의 AUTO_INCREMENT 값을 연속 할당하며, 드라이버는 생성 키를 입력 순서대로 반환합니다.
+     *
+     * @param entities 저장할 Entity 목록 (id는 null)
+     * @return 생성된 ID 목록 (입력 순서 유지)
+     */
+    public List<Long> insertAll(List<CrawledRawJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CrawledRawJpaEntity entity = entities.get(i);
+                        ps.setLong(1, entity.getCrawlSchedulerId());
+                        ps.setLong(2, entity.getSellerId());
+                        ps.setLong(3, entity.getItemNo());
+                        ps.setString(4, entity.getCrawlType().name());
+                        ps.setString(5, entity.getRawData());
+                        ps.setString(6, entity.getStatus().name());
+                        if (entity.getErrorMessage() == null) {
+                            ps.setNull(7, Types.VARCHAR);
+                        } else {
+                            ps.setString(7, entity.getErrorMessage());
+                        }
+                        setInstant(ps, 8, entity.getCreatedAt());
+                        setInstant(ps, 9, entity.getProcessedAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entities.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.size() != entities.size()) {
+            throw new IllegalStateException(
+                    "crawled_raw 생성 키 개수 불일치: expected="
+                            + entities.size()
+                            + ", actual="
+                            + keyList.size());
+        }
+        return keyList.stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * PROCESSED 일괄 전환 (에러 메시지 초기화)
+     *
+     * @param ids 대상 CrawledRaw ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsProcessed(List<Long> ids, Instant processedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String sql = String.format(UPDATE_PROCESSED_SQL, placeholders(ids.size()));
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    int index = 1;
+                    ps.setString(index++, RawDataStatus.PROCESSED.name());
+                    setInstant(ps, index++, processedAt);
+                    for (Long id : ids) {
+                        ps.setLong(index++, id);
+                    }
+                });
+    }
+
+    /**
+     * FAILED 일괄 전환 (ID별 에러 메시지)
+     *
+     * @param errorMessagesById CrawledRaw ID별 에러 메시지
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsFailed(Map<Long, String> errorMessagesById, Instant processedAt) {
+        if (errorMessagesById.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(errorMessagesById.entrySet());
+        String cases = String.join(" ", Collections.nCopies(entries.size(), "WHEN ? THEN ?"));
+        String sql = String.format(UPDATE_FAILED_SQL, cases, placeholders(entries.size()));
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    int index = 1;
+                    ps.setString(index++, RawDataStatus.FAILED.name());
+                    for (Map.Entry<Long, String> entry : entries) {
+                        ps.setLong(index++, entry.getKey());
+                        if (entry.getValue() == null) {
+                            ps.setNull(index++, Types.VARCHAR);
+                        } else {
+                            ps.setString(index++, entry.getValue());
+                        }
+                    }
+                    setInstant(ps, index++, processedAt);
+                    for (Map.Entry<Long, String> entry : entries) {
+                        ps.setLong(index++, entry.getKey());
+                    }
+                });
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setInstant(PreparedStatement ps, int index, Instant instant)
+            throws SQLException {
+        if (instant == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+            return;
+        }
+        ps.setTimestamp(index, Timestamp.from(instant), Calendar.getInstance(UTC));
+    }
+}
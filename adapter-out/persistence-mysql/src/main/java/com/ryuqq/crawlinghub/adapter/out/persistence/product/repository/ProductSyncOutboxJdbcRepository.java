@@ -0,0 +1,121 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.product.repository;
+
+import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ProductSyncOutboxJdbcRepository - ProductSyncOutbox JDBC Bulk Repository
+ *
+ * <p>SQS 발행 배치와 상품별 병합 동기화의 상태 전환(PROCESSING/SENT/COMPLETED/FAILED)을 행마다
+ * save()(merge SELECT + UPDATE)로 처리하지 않고 배치당 고정 개수의 문장으로 처리합니다. PROCESSING/SENT/COMPLETED는
+ * {@code WHERE id IN (...)} 단일 UPDATE, 행마다 오류 메시지가 다른 FAILED는 JDBC batch UPDATE로 전송합니다.
+ *
+ * <p><strong>트랜잭션:</strong> JdbcTemplate은 JpaTransactionManager가 바인딩한 동일 커넥션을 사용하므로 호출 측
+ * 트랜잭션에 참여합니다.
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>❌ 조회 쿼리 (QueryDslRepository 사용)
+ *   <li>❌ 발행 배치 상태 전환 외 UPDATE (JpaRepository 사용)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class ProductSyncOutboxJdbcRepository {
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE product_sync_outbox SET status = ?, error_message = NULL, processed_at = ?"
+                    + " WHERE id IN (%s)";
+
+    private static final String UPDATE_FAILED_SQL =
+            "UPDATE product_sync_outbox SET status = ?, retry_count = retry_count + 1,"
+                    + " error_message = ?, processed_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductSyncOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * PROCESSING 일괄 전환
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsProcessing(List<Long> ids, LocalDateTime processedAt) {
+        return updateStatus(ids, ProductOutboxStatus.PROCESSING, processedAt);
+    }
+
+    /**
+     * SENT 일괄 전환 (오류 메시지 초기화)
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsSent(List<Long> ids, LocalDateTime processedAt) {
+        return updateStatus(ids, ProductOutboxStatus.SENT, processedAt);
+    }
+
+    /**
+     * COMPLETED 일괄 전환 (오류 메시지 초기화, external_product_id 유지)
+     *
+     * <p>외부 상품 ID를 저장하지 않으므로 UPDATE 유형 Outbox에만 사용합니다.
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsCompleted(List<Long> ids, LocalDateTime processedAt) {
+        return updateStatus(ids, ProductOutboxStatus.COMPLETED, processedAt);
+    }
+
+    /**
+     * FAILED 일괄 전환 (retry_count 1 증가, 행별 오류 메시지)
+     *
+     * @param errorMessagesById Outbox ID별 오류 메시지
+     * @param processedAt 처리 시각
+     */
+    public void markAllAsFailed(Map<Long, String> errorMessagesById, LocalDateTime processedAt) {
+        if (errorMessagesById.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(errorMessagesById.entrySet());
+        jdbcTemplate.batchUpdate(
+                UPDATE_FAILED_SQL,
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setString(1, ProductOutboxStatus.FAILED.name());
+                    ps.setString(2, entry.getValue());
+                    ps.setObject(3, processedAt);
+                    ps.setLong(4, entry.getKey());
+                });
+    }
+
+    private int updateStatus(
+            List<Long> ids, ProductOutboxStatus status, LocalDateTime processedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(status.name());
+        args.add(processedAt);
+        args.addAll(ids);
+        return jdbcTemplate.update(String.format(UPDATE_STATUS_SQL, placeholders), args.toArray());
+    }
+}
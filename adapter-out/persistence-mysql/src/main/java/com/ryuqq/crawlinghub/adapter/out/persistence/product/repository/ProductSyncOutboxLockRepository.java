@@ -0,0 +1,72 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.product.repository;
+
+import static com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.QProductSyncOutboxJpaEntity.productSyncOutboxJpaEntity;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.ProductSyncOutboxJpaEntity;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ProductSyncOutboxLockRepository - ProductSyncOutbox Lock Repository
+ *
+ * <p>여러 스케줄러 인스턴스가 PENDING Outbox를 겹치지 않게 선점하고, 여러 SQS 컨슈머가 같은 상품의 SENT Outbox를 겹치지 않게
+ * 병합하기 위한 비관적 락 조회를 담당합니다.
+ *
+ * <p><strong>SKIP LOCKED:</strong> 다른 트랜잭션이 이미 잠근 행은 대기하지 않고 건너뜁니다. 호출 측 트랜잭션 안에서
+ * PROCESSING 전환까지 마쳐야 선점이 유지됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class ProductSyncOutboxLockRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ProductSyncOutboxLockRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * PENDING 상태 Outbox 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>(status, created_at) 인덱스 순서대로 읽으며 limit 건만 잠급니다.
+     *
+     * @param limit 조회 개수 제한
+     * @return 잠금을 획득한 PENDING 상태의 ProductSyncOutboxJpaEntity 목록
+     */
+    public List<ProductSyncOutboxJpaEntity> findPendingOutboxesForUpdateSkipLocked(int limit) {
+        return queryFactory
+                .selectFrom(productSyncOutboxJpaEntity)
+                .where(productSyncOutboxJpaEntity.status.eq(ProductOutboxStatus.PENDING))
+                .orderBy(productSyncOutboxJpaEntity.createdAt.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    /**
+     * 지정한 ID의 SENT 상태 Outbox 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>PK IN 조회이므로 지정한 행만 잠급니다. 이미 잠긴 행과 SENT가 아닌 행(다른 컨슈머가 선점한 행)은 결과에서 빠집니다.
+     *
+     * @param ids Outbox ID 목록
+     * @return 잠금을 획득한 SENT 상태의 ProductSyncOutboxJpaEntity 목록
+     */
+    public List<ProductSyncOutboxJpaEntity> findSentByIdsForUpdateSkipLocked(List<Long> ids) {
+        return queryFactory
+                .selectFrom(productSyncOutboxJpaEntity)
+                .where(
+                        productSyncOutboxJpaEntity.id.in(ids),
+                        productSyncOutboxJpaEntity.status.eq(ProductOutboxStatus.SENT))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+}
@@ -6,6 +6,7 @@ import com.ryuqq.crawlinghub.adapter.out.persistence.schedule.repository.CrawlSc
 import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlScheduleQueryPort;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.util.List;
@@ -24,6 +25,7 @@ import org.springframework.stereotype.Component;
  *   <li>존재 여부 확인 (existsBySellerIdAndSchedulerName)
  *   <li>목록 조회 (findByCriteria)
  *   <li>카운트 조회 (count)
+ *   <li>커서 목록/카운트 조회 (findByCursorCriteria, countByCursorCriteria)
  *   <li>QueryDslRepository 호출
  *   <li>Mapper를 통한 Entity → Domain 변환
  * </ul>
@@ -98,6 +100,30 @@ public class CrawlSchedulerQueryAdapter implements CrawlScheduleQueryPort {
         return queryDslRepository.countByCriteria(criteria);
     }
 
+    /**
+     * 커서 조건으로 CrawlScheduler 목록 조회
+     *
+     * @param criteria 커서 조회 조건
+     * @return CrawlScheduler Domain 목록 (최대 fetchSize건)
+     */
+    @Override
+    public List<CrawlScheduler> findByCursorCriteria(CrawlSchedulerCursorCriteria criteria) {
+        List<CrawlSchedulerJpaEntity> entities =
+                queryDslRepository.findByCursorCriteria(criteria);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    /**
+     * 커서 조건의 필터로 CrawlScheduler 개수 조회
+     *
+     * @param criteria 커서 조회 조건
+     * @return CrawlScheduler 개수
+     */
+    @Override
+    public long countByCursorCriteria(CrawlSchedulerCursorCriteria criteria) {
+        return queryDslRepository.countByCursorCriteria(criteria);
+    }
+
     /**
      * 셀러별 활성 스케줄러 목록 조회
      *
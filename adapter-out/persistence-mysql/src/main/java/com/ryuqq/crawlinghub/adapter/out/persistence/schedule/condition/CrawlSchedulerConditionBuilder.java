@@ -1,15 +1,21 @@
 package com.ryuqq.crawlinghub.adapter.out.persistence.schedule.condition;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.ryuqq.crawlinghub.adapter.out.persistence.schedule.entity.QCrawlSchedulerJpaEntity;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchField;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import org.springframework.stereotype.Component;
 
 /**
  * CrawlSchedulerConditionBuilder - 검색 조건 빌더
  *
- * <p>CrawlSchedulerSearchCriteria를 BooleanExpression으로 변환합니다.
+ * <p>CrawlSchedulerSearchCriteria/CrawlSchedulerCursorCriteria를 BooleanExpression으로 변환합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -61,4 +67,92 @@ public class CrawlSchedulerConditionBuilder {
         }
         return null;
     }
+
+    /**
+     * 셀러 ID 조건 (커서 조회)
+     *
+     * @param criteria 커서 조회 조건
+     * @return BooleanExpression (조건 없으면 null)
+     */
+    public BooleanExpression sellerIdEq(CrawlSchedulerCursorCriteria criteria) {
+        if (!criteria.hasSellerFilter()) {
+            return null;
+        }
+        return qScheduler.sellerId.eq(criteria.sellerId().value());
+    }
+
+    /**
+     * 상태 IN 조건 (커서 조회)
+     *
+     * @param criteria 커서 조회 조건
+     * @return BooleanExpression (조건 없으면 null)
+     */
+    public BooleanExpression statusIn(CrawlSchedulerCursorCriteria criteria) {
+        if (!criteria.hasStatusFilter()) {
+            return null;
+        }
+        return qScheduler.status.in(criteria.statuses());
+    }
+
+    /**
+     * 검색어 LIKE 조건 (커서 조회)
+     *
+     * @param criteria 커서 조회 조건
+     * @return BooleanExpression (조건 없으면 null)
+     */
+    public BooleanExpression searchCondition(CrawlSchedulerCursorCriteria criteria) {
+        if (!criteria.hasSearchCondition()) {
+            return null;
+        }
+        if (criteria.searchField() == CrawlSchedulerSearchField.SCHEDULER_NAME) {
+            return qScheduler.schedulerName.containsIgnoreCase(criteria.searchWord());
+        }
+        return null;
+    }
+
+    /**
+     * keyset 커서 이후 조건
+     *
+     * <p>{@code (sort_key, id)} 튜플이 커서보다 뒤인 행만 남깁니다. 내림차순이면 {@code sort_key < v OR (sort_key =
+     * v AND id < cursorId)}, 오름차순이면 부등호가 반대입니다.
+     *
+     * @param criteria 커서 조회 조건
+     * @return BooleanExpression (첫 슬라이스면 null)
+     */
+    public BooleanExpression keysetAfter(CrawlSchedulerCursorCriteria criteria) {
+        if (!criteria.hasCursor()) {
+            return null;
+        }
+        KeysetCursor cursor = criteria.cursor();
+        boolean ascending = criteria.isAscending();
+        return switch (criteria.sortKey()) {
+            case CREATED_AT ->
+                    after(
+                            qScheduler.createdAt,
+                            toLocalDateTime(cursor.sortValue()),
+                            cursor.id(),
+                            ascending);
+            case UPDATED_AT ->
+                    after(
+                            qScheduler.updatedAt,
+                            toLocalDateTime(cursor.sortValue()),
+                            cursor.id(),
+                            ascending);
+            case SCHEDULER_NAME ->
+                    after(qScheduler.schedulerName, cursor.sortValue(), cursor.id(), ascending);
+        };
+    }
+
+    private <T extends Comparable<?>> BooleanExpression after(
+            ComparableExpression<T> path, T value, long id, boolean ascending) {
+        BooleanExpression beyond = ascending ? path.gt(value) : path.lt(value);
+        BooleanExpression sameKey =
+                path.eq(value).and(ascending ? qScheduler.id.gt(id) : qScheduler.id.lt(id));
+        return beyond.or(sameKey);
+    }
+
+    /** Entity 매퍼와 같은 시스템 기본 시간대로 변환합니다. */
+    private LocalDateTime toLocalDateTime(String instant) {
+        return LocalDateTime.ofInstant(Instant.parse(instant), ZoneId.systemDefault());
+    }
 }
@@ -6,6 +6,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.crawlinghub.adapter.out.persistence.schedule.condition.CrawlSchedulerConditionBuilder;
 import com.ryuqq.crawlinghub.adapter.out.persistence.schedule.entity.CrawlSchedulerJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.schedule.entity.QCrawlSchedulerJpaEntity;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSortKey;
 import com.ryuqq.crawlinghub.domain.schedule.vo.SchedulerStatus;
@@ -123,6 +124,48 @@ public class CrawlSchedulerQueryDslRepository {
         return count != null ? count : 0L;
     }
 
+    /**
+     * 커서 조건으로 CrawlScheduler 목록 조회
+     *
+     * <p>{@code (정렬 키, id)} keyset 페이징입니다. 정렬 키 인덱스 순서로 커서 이후부터 읽어 fetchSize(size + 1)건에서
+     * 멈추므로 깊은 슬라이스도 OFFSET 스캔 없이 조회합니다.
+     *
+     * @param criteria 커서 조회 조건 (CrawlSchedulerCursorCriteria)
+     * @return CrawlSchedulerJpaEntity 목록 (최대 fetchSize건)
+     */
+    public List<CrawlSchedulerJpaEntity> findByCursorCriteria(
+            CrawlSchedulerCursorCriteria criteria) {
+        return queryFactory
+                .selectFrom(qScheduler)
+                .where(
+                        conditionBuilder.sellerIdEq(criteria),
+                        conditionBuilder.statusIn(criteria),
+                        conditionBuilder.searchCondition(criteria),
+                        conditionBuilder.keysetAfter(criteria))
+                .orderBy(resolveKeysetOrderSpecifiers(criteria))
+                .limit(criteria.fetchSize())
+                .fetch();
+    }
+
+    /**
+     * 커서 조건의 필터로 CrawlScheduler 개수 조회 (커서 위치 무관)
+     *
+     * @param criteria 커서 조회 조건 (CrawlSchedulerCursorCriteria)
+     * @return CrawlScheduler 개수
+     */
+    public long countByCursorCriteria(CrawlSchedulerCursorCriteria criteria) {
+        Long count =
+                queryFactory
+                        .select(qScheduler.count())
+                        .from(qScheduler)
+                        .where(
+                                conditionBuilder.sellerIdEq(criteria),
+                                conditionBuilder.statusIn(criteria),
+                                conditionBuilder.searchCondition(criteria))
+                        .fetchOne();
+        return count != null ? count : 0L;
+    }
+
     /**
      * 셀러 ID로 활성 스케줄러 목록 조회
      *
@@ -206,4 +249,25 @@ public class CrawlSchedulerQueryDslRepository {
 
         return ascending ? path.asc() : path.desc();
     }
+
+    /**
+     * keyset 정렬 (정렬 키 + id 타이브레이커, 같은 방향)
+     *
+     * @param criteria 커서 조회 조건
+     * @return OrderSpecifier 배열
+     */
+    private OrderSpecifier<?>[] resolveKeysetOrderSpecifiers(
+            CrawlSchedulerCursorCriteria criteria) {
+        ComparableExpressionBase<?> path =
+                switch (criteria.sortKey()) {
+                    case CREATED_AT -> qScheduler.createdAt;
+                    case UPDATED_AT -> qScheduler.updatedAt;
+                    case SCHEDULER_NAME -> qScheduler.schedulerName;
+                };
+
+        if (criteria.isAscending()) {
+            return new OrderSpecifier<?>[] {path.asc(), qScheduler.id.asc()};
+        }
+        return new OrderSpecifier<?>[] {path.desc(), qScheduler.id.desc()};
+    }
 }
@@ -6,6 +6,7 @@ import com.ryuqq.crawlinghub.adapter.out.persistence.seller.repository.SellerQue
 import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerQueryPort;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.seller.query.SellerQueryCriteria;
 import com.ryuqq.crawlinghub.domain.seller.vo.MustItSellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Component;
  *   <li>존재 여부 확인 (existsById, existsByMustItSellerName, existsBySellerName)
  *   <li>목록 조회 (findByCriteria)
  *   <li>카운트 조회 (countByCriteria)
+ *   <li>커서 목록/카운트 조회 (findByCursorCriteria, countByCursorCriteria)
  *   <li>QueryDslRepository 호출
  *   <li>Mapper를 통한 Entity → Domain 변환
  * </ul>
@@ -150,4 +152,27 @@ public class SellerQueryAdapter implements SellerQueryPort {
     public long countByCriteria(SellerQueryCriteria criteria) {
         return queryDslRepository.countByCriteria(criteria);
     }
+
+    /**
+     * 커서 조건으로 Seller 목록 조회
+     *
+     * @param criteria 커서 검색 조건
+     * @return Seller Domain 목록 (최대 fetchSize건)
+     */
+    @Override
+    public List<Seller> findByCursorCriteria(SellerCursorCriteria criteria) {
+        List<SellerJpaEntity> entities = queryDslRepository.findByCursorCriteria(criteria);
+        return entities.stream().map(sellerJpaEntityMapper::toDomain).toList();
+    }
+
+    /**
+     * 커서 조건의 필터로 Seller 개수 조회
+     *
+     * @param criteria 커서 검색 조건
+     * @return Seller 개수
+     */
+    @Override
+    public long countByCursorCriteria(SellerCursorCriteria criteria) {
+        return queryDslRepository.countByCursorCriteria(criteria);
+    }
 }
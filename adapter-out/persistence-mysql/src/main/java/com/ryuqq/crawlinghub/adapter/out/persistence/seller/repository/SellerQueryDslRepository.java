@@ -1,10 +1,16 @@
 package com.ryuqq.crawlinghub.adapter.out.persistence.seller.repository;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.crawlinghub.adapter.out.persistence.seller.entity.QSellerJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.seller.entity.SellerJpaEntity;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.seller.query.SellerQueryCriteria;
+import com.ryuqq.crawlinghub.domain.seller.vo.MustItSellerName;
+import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerStatus;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -36,6 +42,7 @@ import org.springframework.stereotype.Repository;
  * <ul>
  *   <li>동적 쿼리 구성 (BooleanExpression)
  *   <li>Offset 페이징
+ *   <li>Keyset 커서 페이징 ({@code (정렬 키, id)})
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -122,6 +129,47 @@ public class SellerQueryDslRepository {
         return count != null ? count : 0L;
     }
 
+    /**
+     * 커서 조건으로 Seller 목록 조회
+     *
+     * <p>{@code (정렬 키, id)} keyset 페이징입니다. 정렬 키 인덱스 순서로 커서 이후부터 읽어 fetchSize(size + 1)건에서
+     * 멈추므로 깊은 슬라이스도 OFFSET 스캔 없이 조회합니다.
+     *
+     * @param criteria 커서 검색 조건 (SellerCursorCriteria)
+     * @return SellerJpaEntity 목록 (최대 fetchSize건)
+     */
+    public List<SellerJpaEntity> findByCursorCriteria(SellerCursorCriteria criteria) {
+        BooleanExpression expression = buildSearchConditions(criteria);
+        BooleanExpression cursorCondition = keysetAfter(criteria);
+        if (cursorCondition != null) {
+            expression = expression != null ? expression.and(cursorCondition) : cursorCondition;
+        }
+
+        return queryFactory
+                .selectFrom(qSeller)
+                .where(expression)
+                .orderBy(resolveKeysetOrderSpecifiers(criteria))
+                .limit(criteria.fetchSize())
+                .fetch();
+    }
+
+    /**
+     * 커서 조건의 필터로 Seller 개수 조회 (커서 위치 무관)
+     *
+     * @param criteria 커서 검색 조건 (SellerCursorCriteria)
+     * @return Seller 개수
+     */
+    public long countByCursorCriteria(SellerCursorCriteria criteria) {
+        Long count =
+                queryFactory
+                        .select(qSeller.count())
+                        .from(qSeller)
+                        .where(buildSearchConditions(criteria))
+                        .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+
     /**
      * MustItSellerName 존재 여부 확인
      *
@@ -200,13 +248,35 @@ public class SellerQueryDslRepository {
      * <p>BooleanExpression을 사용하여 동적 쿼리를 구성합니다.
      */
     private BooleanExpression buildSearchConditions(SellerQueryCriteria criteria) {
+        return buildSearchConditions(
+                criteria.mustItSellerName(),
+                criteria.sellerName(),
+                criteria.statuses(),
+                criteria.createdFrom(),
+                criteria.createdTo());
+    }
+
+    private BooleanExpression buildSearchConditions(SellerCursorCriteria criteria) {
+        return buildSearchConditions(
+                criteria.mustItSellerName(),
+                criteria.sellerName(),
+                criteria.statuses(),
+                criteria.createdFrom(),
+                criteria.createdTo());
+    }
+
+    private BooleanExpression buildSearchConditions(
+            MustItSellerName mustItSellerName,
+            SellerName sellerName,
+            List<SellerStatus> statuses,
+            Instant createdFrom,
+            Instant createdTo) {
         BooleanExpression expression = null;
 
         // 조건 1: 머스트잇 셀러명 (부분 일치 검색)
-        if (criteria.mustItSellerName() != null) {
+        if (mustItSellerName != null) {
             BooleanExpression mustItSellerNameCondition =
-                    qSeller.mustItSellerName.containsIgnoreCase(
-                            criteria.mustItSellerName().value());
+                    qSeller.mustItSellerName.containsIgnoreCase(mustItSellerName.value());
             expression =
                     expression != null
                             ? expression.and(mustItSellerNameCondition)
@@ -214,21 +284,21 @@ public class SellerQueryDslRepository {
         }
 
         // 조건 2: 셀러명 (부분 일치 검색)
-        if (criteria.sellerName() != null) {
+        if (sellerName != null) {
             BooleanExpression sellerNameCondition =
-                    qSeller.sellerName.containsIgnoreCase(criteria.sellerName().value());
+                    qSeller.sellerName.containsIgnoreCase(sellerName.value());
             expression =
                     expression != null ? expression.and(sellerNameCondition) : sellerNameCondition;
         }
 
         // 조건 3: 상태 (다중 상태 IN 조건)
-        BooleanExpression statusesCondition = statusesIn(criteria.statuses());
+        BooleanExpression statusesCondition = statusesIn(statuses);
         if (statusesCondition != null) {
             expression = expression != null ? expression.and(statusesCondition) : statusesCondition;
         }
 
         // 조건 4: 생성일 시작
-        BooleanExpression createdFromCondition = createdAtGoe(criteria.createdFrom());
+        BooleanExpression createdFromCondition = createdAtGoe(createdFrom);
         if (createdFromCondition != null) {
             expression =
                     expression != null
@@ -237,7 +307,7 @@ public class SellerQueryDslRepository {
         }
 
         // 조건 5: 생성일 종료
-        BooleanExpression createdToCondition = createdAtLoe(criteria.createdTo());
+        BooleanExpression createdToCondition = createdAtLoe(createdTo);
         if (createdToCondition != null) {
             expression =
                     expression != null ? expression.and(createdToCondition) : createdToCondition;
@@ -246,6 +316,53 @@ public class SellerQueryDslRepository {
         return expression;
     }
 
+    /**
+     * keyset 커서 이후 조건
+     *
+     * <p>{@code (sort_key, id)} 튜플이 커서보다 뒤인 행만 남깁니다. 내림차순이면 {@code sort_key < v OR (sort_key =
+     * v AND id < cursorId)}, 오름차순이면 부등호가 반대입니다.
+     *
+     * @param criteria 커서 검색 조건
+     * @return BooleanExpression (첫 슬라이스면 null)
+     */
+    private BooleanExpression keysetAfter(SellerCursorCriteria criteria) {
+        if (!criteria.hasCursor()) {
+            return null;
+        }
+        KeysetCursor cursor = criteria.cursor();
+        DateTimePath<LocalDateTime> path = resolveKeysetPath(criteria);
+        LocalDateTime value =
+                LocalDateTime.ofInstant(Instant.parse(cursor.sortValue()), ZoneId.systemDefault());
+        boolean ascending = criteria.isAscending();
+
+        BooleanExpression beyond = ascending ? path.gt(value) : path.lt(value);
+        BooleanExpression sameKey =
+                path.eq(value)
+                        .and(ascending ? qSeller.id.gt(cursor.id()) : qSeller.id.lt(cursor.id()));
+        return beyond.or(sameKey);
+    }
+
+    /**
+     * keyset 정렬 (정렬 키 + id 타이브레이커, 같은 방향)
+     *
+     * @param criteria 커서 검색 조건
+     * @return OrderSpecifier 배열
+     */
+    private OrderSpecifier<?>[] resolveKeysetOrderSpecifiers(SellerCursorCriteria criteria) {
+        DateTimePath<LocalDateTime> path = resolveKeysetPath(criteria);
+        if (criteria.isAscending()) {
+            return new OrderSpecifier<?>[] {path.asc(), qSeller.id.asc()};
+        }
+        return new OrderSpecifier<?>[] {path.desc(), qSeller.id.desc()};
+    }
+
+    private DateTimePath<LocalDateTime> resolveKeysetPath(SellerCursorCriteria criteria) {
+        return switch (criteria.sortKey()) {
+            case CREATED_AT -> qSeller.createdAt;
+            case UPDATED_AT -> qSeller.updatedAt;
+        };
+    }
+
     /**
      * 다중 상태 필터 BooleanExpression
      *
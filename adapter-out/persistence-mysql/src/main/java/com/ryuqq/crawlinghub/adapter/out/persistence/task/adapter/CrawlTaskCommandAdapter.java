@@ -2,10 +2,15 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.task.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.mapper.CrawlTaskJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskJpaRepository;
 import com.ryuqq.crawlinghub.application.task.port.out.command.CrawlTaskPersistencePort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,6 +23,8 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Domain Aggregate → JPA Entity 변환
  *   <li>JpaRepository.save() 호출
+ *   <li>신규 일괄 저장 시 JdbcRepository multi-row INSERT 호출
+ *   <li>발행 배치 PUBLISHED 일괄 전환 시 JdbcRepository 단일 UPDATE 호출
  *   <li>CrawlTaskId 반환
  * </ul>
  *
@@ -36,11 +43,15 @@ import org.springframework.stereotype.Component;
 public class CrawlTaskCommandAdapter implements CrawlTaskPersistencePort {
 
     private final CrawlTaskJpaRepository jpaRepository;
+    private final CrawlTaskJdbcRepository jdbcRepository;
     private final CrawlTaskJpaEntityMapper mapper;
 
     public CrawlTaskCommandAdapter(
-            CrawlTaskJpaRepository jpaRepository, CrawlTaskJpaEntityMapper mapper) {
+            CrawlTaskJpaRepository jpaRepository,
+            CrawlTaskJdbcRepository jdbcRepository,
+            CrawlTaskJpaEntityMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.jdbcRepository = jdbcRepository;
         this.mapper = mapper;
     }
 
@@ -63,4 +74,40 @@ public class CrawlTaskCommandAdapter implements CrawlTaskPersistencePort {
         // 3. ID 반환
         return CrawlTaskId.of(savedEntity.getId());
     }
+
+    /**
+     * 신규 CrawlTask 일괄 저장
+     *
+     * <p>JPA IDENTITY 전략은 건별 INSERT가 발생하므로 JDBC batch(multi-row INSERT)로 저장합니다.
+     *
+     * @param crawlTasks 저장할 신규 CrawlTask 목록
+     * @return 저장된 CrawlTask ID 목록 (입력 순서 유지)
+     */
+    @Override
+    public List<CrawlTaskId> persistAll(List<CrawlTask> crawlTasks) {
+        // 1. Domain → Entity 변환
+        List<CrawlTaskJpaEntity> entities = crawlTasks.stream().map(mapper::toEntity).toList();
+
+        // 2. JDBC 일괄 저장
+        List<Long> savedIds = jdbcRepository.insertAll(entities);
+
+        // 3. ID 반환
+        return savedIds.stream().map(CrawlTaskId::of).toList();
+    }
+
+    /**
+     * WAITING/RETRY 상태 CrawlTask를 PUBLISHED로 일괄 전환
+     *
+     * <p>건별 조회 후 저장하지 않고 상태 조건을 건 단일 UPDATE로 처리합니다.
+     *
+     * @param crawlTaskIds 대상 CrawlTask ID 목록
+     * @param now 전환 시각
+     * @return 전환된 CrawlTask 수
+     */
+    @Override
+    public int markAllAsPublished(List<CrawlTaskId> crawlTaskIds, Instant now) {
+        List<Long> ids = crawlTaskIds.stream().map(CrawlTaskId::value).toList();
+        return jdbcRepository.markAllAsPublished(
+                ids, LocalDateTime.ofInstant(now, ZoneId.systemDefault()));
+    }
 }
@@ -2,9 +2,15 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.task.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.mapper.CrawlTaskOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxJpaRepository;
 import com.ryuqq.crawlinghub.application.task.port.out.command.CrawlTaskOutboxPersistencePort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,6 +23,8 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Domain Aggregate → JPA Entity 변환
  *   <li>JpaRepository.save() 호출
+ *   <li>신규 일괄 저장 시 JdbcRepository multi-row INSERT 호출
+ *   <li>발행 배치 상태 일괄 전환 시 JdbcRepository 단일 UPDATE 호출
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -34,11 +42,15 @@ import org.springframework.stereotype.Component;
 public class CrawlTaskOutboxCommandAdapter implements CrawlTaskOutboxPersistencePort {
 
     private final CrawlTaskOutboxJpaRepository jpaRepository;
+    private final CrawlTaskOutboxJdbcRepository jdbcRepository;
     private final CrawlTaskOutboxJpaEntityMapper mapper;
 
     public CrawlTaskOutboxCommandAdapter(
-            CrawlTaskOutboxJpaRepository jpaRepository, CrawlTaskOutboxJpaEntityMapper mapper) {
+            CrawlTaskOutboxJpaRepository jpaRepository,
+            CrawlTaskOutboxJdbcRepository jdbcRepository,
+            CrawlTaskOutboxJpaEntityMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.jdbcRepository = jdbcRepository;
         this.mapper = mapper;
     }
 
@@ -57,4 +69,62 @@ public class CrawlTaskOutboxCommandAdapter implements CrawlTaskOutboxPersistence
         // 2. JPA 저장
         jpaRepository.save(entity);
     }
+
+    /**
+     * 신규 CrawlTaskOutbox 일괄 저장
+     *
+     * <p>PK(crawl_task_id)가 할당된 상태이므로 JPA save()는 merge SELECT가 선행됩니다. JDBC batch(multi-row
+     * INSERT)로 SELECT 없이 저장합니다.
+     *
+     * @param outboxes 저장할 신규 Outbox 목록
+     */
+    @Override
+    public void persistAll(List<CrawlTaskOutbox> outboxes) {
+        // 1. Domain → Entity 변환
+        List<CrawlTaskOutboxJpaEntity> entities = outboxes.stream().map(mapper::toEntity).toList();
+
+        // 2. JDBC 일괄 저장
+        jdbcRepository.insertAll(entities);
+    }
+
+    /**
+     * PROCESSING 일괄 전환
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsProcessing(List<CrawlTaskId> crawlTaskIds, Instant processedAt) {
+        jdbcRepository.markAllAsProcessing(toLongs(crawlTaskIds), toLocalDateTime(processedAt));
+    }
+
+    /**
+     * SENT 일괄 전환
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsSent(List<CrawlTaskId> crawlTaskIds, Instant processedAt) {
+        jdbcRepository.markAllAsSent(toLongs(crawlTaskIds), toLocalDateTime(processedAt));
+    }
+
+    /**
+     * FAILED 일괄 전환
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     */
+    @Override
+    public void markAllAsFailed(List<CrawlTaskId> crawlTaskIds, Instant processedAt) {
+        jdbcRepository.markAllAsFailed(toLongs(crawlTaskIds), toLocalDateTime(processedAt));
+    }
+
+    private static List<Long> toLongs(List<CrawlTaskId> crawlTaskIds) {
+        return crawlTaskIds.stream().map(CrawlTaskId::value).toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
 }
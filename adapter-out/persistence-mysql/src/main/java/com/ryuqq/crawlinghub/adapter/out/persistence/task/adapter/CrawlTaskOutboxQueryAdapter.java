@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.task.adapter;
 
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.mapper.CrawlTaskOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxLockRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxQueryDslRepository;
 import com.ryuqq.crawlinghub.application.task.port.out.query.CrawlTaskOutboxQueryPort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Task ID로 Outbox 조회 (findByCrawlTaskId)
  *   <li>조건별 목록 조회 (findByCriteria)
+ *   <li>PENDING Outbox 선점 조회 (LockRepository, FOR UPDATE SKIP LOCKED)
  *   <li>QueryDslRepository 호출
  *   <li>Mapper를 통한 Entity → Domain 변환
  * </ul>
@@ -40,12 +42,15 @@ import org.springframework.stereotype.Component;
 public class CrawlTaskOutboxQueryAdapter implements CrawlTaskOutboxQueryPort {
 
     private final CrawlTaskOutboxQueryDslRepository queryDslRepository;
+    private final CrawlTaskOutboxLockRepository lockRepository;
     private final CrawlTaskOutboxJpaEntityMapper mapper;
 
     public CrawlTaskOutboxQueryAdapter(
             CrawlTaskOutboxQueryDslRepository queryDslRepository,
+            CrawlTaskOutboxLockRepository lockRepository,
             CrawlTaskOutboxJpaEntityMapper mapper) {
         this.queryDslRepository = queryDslRepository;
+        this.lockRepository = lockRepository;
         this.mapper = mapper;
     }
 
@@ -101,6 +106,35 @@ public class CrawlTaskOutboxQueryAdapter implements CrawlTaskOutboxQueryPort {
                 .toList();
     }
 
+    /**
+     * delaySeconds 이상 경과한 PENDING 상태 Outbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param limit 최대 조회 건수
+     * @param delaySeconds 생성 후 경과해야 할 최소 시간 (초)
+     * @return 잠금을 획득한 PENDING 상태의 Outbox Domain 목록
+     */
+    @Override
+    public List<CrawlTaskOutbox> findPendingOlderThanForUpdate(int limit, int delaySeconds) {
+        return lockRepository.findPendingOlderThanForUpdateSkipLocked(limit, delaySeconds).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * 지정한 CrawlTask ID의 PENDING 상태 Outbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param crawlTaskIds CrawlTask ID 목록
+     * @return 잠금을 획득한 PENDING 상태의 Outbox Domain 목록
+     */
+    @Override
+    public List<CrawlTaskOutbox> findPendingByCrawlTaskIdsForUpdate(
+            List<CrawlTaskId> crawlTaskIds) {
+        List<Long> ids = crawlTaskIds.stream().map(CrawlTaskId::value).toList();
+        return lockRepository.findPendingByCrawlTaskIdsForUpdateSkipLocked(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     /**
      * timeoutSeconds 이상 PROCESSING 상태인 좀비 Outbox 조회
      *
@@ -10,11 +10,15 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskStatisticsCriteria;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -75,8 +79,7 @@ public class CrawlTaskQueryAdapter implements CrawlTaskQueryPort {
      * @param crawlSchedulerId 스케줄러 ID
      * @param statuses 확인할 상태 목록
      * @return 존재 여부
-     * @deprecated 태스크 유형과 엔드포인트까지 확인하는 {@link
-     *     #existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn} 사용 권장
+     * @deprecated Fingerprint 기반 {@link #existsAny} 사용 권장
      */
     @Deprecated
     @Override
@@ -87,24 +90,34 @@ public class CrawlTaskQueryAdapter implements CrawlTaskQueryPort {
     }
 
     /**
-     * 스케줄러 ID, 태스크 타입, 엔드포인트 조합으로 존재 여부 확인
+     * 주어진 Fingerprint 중 하나라도 지정 상태의 Task가 존재하는지 확인
      *
-     * @param crawlSchedulerId 스케줄러 ID
-     * @param taskType 태스크 유형
-     * @param endpointPath 엔드포인트 경로
-     * @param endpointQueryParams 엔드포인트 쿼리 파라미터 (JSON 문자열)
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
      * @param statuses 확인할 상태 목록
-     * @return 존재 여부
+     * @return 하나라도 존재하면 true
      */
     @Override
-    public boolean existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-            CrawlSchedulerId crawlSchedulerId,
-            CrawlTaskType taskType,
-            String endpointPath,
-            String endpointQueryParams,
-            List<CrawlTaskStatus> statuses) {
-        return queryDslRepository.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                crawlSchedulerId.value(), taskType, endpointPath, endpointQueryParams, statuses);
+    public boolean existsAny(
+            Collection<CrawlTaskFingerprint> fingerprints, List<CrawlTaskStatus> statuses) {
+        return queryDslRepository.existsByFingerprintInAndStatusIn(
+                toFingerprintValues(fingerprints), statuses);
+    }
+
+    /**
+     * 주어진 Fingerprint 중 지정 상태의 Task가 이미 존재하는 Fingerprint 조회
+     *
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
+     * @param statuses 확인할 상태 목록
+     * @return 이미 존재하는 Fingerprint 집합
+     */
+    @Override
+    public Set<CrawlTaskFingerprint> findExistingFingerprints(
+            Collection<CrawlTaskFingerprint> fingerprints, List<CrawlTaskStatus> statuses) {
+        return queryDslRepository
+                .findExistingFingerprints(toFingerprintValues(fingerprints), statuses)
+                .stream()
+                .map(CrawlTaskFingerprint::new)
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -190,4 +203,8 @@ public class CrawlTaskQueryAdapter implements CrawlTaskQueryPort {
                 .map(mapper::toDomain)
                 .toList();
     }
+
+    private Set<String> toFingerprintValues(Collection<CrawlTaskFingerprint> fingerprints) {
+        return fingerprints.stream().map(CrawlTaskFingerprint::value).collect(Collectors.toSet());
+    }
 }
@@ -70,6 +70,15 @@ public class CrawlTaskJpaEntity {
     @Column(name = "endpoint_query_params", columnDefinition = "TEXT")
     private String endpointQueryParams;
 
+    /**
+     * 엔드포인트 Fingerprint (DB 생성 컬럼, 읽기 전용)
+     *
+     * <p>SHA-256(crawl_scheduler_id|task_type|endpoint_path|endpoint_query_params)로 DB가 계산하며,
+     * 중복 Task 판정 인덱스(endpoint_fingerprint, status)에 사용됩니다.
+     */
+    @Column(name = "endpoint_fingerprint", length = 64, insertable = false, updatable = false)
+    private String endpointFingerprint;
+
     /** 현재 상태 */
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
@@ -192,6 +201,10 @@ public class CrawlTaskJpaEntity {
         return endpointQueryParams;
     }
 
+    public String getEndpointFingerprint() {
+        return endpointFingerprint;
+    }
+
     public CrawlTaskStatus getStatus() {
         return status;
     }
@@ -0,0 +1,141 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.task.repository;
+
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskJpaEntity;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CrawlTaskJdbcRepository - CrawlTask JDBC Bulk Repository
+ *
+ * <p>IDENTITY 전략 Entity는 Hibernate JDBC batch가 적용되지 않아 saveAll() 시 건별 INSERT가 발생합니다. 신규
+ * CrawlTask 일괄 저장 시 JDBC batch로 INSERT하여 {@code rewriteBatchedStatements} 설정에 의해 multi-row INSERT로
+ * 전송되도록 합니다.
+ *
+ * <p>Outbox 발행 배치의 WAITING/RETRY → PUBLISHED 전환은 행마다 조회 후 저장하지 않고 상태 조건을 건 단일 UPDATE로
+ * 처리합니다.
+ *
+ * <p><strong>트랜잭션:</strong> JdbcTemplate은 JpaTransactionManager가 바인딩한 동일 커넥션을 사용하므로 호출 측
+ * 트랜잭션에 참여합니다.
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>❌ 조회 쿼리 (QueryDslRepository 사용)
+ *   <li>❌ 기존 행 UPDATE (JpaRepository dirty checking 사용, 발행 배치 상태 일괄 전환 제외)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class CrawlTaskJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO crawl_task (crawl_scheduler_id, seller_id, task_type, endpoint_base_url,"
+                    + " endpoint_path, endpoint_query_params, status, retry_count, created_at,"
+                    + " updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_PUBLISHED_SQL =
+            "UPDATE crawl_task SET status = ?, updated_at = ?"
+                    + " WHERE id IN (%s) AND status IN (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CrawlTaskJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 신규 CrawlTask 일괄 INSERT
+     *
+     * <p>MySQL은 multi-row INSERT의 AUTO_INCREMENT 값을 연속 할당하며, 드라이버는 생성 키를 입력 순서대로 반환합니다.
+     *
+     * @param entities 저장할 Entity 목록 (id는 null)
+     * @return 생성된 ID 목록 (입력 순서 유지)
+     */
+    public List<Long> insertAll(List<CrawlTaskJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CrawlTaskJpaEntity entity = entities.get(i);
+                        ps.setLong(1, entity.getCrawlSchedulerId());
+                        ps.setLong(2, entity.getSellerId());
+                        ps.setString(3, entity.getTaskType().name());
+                        ps.setString(4, entity.getEndpointBaseUrl());
+                        ps.setString(5, entity.getEndpointPath());
+                        if (entity.getEndpointQueryParams() == null) {
+                            ps.setNull(6, Types.LONGVARCHAR);
+                        } else {
+                            ps.setString(6, entity.getEndpointQueryParams());
+                        }
+                        ps.setString(7, entity.getStatus().name());
+                        ps.setInt(8, entity.getRetryCount());
+                        ps.setObject(9, entity.getCreatedAt());
+                        ps.setObject(10, entity.getUpdatedAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entities.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.size() != entities.size()) {
+            throw new IllegalStateException(
+                    "crawl_task 생성 키 개수 불일치: expected="
+                            + entities.size()
+                            + ", actual="
+                            + keyList.size());
+        }
+        return keyList.stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * WAITING/RETRY 상태 CrawlTask를 PUBLISHED로 일괄 전환
+     *
+     * <p>다른 상태(이미 PUBLISHED 이후 단계이거나 종료된 Task)는 조건에서 제외되어 변경되지 않습니다.
+     *
+     * @param ids 대상 CrawlTask ID 목록
+     * @param updatedAt 수정 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsPublished(List<Long> ids, LocalDateTime updatedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 4);
+        args.add(CrawlTaskStatus.PUBLISHED.name());
+        args.add(updatedAt);
+        args.addAll(ids);
+        args.add(CrawlTaskStatus.WAITING.name());
+        args.add(CrawlTaskStatus.RETRY.name());
+        String sql = String.format(UPDATE_PUBLISHED_SQL, placeholders);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,122 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.task.repository;
+
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskOutboxJpaEntity;
+import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CrawlTaskOutboxJdbcRepository - CrawlTaskOutbox JDBC Bulk Repository
+ *
+ * <p>crawl_task_outbox는 crawl_task_id를 PK로 직접 할당하므로 JPA save() 시 merge를 위한 SELECT가 선행됩니다. 신규
+ * Outbox 일괄 저장 시 JDBC batch로 INSERT하여 SELECT 없이 multi-row INSERT로 전송되도록 합니다.
+ *
+ * <p>발행 배치의 상태 전환(PROCESSING/SENT/FAILED)도 같은 이유로 행마다 merge SELECT + UPDATE를 수행하지 않고 {@code
+ * WHERE crawl_task_id IN (...)} 단일 UPDATE로 처리합니다.
+ *
+ * <p><strong>트랜잭션:</strong> JdbcTemplate은 JpaTransactionManager가 바인딩한 동일 커넥션을 사용하므로 호출 측
+ * 트랜잭션에 참여합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class CrawlTaskOutboxJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO crawl_task_outbox (crawl_task_id, idempotency_key, payload, status,"
+                    + " retry_count, created_at, processed_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE crawl_task_outbox SET status = ?, processed_at = ?"
+                    + " WHERE crawl_task_id IN (%s)";
+
+    private static final String UPDATE_FAILED_SQL =
+            "UPDATE crawl_task_outbox SET status = ?, retry_count = retry_count + 1,"
+                    + " processed_at = ? WHERE crawl_task_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CrawlTaskOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 신규 CrawlTaskOutbox 일괄 INSERT
+     *
+     * @param entities 저장할 Entity 목록
+     */
+    public void insertAll(List<CrawlTaskOutboxJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                entities,
+                entities.size(),
+                (ps, entity) -> {
+                    ps.setLong(1, entity.getCrawlTaskId());
+                    ps.setString(2, entity.getIdempotencyKey());
+                    ps.setString(3, entity.getPayload());
+                    ps.setString(4, entity.getStatus().name());
+                    ps.setInt(5, entity.getRetryCount());
+                    ps.setObject(6, entity.getCreatedAt());
+                    ps.setObject(7, entity.getProcessedAt());
+                });
+    }
+
+    /**
+     * PROCESSING 일괄 전환
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsProcessing(List<Long> crawlTaskIds, LocalDateTime processedAt) {
+        return updateByIds(UPDATE_STATUS_SQL, crawlTaskIds, OutboxStatus.PROCESSING, processedAt);
+    }
+
+    /**
+     * SENT 일괄 전환
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsSent(List<Long> crawlTaskIds, LocalDateTime processedAt) {
+        return updateByIds(UPDATE_STATUS_SQL, crawlTaskIds, OutboxStatus.SENT, processedAt);
+    }
+
+    /**
+     * FAILED 일괄 전환 (retry_count 1 증가)
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     * @return 변경된 행 수
+     */
+    public int markAllAsFailed(List<Long> crawlTaskIds, LocalDateTime processedAt) {
+        return updateByIds(UPDATE_FAILED_SQL, crawlTaskIds, OutboxStatus.FAILED, processedAt);
+    }
+
+    private int updateByIds(
+            String sqlTemplate,
+            List<Long> crawlTaskIds,
+            OutboxStatus status,
+            LocalDateTime processedAt) {
+        if (crawlTaskIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(crawlTaskIds.size(), "?"));
+        List<Object> args = new ArrayList<>(crawlTaskIds.size() + 2);
+        args.add(status.name());
+        args.add(processedAt);
+        args.addAll(crawlTaskIds);
+        return jdbcTemplate.update(String.format(sqlTemplate, placeholders), args.toArray());
+    }
+}
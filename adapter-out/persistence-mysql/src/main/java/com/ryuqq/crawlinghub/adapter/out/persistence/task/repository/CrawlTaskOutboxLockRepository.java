@@ -0,0 +1,79 @@
+package com.ryuqq.crawlinghub.adapter.out.persistence.task.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskOutboxJpaEntity;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.QCrawlTaskOutboxJpaEntity;
+import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CrawlTaskOutboxLockRepository - CrawlTaskOutbox Lock Repository
+ *
+ * <p>여러 스케줄러 인스턴스가 PENDING Outbox를 겹치지 않게 선점하기 위한 비관적 락 조회를 담당합니다.
+ *
+ * <p><strong>SKIP LOCKED:</strong> 다른 트랜잭션이 이미 잠근 행은 대기하지 않고 건너뛰므로, 동시에 폴링하는 인스턴스는
+ * 서로 다른 배치를 가져갑니다. 호출 측 트랜잭션 안에서 PROCESSING 전환까지 마쳐야 선점이 유지됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class CrawlTaskOutboxLockRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private static final QCrawlTaskOutboxJpaEntity qOutbox =
+            QCrawlTaskOutboxJpaEntity.crawlTaskOutboxJpaEntity;
+
+    public CrawlTaskOutboxLockRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * delaySeconds 이상 경과한 PENDING 상태 Outbox 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>idx_status_created_at 인덱스 순서대로 읽으며 limit 건만 잠급니다.
+     *
+     * @param limit 최대 조회 건수
+     * @param delaySeconds 생성 후 경과해야 할 최소 시간 (초)
+     * @return 잠금을 획득한 PENDING 상태의 CrawlTaskOutboxJpaEntity 목록
+     */
+    public List<CrawlTaskOutboxJpaEntity> findPendingOlderThanForUpdateSkipLocked(
+            int limit, int delaySeconds) {
+        LocalDateTime threshold = LocalDateTime.now(ZoneOffset.UTC).minusSeconds(delaySeconds);
+        return queryFactory
+                .selectFrom(qOutbox)
+                .where(qOutbox.status.eq(OutboxStatus.PENDING).and(qOutbox.createdAt.lt(threshold)))
+                .orderBy(qOutbox.createdAt.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    /**
+     * 지정한 CrawlTask ID의 PENDING 상태 Outbox 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>PK(crawl_task_id) IN 조회이므로 지정한 행만 잠급니다. 이미 잠긴 행과 PENDING이 아닌 행은 결과에서 빠집니다.
+     *
+     * @param crawlTaskIds CrawlTask ID 목록
+     * @return 잠금을 획득한 PENDING 상태의 CrawlTaskOutboxJpaEntity 목록
+     */
+    public List<CrawlTaskOutboxJpaEntity> findPendingByCrawlTaskIdsForUpdateSkipLocked(
+            List<Long> crawlTaskIds) {
+        return queryFactory
+                .selectFrom(qOutbox)
+                .where(
+                        qOutbox.crawlTaskId
+                                .in(crawlTaskIds)
+                                .and(qOutbox.status.eq(OutboxStatus.PENDING)))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+}
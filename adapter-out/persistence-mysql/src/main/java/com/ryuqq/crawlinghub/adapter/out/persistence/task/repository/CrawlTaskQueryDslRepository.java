@@ -15,6 +15,7 @@ import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -73,8 +74,7 @@ public class CrawlTaskQueryDslRepository {
      * @param crawlSchedulerId 스케줄러 ID
      * @param statuses 확인할 상태 목록
      * @return 존재 여부
-     * @deprecated 태스크 유형과 엔드포인트까지 확인하는 {@link
-     *     #existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn} 사용 권장
+     * @deprecated Fingerprint 기반 {@link #existsByFingerprintInAndStatusIn} 사용 권장
      */
     @Deprecated
     public boolean existsBySchedulerIdAndStatusIn(
@@ -92,46 +92,55 @@ public class CrawlTaskQueryDslRepository {
     }
 
     /**
-     * 스케줄러 ID, 태스크 타입, 엔드포인트 조합으로 존재 여부 확인
+     * 주어진 Fingerprint 중 하나라도 지정 상태의 Task가 존재하는지 확인
      *
-     * <p>동일 스케줄러 내에서도 태스크 타입과 엔드포인트가 다르면 별개의 태스크입니다.
+     * <p>(endpoint_fingerprint, status) 커버링 인덱스만으로 판정합니다.
      *
-     * @param crawlSchedulerId 스케줄러 ID
-     * @param taskType 태스크 유형
-     * @param endpointPath 엔드포인트 경로
-     * @param endpointQueryParams 엔드포인트 쿼리 파라미터 (JSON 문자열)
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
      * @param statuses 확인할 상태 목록
-     * @return 존재 여부
+     * @return 하나라도 존재하면 true
      */
-    public boolean existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-            Long crawlSchedulerId,
-            CrawlTaskType taskType,
-            String endpointPath,
-            String endpointQueryParams,
-            List<CrawlTaskStatus> statuses) {
-        BooleanExpression condition =
-                qTask.crawlSchedulerId
-                        .eq(crawlSchedulerId)
-                        .and(qTask.taskType.eq(taskType))
-                        .and(qTask.endpointPath.eq(endpointPath))
-                        .and(qTask.status.in(statuses));
-
-        // endpointQueryParams null 또는 빈 문자열 처리
-        if (endpointQueryParams == null || endpointQueryParams.isEmpty()) {
-            condition =
-                    condition.and(
-                            qTask.endpointQueryParams
-                                    .isNull()
-                                    .or(qTask.endpointQueryParams.eq("")));
-        } else {
-            condition = condition.and(qTask.endpointQueryParams.eq(endpointQueryParams));
+    public boolean existsByFingerprintInAndStatusIn(
+            Collection<String> fingerprints, List<CrawlTaskStatus> statuses) {
+        if (fingerprints.isEmpty()) {
+            return false;
         }
 
-        Integer count = queryFactory.selectOne().from(qTask).where(condition).fetchFirst();
+        Integer count =
+                queryFactory
+                        .selectOne()
+                        .from(qTask)
+                        .where(
+                                qTask.endpointFingerprint.in(fingerprints),
+                                qTask.status.in(statuses))
+                        .fetchFirst();
 
         return count != null;
     }
 
+    /**
+     * 주어진 Fingerprint 중 지정 상태의 Task가 이미 존재하는 Fingerprint 조회
+     *
+     * <p>(endpoint_fingerprint, status) 커버링 인덱스만으로 판정합니다.
+     *
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
+     * @param statuses 확인할 상태 목록
+     * @return 이미 존재하는 Fingerprint 목록 (중복 제거)
+     */
+    public List<String> findExistingFingerprints(
+            Collection<String> fingerprints, List<CrawlTaskStatus> statuses) {
+        if (fingerprints.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(qTask.endpointFingerprint)
+                .distinct()
+                .from(qTask)
+                .where(qTask.endpointFingerprint.in(fingerprints), qTask.status.in(statuses))
+                .fetch();
+    }
+
     /**
      * 검색 조건으로 CrawlTask 목록 조회
      *
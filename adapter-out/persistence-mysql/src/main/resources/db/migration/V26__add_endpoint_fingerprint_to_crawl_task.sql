@@ -0,0 +1,23 @@
+-- V26__add_endpoint_fingerprint_to_crawl_task.sql
+-- crawl_task 중복 판정용 엔드포인트 fingerprint 컬럼 및 커버링 인덱스 추가
+--
+-- 기존 중복 검증은 endpoint_path + endpoint_query_params(TEXT) 비교로 인덱스를 타지 못했습니다.
+-- fingerprint = SHA-256(crawl_scheduler_id|task_type|endpoint_path|endpoint_query_params)
+-- 도메인 CrawlTaskFingerprint.of()와 동일한 형식이므로 한쪽만 변경하면 안 됩니다.
+-- STORED 생성 컬럼이므로 JPA/JDBC/수동 INSERT 모두 자동으로 값이 채워지며 기존 행도 함께 백필됩니다.
+
+-- =====================================================
+-- 1. endpoint_fingerprint 생성 컬럼 추가
+-- =====================================================
+ALTER TABLE crawl_task
+ADD COLUMN endpoint_fingerprint VARCHAR(64)
+    GENERATED ALWAYS AS (
+        SHA2(CONCAT(crawl_scheduler_id, '|', task_type, '|', endpoint_path, '|',
+                    COALESCE(endpoint_query_params, '')), 256)
+    ) STORED COMMENT '엔드포인트 fingerprint (중복 Task 판정용 SHA-256)'
+AFTER endpoint_query_params;
+
+-- =====================================================
+-- 2. (endpoint_fingerprint, status) 커버링 인덱스 추가
+-- =====================================================
+CREATE INDEX idx_crawl_task_fingerprint_status ON crawl_task (endpoint_fingerprint, status);
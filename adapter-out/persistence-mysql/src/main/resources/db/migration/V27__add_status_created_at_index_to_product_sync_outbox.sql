@@ -0,0 +1,9 @@
+-- V27__add_status_created_at_index_to_product_sync_outbox.sql
+-- product_sync_outbox 선점 조회(FOR UPDATE SKIP LOCKED)용 (status, created_at) 인덱스 추가
+--
+-- PENDING 선점 쿼리는 created_at 오름차순 + LIMIT으로 조회합니다.
+-- status 단일 인덱스만 있으면 정렬을 위해 PENDING 행 전체를 읽으면서 모두 잠그므로,
+-- 먼저 조회한 인스턴스가 다른 인스턴스의 몫까지 잠가 버립니다.
+-- 인덱스 순서로 읽으면 LIMIT 건만 잠겨 인스턴스별로 서로 다른 배치를 선점합니다.
+
+CREATE INDEX idx_product_sync_outbox_status_created ON product_sync_outbox (status, created_at);
@@ -0,0 +1,8 @@
+-- V28__add_updated_deleted_index_to_crawled_product.sql
+-- crawled_product 갱신 대상(stale) 조회용 (updated_at, deleted_at) 인덱스 추가
+--
+-- stale 조회는 deleted_at IS NULL 조건 + updated_at 오름차순 + LIMIT으로 조회합니다.
+-- 인덱스가 없으면 전체 행을 filesort하므로, 인덱스 순서로 읽어 LIMIT 건에서 멈추도록 합니다.
+-- 조회 컬럼은 seller_id, item_no로 한정(projection)해 LONGTEXT 컬럼을 읽지 않습니다.
+
+CREATE INDEX idx_crawled_product_updated_deleted ON crawled_product (updated_at, deleted_at);
@@ -0,0 +1,10 @@
+-- V29__add_keyset_indexes_to_crawl_scheduler.sql
+-- crawl_scheduler 커서(keyset) 조회용 (정렬 키, id) 인덱스 추가
+--
+-- 커서 조회는 (sort_key, id) 튜플이 커서보다 뒤인 행을 같은 순서로 읽어 LIMIT size + 1건에서 멈춥니다.
+-- 정렬 키별 인덱스가 없으면 조건에 맞는 전체 행을 filesort하므로 지원하는 정렬 키마다 인덱스를 둡니다.
+-- seller 커서 조회는 PK(id) 순서만 사용하므로 별도 인덱스가 필요 없습니다.
+
+CREATE INDEX idx_crawl_scheduler_created_at_id ON crawl_scheduler (created_at, id);
+CREATE INDEX idx_crawl_scheduler_updated_at_id ON crawl_scheduler (updated_at, id);
+CREATE INDEX idx_crawl_scheduler_name_id ON crawl_scheduler (scheduler_name, id);
@@ -0,0 +1,8 @@
+-- V30__add_keyset_indexes_to_seller.sql
+-- seller 커서(keyset) 조회용 (정렬 키, id) 인덱스 추가
+--
+-- 셀러 커서 조회는 crawl_scheduler와 같이 (sort_key, id) 튜플이 커서보다 뒤인 행을 같은 순서로 읽어
+-- LIMIT size + 1건에서 멈춥니다. 지원하는 정렬 키(created_at, updated_at)마다 인덱스를 둡니다.
+
+CREATE INDEX idx_seller_created_at_id ON seller (created_at, id);
+CREATE INDEX idx_seller_updated_at_id ON seller (updated_at, id);
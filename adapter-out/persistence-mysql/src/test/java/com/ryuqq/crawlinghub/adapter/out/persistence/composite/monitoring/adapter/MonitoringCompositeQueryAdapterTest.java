@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.composite.monitoring.adapt
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -22,12 +23,15 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -39,28 +43,45 @@ class MonitoringCompositeQueryAdapterTest {
 
     @Mock private MonitoringCompositeQueryDslRepository repository;
     @Mock private MonitoringCompositeMapper mapper;
-    @InjectMocks private MonitoringCompositeQueryAdapter adapter;
+
+    private ExecutorService executor;
+    private MonitoringCompositeQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        adapter = new MonitoringCompositeQueryAdapter(repository, mapper, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
 
     @Nested
     @DisplayName("getDashboardSummary()")
     class GetDashboardSummary {
 
         @Test
-        @DisplayName("성공: 대시보드 요약 반환")
+        @DisplayName("성공: 독립 count 쿼리 결과를 모아 대시보드 요약 반환")
         void success() {
             Duration lookback = Duration.ofMinutes(60);
             DashboardCountsDto countsDto = new DashboardCountsDto(5, 10, 3, 2);
             DashboardSummaryResult expected =
-                    new DashboardSummaryResult(5, 10, 3, 2, SystemStatus.HEALTHY);
+                    new DashboardSummaryResult(5, 10, 3, 2, SystemStatus.HEALTHY, Instant.now());
 
-            given(repository.fetchDashboardCounts(any(Instant.class))).willReturn(countsDto);
-            given(mapper.toDashboardSummaryResult(countsDto)).willReturn(expected);
+            given(repository.countActiveSchedulers()).willReturn(5L);
+            given(repository.countRunningCrawlTasks()).willReturn(10L);
+            given(repository.countPendingCrawlTaskOutbox()).willReturn(3L);
+            given(repository.countRecentFailedCrawlTasks(any(Instant.class))).willReturn(2L);
+            given(mapper.toDashboardSummaryResult(eq(countsDto), any(Instant.class)))
+                    .willReturn(expected);
 
             DashboardSummaryResult result = adapter.getDashboardSummary(lookback);
 
             assertThat(result).isEqualTo(expected);
-            then(repository).should().fetchDashboardCounts(any(Instant.class));
-            then(mapper).should().toDashboardSummaryResult(countsDto);
+            then(repository).should().countRecentFailedCrawlTasks(any(Instant.class));
+            then(mapper).should().toDashboardSummaryResult(eq(countsDto), any(Instant.class));
         }
     }
 
@@ -12,6 +12,7 @@ import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSumma
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult.SystemStatus;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.ExternalSystemHealthResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.OutboxSummaryResult;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,18 +36,21 @@ class MonitoringCompositeMapperTest {
     @DisplayName("toDashboardSummaryResult()")
     class ToDashboardSummaryResult {
 
+        private final Instant aggregatedAt = Instant.parse("2024-01-15T10:00:00Z");
+
         @Test
         @DisplayName("성공: HEALTHY 상태 반환 (에러 < 10)")
         void healthy() {
             DashboardCountsDto dto = new DashboardCountsDto(5, 10, 3, 5);
 
-            DashboardSummaryResult result = mapper.toDashboardSummaryResult(dto);
+            DashboardSummaryResult result = mapper.toDashboardSummaryResult(dto, aggregatedAt);
 
             assertThat(result.activeSchedulers()).isEqualTo(5);
             assertThat(result.runningTasks()).isEqualTo(10);
             assertThat(result.pendingOutbox()).isEqualTo(3);
             assertThat(result.recentErrors()).isEqualTo(5);
             assertThat(result.overallStatus()).isEqualTo(SystemStatus.HEALTHY);
+            assertThat(result.aggregatedAt()).isEqualTo(aggregatedAt);
         }
 
         @Test
@@ -54,7 +58,7 @@ class MonitoringCompositeMapperTest {
         void warning() {
             DashboardCountsDto dto = new DashboardCountsDto(5, 10, 3, 50);
 
-            DashboardSummaryResult result = mapper.toDashboardSummaryResult(dto);
+            DashboardSummaryResult result = mapper.toDashboardSummaryResult(dto, aggregatedAt);
 
             assertThat(result.overallStatus()).isEqualTo(SystemStatus.WARNING);
         }
@@ -64,7 +68,7 @@ class MonitoringCompositeMapperTest {
         void critical() {
             DashboardCountsDto dto = new DashboardCountsDto(5, 10, 3, 150);
 
-            DashboardSummaryResult result = mapper.toDashboardSummaryResult(dto);
+            DashboardSummaryResult result = mapper.toDashboardSummaryResult(dto, aggregatedAt);
 
             assertThat(result.overallStatus()).isEqualTo(SystemStatus.CRITICAL);
         }
@@ -3,10 +3,14 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.dto.CrawledProductKeyDto;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledProductJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.CrawledProductJpaEntityMapper;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledProductQueryDslRepository;
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
 import com.ryuqq.crawlinghub.domain.common.vo.DeletionStatus;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlCompletionStatus;
@@ -17,6 +21,7 @@ import com.ryuqq.crawlinghub.domain.product.vo.ProductPrice;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -123,6 +128,31 @@ class CrawledProductQueryAdapterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("성공 - SellerId/ItemNo 목록으로 삭제 상품 포함 일괄 조회")
+    void shouldFindAllBySellerIdsAndItemNosIncludingDeleted() {
+        // Given
+        CrawledProductJpaEntity entity1 = createTestEntity(1L, 100L, 12345L);
+        CrawledProductJpaEntity entity2 = createTestEntity(2L, 100L, 12346L);
+        CrawledProduct domain1 = createTestDomain(1L, 100L, 12345L);
+        CrawledProduct domain2 = createTestDomain(2L, 100L, 12346L);
+
+        given(
+                        queryDslRepository.findAllBySellerIdInAndItemNoInIncludingDeleted(
+                                List.of(100L), List.of(12345L, 12346L)))
+                .willReturn(List.of(entity1, entity2));
+        given(mapper.toDomain(entity1)).willReturn(domain1);
+        given(mapper.toDomain(entity2)).willReturn(domain2);
+
+        // When
+        List<CrawledProduct> result =
+                queryAdapter.findAllBySellerIdsAndItemNosIncludingDeleted(
+                        List.of(SellerId.of(100L)), List.of(12345L, 12346L));
+
+        // Then
+        assertThat(result).containsExactly(domain1, domain2);
+    }
+
     @Test
     @DisplayName("성공 - SellerId로 CrawledProduct 목록 조회")
     void shouldFindBySellerId() {
@@ -177,39 +207,55 @@ class CrawledProductQueryAdapterTest {
     }
 
     @Test
-    @DisplayName("성공 - 갱신이 오래된 상품 조회")
-    void shouldFindStaleProducts() {
+    @DisplayName("성공 - 갱신이 오래된 상품 키 조회 (커서 없음)")
+    void shouldFindStaleProductKeys() {
         // Given
         int limit = 10;
-        CrawledProductJpaEntity entity1 = createTestEntity(1L, 100L, 12345L);
-        CrawledProductJpaEntity entity2 = createTestEntity(2L, 200L, 12346L);
-        CrawledProduct domain1 = createTestDomain(1L, 100L, 12345L);
-        CrawledProduct domain2 = createTestDomain(2L, 200L, 12346L);
-
-        given(queryDslRepository.findStaleProducts(limit)).willReturn(List.of(entity1, entity2));
-        given(mapper.toDomain(entity1)).willReturn(domain1);
-        given(mapper.toDomain(entity2)).willReturn(domain2);
+        Instant staleBefore = Instant.parse("2025-01-01T00:00:00Z");
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 12, 1, 10, 0);
+        given(queryDslRepository.findStaleProductKeys(toLocal(staleBefore), null, 0L, limit))
+                .willReturn(
+                        List.of(
+                                new CrawledProductKeyDto(1L, 100L, 12345L, updatedAt),
+                                new CrawledProductKeyDto(2L, 200L, 12346L, updatedAt)));
 
         // When
-        List<CrawledProduct> result = queryAdapter.findStaleProducts(limit);
+        List<StaleCrawledProductKey> result =
+                queryAdapter.findStaleProductKeys(staleBefore, null, limit);
 
         // Then
-        assertThat(result).hasSize(2);
+        Instant expectedUpdatedAt = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        assertThat(result)
+                .containsExactly(
+                        new StaleCrawledProductKey(1L, 100L, 12345L, expectedUpdatedAt),
+                        new StaleCrawledProductKey(2L, 200L, 12346L, expectedUpdatedAt));
     }
 
     @Test
-    @DisplayName("성공 - 갱신이 오래된 상품 조회 (빈 목록)")
-    void shouldReturnEmptyListWhenNoStaleProducts() {
+    @DisplayName("성공 - 갱신이 오래된 상품 키 조회 (커서 이후)")
+    void shouldFindStaleProductKeysAfterCursor() {
         // Given
-        given(queryDslRepository.findStaleProducts(10)).willReturn(List.of());
+        Instant staleBefore = Instant.parse("2025-01-01T00:00:00Z");
+        Instant cursorUpdatedAt = Instant.parse("2024-12-01T01:00:00Z");
+        KeysetCursor cursor =
+                KeysetCursor.of("updatedAt", SortDirection.ASC, cursorUpdatedAt.toString(), 42L);
+        given(
+                        queryDslRepository.findStaleProductKeys(
+                                toLocal(staleBefore), toLocal(cursorUpdatedAt), 42L, 10))
+                .willReturn(List.of());
 
         // When
-        List<CrawledProduct> result = queryAdapter.findStaleProducts(10);
+        List<StaleCrawledProductKey> result =
+                queryAdapter.findStaleProductKeys(staleBefore, cursor, 10);
 
         // Then
         assertThat(result).isEmpty();
     }
 
+    private LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
     @Test
     @DisplayName("성공 - SellerId와 ItemNo로 존재 여부 확인 (존재함)")
     void shouldReturnTrueWhenExists() {
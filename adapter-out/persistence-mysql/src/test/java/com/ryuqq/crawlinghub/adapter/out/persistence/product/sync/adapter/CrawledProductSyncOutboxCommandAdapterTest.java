@@ -7,11 +7,17 @@ import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixt
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter.CrawledProductSyncOutboxCommandAdapter;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.ProductSyncOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.ProductSyncOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxJpaRepository;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox.SyncType;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -35,13 +41,16 @@ class CrawledProductSyncOutboxCommandAdapterTest {
 
     @Mock private ProductSyncOutboxJpaRepository jpaRepository;
 
+    @Mock private ProductSyncOutboxJdbcRepository jdbcRepository;
+
     @Mock private ProductSyncOutboxJpaEntityMapper mapper;
 
     private CrawledProductSyncOutboxCommandAdapter commandAdapter;
 
     @BeforeEach
     void setUp() {
-        commandAdapter = new CrawledProductSyncOutboxCommandAdapter(jpaRepository, mapper);
+        commandAdapter =
+                new CrawledProductSyncOutboxCommandAdapter(jpaRepository, jdbcRepository, mapper);
     }
 
     @Test
@@ -108,4 +117,57 @@ class CrawledProductSyncOutboxCommandAdapterTest {
         verify(mapper).toEntity(outbox);
         verify(jpaRepository).save(entity);
     }
+
+    @Test
+    @DisplayName("성공 - ID 목록으로 SENT 일괄 전환")
+    void shouldMarkAllAsSentByIds() {
+        // Given
+        Instant processedAt = Instant.now();
+        List<CrawledProductSyncOutboxId> ids =
+                List.of(CrawledProductSyncOutboxId.of(1L), CrawledProductSyncOutboxId.of(2L));
+
+        // When
+        commandAdapter.markAllAsSent(ids, processedAt);
+
+        // Then
+        verify(jdbcRepository)
+                .markAllAsSent(
+                        List.of(1L, 2L),
+                        LocalDateTime.ofInstant(processedAt, ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("성공 - ID 목록으로 COMPLETED 일괄 전환")
+    void shouldMarkAllAsCompletedByIds() {
+        // Given
+        Instant processedAt = Instant.now();
+        List<CrawledProductSyncOutboxId> ids =
+                List.of(CrawledProductSyncOutboxId.of(1L), CrawledProductSyncOutboxId.of(2L));
+
+        // When
+        commandAdapter.markAllAsCompleted(ids, processedAt);
+
+        // Then
+        verify(jdbcRepository)
+                .markAllAsCompleted(
+                        List.of(1L, 2L),
+                        LocalDateTime.ofInstant(processedAt, ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("성공 - ID별 오류 메시지로 FAILED 일괄 전환")
+    void shouldMarkAllAsFailedWithErrorMessages() {
+        // Given
+        Instant processedAt = Instant.now();
+
+        // When
+        commandAdapter.markAllAsFailed(
+                Map.of(CrawledProductSyncOutboxId.of(1L), "SQS 발행 실패"), processedAt);
+
+        // Then
+        verify(jdbcRepository)
+                .markAllAsFailed(
+                        Map.of(1L, "SQS 발행 실패"),
+                        LocalDateTime.ofInstant(processedAt, ZoneId.systemDefault()));
+    }
 }
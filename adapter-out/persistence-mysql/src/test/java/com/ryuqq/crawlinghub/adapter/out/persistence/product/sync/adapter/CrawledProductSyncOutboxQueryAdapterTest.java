@@ -7,10 +7,12 @@ import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixt
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.adapter.CrawledProductSyncOutboxQueryAdapter;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.ProductSyncOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.mapper.ProductSyncOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxLockRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.ProductSyncOutboxQueryDslRepository;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox.SyncType;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.query.ProductSyncOutboxCriteria;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
 import java.time.Instant;
@@ -40,13 +42,17 @@ class CrawledProductSyncOutboxQueryAdapterTest {
 
     @Mock private ProductSyncOutboxQueryDslRepository queryDslRepository;
 
+    @Mock private ProductSyncOutboxLockRepository lockRepository;
+
     @Mock private ProductSyncOutboxJpaEntityMapper mapper;
 
     private CrawledProductSyncOutboxQueryAdapter queryAdapter;
 
     @BeforeEach
     void setUp() {
-        queryAdapter = new CrawledProductSyncOutboxQueryAdapter(queryDslRepository, mapper);
+        queryAdapter =
+                new CrawledProductSyncOutboxQueryAdapter(
+                        queryDslRepository, lockRepository, mapper);
     }
 
     @Test
@@ -162,6 +168,72 @@ class CrawledProductSyncOutboxQueryAdapterTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    @DisplayName("성공 - PENDING CrawledProductSyncOutbox 선점 조회 (SKIP LOCKED)")
+    void shouldFindPendingOutboxesForUpdate() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        ProductSyncOutboxJpaEntity entity =
+                ProductSyncOutboxJpaEntity.of(
+                        1L,
+                        1L,
+                        100L,
+                        12345L,
+                        SyncType.CREATE,
+                        "sync-key-123",
+                        null,
+                        ProductOutboxStatus.PENDING,
+                        0,
+                        null,
+                        now,
+                        null);
+        CrawledProductSyncOutbox domain = CrawledProductSyncOutboxFixture.aReconstitutedPending();
+
+        given(lockRepository.findPendingOutboxesForUpdateSkipLocked(10))
+                .willReturn(List.of(entity));
+        given(mapper.toDomain(entity)).willReturn(domain);
+
+        // When
+        List<CrawledProductSyncOutbox> result = queryAdapter.findPendingOutboxesForUpdate(10);
+
+        // Then
+        assertThat(result).containsExactly(domain);
+    }
+
+    @Test
+    @DisplayName("성공 - 지정한 ID의 SENT CrawledProductSyncOutbox 선점 조회 (SKIP LOCKED)")
+    void shouldFindSentByIdsForUpdate() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        ProductSyncOutboxJpaEntity entity =
+                ProductSyncOutboxJpaEntity.of(
+                        2L,
+                        1L,
+                        100L,
+                        12345L,
+                        SyncType.UPDATE_PRICE,
+                        "sync-key-2",
+                        99999L,
+                        ProductOutboxStatus.SENT,
+                        0,
+                        null,
+                        now,
+                        now);
+        CrawledProductSyncOutbox domain = CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+        List<CrawledProductSyncOutboxId> ids =
+                List.of(CrawledProductSyncOutboxId.of(2L), CrawledProductSyncOutboxId.of(3L));
+
+        given(lockRepository.findSentByIdsForUpdateSkipLocked(List.of(2L, 3L)))
+                .willReturn(List.of(entity));
+        given(mapper.toDomain(entity)).willReturn(domain);
+
+        // When
+        List<CrawledProductSyncOutbox> result = queryAdapter.findSentByIdsForUpdate(ids);
+
+        // Then
+        assertThat(result).containsExactly(domain);
+    }
+
     @Test
     @DisplayName("성공 - 재시도 가능한 CrawledProductSyncOutbox 조회")
     void shouldFindRetryableOutboxes() {
@@ -7,12 +7,16 @@ import static org.mockito.Mockito.verify;
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.mapper.CrawlTaskJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskJpaRepository;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -36,13 +40,15 @@ class CrawlTaskCommandAdapterTest {
 
     @Mock private CrawlTaskJpaRepository jpaRepository;
 
+    @Mock private CrawlTaskJdbcRepository jdbcRepository;
+
     @Mock private CrawlTaskJpaEntityMapper mapper;
 
     private CrawlTaskCommandAdapter commandAdapter;
 
     @BeforeEach
     void setUp() {
-        commandAdapter = new CrawlTaskCommandAdapter(jpaRepository, mapper);
+        commandAdapter = new CrawlTaskCommandAdapter(jpaRepository, jdbcRepository, mapper);
     }
 
     @Test
@@ -120,4 +126,68 @@ class CrawlTaskCommandAdapterTest {
         // Then
         assertThat(result.value()).isEqualTo(100L);
     }
+
+    @Test
+    @DisplayName("성공 - 신규 CrawlTask 일괄 저장 시 입력 순서대로 ID 반환")
+    void shouldReturnIdsInOrderWhenPersistAll() {
+        // Given
+        CrawlTask first = CrawlTaskFixture.aNewTask();
+        CrawlTask second = CrawlTaskFixture.aNewTask();
+        LocalDateTime now = LocalDateTime.now();
+        CrawlTaskJpaEntity firstEntity =
+                CrawlTaskJpaEntity.of(
+                        null,
+                        1L,
+                        1L,
+                        CrawlTaskType.DETAIL,
+                        "https://example.com",
+                        "/item/1",
+                        null,
+                        CrawlTaskStatus.WAITING,
+                        0,
+                        now,
+                        now);
+        CrawlTaskJpaEntity secondEntity =
+                CrawlTaskJpaEntity.of(
+                        null,
+                        1L,
+                        1L,
+                        CrawlTaskType.OPTION,
+                        "https://example.com",
+                        "/item/1/options",
+                        null,
+                        CrawlTaskStatus.WAITING,
+                        0,
+                        now,
+                        now);
+
+        given(mapper.toEntity(first)).willReturn(firstEntity);
+        given(mapper.toEntity(second)).willReturn(secondEntity);
+        given(jdbcRepository.insertAll(List.of(firstEntity, secondEntity)))
+                .willReturn(List.of(10L, 11L));
+
+        // When
+        List<CrawlTaskId> result = commandAdapter.persistAll(List.of(first, second));
+
+        // Then
+        assertThat(result).containsExactly(CrawlTaskId.of(10L), CrawlTaskId.of(11L));
+        verify(jdbcRepository).insertAll(List.of(firstEntity, secondEntity));
+    }
+
+    @Test
+    @DisplayName("성공 - CrawlTaskId 목록으로 PUBLISHED 일괄 전환")
+    void shouldMarkAllAsPublishedByIds() {
+        // Given
+        Instant now = Instant.now();
+        LocalDateTime updatedAt = LocalDateTime.ofInstant(now, ZoneId.systemDefault());
+        given(jdbcRepository.markAllAsPublished(List.of(1L, 2L), updatedAt)).willReturn(2);
+
+        // When
+        int result =
+                commandAdapter.markAllAsPublished(
+                        List.of(CrawlTaskId.of(1L), CrawlTaskId.of(2L)), now);
+
+        // Then
+        assertThat(result).isEqualTo(2);
+    }
 }
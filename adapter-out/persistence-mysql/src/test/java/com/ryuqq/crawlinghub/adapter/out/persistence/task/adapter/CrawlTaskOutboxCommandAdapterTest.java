@@ -2,14 +2,20 @@ package com.ryuqq.crawlinghub.adapter.out.persistence.task.adapter;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskOutboxFixture;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.mapper.CrawlTaskOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxJdbcRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxJpaRepository;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -33,13 +39,15 @@ class CrawlTaskOutboxCommandAdapterTest {
 
     @Mock private CrawlTaskOutboxJpaRepository jpaRepository;
 
+    @Mock private CrawlTaskOutboxJdbcRepository jdbcRepository;
+
     @Mock private CrawlTaskOutboxJpaEntityMapper mapper;
 
     private CrawlTaskOutboxCommandAdapter commandAdapter;
 
     @BeforeEach
     void setUp() {
-        commandAdapter = new CrawlTaskOutboxCommandAdapter(jpaRepository, mapper);
+        commandAdapter = new CrawlTaskOutboxCommandAdapter(jpaRepository, jdbcRepository, mapper);
     }
 
     @Test
@@ -85,4 +93,40 @@ class CrawlTaskOutboxCommandAdapterTest {
         // Then
         verify(jpaRepository).save(entity);
     }
+
+    @Test
+    @DisplayName("성공 - 신규 CrawlTaskOutbox 일괄 저장은 JDBC batch 사용")
+    void shouldInsertAllOutboxesWithJdbc() {
+        // Given
+        CrawlTaskOutbox outbox = CrawlTaskOutboxFixture.aPendingOutbox();
+        LocalDateTime now = LocalDateTime.now();
+        CrawlTaskOutboxJpaEntity entity =
+                CrawlTaskOutboxJpaEntity.of(
+                        1L, "idempotency-key", "{}", OutboxStatus.PENDING, 0, now, null);
+
+        given(mapper.toEntity(outbox)).willReturn(entity);
+
+        // When
+        commandAdapter.persistAll(List.of(outbox));
+
+        // Then
+        verify(jdbcRepository).insertAll(List.of(entity));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("성공 - CrawlTaskId 목록으로 SENT 일괄 전환")
+    void shouldMarkAllAsSentByIds() {
+        // Given
+        Instant processedAt = Instant.now();
+
+        // When
+        commandAdapter.markAllAsSent(List.of(CrawlTaskId.of(1L), CrawlTaskId.of(2L)), processedAt);
+
+        // Then
+        verify(jdbcRepository)
+                .markAllAsSent(
+                        List.of(1L, 2L),
+                        LocalDateTime.ofInstant(processedAt, ZoneId.systemDefault()));
+    }
 }
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskOutboxFixture;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.entity.CrawlTaskOutboxJpaEntity;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.mapper.CrawlTaskOutboxJpaEntityMapper;
+import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxLockRepository;
 import com.ryuqq.crawlinghub.adapter.out.persistence.task.repository.CrawlTaskOutboxQueryDslRepository;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
@@ -39,13 +40,15 @@ class CrawlTaskOutboxQueryAdapterTest {
 
     @Mock private CrawlTaskOutboxQueryDslRepository queryDslRepository;
 
+    @Mock private CrawlTaskOutboxLockRepository lockRepository;
+
     @Mock private CrawlTaskOutboxJpaEntityMapper mapper;
 
     private CrawlTaskOutboxQueryAdapter queryAdapter;
 
     @BeforeEach
     void setUp() {
-        queryAdapter = new CrawlTaskOutboxQueryAdapter(queryDslRepository, mapper);
+        queryAdapter = new CrawlTaskOutboxQueryAdapter(queryDslRepository, lockRepository, mapper);
     }
 
     @Nested
@@ -213,6 +216,61 @@ class CrawlTaskOutboxQueryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("findPendingOlderThanForUpdate 테스트")
+    class FindPendingOlderThanForUpdateTests {
+
+        @Test
+        @DisplayName("성공 - LockRepository의 SKIP LOCKED 조회 결과를 Domain으로 변환")
+        void shouldFindPendingOlderThanForUpdate() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            CrawlTaskOutboxJpaEntity entity =
+                    CrawlTaskOutboxJpaEntity.of(
+                            1L, "idempotency-key", "{}", OutboxStatus.PENDING, 0, now, null);
+            CrawlTaskOutbox domain = CrawlTaskOutboxFixture.aPendingOutbox();
+
+            given(lockRepository.findPendingOlderThanForUpdateSkipLocked(10, 60))
+                    .willReturn(List.of(entity));
+            given(mapper.toDomain(entity)).willReturn(domain);
+
+            // When
+            List<CrawlTaskOutbox> result = queryAdapter.findPendingOlderThanForUpdate(10, 60);
+
+            // Then
+            assertThat(result).containsExactly(domain);
+            verify(lockRepository).findPendingOlderThanForUpdateSkipLocked(10, 60);
+        }
+    }
+
+    @Nested
+    @DisplayName("findPendingByCrawlTaskIdsForUpdate 테스트")
+    class FindPendingByCrawlTaskIdsForUpdateTests {
+
+        @Test
+        @DisplayName("성공 - CrawlTask ID 값으로 SKIP LOCKED 조회 후 Domain으로 변환")
+        void shouldFindPendingByCrawlTaskIdsForUpdate() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            CrawlTaskOutboxJpaEntity entity =
+                    CrawlTaskOutboxJpaEntity.of(
+                            1L, "idempotency-key", "{}", OutboxStatus.PENDING, 0, now, null);
+            CrawlTaskOutbox domain = CrawlTaskOutboxFixture.aPendingOutbox();
+
+            given(lockRepository.findPendingByCrawlTaskIdsForUpdateSkipLocked(List.of(1L, 2L)))
+                    .willReturn(List.of(entity));
+            given(mapper.toDomain(entity)).willReturn(domain);
+
+            // When
+            List<CrawlTaskOutbox> result =
+                    queryAdapter.findPendingByCrawlTaskIdsForUpdate(
+                            List.of(CrawlTaskId.of(1L), CrawlTaskId.of(2L)));
+
+            // Then
+            assertThat(result).containsExactly(domain);
+        }
+    }
+
     @Nested
     @DisplayName("findStaleProcessing 테스트")
     class FindStaleProcessingTests {
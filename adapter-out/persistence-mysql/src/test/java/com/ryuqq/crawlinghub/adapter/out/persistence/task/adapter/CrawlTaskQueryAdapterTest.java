@@ -14,6 +14,7 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskStatisticsCriteria;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.time.LocalDateTime;
@@ -21,6 +22,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -127,59 +129,52 @@ class CrawlTaskQueryAdapterTest {
     }
 
     @Nested
-    @DisplayName("existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn 테스트")
-    class ExistsBySchedulerIdAndTaskTypeAndEndpointAndStatusInTests {
+    @DisplayName("existsAny 테스트")
+    class ExistsAnyTests {
 
         @Test
-        @DisplayName("성공 - 스케줄러 ID, 태스크 타입, 엔드포인트 조합으로 존재 확인")
-        void shouldCheckExistenceWithEndpoint() {
+        @DisplayName("성공 - Fingerprint 값으로 존재 확인")
+        void shouldCheckExistenceWithFingerprintValues() {
             // Given
-            CrawlSchedulerId schedulerId = CrawlSchedulerId.of(1L);
-            CrawlTaskType taskType = CrawlTaskType.SEARCH;
-            String endpointPath = "/api/search";
-            String endpointQueryParams = "{\"keyword\":\"test\"}";
-            List<CrawlTaskStatus> statuses =
-                    List.of(CrawlTaskStatus.WAITING, CrawlTaskStatus.RUNNING);
+            CrawlTaskFingerprint fingerprint = new CrawlTaskFingerprint("a".repeat(64));
+            List<CrawlTaskStatus> statuses = CrawlTaskStatus.nonTerminalStatuses();
 
             given(
-                            queryDslRepository.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                                    1L, taskType, endpointPath, endpointQueryParams, statuses))
+                            queryDslRepository.existsByFingerprintInAndStatusIn(
+                                    Set.of(fingerprint.value()), statuses))
                     .willReturn(true);
 
             // When
-            boolean result =
-                    queryAdapter.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            schedulerId, taskType, endpointPath, endpointQueryParams, statuses);
+            boolean result = queryAdapter.existsAny(List.of(fingerprint), statuses);
 
             // Then
             assertThat(result).isTrue();
-            verify(queryDslRepository)
-                    .existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            1L, taskType, endpointPath, endpointQueryParams, statuses);
         }
+    }
+
+    @Nested
+    @DisplayName("findExistingFingerprints 테스트")
+    class FindExistingFingerprintsTests {
 
         @Test
-        @DisplayName("성공 - null queryParams로 존재 확인")
-        void shouldCheckExistenceWithNullQueryParams() {
+        @DisplayName("성공 - 조회된 Fingerprint 값을 VO로 변환")
+        void shouldConvertExistingValuesToFingerprints() {
             // Given
-            CrawlSchedulerId schedulerId = CrawlSchedulerId.of(1L);
-            CrawlTaskType taskType = CrawlTaskType.DETAIL;
-            String endpointPath = "/api/detail";
-            String endpointQueryParams = null;
-            List<CrawlTaskStatus> statuses = List.of(CrawlTaskStatus.WAITING);
+            CrawlTaskFingerprint occupied = new CrawlTaskFingerprint("a".repeat(64));
+            CrawlTaskFingerprint free = new CrawlTaskFingerprint("b".repeat(64));
+            List<CrawlTaskStatus> statuses = CrawlTaskStatus.nonTerminalStatuses();
 
             given(
-                            queryDslRepository.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                                    1L, taskType, endpointPath, null, statuses))
-                    .willReturn(false);
+                            queryDslRepository.findExistingFingerprints(
+                                    Set.of(occupied.value(), free.value()), statuses))
+                    .willReturn(List.of(occupied.value()));
 
             // When
-            boolean result =
-                    queryAdapter.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            schedulerId, taskType, endpointPath, endpointQueryParams, statuses);
+            Set<CrawlTaskFingerprint> result =
+                    queryAdapter.findExistingFingerprints(List.of(occupied, free), statuses);
 
             // Then
-            assertThat(result).isFalse();
+            assertThat(result).containsExactly(occupied);
         }
     }
 
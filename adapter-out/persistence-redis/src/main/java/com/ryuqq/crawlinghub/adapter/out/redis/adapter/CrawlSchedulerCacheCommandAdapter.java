@@ -0,0 +1,48 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCache;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCacheRegion;
+import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlSchedulerCacheCommandPort;
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawlScheduler Near Cache Command Adapter
+ *
+ * <p>조회한 스케줄러와 셀러별 활성 스케줄러 목록을 로컬 캐시에 적재하고, CrawlScheduler 변경 시 두 캐시를 함께 무효화합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawlSchedulerCacheCommandAdapter implements CrawlSchedulerCacheCommandPort {
+
+    private final NearCache nearCache;
+
+    public CrawlSchedulerCacheCommandAdapter(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public void put(CrawlScheduler crawlScheduler) {
+        nearCache.put(
+                NearCacheRegion.CRAWL_SCHEDULER,
+                crawlScheduler.getCrawlSchedulerIdValue(),
+                crawlScheduler);
+    }
+
+    @Override
+    public void putActiveSchedulers(SellerId sellerId, List<CrawlScheduler> activeSchedulers) {
+        nearCache.put(
+                NearCacheRegion.ACTIVE_SCHEDULERS_BY_SELLER, sellerId.value(), activeSchedulers);
+    }
+
+    @Override
+    public void invalidate(CrawlSchedulerId crawlSchedulerId, SellerId sellerId) {
+        nearCache.invalidate(NearCacheRegion.CRAWL_SCHEDULER, crawlSchedulerId.value());
+        nearCache.invalidate(NearCacheRegion.ACTIVE_SCHEDULERS_BY_SELLER, sellerId.value());
+    }
+}
@@ -0,0 +1,42 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCache;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCacheRegion;
+import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlSchedulerCacheQueryPort;
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawlScheduler Near Cache Query Adapter
+ *
+ * <p>로컬 Near Cache에 보관된 스케줄러 단건과 셀러별 활성 스케줄러 목록만 반환합니다. 미스 시 DB 조회와 적재는 Application
+ * Layer에서 처리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawlSchedulerCacheQueryAdapter implements CrawlSchedulerCacheQueryPort {
+
+    private final NearCache nearCache;
+
+    public CrawlSchedulerCacheQueryAdapter(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public Optional<CrawlScheduler> findById(CrawlSchedulerId crawlSchedulerId) {
+        return Optional.ofNullable(
+                nearCache.get(NearCacheRegion.CRAWL_SCHEDULER, crawlSchedulerId.value()));
+    }
+
+    @Override
+    public Optional<List<CrawlScheduler>> findActiveSchedulersBySellerId(SellerId sellerId) {
+        return Optional.ofNullable(
+                nearCache.get(NearCacheRegion.ACTIVE_SCHEDULERS_BY_SELLER, sellerId.value()));
+    }
+}
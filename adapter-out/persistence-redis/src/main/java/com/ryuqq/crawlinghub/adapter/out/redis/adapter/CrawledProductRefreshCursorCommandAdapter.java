@@ -0,0 +1,41 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductRefreshCursorCommandPort;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawledProduct 갱신 커서 Redis Command Adapter
+ *
+ * <p>커서를 {@link KeysetCursor#encode()} 문자열로 저장합니다. 모든 인스턴스가 같은 키를 공유하므로 재시작하거나 다른
+ * 인스턴스가 스케줄을 이어받아도 마지막 위치부터 진행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawledProductRefreshCursorCommandAdapter
+        implements CrawledProductRefreshCursorCommandPort {
+
+    private final RedissonClient redissonClient;
+
+    public CrawledProductRefreshCursorCommandAdapter(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public void save(KeysetCursor cursor) {
+        redissonClient
+                .getBucket(CrawledProductRefreshCursorQueryAdapter.CURSOR_KEY, StringCodec.INSTANCE)
+                .set(cursor.encode());
+    }
+
+    @Override
+    public void clear() {
+        redissonClient
+                .getBucket(CrawledProductRefreshCursorQueryAdapter.CURSOR_KEY, StringCodec.INSTANCE)
+                .delete();
+    }
+}
@@ -0,0 +1,51 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductRefreshCursorQueryPort;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import java.util.Optional;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawledProduct 갱신 커서 Redis Query Adapter
+ *
+ * <p>인코딩된 {@link KeysetCursor} 문자열을 읽어 복원합니다. 형식이 깨진 값은 무시하고 처음부터 조회하도록 비어 있는 결과를
+ * 반환합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawledProductRefreshCursorQueryAdapter
+        implements CrawledProductRefreshCursorQueryPort {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(CrawledProductRefreshCursorQueryAdapter.class);
+
+    static final String CURSOR_KEY = "crawlinghub:product-refresh:cursor";
+
+    private final RedissonClient redissonClient;
+
+    public CrawledProductRefreshCursorQueryAdapter(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public Optional<KeysetCursor> find() {
+        RBucket<String> bucket = redissonClient.getBucket(CURSOR_KEY, StringCodec.INSTANCE);
+        String encoded = bucket.get();
+        if (encoded == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(KeysetCursor.decode(encoded));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 갱신 커서 형식 오류, 처음부터 조회: value={}", encoded);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCache;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCacheRegion;
+import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerCacheCommandPort;
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seller Near Cache Command Adapter
+ *
+ * <p>조회한 Seller를 로컬 캐시에 적재하고, Seller 변경 시 로컬 캐시를 비운 뒤 Redis Pub/Sub으로 다른 인스턴스에 무효화를
+ * 전파합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class SellerCacheCommandAdapter implements SellerCacheCommandPort {
+
+    private final NearCache nearCache;
+
+    public SellerCacheCommandAdapter(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public void put(Seller seller) {
+        nearCache.put(NearCacheRegion.SELLER, seller.getSellerIdValue(), seller);
+    }
+
+    @Override
+    public void invalidate(SellerId sellerId) {
+        nearCache.invalidate(NearCacheRegion.SELLER, sellerId.value());
+    }
+}
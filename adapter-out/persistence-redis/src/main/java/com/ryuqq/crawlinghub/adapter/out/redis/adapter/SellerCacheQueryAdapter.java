@@ -0,0 +1,32 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCache;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.NearCacheRegion;
+import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerCacheQueryPort;
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seller Near Cache Query Adapter
+ *
+ * <p>로컬 Near Cache에 보관된 Seller만 반환합니다. 미스 시 DB 조회와 적재는 Application Layer에서 처리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class SellerCacheQueryAdapter implements SellerCacheQueryPort {
+
+    private final NearCache nearCache;
+
+    public SellerCacheQueryAdapter(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public Optional<Seller> findById(SellerId sellerId) {
+        return Optional.ofNullable(nearCache.get(NearCacheRegion.SELLER, sellerId.value()));
+    }
+}
@@ -6,14 +6,15 @@ import com.ryuqq.crawlinghub.adapter.out.redis.support.UserAgentPoolKeyResolver;
 import com.ryuqq.crawlinghub.adapter.out.redis.support.UserAgentPoolLuaScriptHolder;
 import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.port.out.command.UserAgentPoolCacheCommandPort;
 import com.ryuqq.crawlinghub.domain.useragent.id.UserAgentId;
 import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.redisson.api.RBucket;
 import org.redisson.api.RMap;
 import org.redisson.api.RScript;
@@ -32,13 +33,16 @@ import org.springframework.stereotype.Component;
  * <p><strong>Phase 2 변경사항</strong>:
  *
  * <ul>
- *   <li>borrow() 메서드 추가 (Lua Script - IDLE -> BORROWED 원자적 전환)
+ *   <li>borrow() 메서드 추가 (Lua Script - IDLE -> BORROWED 원자적 전환, 이후 borrowBatch로 일원화하여 제거)
  *   <li>returnAgent() 메서드 추가 (Lua Script - BORROWED -> IDLE/COOLDOWN/SUSPENDED)
  *   <li>recoverExpiredCooldowns() 메서드 추가 (Lua Script - COOLDOWN -> IDLE/SESSION_REQUIRED)
  *   <li>detectLeakedAgents() 메서드 추가 (Borrowed Set 스캔으로 누수 감지)
  *   <li>readySetKey -> idleSetKey 전환
  *   <li>READY -> IDLE 상태값 전환
  *   <li>기존 consumeToken(), suspendForRateLimit() 레거시 유지 (Phase 4 Port 변경 시 제거)
+ *   <li>borrowBatch(), returnAgents() 메서드 추가 (borrow-ahead용 일괄 전환)
+ *   <li>IDLE Set -> Sorted Set 전환 (Health/토큰 score 상위 후보 선택)
+ *   <li>IDLE score 계산을 Lua {@code idleScore} 한 곳으로 통일, migrateLegacyIdleSet() 추가
  * </ul>
  *
  * @author development-team
@@ -50,6 +54,9 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
     private static final Logger log =
             LoggerFactory.getLogger(UserAgentPoolCacheCommandAdapter.class);
 
+    /** useragent_return_batch.lua 항목별 인자 수 */
+    private static final int RETURN_BATCH_ARGS_PER_ENTRY = 7;
+
     private final RedissonClient redissonClient;
     private final TimeProvider timeProvider;
     private final UserAgentPoolKeyResolver keyResolver;
@@ -83,51 +90,6 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
     // Phase 2: 신규 Borrow/Return 메서드
     // ========================================
 
-    /**
-     * UserAgent Borrow (IDLE -> BORROWED 원자적 전환)
-     *
-     * <p>HikariCP getConnection() 패턴 대응:
-     *
-     * <ol>
-     *   <li>IDLE Set에서 3개 후보 랜덤 선택 (SharedList 스캔 대응)
-     *   <li>세션 만료 체크 (isAlive 대응)
-     *   <li>Token Bucket Lazy Refill
-     *   <li>IDLE -> BORROWED 원자적 전환
-     * </ol>
-     *
-     * @return 선택된 UserAgent (없으면 empty)
-     */
-    @Override
-    public Optional<CachedUserAgent> borrow() {
-        Instant now = timeProvider.now();
-        long nowMillis = now.toEpochMilli();
-
-        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
-        Object result =
-                script.eval(
-                        RScript.Mode.READ_WRITE,
-                        luaScriptHolder.borrowScript(),
-                        RScript.ReturnType.VALUE,
-                        List.of(
-                                keyResolver.idleSetKey(),
-                                keyResolver.poolKeyPrefix(),
-                                keyResolver.borrowedSetKey(),
-                                keyResolver.sessionRequiredSetKey()),
-                        String.valueOf(nowMillis),
-                        String.valueOf(properties.getMaxTokens()),
-                        String.valueOf(properties.getWindowDurationMillis()));
-
-        if (result == null) {
-            return Optional.empty();
-        }
-
-        long selectedId = Long.parseLong(result.toString());
-        String poolKey = keyResolver.poolKey(selectedId);
-        RMap<String, String> map = redissonClient.getMap(poolKey, StringCodec.INSTANCE);
-        Map<String, String> data = map.readAllMap();
-        return data.isEmpty() ? Optional.empty() : Optional.of(mapper.mapToCachedUserAgent(data));
-    }
-
     /**
      * UserAgent Return (BORROWED -> IDLE/COOLDOWN/SUSPENDED 원자적 전환)
      *
@@ -194,6 +156,128 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
         return returnCode;
     }
 
+    /**
+     * UserAgent 일괄 Borrow (IDLE -> BORROWED 원자적 전환, borrow-ahead용)
+     *
+     * <p>HikariCP getConnection() 패턴 대응:
+     *
+     * <ol>
+     *   <li>IDLE Sorted Set에서 score 상위 후보 선택 (요청 1개당 3개, 전체 스캔 없음)
+     *   <li>세션 만료 체크 (isAlive 대응)
+     *   <li>Token Bucket Lazy Refill
+     *   <li>IDLE -> BORROWED 원자적 전환
+     * </ol>
+     *
+     * <p>토큰이 소진된 UserAgent는 score를 {@code -windowEnd}로 내려 후보에서 제외하고, 윈도우가 끝나면 score 범위 조회로 찾아
+     * Refill 후 다시 후보로 올립니다.
+     *
+     * <p>최대 maxCount개를 전환하고, 각 UserAgent의 전환 직후 Hash(HGETALL)를 한 번의 응답으로 받아 매핑하므로 별도 조회 왕복이 없고
+     * 조회 시점 사이에 Hash가 바뀔 여지도 없습니다.
+     *
+     * @param maxCount 최대 borrow 개수
+     * @return borrow된 UserAgent 목록 (없으면 빈 목록)
+     */
+    @Override
+    public List<CachedUserAgent> borrowBatch(int maxCount) {
+        if (maxCount <= 0) {
+            return List.of();
+        }
+        long nowMillis = timeProvider.now().toEpochMilli();
+
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        List<Object> result =
+                script.eval(
+                        RScript.Mode.READ_WRITE,
+                        luaScriptHolder.borrowBatchScript(),
+                        RScript.ReturnType.MULTI,
+                        List.of(
+                                keyResolver.idleSetKey(),
+                                keyResolver.poolKeyPrefix(),
+                                keyResolver.borrowedSetKey(),
+                                keyResolver.sessionRequiredSetKey()),
+                        String.valueOf(nowMillis),
+                        String.valueOf(properties.getMaxTokens()),
+                        String.valueOf(properties.getWindowDurationMillis()),
+                        String.valueOf(maxCount));
+
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        List<CachedUserAgent> borrowed = new ArrayList<>(result.size());
+        for (Object hashFields : result) {
+            if (hashFields instanceof List<?> fields && !fields.isEmpty()) {
+                borrowed.add(mapper.mapHashFieldsToCachedUserAgent(fields));
+            }
+        }
+        log.debug("UserAgent 일괄 borrow 완료: requested={}, borrowed={}", maxCount, borrowed.size());
+        return borrowed;
+    }
+
+    /**
+     * UserAgent 일괄 Return (borrow-ahead용)
+     *
+     * <p>사용 항목은 {@link #returnAgent}와 같은 규칙으로 전환하고, 미사용 항목은 여전히 BORROWED인 경우에만 토큰을 환불하고 IDLE로
+     * 복귀시킵니다.
+     *
+     * @param returns 반납 항목 목록
+     * @return 항목 순서대로의 상태 코드 (0=IDLE, 1=COOLDOWN, 2=SUSPENDED, -1=변경 없음)
+     */
+    @Override
+    public List<Integer> returnAgents(List<ReturnedUserAgent> returns) {
+        if (returns.isEmpty()) {
+            return List.of();
+        }
+        long nowMillis = timeProvider.now().toEpochMilli();
+
+        List<Object> args = new ArrayList<>(3 + returns.size() * RETURN_BATCH_ARGS_PER_ENTRY);
+        args.add(String.valueOf(nowMillis));
+        args.add(String.valueOf(properties.getSuspensionThreshold()));
+        args.add(String.valueOf(properties.getMaxTokens()));
+        for (ReturnedUserAgent entry : returns) {
+            args.add(String.valueOf(entry.userAgentId()));
+            args.add(entry.used() ? "1" : "0");
+            args.add(entry.success() ? "1" : "0");
+            args.add(String.valueOf(entry.httpStatusCode()));
+            args.add(String.valueOf(entry.healthDelta()));
+            args.add(String.valueOf(entry.cooldownUntil() != null ? entry.cooldownUntil() : 0L));
+            args.add(String.valueOf(entry.consecutiveRateLimits()));
+        }
+
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        List<Object> result =
+                script.eval(
+                        RScript.Mode.READ_WRITE,
+                        luaScriptHolder.returnBatchScript(),
+                        RScript.ReturnType.MULTI,
+                        List.of(
+                                keyResolver.borrowedSetKey(),
+                                keyResolver.idleSetKey(),
+                                keyResolver.cooldownSetKey(),
+                                keyResolver.suspendedSetKey(),
+                                keyResolver.poolKeyPrefix()),
+                        args.toArray());
+
+        if (result == null || result.size() != returns.size()) {
+            throw new IllegalStateException(
+                    "UserAgent 일괄 반납 결과 개수 불일치: expected="
+                            + returns.size()
+                            + ", actual="
+                            + (result == null ? 0 : result.size()));
+        }
+
+        List<Integer> codes = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            int code = Integer.parseInt(String.valueOf(result.get(i)));
+            codes.add(code);
+            if (code == 2) {
+                log.warn("UserAgent {} 반납 완료 (SUSPENDED)", returns.get(i).userAgentId());
+            }
+        }
+        log.debug("UserAgent 일괄 반납 완료: count={}", codes.size());
+        return codes;
+    }
+
     /**
      * 만료된 Cooldown UserAgent 복구 (Housekeeper 호출)
      *
@@ -278,8 +362,8 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
 
     @Override
     public Optional<CachedUserAgent> consumeToken() {
-        // Phase 2: 내부적으로 borrow()에 위임
-        return borrow();
+        // 내부적으로 1건 borrowBatch에 위임
+        return borrowBatch(1).stream().findFirst();
     }
 
     @Override
@@ -328,7 +412,9 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
         map.put("sessionExpiresAt", "0");
 
         // Phase 2: idle, borrowed, cooldown Set에서도 제거
-        redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE).remove(idStr);
+        redissonClient
+                .getScoredSortedSet(keyResolver.idleSetKey(), StringCodec.INSTANCE)
+                .remove(idStr);
         redissonClient.getSet(keyResolver.borrowedSetKey(), StringCodec.INSTANCE).remove(idStr);
         redissonClient.getSet(keyResolver.cooldownSetKey(), StringCodec.INSTANCE).remove(idStr);
         redissonClient
@@ -356,10 +442,18 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
         map.put("sessionExpiresAt", String.valueOf(sessionExpiresAt.toEpochMilli()));
         map.put("status", UserAgentStatus.IDLE.name());
 
+        // SESSION_REQUIRED -> IDLE Sorted Set (score는 Lua idleScore로 계산)
         redissonClient
-                .getSet(keyResolver.sessionRequiredSetKey(), StringCodec.INSTANCE)
-                .remove(idStr);
-        redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE).add(idStr);
+                .getScript(StringCodec.INSTANCE)
+                .eval(
+                        RScript.Mode.READ_WRITE,
+                        luaScriptHolder.markIdleScript(),
+                        RScript.ReturnType.VALUE,
+                        List.of(
+                                keyResolver.sessionRequiredSetKey(),
+                                keyResolver.idleSetKey(),
+                                poolKey),
+                        idStr);
 
         log.info(
                 "UserAgent {} 세션 업데이트 완료 (IDLE), nid={}, mustitUid={}, expiresAt={}",
@@ -382,7 +476,9 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
         map.put("status", UserAgentStatus.SESSION_REQUIRED.name());
 
         // Phase 2: idle, borrowed, cooldown Set에서도 제거
-        redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE).remove(idStr);
+        redissonClient
+                .getScoredSortedSet(keyResolver.idleSetKey(), StringCodec.INSTANCE)
+                .remove(idStr);
         redissonClient.getSet(keyResolver.borrowedSetKey(), StringCodec.INSTANCE).remove(idStr);
         redissonClient.getSet(keyResolver.cooldownSetKey(), StringCodec.INSTANCE).remove(idStr);
         redissonClient.getSet(keyResolver.sessionRequiredSetKey(), StringCodec.INSTANCE).add(idStr);
@@ -442,7 +538,8 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
 
     @Override
     public void clearPool() {
-        var idleSet = redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
+        var idleSet =
+                redissonClient.getScoredSortedSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
         var borrowedSet = redissonClient.getSet(keyResolver.borrowedSetKey(), StringCodec.INSTANCE);
         var cooldownSet = redissonClient.getSet(keyResolver.cooldownSetKey(), StringCodec.INSTANCE);
         var sessionRequiredSet =
@@ -489,6 +586,33 @@ public class UserAgentPoolCacheCommandAdapter implements UserAgentPoolCacheComma
         return addedCount;
     }
 
+    /**
+     * 레거시 IDLE Set -> IDLE Sorted Set 이관
+     *
+     * <p>Sorted Set 전환 이전에 등록된 IDLE UserAgent를 Lua {@code idleScore}로 계산한 score와 함께 옮기고 레거시 키를
+     * 삭제합니다. 레거시 키가 없으면 아무것도 하지 않습니다.
+     *
+     * @return 이관된 UserAgent 수
+     */
+    @Override
+    public int migrateLegacyIdleSet() {
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        Long migrated =
+                script.eval(
+                        RScript.Mode.READ_WRITE,
+                        luaScriptHolder.idleMigrateScript(),
+                        RScript.ReturnType.INTEGER,
+                        List.of(
+                                keyResolver.legacyIdleSetKey(),
+                                keyResolver.idleSetKey(),
+                                keyResolver.poolKeyPrefix()));
+        int count = migrated != null ? migrated.intValue() : 0;
+        if (count > 0) {
+            log.info("레거시 IDLE Set 이관 완료: {} UserAgent", count);
+        }
+        return count;
+    }
+
     @Override
     public boolean isPoolInitialized() {
         RBucket<String> bucket =
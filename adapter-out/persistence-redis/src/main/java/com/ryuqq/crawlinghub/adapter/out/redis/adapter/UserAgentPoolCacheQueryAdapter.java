@@ -35,6 +35,7 @@ import org.springframework.stereotype.Component;
  *   <li>getCooldownUserAgents() 메서드 추가
  *   <li>getBorrowedUserAgents() 메서드 추가
  *   <li>getAllUserAgentIds()에 borrowed, cooldown Set 포함
+ *   <li>IDLE Set -> Sorted Set 전환
  * </ul>
  *
  * @author development-team
@@ -66,7 +67,8 @@ public class UserAgentPoolCacheQueryAdapter implements UserAgentPoolCacheQueryPo
 
     @Override
     public PoolStats getPoolStats() {
-        var idleSet = redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
+        var idleSet =
+                redissonClient.getScoredSortedSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
         var borrowedSet = redissonClient.getSet(keyResolver.borrowedSetKey(), StringCodec.INSTANCE);
         var cooldownSet = redissonClient.getSet(keyResolver.cooldownSetKey(), StringCodec.INSTANCE);
         var sessionRequiredSet =
@@ -185,7 +187,8 @@ public class UserAgentPoolCacheQueryAdapter implements UserAgentPoolCacheQueryPo
         List<UserAgentId> expiringIds = new ArrayList<>();
 
         // Phase 2: idle Set 기준으로 세션 만료 임박 확인
-        var idleSet = redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
+        var idleSet =
+                redissonClient.getScoredSortedSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
         for (Object idObj : idleSet.readAll()) {
             Long id = Long.parseLong(idObj.toString());
             String poolKey = keyResolver.poolKey(id);
@@ -230,7 +233,8 @@ public class UserAgentPoolCacheQueryAdapter implements UserAgentPoolCacheQueryPo
         List<UserAgentId> result = new ArrayList<>();
 
         // Phase 2: idle, borrowed, cooldown, session_required, suspended 모든 Set 포함
-        var idleSet = redissonClient.getSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
+        var idleSet =
+                redissonClient.getScoredSortedSet(keyResolver.idleSetKey(), StringCodec.INSTANCE);
         var borrowedSet = redissonClient.getSet(keyResolver.borrowedSetKey(), StringCodec.INSTANCE);
         var cooldownSet = redissonClient.getSet(keyResolver.cooldownSetKey(), StringCodec.INSTANCE);
         var sessionRequiredSet =
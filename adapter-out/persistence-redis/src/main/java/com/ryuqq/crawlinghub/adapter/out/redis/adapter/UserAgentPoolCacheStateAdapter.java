@@ -71,8 +71,9 @@ public class UserAgentPoolCacheStateAdapter implements UserAgentPoolCacheStatePo
                 RScript.Mode.READ_WRITE,
                 luaScriptHolder.recordSuccessScript(),
                 RScript.ReturnType.INTEGER,
-                List.of(poolKey),
-                String.valueOf(delta));
+                List.of(poolKey, keyResolver.idleSetKey()),
+                String.valueOf(delta),
+                String.valueOf(userAgentId.value()));
 
         log.debug("UserAgent {} Health Score +{}", userAgentId.value(), delta);
         return false;
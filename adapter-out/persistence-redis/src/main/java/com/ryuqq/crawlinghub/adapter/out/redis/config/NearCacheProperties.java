@@ -0,0 +1,52 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Near Cache 설정 Properties
+ *
+ * <p>Seller/CrawlScheduler 조회 결과를 인스턴스 로컬에 보관하는 Near Cache 설정값을 정의합니다.
+ *
+ * <p><strong>설정 항목</strong>:
+ *
+ * <ul>
+ *   <li>TTL: 쓰기 후 만료 시간 (무효화 메시지 유실 시 최대 stale 기간)
+ *   <li>Maximum Size: 영역(region)별 최대 항목 수
+ *   <li>Invalidation Topic: 인스턴스 간 무효화 전파용 Redis Pub/Sub 채널
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "near-cache")
+public class NearCacheProperties {
+
+    private Duration ttl = Duration.ofMinutes(5);
+    private long maximumSize = 10_000;
+    private String invalidationTopic = "crawlinghub:near-cache:invalidation";
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public String getInvalidationTopic() {
+        return invalidationTopic;
+    }
+
+    public void setInvalidationTopic(String invalidationTopic) {
+        this.invalidationTopic = invalidationTopic;
+    }
+}
@@ -3,6 +3,8 @@ package com.ryuqq.crawlinghub.adapter.out.redis.support;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
 import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +87,20 @@ public class CachedUserAgentRedisMapper {
                 consecutiveRateLimits);
     }
 
+    /**
+     * Lua HGETALL 결과(필드, 값 교대 배열) → CachedUserAgent
+     *
+     * @param hashFields HGETALL flat 배열 [field1, value1, field2, value2, ...]
+     * @return CachedUserAgent
+     */
+    public CachedUserAgent mapHashFieldsToCachedUserAgent(List<?> hashFields) {
+        Map<String, String> data = new HashMap<>(hashFields.size());
+        for (int i = 0; i + 1 < hashFields.size(); i += 2) {
+            data.put(String.valueOf(hashFields.get(i)), String.valueOf(hashFields.get(i + 1)));
+        }
+        return mapToCachedUserAgent(data);
+    }
+
     private Instant parseInstant(String value) {
         if (value == null || value.isEmpty() || "0".equals(value)) {
             return null;
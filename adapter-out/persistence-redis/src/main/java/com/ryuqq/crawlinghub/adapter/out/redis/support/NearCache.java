@@ -0,0 +1,167 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ryuqq.crawlinghub.adapter.out.redis.config.NearCacheProperties;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인스턴스 로컬 Near Cache
+ *
+ * <p>영역({@link NearCacheRegion})별 Caffeine 캐시를 보관하고, Redis Pub/Sub으로 인스턴스 간 무효화를 전파합니다.
+ *
+ * <ul>
+ *   <li><strong>조회/적재</strong>: 캐시에 보관된 값만 반환하고, 원본 조회와 적재는 Application Layer의 CacheReadManager가
+ *       담당합니다.
+ *   <li><strong>무효화</strong>: 로컬 캐시를 즉시 비우고, 트랜잭션 안이면 커밋 이후 다시 비운 뒤 다른 인스턴스로 전파합니다.
+ *       커밋 전에 다른 스레드가 이전 값을 다시 적재하는 경우를 커밋 후 재무효화로 막습니다.
+ *   <li><strong>전파 실패</strong>: 경고 로그만 남기며, 다른 인스턴스는 TTL이 지나면 최신 값을 읽습니다.
+ * </ul>
+ *
+ * <p><strong>메트릭</strong>: {@code near_cache_requests_total{cache, result=hit|miss}}, {@code
+ * near_cache_invalidations_total{cache}}
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCache {
+
+    private static final Logger log = LoggerFactory.getLogger(NearCache.class);
+
+    private static final String REQUESTS_METRIC = "near_cache_requests_total";
+    private static final String INVALIDATIONS_METRIC = "near_cache_invalidations_total";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final Map<NearCacheRegion, Cache<Long, Object>> caches =
+            new EnumMap<>(NearCacheRegion.class);
+    private final RTopic invalidationTopic;
+    private final CrawlHubMetrics metrics;
+    private int listenerId = -1;
+
+    public NearCache(
+            RedissonClient redissonClient,
+            NearCacheProperties properties,
+            CrawlHubMetrics metrics) {
+        for (NearCacheRegion region : NearCacheRegion.values()) {
+            caches.put(
+                    region,
+                    Caffeine.newBuilder()
+                            .expireAfterWrite(properties.getTtl())
+                            .maximumSize(properties.getMaximumSize())
+                            .build());
+        }
+        this.invalidationTopic =
+                redissonClient.getTopic(properties.getInvalidationTopic(), StringCodec.INSTANCE);
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerId =
+                invalidationTopic.addListener(
+                        String.class, (channel, message) -> onInvalidationMessage(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (listenerId >= 0) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param region 캐시 영역
+     * @param key 캐시 키
+     * @return 캐시된 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(NearCacheRegion region, long key) {
+        Object value = caches.get(region).getIfPresent(key);
+        String result = value == null ? "miss" : "hit";
+        metrics.incrementCounter(REQUESTS_METRIC, "cache", region.metricTag(), "result", result);
+        return (T) value;
+    }
+
+    /**
+     * 캐시 적재 (현재 인스턴스)
+     *
+     * @param region 캐시 영역
+     * @param key 캐시 키
+     * @param value 적재할 값 (null 불가)
+     */
+    public void put(NearCacheRegion region, long key, Object value) {
+        caches.get(region).put(key, value);
+    }
+
+    /**
+     * 캐시 무효화 (모든 인스턴스)
+     *
+     * @param region 캐시 영역
+     * @param key 캐시 키
+     */
+    public void invalidate(NearCacheRegion region, long key) {
+        metrics.incrementCounter(INVALIDATIONS_METRIC, "cache", region.metricTag());
+        evictLocal(region, key);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(region, key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictLocal(region, key);
+                        publish(region, key);
+                    }
+                });
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 발행한 무효화 메시지 처리
+     *
+     * @param message {@code {영역}:{키}} 형식의 메시지
+     */
+    void onInvalidationMessage(String message) {
+        int delimiterIndex = message.indexOf(MESSAGE_DELIMITER);
+        try {
+            NearCacheRegion region =
+                    NearCacheRegion.valueOf(message.substring(0, delimiterIndex));
+            long key = Long.parseLong(message.substring(delimiterIndex + 1));
+            evictLocal(region, key);
+        } catch (RuntimeException e) {
+            log.warn("Near Cache 무효화 메시지 해석 실패: message={}", message, e);
+        }
+    }
+
+    private void publish(NearCacheRegion region, long key) {
+        try {
+            invalidationTopic.publish(region.name() + MESSAGE_DELIMITER + key);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Near Cache 무효화 전파 실패 (TTL 만료 후 반영): region={}, key={}", region, key, e);
+        }
+    }
+
+    private void evictLocal(NearCacheRegion region, long key) {
+        caches.get(region).invalidate(key);
+    }
+}
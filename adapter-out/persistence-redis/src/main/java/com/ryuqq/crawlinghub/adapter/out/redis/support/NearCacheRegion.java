@@ -0,0 +1,31 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.support;
+
+/**
+ * Near Cache 영역
+ *
+ * <p>영역마다 별도의 로컬 캐시를 사용하며, 무효화 메시지는 {@code {영역}:{키}} 형식으로 전파됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum NearCacheRegion {
+
+    /** sellerId → Seller */
+    SELLER("seller"),
+
+    /** crawlSchedulerId → CrawlScheduler */
+    CRAWL_SCHEDULER("crawl_scheduler"),
+
+    /** sellerId → 해당 셀러의 ACTIVE CrawlScheduler 목록 */
+    ACTIVE_SCHEDULERS_BY_SELLER("active_schedulers_by_seller");
+
+    private final String metricTag;
+
+    NearCacheRegion(String metricTag) {
+        this.metricTag = metricTag;
+    }
+
+    public String metricTag() {
+        return metricTag;
+    }
+}
@@ -14,13 +14,16 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>{prefix}pool:{id} - UserAgent Hash
- *   <li>{prefix}idle - IDLE 상태 Set
+ *   <li>{prefix}idle_ranked - IDLE 상태 Sorted Set (score: Health 우선, 남은 토큰 차순위)
  *   <li>{prefix}borrowed - BORROWED 상태 Set
  *   <li>{prefix}cooldown - COOLDOWN 상태 Set
  *   <li>{prefix}session_required - SESSION_REQUIRED 상태 Set
  *   <li>{prefix}suspended - SUSPENDED 상태 Set
  * </ul>
  *
+ * <p>IDLE은 score 상위 후보를 O(log n)으로 고르기 위해 Sorted Set을 사용합니다. 기존 {prefix}idle(Set)과 타입이 달라 키
+ * 이름을 분리했으며, 기존 키는 WarmUp 시 {@link #legacyIdleSetKey()}로 찾아 이관 후 삭제합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -34,15 +37,17 @@ public class UserAgentPoolKeyResolver {
     private final String cooldownSetKey;
     private final String sessionRequiredSetKey;
     private final String suspendedSetKey;
+    private final String legacyIdleSetKey;
 
     public UserAgentPoolKeyResolver(UserAgentPoolProperties properties) {
         String keyPrefix = properties.getKeyPrefix();
         this.poolKeyPrefix = keyPrefix + "pool:";
-        this.idleSetKey = keyPrefix + "idle";
+        this.idleSetKey = keyPrefix + "idle_ranked";
         this.borrowedSetKey = keyPrefix + "borrowed";
         this.cooldownSetKey = keyPrefix + "cooldown";
         this.sessionRequiredSetKey = keyPrefix + "session_required";
         this.suspendedSetKey = keyPrefix + "suspended";
+        this.legacyIdleSetKey = keyPrefix + "idle";
     }
 
     public String poolKey(long userAgentId) {
@@ -77,6 +82,11 @@ public class UserAgentPoolKeyResolver {
         return suspendedSetKey;
     }
 
+    /** Sorted Set 전환 이전의 IDLE Set 키 (이관 전용) */
+    public String legacyIdleSetKey() {
+        return legacyIdleSetKey;
+    }
+
     /**
      * @deprecated Use {@link #idleSetKey()} instead
      */
@@ -18,8 +18,13 @@ import org.springframework.util.StreamUtils;
  * <ul>
  *   <li>기존 consumeToken, recordSuccess, recordFailure, rateLimitSuspend 스크립트 유지 (Phase 6에서 제거)
  *   <li>신규 borrow, return, cooldownRecover 스크립트 추가
+ *   <li>borrow-ahead용 borrowBatch, returnBatch 스크립트 추가 (단건 borrow 스크립트는 borrowBatch로 일원화하여 제거)
+ *   <li>세션 발급 후 IDLE 편입(markIdle), 레거시 IDLE Set 이관(idleMigrate) 스크립트 추가
  * </ul>
  *
+ * <p>IDLE Sorted Set score를 계산하는 스크립트는 {@code lua/useragent_idle_score.lua}의 {@code idleScore} 정의를
+ * 앞에 붙여 로드하므로 score 규칙은 한 곳에서만 관리됩니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -27,9 +32,12 @@ import org.springframework.util.StreamUtils;
 public class UserAgentPoolLuaScriptHolder {
 
     // Phase 2: 신규 Borrow/Return 패턴 스크립트
-    private final String borrowScript;
     private final String returnScript;
     private final String cooldownRecoverScript;
+    private final String borrowBatchScript;
+    private final String returnBatchScript;
+    private final String markIdleScript;
+    private final String idleMigrateScript;
 
     // 레거시 스크립트 (Phase 6에서 제거 예정)
     private final String consumeTokenScript;
@@ -41,23 +49,24 @@ public class UserAgentPoolLuaScriptHolder {
             value = "CT_CONSTRUCTOR_THROW",
             justification = "Spring @Component: IoC 컨테이너가 생성을 관리하므로 Finalizer 공격 위험 없음")
     public UserAgentPoolLuaScriptHolder() {
+        String idleScore = loadLuaScript("lua/useragent_idle_score.lua");
+
         // Phase 2: 신규 스크립트 로드
-        this.borrowScript = loadLuaScript("lua/useragent_borrow.lua");
-        this.returnScript = loadLuaScript("lua/useragent_return.lua");
-        this.cooldownRecoverScript = loadLuaScript("lua/useragent_cooldown_recover.lua");
+        this.returnScript = idleScore + loadLuaScript("lua/useragent_return.lua");
+        this.cooldownRecoverScript =
+                idleScore + loadLuaScript("lua/useragent_cooldown_recover.lua");
+        this.borrowBatchScript = idleScore + loadLuaScript("lua/useragent_borrow_batch.lua");
+        this.returnBatchScript = idleScore + loadLuaScript("lua/useragent_return_batch.lua");
+        this.markIdleScript = idleScore + loadLuaScript("lua/useragent_mark_idle.lua");
+        this.idleMigrateScript = idleScore + loadLuaScript("lua/useragent_idle_migrate.lua");
 
         // 레거시 스크립트 로드 (Phase 6까지 유지)
         this.consumeTokenScript = loadLuaScript("lua/useragent_consume_token.lua");
-        this.recordSuccessScript = loadLuaScript("lua/useragent_record_success.lua");
-        this.recordFailureScript = loadLuaScript("lua/useragent_record_failure.lua");
+        this.recordSuccessScript = idleScore + loadLuaScript("lua/useragent_record_success.lua");
+        this.recordFailureScript = idleScore + loadLuaScript("lua/useragent_record_failure.lua");
         this.rateLimitSuspendScript = loadLuaScript("lua/useragent_rate_limit_suspend.lua");
     }
 
-    /** Phase 2: UserAgent Borrow 스크립트 (IDLE -> BORROWED) */
-    public String borrowScript() {
-        return borrowScript;
-    }
-
     /** Phase 2: UserAgent Return 스크립트 (BORROWED -> IDLE/COOLDOWN/SUSPENDED) */
     public String returnScript() {
         return returnScript;
@@ -68,8 +77,28 @@ public class UserAgentPoolLuaScriptHolder {
         return cooldownRecoverScript;
     }
 
+    /** UserAgent 일괄 Borrow 스크립트 (IDLE -> BORROWED, Hash 데이터 포함 반환) */
+    public String borrowBatchScript() {
+        return borrowBatchScript;
+    }
+
+    /** UserAgent 일괄 Return 스크립트 (BORROWED -> IDLE/COOLDOWN/SUSPENDED, 미사용 토큰 환불) */
+    public String returnBatchScript() {
+        return returnBatchScript;
+    }
+
+    /** 세션 발급 후 IDLE 편입 스크립트 (SESSION_REQUIRED -> IDLE Sorted Set) */
+    public String markIdleScript() {
+        return markIdleScript;
+    }
+
+    /** 레거시 IDLE Set -> IDLE Sorted Set 이관 스크립트 */
+    public String idleMigrateScript() {
+        return idleMigrateScript;
+    }
+
     /**
-     * @deprecated Phase 6에서 제거 예정. {@link #borrowScript()} 사용
+     * @deprecated Phase 6에서 제거 예정. {@link #borrowBatchScript()} 사용
      */
     @Deprecated
     public String consumeTokenScript() {
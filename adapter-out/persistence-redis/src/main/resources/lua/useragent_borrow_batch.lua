@@ -1,7 +1,11 @@
 --[[
-    UserAgent Borrow Lua Script (HikariCP getConnection 대응)
+    UserAgent Batch Borrow Lua Script (borrow-ahead용)
 
-    KEYS[1]: idle set key (useragent:idle)
+    score 상위 후보, 세션 만료 체크, Token Bucket Lazy Refill, 토큰 1개 차감 규칙으로 최대 N개를 한 번에
+    IDLE → BORROWED 전환하고, 전환된 UserAgent의 Hash 데이터를 함께 반환합니다.
+    (borrow 후 HGETALL 왕복 제거, 단건 borrow도 N=1로 이 스크립트를 사용)
+
+    KEYS[1]: idle sorted set key (useragent:idle_ranked)
     KEYS[2]: pool key prefix (useragent:pool:)
     KEYS[3]: borrowed set key (useragent:borrowed)
     KEYS[4]: session_required set key (useragent:session_required)
@@ -9,8 +13,11 @@
     ARGV[1]: 현재 시간 (epoch millis)
     ARGV[2]: max tokens (80)
     ARGV[3]: window duration millis (1시간 = 3600000)
+    ARGV[4]: 최대 borrow 개수
+
+    IDLE Sorted Set score: idleScore (useragent_idle_score.lua, 로드 시 앞에 붙음)
 
-    RETURN: 선택된 UserAgent ID (없으면 nil)
+    RETURN: 전환된 UserAgent별 HGETALL 결과 배열 (없으면 빈 배열)
 ]]
 
 local idleSetKey = KEYS[1]
@@ -21,25 +28,44 @@ local sessionRequiredSetKey = KEYS[4]
 local now = tonumber(ARGV[1])
 local maxTokens = tonumber(ARGV[2])
 local windowDuration = tonumber(ARGV[3])
+local maxCount = tonumber(ARGV[4])
+
+-- best-of-K 후보 수 (요청 1개당 후보 3개)
+local candidateCount = maxCount * 3
+
+local borrowed = {}
+
+-- 0. 윈도우가 끝난 토큰 소진 UserAgent를 Lazy Refill 후 사용 가능 구간으로 복귀
+local refillable = redis.call('ZRANGEBYSCORE', idleSetKey, '(' .. (-now), '(0',
+    'LIMIT', 0, candidateCount)
+for _, id in ipairs(refillable) do
+    local poolKey = poolKeyPrefix .. id
+    redis.call('HSET', poolKey,
+        'remainingTokens', maxTokens,
+        'windowStart', now,
+        'windowEnd', now + windowDuration)
+    redis.call('ZADD', idleSetKey, idleScore(poolKey), id)
+end
 
--- HikariCP SharedList 스캔 대응: 3개 후보 랜덤 선택
-local candidates = redis.call('SRANDMEMBER', idleSetKey, 3)
+-- score 상위 후보 선택
+local candidates = redis.call('ZREVRANGE', idleSetKey, 0, candidateCount - 1)
 if #candidates == 0 then
-    -- fallback: 전체 스캔
-    candidates = redis.call('SMEMBERS', idleSetKey)
-    if #candidates == 0 then
-        return nil
-    end
+    return borrowed
 end
 
 for _, id in ipairs(candidates) do
+    if #borrowed >= maxCount then
+        break
+    end
+
     local poolKey = poolKeyPrefix .. id
 
-    -- 1. 세션 만료 체크 (HikariCP isAlive 대응)
+    -- 1. 세션 만료 체크
     local sessionExpiresAt = tonumber(redis.call('HGET', poolKey, 'sessionExpiresAt') or '0')
     if sessionExpiresAt > 0 and sessionExpiresAt < now then
         -- IDLE → SESSION_REQUIRED (Soft Eviction)
-        redis.call('SMOVE', idleSetKey, sessionRequiredSetKey, id)
+        redis.call('ZREM', idleSetKey, id)
+        redis.call('SADD', sessionRequiredSetKey, id)
         redis.call('HSET', poolKey, 'status', 'SESSION_REQUIRED')
         redis.call('HSET', poolKey, 'sessionToken', '')
         redis.call('HSET', poolKey, 'sessionExpiresAt', '0')
@@ -56,9 +82,10 @@ for _, id in ipairs(candidates) do
         end
 
         if tokens > 0 then
-            -- 3. IDLE → BORROWED (CAS 전환)
+            -- 3. IDLE → BORROWED
             tokens = tokens - 1
-            redis.call('SMOVE', idleSetKey, borrowedSetKey, id)
+            redis.call('ZREM', idleSetKey, id)
+            redis.call('SADD', borrowedSetKey, id)
             redis.call('HSET', poolKey,
                 'status', 'BORROWED',
                 'borrowedAt', now,
@@ -72,9 +99,12 @@ for _, id in ipairs(candidates) do
                     'windowEnd', now + windowDuration)
             end
 
-            return id
+            borrowed[#borrowed + 1] = redis.call('HGETALL', poolKey)
+        else
+            -- 토큰 소진: 윈도우가 끝날 때까지 후보에서 밀어냄
+            redis.call('ZADD', idleSetKey, idleScore(poolKey), id)
         end
     end
 end
 
-return nil
+return borrowed
@@ -2,12 +2,14 @@
     UserAgent Cooldown Recovery Lua Script (Housekeeper 호출)
 
     KEYS[1]: cooldown set key (useragent:cooldown)
-    KEYS[2]: idle set key (useragent:idle)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
     KEYS[3]: session_required set key (useragent:session_required)
     KEYS[4]: pool key prefix (useragent:pool:)
 
     ARGV[1]: now (epoch millis)
 
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
+
     RETURN: 복구된 UserAgent 수
 ]]
 
@@ -32,7 +34,7 @@ for _, id in ipairs(members) do
         if sessionExpires > 0 and sessionExpires > now then
             -- 세션 유효 → IDLE
             redis.call('HSET', key, 'status', 'IDLE', 'cooldownUntil', '0')
-            redis.call('SADD', idleSetKey, id)
+            redis.call('ZADD', idleSetKey, idleScore(key), id)
         else
             -- 세션 만료 → SESSION_REQUIRED
             redis.call('HSET', key, 'status', 'SESSION_REQUIRED', 'cooldownUntil', '0')
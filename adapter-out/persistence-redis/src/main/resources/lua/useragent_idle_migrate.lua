@@ -0,0 +1,35 @@
+--[[
+    레거시 IDLE Set → IDLE Sorted Set 이관 Lua Script (WarmUp 시 실행)
+
+    Sorted Set 전환 이전의 IDLE Set(useragent:idle)에 남은 UserAgent를 idleScore로 IDLE Sorted Set에 넣고
+    레거시 키를 삭제합니다. 레거시 키가 없거나 Set이 아니면 아무것도 하지 않으므로 여러 번 실행해도 안전합니다.
+
+    KEYS[1]: legacy idle set key (useragent:idle)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
+    KEYS[3]: pool key prefix (useragent:pool:)
+
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
+
+    RETURN: 이관된 UserAgent 수
+]]
+
+local legacyIdleSetKey = KEYS[1]
+local idleSetKey = KEYS[2]
+local poolKeyPrefix = KEYS[3]
+
+if redis.call('TYPE', legacyIdleSetKey).ok ~= 'set' then
+    return 0
+end
+
+local migrated = 0
+for _, id in ipairs(redis.call('SMEMBERS', legacyIdleSetKey)) do
+    local poolKey = poolKeyPrefix .. id
+    -- 이관 사이에 다른 상태로 바뀐 UserAgent는 제외
+    if redis.call('HGET', poolKey, 'status') == 'IDLE' then
+        redis.call('ZADD', idleSetKey, idleScore(poolKey), id)
+        migrated = migrated + 1
+    end
+end
+redis.call('DEL', legacyIdleSetKey)
+
+return migrated
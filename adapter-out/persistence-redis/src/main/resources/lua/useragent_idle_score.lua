@@ -0,0 +1,18 @@
+--[[
+    IDLE Sorted Set score 공통 정의
+
+    idleScore를 사용하는 스크립트 앞에 UserAgentPoolLuaScriptHolder가 붙여서 로드합니다.
+    score 규칙은 이 파일 한 곳에서만 정의합니다.
+
+    토큰 > 0: healthScore * 1000 + min(remainingTokens, 999) (Health 우선, 같은 Health면 남은 토큰 순)
+    토큰 = 0: -windowEnd (음수 구간, 윈도우가 먼저 끝나는 순)
+]]
+
+local function idleScore(poolKey)
+    local health = tonumber(redis.call('HGET', poolKey, 'healthScore') or '100')
+    local tokens = tonumber(redis.call('HGET', poolKey, 'remainingTokens') or '0')
+    if tokens > 0 then
+        return health * 1000 + math.min(tokens, 999)
+    end
+    return -tonumber(redis.call('HGET', poolKey, 'windowEnd') or '0')
+end
@@ -0,0 +1,26 @@
+--[[
+    세션 발급 후 IDLE 편입 Lua Script
+
+    세션 필드가 갱신된 UserAgent를 SESSION_REQUIRED Set에서 빼고 IDLE Sorted Set에 idleScore로 넣습니다.
+
+    KEYS[1]: session_required set key (useragent:session_required)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
+    KEYS[3]: pool key (useragent:pool:{id})
+
+    ARGV[1]: userAgentId
+
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
+
+    RETURN: IDLE Sorted Set score
+]]
+
+local sessionRequiredSetKey = KEYS[1]
+local idleSetKey = KEYS[2]
+local poolKey = KEYS[3]
+local userAgentId = ARGV[1]
+
+local score = idleScore(poolKey)
+redis.call('SREM', sessionRequiredSetKey, userAgentId)
+redis.call('ZADD', idleSetKey, score, userAgentId)
+
+return score
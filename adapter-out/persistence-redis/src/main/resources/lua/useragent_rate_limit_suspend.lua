@@ -5,7 +5,7 @@
     expireSession + removeFromPool을 하나의 트랜잭션으로 묶습니다.
 
     KEYS[1]: pool key (useragent:pool:{id})
-    KEYS[2]: ready set key (useragent:ready)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
     KEYS[3]: session_required set key (useragent:session_required)
     KEYS[4]: suspended set key (useragent:suspended)
 
@@ -28,8 +28,8 @@ redis.call('HSET', KEYS[1], 'sessionExpiresAt', '0')
 redis.call('HSET', KEYS[1], 'status', 'SUSPENDED')
 redis.call('HSET', KEYS[1], 'suspendedAt', suspendedAt)
 
--- Set 이동: ready/session_required에서 제거, suspended에 추가
-redis.call('SREM', KEYS[2], userAgentId)
+-- Set 이동: idle/session_required에서 제거, suspended에 추가
+redis.call('ZREM', KEYS[2], userAgentId)
 redis.call('SREM', KEYS[3], userAgentId)
 redis.call('SADD', KEYS[4], userAgentId)
 
@@ -2,7 +2,7 @@
     UserAgent 실패 기록 Lua Script
 
     KEYS[1]: pool key (useragent:pool:{id})
-    KEYS[2]: available set key (useragent:available)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
     KEYS[3]: suspended set key (useragent:suspended)
 
     ARGV[1]: penalty (5 or 10)
@@ -10,6 +10,8 @@
     ARGV[3]: userAgentId
     ARGV[4]: suspendedAt (epoch millis)
 
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
+
     RETURN: 1 if SUSPENDED, 0 otherwise
 ]]
 
@@ -26,9 +28,12 @@ redis.call('HSET', KEYS[1], 'healthScore', newHealth)
 if newHealth < threshold then
     redis.call('HSET', KEYS[1], 'status', 'SUSPENDED')
     redis.call('HSET', KEYS[1], 'suspendedAt', suspendedAt)
-    redis.call('SREM', KEYS[2], userAgentId)
+    redis.call('ZREM', KEYS[2], userAgentId)
     redis.call('SADD', KEYS[3], userAgentId)
     return 1
 end
 
+-- IDLE 상태면 낮아진 Health로 score 갱신 (XX: 이미 있는 멤버만)
+redis.call('ZADD', KEYS[2], 'XX', idleScore(KEYS[1]), userAgentId)
+
 return 0
@@ -2,15 +2,23 @@
     UserAgent 성공 기록 Lua Script
 
     KEYS[1]: pool key (useragent:pool:{id})
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
 
     ARGV[1]: delta (증가량)
+    ARGV[2]: userAgentId
+
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
 
     RETURN: 새로운 Health Score
 ]]
 
 local delta = tonumber(ARGV[1])
+local userAgentId = ARGV[2]
 local healthScore = tonumber(redis.call('HGET', KEYS[1], 'healthScore') or '100')
 local newHealth = math.min(healthScore + delta, 100)
 redis.call('HSET', KEYS[1], 'healthScore', newHealth)
 
+-- IDLE 상태면 높아진 Health로 score 갱신 (XX: 이미 있는 멤버만)
+redis.call('ZADD', KEYS[2], 'XX', idleScore(KEYS[1]), userAgentId)
+
 return newHealth
@@ -2,7 +2,7 @@
     UserAgent Return Lua Script (HikariCP connection.close 대응)
 
     KEYS[1]: borrowed set key (useragent:borrowed)
-    KEYS[2]: idle set key (useragent:idle)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
     KEYS[3]: cooldown set key (useragent:cooldown)
     KEYS[4]: suspended set key (useragent:suspended)
     KEYS[5]: pool key prefix (useragent:pool:)
@@ -16,6 +16,8 @@
     ARGV[7]: consecutiveRateLimits
     ARGV[8]: suspensionThreshold
 
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
+
     RETURN: 0=IDLE, 1=COOLDOWN, 2=SUSPENDED
 ]]
 
@@ -50,7 +52,7 @@ if success == 1 then
         'borrowedAt', '0',
         'consecutiveRateLimits', '0',
         'cooldownUntil', '0')
-    redis.call('SADD', idleSetKey, userAgentId)
+    redis.call('ZADD', idleSetKey, idleScore(key), userAgentId)
     return 0
 else
     if httpStatusCode == 429 then
@@ -91,7 +93,7 @@ else
             'status', 'IDLE',
             'healthScore', newHealth,
             'borrowedAt', '0')
-        redis.call('SADD', idleSetKey, userAgentId)
+        redis.call('ZADD', idleSetKey, idleScore(key), userAgentId)
         return 0
     end
 end
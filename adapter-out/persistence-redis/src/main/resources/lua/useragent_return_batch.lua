@@ -0,0 +1,136 @@
+--[[
+    UserAgent Batch Return Lua Script (borrow-ahead용)
+
+    여러 UserAgent를 한 번에 반납합니다.
+    - 사용 항목(mode=1): useragent_return.lua와 동일한 규칙으로 BORROWED → IDLE/COOLDOWN/SUSPENDED 전환
+      (규칙 변경 시 두 스크립트를 함께 수정해야 합니다)
+    - 미사용 항목(mode=0): 여전히 BORROWED인 경우에만 토큰 1개를 환불하고 IDLE로 복귀
+      (Leak 복구 등으로 이미 반납된 경우 변경 없이 -1)
+
+    KEYS[1]: borrowed set key (useragent:borrowed)
+    KEYS[2]: idle sorted set key (useragent:idle_ranked)
+    KEYS[3]: cooldown set key (useragent:cooldown)
+    KEYS[4]: suspended set key (useragent:suspended)
+    KEYS[5]: pool key prefix (useragent:pool:)
+
+    ARGV[1]: now (epoch millis)
+    ARGV[2]: suspensionThreshold
+    ARGV[3]: max tokens (80)
+    ARGV[4..]: 항목별 7개 인자 반복
+        userAgentId, mode (1=사용, 0=미사용), success (1/0), httpStatusCode,
+        healthDelta, cooldownUntil (0 if none), consecutiveRateLimits
+
+    idleScore: useragent_idle_score.lua (로드 시 앞에 붙음)
+
+    RETURN: 항목 순서대로의 상태 코드 배열 (0=IDLE, 1=COOLDOWN, 2=SUSPENDED, -1=변경 없음)
+]]
+
+local borrowedSetKey = KEYS[1]
+local idleSetKey = KEYS[2]
+local cooldownSetKey = KEYS[3]
+local suspendedSetKey = KEYS[4]
+local poolKeyPrefix = KEYS[5]
+
+local now = ARGV[1]
+local suspensionThreshold = tonumber(ARGV[2])
+local maxTokens = tonumber(ARGV[3])
+
+local ARGS_PER_ENTRY = 7
+
+local function releaseUnused(userAgentId, key)
+    if redis.call('SREM', borrowedSetKey, userAgentId) == 0 then
+        return -1
+    end
+
+    -- borrow 시 차감한 토큰 환불 (윈도우가 이미 만료되었으면 다음 borrow에서 refill되므로 그대로 둠)
+    local tokens = tonumber(redis.call('HGET', key, 'remainingTokens') or '0')
+    local windowEnd = tonumber(redis.call('HGET', key, 'windowEnd') or '0')
+    if windowEnd == 0 or windowEnd >= tonumber(now) then
+        tokens = math.min(tokens + 1, maxTokens)
+    end
+
+    redis.call('HSET', key,
+        'status', 'IDLE',
+        'borrowedAt', '0',
+        'remainingTokens', tokens)
+    redis.call('ZADD', idleSetKey, idleScore(key), userAgentId)
+    return 0
+end
+
+local function returnUsed(userAgentId, key, success, httpStatusCode, healthDelta,
+                          cooldownUntil, consecutiveRateLimits)
+    redis.call('SREM', borrowedSetKey, userAgentId)
+
+    local health = tonumber(redis.call('HGET', key, 'healthScore') or '100')
+    local newHealth = math.max(math.min(health + healthDelta, 100), 0)
+
+    if success == 1 then
+        redis.call('HSET', key,
+            'status', 'IDLE',
+            'healthScore', newHealth,
+            'borrowedAt', '0',
+            'consecutiveRateLimits', '0',
+            'cooldownUntil', '0')
+        redis.call('ZADD', idleSetKey, idleScore(key), userAgentId)
+        return 0
+    end
+
+    if httpStatusCode == 429 then
+        if tonumber(consecutiveRateLimits) >= 5 then
+            redis.call('HSET', key,
+                'status', 'SUSPENDED',
+                'healthScore', newHealth,
+                'borrowedAt', '0',
+                'suspendedAt', now,
+                'consecutiveRateLimits', consecutiveRateLimits)
+            redis.call('SADD', suspendedSetKey, userAgentId)
+            return 2
+        end
+        redis.call('HSET', key,
+            'status', 'COOLDOWN',
+            'healthScore', newHealth,
+            'cooldownUntil', cooldownUntil,
+            'consecutiveRateLimits', consecutiveRateLimits,
+            'borrowedAt', '0')
+        redis.call('SADD', cooldownSetKey, userAgentId)
+        return 1
+    end
+
+    if newHealth < suspensionThreshold then
+        redis.call('HSET', key,
+            'status', 'SUSPENDED',
+            'healthScore', newHealth,
+            'borrowedAt', '0',
+            'suspendedAt', now)
+        redis.call('SADD', suspendedSetKey, userAgentId)
+        return 2
+    end
+
+    redis.call('HSET', key,
+        'status', 'IDLE',
+        'healthScore', newHealth,
+        'borrowedAt', '0')
+    redis.call('ZADD', idleSetKey, idleScore(key), userAgentId)
+    return 0
+end
+
+local results = {}
+for i = 4, #ARGV, ARGS_PER_ENTRY do
+    local userAgentId = ARGV[i]
+    local key = poolKeyPrefix .. userAgentId
+
+    if tonumber(ARGV[i + 1]) == 0 then
+        results[#results + 1] = releaseUnused(userAgentId, key)
+    else
+        results[#results + 1] = returnUsed(
+            userAgentId,
+            key,
+            tonumber(ARGV[i + 2]),
+            tonumber(ARGV[i + 3]),
+            tonumber(ARGV[i + 4]),
+            ARGV[i + 5],
+            ARGV[i + 6])
+    end
+end
+
+return results
@@ -0,0 +1,229 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.config.RedisProperties;
+import com.ryuqq.crawlinghub.application.common.component.lock.DistributedLockHandle;
+import com.ryuqq.crawlinghub.application.common.component.lock.LockType;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * DistributedLockAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence")
+@Tag("redis")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockAdapter 단위 테스트")
+class DistributedLockAdapterTest {
+
+    private static final String LOCK_KEY = "crawlinghub:lock:scheduler:test-job";
+
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+    @Mock private RAtomicLong fence;
+    @Mock private RBucket<String> hold;
+
+    private DistributedLockAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new DistributedLockAdapter(redissonClient, new RedisProperties());
+    }
+
+    private void givenNoHold(String lockKey) {
+        given(redissonClient.<String>getBucket(lockKey + ":hold", StringCodec.INSTANCE))
+                .willReturn(hold);
+        given(hold.isExists()).willReturn(false);
+    }
+
+    @Nested
+    @DisplayName("tryAcquire() 테스트")
+    class TryAcquire {
+
+        @Test
+        @DisplayName("[성공] watchdog 락 획득 시 펜싱 토큰을 발급한다")
+        void shouldIssueFencingTokenWhenAcquired() {
+            // Given
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(true);
+            givenNoHold(LOCK_KEY);
+            given(redissonClient.getAtomicLong(LOCK_KEY + ":fence")).willReturn(fence);
+            given(fence.incrementAndGet()).willReturn(7L);
+
+            // When
+            Optional<DistributedLockHandle> result =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job");
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get().fencingToken()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("[실패] 다른 인스턴스가 보유 중이면 빈 값을 반환한다")
+        void shouldReturnEmptyWhenLockHeldElsewhere() {
+            // Given
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(false);
+
+            // When
+            Optional<DistributedLockHandle> result =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job");
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(redissonClient, never()).getAtomicLong(anyString());
+        }
+
+        @Test
+        @DisplayName("[스킵] 빨리 끝난 직전 실행의 최소 보유 시간 중이면 락을 놓고 빈 값을 반환한다")
+        void shouldSkipWhenPreviousRunStillWithinMinimumHold() {
+            // Given
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(true);
+            given(redissonClient.<String>getBucket(LOCK_KEY + ":hold", StringCodec.INSTANCE))
+                    .willReturn(hold);
+            given(hold.isExists()).willReturn(true);
+
+            // When
+            Optional<DistributedLockHandle> result =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job");
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(lock).unlock();
+            verify(redissonClient, never()).getAtomicLong(anyString());
+        }
+
+        @Test
+        @DisplayName("[성공] 유지 시간이 있는 락은 고정 lease로 획득한다")
+        void shouldUseFixedLeaseForNonWatchdogType() throws InterruptedException {
+            // Given
+            given(redissonClient.getLock("crawlinghub:lock:task:1")).willReturn(lock);
+            given(lock.tryLock(0L, 60000L, TimeUnit.MILLISECONDS)).willReturn(true);
+            givenNoHold("crawlinghub:lock:task:1");
+            given(redissonClient.getAtomicLong("crawlinghub:lock:task:1:fence")).willReturn(fence);
+            given(fence.incrementAndGet()).willReturn(1L);
+
+            // When
+            Optional<DistributedLockHandle> result = adapter.tryAcquire(LockType.CRAWL_TASK, 1L);
+
+            // Then
+            assertThat(result).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("DistributedLockHandle 테스트")
+    class Handle {
+
+        @Test
+        @DisplayName("[실패] 다른 인스턴스가 재획득해 토큰이 앞서면 보유하지 않은 것으로 본다")
+        void shouldNotBeHeldWhenFenceAdvanced() {
+            // Given
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(true);
+            givenNoHold(LOCK_KEY);
+            given(redissonClient.getAtomicLong(LOCK_KEY + ":fence")).willReturn(fence);
+            given(fence.incrementAndGet()).willReturn(3L);
+            DistributedLockHandle handle =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job").orElseThrow();
+            given(lock.isHeldByCurrentThread()).willReturn(true);
+            given(fence.get()).willReturn(4L);
+
+            // When & Then
+            assertThat(handle.isHeld()).isFalse();
+        }
+
+        @Test
+        @DisplayName("[성공] 이미 만료된 락은 해제하지 않는다")
+        void shouldNotUnlockWhenNotHeld() {
+            // Given
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(true);
+            givenNoHold(LOCK_KEY);
+            given(redissonClient.getAtomicLong(LOCK_KEY + ":fence")).willReturn(fence);
+            given(fence.incrementAndGet()).willReturn(1L);
+            DistributedLockHandle handle =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job").orElseThrow();
+            given(lock.isHeldByCurrentThread()).willReturn(false);
+
+            // When
+            handle.release();
+
+            // Then
+            verify(lock, never()).unlock();
+        }
+
+        @Test
+        @DisplayName("[성공] 최소 보유 시간 전에 해제하면 남은 시간만큼 hold 마커를 남기고 락을 해제한다")
+        void shouldLeaveHoldMarkerWhenReleasedBeforeMinimumHold() {
+            // Given
+            Duration lockAtLeastFor = Duration.ofSeconds(4);
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(true);
+            givenNoHold(LOCK_KEY);
+            given(redissonClient.getAtomicLong(LOCK_KEY + ":fence")).willReturn(fence);
+            given(fence.incrementAndGet()).willReturn(5L);
+            DistributedLockHandle handle =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job").orElseThrow();
+            given(lock.isHeldByCurrentThread()).willReturn(true);
+
+            // When
+            handle.release(lockAtLeastFor);
+
+            // Then
+            ArgumentCaptor<Duration> remaining = ArgumentCaptor.forClass(Duration.class);
+            verify(hold).set(eq("5"), remaining.capture());
+            assertThat(remaining.getValue()).isPositive().isLessThanOrEqualTo(lockAtLeastFor);
+            verify(lock).unlock();
+        }
+
+        @Test
+        @DisplayName("[성공] 최소 보유 시간 없이 해제하면 hold 마커를 남기지 않는다")
+        void shouldNotLeaveHoldMarkerWithoutMinimumHold() {
+            // Given
+            given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+            given(lock.tryLock()).willReturn(true);
+            givenNoHold(LOCK_KEY);
+            given(redissonClient.getAtomicLong(LOCK_KEY + ":fence")).willReturn(fence);
+            given(fence.incrementAndGet()).willReturn(1L);
+            DistributedLockHandle handle =
+                    adapter.tryAcquire(LockType.SCHEDULER_JOB, "test-job").orElseThrow();
+            given(lock.isHeldByCurrentThread()).willReturn(true);
+
+            // When
+            handle.release();
+
+            // Then
+            verify(hold, never()).set(anyString(), any(Duration.class));
+            verify(lock).unlock();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.crawlinghub.adapter.out.redis.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -14,12 +15,14 @@ import com.ryuqq.crawlinghub.adapter.out.redis.support.UserAgentPoolKeyResolver;
 import com.ryuqq.crawlinghub.adapter.out.redis.support.UserAgentPoolLuaScriptHolder;
 import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.domain.useragent.id.UserAgentId;
 import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RBucket;
 import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RScript;
 import org.redisson.api.RSet;
 import org.redisson.api.RedissonClient;
@@ -59,6 +63,7 @@ class UserAgentPoolCacheCommandAdapterTest {
     @Mock private RedissonClient redissonClient;
     @Mock private RMap rMap;
     @Mock private RSet rSet;
+    @Mock private RScoredSortedSet idleSortedSet;
     @Mock private RScript rScript;
     @Mock private RBucket rBucket;
     @Mock private UserAgentPoolLuaScriptHolder luaScriptHolder;
@@ -71,7 +76,7 @@ class UserAgentPoolCacheCommandAdapterTest {
     private static final Instant FIXED_NOW = Instant.parse("2024-01-15T10:00:00Z");
     private static final String KEY_PREFIX = "useragent:";
     private static final String POOL_KEY_PREFIX = KEY_PREFIX + "pool:";
-    private static final String IDLE_SET_KEY = KEY_PREFIX + "idle";
+    private static final String IDLE_SET_KEY = KEY_PREFIX + "idle_ranked";
     private static final String BORROWED_SET_KEY = KEY_PREFIX + "borrowed";
     private static final String COOLDOWN_SET_KEY = KEY_PREFIX + "cooldown";
     private static final String SESSION_REQUIRED_SET_KEY = KEY_PREFIX + "session_required";
@@ -151,6 +156,17 @@ class UserAgentPoolCacheCommandAdapterTest {
         return data;
     }
 
+    /** Lua HGETALL 결과(필드, 값 교대 배열) 생성 헬퍼 */
+    private List<Object> toHashFields(Map<String, String> data) {
+        List<Object> fields = new ArrayList<>();
+        data.forEach(
+                (field, value) -> {
+                    fields.add(field);
+                    fields.add(value);
+                });
+        return fields;
+    }
+
     // ========================================
     // addToPool 테스트
     // ========================================
@@ -207,144 +223,145 @@ class UserAgentPoolCacheCommandAdapterTest {
     }
 
     // ========================================
-    // borrow 테스트
+    // returnAgent 테스트
     // ========================================
 
     @Nested
-    @DisplayName("borrow - UserAgent 대여 (IDLE -> BORROWED)")
-    class BorrowTests {
+    @DisplayName("returnAgent - UserAgent 반환 (BORROWED -> IDLE/COOLDOWN/SUSPENDED)")
+    class ReturnAgentTests {
 
         @Test
-        @DisplayName("성공 - Lua 스크립트 결과로 선택된 UserAgent 반환")
-        void shouldReturnBorrowedUserAgent() {
+        @DisplayName("성공 반환 - returnCode 0 (IDLE)")
+        void shouldReturnIdleCode() {
             // Given
-            String borrowLua = "borrow_lua_script";
-            given(luaScriptHolder.borrowScript()).willReturn(borrowLua);
+            String returnLua = "return_lua_script";
+            given(luaScriptHolder.returnScript()).willReturn(returnLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(borrowLua),
-                                    eq(RScript.ReturnType.VALUE),
+                                    eq(returnLua),
+                                    eq(RScript.ReturnType.INTEGER),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
                                     any(String.class)))
-                    .willReturn("1");
-
-            String poolKey = POOL_KEY_PREFIX + "1";
-            Map<String, String> data = buildRedisHashData(1L, "Mozilla/5.0", UserAgentStatus.IDLE);
-            given(redissonClient.getMap(eq(poolKey), any(StringCodec.class))).willReturn(rMap);
-            given(rMap.readAllMap()).willReturn(data);
+                    .willReturn(0L);
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            Optional<CachedUserAgent> result = adapter.borrow();
+            int result = adapter.returnAgent(1L, true, 200, 5, null, 0);
 
             // Then
-            assertThat(result).isPresent();
-            assertThat(result.get().userAgentId()).isEqualTo(1L);
-            assertThat(result.get().userAgentValue()).isEqualTo("Mozilla/5.0");
+            assertThat(result).isEqualTo(0);
         }
 
         @Test
-        @DisplayName("실패 - Lua 스크립트가 null 반환 시 빈 Optional")
-        void shouldReturnEmptyWhenScriptReturnsNull() {
+        @DisplayName("429 응답 반환 - returnCode 1 (COOLDOWN)")
+        void shouldReturnCooldownCode() {
             // Given
-            String borrowLua = "borrow_lua_script";
-            given(luaScriptHolder.borrowScript()).willReturn(borrowLua);
+            String returnLua = "return_lua_script";
+            given(luaScriptHolder.returnScript()).willReturn(returnLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(borrowLua),
-                                    eq(RScript.ReturnType.VALUE),
+                                    eq(returnLua),
+                                    eq(RScript.ReturnType.INTEGER),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
                                     any(String.class)))
-                    .willReturn(null);
+                    .willReturn(1L);
 
+            long cooldownUntil = FIXED_NOW.plusSeconds(60).toEpochMilli();
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            Optional<CachedUserAgent> result = adapter.borrow();
+            int result = adapter.returnAgent(1L, false, 429, -10, cooldownUntil, 3);
 
             // Then
-            assertThat(result).isEmpty();
+            assertThat(result).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("실패 - Lua 스크립트 결과로 ID 선택 후 Hash 데이터가 비어있으면 빈 Optional")
-        void shouldReturnEmptyWhenPoolHashIsEmpty() {
+        @DisplayName("연속 429 초과 반환 - returnCode 2 (SUSPENDED)")
+        void shouldReturnSuspendedCode() {
             // Given
-            String borrowLua = "borrow_lua_script";
-            given(luaScriptHolder.borrowScript()).willReturn(borrowLua);
+            String returnLua = "return_lua_script";
+            given(luaScriptHolder.returnScript()).willReturn(returnLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(borrowLua),
-                                    eq(RScript.ReturnType.VALUE),
+                                    eq(returnLua),
+                                    eq(RScript.ReturnType.INTEGER),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
                                     any(String.class)))
-                    .willReturn("99");
-
-            String poolKey = POOL_KEY_PREFIX + "99";
-            given(redissonClient.getMap(eq(poolKey), any(StringCodec.class))).willReturn(rMap);
-            given(rMap.readAllMap()).willReturn(Map.of());
+                    .willReturn(2L);
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            Optional<CachedUserAgent> result = adapter.borrow();
+            int result = adapter.returnAgent(1L, false, 429, -20, null, 5);
 
             // Then
-            assertThat(result).isEmpty();
+            assertThat(result).isEqualTo(2);
         }
 
         @Test
-        @DisplayName("성공 - consumeToken은 borrow에 위임하여 동일 결과 반환")
-        void consumeTokenDelegatesToBorrow() {
+        @DisplayName("Lua 결과가 null이면 0(IDLE)로 처리")
+        void shouldDefaultToIdleWhenScriptReturnsNull() {
             // Given
-            String borrowLua = "borrow_lua_script";
-            given(luaScriptHolder.borrowScript()).willReturn(borrowLua);
+            String returnLua = "return_lua_script";
+            given(luaScriptHolder.returnScript()).willReturn(returnLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(borrowLua),
-                                    eq(RScript.ReturnType.VALUE),
+                                    eq(returnLua),
+                                    eq(RScript.ReturnType.INTEGER),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
+                                    any(String.class),
                                     any(String.class)))
                     .willReturn(null);
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            Optional<CachedUserAgent> result = adapter.consumeToken();
+            int result = adapter.returnAgent(1L, true, 200, 5, null, 0);
 
             // Then
-            assertThat(result).isEmpty();
+            assertThat(result).isEqualTo(0);
         }
-    }
-
-    // ========================================
-    // returnAgent 테스트
-    // ========================================
-
-    @Nested
-    @DisplayName("returnAgent - UserAgent 반환 (BORROWED -> IDLE/COOLDOWN/SUSPENDED)")
-    class ReturnAgentTests {
 
         @Test
-        @DisplayName("성공 반환 - returnCode 0 (IDLE)")
-        void shouldReturnIdleCode() {
+        @DisplayName("cooldownUntil이 null이면 0으로 전달")
+        void shouldPassZeroWhenCooldownUntilIsNull() {
             // Given
             String returnLua = "return_lua_script";
             given(luaScriptHolder.returnScript()).willReturn(returnLua);
@@ -373,134 +390,223 @@ class UserAgentPoolCacheCommandAdapterTest {
             // Then
             assertThat(result).isEqualTo(0);
         }
+    }
+
+    // ========================================
+    // borrowBatch 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("borrowBatch - UserAgent 일괄 대여 (IDLE -> BORROWED)")
+    class BorrowBatchTests {
 
         @Test
-        @DisplayName("429 응답 반환 - returnCode 1 (COOLDOWN)")
-        void shouldReturnCooldownCode() {
+        @DisplayName("성공 - 스크립트가 반환한 HGETALL 배열로 매핑하고 readAllMap을 호출하지 않음")
+        void shouldMapInlineHashFields() {
             // Given
-            String returnLua = "return_lua_script";
-            given(luaScriptHolder.returnScript()).willReturn(returnLua);
+            String borrowBatchLua = "borrow_batch_lua_script";
+            given(luaScriptHolder.borrowBatchScript()).willReturn(borrowBatchLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(returnLua),
-                                    eq(RScript.ReturnType.INTEGER),
+                                    eq(borrowBatchLua),
+                                    eq(RScript.ReturnType.MULTI),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
                                     any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class)))
-                    .willReturn(1L);
+                                    eq("2")))
+                    .willReturn(
+                            List.of(
+                                    toHashFields(
+                                            buildRedisHashData(
+                                                    1L, "Mozilla/5.0", UserAgentStatus.BORROWED)),
+                                    toHashFields(
+                                            buildRedisHashData(
+                                                    2L, "Chrome/120", UserAgentStatus.BORROWED))));
 
-            long cooldownUntil = FIXED_NOW.plusSeconds(60).toEpochMilli();
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            int result = adapter.returnAgent(1L, false, 429, -10, cooldownUntil, 3);
+            List<CachedUserAgent> result = adapter.borrowBatch(2);
 
             // Then
-            assertThat(result).isEqualTo(1);
+            assertThat(result)
+                    .extracting(CachedUserAgent::userAgentId)
+                    .containsExactly(1L, 2L);
+            assertThat(result.get(1).userAgentValue()).isEqualTo("Chrome/120");
+            verify(redissonClient, Mockito.never()).getMap(anyString(), any(StringCodec.class));
         }
 
         @Test
-        @DisplayName("연속 429 초과 반환 - returnCode 2 (SUSPENDED)")
-        void shouldReturnSuspendedCode() {
+        @DisplayName("실패 - 대여 가능한 UserAgent가 없으면 빈 목록")
+        void shouldReturnEmptyListWhenNothingBorrowed() {
             // Given
-            String returnLua = "return_lua_script";
-            given(luaScriptHolder.returnScript()).willReturn(returnLua);
+            String borrowBatchLua = "borrow_batch_lua_script";
+            given(luaScriptHolder.borrowBatchScript()).willReturn(borrowBatchLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(returnLua),
-                                    eq(RScript.ReturnType.INTEGER),
+                                    eq(borrowBatchLua),
+                                    eq(RScript.ReturnType.MULTI),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
                                     any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
                                     any(String.class)))
-                    .willReturn(2L);
+                    .willReturn(List.of());
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            int result = adapter.returnAgent(1L, false, 429, -20, null, 5);
+            List<CachedUserAgent> result = adapter.borrowBatch(4);
 
             // Then
-            assertThat(result).isEqualTo(2);
+            assertThat(result).isEmpty();
         }
 
         @Test
-        @DisplayName("Lua 결과가 null이면 0(IDLE)로 처리")
-        void shouldDefaultToIdleWhenScriptReturnsNull() {
+        @DisplayName("성공 - consumeToken은 borrowBatch(1)에 위임하여 첫 번째 결과 반환")
+        void consumeTokenDelegatesToBorrowBatch() {
             // Given
-            String returnLua = "return_lua_script";
-            given(luaScriptHolder.returnScript()).willReturn(returnLua);
+            String borrowBatchLua = "borrow_batch_lua_script";
+            given(luaScriptHolder.borrowBatchScript()).willReturn(borrowBatchLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(returnLua),
-                                    eq(RScript.ReturnType.INTEGER),
+                                    eq(borrowBatchLua),
+                                    eq(RScript.ReturnType.MULTI),
                                     any(List.class),
                                     any(String.class),
                                     any(String.class),
                                     any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class)))
-                    .willReturn(null);
+                                    eq("1")))
+                    .willReturn(
+                            List.of(
+                                    toHashFields(
+                                            buildRedisHashData(
+                                                    1L, "Mozilla/5.0", UserAgentStatus.BORROWED))));
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            int result = adapter.returnAgent(1L, true, 200, 5, null, 0);
+            Optional<CachedUserAgent> result = adapter.consumeToken();
 
             // Then
-            assertThat(result).isEqualTo(0);
+            assertThat(result).map(CachedUserAgent::userAgentId).contains(1L);
         }
+    }
+
+    // ========================================
+    // returnAgents 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("returnAgents - UserAgent 일괄 반환")
+    class ReturnAgentsTests {
 
         @Test
-        @DisplayName("cooldownUntil이 null이면 0으로 전달")
-        void shouldPassZeroWhenCooldownUntilIsNull() {
+        @DisplayName("성공 - 항목별 인자를 순서대로 전달하고 상태 코드를 순서대로 반환")
+        void shouldPassEntriesInOrderAndReturnCodes() {
             // Given
-            String returnLua = "return_lua_script";
-            given(luaScriptHolder.returnScript()).willReturn(returnLua);
+            String returnBatchLua = "return_batch_lua_script";
+            given(luaScriptHolder.returnBatchScript()).willReturn(returnBatchLua);
             given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
             given(
                             rScript.eval(
                                     eq(RScript.Mode.READ_WRITE),
-                                    eq(returnLua),
-                                    eq(RScript.ReturnType.INTEGER),
+                                    eq(returnBatchLua),
+                                    eq(RScript.ReturnType.MULTI),
                                     any(List.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class),
-                                    any(String.class)))
-                    .willReturn(0L);
+                                    any(Object[].class)))
+                    .willReturn(List.of(1L, -1L));
 
+            long cooldownUntil = FIXED_NOW.plusSeconds(60).toEpochMilli();
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
             // When
-            int result = adapter.returnAgent(1L, true, 200, 5, null, 0);
+            List<Integer> result =
+                    adapter.returnAgents(
+                            List.of(
+                                    ReturnedUserAgent.of(1L, false, 429, -20, cooldownUntil, 1),
+                                    ReturnedUserAgent.unused(2L)));
 
             // Then
-            assertThat(result).isEqualTo(0);
+            assertThat(result).containsExactly(1, -1);
+            verify(rScript)
+                    .eval(
+                            eq(RScript.Mode.READ_WRITE),
+                            eq(returnBatchLua),
+                            eq(RScript.ReturnType.MULTI),
+                            eq(
+                                    List.of(
+                                            BORROWED_SET_KEY,
+                                            IDLE_SET_KEY,
+                                            COOLDOWN_SET_KEY,
+                                            SUSPENDED_SET_KEY,
+                                            POOL_KEY_PREFIX)),
+                            eq(String.valueOf(FIXED_NOW.toEpochMilli())),
+                            eq("30"),
+                            eq("80"),
+                            eq("1"),
+                            eq("1"),
+                            eq("0"),
+                            eq("429"),
+                            eq("-20"),
+                            eq(String.valueOf(cooldownUntil)),
+                            eq("1"),
+                            eq("2"),
+                            eq("0"),
+                            eq("1"),
+                            eq("0"),
+                            eq("0"),
+                            eq("0"),
+                            eq("0"));
+        }
+
+        @Test
+        @DisplayName("실패 - 결과 개수가 항목 수와 다르면 예외")
+        void shouldThrowWhenResultSizeMismatch() {
+            // Given
+            String returnBatchLua = "return_batch_lua_script";
+            given(luaScriptHolder.returnBatchScript()).willReturn(returnBatchLua);
+            given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
+            given(
+                            rScript.eval(
+                                    eq(RScript.Mode.READ_WRITE),
+                                    eq(returnBatchLua),
+                                    eq(RScript.ReturnType.MULTI),
+                                    any(List.class),
+                                    any(Object[].class)))
+                    .willReturn(List.of(0L));
+
+            UserAgentPoolCacheCommandAdapter adapter = createAdapter();
+
+            // When & Then
+            assertThatThrownBy(
+                            () ->
+                                    adapter.returnAgents(
+                                            List.of(
+                                                    ReturnedUserAgent.unused(1L),
+                                                    ReturnedUserAgent.unused(2L))))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 목록이면 스크립트를 호출하지 않음")
+        void shouldSkipScriptWhenEmpty() {
+            // Given
+            UserAgentPoolCacheCommandAdapter adapter = createAdapter();
+
+            // When
+            List<Integer> result = adapter.returnAgents(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(redissonClient, Mockito.never()).getScript(any(StringCodec.class));
         }
     }
 
@@ -761,7 +867,8 @@ class UserAgentPoolCacheCommandAdapterTest {
             String poolKey = POOL_KEY_PREFIX + "1";
 
             given(redissonClient.getMap(eq(poolKey), any(StringCodec.class))).willReturn(rMap);
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+                    .willReturn(idleSortedSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(redissonClient.getSet(eq(COOLDOWN_SET_KEY), any(StringCodec.class)))
@@ -804,9 +911,8 @@ class UserAgentPoolCacheCommandAdapterTest {
             String poolKey = POOL_KEY_PREFIX + "1";
 
             given(redissonClient.getMap(eq(poolKey), any(StringCodec.class))).willReturn(rMap);
-            given(redissonClient.getSet(eq(SESSION_REQUIRED_SET_KEY), any(StringCodec.class)))
-                    .willReturn(rSet);
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(luaScriptHolder.markIdleScript()).willReturn("mark_idle_lua_script");
+            given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
@@ -819,6 +925,15 @@ class UserAgentPoolCacheCommandAdapterTest {
             verify(rMap).put("mustitUid", mustitUid);
             verify(rMap).put("sessionExpiresAt", String.valueOf(sessionExpiresAt.toEpochMilli()));
             verify(rMap).put("status", UserAgentStatus.IDLE.name());
+            verify(rScript)
+                    .eval(
+                            RScript.Mode.READ_WRITE,
+                            "mark_idle_lua_script",
+                            RScript.ReturnType.VALUE,
+                            List.of(SESSION_REQUIRED_SET_KEY, IDLE_SET_KEY, poolKey),
+                            "1");
+            verify(redissonClient, Mockito.never())
+                    .getScoredSortedSet(anyString(), any(StringCodec.class));
         }
 
         @Test
@@ -830,9 +945,8 @@ class UserAgentPoolCacheCommandAdapterTest {
             String poolKey = POOL_KEY_PREFIX + "1";
 
             given(redissonClient.getMap(eq(poolKey), any(StringCodec.class))).willReturn(rMap);
-            given(redissonClient.getSet(eq(SESSION_REQUIRED_SET_KEY), any(StringCodec.class)))
-                    .willReturn(rSet);
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(luaScriptHolder.markIdleScript()).willReturn("mark_idle_lua_script");
+            given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
@@ -845,6 +959,57 @@ class UserAgentPoolCacheCommandAdapterTest {
         }
     }
 
+    // ========================================
+    // migrateLegacyIdleSet 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("migrateLegacyIdleSet - 레거시 IDLE Set 이관")
+    class MigrateLegacyIdleSetTests {
+
+        @Test
+        @DisplayName("성공 - 레거시 키, IDLE Sorted Set 키, Pool prefix로 이관 스크립트 실행")
+        void shouldRunMigrationScript() {
+            // Given
+            given(luaScriptHolder.idleMigrateScript()).willReturn("idle_migrate_lua_script");
+            given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
+            given(
+                            rScript.eval(
+                                    RScript.Mode.READ_WRITE,
+                                    "idle_migrate_lua_script",
+                                    RScript.ReturnType.INTEGER,
+                                    List.of(
+                                            keyResolver.legacyIdleSetKey(),
+                                            IDLE_SET_KEY,
+                                            POOL_KEY_PREFIX)))
+                    .willReturn(2L);
+
+            UserAgentPoolCacheCommandAdapter adapter = createAdapter();
+
+            // When
+            int migrated = adapter.migrateLegacyIdleSet();
+
+            // Then
+            assertThat(migrated).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("성공 - 스크립트가 null 반환 시 0")
+        void shouldReturnZeroWhenScriptReturnsNull() {
+            // Given
+            given(luaScriptHolder.idleMigrateScript()).willReturn("idle_migrate_lua_script");
+            given(redissonClient.getScript(any(StringCodec.class))).willReturn(rScript);
+
+            UserAgentPoolCacheCommandAdapter adapter = createAdapter();
+
+            // When
+            int migrated = adapter.migrateLegacyIdleSet();
+
+            // Then
+            assertThat(migrated).isZero();
+        }
+    }
+
     // ========================================
     // expireSession 테스트
     // ========================================
@@ -861,7 +1026,8 @@ class UserAgentPoolCacheCommandAdapterTest {
             String poolKey = POOL_KEY_PREFIX + "1";
 
             given(redissonClient.getMap(eq(poolKey), any(StringCodec.class))).willReturn(rMap);
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+                    .willReturn(idleSortedSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(redissonClient.getSet(eq(COOLDOWN_SET_KEY), any(StringCodec.class)))
@@ -967,7 +1133,8 @@ class UserAgentPoolCacheCommandAdapterTest {
         @DisplayName("성공 - 모든 Set과 Map 삭제")
         void shouldClearAllSetsAndMaps() {
             // Given
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+                    .willReturn(idleSortedSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(redissonClient.getSet(eq(COOLDOWN_SET_KEY), any(StringCodec.class)))
@@ -977,6 +1144,7 @@ class UserAgentPoolCacheCommandAdapterTest {
             given(redissonClient.getSet(eq(SUSPENDED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(rSet.readAll()).willReturn(Set.of("1", "2"));
+            given(idleSortedSet.readAll()).willReturn(Set.of("3"));
             given(redissonClient.getMap(anyString())).willReturn(rMap);
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
@@ -985,14 +1153,16 @@ class UserAgentPoolCacheCommandAdapterTest {
             adapter.clearPool();
 
             // Then
-            verify(rSet, times(5)).delete();
+            verify(idleSortedSet).delete();
+            verify(rSet, times(4)).delete();
         }
 
         @Test
         @DisplayName("성공 - 비어있는 Pool도 정상 삭제 처리")
         void shouldClearEmptyPoolWithoutError() {
             // Given
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+                    .willReturn(idleSortedSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(redissonClient.getSet(eq(COOLDOWN_SET_KEY), any(StringCodec.class)))
@@ -1002,6 +1172,7 @@ class UserAgentPoolCacheCommandAdapterTest {
             given(redissonClient.getSet(eq(SUSPENDED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(rSet.readAll()).willReturn(Set.of());
+            given(idleSortedSet.readAll()).willReturn(Set.of());
 
             UserAgentPoolCacheCommandAdapter adapter = createAdapter();
 
@@ -1009,7 +1180,8 @@ class UserAgentPoolCacheCommandAdapterTest {
             adapter.clearPool();
 
             // Then
-            verify(rSet, times(5)).delete();
+            verify(idleSortedSet).delete();
+            verify(rSet, times(4)).delete();
         }
     }
 
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RSet;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.StringCodec;
@@ -54,6 +55,7 @@ class UserAgentPoolCacheQueryAdapterTest {
     @Mock private RedissonClient redissonClient;
     @Mock private RMap rMap;
     @Mock private RSet rSet;
+    @Mock private RScoredSortedSet idleSortedSet;
 
     private TimeProvider timeProvider;
     private UserAgentPoolKeyResolver keyResolver;
@@ -64,7 +66,7 @@ class UserAgentPoolCacheQueryAdapterTest {
     private static final Instant FIXED_NOW = Instant.parse("2024-01-15T10:00:00Z");
     private static final String KEY_PREFIX = "useragent:";
     private static final String POOL_KEY_PREFIX = KEY_PREFIX + "pool:";
-    private static final String IDLE_SET_KEY = KEY_PREFIX + "idle";
+    private static final String IDLE_SET_KEY = KEY_PREFIX + "idle_ranked";
     private static final String BORROWED_SET_KEY = KEY_PREFIX + "borrowed";
     private static final String COOLDOWN_SET_KEY = KEY_PREFIX + "cooldown";
     private static final String SESSION_REQUIRED_SET_KEY = KEY_PREFIX + "session_required";
@@ -191,7 +193,8 @@ class UserAgentPoolCacheQueryAdapterTest {
         @DisplayName("성공 - Pool 통계 정보 반환")
         void shouldReturnPoolStats() {
             // Given
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+                    .willReturn(idleSortedSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(redissonClient.getSet(eq(COOLDOWN_SET_KEY), any(StringCodec.class)))
@@ -202,8 +205,9 @@ class UserAgentPoolCacheQueryAdapterTest {
                     .willReturn(rSet);
 
             // idle=5, borrowed=0, cooldown=0, session_required=2, suspended=1
-            given(rSet.size()).willReturn(5, 0, 0, 2, 1);
-            given(rSet.readAll()).willReturn(Set.of("1", "2", "3", "4", "5"));
+            given(idleSortedSet.size()).willReturn(5);
+            given(rSet.size()).willReturn(0, 0, 2, 1);
+            given(idleSortedSet.readAll()).willReturn(Set.of("1", "2", "3", "4", "5"));
 
             RMap healthMap = createMockHealthMap(80);
             given(redissonClient.getMap(anyString(), any(StringCodec.class))).willReturn(healthMap);
@@ -227,7 +231,8 @@ class UserAgentPoolCacheQueryAdapterTest {
         @DisplayName("성공 - idle Set이 비어있으면 Health 통계가 0으로 초기화")
         void shouldReturnZeroHealthWhenIdleSetIsEmpty() {
             // Given
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class))).willReturn(rSet);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+                    .willReturn(idleSortedSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(rSet);
             given(redissonClient.getSet(eq(COOLDOWN_SET_KEY), any(StringCodec.class)))
@@ -238,8 +243,9 @@ class UserAgentPoolCacheQueryAdapterTest {
                     .willReturn(rSet);
 
             // 모든 Set이 비어있음
-            given(rSet.size()).willReturn(0, 0, 0, 0, 0);
-            given(rSet.readAll()).willReturn(Set.of());
+            given(idleSortedSet.size()).willReturn(0);
+            given(rSet.size()).willReturn(0, 0, 0, 0);
+            given(idleSortedSet.readAll()).willReturn(Set.of());
 
             // When
             var stats = adapter.getPoolStats();
@@ -256,10 +262,10 @@ class UserAgentPoolCacheQueryAdapterTest {
         @DisplayName("성공 - idle Set에 여러 에이전트 있을 때 health 평균 계산")
         void shouldCalculateAverageHealth() {
             // Given
-            RSet idleSetMock = org.mockito.Mockito.mock(RSet.class);
+            RScoredSortedSet idleSetMock = org.mockito.Mockito.mock(RScoredSortedSet.class);
             RSet emptySet = org.mockito.Mockito.mock(RSet.class);
 
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSetMock);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(emptySet);
@@ -536,10 +542,11 @@ class UserAgentPoolCacheQueryAdapterTest {
             // sessionExpiresAt = 10:05:00Z (threshold 이내이므로 만료 임박)
             long expiringSessionAt = FIXED_NOW.toEpochMilli() + (5 * 60 * 1000L);
 
-            RSet<Object> idleSet = org.mockito.Mockito.mock(RSet.class);
+            RScoredSortedSet<Object> idleSet =
+                    org.mockito.Mockito.mock(RScoredSortedSet.class);
             RMap agentMap = org.mockito.Mockito.mock(RMap.class);
 
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSet);
             given(idleSet.readAll()).willReturn(Set.of("1"));
             given(redissonClient.getMap(eq(POOL_KEY_PREFIX + "1"), any(StringCodec.class)))
@@ -563,10 +570,11 @@ class UserAgentPoolCacheQueryAdapterTest {
             // sessionExpiresAt = FIXED_NOW + 30분 (threshold 이후이므로 여유 있음)
             long futureSessionAt = FIXED_NOW.toEpochMilli() + (30 * 60 * 1000L);
 
-            RSet<Object> idleSet = org.mockito.Mockito.mock(RSet.class);
+            RScoredSortedSet<Object> idleSet =
+                    org.mockito.Mockito.mock(RScoredSortedSet.class);
             RMap agentMap = org.mockito.Mockito.mock(RMap.class);
 
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSet);
             given(idleSet.readAll()).willReturn(Set.of("2"));
             given(redissonClient.getMap(eq(POOL_KEY_PREFIX + "2"), any(StringCodec.class)))
@@ -584,10 +592,11 @@ class UserAgentPoolCacheQueryAdapterTest {
         @DisplayName("성공 - sessionExpiresAt이 '0'이면 건너뜀")
         void shouldSkipZeroSessionExpiresAt() {
             // Given
-            RSet<Object> idleSet = org.mockito.Mockito.mock(RSet.class);
+            RScoredSortedSet<Object> idleSet =
+                    org.mockito.Mockito.mock(RScoredSortedSet.class);
             RMap agentMap = org.mockito.Mockito.mock(RMap.class);
 
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSet);
             given(idleSet.readAll()).willReturn(Set.of("3"));
             given(redissonClient.getMap(eq(POOL_KEY_PREFIX + "3"), any(StringCodec.class)))
@@ -605,10 +614,11 @@ class UserAgentPoolCacheQueryAdapterTest {
         @DisplayName("성공 - sessionExpiresAt이 null이면 건너뜀")
         void shouldSkipNullSessionExpiresAt() {
             // Given
-            RSet<Object> idleSet = org.mockito.Mockito.mock(RSet.class);
+            RScoredSortedSet<Object> idleSet =
+                    org.mockito.Mockito.mock(RScoredSortedSet.class);
             RMap agentMap = org.mockito.Mockito.mock(RMap.class);
 
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSet);
             given(idleSet.readAll()).willReturn(Set.of("4"));
             given(redissonClient.getMap(eq(POOL_KEY_PREFIX + "4"), any(StringCodec.class)))
@@ -626,8 +636,9 @@ class UserAgentPoolCacheQueryAdapterTest {
         @DisplayName("성공 - Idle Set이 비어있으면 빈 목록 반환")
         void shouldReturnEmptyListWhenIdleSetIsEmpty() {
             // Given
-            RSet<Object> idleSet = org.mockito.Mockito.mock(RSet.class);
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            RScoredSortedSet<Object> idleSet =
+                    org.mockito.Mockito.mock(RScoredSortedSet.class);
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSet);
             given(idleSet.readAll()).willReturn(Set.of());
 
@@ -649,13 +660,13 @@ class UserAgentPoolCacheQueryAdapterTest {
                         + " suspended)")
         void shouldReturnAllUserAgentIdsFromAllSets() {
             // Given
-            RSet idleSet = org.mockito.Mockito.mock(RSet.class);
+            RScoredSortedSet idleSet = org.mockito.Mockito.mock(RScoredSortedSet.class);
             RSet borrowedSet = org.mockito.Mockito.mock(RSet.class);
             RSet cooldownSet = org.mockito.Mockito.mock(RSet.class);
             RSet sessionRequiredSet = org.mockito.Mockito.mock(RSet.class);
             RSet suspendedSet = org.mockito.Mockito.mock(RSet.class);
 
-            given(redissonClient.getSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
+            given(redissonClient.getScoredSortedSet(eq(IDLE_SET_KEY), any(StringCodec.class)))
                     .willReturn(idleSet);
             given(redissonClient.getSet(eq(BORROWED_SET_KEY), any(StringCodec.class)))
                     .willReturn(borrowedSet);
@@ -16,6 +16,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -91,7 +92,7 @@ class UserAgentPoolCacheStateAdapterTest {
     class ApplyPositiveDelta {
 
         @Test
-        @DisplayName("성공 - recordSuccess Lua 스크립트 실행, false 반환")
+        @DisplayName("성공 - recordSuccess Lua 스크립트 실행 (IDLE score 갱신 키 포함), false 반환")
         void shouldExecuteSuccessScriptAndReturnFalse() {
             // Given
             UserAgentId userAgentId = UserAgentId.of(1L);
@@ -110,8 +111,12 @@ class UserAgentPoolCacheStateAdapterTest {
                             eq(RScript.Mode.READ_WRITE),
                             anyString(),
                             eq(RScript.ReturnType.INTEGER),
-                            any(),
-                            eq("5"));
+                            eq(
+                                    List.of(
+                                            keyResolver.poolKey(userAgentId),
+                                            keyResolver.idleSetKey())),
+                            eq("5"),
+                            eq("1"));
         }
     }
 
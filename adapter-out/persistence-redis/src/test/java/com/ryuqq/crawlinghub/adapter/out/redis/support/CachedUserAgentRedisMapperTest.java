@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
 import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -676,4 +678,28 @@ class CachedUserAgentRedisMapperTest {
             assertThat(result.sessionToken()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("HGETALL flat 배열 매핑")
+    class HashFieldsMappingTests {
+
+        @Test
+        @DisplayName("성공 - 필드/값 교대 배열을 Hash와 동일하게 매핑")
+        void shouldMapFlatHashFields() {
+            // Given
+            List<Object> hashFields = new ArrayList<>();
+            buildFullHashData()
+                    .forEach(
+                            (field, value) -> {
+                                hashFields.add(field);
+                                hashFields.add(value);
+                            });
+
+            // When
+            CachedUserAgent result = mapper.mapHashFieldsToCachedUserAgent(hashFields);
+
+            // Then
+            assertThat(result).isEqualTo(mapper.mapToCachedUserAgent(buildFullHashData()));
+        }
+    }
 }
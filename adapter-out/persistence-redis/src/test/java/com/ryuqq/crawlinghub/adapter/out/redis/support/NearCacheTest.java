@@ -0,0 +1,195 @@
+package com.ryuqq.crawlinghub.adapter.out.redis.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.config.NearCacheProperties;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * NearCache 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence")
+@Tag("redis")
+@Tag("cache")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCache 단위 테스트")
+class NearCacheTest {
+
+    private static final String TOPIC = "crawlinghub:near-cache:invalidation";
+
+    @Mock private RedissonClient redissonClient;
+    @Mock private RTopic topic;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getTopic(TOPIC, StringCodec.INSTANCE)).willReturn(topic);
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache =
+                new NearCache(
+                        redissonClient,
+                        new NearCacheProperties(),
+                        new CrawlHubMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("get()/put() 조회 및 적재")
+    class GetAndPut {
+
+        @Test
+        @DisplayName("[성공] 적재 전에는 미스, 적재 후에는 캐시 값을 반환하고 hit/miss를 기록한다")
+        void shouldReturnValueAfterPut() {
+            // When
+            String before = nearCache.get(NearCacheRegion.SELLER, 1L);
+            nearCache.put(NearCacheRegion.SELLER, 1L, "seller-1");
+            String after = nearCache.get(NearCacheRegion.SELLER, 1L);
+
+            // Then
+            assertThat(before).isNull();
+            assertThat(after).isEqualTo("seller-1");
+            assertThat(requests("hit")).isEqualTo(1.0);
+            assertThat(requests("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("[성공] 영역이 다르면 같은 키라도 별도로 캐시한다")
+        void shouldSeparateRegions() {
+            // When
+            nearCache.put(NearCacheRegion.SELLER, 1L, "seller");
+            nearCache.put(NearCacheRegion.CRAWL_SCHEDULER, 1L, "scheduler");
+
+            // Then
+            String seller = nearCache.get(NearCacheRegion.SELLER, 1L);
+            String scheduler = nearCache.get(NearCacheRegion.CRAWL_SCHEDULER, 1L);
+            assertThat(seller).isEqualTo("seller");
+            assertThat(scheduler).isEqualTo("scheduler");
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate() 무효화")
+    class Invalidate {
+
+        @Test
+        @DisplayName("[성공] 트랜잭션 밖에서는 로컬 캐시를 비우고 즉시 전파한다")
+        void shouldEvictAndPublishImmediately() {
+            // Given
+            nearCache.put(NearCacheRegion.SELLER, 1L, "seller-1");
+
+            // When
+            nearCache.invalidate(NearCacheRegion.SELLER, 1L);
+
+            // Then
+            assertThat((Object) nearCache.get(NearCacheRegion.SELLER, 1L)).isNull();
+            verify(topic).publish("SELLER:1");
+        }
+
+        @Test
+        @DisplayName("[성공] 트랜잭션 안에서는 커밋 이후에 전파한다")
+        void shouldPublishAfterCommit() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            nearCache.invalidate(NearCacheRegion.CRAWL_SCHEDULER, 7L);
+
+            // Then
+            verify(topic, never()).publish(anyString());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            verify(topic).publish("CRAWL_SCHEDULER:7");
+        }
+
+        @Test
+        @DisplayName("[성공] 전파 실패는 예외 없이 무시한다")
+        void shouldIgnorePublishFailure() {
+            // Given
+            given(topic.publish(eq("SELLER:1"))).willThrow(new IllegalStateException("down"));
+
+            // When
+            nearCache.invalidate(NearCacheRegion.SELLER, 1L);
+
+            // Then
+            assertThat(
+                            meterRegistry
+                                    .find("crawlinghub.near_cache_invalidations_total")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("onInvalidationMessage() 수신")
+    class OnInvalidationMessage {
+
+        @Test
+        @DisplayName("[성공] 다른 인스턴스의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+        void shouldEvictOnMessage() {
+            // Given
+            nearCache.put(NearCacheRegion.ACTIVE_SCHEDULERS_BY_SELLER, 3L, "schedulers");
+
+            // When
+            nearCache.onInvalidationMessage("ACTIVE_SCHEDULERS_BY_SELLER:3");
+
+            // Then
+            assertThat((Object) nearCache.get(NearCacheRegion.ACTIVE_SCHEDULERS_BY_SELLER, 3L))
+                    .isNull();
+        }
+
+        @Test
+        @DisplayName("[실패] 형식이 잘못된 메시지는 무시한다")
+        void shouldIgnoreMalformedMessage() {
+            // Given
+            nearCache.put(NearCacheRegion.SELLER, 1L, "seller-1");
+
+            // When
+            nearCache.onInvalidationMessage("UNKNOWN");
+            nearCache.onInvalidationMessage("SELLER:abc");
+
+            // Then
+            assertThat((Object) nearCache.get(NearCacheRegion.SELLER, 1L)).isEqualTo("seller-1");
+        }
+    }
+
+    private double requests(String result) {
+        return meterRegistry
+                .find("crawlinghub.near_cache_requests_total")
+                .tags("cache", "seller", "result", result)
+                .counter()
+                .count();
+    }
+}
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.adapter.out.redis.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -18,14 +19,6 @@ import org.junit.jupiter.api.Test;
 @DisplayName("UserAgentPoolLuaScriptHolder 단위 테스트")
 class UserAgentPoolLuaScriptHolderTest {
 
-    @Test
-    @DisplayName("borrowScript - Lua 스크립트 로드 성공")
-    void shouldLoadBorrowScript() {
-        UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
-        assertThat(holder.borrowScript()).isNotBlank();
-        assertThat(holder.borrowScript()).contains("BORROWED");
-    }
-
     @Test
     @DisplayName("returnScript - Lua 스크립트 로드 성공")
     void shouldLoadReturnScript() {
@@ -42,6 +35,57 @@ class UserAgentPoolLuaScriptHolderTest {
         assertThat(holder.cooldownRecoverScript()).contains("cooldownUntil");
     }
 
+    @Test
+    @DisplayName("borrowBatchScript - Lua 스크립트 로드 성공")
+    void shouldLoadBorrowBatchScript() {
+        UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
+        assertThat(holder.borrowBatchScript()).isNotBlank();
+        assertThat(holder.borrowBatchScript()).contains("BORROWED", "HGETALL", "ZREVRANGE");
+        assertThat(holder.borrowBatchScript()).doesNotContain("SMEMBERS", "SRANDMEMBER");
+    }
+
+    @Test
+    @DisplayName("returnBatchScript - Lua 스크립트 로드 성공")
+    void shouldLoadReturnBatchScript() {
+        UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
+        assertThat(holder.returnBatchScript()).isNotBlank();
+        assertThat(holder.returnBatchScript()).contains("COOLDOWN", "remainingTokens");
+    }
+
+    @Test
+    @DisplayName("markIdleScript - Lua 스크립트 로드 성공")
+    void shouldLoadMarkIdleScript() {
+        UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
+        assertThat(holder.markIdleScript()).contains("SREM", "ZADD");
+    }
+
+    @Test
+    @DisplayName("idleMigrateScript - Lua 스크립트 로드 성공")
+    void shouldLoadIdleMigrateScript() {
+        UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
+        assertThat(holder.idleMigrateScript()).contains("SMEMBERS", "ZADD", "DEL");
+    }
+
+    @Test
+    @DisplayName("idleScore를 사용하는 스크립트는 공통 정의를 정확히 한 번 앞에 붙여 로드")
+    @SuppressWarnings("deprecation")
+    void shouldPrependSingleIdleScoreDefinition() {
+        UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
+        String definition = "local function idleScore(poolKey)";
+
+        assertThat(
+                        List.of(
+                                holder.borrowBatchScript(),
+                                holder.returnScript(),
+                                holder.returnBatchScript(),
+                                holder.cooldownRecoverScript(),
+                                holder.markIdleScript(),
+                                holder.idleMigrateScript(),
+                                holder.recordSuccessScript(),
+                                holder.recordFailureScript()))
+                .allSatisfy(script -> assertThat(script).containsOnlyOnce(definition));
+    }
+
     @Test
     @DisplayName("레거시 consumeTokenScript - Lua 스크립트 로드 성공")
     @SuppressWarnings("deprecation")
@@ -81,8 +125,8 @@ class UserAgentPoolLuaScriptHolderTest {
         UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
 
         // When
-        String firstCall = holder.borrowScript();
-        String secondCall = holder.borrowScript();
+        String firstCall = holder.borrowBatchScript();
+        String secondCall = holder.borrowBatchScript();
 
         // Then
         assertThat(firstCall).isEqualTo(secondCall);
@@ -90,13 +134,13 @@ class UserAgentPoolLuaScriptHolderTest {
     }
 
     @Test
-    @DisplayName("borrowScript가 IDLE과 BORROWED 키워드 포함")
-    void borrowScriptShouldContainIdleAndBorrowed() {
+    @DisplayName("borrowBatchScript가 IDLE과 BORROWED 키워드 포함")
+    void borrowBatchScriptShouldContainIdleAndBorrowed() {
         // Given
         UserAgentPoolLuaScriptHolder holder = new UserAgentPoolLuaScriptHolder();
 
         // When
-        String script = holder.borrowScript();
+        String script = holder.borrowBatchScript();
 
         // Then
         assertThat(script).contains("BORROWED");
@@ -0,0 +1,46 @@
+package com.ryuqq.crawlinghub.application.common.component.lock;
+
+import java.time.Duration;
+
+/**
+ * 획득한 분산 락 핸들
+ *
+ * <p>락을 획득한 스레드에서만 사용합니다. 펜싱 토큰은 같은 락 키에 대해 획득할 때마다 단조 증가하므로, 보유 중 lease가 만료되어
+ * 다른 인스턴스가 다시 획득하면 이전 보유자의 토큰은 더 이상 최신이 아닙니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface DistributedLockHandle {
+
+    /**
+     * 펜싱 토큰
+     *
+     * @return 획득 시 발급된 단조 증가 토큰
+     */
+    long fencingToken();
+
+    /**
+     * 아직 락을 보유 중인지 확인
+     *
+     * <p>현재 스레드가 락을 보유하고 있고, 발급받은 펜싱 토큰이 최신일 때만 true입니다.
+     *
+     * @return 보유 중이면 true
+     */
+    boolean isHeld();
+
+    /** 락 해제 (이미 만료되었거나 다른 보유자에게 넘어간 경우 무시) */
+    default void release() {
+        release(Duration.ZERO);
+    }
+
+    /**
+     * 최소 보유 시간을 지키며 락 해제
+     *
+     * <p>획득 후 {@code lockAtLeastFor}가 지나지 않았으면 남은 시간 동안은 다른 인스턴스가 획득하지 못합니다. 빨리 끝난
+     * 작업을 시계가 조금 늦은 다른 인스턴스가 같은 틱에 다시 실행하지 않도록 할 때 사용합니다.
+     *
+     * @param lockAtLeastFor 획득 시점부터의 최소 보유 시간
+     */
+    void release(Duration lockAtLeastFor);
+}
@@ -0,0 +1,36 @@
+package com.ryuqq.crawlinghub.application.common.component.lock;
+
+import com.ryuqq.crawlinghub.application.common.port.out.lock.DistributedLockPort;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 락 Manager
+ *
+ * <p><strong>책임</strong>: 분산 락 획득 위임
+ *
+ * <p><strong>규칙</strong>: 단일 Port만 의존
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class DistributedLockManager {
+
+    private final DistributedLockPort distributedLockPort;
+
+    public DistributedLockManager(DistributedLockPort distributedLockPort) {
+        this.distributedLockPort = distributedLockPort;
+    }
+
+    /**
+     * 락 획득 시도
+     *
+     * @param lockType 락 타입
+     * @param identifier 락 식별자
+     * @return 획득한 락 핸들 (다른 보유자가 있으면 Optional.empty())
+     */
+    public Optional<DistributedLockHandle> tryAcquire(LockType lockType, Object identifier) {
+        return distributedLockPort.tryAcquire(lockType, identifier);
+    }
+}
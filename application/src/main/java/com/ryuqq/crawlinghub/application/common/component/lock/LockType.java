@@ -28,7 +28,21 @@ public enum LockType {
      *   <li>maxReceiveCount: 1 (한 번 실패 시 DLQ)
      * </ul>
      */
-    CRAWL_TASK("task:", 0L, 60000L);
+    CRAWL_TASK("task:", 0L, 60000L),
+
+    /**
+     * 스케줄러 작업 리더 락
+     *
+     * <p>여러 스케줄러 인스턴스 중 한 곳에서만 틱을 실행
+     *
+     * <ul>
+     *   <li>락 키 패턴: scheduler:{jobName}
+     *   <li>대기 시간: 0ms (다른 인스턴스가 실행 중이면 이번 틱은 건너뜀)
+     *   <li>유지 시간: 0 (고정 만료 없음 - 보유 인스턴스가 살아 있는 동안 watchdog이 자동 연장, 장애 시 watchdog 주기 내
+     *       만료)
+     * </ul>
+     */
+    SCHEDULER_JOB("scheduler:", 0L, 0L);
 
     private final String keyPrefix;
     private final long defaultWaitTimeMs;
@@ -52,6 +66,15 @@ public enum LockType {
         return defaultLeaseTimeMs;
     }
 
+    /**
+     * 유지 시간을 고정하지 않고 watchdog 자동 연장을 사용하는지 여부
+     *
+     * @return 유지 시간이 0 이하이면 true
+     */
+    public boolean usesWatchdog() {
+        return defaultLeaseTimeMs <= 0;
+    }
+
     /**
      * 전체 락 키 생성
      *
@@ -1,5 +1,7 @@
 package com.ryuqq.crawlinghub.application.common.factory;
 
+import com.ryuqq.crawlinghub.domain.common.vo.CursorPageRequest;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
 import com.ryuqq.crawlinghub.domain.common.vo.DateRange;
 import com.ryuqq.crawlinghub.domain.common.vo.PageRequest;
 import com.ryuqq.crawlinghub.domain.common.vo.QueryContext;
@@ -43,4 +45,9 @@ public class CommonVoFactory {
             boolean includeDeleted) {
         return QueryContext.of(sortKey, sortDirection, pageRequest, includeDeleted);
     }
+
+    public <K extends SortKey, C> CursorQueryContext<K, C> createCursorQueryContext(
+            K sortKey, SortDirection sortDirection, C cursor, int size) {
+        return CursorQueryContext.of(sortKey, sortDirection, CursorPageRequest.of(cursor, size));
+    }
 }
@@ -4,11 +4,18 @@ import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.CrawlMetric;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+/**
+ * {@link CrawlMetric} 메트릭 기록 Aspect
+ *
+ * <p>반환값이 {@link CompletionStage}이면 메서드 반환 시점이 아니라 비동기 작업이 완료되는 시점에 소요 시간과 결과를 기록합니다.
+ */
 @Aspect
 @Component
 public class CrawlMetricAspect {
@@ -26,35 +33,63 @@ public class CrawlMetricAspect {
         String operation = crawlMetric.operation();
 
         Timer.Sample sample = metrics.startTimer();
+        Object result;
         try {
-            Object result = joinPoint.proceed();
-            metrics.stopTimer(
-                    sample,
-                    metricName + "_duration_seconds",
-                    "operation",
-                    operation,
-                    "outcome",
-                    "success");
-            metrics.incrementCounter(
-                    metricName + "_total", "operation", operation, "outcome", "success");
-            return result;
+            result = joinPoint.proceed();
         } catch (Exception e) {
-            metrics.stopTimer(
-                    sample,
-                    metricName + "_duration_seconds",
-                    "operation",
-                    operation,
-                    "outcome",
-                    "error");
-            metrics.incrementCounter(
-                    metricName + "_total", "operation", operation, "outcome", "error");
-            metrics.incrementCounter(
-                    metricName + "_errors_total",
-                    "operation",
-                    operation,
-                    "exception",
-                    e.getClass().getSimpleName());
+            recordError(sample, metricName, operation, e);
             throw e;
         }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete(
+                    (ignored, error) -> {
+                        if (error == null) {
+                            recordSuccess(sample, metricName, operation);
+                        } else {
+                            recordError(sample, metricName, operation, unwrap(error));
+                        }
+                    });
+            return result;
+        }
+        recordSuccess(sample, metricName, operation);
+        return result;
+    }
+
+    private void recordSuccess(Timer.Sample sample, String metricName, String operation) {
+        metrics.stopTimer(
+                sample,
+                metricName + "_duration_seconds",
+                "operation",
+                operation,
+                "outcome",
+                "success");
+        metrics.incrementCounter(
+                metricName + "_total", "operation", operation, "outcome", "success");
+    }
+
+    private void recordError(
+            Timer.Sample sample, String metricName, String operation, Throwable error) {
+        metrics.stopTimer(
+                sample,
+                metricName + "_duration_seconds",
+                "operation",
+                operation,
+                "outcome",
+                "error");
+        metrics.incrementCounter(metricName + "_total", "operation", operation, "outcome", "error");
+        metrics.incrementCounter(
+                metricName + "_errors_total",
+                "operation",
+                operation,
+                "exception",
+                error.getClass().getSimpleName());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
     }
 }
@@ -4,6 +4,8 @@ import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.OutboundClientMetric;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -20,6 +22,11 @@ public class OutboundClientMetricAspect {
         this.metrics = metrics;
     }
 
+    /**
+     * 아웃바운드 호출 메트릭 기록
+     *
+     * <p>{@link CompletableFuture}를 반환하는 비동기 호출은 Future 완료 시점에 소요 시간과 결과를 기록합니다.
+     */
     @Around("@annotation(outboundClientMetric)")
     public Object around(ProceedingJoinPoint joinPoint, OutboundClientMetric outboundClientMetric)
             throws Throwable {
@@ -29,51 +36,77 @@ public class OutboundClientMetricAspect {
         Timer.Sample sample = metrics.startTimer();
         try {
             Object result = joinPoint.proceed();
-            metrics.stopTimer(
-                    sample,
-                    "outbound_client_duration_seconds",
-                    "system",
-                    system,
-                    "operation",
-                    operation,
-                    "outcome",
-                    "success");
-            metrics.incrementCounter(
-                    "outbound_client_total",
-                    "system",
-                    system,
-                    "operation",
-                    operation,
-                    "outcome",
-                    "success");
+            if (result instanceof CompletableFuture<?> future) {
+                return future.whenComplete(
+                        (value, error) -> {
+                            if (error == null) {
+                                recordSuccess(sample, system, operation);
+                            } else {
+                                recordError(sample, system, operation, unwrap(error));
+                            }
+                        });
+            }
+            recordSuccess(sample, system, operation);
             return result;
         } catch (Exception e) {
-            metrics.stopTimer(
-                    sample,
-                    "outbound_client_duration_seconds",
-                    "system",
-                    system,
-                    "operation",
-                    operation,
-                    "outcome",
-                    "error");
-            metrics.incrementCounter(
-                    "outbound_client_total",
-                    "system",
-                    system,
-                    "operation",
-                    operation,
-                    "outcome",
-                    "error");
-            metrics.incrementCounter(
-                    "outbound_client_errors_total",
-                    "system",
-                    system,
-                    "operation",
-                    operation,
-                    "exception",
-                    e.getClass().getSimpleName());
+            recordError(sample, system, operation, e);
             throw e;
         }
     }
+
+    private void recordSuccess(Timer.Sample sample, String system, String operation) {
+        metrics.stopTimer(
+                sample,
+                "outbound_client_duration_seconds",
+                "system",
+                system,
+                "operation",
+                operation,
+                "outcome",
+                "success");
+        metrics.incrementCounter(
+                "outbound_client_total",
+                "system",
+                system,
+                "operation",
+                operation,
+                "outcome",
+                "success");
+    }
+
+    private void recordError(
+            Timer.Sample sample, String system, String operation, Throwable error) {
+        metrics.stopTimer(
+                sample,
+                "outbound_client_duration_seconds",
+                "system",
+                system,
+                "operation",
+                operation,
+                "outcome",
+                "error");
+        metrics.incrementCounter(
+                "outbound_client_total",
+                "system",
+                system,
+                "operation",
+                operation,
+                "outcome",
+                "error");
+        metrics.incrementCounter(
+                "outbound_client_errors_total",
+                "system",
+                system,
+                "operation",
+                operation,
+                "exception",
+                error.getClass().getSimpleName());
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
 }
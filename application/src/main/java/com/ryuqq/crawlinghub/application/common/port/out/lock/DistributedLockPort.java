@@ -0,0 +1,25 @@
+package com.ryuqq.crawlinghub.application.common.port.out.lock;
+
+import com.ryuqq.crawlinghub.application.common.component.lock.DistributedLockHandle;
+import com.ryuqq.crawlinghub.application.common.component.lock.LockType;
+import java.util.Optional;
+
+/**
+ * 분산 락 Port
+ *
+ * <p>{@link LockType}의 대기/유지 시간 설정으로 락 획득을 시도합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface DistributedLockPort {
+
+    /**
+     * 락 획득 시도
+     *
+     * @param lockType 락 타입
+     * @param identifier 락 식별자 (작업 이름, taskId 등)
+     * @return 획득한 락 핸들 (다른 보유자가 있으면 Optional.empty())
+     */
+    Optional<DistributedLockHandle> tryAcquire(LockType lockType, Object identifier);
+}
@@ -0,0 +1,257 @@
+package com.ryuqq.crawlinghub.application.common.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JsonParser 토큰 읽기 유틸리티
+ *
+ * <p>Jackson 스트리밍 {@link JsonParser}의 현재 토큰에서 값을 읽는 정적 메서드 모음. 변환 규칙은 {@link JsonNodeReader}와
+ * 동일하며(null 안전, 문자열-숫자 자동 변환), 트리를 만들지 않고 필요 없는 값은 {@link JsonParser#skipChildren()}으로
+ * 건너뜁니다.
+ *
+ * <p><strong>토큰 위치 규약</strong>: 모든 메서드는 값의 첫 토큰에서 호출되어야 하며, 반환 시 파서는 값의 마지막
+ * 토큰(스칼라 자신 또는 END_OBJECT/END_ARRAY)에 위치합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class JsonStreamReader {
+
+    private JsonStreamReader() {}
+
+    /**
+     * 텍스트 값 읽기
+     *
+     * <p>숫자/불리언은 문자열로 변환하고, 객체/배열은 건너뛴 뒤 빈 문자열을 반환합니다 ({@link
+     * com.fasterxml.jackson.databind.JsonNode#asText()}와 동일).
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @return 값 (null 토큰이면 null)
+     */
+    public static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return String.valueOf(parser.getDoubleValue());
+        }
+        return parser.getText();
+    }
+
+    /**
+     * 텍스트 값 읽기 (기본값 지원)
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @param defaultValue 기본값
+     * @return 값 (null 토큰이면 기본값)
+     */
+    public static String readTextOrDefault(JsonParser parser, String defaultValue)
+            throws IOException {
+        String value = readText(parser);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Long 값 읽기 (문자열 자동 변환 지원)
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @return 값 (null/변환실패 시 null)
+     */
+    public static Long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            return null;
+        }
+        if (token.isNumeric()) {
+            return parser.getNumberValue().longValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(parser.getText());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * long 값 읽기 (기본값 지원, 문자열 자동 변환)
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @param defaultValue 기본값
+     * @return 값 (null/변환실패 시 기본값)
+     */
+    public static long readLongOrDefault(JsonParser parser, long defaultValue)
+            throws IOException {
+        Long value = readLong(parser);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * int 값 읽기 (기본값 지원, 문자열 자동 변환)
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @param defaultValue 기본값
+     * @return 값 (null/변환실패 시 기본값)
+     */
+    public static int readIntOrDefault(JsonParser parser, int defaultValue) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            return defaultValue;
+        }
+        if (token.isNumeric()) {
+            return parser.getNumberValue().intValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        parser.skipChildren();
+        return defaultValue;
+    }
+
+    /**
+     * boolean 값 읽기 (기본값 지원)
+     *
+     * <p>숫자는 0이 아니면 true, 문자열은 "true"/"false"만 인식합니다 ({@link
+     * com.fasterxml.jackson.databind.JsonNode#asBoolean(boolean)}과 동일).
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @param defaultValue 기본값
+     * @return 값 (null/변환실패 시 기본값)
+     */
+    public static boolean readBooleanOrDefault(JsonParser parser, boolean defaultValue)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            return defaultValue;
+        }
+        return switch (token) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_NUMBER_INT -> parser.getNumberValue().longValue() != 0;
+            case VALUE_STRING -> parseBoolean(parser.getText().trim(), defaultValue);
+            default -> {
+                parser.skipChildren();
+                yield defaultValue;
+            }
+        };
+    }
+
+    /**
+     * 문자열 배열 읽기
+     *
+     * <p>배열 내 문자열이 아니거나 빈 문자열인 요소는 필터링합니다.
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @return 문자열 리스트 (배열이 아니면 빈 리스트)
+     */
+    public static List<String> readStringList(JsonParser parser) throws IOException {
+        List<String> result = new ArrayList<>();
+        forEachElement(
+                parser,
+                element -> {
+                    if (element.currentToken() == JsonToken.VALUE_STRING) {
+                        String text = element.getText();
+                        if (!text.isBlank()) {
+                            result.add(text);
+                        }
+                    } else {
+                        element.skipChildren();
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * 객체 필드 순회
+     *
+     * <p>각 필드마다 값의 첫 토큰으로 이동한 뒤 핸들러를 호출합니다. 핸들러는 값을 끝까지 소비해야 하며, 관심 없는 필드는 {@link
+     * JsonParser#skipChildren()}으로 건너뜁니다. 값이 객체가 아니면 건너뛰고 false를 반환합니다.
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @param handler 필드 핸들러
+     * @return 값이 객체였으면 true
+     */
+    public static boolean forEachField(JsonParser parser, FieldHandler handler)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            handler.handle(fieldName, parser);
+        }
+        return true;
+    }
+
+    /**
+     * 배열 요소 순회
+     *
+     * <p>각 요소의 첫 토큰에서 핸들러를 호출합니다. 핸들러는 요소를 끝까지 소비해야 합니다. 값이 배열이 아니면 건너뛰고 false를
+     * 반환합니다.
+     *
+     * @param parser 값의 첫 토큰에 위치한 파서
+     * @param handler 요소 핸들러
+     * @return 값이 배열이었으면 true
+     */
+    public static boolean forEachElement(JsonParser parser, ElementHandler handler)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return false;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            handler.handle(parser);
+        }
+        return true;
+    }
+
+    private static boolean parseBoolean(String text, boolean defaultValue) {
+        if ("true".equals(text)) {
+            return true;
+        }
+        if ("false".equals(text)) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    /** 객체 필드 핸들러 */
+    @FunctionalInterface
+    public interface FieldHandler {
+
+        /**
+         * @param fieldName 필드명
+         * @param parser 필드 값의 첫 토큰에 위치한 파서
+         */
+        void handle(String fieldName, JsonParser parser) throws IOException;
+    }
+
+    /** 배열 요소 핸들러 */
+    @FunctionalInterface
+    public interface ElementHandler {
+
+        /**
+         * @param parser 요소의 첫 토큰에 위치한 파서
+         */
+        void handle(JsonParser parser) throws IOException;
+    }
+}
@@ -11,9 +11,15 @@ import com.ryuqq.crawlinghub.domain.execution.aggregate.CrawlExecution;
 import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.useragent.exception.UserAgentException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -42,6 +48,12 @@ public class CrawlTaskExecutionCoordinator {
     private static final String CYCLE_METRIC = "useragent_cycle_total";
     private static final String HTTP_STATUS_METRIC = "crawl_http_status_total";
 
+    /**
+     * 태스크 생성 → 크롤링 성공까지 걸린 시간. 후속 태스크(DETAIL/OPTION)는 상위 SEARCH 결과 처리 시점에 생성되므로 "SEARCH 크롤링
+     * 완료 → DETAIL 크롤링 완료" 지연을 나타냅니다.
+     */
+    private static final String TIME_TO_SUCCESS_METRIC = "crawl_task_time_to_success";
+
     private final ExecutionCommandFacade commandFacade;
     private final CrawlingUserAgentCoordinator userAgentCoordinator;
     private final CrawlingProcessor crawlingProcessor;
@@ -87,22 +99,110 @@ public class CrawlTaskExecutionCoordinator {
         CrawlTaskExecutionBundle enrichedBundle = enrichBundle(bundle, agent);
         prepareExecution(enrichedBundle);
 
+        CrawlResult result = null;
+        Exception crawlError = null;
+        try {
+            result = crawlingProcessor.executeCrawling(enrichedBundle);
+        } catch (Exception e) {
+            crawlError = e;
+        }
+
+        finishExecution(enrichedBundle, agent, result, crawlError);
+    }
+
+    /**
+     * CrawlTask 비동기 실행 (HTTP 대기 중 스레드 비점유)
+     *
+     * <p>borrow, prepareExecution은 호출 스레드에서 동기로 실행하고, HTTP 응답 이후의 UserAgent 반납과 상태 저장은 {@code
+     * completionExecutor}에서 실행합니다. HTTP 클라이언트 I/O 스레드에서 DB/Redis 블로킹 호출이 일어나지 않도록 반드시 별도
+     * Executor를 전달해야 합니다.
+     *
+     * @param bundle 초기 Bundle
+     * @param completionExecutor 크롤링 완료 후처리 Executor
+     * @return 완료 Future (크롤링/후처리 오류는 {@link #execute}와 동일하게 내부에서 처리되어 정상 완료)
+     * @throws RetryableExecutionException UserAgent borrow 실패 시
+     */
+    public CompletableFuture<Void> executeAsync(
+            CrawlTaskExecutionBundle bundle, Executor completionExecutor) {
+        BorrowedUserAgent agent = borrowUserAgent(bundle);
+
+        CrawlTaskExecutionBundle enrichedBundle = enrichBundle(bundle, agent);
+        prepareExecution(enrichedBundle);
+
+        CompletableFuture<CrawlResult> crawling;
+        try {
+            crawling = crawlingProcessor.executeCrawlingAsync(enrichedBundle);
+        } catch (Exception e) {
+            crawling = CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        crawling.whenComplete(
+                (result, error) ->
+                        dispatchFinish(
+                                completionExecutor,
+                                () -> {
+                                    try {
+                                        finishExecution(
+                                                enrichedBundle, agent, result, unwrap(error));
+                                        completion.complete(null);
+                                    } catch (Throwable t) {
+                                        completion.completeExceptionally(t);
+                                    }
+                                }));
+        return completion;
+    }
+
+    /**
+     * 후처리를 completionExecutor에 넘기되, 거부되면(종료 중 등) 현재 스레드에서 실행
+     *
+     * <p>거부된 후처리를 버리면 UserAgent가 BORROWED로 남고 응답 바디가 반환되지 않으므로 caller-runs로 반드시 실행합니다.
+     */
+    private void dispatchFinish(Executor completionExecutor, Runnable finish) {
+        try {
+            completionExecutor.execute(finish);
+        } catch (RejectedExecutionException e) {
+            log.warn("크롤링 후처리 Executor 거부, 현재 스레드에서 실행: error={}", e.getMessage());
+            finish.run();
+        }
+    }
+
+    /**
+     * 크롤링 이후 처리: 결과 반영 → 응답 바디 반환, UserAgent 반납 (finally 보장)
+     *
+     * @param bundle 실행 Bundle
+     * @param agent borrow한 UserAgent
+     * @param result 크롤링 결과 (crawlError가 있으면 null)
+     * @param crawlError 크롤링 중 발생한 예외 (없으면 null)
+     */
+    private void finishExecution(
+            CrawlTaskExecutionBundle bundle,
+            BorrowedUserAgent agent,
+            CrawlResult result,
+            Throwable crawlError) {
         boolean success = false;
         int httpStatusCode = 0;
 
         try {
-            CrawlResult result = crawlingProcessor.executeCrawling(enrichedBundle);
+            if (crawlError != null) {
+                safeCompleteWithFailure(bundle, crawlError);
+                return;
+            }
+
             success = result.isSuccess();
             httpStatusCode = result.httpStatusCode() != null ? result.httpStatusCode() : 0;
 
-            completeExecution(enrichedBundle, result);
+            completeExecution(bundle, result);
 
             if (result.isSuccess()) {
-                processResult(result, enrichedBundle.crawlTask());
+                processResult(result, bundle.crawlTask());
             }
         } catch (Exception e) {
-            safeCompleteWithFailure(enrichedBundle, e);
+            safeCompleteWithFailure(bundle, e);
         } finally {
+            if (result != null) {
+                result.releaseBody();
+            }
             userAgentCoordinator.returnAgent(
                     agent.userAgentId(), success, httpStatusCode, agent.consecutiveRateLimits());
             metrics.incrementCounter(CYCLE_METRIC, "outcome", success ? "success" : "failure");
@@ -112,6 +212,13 @@ public class CrawlTaskExecutionCoordinator {
         }
     }
 
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
     /**
      * UserAgent borrow (Task 상태 변경 전)
      *
@@ -160,6 +267,11 @@ public class CrawlTaskExecutionCoordinator {
             String responseSummary = buildResponseSummary(result.responseBody());
             execution.completeWithSuccess(responseSummary, result.httpStatusCode(), now);
             task.markAsSuccess(now);
+            metrics.recordDuration(
+                    TIME_TO_SUCCESS_METRIC,
+                    Duration.between(task.getCreatedAt(), now),
+                    "task_type",
+                    task.getTaskType().name());
             log.info(
                     "CrawlTask 실행 완료: taskId={}, durationMs={}",
                     task.getIdValue(),
@@ -183,7 +295,7 @@ public class CrawlTaskExecutionCoordinator {
      *
      * <p>예외 발생 시에도 전파하지 않습니다. RUNNING 고아 복구 스케줄러가 처리합니다.
      */
-    private void safeCompleteWithFailure(CrawlTaskExecutionBundle bundle, Exception cause) {
+    private void safeCompleteWithFailure(CrawlTaskExecutionBundle bundle, Throwable cause) {
         try {
             Instant now = Instant.now();
             bundle.execution().completeWithFailure(null, cause.getMessage(), now);
@@ -209,12 +321,13 @@ public class CrawlTaskExecutionCoordinator {
      * 응답 본문 요약 생성
      *
      * <p>전체 raw 응답(수백KB) 대신 크기 정보만 저장하여 DB 부하를 줄입니다. 파싱된 상품 데이터는 crawled_raw 테이블에 별도 저장됩니다.
+     * 응답을 문자열로 디코딩하지 않으므로 크기는 바이트 단위입니다.
      */
-    private String buildResponseSummary(String responseBody) {
+    private String buildResponseSummary(ResponsePayload responseBody) {
         if (responseBody == null) {
             return null;
         }
-        return "{\"responseLengthChars\":" + responseBody.length() + "}";
+        return "{\"responseLengthBytes\":" + responseBody.length() + "}";
     }
 
     private void processResult(CrawlResult crawlResult, CrawlTask crawlTask) {
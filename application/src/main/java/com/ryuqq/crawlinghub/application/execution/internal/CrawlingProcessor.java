@@ -5,6 +5,7 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.Crawler;
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.CrawlerProvider;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -49,4 +50,29 @@ public class CrawlingProcessor {
         Crawler crawler = crawlerProvider.getCrawler(crawlContext.taskType());
         return crawler.crawl(crawlContext);
     }
+
+    /**
+     * 비동기 크롤링 수행 (비-트랜잭션)
+     *
+     * <p>크롤러 조회 실패 등 동기 예외도 예외로 완료된 Future로 반환합니다.
+     *
+     * @param bundle CrawlContext가 포함된 실행 번들
+     * @return 크롤링 결과 Future (HTTP 클라이언트 I/O 스레드에서 완료될 수 있음)
+     */
+    public CompletableFuture<CrawlResult> executeCrawlingAsync(CrawlTaskExecutionBundle bundle) {
+        CrawlContext crawlContext = bundle.crawlContext();
+
+        log.debug(
+                "비동기 크롤링 실행: taskType={}, endpoint={}, userAgentId={}",
+                crawlContext.taskType(),
+                crawlContext.endpoint(),
+                crawlContext.userAgentId());
+
+        try {
+            Crawler crawler = crawlerProvider.getCrawler(crawlContext.taskType());
+            return crawler.crawlAsync(crawlContext);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
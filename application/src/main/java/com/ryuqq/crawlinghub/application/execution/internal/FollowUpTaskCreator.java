@@ -6,7 +6,11 @@ import com.ryuqq.crawlinghub.application.task.factory.command.CrawlTaskCommandFa
 import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskCommandFacade;
 import com.ryuqq.crawlinghub.application.task.validator.CrawlTaskPersistenceValidator;
 import com.ryuqq.crawlinghub.domain.task.exception.DuplicateCrawlTaskException;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -60,47 +64,147 @@ public class FollowUpTaskCreator {
     /**
      * 복수 CrawlTask 일괄 생성
      *
+     * <p><strong>처리 흐름</strong>:
+     *
+     * <ol>
+     *   <li>Command → Bundle 변환 (변환 실패 건은 fail 처리)
+     *   <li>단일 쿼리(Fingerprint IN)로 진행 중인 동일 엔드포인트 Task 조회 → 중복 및 배치 내 중복 건은 skip 처리
+     *   <li>나머지 Task + Outbox를 단일 트랜잭션의 multi-row INSERT로 저장
+     *   <li>일괄 저장 실패 시 건별 저장으로 폴백하여 건별 skip/fail 집계 유지
+     * </ol>
+     *
      * @param commands 생성 커맨드 목록
      */
     public void executeBatch(List<CreateCrawlTaskCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
         log.info("후속 CrawlTask 일괄 생성: count={}", commands.size());
 
-        int successCount = 0;
-        int skipCount = 0;
-        int failCount = 0;
+        BatchCounter counter = new BatchCounter();
 
+        // 1. Command → Bundle 변환
+        List<CreateCrawlTaskCommand> candidateCommands = new ArrayList<>(commands.size());
+        List<CrawlTaskBundle> candidateBundles = new ArrayList<>(commands.size());
         for (CreateCrawlTaskCommand command : commands) {
             try {
-                execute(command);
-                successCount++;
-            } catch (DuplicateCrawlTaskException e) {
-                skipCount++;
-                log.debug(
-                        "후속 CrawlTask 중복 스킵: schedulerId={}, sellerId={}, taskType={}, targetId={}",
-                        command.crawlSchedulerId(),
-                        command.sellerId(),
-                        command.taskType(),
-                        command.targetId());
+                candidateBundles.add(commandFactory.createBundle(command));
+                candidateCommands.add(command);
+            } catch (RuntimeException e) {
+                counter.fail++;
+                logFailure(command, e);
+            }
+        }
+
+        // 2. 중복 일괄 판정 (DB 내 진행 중 Task + 배치 내 중복)
+        Set<CrawlTaskFingerprint> occupiedFingerprints;
+        try {
+            occupiedFingerprints =
+                    new HashSet<>(
+                            validator.findOccupiedFingerprints(
+                                    candidateBundles.stream()
+                                            .map(CrawlTaskBundle::crawlTask)
+                                            .toList()));
+        } catch (RuntimeException e) {
+            log.warn(
+                    "후속 CrawlTask 중복 일괄 판정 실패, 건별 처리로 전환: count={}, exceptionClass={},"
+                            + " message={}",
+                    candidateBundles.size(),
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+            persistIndividually(candidateCommands, candidateBundles, counter);
+            logCompletion(commands.size(), counter);
+            return;
+        }
+
+        List<CreateCrawlTaskCommand> targetCommands = new ArrayList<>(candidateBundles.size());
+        List<CrawlTaskBundle> targetBundles = new ArrayList<>(candidateBundles.size());
+        for (int i = 0; i < candidateBundles.size(); i++) {
+            CrawlTaskBundle bundle = candidateBundles.get(i);
+            if (occupiedFingerprints.add(bundle.crawlTask().getFingerprint())) {
+                targetBundles.add(bundle);
+                targetCommands.add(candidateCommands.get(i));
+            } else {
+                counter.skip++;
+                logSkip(candidateCommands.get(i));
+            }
+        }
+
+        // 3. 일괄 저장 (실패 시 건별 저장 폴백)
+        if (!targetBundles.isEmpty()) {
+            try {
+                coordinator.persistAll(targetBundles);
+                counter.success += targetBundles.size();
             } catch (RuntimeException e) {
-                failCount++;
-                log.error(
-                        "후속 CrawlTask 생성 실패: exceptionClass={}, message={}, "
-                                + "schedulerId={}, sellerId={}, taskType={}, targetId={}",
+                log.warn(
+                        "후속 CrawlTask 일괄 저장 실패, 건별 저장으로 전환: count={}, exceptionClass={},"
+                                + " message={}",
+                        targetBundles.size(),
                         e.getClass().getSimpleName(),
-                        e.getMessage(),
-                        command.crawlSchedulerId(),
-                        command.sellerId(),
-                        command.taskType(),
-                        command.targetId(),
-                        e);
+                        e.getMessage());
+                persistIndividually(targetCommands, targetBundles, counter);
+            }
+        }
+
+        logCompletion(commands.size(), counter);
+    }
+
+    private void persistIndividually(
+            List<CreateCrawlTaskCommand> commands,
+            List<CrawlTaskBundle> bundles,
+            BatchCounter counter) {
+        for (int i = 0; i < bundles.size(); i++) {
+            CreateCrawlTaskCommand command = commands.get(i);
+            CrawlTaskBundle bundle = bundles.get(i);
+            try {
+                validator.validateNoDuplicateTask(bundle.crawlTask());
+                coordinator.persist(bundle);
+                counter.success++;
+            } catch (DuplicateCrawlTaskException e) {
+                counter.skip++;
+                logSkip(command);
+            } catch (RuntimeException e) {
+                counter.fail++;
+                logFailure(command, e);
             }
         }
+    }
 
+    private void logCompletion(int total, BatchCounter counter) {
         log.info(
                 "후속 CrawlTask 일괄 생성 완료: total={}, success={}, skip={}, fail={}",
-                commands.size(),
-                successCount,
-                skipCount,
-                failCount);
+                total,
+                counter.success,
+                counter.skip,
+                counter.fail);
+    }
+
+    private void logSkip(CreateCrawlTaskCommand command) {
+        log.debug(
+                "후속 CrawlTask 중복 스킵: schedulerId={}, sellerId={}, taskType={}, targetId={}",
+                command.crawlSchedulerId(),
+                command.sellerId(),
+                command.taskType(),
+                command.targetId());
+    }
+
+    private void logFailure(CreateCrawlTaskCommand command, RuntimeException e) {
+        log.error(
+                "후속 CrawlTask 생성 실패: exceptionClass={}, message={}, "
+                        + "schedulerId={}, sellerId={}, taskType={}, targetId={}",
+                e.getClass().getSimpleName(),
+                e.getMessage(),
+                command.crawlSchedulerId(),
+                command.sellerId(),
+                command.taskType(),
+                command.targetId(),
+                e);
+    }
+
+    /** 일괄 생성 집계 (success/skip/fail) */
+    private static final class BatchCounter {
+        private int success;
+        private int skip;
+        private int fail;
     }
 }
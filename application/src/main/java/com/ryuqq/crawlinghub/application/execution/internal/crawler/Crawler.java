@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.execution.internal.crawler;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 크롤러 추상 클래스
@@ -39,6 +40,16 @@ public abstract class Crawler {
      */
     public abstract CrawlResult crawl(CrawlContext context);
 
+    /**
+     * 비동기 크롤링 실행
+     *
+     * <p>HTTP 응답 대기 중 스레드를 점유하지 않습니다. 반환된 Future는 HTTP 클라이언트 I/O 스레드에서 완료될 수 있습니다.
+     *
+     * @param context 크롤링 컨텍스트 정보
+     * @return 크롤링 결과 Future
+     */
+    public abstract CompletableFuture<CrawlResult> crawlAsync(CrawlContext context);
+
     /**
      * 크롤러가 해당 타입을 지원하는지 확인
      *
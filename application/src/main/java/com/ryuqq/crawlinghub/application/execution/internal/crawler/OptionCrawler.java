@@ -8,6 +8,7 @@ import com.ryuqq.crawlinghub.application.execution.port.out.client.HttpClient;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -43,16 +44,24 @@ public class OptionCrawler extends Crawler {
 
     @Override
     public CrawlResult crawl(CrawlContext context) {
+        HttpResponse response = httpClient.get(buildRequest(context));
+
+        return crawlResultMapper.toCrawlResult(response);
+    }
+
+    @Override
+    public CompletableFuture<CrawlResult> crawlAsync(CrawlContext context) {
+        return httpClient
+                .getAsync(buildRequest(context))
+                .thenApply(crawlResultMapper::toCrawlResult);
+    }
+
+    private HttpRequest buildRequest(CrawlContext context) {
         log.debug(
                 "OptionCrawler 실행: endpoint={}, userAgentId={}",
                 context.endpoint(),
                 context.userAgentId());
 
-        HttpRequest request =
-                HttpRequest.get(context.endpoint(), crawlContextMapper.buildHeaders(context));
-
-        HttpResponse response = httpClient.get(request);
-
-        return crawlResultMapper.toCrawlResult(response);
+        return HttpRequest.get(context.endpoint(), crawlContextMapper.buildHeaders(context));
     }
 }
@@ -8,6 +8,7 @@ import com.ryuqq.crawlinghub.application.execution.port.out.client.HttpClient;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,7 @@ import org.springframework.stereotype.Component;
 public class SearchCrawler extends Crawler {
 
     private static final Logger log = LoggerFactory.getLogger(SearchCrawler.class);
+    private static final int MAX_LOGGED_BODY_BYTES = 1000;
 
     private final HttpClient httpClient;
     private final CrawlContextMapper crawlContextMapper;
@@ -45,6 +47,19 @@ public class SearchCrawler extends Crawler {
 
     @Override
     public CrawlResult crawl(CrawlContext context) {
+        HttpResponse response = httpClient.get(buildRequest(context));
+
+        return toCrawlResult(context, response);
+    }
+
+    @Override
+    public CompletableFuture<CrawlResult> crawlAsync(CrawlContext context) {
+        return httpClient
+                .getAsync(buildRequest(context))
+                .thenApply(response -> toCrawlResult(context, response));
+    }
+
+    private HttpRequest buildRequest(CrawlContext context) {
         String searchEndpoint = crawlContextMapper.buildSearchEndpoint(context);
 
         log.info(
@@ -61,11 +76,10 @@ public class SearchCrawler extends Crawler {
                     context.mustitUid());
         }
 
-        HttpRequest request =
-                HttpRequest.get(searchEndpoint, crawlContextMapper.buildHeaders(context));
-
-        HttpResponse response = httpClient.get(request);
+        return HttpRequest.get(searchEndpoint, crawlContextMapper.buildHeaders(context));
+    }
 
+    private CrawlResult toCrawlResult(CrawlContext context, HttpResponse response) {
         if (response.isSuccess()) {
             log.info(
                     "SearchCrawler 성공: statusCode={}, userAgentId={}",
@@ -76,16 +90,9 @@ public class SearchCrawler extends Crawler {
                     "SearchCrawler 실패: statusCode={}, userAgentId={}, body={}",
                     response.statusCode(),
                     context.userAgentId(),
-                    truncateBody(response.body()));
+                    response.body().preview(MAX_LOGGED_BODY_BYTES));
         }
 
         return crawlResultMapper.toCrawlResult(response);
     }
-
-    private String truncateBody(String body) {
-        if (body == null) {
-            return "null";
-        }
-        return body.length() > 1000 ? body.substring(0, 1000) + "...(truncated)" : body;
-    }
 }
@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.dto;
 
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import java.util.Map;
 
 /**
@@ -7,16 +8,20 @@ import java.util.Map;
  *
  * <p>크롤링 HTTP 응답 정보를 담는 불변 DTO.
  *
+ * <p><strong>응답 바디</strong>: 바디는 문자열로 디코딩하지 않은 {@link ResponsePayload}입니다. 풀 버퍼일 수 있으므로
+ * 응답을 받은 쪽이 사용 후 {@link ResponsePayload#close()}로 반환하거나, 소유권을 다음 단계로 넘겨야 합니다.
+ *
  * @param statusCode HTTP 상태 코드
  * @param body 응답 바디
  * @param headers 응답 헤더
  * @author development-team
  * @since 1.0.0
  */
-public record HttpResponse(int statusCode, String body, Map<String, String> headers) {
+public record HttpResponse(int statusCode, ResponsePayload body, Map<String, String> headers) {
 
-    /** Compact constructor - headers를 불변 맵으로 변환 */
+    /** Compact constructor - body null은 빈 바디로, headers를 불변 맵으로 변환 */
     public HttpResponse {
+        body = body == null ? ResponsePayload.empty() : body;
         headers = headers == null ? Map.of() : Map.copyOf(headers);
     }
 
@@ -28,6 +33,17 @@ public record HttpResponse(int statusCode, String body, Map<String, String> head
      * @return HttpResponse
      */
     public static HttpResponse of(int statusCode, String body) {
+        return new HttpResponse(statusCode, ResponsePayload.of(body), null);
+    }
+
+    /**
+     * 응답 생성
+     *
+     * @param statusCode HTTP 상태 코드
+     * @param body 응답 바디
+     * @return HttpResponse
+     */
+    public static HttpResponse of(int statusCode, ResponsePayload body) {
         return new HttpResponse(statusCode, body, null);
     }
 
@@ -39,7 +55,8 @@ public record HttpResponse(int statusCode, String body, Map<String, String> head
      * @param headers 응답 헤더
      * @return HttpResponse
      */
-    public static HttpResponse of(int statusCode, String body, Map<String, String> headers) {
+    public static HttpResponse of(
+            int statusCode, ResponsePayload body, Map<String, String> headers) {
         return new HttpResponse(statusCode, body, headers);
     }
 
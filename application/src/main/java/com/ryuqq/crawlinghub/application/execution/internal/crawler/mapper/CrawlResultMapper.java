@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.execution.internal.crawler.mapper;
 
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import org.springframework.stereotype.Component;
 
 /**
@@ -9,6 +10,9 @@ import org.springframework.stereotype.Component;
  *
  * <p>HttpResponse로부터 CrawlResult 도메인 VO로 변환합니다.
  *
+ * <p><strong>응답 바디 소유권</strong>: 성공 응답의 바디는 CrawlResult로 넘기고, 실패 응답의 바디는 에러 메시지에 앞부분만 남긴
+ * 뒤 즉시 반환합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -25,13 +29,15 @@ public class CrawlResultMapper {
         if (response.isSuccess()) {
             return CrawlResult.success(response.body(), response.statusCode());
         }
-        String errorMessage = buildErrorMessage(response);
-        return CrawlResult.failure(response.statusCode(), errorMessage);
+        try (ResponsePayload body = response.body()) {
+            String errorMessage = buildErrorMessage(response, body);
+            return CrawlResult.failure(response.statusCode(), errorMessage);
+        }
     }
 
     private static final int MAX_BODY_LENGTH = 500;
 
-    private String buildErrorMessage(HttpResponse response) {
+    private String buildErrorMessage(HttpResponse response, ResponsePayload body) {
         String prefix;
         if (response.isRateLimited()) {
             prefix = "Rate limited (429)";
@@ -43,15 +49,10 @@ public class CrawlResultMapper {
             prefix = "HTTP error: " + response.statusCode();
         }
 
-        String body = response.body();
-        if (body == null || body.isBlank()) {
+        String truncatedBody = body.preview(MAX_BODY_LENGTH);
+        if (truncatedBody.isBlank()) {
             return prefix;
         }
-
-        String truncatedBody =
-                body.length() > MAX_BODY_LENGTH
-                        ? body.substring(0, MAX_BODY_LENGTH) + "...(truncated)"
-                        : body;
         return prefix + " | body=" + truncatedBody;
     }
 }
@@ -1,20 +1,25 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
 
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsBooleanOrDefault;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsIntOrDefault;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsLongOrDefault;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsStringList;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsText;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsTextOrDefault;
-
-import com.fasterxml.jackson.databind.JsonNode;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readBooleanOrDefault;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readIntOrDefault;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readLongOrDefault;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readStringList;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readText;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readTextOrDefault;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductCategory;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductDetailInfo;
 import com.ryuqq.crawlinghub.domain.product.vo.ShippingInfo;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -35,6 +40,9 @@ import org.springframework.stereotype.Component;
  *   <li>ProductDetailInfoModule: 상세 설명, 이미지 (descriptionMarkUp)
  * </ul>
  *
+ * <p><strong>스트리밍 파싱</strong>: {@link JsonParser}로 토큰 단위로 읽으며, 대상이 아닌 모듈(리뷰, 추천 상품 등)의 data는
+ * 트리를 만들지 않고 건너뜁니다. 필드 값은 읽는 즉시 {@link ProductDetailInfo.Builder}에 반영합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -44,13 +52,18 @@ public class DetailResponseParser {
     private static final Logger log = LoggerFactory.getLogger(DetailResponseParser.class);
 
     private static final String MODULE_LIST_FIELD = "moduleList";
-    private static final String TYPE_FIELD = "type";
     private static final String DATA_FIELD = "data";
 
     private static final String PRODUCT_BANNERS_MODULE = "ProductBannersModule";
     private static final String PRODUCT_INFO_MODULE = "ProductInfoModule";
     private static final String SHIPPING_MODULE = "ShippingModule";
     private static final String PRODUCT_DETAIL_INFO_MODULE = "ProductDetailInfoModule";
+    private static final Set<String> TARGET_MODULES =
+            Set.of(
+                    PRODUCT_BANNERS_MODULE,
+                    PRODUCT_INFO_MODULE,
+                    SHIPPING_MODULE,
+                    PRODUCT_DETAIL_INFO_MODULE);
 
     private static final Pattern IMG_SRC_PATTERN =
             Pattern.compile("<img[^>]+src=[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
@@ -64,140 +77,294 @@ public class DetailResponseParser {
     /**
      * DETAIL 응답 파싱
      *
-     * @param responseBody HTTP 응답 본문
+     * @param responseBody HTTP 응답 본문 (호출자가 해제)
      * @param itemNo 상품 번호 (파싱 컨텍스트용)
      * @return 파싱된 ProductDetailInfo (파싱 실패 시 empty)
      */
-    public Optional<ProductDetailInfo> parse(String responseBody, Long itemNo) {
-        if (responseBody == null || responseBody.isBlank()) {
+    public Optional<ProductDetailInfo> parse(ResponsePayload responseBody, Long itemNo) {
+        if (responseBody == null || responseBody.isEmpty()) {
             log.warn("DETAIL 응답이 비어있습니다. itemNo={}", itemNo);
             return Optional.empty();
         }
 
-        try {
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-            JsonNode moduleListNode = rootNode.get(MODULE_LIST_FIELD);
-
-            if (moduleListNode == null || !moduleListNode.isArray()) {
-                log.warn("DETAIL 응답에 moduleList가 없습니다. itemNo={}", itemNo);
-                return Optional.empty();
-            }
-
-            ProductDetailInfo.Builder builder = ProductDetailInfo.builder();
-            boolean hasProductInfo = false;
+        try (JsonParser parser = objectMapper.createParser(responseBody.openStream())) {
+            return readResponse(parser, itemNo);
 
-            for (JsonNode moduleNode : moduleListNode) {
-                String type = getAsText(moduleNode, TYPE_FIELD);
-                JsonNode dataNode = moduleNode.get(DATA_FIELD);
-
-                if (type == null || dataNode == null) {
-                    continue;
-                }
+        } catch (Exception e) {
+            log.error("DETAIL 응답 파싱 실패. itemNo={}, error={}", itemNo, e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-                switch (type) {
-                    case PRODUCT_BANNERS_MODULE -> parseBannersModule(dataNode, builder);
-                    case PRODUCT_INFO_MODULE -> {
-                        parseProductInfoModule(dataNode, builder);
-                        hasProductInfo = true;
-                    }
-                    case SHIPPING_MODULE -> parseShippingModule(dataNode, builder);
-                    case PRODUCT_DETAIL_INFO_MODULE -> parseDetailInfoModule(dataNode, builder);
+    private Optional<ProductDetailInfo> readResponse(JsonParser parser, Long itemNo)
+            throws IOException {
+        ProductDetailInfo.Builder builder = ProductDetailInfo.builder();
+        Set<String> parsedModules = new HashSet<>();
+        boolean hasModuleList = false;
+
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (MODULE_LIST_FIELD.equals(fieldName)) {
+                    hasModuleList |=
+                            ModuleListReader.read(
+                                    parser,
+                                    TARGET_MODULES,
+                                    (type, data) -> {
+                                        parseModule(type, data, builder);
+                                        parsedModules.add(type);
+                                    });
+                } else {
+                    parser.skipChildren();
                 }
             }
+        } else {
+            parser.skipChildren();
+        }
 
-            if (!hasProductInfo) {
-                log.warn("DETAIL 응답에 ProductInfoModule이 없습니다. itemNo={}", itemNo);
-                return Optional.empty();
-            }
-
-            ProductDetailInfo detailInfo = builder.build();
-            log.debug(
-                    "DETAIL 파싱 완료: itemNo={}, itemName={}",
-                    detailInfo.itemNo(),
-                    detailInfo.itemName());
-            return Optional.of(detailInfo);
+        if (!hasModuleList) {
+            log.warn("DETAIL 응답에 moduleList가 없습니다. itemNo={}", itemNo);
+            return Optional.empty();
+        }
 
-        } catch (Exception e) {
-            log.error("DETAIL 응답 파싱 실패. itemNo={}, error={}", itemNo, e.getMessage());
+        if (!parsedModules.contains(PRODUCT_INFO_MODULE)) {
+            log.warn("DETAIL 응답에 ProductInfoModule이 없습니다. itemNo={}", itemNo);
             return Optional.empty();
         }
+
+        ProductDetailInfo detailInfo = builder.build();
+        log.debug(
+                "DETAIL 파싱 완료: itemNo={}, itemName={}",
+                detailInfo.itemNo(),
+                detailInfo.itemName());
+        return Optional.of(detailInfo);
+    }
+
+    private void parseModule(String type, JsonParser parser, ProductDetailInfo.Builder builder)
+            throws IOException {
+        switch (type) {
+            case PRODUCT_BANNERS_MODULE -> parseBannersModule(parser, builder);
+            case PRODUCT_INFO_MODULE -> parseProductInfoModule(parser, builder);
+            case SHIPPING_MODULE -> parseShippingModule(parser, builder);
+            case PRODUCT_DETAIL_INFO_MODULE -> parseDetailInfoModule(parser, builder);
+            default -> parser.skipChildren();
+        }
     }
 
     /** ProductBannersModule 파싱 - 배너 이미지 추출 */
-    private void parseBannersModule(JsonNode dataNode, ProductDetailInfo.Builder builder) {
-        List<String> bannerImages = getAsStringList(dataNode, "images");
+    private void parseBannersModule(JsonParser parser, ProductDetailInfo.Builder builder)
+            throws IOException {
+        List<String> bannerImages = List.of();
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("images".equals(fieldName)) {
+                    bannerImages = readStringList(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
         builder.bannerImages(bannerImages);
     }
 
-    /** ProductInfoModule 파싱 - 상품 기본 정보 */
-    private void parseProductInfoModule(JsonNode dataNode, ProductDetailInfo.Builder builder) {
-        builder.sellerNo(getAsLongOrDefault(dataNode, "sellerNo", 0))
-                .sellerId(getAsTextOrDefault(dataNode, "sellerId", ""))
-                .itemNo(getAsLongOrDefault(dataNode, "itemNo", 0))
-                .itemName(getAsTextOrDefault(dataNode, "itemName", ""))
-                .brandName(getAsTextOrDefault(dataNode, "brandName", ""))
-                .brandNameKr(getAsTextOrDefault(dataNode, "brandNameKr", ""))
-                .brandCode(getAsLongOrDefault(dataNode, "brandCode", 0))
-                .normalPrice(getAsIntOrDefault(dataNode, "normalPrice", 0))
-                .sellingPrice(getAsIntOrDefault(dataNode, "sellingPrice", 0))
-                .discountPrice(getAsIntOrDefault(dataNode, "discountPrice", 0))
-                .discountRate(getAsIntOrDefault(dataNode, "discountRate", 0))
-                .stock(getAsIntOrDefault(dataNode, "stock", 0))
-                .isSoldOut(getAsBooleanOrDefault(dataNode, "isSoldOut", false));
-
-        String smallCategoryCode = getAsText(dataNode, "smallCategoryCode");
-        String smallCategoryName = getAsText(dataNode, "smallCategory");
+    /**
+     * ProductInfoModule 파싱 - 상품 기본 정보
+     *
+     * <p>누락 필드는 기본값(문자열 "", 숫자 0, false)으로 채우며, 카테고리는 항상 설정합니다.
+     */
+    private void parseProductInfoModule(JsonParser parser, ProductDetailInfo.Builder builder)
+            throws IOException {
+        builder.sellerNo(0)
+                .sellerId("")
+                .itemNo(0)
+                .itemName("")
+                .brandName("")
+                .brandNameKr("")
+                .brandCode(0)
+                .normalPrice(0)
+                .sellingPrice(0)
+                .discountPrice(0)
+                .discountRate(0)
+                .stock(0)
+                .isSoldOut(false);
+
+        String headerCategoryCode = "";
+        String headerCategory = "";
+        String largeCategoryCode = "";
+        String largeCategory = "";
+        String mediumCategoryCode = "";
+        String mediumCategory = "";
+        String smallCategoryCode = null;
+        String smallCategory = null;
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "sellerNo" -> builder.sellerNo(readLongOrDefault(parser, 0));
+                    case "sellerId" -> builder.sellerId(readTextOrDefault(parser, ""));
+                    case "itemNo" -> builder.itemNo(readLongOrDefault(parser, 0));
+                    case "itemName" -> builder.itemName(readTextOrDefault(parser, ""));
+                    case "brandName" -> builder.brandName(readTextOrDefault(parser, ""));
+                    case "brandNameKr" -> builder.brandNameKr(readTextOrDefault(parser, ""));
+                    case "brandCode" -> builder.brandCode(readLongOrDefault(parser, 0));
+                    case "normalPrice" -> builder.normalPrice(readIntOrDefault(parser, 0));
+                    case "sellingPrice" -> builder.sellingPrice(readIntOrDefault(parser, 0));
+                    case "discountPrice" -> builder.discountPrice(readIntOrDefault(parser, 0));
+                    case "discountRate" -> builder.discountRate(readIntOrDefault(parser, 0));
+                    case "stock" -> builder.stock(readIntOrDefault(parser, 0));
+                    case "isSoldOut" -> builder.isSoldOut(readBooleanOrDefault(parser, false));
+                    case "headerCategoryCode" -> headerCategoryCode = readTextOrDefault(parser, "");
+                    case "headerCategory" -> headerCategory = readTextOrDefault(parser, "");
+                    case "largeCategoryCode" -> largeCategoryCode = readTextOrDefault(parser, "");
+                    case "largeCategory" -> largeCategory = readTextOrDefault(parser, "");
+                    case "mediumCategoryCode" -> mediumCategoryCode = readTextOrDefault(parser, "");
+                    case "mediumCategory" -> mediumCategory = readTextOrDefault(parser, "");
+                    case "smallCategoryCode" -> smallCategoryCode = readText(parser);
+                    case "smallCategory" -> smallCategory = readText(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
 
         ProductCategory category =
                 ProductCategory.of(
-                        getAsTextOrDefault(dataNode, "headerCategoryCode", ""),
-                        getAsTextOrDefault(dataNode, "headerCategory", ""),
-                        getAsTextOrDefault(dataNode, "largeCategoryCode", ""),
-                        getAsTextOrDefault(dataNode, "largeCategory", ""),
-                        getAsTextOrDefault(dataNode, "mediumCategoryCode", ""),
-                        getAsTextOrDefault(dataNode, "mediumCategory", ""),
+                        headerCategoryCode,
+                        headerCategory,
+                        largeCategoryCode,
+                        largeCategory,
+                        mediumCategoryCode,
+                        mediumCategory,
                         smallCategoryCode,
-                        smallCategoryName);
+                        smallCategory);
         builder.category(category);
     }
 
-    /** ShippingModule 파싱 - 배송 정보 */
-    private void parseShippingModule(JsonNode dataNode, ProductDetailInfo.Builder builder) {
-        JsonNode itemsNode = dataNode.get("items");
-
-        if (itemsNode != null && itemsNode.isArray() && !itemsNode.isEmpty()) {
-            JsonNode firstItem = itemsNode.get(0);
-            JsonNode shippingDataNode = firstItem.get(DATA_FIELD);
-
-            if (shippingDataNode != null) {
-                String shippingType =
-                        getAsTextOrDefault(shippingDataNode, "shippingType", "DOMESTIC");
-                int shippingFee = getAsIntOrDefault(shippingDataNode, "shippingFee", 0);
-                String shippingFeeType =
-                        getAsTextOrDefault(shippingDataNode, "shippingFeeType", "PAID");
-
-                String averageDeliveryText = "";
-                JsonNode avgDeliveryNode = shippingDataNode.get("averageDeliveryDay");
-                if (avgDeliveryNode != null) {
-                    averageDeliveryText = getAsTextOrDefault(avgDeliveryNode, "text", "");
+    /** ShippingModule 파싱 - 배송 정보 (items의 첫 번째 항목만 사용) */
+    private void parseShippingModule(JsonParser parser, ProductDetailInfo.Builder builder)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if ("items".equals(fieldName) && parser.currentToken() == JsonToken.START_ARRAY) {
+                boolean first = true;
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (first) {
+                        parseShippingItem(parser, builder);
+                        first = false;
+                    } else {
+                        parser.skipChildren();
+                    }
                 }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
 
-                ShippingInfo shippingInfo =
-                        ShippingInfo.fromShippingModule(
-                                shippingType, shippingFee, shippingFeeType, averageDeliveryText);
-                builder.shipping(shippingInfo);
+    private void parseShippingItem(JsonParser parser, ProductDetailInfo.Builder builder)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (DATA_FIELD.equals(fieldName)) {
+                builder.shipping(parseShippingData(parser));
+            } else {
+                parser.skipChildren();
             }
         }
     }
 
+    private ShippingInfo parseShippingData(JsonParser parser) throws IOException {
+        String shippingType = "DOMESTIC";
+        int shippingFee = 0;
+        String shippingFeeType = "PAID";
+        String averageDeliveryText = "";
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "shippingType" -> shippingType = readTextOrDefault(parser, "DOMESTIC");
+                    case "shippingFee" -> shippingFee = readIntOrDefault(parser, 0);
+                    case "shippingFeeType" -> shippingFeeType = readTextOrDefault(parser, "PAID");
+                    case "averageDeliveryDay" -> averageDeliveryText = readDeliveryText(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+
+        return ShippingInfo.fromShippingModule(
+                shippingType, shippingFee, shippingFeeType, averageDeliveryText);
+    }
+
+    private String readDeliveryText(JsonParser parser) throws IOException {
+        String text = "";
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("text".equals(fieldName)) {
+                    text = readTextOrDefault(parser, "");
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        return text;
+    }
+
     /** ProductDetailInfoModule 파싱 - 상세 정보 (원산지, 상태, 상세 이미지, 상세 설명 HTML) */
-    private void parseDetailInfoModule(JsonNode dataNode, ProductDetailInfo.Builder builder) {
-        builder.originCountry(getAsTextOrDefault(dataNode, "originCountry", ""))
-                .itemStatus(getAsTextOrDefault(dataNode, "itemStatus", ""));
+    private void parseDetailInfoModule(JsonParser parser, ProductDetailInfo.Builder builder)
+            throws IOException {
+        String originCountry = "";
+        String itemStatus = "";
+        String descriptionMarkUp = "";
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "originCountry" -> originCountry = readTextOrDefault(parser, "");
+                    case "itemStatus" -> itemStatus = readTextOrDefault(parser, "");
+                    case "descriptionMarkUp" -> descriptionMarkUp = readTextOrDefault(parser, "");
+                    default -> parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
 
-        String descriptionMarkUp = getAsTextOrDefault(dataNode, "descriptionMarkUp", "");
         List<String> detailImages = extractImageUrlsFromHtml(descriptionMarkUp);
-        builder.detailImages(detailImages).descriptionMarkUp(descriptionMarkUp);
+        builder.originCountry(originCountry)
+                .itemStatus(itemStatus)
+                .detailImages(detailImages)
+                .descriptionMarkUp(descriptionMarkUp);
     }
 
     /** HTML에서 이미지 URL 추출 */
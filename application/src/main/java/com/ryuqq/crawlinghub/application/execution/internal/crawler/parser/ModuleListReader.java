@@ -0,0 +1,92 @@
+package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * moduleList 스트리밍 순회 유틸리티
+ *
+ * <p>Search/Detail 응답의 {@code moduleList} 배열을 토큰 단위로 순회하며, 대상 타입 모듈의 {@code data}만 핸들러에
+ * 전달합니다. 대상이 아닌 모듈의 {@code data}는 트리를 만들지 않고 건너뜁니다.
+ *
+ * <p><strong>필드 순서</strong>: 모듈 객체에서 {@code type}이 {@code data}보다 먼저 오면 바로 처리/건너뛰기 합니다. {@code
+ * data}가 먼저 오면 {@link TokenBuffer}에 보관했다가 {@code type} 확인 후 처리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class ModuleListReader {
+
+    private static final String TYPE_FIELD = "type";
+    private static final String DATA_FIELD = "data";
+
+    private ModuleListReader() {}
+
+    /**
+     * moduleList 순회
+     *
+     * @param parser moduleList 값의 첫 토큰에 위치한 파서
+     * @param targetTypes 처리 대상 모듈 타입
+     * @param handler 대상 모듈 data 핸들러
+     * @return moduleList가 배열이었으면 true
+     */
+    static boolean read(JsonParser parser, Set<String> targetTypes, ModuleDataHandler handler)
+            throws IOException {
+        return JsonStreamReader.forEachElement(
+                parser, module -> readModule(module, targetTypes, handler));
+    }
+
+    private static void readModule(
+            JsonParser parser, Set<String> targetTypes, ModuleDataHandler handler)
+            throws IOException {
+        ModuleState state = new ModuleState();
+
+        JsonStreamReader.forEachField(
+                parser,
+                (fieldName, value) -> {
+                    switch (fieldName) {
+                        case TYPE_FIELD -> state.type = JsonStreamReader.readText(value);
+                        case DATA_FIELD -> {
+                            if (state.type == null) {
+                                state.bufferedData = new TokenBuffer(value);
+                                state.bufferedData.copyCurrentStructure(value);
+                            } else if (targetTypes.contains(state.type)) {
+                                handler.handle(state.type, value);
+                            } else {
+                                value.skipChildren();
+                            }
+                        }
+                        default -> value.skipChildren();
+                    }
+                });
+
+        if (state.bufferedData != null
+                && state.type != null
+                && targetTypes.contains(state.type)) {
+            try (JsonParser buffered = state.bufferedData.asParser(parser.getCodec())) {
+                buffered.nextToken();
+                handler.handle(state.type, buffered);
+            }
+        }
+    }
+
+    /** 모듈 객체 순회 중 상태 */
+    private static final class ModuleState {
+        private String type;
+        private TokenBuffer bufferedData;
+    }
+
+    /** 대상 모듈 data 핸들러 */
+    @FunctionalInterface
+    interface ModuleDataHandler {
+
+        /**
+         * @param type 모듈 타입
+         * @param parser data 값의 첫 토큰에 위치한 파서 (핸들러가 값을 끝까지 소비)
+         */
+        void handle(String type, JsonParser parser) throws IOException;
+    }
+}
@@ -1,12 +1,16 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
 
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsIntOrDefault;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsLongOrDefault;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsTextOrDefault;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readIntOrDefault;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readLongOrDefault;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readTextOrDefault;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOption;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +40,8 @@ import org.springframework.stereotype.Component;
  * ]
  * </pre>
  *
+ * <p><strong>스트리밍 파싱</strong>: {@link JsonParser}로 옵션 객체를 하나씩 읽어 바로 ProductOption으로 변환합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -60,33 +66,34 @@ public class OptionResponseParser {
     /**
      * OPTION 응답 파싱
      *
-     * @param responseBody HTTP 응답 본문 (JSON 배열)
+     * @param responseBody HTTP 응답 본문 (JSON 배열, 호출자가 해제)
      * @param itemNo 상품 번호 (파싱 컨텍스트용)
      * @return 파싱된 ProductOption 목록 (파싱 실패 시 empty)
      */
-    public List<ProductOption> parse(String responseBody, Long itemNo) {
-        if (responseBody == null || responseBody.isBlank()) {
+    public List<ProductOption> parse(ResponsePayload responseBody, Long itemNo) {
+        if (responseBody == null || responseBody.isEmpty()) {
             log.warn("OPTION 응답이 비어있습니다. itemNo={}", itemNo);
             return Collections.emptyList();
         }
 
-        try {
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-
-            if (!rootNode.isArray()) {
+        try (JsonParser parser = objectMapper.createParser(responseBody.openStream())) {
+            parser.nextToken();
+            List<ProductOption> options = new ArrayList<>();
+            boolean isArray =
+                    JsonStreamReader.forEachElement(
+                            parser,
+                            optionParser -> {
+                                ProductOption option = parseOption(optionParser, itemNo);
+                                if (option != null) {
+                                    options.add(option);
+                                }
+                            });
+
+            if (!isArray) {
                 log.warn("OPTION 응답이 배열이 아닙니다. itemNo={}", itemNo);
                 return Collections.emptyList();
             }
 
-            List<ProductOption> options = new ArrayList<>();
-
-            for (JsonNode optionNode : rootNode) {
-                ProductOption option = parseOption(optionNode, itemNo);
-                if (option != null) {
-                    options.add(option);
-                }
-            }
-
             log.debug("OPTION 파싱 완료: itemNo={}, 옵션 수={}", itemNo, options.size());
             return Collections.unmodifiableList(options);
 
@@ -96,31 +103,52 @@ public class OptionResponseParser {
         }
     }
 
-    /** 개별 옵션 파싱 */
-    private ProductOption parseOption(JsonNode optionNode, Long contextItemNo) {
-        try {
-            long optionNo = getAsLongOrDefault(optionNode, OPTION_NO_FIELD, 0);
-            long itemNo = getAsLongOrDefault(optionNode, ITEM_NO_FIELD, 0);
-
-            if (optionNo <= 0) {
-                log.debug("옵션 번호 누락. contextItemNo={}", contextItemNo);
-                return null;
+    /**
+     * 개별 옵션 파싱
+     *
+     * <p>필드를 모두 읽은 뒤 변환하므로, 변환 실패 시에도 파서는 옵션 객체의 끝에 위치합니다.
+     */
+    private ProductOption parseOption(JsonParser parser, Long contextItemNo) throws IOException {
+        long optionNo = 0;
+        long itemNo = 0;
+        String color = "";
+        String size = "";
+        int stock = 0;
+        String sizeGuide = "";
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+        } else {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case OPTION_NO_FIELD -> optionNo = readLongOrDefault(parser, 0);
+                    case ITEM_NO_FIELD -> itemNo = readLongOrDefault(parser, 0);
+                    case COLOR_FIELD -> color = readTextOrDefault(parser, "");
+                    case SIZE_FIELD -> size = readTextOrDefault(parser, "");
+                    case STOCK_FIELD -> stock = readIntOrDefault(parser, 0);
+                    case SIZE_GUIDE_FIELD -> sizeGuide = readTextOrDefault(parser, "");
+                    default -> parser.skipChildren();
+                }
             }
+        }
 
-            if (itemNo <= 0 && contextItemNo != null) {
-                itemNo = contextItemNo;
-            }
+        if (optionNo <= 0) {
+            log.debug("옵션 번호 누락. contextItemNo={}", contextItemNo);
+            return null;
+        }
 
-            if (itemNo <= 0) {
-                log.debug("상품 번호 누락. optionNo={}", optionNo);
-                return null;
-            }
+        if (itemNo <= 0 && contextItemNo != null) {
+            itemNo = contextItemNo;
+        }
 
-            String color = getAsTextOrDefault(optionNode, COLOR_FIELD, "");
-            String size = getAsTextOrDefault(optionNode, SIZE_FIELD, "");
-            int stock = getAsIntOrDefault(optionNode, STOCK_FIELD, 0);
-            String sizeGuide = getAsTextOrDefault(optionNode, SIZE_GUIDE_FIELD, "");
+        if (itemNo <= 0) {
+            log.debug("상품 번호 누락. optionNo={}", optionNo);
+            return null;
+        }
 
+        try {
             return ProductOption.of(optionNo, itemNo, color, size, stock, sizeGuide);
 
         } catch (Exception e) {
@@ -1,18 +1,22 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
 
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsLong;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsStringList;
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsText;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readLong;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readStringList;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readText;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.vo.ItemTag;
 import com.ryuqq.crawlinghub.domain.product.vo.MiniShopItem;
 import com.ryuqq.crawlinghub.domain.product.vo.SearchItem;
 import com.ryuqq.crawlinghub.domain.product.vo.SearchParseResult;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -38,6 +42,9 @@ import org.springframework.stereotype.Component;
  *
  * <p><strong>종료 조건</strong>: moduleList 비어있음 AND nextApiUrl 없음
  *
+ * <p><strong>스트리밍 파싱</strong>: 응답 전체를 JsonNode 트리로 만들지 않고 {@link JsonParser}로 토큰 단위로 읽습니다.
+ * SearchItemV2가 아닌 모듈(배너, 추천 등)의 data는 건너뛰고, 상품 필드는 읽는 즉시 MiniShopItem으로 변환합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -48,9 +55,7 @@ public class SearchResponseParser {
 
     private static final String MODULE_LIST_FIELD = "moduleList";
     private static final String NEXT_API_URL_FIELD = "nextApiUrl";
-    private static final String TYPE_FIELD = "type";
-    private static final String DATA_FIELD = "data";
-    private static final String SEARCH_ITEM_TYPE = "SearchItemV2";
+    private static final Set<String> SEARCH_ITEM_TYPES = Set.of("SearchItemV2");
 
     private static final String ITEM_NO_FIELD = "itemNo";
     private static final String NAME_FIELD = "name";
@@ -73,22 +78,22 @@ public class SearchResponseParser {
      *
      * <p>moduleList에서 SearchItemV2 타입의 상품을 추출하여 MiniShopItem으로 변환합니다.
      *
-     * @param responseBody HTTP 응답 본문
+     * @param responseBody HTTP 응답 본문 (호출자가 해제)
      * @return 파싱 결과 (상품 목록 + nextApiUrl)
      */
-    public SearchParseResult parse(String responseBody) {
-        if (responseBody == null || responseBody.isBlank()) {
+    public SearchParseResult parse(ResponsePayload responseBody) {
+        if (responseBody == null || responseBody.isEmpty()) {
             log.warn("Search API 응답이 비어있습니다.");
             return SearchParseResult.empty();
         }
 
-        try {
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-            String nextApiUrl = extractNextApiUrl(rootNode);
-            List<MiniShopItem> items = parseModuleList(rootNode);
-
-            log.debug("Search API 파싱 완료: 상품 {}개, nextApiUrl={}", items.size(), nextApiUrl != null);
-            return new SearchParseResult(items, nextApiUrl);
+        try (JsonParser parser = objectMapper.createParser(responseBody.openStream())) {
+            SearchParseResult result = readResponse(parser);
+            log.debug(
+                    "Search API 파싱 완료: 상품 {}개, nextApiUrl={}",
+                    result.size(),
+                    result.nextApiUrl() != null);
+            return result;
 
         } catch (Exception e) {
             log.error("Search API 응답 파싱 실패: {}", e.getMessage());
@@ -96,72 +101,92 @@ public class SearchResponseParser {
         }
     }
 
-    private String extractNextApiUrl(JsonNode rootNode) {
-        JsonNode nextApiUrlNode = rootNode.get(NEXT_API_URL_FIELD);
-        if (nextApiUrlNode == null || nextApiUrlNode.isNull()) {
-            return null;
-        }
-        String url = nextApiUrlNode.asText();
-        return url.isBlank() ? null : url;
-    }
-
-    private List<MiniShopItem> parseModuleList(JsonNode rootNode) {
-        JsonNode moduleListNode = rootNode.get(MODULE_LIST_FIELD);
-
-        if (moduleListNode == null || !moduleListNode.isArray()) {
+    private SearchParseResult readResponse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
             log.debug("Search API 응답에 moduleList가 없습니다.");
-            return List.of();
+            return SearchParseResult.empty();
         }
 
+        String nextApiUrl = null;
         List<MiniShopItem> items = new ArrayList<>();
-
-        for (JsonNode moduleNode : moduleListNode) {
-            if (!isSearchItemModule(moduleNode)) {
-                continue;
-            }
-
-            JsonNode dataNode = moduleNode.get(DATA_FIELD);
-            if (dataNode == null) {
-                continue;
+        boolean hasModuleList = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case NEXT_API_URL_FIELD -> nextApiUrl = toNextApiUrl(readText(parser));
+                case MODULE_LIST_FIELD -> hasModuleList |= parseModuleList(parser, items);
+                default -> parser.skipChildren();
             }
+        }
 
-            parseSearchItem(dataNode)
-                    .ifPresent(
-                            searchItem -> {
-                                MiniShopItem miniShopItem = searchItem.toMiniShopItem();
-                                items.add(miniShopItem);
-                            });
+        if (!hasModuleList) {
+            log.debug("Search API 응답에 moduleList가 없습니다.");
         }
+        return new SearchParseResult(items, nextApiUrl);
+    }
 
-        return items;
+    private boolean parseModuleList(JsonParser parser, List<MiniShopItem> items)
+            throws IOException {
+        return ModuleListReader.read(
+                parser,
+                SEARCH_ITEM_TYPES,
+                (type, data) ->
+                        parseSearchItem(data)
+                                .map(SearchItem::toMiniShopItem)
+                                .ifPresent(items::add));
     }
 
-    private boolean isSearchItemModule(JsonNode moduleNode) {
-        JsonNode typeNode = moduleNode.get(TYPE_FIELD);
-        if (typeNode == null || typeNode.isNull()) {
-            return false;
-        }
-        return SEARCH_ITEM_TYPE.equals(typeNode.asText());
+    private String toNextApiUrl(String url) {
+        return url == null || url.isBlank() ? null : url;
     }
 
-    private Optional<SearchItem> parseSearchItem(JsonNode dataNode) {
-        try {
-            Long itemNo = getAsLong(dataNode, ITEM_NO_FIELD);
-            String name = getAsText(dataNode, NAME_FIELD);
+    /**
+     * SearchItemV2 data 파싱
+     *
+     * <p>필드를 모두 읽은 뒤 변환하므로, 변환 실패 시에도 파서는 data의 끝에 위치합니다.
+     */
+    private Optional<SearchItem> parseSearchItem(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return Optional.empty();
+        }
 
-            if (itemNo == null || name == null || name.isBlank()) {
-                log.debug("상품 필수 필드 누락: itemNo={}, name={}", itemNo, name);
-                return Optional.empty();
+        Long itemNo = null;
+        String name = null;
+        String brandName = null;
+        String price = null;
+        String originalPrice = null;
+        String discountRate = null;
+        String shippingType = null;
+        List<String> imageUrls = List.of();
+        List<ItemTag> tagList = List.of();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case ITEM_NO_FIELD -> itemNo = readLong(parser);
+                case NAME_FIELD -> name = readText(parser);
+                case BRAND_NAME_FIELD -> brandName = readText(parser);
+                case PRICE_FIELD -> price = readText(parser);
+                case ORIGINAL_PRICE_FIELD -> originalPrice = readText(parser);
+                case DISCOUNT_RATE_FIELD -> discountRate = readText(parser);
+                case SHIPPING_TYPE_FIELD -> shippingType = readText(parser);
+                case IMAGE_URL_LIST_FIELD -> imageUrls = readStringList(parser);
+                case TAG_LIST_FIELD -> tagList = SharedFieldParsers.parseTagList(parser);
+                default -> parser.skipChildren();
             }
+        }
 
-            String brandName = getAsText(dataNode, BRAND_NAME_FIELD);
-            String price = getAsText(dataNode, PRICE_FIELD);
-            String originalPrice = getAsText(dataNode, ORIGINAL_PRICE_FIELD);
-            String discountRate = getAsText(dataNode, DISCOUNT_RATE_FIELD);
-            String shippingType = getAsText(dataNode, SHIPPING_TYPE_FIELD);
-            List<String> imageUrls = getAsStringList(dataNode, IMAGE_URL_LIST_FIELD);
-            List<ItemTag> tagList = SharedFieldParsers.parseTagList(dataNode, TAG_LIST_FIELD);
+        if (itemNo == null || name == null || name.isBlank()) {
+            log.debug("상품 필수 필드 누락: itemNo={}, name={}", itemNo, name);
+            return Optional.empty();
+        }
 
+        try {
             return Optional.of(
                     SearchItem.of(
                             itemNo,
@@ -1,9 +1,11 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
 
-import static com.ryuqq.crawlinghub.application.common.utils.JsonNodeReader.getAsText;
+import static com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader.readText;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader;
 import com.ryuqq.crawlinghub.domain.product.vo.ItemTag;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,26 +24,48 @@ final class SharedFieldParsers {
     /**
      * 태그 목록 파싱
      *
-     * @param parentNode 태그 배열을 포함하는 JSON 노드
-     * @param fieldName 태그 배열 필드명
+     * <p>title이 없거나 빈 태그는 제외합니다.
+     *
+     * @param parser 태그 배열 값의 첫 토큰에 위치한 파서
      * @return ItemTag 목록
      */
-    static List<ItemTag> parseTagList(JsonNode parentNode, String fieldName) {
+    static List<ItemTag> parseTagList(JsonParser parser) throws IOException {
         List<ItemTag> tags = new ArrayList<>();
-        JsonNode tagListNode = parentNode.get(fieldName);
-
-        if (tagListNode != null && tagListNode.isArray()) {
-            for (JsonNode tagNode : tagListNode) {
-                String title = getAsText(tagNode, "title");
-                if (title != null && !title.isBlank()) {
-                    String textColor = getAsText(tagNode, "textColor");
-                    String bgColor = getAsText(tagNode, "bgColor");
-                    String borderColor = getAsText(tagNode, "borderColor");
-                    tags.add(ItemTag.of(title, textColor, bgColor, borderColor));
-                }
-            }
-        }
+
+        JsonStreamReader.forEachElement(
+                parser,
+                tagParser -> {
+                    TagFields fields = new TagFields();
+                    JsonStreamReader.forEachField(
+                            tagParser,
+                            (fieldName, value) -> {
+                                switch (fieldName) {
+                                    case "title" -> fields.title = readText(value);
+                                    case "textColor" -> fields.textColor = readText(value);
+                                    case "bgColor" -> fields.bgColor = readText(value);
+                                    case "borderColor" -> fields.borderColor = readText(value);
+                                    default -> value.skipChildren();
+                                }
+                            });
+
+                    if (fields.title != null && !fields.title.isBlank()) {
+                        tags.add(
+                                ItemTag.of(
+                                        fields.title,
+                                        fields.textColor,
+                                        fields.bgColor,
+                                        fields.borderColor));
+                    }
+                });
 
         return tags;
     }
+
+    /** 태그 객체 순회 중 필드 값 */
+    private static final class TagFields {
+        private String title;
+        private String textColor;
+        private String bgColor;
+        private String borderColor;
+    }
 }
@@ -1,12 +1,10 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.processor;
 
-import static com.ryuqq.crawlinghub.application.common.utils.StringTruncator.truncate;
-
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.parser.DetailResponseParser;
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCoordinator;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
-import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerCacheReadManager;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
@@ -41,23 +39,24 @@ import org.springframework.stereotype.Component;
 public class DetailCrawlResultProcessor implements CrawlResultProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(DetailCrawlResultProcessor.class);
+    private static final int LOGGED_BODY_PREVIEW_BYTES = 200;
 
     private final DetailResponseParser detailResponseParser;
     private final CrawledRawMapper crawledRawMapper;
     private final CrawledRawTransactionManager crawledRawTransactionManager;
-    private final SellerReadManager sellerReadManager;
+    private final SellerCacheReadManager sellerCacheReadManager;
     private final CrawledProductCoordinator crawledProductCoordinator;
 
     public DetailCrawlResultProcessor(
             DetailResponseParser detailResponseParser,
             CrawledRawMapper crawledRawMapper,
             CrawledRawTransactionManager crawledRawTransactionManager,
-            SellerReadManager sellerReadManager,
+            SellerCacheReadManager sellerCacheReadManager,
             CrawledProductCoordinator crawledProductCoordinator) {
         this.detailResponseParser = detailResponseParser;
         this.crawledRawMapper = crawledRawMapper;
         this.crawledRawTransactionManager = crawledRawTransactionManager;
-        this.sellerReadManager = sellerReadManager;
+        this.sellerCacheReadManager = sellerCacheReadManager;
         this.crawledProductCoordinator = crawledProductCoordinator;
     }
 
@@ -84,7 +83,7 @@ public class DetailCrawlResultProcessor implements CrawlResultProcessor {
                     "DETAIL 응답 파싱 실패: taskId={}, itemNo={}, responseBody 일부={}",
                     crawlTask.getIdValue(),
                     itemNo,
-                    truncate(crawlResult.responseBody()));
+                    crawlResult.responseBody().preview(LOGGED_BODY_PREVIEW_BYTES));
             return ProcessingResult.empty();
         }
 
@@ -134,7 +133,7 @@ public class DetailCrawlResultProcessor implements CrawlResultProcessor {
      */
     private boolean isMatchingSeller(
             long sellerId, String crawledSellerId, Long taskId, Long itemNo) {
-        Optional<Seller> sellerOpt = sellerReadManager.findById(SellerId.of(sellerId));
+        Optional<Seller> sellerOpt = sellerCacheReadManager.findById(SellerId.of(sellerId));
 
         if (sellerOpt.isEmpty()) {
             log.warn(
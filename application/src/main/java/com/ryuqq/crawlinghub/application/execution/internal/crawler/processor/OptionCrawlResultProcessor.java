@@ -1,7 +1,5 @@
 package com.ryuqq.crawlinghub.application.execution.internal.crawler.processor;
 
-import static com.ryuqq.crawlinghub.application.common.utils.StringTruncator.truncate;
-
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.parser.OptionResponseParser;
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
@@ -37,6 +35,7 @@ import org.springframework.stereotype.Component;
 public class OptionCrawlResultProcessor implements CrawlResultProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(OptionCrawlResultProcessor.class);
+    private static final int LOGGED_BODY_PREVIEW_BYTES = 200;
 
     private final OptionResponseParser optionResponseParser;
     private final CrawledRawMapper crawledRawMapper;
@@ -74,7 +73,7 @@ public class OptionCrawlResultProcessor implements CrawlResultProcessor {
                     "OPTION 응답 파싱 실패 또는 옵션 없음: taskId={}, itemNo={}, responseBody 일부={}",
                     crawlTask.getIdValue(),
                     itemNo,
-                    truncate(crawlResult.responseBody()));
+                    crawlResult.responseBody().preview(LOGGED_BODY_PREVIEW_BYTES));
             return ProcessingResult.empty();
         }
 
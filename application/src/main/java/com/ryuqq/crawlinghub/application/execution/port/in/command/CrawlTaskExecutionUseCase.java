@@ -2,6 +2,8 @@ package com.ryuqq.crawlinghub.application.execution.port.in.command;
 
 import com.ryuqq.crawlinghub.application.execution.dto.command.ExecuteCrawlTaskCommand;
 import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * CrawlTask 실행 UseCase (Port In)
@@ -40,4 +42,18 @@ public interface CrawlTaskExecutionUseCase {
      * @throws RetryableExecutionException 인프라 오류 시 (SQS 재시도 대상)
      */
     void execute(ExecuteCrawlTaskCommand command);
+
+    /**
+     * CrawlTask 비동기 실행
+     *
+     * <p>HTTP 응답 대기 중 호출 스레드를 점유하지 않습니다. 응답 이후의 상태 저장, UserAgent 반납은 {@code completionExecutor}에서
+     * 실행됩니다.
+     *
+     * @param command 실행 커맨드
+     * @param completionExecutor 크롤링 완료 후처리 Executor (블로킹 I/O 허용)
+     * @return 완료 Future
+     * @throws RetryableExecutionException 인프라 오류 또는 UserAgent borrow 실패 시 (SQS 재시도 대상)
+     */
+    CompletableFuture<Void> executeAsync(
+            ExecuteCrawlTaskCommand command, Executor completionExecutor);
 }
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.execution.port.out.client;
 
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpRequest;
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP 클라이언트 포트
@@ -15,6 +16,11 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResp
  *   <li>트랜잭션 내 외부 API 호출 금지 원칙 준수
  * </ul>
  *
+ * <p><strong>비동기 호출</strong>: {@link #getAsync(HttpRequest)}는 응답 대기 중 호출 스레드를 점유하지 않습니다. Future는
+ * HTTP 클라이언트의 I/O 스레드에서 완료될 수 있으므로 후속 블로킹 작업(DB, Redis)은 별도 Executor로 전환해야 합니다.
+ *
+ * <p><strong>응답 바디</strong>: 반환된 {@link HttpResponse#body()}는 풀 버퍼일 수 있으므로 호출자가 사용 후 반환해야 합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -28,6 +34,16 @@ public interface HttpClient {
      */
     HttpResponse get(HttpRequest request);
 
+    /**
+     * HTTP GET 요청 비동기 실행
+     *
+     * <p>{@link #get(HttpRequest)}와 동일하게 HTTP 에러/연결 실패도 HttpResponse로 완료됩니다 (Future가 예외로 완료되지 않음).
+     *
+     * @param request HTTP 요청 정보
+     * @return HTTP 응답 Future
+     */
+    CompletableFuture<HttpResponse> getAsync(HttpRequest request);
+
     /**
      * HTTP POST 요청 실행
      *
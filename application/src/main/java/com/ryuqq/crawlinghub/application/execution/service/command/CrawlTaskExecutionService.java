@@ -10,6 +10,8 @@ import com.ryuqq.crawlinghub.application.execution.validator.CrawlTaskExecutionV
 import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionException;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
@@ -29,6 +31,8 @@ import org.springframework.transaction.TransactionException;
  *   <li>Coordinator.execute: 전체 크롤링 흐름 조율 (prepare → crawl → complete)
  * </ol>
  *
+ * <p>{@link #executeAsync}는 동일한 흐름에서 크롤링(HTTP)만 비동기로 실행합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -53,6 +57,19 @@ public class CrawlTaskExecutionService implements CrawlTaskExecutionUseCase {
     @CrawlMetric(value = "crawl_task", operation = "execute")
     @Override
     public void execute(ExecuteCrawlTaskCommand command) {
+        prepareBundle(command).ifPresent(coordinator::execute);
+    }
+
+    @CrawlMetric(value = "crawl_task", operation = "execute")
+    @Override
+    public CompletableFuture<Void> executeAsync(
+            ExecuteCrawlTaskCommand command, Executor completionExecutor) {
+        return prepareBundle(command)
+                .map(bundle -> coordinator.executeAsync(bundle, completionExecutor))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    private Optional<CrawlTaskExecutionBundle> prepareBundle(ExecuteCrawlTaskCommand command) {
         Long taskId = command.taskId();
 
         log.info(
@@ -61,15 +78,8 @@ public class CrawlTaskExecutionService implements CrawlTaskExecutionUseCase {
                 command.schedulerId(),
                 command.taskType());
 
-        Optional<CrawlTask> taskOptional = validateOrSkip(taskId, command);
-        if (taskOptional.isEmpty()) {
-            return;
-        }
-
-        CrawlTaskExecutionBundle bundle =
-                commandFactory.createExecutionBundle(taskOptional.get(), command);
-
-        coordinator.execute(bundle);
+        return validateOrSkip(taskId, command)
+                .map(task -> commandFactory.createExecutionBundle(task, command));
     }
 
     /**
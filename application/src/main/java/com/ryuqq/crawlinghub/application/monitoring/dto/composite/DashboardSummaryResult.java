@@ -1,11 +1,14 @@
 package com.ryuqq.crawlinghub.application.monitoring.dto.composite;
 
+import java.time.Instant;
+
 public record DashboardSummaryResult(
         long activeSchedulers,
         long runningTasks,
         long pendingOutbox,
         long recentErrors,
-        SystemStatus overallStatus) {
+        SystemStatus overallStatus,
+        Instant aggregatedAt) {
 
     public enum SystemStatus {
         HEALTHY,
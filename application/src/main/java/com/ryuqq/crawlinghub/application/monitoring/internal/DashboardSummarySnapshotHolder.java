@@ -0,0 +1,82 @@
+package com.ryuqq.crawlinghub.application.monitoring.internal;
+
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
+import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 요약 스냅샷 보관소
+ *
+ * <p>조회 기간(lookback)별로 마지막 집계 결과를 보관하고, 집계 시각이 최대 허용 지연(maxStaleness)을 넘긴 경우에만 다시 집계합니다.
+ * 대시보드를 보는 사용자 수와 무관하게 인스턴스당 집계 쿼리는 maxStaleness마다 최대 한 번 실행됩니다.
+ *
+ * <ul>
+ *   <li>갱신은 한 요청만 수행하며, 갱신 중에 들어온 요청은 직전 스냅샷을 그대로 반환합니다.
+ *   <li>스냅샷이 아직 없는 조회 기간은 갱신이 끝날 때까지 대기합니다.
+ *   <li>조회 기간은 요청 파라미터이므로 보관 개수를 {@value #MAX_SNAPSHOTS}개로 제한합니다.
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class DashboardSummarySnapshotHolder {
+
+    private static final int MAX_SNAPSHOTS = 16;
+
+    private final Map<Duration, DashboardSummaryResult> snapshots = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final TimeProvider timeProvider;
+
+    public DashboardSummarySnapshotHolder(TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 스냅샷 조회 (만료 시 갱신)
+     *
+     * @param lookback 조회 기간
+     * @param maxStaleness 최대 허용 지연
+     * @param aggregator 스냅샷 갱신 시 실행할 집계
+     * @return 집계 시각이 maxStaleness 이내인 스냅샷 (갱신 중이면 직전 스냅샷)
+     */
+    public DashboardSummaryResult get(
+            Duration lookback,
+            Duration maxStaleness,
+            Supplier<DashboardSummaryResult> aggregator) {
+        DashboardSummaryResult current = snapshots.get(lookback);
+        if (current != null && isFresh(current, maxStaleness)) {
+            return current;
+        }
+
+        if (current == null) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return current;
+        }
+
+        try {
+            DashboardSummaryResult latest = snapshots.get(lookback);
+            if (latest != null && isFresh(latest, maxStaleness)) {
+                return latest;
+            }
+            DashboardSummaryResult refreshed = aggregator.get();
+            if (latest == null && snapshots.size() >= MAX_SNAPSHOTS) {
+                snapshots.clear();
+            }
+            snapshots.put(lookback, refreshed);
+            return refreshed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean isFresh(DashboardSummaryResult snapshot, Duration maxStaleness) {
+        return timeProvider.now().isBefore(snapshot.aggregatedAt().plus(maxStaleness));
+    }
+}
@@ -5,5 +5,14 @@ import java.time.Duration;
 
 public interface GetDashboardSummaryUseCase {
 
-    DashboardSummaryResult execute(Duration lookbackDuration);
+    /**
+     * 대시보드 요약 조회
+     *
+     * <p>매 요청 집계하지 않고 스냅샷을 반환합니다. 스냅샷 집계 시각은 {@link DashboardSummaryResult#aggregatedAt()}입니다.
+     *
+     * @param lookbackDuration 최근 에러 집계 기간
+     * @param maxStaleness 스냅샷 최대 허용 지연 (0이면 매 요청 집계)
+     * @return 대시보드 요약
+     */
+    DashboardSummaryResult execute(Duration lookbackDuration, Duration maxStaleness);
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.crawlinghub.application.monitoring.service.query;
 
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult;
+import com.ryuqq.crawlinghub.application.monitoring.internal.DashboardSummarySnapshotHolder;
 import com.ryuqq.crawlinghub.application.monitoring.port.in.query.GetDashboardSummaryUseCase;
 import com.ryuqq.crawlinghub.application.monitoring.port.out.query.MonitoringCompositeQueryPort;
 import java.time.Duration;
@@ -10,13 +11,20 @@ import org.springframework.stereotype.Service;
 public class GetDashboardSummaryService implements GetDashboardSummaryUseCase {
 
     private final MonitoringCompositeQueryPort monitoringCompositeQueryPort;
+    private final DashboardSummarySnapshotHolder dashboardSummarySnapshotHolder;
 
-    public GetDashboardSummaryService(MonitoringCompositeQueryPort monitoringCompositeQueryPort) {
+    public GetDashboardSummaryService(
+            MonitoringCompositeQueryPort monitoringCompositeQueryPort,
+            DashboardSummarySnapshotHolder dashboardSummarySnapshotHolder) {
         this.monitoringCompositeQueryPort = monitoringCompositeQueryPort;
+        this.dashboardSummarySnapshotHolder = dashboardSummarySnapshotHolder;
     }
 
     @Override
-    public DashboardSummaryResult execute(Duration lookbackDuration) {
-        return monitoringCompositeQueryPort.getDashboardSummary(lookbackDuration);
+    public DashboardSummaryResult execute(Duration lookbackDuration, Duration maxStaleness) {
+        return dashboardSummarySnapshotHolder.get(
+                lookbackDuration,
+                maxStaleness,
+                () -> monitoringCompositeQueryPort.getDashboardSummary(lookbackDuration));
     }
 }
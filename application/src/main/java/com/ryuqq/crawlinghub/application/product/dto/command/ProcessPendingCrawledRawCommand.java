@@ -7,10 +7,36 @@ import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
  *
  * @param crawlType 크롤링 타입 (MINI_SHOP, DETAIL, OPTION)
  * @param batchSize 배치 크기
+ * @param parallelism 동시에 처리할 최대 파티션 레인 수 (1이면 순차 처리)
+ * @param partitionKey 파티션 기준 (같은 파티션의 Raw는 한 워커에서 순서대로 처리)
  */
-public record ProcessPendingCrawledRawCommand(CrawlType crawlType, int batchSize) {
+public record ProcessPendingCrawledRawCommand(
+        CrawlType crawlType, int batchSize, int parallelism, PartitionKey partitionKey) {
+
+    /** 파티션 기준 */
+    public enum PartitionKey {
+        /** sellerId 단위 (셀러의 모든 상품을 한 워커가 처리) */
+        SELLER,
+        /** (sellerId, itemNo) 단위 (상품 단위 순서만 보장) */
+        SELLER_ITEM
+    }
+
+    public ProcessPendingCrawledRawCommand {
+        if (parallelism < 1) {
+            parallelism = 1;
+        }
+        if (partitionKey == null) {
+            partitionKey = PartitionKey.SELLER;
+        }
+    }
 
     public static ProcessPendingCrawledRawCommand of(CrawlType crawlType, int batchSize) {
-        return new ProcessPendingCrawledRawCommand(crawlType, batchSize);
+        return new ProcessPendingCrawledRawCommand(crawlType, batchSize, 1, PartitionKey.SELLER);
+    }
+
+    public static ProcessPendingCrawledRawCommand of(
+            CrawlType crawlType, int batchSize, int parallelism, PartitionKey partitionKey) {
+        return new ProcessPendingCrawledRawCommand(
+                crawlType, batchSize, parallelism, partitionKey);
     }
 }
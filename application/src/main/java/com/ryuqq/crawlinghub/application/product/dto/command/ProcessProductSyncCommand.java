@@ -12,6 +12,7 @@ package com.ryuqq.crawlinghub.application.product.dto.command;
  * @param syncType 동기화 유형 (CREATE, UPDATE) (NotNull)
  * @param externalProductId 외부 상품 ID (UPDATE 시, nullable)
  * @param idempotencyKey 멱등성 키 (NotNull)
+ * @param coalesceChanges 같은 상품의 발행 완료(SENT) UPDATE Outbox를 병합 처리할지 여부
  * @author development-team
  * @since 1.0.0
  */
@@ -22,7 +23,28 @@ public record ProcessProductSyncCommand(
         Long itemNo,
         String syncType,
         Long externalProductId,
-        String idempotencyKey) {
+        String idempotencyKey,
+        boolean coalesceChanges) {
+
+    /** 병합 없이 메시지의 Outbox 한 건만 처리하는 Command */
+    public ProcessProductSyncCommand(
+            Long outboxId,
+            Long crawledProductId,
+            Long sellerId,
+            Long itemNo,
+            String syncType,
+            Long externalProductId,
+            String idempotencyKey) {
+        this(
+                outboxId,
+                crawledProductId,
+                sellerId,
+                itemNo,
+                syncType,
+                externalProductId,
+                idempotencyKey,
+                false);
+    }
 
     public ProcessProductSyncCommand {
         if (outboxId == null) {
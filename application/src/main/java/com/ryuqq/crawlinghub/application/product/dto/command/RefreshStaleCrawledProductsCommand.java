@@ -0,0 +1,40 @@
+package com.ryuqq.crawlinghub.application.product.dto.command;
+
+/**
+ * 갱신이 오래된 CrawledProduct 재크롤링 태스크 생성 Command (1회 틱 기준)
+ *
+ * <p>한 틱에 생성할 태스크 수는 목표 속도, 대기 큐 여유분, IDLE UserAgent 수 중 가장 작은 값으로 결정됩니다.
+ *
+ * @param tasksPerTick 틱당 목표 태스크 생성 수 (분 단위 틱이면 분당 목표 속도)
+ * @param maxQueueDepth 허용하는 대기 태스크(WAITING/PUBLISHED/RETRY) 최대 수
+ * @param tasksPerIdleAgent IDLE UserAgent 1개당 틱당 허용 태스크 수
+ * @param staleAfterMinutes 마지막 갱신 후 이 시간(분)이 지난 상품만 갱신 대상
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RefreshStaleCrawledProductsCommand(
+        int tasksPerTick, int maxQueueDepth, int tasksPerIdleAgent, int staleAfterMinutes) {
+
+    public RefreshStaleCrawledProductsCommand {
+        if (tasksPerTick <= 0) {
+            throw new IllegalArgumentException("tasksPerTick는 0보다 커야 합니다: " + tasksPerTick);
+        }
+        if (maxQueueDepth <= 0) {
+            throw new IllegalArgumentException("maxQueueDepth는 0보다 커야 합니다: " + maxQueueDepth);
+        }
+        if (tasksPerIdleAgent <= 0) {
+            throw new IllegalArgumentException(
+                    "tasksPerIdleAgent는 0보다 커야 합니다: " + tasksPerIdleAgent);
+        }
+        if (staleAfterMinutes < 0) {
+            throw new IllegalArgumentException(
+                    "staleAfterMinutes는 0 이상이어야 합니다: " + staleAfterMinutes);
+        }
+    }
+
+    public static RefreshStaleCrawledProductsCommand of(
+            int tasksPerTick, int maxQueueDepth, int tasksPerIdleAgent, int staleAfterMinutes) {
+        return new RefreshStaleCrawledProductsCommand(
+                tasksPerTick, maxQueueDepth, tasksPerIdleAgent, staleAfterMinutes);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ryuqq.crawlinghub.application.product.dto.result;
+
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import java.time.Instant;
+
+/**
+ * 갱신 대상(stale) CrawledProduct 식별 키
+ *
+ * <p>재크롤링 태스크 생성에는 셀러 ID와 상품 번호만 필요하므로, 이미지/상세 설명/옵션 등 LONGTEXT 컬럼을 포함한 전체 상품 대신
+ * 키만 조회합니다. 상품 ID와 updatedAt은 갱신 커서({@code (updatedAt, id)})를 만드는 데 사용합니다.
+ *
+ * @param productId CrawledProduct ID
+ * @param sellerId 셀러 ID
+ * @param itemNo 상품 번호
+ * @param updatedAt 마지막 갱신 시각
+ * @author development-team
+ * @since 1.0.0
+ */
+public record StaleCrawledProductKey(
+        long productId, long sellerId, long itemNo, Instant updatedAt) {
+
+    /** 갱신 커서의 정렬 키 ({@code updatedAt ASC, id ASC}) */
+    public static final String CURSOR_SORT_KEY = "updatedAt";
+
+    /** 이 상품 다음부터 이어서 조회하기 위한 커서 */
+    public KeysetCursor toCursor() {
+        return KeysetCursor.of(CURSOR_SORT_KEY, SortDirection.ASC, updatedAt.toString(), productId);
+    }
+}
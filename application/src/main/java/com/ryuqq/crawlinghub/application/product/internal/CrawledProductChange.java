@@ -0,0 +1,64 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * CrawledProduct 배치 변경 요청
+ *
+ * <p>{@link CrawledProductCoordinator}의 배치 메서드에 전달되는 상품 단위 변경 내용입니다.
+ *
+ * @param sellerId 판매자 ID
+ * @param itemNo 상품 번호
+ * @param updater 기존 상품 업데이트 로직
+ * @param creator 신규 상품 생성 로직 (업데이트 전용 변경이면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawledProductChange(
+        SellerId sellerId,
+        long itemNo,
+        Consumer<CrawledProduct> updater,
+        Supplier<CrawledProduct> creator) {
+
+    /** 기존 상품이 있으면 업데이트, 없으면 신규 생성 (MiniShop용) */
+    public static CrawledProductChange upsert(
+            SellerId sellerId,
+            long itemNo,
+            Consumer<CrawledProduct> updater,
+            Supplier<CrawledProduct> creator) {
+        return new CrawledProductChange(sellerId, itemNo, updater, creator);
+    }
+
+    /** 기존 상품만 업데이트 (Detail, Option용) */
+    public static CrawledProductChange update(
+            SellerId sellerId, long itemNo, Consumer<CrawledProduct> updater) {
+        return new CrawledProductChange(sellerId, itemNo, updater, null);
+    }
+
+    /** 상품 식별 키 ("sellerId:itemNo") */
+    public String key() {
+        return keyOf(sellerId.value(), itemNo);
+    }
+
+    static String keyOf(long sellerId, long itemNo) {
+        return sellerId + ":" + itemNo;
+    }
+
+    static String keyOf(CrawledProduct product) {
+        return keyOf(product.getSellerIdValue(), product.getItemNo());
+    }
+
+    static Set<String> keysOf(Collection<CrawledProduct> products) {
+        Set<String> keys = new HashSet<>();
+        for (CrawledProduct product : products) {
+            keys.add(keyOf(product));
+        }
+        return keys;
+    }
+}
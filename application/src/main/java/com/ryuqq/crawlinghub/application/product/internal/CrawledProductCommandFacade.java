@@ -6,7 +6,10 @@ import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutbo
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductChangeType;
 import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -62,6 +65,32 @@ public class CrawledProductCommandFacade {
         return id;
     }
 
+    /**
+     * product 일괄 저장 + outbox 생성 (Raw 배치 처리용)
+     *
+     * <p>트랜잭션 내에서 수행:
+     *
+     * <ol>
+     *   <li>CrawledProduct 일괄 저장 (기존 상품 version 조건 갱신, 신규 상품 INSERT IGNORE)
+     *   <li>충돌/중복 없이 저장된 상품 중 외부 동기화 필요 시 SyncOutbox 생성
+     * </ol>
+     *
+     * @param products 저장할 CrawledProduct 목록
+     * @return version 충돌 또는 유니크 키 중복으로 저장되지 않은 상품 목록
+     */
+    @Transactional
+    public List<CrawledProduct> persistAllAndSync(List<CrawledProduct> products) {
+        List<CrawledProduct> unapplied = commandManager.persistAll(products);
+        Set<String> unappliedKeys = CrawledProductChange.keysOf(unapplied);
+        for (CrawledProduct product : products) {
+            if (!unappliedKeys.contains(CrawledProductChange.keyOf(product))
+                    && product.needsExternalSync()) {
+                syncOutboxCoordinator.createAllIfAbsent(product);
+            }
+        }
+        return unapplied;
+    }
+
     /**
      * sync 완료 처리 (outbox 완료 + product 상태 클리어)
      *
@@ -102,4 +131,35 @@ public class CrawledProductCommandFacade {
         }
         commandManager.persist(freshProduct);
     }
+
+    /**
+     * 병합 sync 완료 처리 (UPDATE outbox 일괄 완료 + product 변경 유형 일괄 클리어)
+     *
+     * <p>{@link #completeSyncAndPersist}와 같은 이유로 Product를 트랜잭션 내에서 재조회하되, 병합된 Outbox 수와 관계없이 한
+     * 번만 조회/저장합니다.
+     *
+     * @param outboxes 완료할 SyncOutbox 목록 (같은 상품의 UPDATE 유형)
+     */
+    @Transactional
+    public void completeAllSyncAndPersist(List<CrawledProductSyncOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        syncOutboxCommandManager.markAllAsCompleted(outboxes);
+
+        CrawledProductSyncOutbox first = outboxes.get(0);
+        CrawledProduct freshProduct =
+                readManager
+                        .findById(first.getCrawledProductId())
+                        .orElseThrow(
+                                () ->
+                                        new IllegalStateException(
+                                                "CrawledProduct를 찾을 수 없음: productId="
+                                                        + first.getCrawledProductIdValue()));
+
+        Set<ProductChangeType> changeTypes = EnumSet.noneOf(ProductChangeType.class);
+        outboxes.forEach(outbox -> changeTypes.add(outbox.getSyncType().toChangeType()));
+        freshProduct.markChangesSynced(changeTypes, Instant.now());
+        commandManager.persist(freshProduct);
+    }
 }
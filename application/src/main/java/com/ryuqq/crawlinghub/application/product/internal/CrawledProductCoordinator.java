@@ -5,7 +5,13 @@ import com.ryuqq.crawlinghub.application.product.manager.CrawledProductReadManag
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -18,6 +24,10 @@ import org.springframework.stereotype.Component;
  *
  * <p>3개 프로세서(MiniShop, Detail, Option)의 공통 흐름(조회→변경→영속→동기화)을 조율합니다.
  *
+ * <p><strong>배치 처리</strong>: {@code *All} 메서드는 배치의 (sellerId, itemNo) 키를 soft-delete 포함 1회 쿼리로
+ * 선조회하고, 메모리에서 변경을 적용한 뒤 한 트랜잭션으로 일괄 저장합니다. version 충돌 또는 신규 INSERT의 유니크 키 중복으로
+ * 저장되지 않은 상품만 단건 흐름으로 재처리합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -118,6 +128,114 @@ public class CrawledProductCoordinator {
         }
     }
 
+    /**
+     * 기존 상품들을 찾아서 일괄 업데이트 + 동기화 요청 (Detail, Option 배치용)
+     *
+     * <p>존재하지 않거나 soft-delete된 상품의 변경은 무시합니다.
+     *
+     * @param changes 상품별 변경 목록
+     */
+    public void updateExistingAllAndSync(List<CrawledProductChange> changes) {
+        applyAll(changes, false);
+    }
+
+    /**
+     * 기존 상품이 있으면 업데이트+동기화, 없으면 신규 생성 (MiniShop 배치용)
+     *
+     * <p>soft-delete된 상품은 복원 후 업데이트합니다.
+     *
+     * @param changes 상품별 변경 목록
+     */
+    public void createOrUpdateAll(List<CrawledProductChange> changes) {
+        applyAll(changes, true);
+    }
+
+    private void applyAll(List<CrawledProductChange> changes, boolean createIfAbsent) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Map<String, CrawledProduct> products = prefetch(changes);
+        Map<String, CrawledProduct> changed = new LinkedHashMap<>();
+        Instant now = Instant.now();
+
+        for (CrawledProductChange change : changes) {
+            String key = change.key();
+            CrawledProduct product = products.get(key);
+            if (product == null) {
+                if (createIfAbsent) {
+                    CrawledProduct created = change.creator().get();
+                    products.put(key, created);
+                    changed.put(key, created);
+                }
+                continue;
+            }
+            if (product.isDeleted()) {
+                if (!createIfAbsent) {
+                    continue;
+                }
+                product.restore(now);
+                log.info(
+                        "soft-deleted 상품 복원: sellerId={}, itemNo={}",
+                        change.sellerId().value(),
+                        change.itemNo());
+            }
+            change.updater().accept(product);
+            changed.put(key, product);
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<CrawledProduct> unapplied =
+                commandFacade.persistAllAndSync(List.copyOf(changed.values()));
+        if (!unapplied.isEmpty()) {
+            retryConflicted(changes, CrawledProductChange.keysOf(unapplied), createIfAbsent);
+        }
+    }
+
+    /** (sellerId, itemNo) 키 목록을 soft-delete 포함 1회 쿼리로 조회 */
+    private Map<String, CrawledProduct> prefetch(List<CrawledProductChange> changes) {
+        Set<SellerId> sellerIds = new LinkedHashSet<>();
+        Set<Long> itemNos = new LinkedHashSet<>();
+        for (CrawledProductChange change : changes) {
+            sellerIds.add(change.sellerId());
+            itemNos.add(change.itemNo());
+        }
+
+        Map<String, CrawledProduct> products = new HashMap<>();
+        for (CrawledProduct product :
+                readManager.findAllBySellerIdsAndItemNosIncludingDeleted(sellerIds, itemNos)) {
+            products.put(CrawledProductChange.keyOf(product), product);
+        }
+        return products;
+    }
+
+    /**
+     * 일괄 저장에 반영되지 않은 상품의 변경을 단건 흐름(재조회 후 반영)으로 재처리
+     *
+     * <p>선조회 이후 다른 트랜잭션이 먼저 INSERT한 신규 상품도 여기서 {@link #createOrUpdate}로 재조회되어 도메인 updater를
+     * 거쳐 반영됩니다.
+     */
+    private void retryConflicted(
+            List<CrawledProductChange> changes,
+            Set<String> conflictedKeys,
+            boolean createIfAbsent) {
+        log.warn("상품 일괄 저장 중 충돌/중복 감지, 단건 처리로 전환: count={}", conflictedKeys.size());
+        for (CrawledProductChange change : changes) {
+            if (!conflictedKeys.contains(change.key())) {
+                continue;
+            }
+            if (createIfAbsent) {
+                createOrUpdate(
+                        change.sellerId(), change.itemNo(), change.updater(), change.creator());
+            } else {
+                updateExistingAndSync(change.sellerId(), change.itemNo(), change.updater());
+            }
+        }
+    }
+
     /**
      * 기존 상품이 있으면 soft-delete 처리 (셀러 불일치 등으로 인한 정리)
      *
@@ -1,15 +1,18 @@
 package com.ryuqq.crawlinghub.application.product.internal;
 
-import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerReadManager;
-import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
+import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerCacheReadManager;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerCacheReadManager;
 import com.ryuqq.crawlinghub.application.task.dto.command.CreateCrawlTaskCommand;
-import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -17,7 +20,8 @@ import org.springframework.stereotype.Component;
 /**
  * CrawledProduct 재갱신 Coordinator
  *
- * <p>sellerId별 상품 그룹에 대해 scheduler/seller 조회 후 DETAIL + OPTION 크롤 태스크 커맨드를 생성합니다.
+ * <p>갱신 대상 상품 키를 sellerId별로 묶고, 셀러마다 scheduler/seller를 실행당 한 번만 조회해 DETAIL + OPTION 크롤
+ * 태스크 커맨드를 생성합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -28,56 +32,84 @@ public class CrawledProductRefreshCoordinator {
     private static final Logger log =
             LoggerFactory.getLogger(CrawledProductRefreshCoordinator.class);
 
-    private final CrawlSchedulerReadManager crawlSchedulerReadManager;
-    private final SellerReadManager sellerReadManager;
+    private final CrawlSchedulerCacheReadManager crawlSchedulerCacheReadManager;
+    private final SellerCacheReadManager sellerCacheReadManager;
 
     public CrawledProductRefreshCoordinator(
-            CrawlSchedulerReadManager crawlSchedulerReadManager,
-            SellerReadManager sellerReadManager) {
-        this.crawlSchedulerReadManager = crawlSchedulerReadManager;
-        this.sellerReadManager = sellerReadManager;
+            CrawlSchedulerCacheReadManager crawlSchedulerCacheReadManager,
+            SellerCacheReadManager sellerCacheReadManager) {
+        this.crawlSchedulerCacheReadManager = crawlSchedulerCacheReadManager;
+        this.sellerCacheReadManager = sellerCacheReadManager;
     }
 
     /**
-     * sellerId별 상품 그룹에 대해 DETAIL + OPTION 태스크 커맨드 생성
+     * 갱신 대상 상품 키 목록에 대해 DETAIL + OPTION 태스크 커맨드 생성
      *
-     * @param sellerId 셀러 ID
-     * @param products 해당 셀러의 상품 목록
-     * @return 생성된 커맨드 목록 (scheduler/seller가 없으면 빈 리스트)
+     * <p>키는 sellerId별로 묶어 조회 순서를 유지하며, scheduler/seller 조회는 셀러당 한 번만 수행합니다.
+     *
+     * @param staleKeys 갱신 대상 상품 키 목록
+     * @return 생성된 커맨드 목록 (scheduler/seller가 없는 셀러의 상품은 제외)
      */
     public List<CreateCrawlTaskCommand> buildRefreshCommands(
-            SellerId sellerId, List<CrawledProduct> products) {
+            List<StaleCrawledProductKey> staleKeys) {
+        Map<Long, List<StaleCrawledProductKey>> keysBySeller =
+                staleKeys.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        StaleCrawledProductKey::sellerId,
+                                        LinkedHashMap::new,
+                                        Collectors.toList()));
+
+        List<CreateCrawlTaskCommand> commands = new ArrayList<>();
+        for (Map.Entry<Long, List<StaleCrawledProductKey>> entry : keysBySeller.entrySet()) {
+            SellerId sellerId = SellerId.of(entry.getKey());
+            resolveTarget(sellerId)
+                    .ifPresent(target -> addCommands(commands, target, entry.getValue()));
+        }
+        return commands;
+    }
 
+    private Optional<RefreshTarget> resolveTarget(SellerId sellerId) {
         List<CrawlScheduler> schedulers =
-                crawlSchedulerReadManager.findActiveSchedulersBySellerId(sellerId);
+                crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(sellerId);
         if (schedulers.isEmpty()) {
             log.debug("활성 스케줄러 없음: sellerId={}", sellerId.value());
-            return List.of();
+            return Optional.empty();
         }
-        CrawlScheduler scheduler = schedulers.get(0);
 
-        Optional<Seller> sellerOpt = sellerReadManager.findById(sellerId);
+        Optional<Seller> sellerOpt = sellerCacheReadManager.findById(sellerId);
         if (sellerOpt.isEmpty()) {
             log.debug("셀러 조회 실패: sellerId={}", sellerId.value());
-            return List.of();
+            return Optional.empty();
         }
-        String mustItSellerName = sellerOpt.get().getMustItSellerNameValue();
 
-        List<CreateCrawlTaskCommand> commands = new ArrayList<>();
-        for (CrawledProduct product : products) {
+        return Optional.of(
+                new RefreshTarget(
+                        schedulers.get(0).getCrawlSchedulerIdValue(),
+                        sellerId.value(),
+                        sellerOpt.get().getMustItSellerNameValue()));
+    }
+
+    private void addCommands(
+            List<CreateCrawlTaskCommand> commands,
+            RefreshTarget target,
+            List<StaleCrawledProductKey> keys) {
+        for (StaleCrawledProductKey key : keys) {
             commands.add(
                     CreateCrawlTaskCommand.forDetail(
-                            scheduler.getCrawlSchedulerIdValue(),
-                            sellerId.value(),
-                            mustItSellerName,
-                            product.getItemNo()));
+                            target.schedulerId(),
+                            target.sellerId(),
+                            target.mustItSellerName(),
+                            key.itemNo()));
             commands.add(
                     CreateCrawlTaskCommand.forOption(
-                            scheduler.getCrawlSchedulerIdValue(),
-                            sellerId.value(),
-                            mustItSellerName,
-                            product.getItemNo()));
+                            target.schedulerId(),
+                            target.sellerId(),
+                            target.mustItSellerName(),
+                            key.itemNo()));
         }
-        return commands;
     }
+
+    /** 셀러별로 한 번 조회한 재크롤링 대상 정보 */
+    private record RefreshTarget(long schedulerId, long sellerId, String mustItSellerName) {}
 }
@@ -0,0 +1,82 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
+import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskReadManager;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.manager.UserAgentPoolCacheQueryManager;
+import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawledProduct 갱신 속도 플래너
+ *
+ * <p>한 틱에 갱신할 상품 수를 결정합니다. 태스크 예산은 다음 세 값 중 가장 작은 값입니다.
+ *
+ * <ul>
+ *   <li>목표 속도: {@code tasksPerTick}
+ *   <li>대기 큐 여유분: {@code maxQueueDepth - 대기 태스크(WAITING/PUBLISHED/RETRY) 수}
+ *   <li>UserAgent 여유분: {@code IDLE UserAgent 수 × tasksPerIdleAgent}
+ * </ul>
+ *
+ * <p>상품 1개당 DETAIL + OPTION 2개의 태스크가 생성되므로 상품 수는 태스크 예산의 절반입니다. 큐가 밀려 있거나 IDLE
+ * UserAgent가 없으면 0을 반환해 해당 틱을 건너뜁니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawledProductRefreshPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawledProductRefreshPlanner.class);
+
+    /** 상품 1개당 생성되는 태스크 수 (DETAIL + OPTION) */
+    static final int TASKS_PER_PRODUCT = 2;
+
+    private static final List<CrawlTaskStatus> QUEUED_STATUSES =
+            List.of(CrawlTaskStatus.WAITING, CrawlTaskStatus.PUBLISHED, CrawlTaskStatus.RETRY);
+
+    private final CrawlTaskReadManager crawlTaskReadManager;
+    private final UserAgentPoolCacheQueryManager poolCacheQueryManager;
+
+    public CrawledProductRefreshPlanner(
+            CrawlTaskReadManager crawlTaskReadManager,
+            UserAgentPoolCacheQueryManager poolCacheQueryManager) {
+        this.crawlTaskReadManager = crawlTaskReadManager;
+        this.poolCacheQueryManager = poolCacheQueryManager;
+    }
+
+    /**
+     * 이번 틱에 갱신할 상품 수 계산
+     *
+     * @param command 목표 속도 및 조절 기준
+     * @return 갱신할 상품 수 (0이면 이번 틱 건너뜀)
+     */
+    public int planProductBudget(RefreshStaleCrawledProductsCommand command) {
+        long queueDepth = countQueuedTasks();
+        long queueHeadroom = Math.max(0L, command.maxQueueDepth() - queueDepth);
+
+        PoolStats poolStats = poolCacheQueryManager.getPoolStats();
+        long agentCapacity = poolStats.available() * command.tasksPerIdleAgent();
+
+        long taskBudget = Math.min(command.tasksPerTick(), Math.min(queueHeadroom, agentCapacity));
+        int productBudget = (int) (taskBudget / TASKS_PER_PRODUCT);
+
+        log.debug(
+                "상품 갱신 예산 계산: queueDepth={}, idleAgents={}, taskBudget={}, productBudget={}",
+                queueDepth,
+                poolStats.available(),
+                taskBudget,
+                productBudget);
+        return productBudget;
+    }
+
+    private long countQueuedTasks() {
+        CrawlTaskCriteria criteria =
+                new CrawlTaskCriteria(null, null, QUEUED_STATUSES, null, null, null, 0, 1);
+        return crawlTaskReadManager.countByCriteria(criteria);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxCommandManager;
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxReadManager;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * CrawledProductSyncOutbox 선점 Facade
+ *
+ * <p><strong>책임</strong>: 여러 스케줄러 인스턴스가 PENDING Outbox를, 여러 SQS 컨슈머가 병합 대상 SENT Outbox를 겹치지
+ * 않게 나눠 가지도록 선점 트랜잭션 조율
+ *
+ * <p><strong>처리 흐름</strong> (단일 트랜잭션):
+ *
+ * <ol>
+ *   <li>PENDING Outbox를 FOR UPDATE SKIP LOCKED로 조회 (다른 인스턴스가 잠근 행은 건너뜀)
+ *   <li>PENDING → PROCESSING 일괄 전환 (단일 UPDATE)
+ * </ol>
+ *
+ * <p>커밋 이후에는 PROCESSING 상태가 선점 표시가 됩니다. 발행 도중 인스턴스가 종료되어 남은 PROCESSING Outbox는 {@code
+ * RecoverTimeoutProductSyncOutboxService}가 processedAt 기준으로 PENDING으로 되돌립니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawledProductSyncOutboxClaimFacade {
+
+    private final CrawledProductSyncOutboxReadManager readManager;
+    private final CrawledProductSyncOutboxCommandManager commandManager;
+
+    public CrawledProductSyncOutboxClaimFacade(
+            CrawledProductSyncOutboxReadManager readManager,
+            CrawledProductSyncOutboxCommandManager commandManager) {
+        this.readManager = readManager;
+        this.commandManager = commandManager;
+    }
+
+    /**
+     * PENDING Outbox 선점
+     *
+     * @param limit 최대 선점 건수
+     * @return PROCESSING으로 전환된 Outbox 목록
+     */
+    @Transactional
+    public List<CrawledProductSyncOutbox> claimPendingOutboxes(int limit) {
+        List<CrawledProductSyncOutbox> outboxes = readManager.findPendingOutboxesForUpdate(limit);
+
+        commandManager.markAllAsProcessing(outboxes);
+        return outboxes;
+    }
+
+    /**
+     * 지정한 ID의 SENT Outbox 선점 (병합 동기화용)
+     *
+     * <p>다른 컨슈머가 이미 잠갔거나 선점해 SENT가 아닌 Outbox는 제외됩니다.
+     *
+     * @param ids 병합 후보 Outbox ID 목록
+     * @return PROCESSING으로 전환된 Outbox 목록
+     */
+    @Transactional
+    public List<CrawledProductSyncOutbox> claimSentByIds(List<CrawledProductSyncOutboxId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<CrawledProductSyncOutbox> outboxes = readManager.findSentByIdsForUpdate(ids);
+
+        commandManager.markAllAsProcessing(outboxes);
+        return outboxes;
+    }
+}
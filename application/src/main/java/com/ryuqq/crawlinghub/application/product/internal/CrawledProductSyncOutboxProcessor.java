@@ -1,8 +1,15 @@
 package com.ryuqq.crawlinghub.application.product.internal;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncMessageManager;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxCommandManager;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -13,11 +20,14 @@ import org.springframework.stereotype.Component;
  * <p><strong>처리 흐름</strong>:
  *
  * <ol>
- *   <li>PENDING → PROCESSING 전환 (선점)
+ *   <li>PENDING → PROCESSING 전환 ({@link CrawledProductSyncOutboxClaimFacade}로 이미 선점된 경우 생략)
  *   <li>SQS 메시지 발행
  *   <li>성공 시 SENT, 실패 시 FAILED 상태 변경
  * </ol>
  *
+ * <p>{@link #processOutboxes(List)}는 2번 단계를 SendMessageBatch로 묶어 수행하고, 1·3번 단계의 상태 전환을 일괄
+ * UPDATE로 반영합니다. 항목별 발행 결과에 따라 실패한 아웃박스만 FAILED로 전환합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -45,8 +55,10 @@ public class CrawledProductSyncOutboxProcessor {
      */
     public boolean processOutbox(CrawledProductSyncOutbox outbox) {
         try {
-            // 1. PENDING → PROCESSING 전환 (선점)
-            commandManager.markAsProcessing(outbox);
+            // 1. PENDING → PROCESSING 전환 (선점되지 않은 경우)
+            if (outbox.isPending()) {
+                commandManager.markAsProcessing(outbox);
+            }
 
             // 2. SQS 메시지 발행
             messageManager.publish(outbox);
@@ -61,14 +73,117 @@ public class CrawledProductSyncOutboxProcessor {
             return true;
         } catch (Exception e) {
             // 실패 처리
-            commandManager.markAsFailed(outbox, "SQS 발행 실패: " + e.getMessage());
+            markAsFailed(outbox, e.getMessage());
+            return false;
+        }
+    }
 
-            log.warn(
-                    "CrawledProductSyncOutbox 처리 실패: outboxId={}, productId={}, error={}",
-                    outbox.getId(),
-                    outbox.getCrawledProductIdValue(),
+    /**
+     * 아웃박스 일괄 처리 (SendMessageBatch)
+     *
+     * <p>PROCESSING/SENT 전환은 ID 집합 기반 단일 UPDATE, 오류 메시지가 항목마다 다른 FAILED 전환은 JDBC batch로 반영합니다.
+     *
+     * @param outboxes 처리할 아웃박스 목록
+     * @return 처리 결과 (전체/성공/실패 건수)
+     */
+    public SchedulerBatchProcessingResult processOutboxes(List<CrawledProductSyncOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
+
+        // 1. PENDING → PROCESSING 일괄 전환 (선점되지 않은 경우)
+        try {
+            commandManager.markAllAsProcessing(
+                    outboxes.stream().filter(CrawledProductSyncOutbox::isPending).toList());
+        } catch (Exception e) {
+            Map<CrawledProductSyncOutbox, String> errorMessages = new LinkedHashMap<>();
+            outboxes.forEach(outbox -> errorMessages.put(outbox, e.getMessage()));
+            markAllAsFailed(errorMessages);
+            return SchedulerBatchProcessingResult.of(outboxes.size(), 0, outboxes.size());
+        }
+
+        // 2. SQS 일괄 발행
+        Map<Long, BatchItemResult<Long>> resultByOutboxId = publishAll(outboxes);
+
+        // 3. 발행 결과별 SENT / FAILED 일괄 처리
+        List<CrawledProductSyncOutbox> sent = new ArrayList<>(outboxes.size());
+        Map<CrawledProductSyncOutbox, String> errorMessages = new LinkedHashMap<>();
+        for (CrawledProductSyncOutbox outbox : outboxes) {
+            BatchItemResult<Long> result = resultByOutboxId.get(outbox.getIdValue());
+            if (result != null && result.success()) {
+                sent.add(outbox);
+            } else {
+                errorMessages.put(outbox, result != null ? result.errorMessage() : "발행 결과 없음");
+            }
+        }
+
+        int success = markAllAsSent(sent);
+        markAllAsFailed(errorMessages);
+
+        return SchedulerBatchProcessingResult.of(
+                outboxes.size(), success, outboxes.size() - success);
+    }
+
+    private int markAllAsSent(List<CrawledProductSyncOutbox> outboxes) {
+        try {
+            commandManager.markAllAsSent(outboxes);
+            return outboxes.size();
+        } catch (Exception e) {
+            // 발행은 완료되었으므로 FAILED로 되돌리지 않음 (PROCESSING 타임아웃 복구 대상)
+            log.error(
+                    "CrawledProductSyncOutbox SENT 일괄 저장 실패: count={}, error={}",
+                    outboxes.size(),
+                    e.getMessage());
+            return 0;
+        }
+    }
+
+    private void markAllAsFailed(Map<CrawledProductSyncOutbox, String> errorMessages) {
+        if (errorMessages.isEmpty()) {
+            return;
+        }
+        Map<CrawledProductSyncOutbox, String> prefixed = new LinkedHashMap<>();
+        errorMessages.forEach(
+                (outbox, errorMessage) -> {
+                    prefixed.put(outbox, "SQS 발행 실패: " + errorMessage);
+                    log.warn(
+                            "CrawledProductSyncOutbox 처리 실패: outboxId={}, productId={}, error={}",
+                            outbox.getId(),
+                            outbox.getCrawledProductIdValue(),
+                            errorMessage);
+                });
+        try {
+            commandManager.markAllAsFailed(prefixed);
+        } catch (Exception e) {
+            log.error(
+                    "CrawledProductSyncOutbox FAILED 일괄 저장 실패: count={}, error={}",
+                    errorMessages.size(),
+                    e.getMessage());
+        }
+    }
+
+    private Map<Long, BatchItemResult<Long>> publishAll(List<CrawledProductSyncOutbox> outboxes) {
+        Map<Long, BatchItemResult<Long>> resultByOutboxId = new HashMap<>();
+        try {
+            for (BatchItemResult<Long> result : messageManager.publishAll(outboxes)) {
+                resultByOutboxId.put(result.id(), result);
+            }
+        } catch (Exception e) {
+            log.error(
+                    "CrawledProductSyncOutbox 일괄 발행 실패: count={}, error={}",
+                    outboxes.size(),
                     e.getMessage());
-            return false;
         }
+        return resultByOutboxId;
+    }
+
+    private void markAsFailed(CrawledProductSyncOutbox outbox, String errorMessage) {
+        commandManager.markAsFailed(outbox, "SQS 발행 실패: " + errorMessage);
+
+        log.warn(
+                "CrawledProductSyncOutbox 처리 실패: outboxId={}, productId={}, error={}",
+                outbox.getId(),
+                outbox.getCrawledProductIdValue(),
+                errorMessage);
     }
 }
@@ -0,0 +1,191 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
+import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand.PartitionKey;
+import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessor;
+import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessorProvider;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
+import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawledRaw 배치 가공 Processor
+ *
+ * <p>배치를 파티션 기준({@link PartitionKey})으로 나눈 뒤, 파티션을 최대 {@code parallelism}개의 레인에 배정하여 레인 단위로
+ * 병렬 처리합니다.
+ *
+ * <p><strong>동시성 보장</strong>:
+ *
+ * <ul>
+ *   <li>같은 파티션의 Raw는 항상 한 레인에서 조회 순서대로 처리됩니다.
+ *   <li>CrawledProduct는 (sellerId, itemNo)로 식별되므로, 어느 파티션 기준이든 같은 CrawledProduct를 두 워커가 동시에 처리하지
+ *       않습니다.
+ *   <li>레인 수가 곧 동시 실행 수이므로 Executor 크기와 무관하게 동시성이 {@code parallelism}으로 제한됩니다.
+ * </ul>
+ *
+ * <p>파티션은 타입별 프로세서의 {@link CrawledRawProcessor#processAll(List)}로 배치 가공되며, 실패는 Raw 단위로 격리됩니다.
+ * 상태 반영은 호출 측에서 결과를 모아 일괄로 수행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawledRawBatchProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawledRawBatchProcessor.class);
+
+    private static final String PARTITION_METRIC = "crawled_raw_partition";
+
+    private final CrawledRawProcessorProvider crawledRawProcessorProvider;
+    private final CrawlHubMetrics metrics;
+
+    public CrawledRawBatchProcessor(
+            CrawledRawProcessorProvider crawledRawProcessorProvider, CrawlHubMetrics metrics) {
+        this.crawledRawProcessorProvider = crawledRawProcessorProvider;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 배치 가공
+     *
+     * @param raws 가공할 Raw 목록 (조회 순서)
+     * @param partitionKey 파티션 기준
+     * @param parallelism 최대 동시 처리 레인 수
+     * @param executor 레인 실행 Executor
+     * @return 가공 결과 (성공 Raw 목록, 실패 Raw별 에러 메시지)
+     */
+    public Outcome processAll(
+            List<CrawledRaw> raws, PartitionKey partitionKey, int parallelism, Executor executor) {
+        List<List<List<CrawledRaw>>> lanes =
+                assignLanes(partition(raws, partitionKey), parallelism);
+
+        if (lanes.size() <= 1) {
+            return lanes.isEmpty() ? Outcome.empty() : processLane(lanes.get(0));
+        }
+
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(lanes.size());
+        for (List<List<CrawledRaw>> lane : lanes) {
+            futures.add(CompletableFuture.supplyAsync(() -> processLane(lane), executor));
+        }
+        return Outcome.merge(futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /** 파티션 키별로 Raw를 묶습니다. 파티션 내부는 조회 순서를 유지합니다. */
+    private static List<List<CrawledRaw>> partition(
+            List<CrawledRaw> raws, PartitionKey partitionKey) {
+        Map<String, List<CrawledRaw>> partitions = new LinkedHashMap<>();
+        for (CrawledRaw raw : raws) {
+            String key =
+                    partitionKey == PartitionKey.SELLER_ITEM
+                            ? raw.getSellerId() + ":" + raw.getItemNo()
+                            : String.valueOf(raw.getSellerId());
+            partitions.computeIfAbsent(key, k -> new ArrayList<>()).add(raw);
+        }
+        return new ArrayList<>(partitions.values());
+    }
+
+    /** 큰 파티션부터 현재 처리량이 가장 적은 레인에 배정합니다. */
+    private static List<List<List<CrawledRaw>>> assignLanes(
+            List<List<CrawledRaw>> partitions, int parallelism) {
+        int laneCount = Math.min(Math.max(parallelism, 1), partitions.size());
+        List<List<List<CrawledRaw>>> lanes = new ArrayList<>(laneCount);
+        int[] laneSizes = new int[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+
+        List<List<CrawledRaw>> sorted = new ArrayList<>(partitions);
+        sorted.sort(Comparator.comparingInt((List<CrawledRaw> p) -> p.size()).reversed());
+        for (List<CrawledRaw> partition : sorted) {
+            int target = 0;
+            for (int i = 1; i < laneCount; i++) {
+                if (laneSizes[i] < laneSizes[target]) {
+                    target = i;
+                }
+            }
+            lanes.get(target).add(partition);
+            laneSizes[target] += partition.size();
+        }
+        return lanes;
+    }
+
+    private Outcome processLane(List<List<CrawledRaw>> partitions) {
+        return Outcome.merge(partitions.stream().map(this::processPartition).toList());
+    }
+
+    private Outcome processPartition(List<CrawledRaw> partition) {
+        CrawlType crawlType = partition.get(0).getCrawlType();
+        Timer.Sample sample = metrics.startTimer();
+
+        Map<CrawledRaw, String> failed = processOrFailAll(partition, crawlType);
+        List<CrawledRaw> processed = new ArrayList<>(partition.size());
+        for (CrawledRaw raw : partition) {
+            if (failed.containsKey(raw)) {
+                log.warn(
+                        "CrawledRaw 가공 실패: id={}, type={}, itemNo={}, error={}",
+                        raw.getIdValue(),
+                        crawlType,
+                        raw.getItemNo(),
+                        failed.get(raw));
+            } else {
+                processed.add(raw);
+            }
+        }
+
+        metrics.stopTimer(
+                sample, PARTITION_METRIC + "_duration_seconds", "crawl_type", crawlType.name());
+        metrics.recordBatchResult(
+                PARTITION_METRIC,
+                crawlType.name(),
+                SchedulerBatchProcessingResult.of(
+                        partition.size(), processed.size(), failed.size()));
+        return new Outcome(processed, failed);
+    }
+
+    /** 파티션을 타입별 프로세서로 배치 가공하고, 프로세서 조회 실패 시 파티션 전체를 실패로 기록합니다. */
+    private Map<CrawledRaw, String> processOrFailAll(
+            List<CrawledRaw> partition, CrawlType crawlType) {
+        try {
+            CrawledRawProcessor processor = crawledRawProcessorProvider.getProcessor(crawlType);
+            return processor.processAll(partition);
+        } catch (Exception e) {
+            Map<CrawledRaw, String> failed = new LinkedHashMap<>();
+            partition.forEach(raw -> failed.put(raw, e.getMessage()));
+            return failed;
+        }
+    }
+
+    /**
+     * 배치 가공 결과
+     *
+     * @param processed 가공 성공 Raw 목록
+     * @param failed 가공 실패 Raw별 에러 메시지
+     */
+    public record Outcome(List<CrawledRaw> processed, Map<CrawledRaw, String> failed) {
+
+        static Outcome empty() {
+            return new Outcome(List.of(), Map.of());
+        }
+
+        static Outcome merge(List<Outcome> outcomes) {
+            List<CrawledRaw> processed = new ArrayList<>();
+            Map<CrawledRaw, String> failed = new LinkedHashMap<>();
+            for (Outcome outcome : outcomes) {
+                processed.addAll(outcome.processed());
+                failed.putAll(outcome.failed());
+            }
+            return new Outcome(processed, failed);
+        }
+    }
+}
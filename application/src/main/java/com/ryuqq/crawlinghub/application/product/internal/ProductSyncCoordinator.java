@@ -2,13 +2,22 @@ package com.ryuqq.crawlinghub.application.product.internal;
 
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessProductSyncCommand;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxCommandManager;
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxReadManager;
 import com.ryuqq.crawlinghub.application.product.port.out.client.ExternalProductServerClient;
 import com.ryuqq.crawlinghub.application.product.validator.ProductSyncValidator;
 import com.ryuqq.crawlinghub.application.product.validator.ProductSyncValidator.SyncTarget;
 import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox.SyncType;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductSyncResult;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +35,13 @@ import org.springframework.stereotype.Component;
  *   <li>성공/실패 처리
  * </ol>
  *
+ * <p><strong>병합 모드</strong> ({@link ProcessProductSyncCommand#coalesceChanges()}): UPDATE Outbox를
+ * 받으면 같은 상품의 SENT 상태 UPDATE Outbox를 함께 묶어 하나의 동기화 단위로 처리합니다. Seller/Product는 한 번만
+ * 로드하고, 상태 전환은 일괄(PROCESSING/COMPLETED/FAILED)로 반영하며, 같은 SyncType이 여러 건이면 외부 API는 한 번만
+ * 호출합니다. 병합된 Outbox의 SQS 메시지는 이후 Validator에서 처리 중/완료로 판단되어 건너뜁니다. PENDING Outbox는 발행
+ * 스케줄러와 경합하지 않도록 병합하지 않습니다. 함께 묶을 Outbox는 FOR UPDATE SKIP LOCKED로 SENT 상태일 때만 선점하므로,
+ * 다른 컨슈머가 이미 선점한 Outbox는 병합하지 않고 실제로 선점한 Outbox만 처리합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -36,6 +52,8 @@ public class ProductSyncCoordinator {
 
     private final ProductSyncValidator validator;
     private final CrawledProductSyncOutboxCommandManager syncOutboxCommandManager;
+    private final CrawledProductSyncOutboxReadManager syncOutboxReadManager;
+    private final CrawledProductSyncOutboxClaimFacade claimFacade;
     private final CrawledProductCommandFacade commandFacade;
     private final ExternalProductServerClient externalProductServerClient;
     private final SellerReadManager sellerReadManager;
@@ -43,11 +61,15 @@ public class ProductSyncCoordinator {
     public ProductSyncCoordinator(
             ProductSyncValidator validator,
             CrawledProductSyncOutboxCommandManager syncOutboxCommandManager,
+            CrawledProductSyncOutboxReadManager syncOutboxReadManager,
+            CrawledProductSyncOutboxClaimFacade claimFacade,
             CrawledProductCommandFacade commandFacade,
             ExternalProductServerClient externalProductServerClient,
             SellerReadManager sellerReadManager) {
         this.validator = validator;
         this.syncOutboxCommandManager = syncOutboxCommandManager;
+        this.syncOutboxReadManager = syncOutboxReadManager;
+        this.claimFacade = claimFacade;
         this.commandFacade = commandFacade;
         this.externalProductServerClient = externalProductServerClient;
         this.sellerReadManager = sellerReadManager;
@@ -84,6 +106,10 @@ public class ProductSyncCoordinator {
                                                 "Seller not found: sellerId="
                                                         + target.outbox().getSellerIdValue()));
 
+        if (command.coalesceChanges() && target.outbox().isUpdateRequest()) {
+            return processCoalesced(target, seller);
+        }
+
         // 3. PROCESSING 상태 전환
         syncOutboxCommandManager.markAsProcessing(target.outbox());
 
@@ -120,6 +146,99 @@ public class ProductSyncCoordinator {
 
     // === Private Methods ===
 
+    /**
+     * 같은 상품의 UPDATE Outbox를 병합해 하나의 동기화 단위로 처리
+     *
+     * @return 병합된 Outbox가 모두 성공하면 true
+     */
+    private boolean processCoalesced(SyncTarget target, Seller seller) {
+        List<CrawledProductSyncOutbox> merged = claimCoalescible(target.outbox());
+        Map<SyncType, List<CrawledProductSyncOutbox>> bySyncType = groupBySyncType(merged);
+
+        List<CrawledProductSyncOutbox> succeeded = new ArrayList<>();
+        Map<CrawledProductSyncOutbox, String> errorMessages = new LinkedHashMap<>();
+        bySyncType.forEach(
+                (syncType, outboxes) -> {
+                    String errorMessage = syncOne(outboxes.get(0), target.product(), seller);
+                    if (errorMessage == null) {
+                        succeeded.addAll(outboxes);
+                    } else {
+                        outboxes.forEach(outbox -> errorMessages.put(outbox, errorMessage));
+                    }
+                });
+
+        try {
+            commandFacade.completeAllSyncAndPersist(succeeded);
+        } catch (Exception e) {
+            succeeded.forEach(outbox -> errorMessages.put(outbox, "완료 처리 예외: " + e.getMessage()));
+            succeeded.clear();
+        }
+        syncOutboxCommandManager.markAllAsFailed(errorMessages);
+
+        log.info(
+                "SQS 외부 동기화 병합 처리: outboxId={}, productId={}, 병합={}, 유형={}, 성공={}, 실패={}",
+                target.outbox().getId(),
+                target.product().getIdValue(),
+                merged.size(),
+                bySyncType.keySet(),
+                succeeded.size(),
+                errorMessages.size());
+        return errorMessages.isEmpty();
+    }
+
+    /**
+     * 수신한 Outbox + 같은 상품의 SENT 상태 UPDATE Outbox를 PROCESSING으로 선점 (수신한 Outbox가 맨 앞)
+     *
+     * <p>함께 묶을 Outbox는 조회 시점의 상태로 후보만 고르고, 선점은 SENT 상태 조건 + SKIP LOCKED로 다시 확인해 실제로 선점한
+     * Outbox만 반환합니다.
+     */
+    private List<CrawledProductSyncOutbox> claimCoalescible(CrawledProductSyncOutbox received) {
+        syncOutboxCommandManager.markAsProcessing(received);
+
+        List<CrawledProductSyncOutboxId> siblingIds = new ArrayList<>();
+        for (CrawledProductSyncOutbox sibling :
+                syncOutboxReadManager.findByCrawledProductId(received.getCrawledProductId())) {
+            if (!sibling.getId().equals(received.getId())
+                    && sibling.isSent()
+                    && sibling.isUpdateRequest()) {
+                siblingIds.add(sibling.getId());
+            }
+        }
+
+        List<CrawledProductSyncOutbox> coalescible = new ArrayList<>();
+        coalescible.add(received);
+        coalescible.addAll(claimFacade.claimSentByIds(siblingIds));
+        return coalescible;
+    }
+
+    private static Map<SyncType, List<CrawledProductSyncOutbox>> groupBySyncType(
+            List<CrawledProductSyncOutbox> outboxes) {
+        Map<SyncType, List<CrawledProductSyncOutbox>> bySyncType = new EnumMap<>(SyncType.class);
+        for (CrawledProductSyncOutbox outbox : outboxes) {
+            bySyncType.computeIfAbsent(outbox.getSyncType(), k -> new ArrayList<>()).add(outbox);
+        }
+        return bySyncType;
+    }
+
+    /**
+     * SyncType 대표 Outbox로 외부 API 호출
+     *
+     * @return 성공 시 null, 실패 시 오류 메시지
+     */
+    private String syncOne(
+            CrawledProductSyncOutbox outbox, CrawledProduct product, Seller seller) {
+        try {
+            ProductSyncResult result = externalProductServerClient.sync(outbox, product, seller);
+            return result.success() ? null : result.toErrorMessage();
+        } catch (Exception e) {
+            log.error(
+                    "SQS 외부 동기화 처리 중 예외: outboxId={}, error={}",
+                    outbox.getId(),
+                    e.getMessage());
+            return "API 호출 예외: " + e.getMessage();
+        }
+    }
+
     private void completeSync(CrawledProductSyncOutbox outbox, Long externalProductId) {
         commandFacade.completeSyncAndPersist(outbox, externalProductId);
     }
@@ -0,0 +1,68 @@
+package com.ryuqq.crawlinghub.application.product.internal.processor;
+
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductChange;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CrawledRaw 배치 가공 공통 흐름
+ *
+ * <p>Raw별 역직렬화로 {@link CrawledProductChange}를 만들고, 변경 목록을 한 번에 저장합니다.
+ *
+ * <ul>
+ *   <li>역직렬화 실패는 해당 Raw만 실패로 기록합니다.
+ *   <li>일괄 저장이 실패하면 역직렬화에 성공한 Raw를 건별 처리로 재시도하여 실패를 Raw 단위로 격리합니다.
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class CrawledRawBatchSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawledRawBatchSupport.class);
+
+    private CrawledRawBatchSupport() {}
+
+    static Map<CrawledRaw, String> processAll(
+            List<CrawledRaw> raws,
+            Function<CrawledRaw, CrawledProductChange> toChange,
+            Consumer<List<CrawledProductChange>> batchWriter,
+            Consumer<CrawledRaw> singleProcessor) {
+        Map<CrawledRaw, String> failed = new LinkedHashMap<>();
+        List<CrawledRaw> mappedRaws = new ArrayList<>(raws.size());
+        List<CrawledProductChange> changes = new ArrayList<>(raws.size());
+
+        for (CrawledRaw raw : raws) {
+            try {
+                changes.add(toChange.apply(raw));
+                mappedRaws.add(raw);
+            } catch (Exception e) {
+                failed.put(raw, e.getMessage());
+            }
+        }
+
+        try {
+            batchWriter.accept(changes);
+        } catch (Exception e) {
+            log.warn(
+                    "CrawledProduct 일괄 저장 실패, 건별 처리로 전환: count={}, error={}",
+                    mappedRaws.size(),
+                    e.getMessage());
+            for (CrawledRaw raw : mappedRaws) {
+                try {
+                    singleProcessor.accept(raw);
+                } catch (Exception single) {
+                    failed.put(raw, single.getMessage());
+                }
+            }
+        }
+        return failed;
+    }
+}
@@ -2,6 +2,9 @@ package com.ryuqq.crawlinghub.application.product.internal.processor;
 
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * CrawledRaw 타입별 가공 전략 인터페이스
@@ -16,4 +19,24 @@ public interface CrawledRawProcessor {
     CrawlType supportedType();
 
     void process(CrawledRaw raw);
+
+    /**
+     * 같은 타입의 CrawledRaw 배치 가공
+     *
+     * <p>기본 구현은 Raw마다 {@link #process(CrawledRaw)}를 호출합니다. 조회/저장을 배치 단위로 묶을 수 있는 프로세서는 재정의합니다.
+     *
+     * @param raws 가공할 Raw 목록
+     * @return 가공 실패한 Raw별 에러 메시지 (실패가 없으면 빈 Map)
+     */
+    default Map<CrawledRaw, String> processAll(List<CrawledRaw> raws) {
+        Map<CrawledRaw, String> failed = new LinkedHashMap<>();
+        for (CrawledRaw raw : raws) {
+            try {
+                process(raw);
+            } catch (Exception e) {
+                failed.put(raw, e.getMessage());
+            }
+        }
+        return failed;
+    }
 }
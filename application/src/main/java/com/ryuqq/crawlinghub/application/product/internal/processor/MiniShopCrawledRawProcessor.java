@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.product.internal.processor;
 
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.factory.CrawledProductFactory;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductChange;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCoordinator;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
@@ -9,6 +10,8 @@ import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
 import com.ryuqq.crawlinghub.domain.product.vo.MiniShopCrawlData;
 import com.ryuqq.crawlinghub.domain.product.vo.MiniShopItem;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -42,11 +45,30 @@ class MiniShopCrawledRawProcessor implements CrawledRawProcessor {
 
     @Override
     public void process(CrawledRaw raw) {
+        CrawledProductChange change = toChange(raw);
+
+        coordinator.createOrUpdate(
+                change.sellerId(), change.itemNo(), change.updater(), change.creator());
+    }
+
+    /**
+     * 배치 내 상품을 1회 선조회 후 일괄 생성/업데이트
+     *
+     * @param raws 가공할 MINI_SHOP Raw 목록
+     * @return 가공 실패한 Raw별 에러 메시지
+     */
+    @Override
+    public Map<CrawledRaw, String> processAll(List<CrawledRaw> raws) {
+        return CrawledRawBatchSupport.processAll(
+                raws, this::toChange, coordinator::createOrUpdateAll, this::process);
+    }
+
+    private CrawledProductChange toChange(CrawledRaw raw) {
         SellerId sellerId = SellerId.of(raw.getSellerId());
         MiniShopItem item = crawledRawMapper.toMiniShopItem(raw.getRawData());
         MiniShopCrawlData crawlData = crawledProductFactory.createMiniShopCrawlData(sellerId, item);
 
-        coordinator.createOrUpdate(
+        return CrawledProductChange.upsert(
                 sellerId,
                 item.itemNo(),
                 product -> product.updateFromMiniShopCrawlData(crawlData),
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.product.internal.processor;
 
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.factory.CrawledProductFactory;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductChange;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCoordinator;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
@@ -9,6 +10,7 @@ import com.ryuqq.crawlinghub.domain.product.vo.OptionCrawlData;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOption;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -42,12 +44,30 @@ class OptionCrawledRawProcessor implements CrawledRawProcessor {
 
     @Override
     public void process(CrawledRaw raw) {
+        CrawledProductChange change = toChange(raw);
+
+        coordinator.updateExistingAndSync(change.sellerId(), change.itemNo(), change.updater());
+    }
+
+    /**
+     * 배치 내 상품을 1회 선조회 후 일괄 업데이트
+     *
+     * @param raws 가공할 OPTION Raw 목록
+     * @return 가공 실패한 Raw별 에러 메시지
+     */
+    @Override
+    public Map<CrawledRaw, String> processAll(List<CrawledRaw> raws) {
+        return CrawledRawBatchSupport.processAll(
+                raws, this::toChange, coordinator::updateExistingAllAndSync, this::process);
+    }
+
+    private CrawledProductChange toChange(CrawledRaw raw) {
         SellerId sellerId = SellerId.of(raw.getSellerId());
         long itemNo = raw.getItemNo();
         List<ProductOption> options = crawledRawMapper.toProductOptions(raw.getRawData());
         OptionCrawlData crawlData = crawledProductFactory.createOptionCrawlData(options);
 
-        coordinator.updateExistingAndSync(
+        return CrawledProductChange.update(
                 sellerId, itemNo, product -> product.updateFromOptionCrawlData(crawlData));
     }
 }
@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.product.manager;
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,4 +37,15 @@ public class CrawledProductCommandManager {
     public CrawledProductId persist(CrawledProduct product) {
         return crawledProductPersistencePort.persist(product);
     }
+
+    /**
+     * CrawledProduct 일괄 저장 (기존 상품 version 조건 갱신, 신규 상품 INSERT IGNORE)
+     *
+     * @param products 저장할 CrawledProduct 목록
+     * @return version 충돌 또는 유니크 키 중복으로 반영되지 않은 상품 목록
+     */
+    @Transactional
+    public List<CrawledProduct> persistAll(List<CrawledProduct> products) {
+        return crawledProductPersistencePort.persistAll(products);
+    }
 }
@@ -4,6 +4,7 @@ import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductQu
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -62,6 +63,20 @@ public class CrawledProductReadManager {
         return crawledProductQueryPort.findBySellerIdAndItemNoIncludingDeleted(sellerId, itemNo);
     }
 
+    /**
+     * Seller ID 목록과 Item No 목록으로 CrawledProduct 일괄 조회 (soft-delete 포함)
+     *
+     * @param sellerIds 판매자 ID 목록
+     * @param itemNos 상품 번호 목록
+     * @return CrawledProduct 목록 (soft-deleted 포함, 두 목록의 조합 기준)
+     */
+    @Transactional(readOnly = true)
+    public List<CrawledProduct> findAllBySellerIdsAndItemNosIncludingDeleted(
+            Collection<SellerId> sellerIds, Collection<Long> itemNos) {
+        return crawledProductQueryPort.findAllBySellerIdsAndItemNosIncludingDeleted(
+                sellerIds, itemNos);
+    }
+
     /**
      * Seller ID로 CrawledProduct 목록 조회
      *
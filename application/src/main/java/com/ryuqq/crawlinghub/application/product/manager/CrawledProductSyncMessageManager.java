@@ -1,7 +1,9 @@
 package com.ryuqq.crawlinghub.application.product.manager;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.product.port.out.client.CrawledProductSyncMessageClient;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -45,4 +47,23 @@ public class CrawledProductSyncMessageManager {
                 outbox.getId(),
                 outbox.getCrawledProductIdValue());
     }
+
+    /**
+     * CrawledProductSyncOutbox 메시지 일괄 발행
+     *
+     * @param outboxes 발행할 CrawledProductSyncOutbox 목록
+     * @return Outbox ID별 발행 결과 (일부 실패 시에도 예외 없이 항목별 결과 반환)
+     */
+    public List<BatchItemResult<Long>> publishAll(List<CrawledProductSyncOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return List.of();
+        }
+
+        List<BatchItemResult<Long>> results = messageClient.publishAll(outboxes);
+
+        long failed = results.stream().filter(result -> !result.success()).count();
+        log.info(
+                "CrawledProductSync 메시지 일괄 발행 완료: total={}, failed={}", results.size(), failed);
+        return results;
+    }
 }
@@ -2,7 +2,11 @@ package com.ryuqq.crawlinghub.application.product.manager;
 
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductSyncOutboxPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,8 @@ import org.springframework.transaction.annotation.Transactional;
  * FAILED → PENDING (재시도 가능 시)
  * </pre>
  *
+ * <p>SQS 발행 배치와 상품별 병합 동기화는 {@code markAllAs*} 메서드로 상태 전환을 배치당 고정 개수의 문장으로 반영합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -113,4 +119,77 @@ public class CrawledProductSyncOutboxCommandManager {
             syncOutboxPersistencePort.update(outbox);
         }
     }
+
+    // === 일괄 상태 전환 (SQS 발행 배치) ===
+
+    /**
+     * 처리 시작 일괄 전환
+     *
+     * @param outboxes 처리 시작할 Outbox 목록
+     */
+    @Transactional
+    public void markAllAsProcessing(List<CrawledProductSyncOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        outboxes.forEach(outbox -> outbox.markAsProcessing(now));
+        syncOutboxPersistencePort.markAllAsProcessing(toIds(outboxes), now);
+    }
+
+    /**
+     * SQS 발행 완료 일괄 전환
+     *
+     * @param outboxes SQS 발행된 Outbox 목록
+     */
+    @Transactional
+    public void markAllAsSent(List<CrawledProductSyncOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        outboxes.forEach(outbox -> outbox.markAsSent(now));
+        syncOutboxPersistencePort.markAllAsSent(toIds(outboxes), now);
+    }
+
+    /**
+     * 동기화 완료 일괄 전환 (UPDATE 유형 전용)
+     *
+     * <p>외부 상품 ID를 저장하지 않으므로 CREATE Outbox는 {@link #markAsCompleted}로 처리해야 합니다.
+     *
+     * @param outboxes 완료할 Outbox 목록
+     */
+    @Transactional
+    public void markAllAsCompleted(List<CrawledProductSyncOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        outboxes.forEach(outbox -> outbox.markAsCompleted(null, now));
+        syncOutboxPersistencePort.markAllAsCompleted(toIds(outboxes), now);
+    }
+
+    /**
+     * 처리 실패 일괄 전환
+     *
+     * @param errorMessages 실패한 Outbox별 오류 메시지
+     */
+    @Transactional
+    public void markAllAsFailed(Map<CrawledProductSyncOutbox, String> errorMessages) {
+        if (errorMessages.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Map<CrawledProductSyncOutboxId, String> errorMessagesById = new LinkedHashMap<>();
+        errorMessages.forEach(
+                (outbox, errorMessage) -> {
+                    outbox.markAsFailed(errorMessage, now);
+                    errorMessagesById.put(outbox.getId(), outbox.getErrorMessage());
+                });
+        syncOutboxPersistencePort.markAllAsFailed(errorMessagesById, now);
+    }
+
+    private static List<CrawledProductSyncOutboxId> toIds(List<CrawledProductSyncOutbox> outboxes) {
+        return outboxes.stream().map(CrawledProductSyncOutbox::getId).toList();
+    }
 }
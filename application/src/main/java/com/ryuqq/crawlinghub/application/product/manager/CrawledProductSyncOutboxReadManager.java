@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.product.manager;
 import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductSyncOutboxQueryPort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
 import java.util.List;
 import java.util.Optional;
@@ -84,6 +85,33 @@ public class CrawledProductSyncOutboxReadManager {
         return syncOutboxQueryPort.findPendingOutboxes(limit);
     }
 
+    /**
+     * PENDING 상태의 CrawledProductSyncOutbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>잠금 조회이므로 readOnly가 아닌 호출 측 트랜잭션에 참여하며, 잠금은 그 트랜잭션 안에서만 유지됩니다.
+     *
+     * @param limit 조회 개수 제한
+     * @return 잠금을 획득한 PENDING 상태의 CrawledProductSyncOutbox 목록
+     */
+    @Transactional
+    public List<CrawledProductSyncOutbox> findPendingOutboxesForUpdate(int limit) {
+        return syncOutboxQueryPort.findPendingOutboxesForUpdate(limit);
+    }
+
+    /**
+     * 지정한 ID의 SENT 상태 CrawledProductSyncOutbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>잠금 조회이므로 readOnly가 아닌 호출 측 트랜잭션에 참여합니다.
+     *
+     * @param ids Outbox ID 목록
+     * @return 잠금을 획득한 SENT 상태의 CrawledProductSyncOutbox 목록
+     */
+    @Transactional
+    public List<CrawledProductSyncOutbox> findSentByIdsForUpdate(
+            List<CrawledProductSyncOutboxId> ids) {
+        return syncOutboxQueryPort.findSentByIdsForUpdate(ids);
+    }
+
     /**
      * 재시도 가능한 CrawledProductSyncOutbox 조회
      *
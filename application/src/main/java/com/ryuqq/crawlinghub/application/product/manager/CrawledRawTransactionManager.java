@@ -4,7 +4,9 @@ import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledRawPers
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -93,4 +95,34 @@ public class CrawledRawTransactionManager {
         CrawledRaw failed = crawledRaw.markAsFailed(errorMessage, now);
         return crawledRawPersistencePort.persist(failed);
     }
+
+    /**
+     * 배치 가공 결과 일괄 반영
+     *
+     * <p>가공 성공/실패 결과를 모아 최대 2회의 UPDATE(처리 완료 ID 집합, ID별 실패 메시지)로 반영합니다. 각 Raw의 가공은 호출 측에서
+     * 개별적으로 수행되므로, 이 메서드는 상태 반영만 하나의 트랜잭션으로 묶습니다.
+     *
+     * @param processedRaws 처리 완료된 CrawledRaw 목록
+     * @param failedRaws 처리 실패한 CrawledRaw별 에러 메시지
+     * @param now 현재 시각
+     */
+    @Transactional
+    public void applyProcessingResults(
+            List<CrawledRaw> processedRaws, Map<CrawledRaw, String> failedRaws, Instant now) {
+        if (!processedRaws.isEmpty()) {
+            List<CrawledRawId> processedIds =
+                    processedRaws.stream().map(raw -> raw.markAsProcessed(now).getId()).toList();
+            crawledRawPersistencePort.markAllAsProcessed(processedIds, now);
+        }
+
+        if (!failedRaws.isEmpty()) {
+            Map<CrawledRawId, String> errorMessagesById = new LinkedHashMap<>();
+            failedRaws.forEach(
+                    (raw, errorMessage) -> {
+                        CrawledRaw failed = raw.markAsFailed(errorMessage, now);
+                        errorMessagesById.put(failed.getId(), failed.getErrorMessage());
+                    });
+            crawledRawPersistencePort.markAllAsFailed(errorMessagesById, now);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.product.port.in.command;
 
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand;
+import java.util.concurrent.Executor;
 
 /**
  * PENDING 상태의 CrawledRaw 가공 처리 UseCase
@@ -20,4 +21,17 @@ public interface ProcessPendingCrawledRawUseCase {
      * @return 배치 처리 결과
      */
     SchedulerBatchProcessingResult execute(ProcessPendingCrawledRawCommand command);
+
+    /**
+     * PENDING 상태의 CrawledRaw를 파티션 단위로 병렬 가공 처리
+     *
+     * <p>조회한 배치를 커맨드의 파티션 기준으로 나누고, 최대 {@code parallelism}개 파티션 레인을 {@code executor}에서 동시에
+     * 처리합니다. 같은 파티션의 Raw는 한 레인에서 순서대로 처리됩니다.
+     *
+     * @param command 처리 커맨드 (크롤링 타입, 배치 크기, 병렬도, 파티션 기준)
+     * @param executor 파티션 레인 실행 Executor
+     * @return 배치 처리 결과
+     */
+    SchedulerBatchProcessingResult execute(
+            ProcessPendingCrawledRawCommand command, Executor executor);
 }
@@ -1,9 +1,12 @@
 package com.ryuqq.crawlinghub.application.product.port.in.command;
 
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
+
 /**
  * 갱신이 오래된 CrawledProduct에 대해 DETAIL + OPTION 크롤 태스크를 생성하는 UseCase
  *
- * <p>updatedAt이 가장 오래된 상품부터 주기적으로 재크롤링 태스크를 생성하여 재고/가격을 갱신합니다.
+ * <p>updatedAt이 가장 오래된 상품부터 짧은 주기로 조금씩 재크롤링 태스크를 생성하여 재고/가격을 갱신합니다. 한 번에 수천 건을
+ * 몰아서 생성하지 않고, 대기 큐 깊이와 IDLE UserAgent 수에 맞춰 틱마다 생성량을 조절합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -11,10 +14,10 @@ package com.ryuqq.crawlinghub.application.product.port.in.command;
 public interface RefreshStaleCrawledProductsUseCase {
 
     /**
-     * stale 상품에 대한 DETAIL + OPTION 태스크 일괄 생성
+     * 한 틱 분량의 stale 상품에 대한 DETAIL + OPTION 태스크 생성
      *
-     * @param batchSize 한 번에 처리할 상품 수
+     * @param command 틱당 목표 속도 및 조절 기준
      * @return 생성된 태스크 커맨드 수
      */
-    int execute(int batchSize);
+    int execute(RefreshStaleCrawledProductsCommand command);
 }
@@ -1,6 +1,8 @@
 package com.ryuqq.crawlinghub.application.product.port.out.client;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import java.util.List;
 
 /**
  * CrawledProductSync 메시지 발행 Port (Port Out - Messaging)
@@ -18,4 +20,14 @@ public interface CrawledProductSyncMessageClient {
      * @param outbox 발행할 CrawledProductSyncOutbox
      */
     void publish(CrawledProductSyncOutbox outbox);
+
+    /**
+     * CrawledProductSyncOutbox 기반 메시지 일괄 발행
+     *
+     * <p>항목 단위로 성공/실패를 반환하며, 일부 항목이 실패해도 예외를 던지지 않습니다.
+     *
+     * @param outboxes 발행할 CrawledProductSyncOutbox 목록
+     * @return Outbox ID별 발행 결과
+     */
+    List<BatchItemResult<Long>> publishAll(List<CrawledProductSyncOutbox> outboxes);
 }
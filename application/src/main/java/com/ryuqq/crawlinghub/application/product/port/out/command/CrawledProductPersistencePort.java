@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.product.port.out.command;
 
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import java.util.List;
 
 /**
  * CrawledProduct 저장 Port (Port Out - Command)
@@ -22,4 +23,15 @@ public interface CrawledProductPersistencePort {
      * @return 저장된 CrawledProduct의 ID
      */
     CrawledProductId persist(CrawledProduct crawledProduct);
+
+    /**
+     * CrawledProduct 일괄 저장
+     *
+     * <p>기존 상품은 version 조건으로 갱신하고, 신규 상품은 (sellerId, itemNo) 유니크 키가 이미 있으면 무시하는 INSERT로
+     * 저장합니다. 어느 경우든 기존 행을 도메인 로직 없이 덮어쓰지 않으며, 신규 상품은 ID가 할당되지 않은 상태로 남습니다.
+     *
+     * @param crawledProducts 저장할 CrawledProduct 목록
+     * @return version 충돌 또는 유니크 키 중복으로 반영되지 않은 상품 목록
+     */
+    List<CrawledProduct> persistAll(List<CrawledProduct> crawledProducts);
 }
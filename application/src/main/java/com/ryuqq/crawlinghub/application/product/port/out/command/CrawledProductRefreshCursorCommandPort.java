@@ -0,0 +1,22 @@
+package com.ryuqq.crawlinghub.application.product.port.out.command;
+
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+
+/**
+ * CrawledProduct 갱신 커서 저장 Port
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CrawledProductRefreshCursorCommandPort {
+
+    /**
+     * 갱신 커서 저장
+     *
+     * @param cursor 마지막으로 처리한 상품 커서
+     */
+    void save(KeysetCursor cursor);
+
+    /** 갱신 커서 삭제 (한 바퀴 순회 완료 - 다음 틱은 가장 오래된 상품부터 조회) */
+    void clear();
+}
@@ -1,6 +1,10 @@
 package com.ryuqq.crawlinghub.application.product.port.out.command;
 
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 외부 동기화 Outbox 저장 Port (Port Out - Command)
@@ -27,4 +31,37 @@ public interface CrawledProductSyncOutboxPersistencePort {
      * @param outbox 업데이트할 Outbox
      */
     void update(CrawledProductSyncOutbox outbox);
+
+    /**
+     * PROCESSING 일괄 전환 (단일 UPDATE)
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsProcessing(List<CrawledProductSyncOutboxId> ids, Instant processedAt);
+
+    /**
+     * SENT 일괄 전환 (단일 UPDATE)
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsSent(List<CrawledProductSyncOutboxId> ids, Instant processedAt);
+
+    /**
+     * COMPLETED 일괄 전환 (단일 UPDATE, UPDATE 유형 전용)
+     *
+     * @param ids 대상 Outbox ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsCompleted(List<CrawledProductSyncOutboxId> ids, Instant processedAt);
+
+    /**
+     * FAILED 일괄 전환 (JDBC batch, retryCount 1 증가)
+     *
+     * @param errorMessages Outbox ID별 오류 메시지
+     * @param processedAt 처리 시각
+     */
+    void markAllAsFailed(
+            Map<CrawledProductSyncOutboxId, String> errorMessages, Instant processedAt);
 }
@@ -2,7 +2,9 @@ package com.ryuqq.crawlinghub.application.product.port.out.command;
 
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CrawledRaw 저장 Port (Port Out - Command)
@@ -27,8 +29,30 @@ public interface CrawledRawPersistencePort {
     /**
      * CrawledRaw 벌크 저장 (크롤링 결과 저장 시 사용)
      *
-     * @param crawledRaws 저장할 CrawledRaw 목록
-     * @return 저장된 CrawledRaw ID 목록
+     * <p>신규 CrawledRaw 전용입니다. 구현체는 multi-row INSERT로 저장합니다.
+     *
+     * @param crawledRaws 저장할 신규 CrawledRaw 목록
+     * @return 저장된 CrawledRaw ID 목록 (입력 순서 유지)
      */
     List<CrawledRawId> persistAll(List<CrawledRaw> crawledRaws);
+
+    /**
+     * CrawledRaw 일괄 처리 완료 상태 반영
+     *
+     * <p>구현체는 ID 집합 기반 단일 UPDATE로 반영합니다.
+     *
+     * @param crawledRawIds 처리 완료된 CrawledRaw ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsProcessed(List<CrawledRawId> crawledRawIds, Instant processedAt);
+
+    /**
+     * CrawledRaw 일괄 처리 실패 상태 반영
+     *
+     * <p>구현체는 ID별 에러 메시지를 단일 UPDATE로 반영합니다.
+     *
+     * @param errorMessagesById CrawledRaw ID별 에러 메시지
+     * @param processedAt 처리 시각
+     */
+    void markAllAsFailed(Map<CrawledRawId, String> errorMessagesById, Instant processedAt);
 }
@@ -1,8 +1,12 @@
 package com.ryuqq.crawlinghub.application.product.port.out.query;
 
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +49,18 @@ public interface CrawledProductQueryPort {
     Optional<CrawledProduct> findBySellerIdAndItemNoIncludingDeleted(
             SellerId sellerId, long itemNo);
 
+    /**
+     * Seller ID 목록과 Item No 목록으로 CrawledProduct 일괄 조회 (soft-delete 포함)
+     *
+     * <p>두 목록의 조합에 해당하는 상품을 모두 반환합니다. 정확한 (sellerId, itemNo) 매칭은 호출 측에서 수행합니다.
+     *
+     * @param sellerIds 판매자 ID 목록
+     * @param itemNos 상품 번호 목록
+     * @return CrawledProduct 목록 (soft-deleted 포함)
+     */
+    List<CrawledProduct> findAllBySellerIdsAndItemNosIncludingDeleted(
+            Collection<SellerId> sellerIds, Collection<Long> itemNos);
+
     /**
      * Seller ID로 CrawledProduct 목록 조회
      *
@@ -64,14 +80,18 @@ public interface CrawledProductQueryPort {
     List<CrawledProduct> findNeedsSyncProducts(int limit);
 
     /**
-     * 갱신이 오래된 상품 조회 (updatedAt ASC)
+     * 갱신이 오래된 상품 키 조회 ({@code (updatedAt, id)} ASC, keyset)
      *
-     * <p>externalProductId가 존재하고 soft-delete되지 않은 상품 중 updatedAt이 가장 오래된 순으로 조회
+     * <p>externalProductId가 존재하고 soft-delete되지 않은 상품 중 updatedAt이 staleBefore 이전인 상품을 가장 오래된
+     * 순으로 조회합니다. 커서가 있으면 커서 이후의 상품만 조회합니다. 재크롤링 태스크 생성에 필요한 키만 조회합니다.
      *
+     * @param staleBefore 이 시각 이전에 갱신된 상품만 조회
+     * @param cursor 직전 조회 마지막 상품 커서 (null이면 처음부터)
      * @param limit 조회 개수 제한
-     * @return 갱신이 필요한 CrawledProduct 목록
+     * @return 갱신이 필요한 상품 키 목록
      */
-    List<CrawledProduct> findStaleProducts(int limit);
+    List<StaleCrawledProductKey> findStaleProductKeys(
+            Instant staleBefore, KeysetCursor cursor, int limit);
 
     /**
      * Seller ID와 Item No로 존재 여부 확인
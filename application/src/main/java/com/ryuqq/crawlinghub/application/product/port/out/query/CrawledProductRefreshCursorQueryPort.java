@@ -0,0 +1,23 @@
+package com.ryuqq.crawlinghub.application.product.port.out.query;
+
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import java.util.Optional;
+
+/**
+ * CrawledProduct 갱신 커서 조회 Port
+ *
+ * <p>갱신 플래너가 직전 틱에 마지막으로 처리한 상품 위치({@code (updatedAt, id)})를 조회합니다. 재시작 후에도 처음부터 다시
+ * 스캔하지 않고 이어서 진행하기 위해 외부 저장소(Redis)에 보관합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CrawledProductRefreshCursorQueryPort {
+
+    /**
+     * 저장된 갱신 커서 조회
+     *
+     * @return 커서 (없으면 Optional.empty() - 처음부터 조회)
+     */
+    Optional<KeysetCursor> find();
+}
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.product.port.out.query;
 
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
 import com.ryuqq.crawlinghub.domain.product.query.ProductSyncOutboxCriteria;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
 import java.time.Instant;
@@ -59,6 +60,28 @@ public interface CrawledProductSyncOutboxQueryPort {
      */
     List<CrawledProductSyncOutbox> findPendingOutboxes(int limit);
 
+    /**
+     * PENDING 상태의 CrawledProductSyncOutbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>다른 트랜잭션이 잠근 행은 건너뛰므로 여러 인스턴스가 동시에 호출해도 서로 겹치지 않는 배치를 반환합니다. 잠금은 호출 측
+     * 트랜잭션이 끝날 때 해제되므로 같은 트랜잭션에서 PROCESSING으로 전환해야 합니다.
+     *
+     * @param limit 조회 개수 제한
+     * @return 잠금을 획득한 PENDING 상태의 CrawledProductSyncOutbox 목록
+     */
+    List<CrawledProductSyncOutbox> findPendingOutboxesForUpdate(int limit);
+
+    /**
+     * 지정한 ID의 SENT 상태 CrawledProductSyncOutbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>다른 트랜잭션이 잠갔거나 이미 SENT가 아닌 Outbox는 제외됩니다. 잠금은 호출 측 트랜잭션이 끝날 때 해제되므로 같은
+     * 트랜잭션에서 PROCESSING으로 전환해야 합니다.
+     *
+     * @param ids Outbox ID 목록
+     * @return 잠금을 획득한 SENT 상태의 CrawledProductSyncOutbox 목록
+     */
+    List<CrawledProductSyncOutbox> findSentByIdsForUpdate(List<CrawledProductSyncOutboxId> ids);
+
     /**
      * FAILED 상태이고 재시도 가능한 CrawledProductSyncOutbox 조회
      *
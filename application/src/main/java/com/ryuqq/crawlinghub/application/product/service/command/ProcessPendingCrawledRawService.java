@@ -3,17 +3,18 @@ package com.ryuqq.crawlinghub.application.product.service.command;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.CrawlMetric;
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand;
-import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessor;
-import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessorProvider;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledRawBatchProcessor;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawReadManager;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
 import com.ryuqq.crawlinghub.application.product.port.in.command.ProcessPendingCrawledRawUseCase;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -27,11 +28,15 @@ import org.springframework.stereotype.Service;
  *
  * <ol>
  *   <li>PENDING 상태의 CrawledRaw 조회 (타입별, 배치 크기)
- *   <li>CrawledRawProcessorProvider로 타입별 프로세서 조회
- *   <li>프로세서가 역직렬화 + 가공을 처리
- *   <li>성공 시 PROCESSED, 실패 시 FAILED로 상태 변경
+ *   <li>CrawledRawBatchProcessor가 파티션 단위로 타입별 프로세서를 호출 (역직렬화 + 가공)
+ *   <li>성공/실패 결과를 모아 PROCESSED, FAILED 상태를 일괄 반영
  * </ol>
  *
+ * <p>각 Raw의 가공은 개별적으로 수행되어 한 건의 실패가 다른 Raw의 가공 결과를 롤백하지 않습니다. 상태 반영만 배치 단위로 모아 최대 2회의
+ * UPDATE로 처리합니다.
+ *
+ * <p>Executor를 함께 전달하면 배치를 셀러 기준 파티션으로 나누어 병렬 처리합니다. Executor 없이 호출하면 호출 스레드에서 순차 처리합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -43,20 +48,32 @@ public class ProcessPendingCrawledRawService implements ProcessPendingCrawledRaw
 
     private final CrawledRawReadManager crawledRawReadManager;
     private final CrawledRawTransactionManager crawledRawTransactionManager;
-    private final CrawledRawProcessorProvider crawledRawProcessorProvider;
+    private final CrawledRawBatchProcessor crawledRawBatchProcessor;
 
     public ProcessPendingCrawledRawService(
             CrawledRawReadManager crawledRawReadManager,
             CrawledRawTransactionManager crawledRawTransactionManager,
-            CrawledRawProcessorProvider crawledRawProcessorProvider) {
+            CrawledRawBatchProcessor crawledRawBatchProcessor) {
         this.crawledRawReadManager = crawledRawReadManager;
         this.crawledRawTransactionManager = crawledRawTransactionManager;
-        this.crawledRawProcessorProvider = crawledRawProcessorProvider;
+        this.crawledRawBatchProcessor = crawledRawBatchProcessor;
     }
 
     @CrawlMetric(value = "crawled_raw", operation = "process")
     @Override
     public SchedulerBatchProcessingResult execute(ProcessPendingCrawledRawCommand command) {
+        return process(command, Runnable::run);
+    }
+
+    @CrawlMetric(value = "crawled_raw", operation = "process")
+    @Override
+    public SchedulerBatchProcessingResult execute(
+            ProcessPendingCrawledRawCommand command, Executor executor) {
+        return process(command, executor);
+    }
+
+    private SchedulerBatchProcessingResult process(
+            ProcessPendingCrawledRawCommand command, Executor executor) {
         CrawlType crawlType = command.crawlType();
         int batchSize = command.batchSize();
 
@@ -67,35 +84,34 @@ public class ProcessPendingCrawledRawService implements ProcessPendingCrawledRaw
             return SchedulerBatchProcessingResult.empty();
         }
 
-        List<CrawledRaw> deduplicatedRaws = deduplicateBySellerAndItem(pendingRaws, crawlType);
+        List<CrawledRaw> processedRaws = new ArrayList<>(pendingRaws.size());
+
+        List<CrawledRaw> deduplicatedRaws =
+                deduplicateBySellerAndItem(pendingRaws, crawlType, processedRaws);
         int skippedDuplicates = pendingRaws.size() - deduplicatedRaws.size();
 
         log.info(
-                "CrawledRaw 가공 시작: type={}, count={}, deduplicated={}, skipped={}",
+                "CrawledRaw 가공 시작: type={}, count={}, deduplicated={}, skipped={},"
+                        + " parallelism={}, partitionKey={}",
                 crawlType,
                 pendingRaws.size(),
                 deduplicatedRaws.size(),
-                skippedDuplicates);
-
-        int success = 0;
-        int failed = 0;
-
-        for (CrawledRaw raw : deduplicatedRaws) {
-            try {
-                processRaw(raw);
-                crawledRawTransactionManager.markAsProcessed(raw, Instant.now());
-                success++;
-            } catch (Exception e) {
-                log.warn(
-                        "CrawledRaw 가공 실패: id={}, type={}, itemNo={}, error={}",
-                        raw.getIdValue(),
-                        crawlType,
-                        raw.getItemNo(),
-                        e.getMessage());
-                crawledRawTransactionManager.markAsFailed(raw, e.getMessage(), Instant.now());
-                failed++;
-            }
-        }
+                skippedDuplicates,
+                command.parallelism(),
+                command.partitionKey());
+
+        CrawledRawBatchProcessor.Outcome outcome =
+                crawledRawBatchProcessor.processAll(
+                        deduplicatedRaws,
+                        command.partitionKey(),
+                        command.parallelism(),
+                        executor);
+        processedRaws.addAll(outcome.processed());
+        int success = outcome.processed().size();
+        int failed = outcome.failed().size();
+
+        crawledRawTransactionManager.applyProcessingResults(
+                processedRaws, outcome.failed(), Instant.now());
 
         log.info(
                 "CrawledRaw 가공 완료: type={}, total={}, success={}, failed={}",
@@ -110,11 +126,11 @@ public class ProcessPendingCrawledRawService implements ProcessPendingCrawledRaw
     /**
      * MINI_SHOP 배치 내 동일 sellerId+itemNo 중복 제거
      *
-     * <p>같은 배치에서 동일 상품의 Raw가 여러 건 있으면 마지막 건만 처리하고 나머지는 PROCESSED 처리합니다. MINI_SHOP 이외 타입은 중복 제거 없이
-     * 원본 그대로 반환합니다.
+     * <p>같은 배치에서 동일 상품의 Raw가 여러 건 있으면 마지막 건만 처리하고 나머지는 PROCESSED 대상에 추가합니다. MINI_SHOP 이외 타입은
+     * 중복 제거 없이 원본 그대로 반환합니다.
      */
     private List<CrawledRaw> deduplicateBySellerAndItem(
-            List<CrawledRaw> raws, CrawlType crawlType) {
+            List<CrawledRaw> raws, CrawlType crawlType, List<CrawledRaw> processedRaws) {
         if (crawlType != CrawlType.MINI_SHOP || raws.size() <= 1) {
             return raws;
         }
@@ -124,15 +140,9 @@ public class ProcessPendingCrawledRawService implements ProcessPendingCrawledRaw
             String key = raw.getSellerId() + ":" + raw.getItemNo();
             CrawledRaw previous = latest.put(key, raw);
             if (previous != null) {
-                crawledRawTransactionManager.markAsProcessed(previous, Instant.now());
+                processedRaws.add(previous);
             }
         }
         return List.copyOf(latest.values());
     }
-
-    private void processRaw(CrawledRaw raw) {
-        CrawledRawProcessor processor =
-                crawledRawProcessorProvider.getProcessor(raw.getCrawlType());
-        processor.process(raw);
-    }
 }
@@ -3,8 +3,8 @@ package com.ryuqq.crawlinghub.application.product.service.command;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.BatchMetric;
 import com.ryuqq.crawlinghub.application.product.dto.command.PublishPendingSyncOutboxCommand;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductSyncOutboxClaimFacade;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductSyncOutboxProcessor;
-import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxReadManager;
 import com.ryuqq.crawlinghub.application.product.port.in.command.PublishPendingSyncOutboxUseCase;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import java.util.List;
@@ -15,8 +15,10 @@ import org.springframework.stereotype.Service;
 /**
  * PENDING CrawledProductSyncOutbox SQS 발행 Service
  *
- * <p>PENDING 상태의 CrawledProductSyncOutbox를 조회하여 Processor에 위임합니다. FAILED 복구는
- * RecoverFailedProductSyncOutboxService가 PENDING으로 복원한 뒤 이 스케줄러가 재처리합니다.
+ * <p>PENDING 상태의 CrawledProductSyncOutbox를 FOR UPDATE SKIP LOCKED로 선점(PROCESSING 전환)한 뒤 Processor에
+ * 위임합니다. Processor는 선점한 배치를 SQS SendMessageBatch로 묶어 발행합니다. 여러 스케줄러 인스턴스가 동시에
+ * 실행되어도 선점한 배치가 겹치지 않습니다. FAILED 복구는 RecoverFailedProductSyncOutboxService가 PENDING으로 복원한 뒤
+ * 이 스케줄러가 재처리합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -27,13 +29,13 @@ public class PublishPendingSyncOutboxService implements PublishPendingSyncOutbox
     private static final Logger log =
             LoggerFactory.getLogger(PublishPendingSyncOutboxService.class);
 
-    private final CrawledProductSyncOutboxReadManager readManager;
+    private final CrawledProductSyncOutboxClaimFacade claimFacade;
     private final CrawledProductSyncOutboxProcessor processor;
 
     public PublishPendingSyncOutboxService(
-            CrawledProductSyncOutboxReadManager readManager,
+            CrawledProductSyncOutboxClaimFacade claimFacade,
             CrawledProductSyncOutboxProcessor processor) {
-        this.readManager = readManager;
+        this.claimFacade = claimFacade;
         this.processor = processor;
     }
 
@@ -41,7 +43,7 @@ public class PublishPendingSyncOutboxService implements PublishPendingSyncOutbox
     @Override
     public SchedulerBatchProcessingResult execute(PublishPendingSyncOutboxCommand command) {
         List<CrawledProductSyncOutbox> outboxes =
-                readManager.findPendingOutboxes(command.batchSize());
+                claimFacade.claimPendingOutboxes(command.batchSize());
 
         if (outboxes.isEmpty()) {
             return SchedulerBatchProcessingResult.empty();
@@ -49,18 +51,12 @@ public class PublishPendingSyncOutboxService implements PublishPendingSyncOutbox
 
         log.info("CrawledProductSyncOutbox SQS 발행 시작: {} 건", outboxes.size());
 
-        int success = 0;
-        int failed = 0;
+        SchedulerBatchProcessingResult result = processor.processOutboxes(outboxes);
 
-        for (CrawledProductSyncOutbox outbox : outboxes) {
-            if (processor.processOutbox(outbox)) {
-                success++;
-            } else {
-                failed++;
-            }
-        }
-
-        log.info("CrawledProductSyncOutbox SQS 발행 완료: 성공={}, 실패={}", success, failed);
-        return SchedulerBatchProcessingResult.of(outboxes.size(), success, failed);
+        log.info(
+                "CrawledProductSyncOutbox SQS 발행 완료: 성공={}, 실패={}",
+                result.success(),
+                result.failed());
+        return result;
     }
 }
@@ -1,16 +1,20 @@
 package com.ryuqq.crawlinghub.application.product.service.command;
 
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
 import com.ryuqq.crawlinghub.application.execution.internal.FollowUpTaskCreator;
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductRefreshCoordinator;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductRefreshPlanner;
 import com.ryuqq.crawlinghub.application.product.port.in.command.RefreshStaleCrawledProductsUseCase;
+import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductRefreshCursorCommandPort;
 import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductQueryPort;
+import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductRefreshCursorQueryPort;
 import com.ryuqq.crawlinghub.application.task.dto.command.CreateCrawlTaskCommand;
-import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
-import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
-import java.util.ArrayList;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -18,7 +22,11 @@ import org.springframework.stereotype.Service;
 /**
  * 갱신이 오래된 CrawledProduct 재크롤링 태스크 생성 서비스
  *
- * <p>stale 상품 조회 → sellerId별 그룹핑 → Coordinator 위임 → 일괄 태스크 생성
+ * <p>Planner 예산 계산 → 커서 이후 stale 상품 키 조회 → Coordinator 위임 (sellerId별 그룹핑) → 일괄 태스크 생성 → 커서
+ * 전진
+ *
+ * <p>커서는 태스크 생성이 끝난 뒤에만 전진하므로, 생성 중 실패한 상품은 다음 틱에 다시 조회됩니다. 조회 건수가 예산보다 적으면 한
+ * 바퀴를 다 돈 것으로 보고 커서를 지워 다음 틱은 가장 오래된 상품부터 다시 시작합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -30,48 +38,70 @@ public class RefreshStaleCrawledProductsService implements RefreshStaleCrawledPr
             LoggerFactory.getLogger(RefreshStaleCrawledProductsService.class);
 
     private final CrawledProductQueryPort crawledProductQueryPort;
+    private final CrawledProductRefreshCursorQueryPort cursorQueryPort;
+    private final CrawledProductRefreshCursorCommandPort cursorCommandPort;
+    private final CrawledProductRefreshPlanner refreshPlanner;
     private final CrawledProductRefreshCoordinator refreshCoordinator;
     private final FollowUpTaskCreator followUpTaskCreator;
+    private final TimeProvider timeProvider;
 
     public RefreshStaleCrawledProductsService(
             CrawledProductQueryPort crawledProductQueryPort,
+            CrawledProductRefreshCursorQueryPort cursorQueryPort,
+            CrawledProductRefreshCursorCommandPort cursorCommandPort,
+            CrawledProductRefreshPlanner refreshPlanner,
             CrawledProductRefreshCoordinator refreshCoordinator,
-            FollowUpTaskCreator followUpTaskCreator) {
+            FollowUpTaskCreator followUpTaskCreator,
+            TimeProvider timeProvider) {
         this.crawledProductQueryPort = crawledProductQueryPort;
+        this.cursorQueryPort = cursorQueryPort;
+        this.cursorCommandPort = cursorCommandPort;
+        this.refreshPlanner = refreshPlanner;
         this.refreshCoordinator = refreshCoordinator;
         this.followUpTaskCreator = followUpTaskCreator;
+        this.timeProvider = timeProvider;
     }
 
     @Override
-    public int execute(int batchSize) {
-        List<CrawledProduct> staleProducts = crawledProductQueryPort.findStaleProducts(batchSize);
-        if (staleProducts.isEmpty()) {
-            log.info("갱신 대상 상품 없음");
+    public int execute(RefreshStaleCrawledProductsCommand command) {
+        int productBudget = refreshPlanner.planProductBudget(command);
+        if (productBudget <= 0) {
+            log.debug("상품 갱신 예산 없음 (큐 포화 또는 IDLE UserAgent 없음), 이번 틱 건너뜀");
             return 0;
         }
 
-        Map<Long, List<CrawledProduct>> grouped =
-                staleProducts.stream()
-                        .collect(Collectors.groupingBy(CrawledProduct::getSellerIdValue));
+        Instant staleBefore =
+                timeProvider.now().minus(Duration.ofMinutes(command.staleAfterMinutes()));
+        KeysetCursor cursor = cursorQueryPort.find().orElse(null);
+        List<StaleCrawledProductKey> staleKeys =
+                crawledProductQueryPort.findStaleProductKeys(staleBefore, cursor, productBudget);
 
-        List<CreateCrawlTaskCommand> allCommands = new ArrayList<>();
-        for (var entry : grouped.entrySet()) {
-            SellerId sellerId = SellerId.of(entry.getKey());
-            List<CreateCrawlTaskCommand> commands =
-                    refreshCoordinator.buildRefreshCommands(sellerId, entry.getValue());
-            allCommands.addAll(commands);
+        if (staleKeys.isEmpty()) {
+            cursorCommandPort.clear();
+            log.debug("갱신 대상 상품 없음");
+            return 0;
         }
 
-        if (!allCommands.isEmpty()) {
-            followUpTaskCreator.executeBatch(allCommands);
+        List<CreateCrawlTaskCommand> commands = refreshCoordinator.buildRefreshCommands(staleKeys);
+        if (!commands.isEmpty()) {
+            followUpTaskCreator.executeBatch(commands);
         }
+        advanceCursor(staleKeys, productBudget);
 
         log.info(
-                "상품 갱신 태스크 생성 완료: staleProducts={}, sellerGroups={}, commands={}",
-                staleProducts.size(),
-                grouped.size(),
-                allCommands.size());
+                "상품 갱신 태스크 생성 완료: budget={}, staleProducts={}, commands={}",
+                productBudget,
+                staleKeys.size(),
+                commands.size());
 
-        return allCommands.size();
+        return commands.size();
+    }
+
+    private void advanceCursor(List<StaleCrawledProductKey> staleKeys, int productBudget) {
+        if (staleKeys.size() < productBudget) {
+            cursorCommandPort.clear();
+            return;
+        }
+        cursorCommandPort.save(staleKeys.get(staleKeys.size() - 1).toCursor());
     }
 }
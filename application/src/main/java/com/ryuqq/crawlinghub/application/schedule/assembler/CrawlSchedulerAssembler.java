@@ -4,8 +4,13 @@ import com.ryuqq.crawlinghub.application.common.dto.response.PageResponse;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerPageResult;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerResponse;
 import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerResult;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
 import com.ryuqq.crawlinghub.domain.common.vo.PageMeta;
+import com.ryuqq.crawlinghub.domain.common.vo.SliceMeta;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSortKey;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -80,6 +85,49 @@ public class CrawlSchedulerAssembler {
         return CrawlSchedulerPageResult.of(results, pageMeta);
     }
 
+    /**
+     * 커서 조회 결과(최대 size + 1건) → CrawlSchedulerSliceResult 변환
+     *
+     * <p>size를 넘는 한 건은 다음 슬라이스 존재 여부 판단에만 사용하고 결과에서 제외합니다. 다음 커서는 마지막 항목의 (정렬 키 값,
+     * id)에 정렬 키와 방향을 함께 담습니다.
+     *
+     * @param schedulers 커서 조회 결과 (size + 1건까지)
+     * @param sortKey 조회에 사용한 정렬 키
+     * @param sortDirection 조회에 사용한 정렬 방향
+     * @param size 슬라이스 크기
+     * @param totalElements 전체 데이터 개수 (요청하지 않았으면 null)
+     * @return 슬라이스 결과
+     */
+    public CrawlSchedulerSliceResult toSliceResult(
+            List<CrawlScheduler> schedulers,
+            CrawlSchedulerSortKey sortKey,
+            SortDirection sortDirection,
+            int size,
+            Long totalElements) {
+        boolean hasNext = schedulers.size() > size;
+        List<CrawlScheduler> content = hasNext ? schedulers.subList(0, size) : schedulers;
+        String nextCursor =
+                hasNext ? toCursor(content.get(content.size() - 1), sortKey, sortDirection) : null;
+        SliceMeta sliceMeta = SliceMeta.withCursor(nextCursor, size, hasNext, content.size());
+        return CrawlSchedulerSliceResult.of(toResults(content), sliceMeta, totalElements);
+    }
+
+    private String toCursor(
+            CrawlScheduler last, CrawlSchedulerSortKey sortKey, SortDirection sortDirection) {
+        String sortValue =
+                switch (sortKey) {
+                    case CREATED_AT -> last.getCreatedAt().toString();
+                    case UPDATED_AT -> last.getUpdatedAt().toString();
+                    case SCHEDULER_NAME -> last.getSchedulerNameValue();
+                };
+        return KeysetCursor.of(
+                        sortKey.fieldName(),
+                        sortDirection,
+                        sortValue,
+                        last.getCrawlSchedulerIdValue())
+                .encode();
+    }
+
     /**
      * CrawlScheduler 목록 → CrawlSchedulerResponse 목록
      *
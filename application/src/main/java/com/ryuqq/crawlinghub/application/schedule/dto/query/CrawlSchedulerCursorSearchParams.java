@@ -0,0 +1,66 @@
+package com.ryuqq.crawlinghub.application.schedule.dto.query;
+
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
+import java.util.List;
+
+/**
+ * 크롤 스케줄러 커서 검색 파라미터 (CommonCursorParams 합성)
+ *
+ * <p>커서는 직전 응답의 nextCursor이며, 같은 sortKey/sortDirection으로 요청해야 합니다.
+ *
+ * @param sellerId 셀러 ID 필터 (optional)
+ * @param statuses 상태 필터 문자열 목록 (optional)
+ * @param searchField 검색 필드 (optional)
+ * @param searchWord 검색어 (optional)
+ * @param sortKey 정렬 키 (optional, 기본값: createdAt)
+ * @param sortDirection 정렬 방향 (optional, 기본값: DESC)
+ * @param cursorParams 공통 커서 파라미터 (커서, 크기)
+ * @param includeTotal 전체 개수 조회 여부 (true일 때만 COUNT 쿼리 실행)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawlSchedulerCursorSearchParams(
+        Long sellerId,
+        List<String> statuses,
+        String searchField,
+        String searchWord,
+        String sortKey,
+        String sortDirection,
+        CommonCursorParams cursorParams,
+        boolean includeTotal) {
+
+    public CrawlSchedulerCursorSearchParams {
+        statuses = statuses != null ? List.copyOf(statuses) : null;
+        if (cursorParams == null) {
+            cursorParams = CommonCursorParams.defaultPage();
+        }
+    }
+
+    public static CrawlSchedulerCursorSearchParams of(
+            Long sellerId,
+            List<String> statuses,
+            String searchField,
+            String searchWord,
+            String sortKey,
+            String sortDirection,
+            CommonCursorParams cursorParams,
+            boolean includeTotal) {
+        return new CrawlSchedulerCursorSearchParams(
+                sellerId,
+                statuses,
+                searchField,
+                searchWord,
+                sortKey,
+                sortDirection,
+                cursorParams,
+                includeTotal);
+    }
+
+    public String cursor() {
+        return cursorParams.cursor();
+    }
+
+    public Integer size() {
+        return cursorParams.size();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ryuqq.crawlinghub.application.schedule.dto.response;
+
+import com.ryuqq.crawlinghub.domain.common.vo.SliceMeta;
+import java.util.List;
+
+/**
+ * 크롤 스케줄러 슬라이스 조회 결과 (SliceMeta 기반)
+ *
+ * @param results 스케줄러 결과 목록
+ * @param sliceMeta 슬라이스 메타 정보 (다음 커서 포함)
+ * @param totalElements 전체 데이터 개수 (요청하지 않았으면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawlSchedulerSliceResult(
+        List<CrawlSchedulerResult> results, SliceMeta sliceMeta, Long totalElements) {
+
+    public CrawlSchedulerSliceResult {
+        results = results != null ? List.copyOf(results) : List.of();
+    }
+
+    public static CrawlSchedulerSliceResult of(
+            List<CrawlSchedulerResult> results, SliceMeta sliceMeta, Long totalElements) {
+        return new CrawlSchedulerSliceResult(results, sliceMeta, totalElements);
+    }
+
+    public static CrawlSchedulerSliceResult empty() {
+        return new CrawlSchedulerSliceResult(List.of(), SliceMeta.empty(), null);
+    }
+
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+}
@@ -1,15 +1,21 @@
 package com.ryuqq.crawlinghub.application.schedule.factory.query;
 
 import com.ryuqq.crawlinghub.application.common.factory.CommonVoFactory;
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerSearchParams;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
 import com.ryuqq.crawlinghub.domain.common.vo.PageRequest;
 import com.ryuqq.crawlinghub.domain.common.vo.QueryContext;
 import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchField;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSortKey;
 import com.ryuqq.crawlinghub.domain.schedule.vo.SchedulerStatus;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -64,6 +70,59 @@ public class CrawlSchedulerQueryFactory {
                 sellerId, statuses, searchField, params.searchWord(), queryContext);
     }
 
+    /**
+     * CrawlSchedulerCursorSearchParams → CrawlSchedulerCursorCriteria 변환
+     *
+     * @param params 스케줄러 커서 검색 파라미터
+     * @return Domain 커서 조회 조건 객체
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 요청 정렬 키/방향과 맞지 않는 경우 (400)
+     */
+    public CrawlSchedulerCursorCriteria createCursorCriteria(
+            CrawlSchedulerCursorSearchParams params) {
+        SellerId sellerId = params.sellerId() != null ? SellerId.of(params.sellerId()) : null;
+        List<SchedulerStatus> statuses = parseStatuses(params.statuses());
+        CrawlSchedulerSearchField searchField =
+                CrawlSchedulerSearchField.fromString(params.searchField());
+
+        CrawlSchedulerSortKey sortKey = resolveSortKey(params.sortKey());
+        SortDirection sortDirection = commonVoFactory.parseSortDirection(params.sortDirection());
+        KeysetCursor cursor = parseCursor(params.cursor(), sortKey, sortDirection);
+        CursorQueryContext<CrawlSchedulerSortKey, KeysetCursor> cursorContext =
+                commonVoFactory.createCursorQueryContext(
+                        sortKey, sortDirection, cursor, params.size());
+
+        return CrawlSchedulerCursorCriteria.of(
+                sellerId, statuses, searchField, params.searchWord(), cursorContext);
+    }
+
+    private KeysetCursor parseCursor(
+            String encoded, CrawlSchedulerSortKey sortKey, SortDirection sortDirection) {
+        if (encoded == null) {
+            return null;
+        }
+        KeysetCursor cursor = KeysetCursor.decode(encoded);
+        if (!cursor.matches(sortKey.fieldName(), sortDirection)) {
+            throw new IllegalArgumentException(
+                    "Cursor was issued for sortKey "
+                            + cursor.sortKey()
+                            + " "
+                            + cursor.direction()
+                            + ", but request is "
+                            + sortKey.fieldName()
+                            + " "
+                            + sortDirection);
+        }
+        if (sortKey != CrawlSchedulerSortKey.SCHEDULER_NAME) {
+            try {
+                Instant.parse(cursor.sortValue());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(
+                        "Cursor does not match sortKey " + sortKey.fieldName(), e);
+            }
+        }
+        return cursor;
+    }
+
     private CrawlSchedulerSortKey resolveSortKey(String sortKeyStr) {
         if (sortKeyStr == null || sortKeyStr.isBlank()) {
             return CrawlSchedulerSortKey.defaultKey();
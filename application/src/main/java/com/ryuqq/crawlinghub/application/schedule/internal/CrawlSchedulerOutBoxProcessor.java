@@ -1,9 +1,17 @@
 package com.ryuqq.crawlinghub.application.schedule.internal;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerEventBridgeSyncManager;
 import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerOutBoxCommandManager;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -20,6 +28,9 @@ import org.springframework.stereotype.Component;
  *   <li>성공 시 COMPLETED, 실패 시 FAILED 상태 변경
  * </ol>
  *
+ * <p>{@link #processOutboxes(List)}는 EventBridge에는 스케줄의 최종 상태만 남으므로 같은 스케줄러의 아웃박스를 최신 1건으로
+ * 합쳐(coalesce) 동기화하고, 최신 건이 COMPLETED가 되었을 때만 나머지를 흡수된 것으로 보고 COMPLETED 처리합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -29,6 +40,14 @@ public class CrawlSchedulerOutBoxProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(CrawlSchedulerOutBoxProcessor.class);
 
+    private static final String MISSING_RESULT_MESSAGE = "EventBridge 동기화 결과 없음";
+
+    /** 같은 스케줄러 내 최신 아웃박스 판단 기준 (생성 시각 → ID) */
+    private static final Comparator<CrawlSchedulerOutBox> LATEST_FIRST =
+            Comparator.comparing(CrawlSchedulerOutBox::getCreatedAt)
+                    .thenComparing(CrawlSchedulerOutBox::getOutBoxIdValue)
+                    .reversed();
+
     private final CrawlSchedulerEventBridgeSyncManager eventBridgeSyncManager;
     private final CrawlSchedulerOutBoxCommandManager outBoxCommandManager;
 
@@ -68,4 +87,149 @@ public class CrawlSchedulerOutBoxProcessor {
             return false;
         }
     }
+
+    /**
+     * 아웃박스 일괄 처리 (스케줄러 ID별 최신 상태로 합쳐 동기화)
+     *
+     * <ol>
+     *   <li>스케줄러 ID별 최신 아웃박스만 PROCESSING으로 선점
+     *   <li>선점한 아웃박스를 EventBridge에 일괄 동기화
+     *   <li>항목별 결과에 따라 COMPLETED / FAILED 전환
+     *   <li>최신 건이 COMPLETED가 된 스케줄러만 이전 아웃박스를 흡수된 것으로 보고 COMPLETED 전환
+     * </ol>
+     *
+     * <p>최신 건이 선점·동기화·완료 저장 중 하나라도 실패하면 이전 아웃박스는 PENDING으로 남겨 다음 주기에 다시 합쳐 처리합니다.
+     * 동기화되지 않은 상태를 COMPLETED로 덮어 유실하지 않기 위함입니다.
+     *
+     * @param outBoxes 처리할 아웃박스 목록
+     * @return 처리 결과 (처리한 건수 기준 전체/성공/실패, 흡수된 아웃박스는 성공으로 집계하고 PENDING으로 남긴 건은 제외)
+     */
+    public SchedulerBatchProcessingResult processOutboxes(List<CrawlSchedulerOutBox> outBoxes) {
+        if (outBoxes.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
+
+        Map<Long, List<CrawlSchedulerOutBox>> bySchedulerId = new LinkedHashMap<>();
+        for (CrawlSchedulerOutBox outBox : outBoxes) {
+            bySchedulerId
+                    .computeIfAbsent(outBox.getSchedulerId(), k -> new ArrayList<>())
+                    .add(outBox);
+        }
+
+        List<CrawlSchedulerOutBox> latest = new ArrayList<>(bySchedulerId.size());
+        Map<Long, List<CrawlSchedulerOutBox>> supersededBySchedulerId = new HashMap<>();
+        for (Map.Entry<Long, List<CrawlSchedulerOutBox>> entry : bySchedulerId.entrySet()) {
+            List<CrawlSchedulerOutBox> group = entry.getValue();
+            group.sort(LATEST_FIRST);
+            latest.add(group.get(0));
+            supersededBySchedulerId.put(entry.getKey(), group.subList(1, group.size()));
+        }
+
+        int failed = 0;
+        List<CrawlSchedulerOutBox> claimed = new ArrayList<>(latest.size());
+        for (CrawlSchedulerOutBox outBox : latest) {
+            if (claim(outBox)) {
+                claimed.add(outBox);
+            } else {
+                failed++;
+            }
+        }
+
+        Map<Long, BatchItemResult<Long>> resultByOutBoxId = syncAll(claimed);
+        int success = 0;
+        int absorbed = 0;
+        for (CrawlSchedulerOutBox outBox : claimed) {
+            BatchItemResult<Long> result = resultByOutBoxId.get(outBox.getOutBoxIdValue());
+            if (result == null || !result.success()) {
+                markAsFailed(outBox, result != null ? result.errorMessage() : null);
+                failed++;
+                continue;
+            }
+            if (!complete(outBox)) {
+                failed++;
+                continue;
+            }
+            success++;
+            List<CrawlSchedulerOutBox> superseded =
+                    supersededBySchedulerId.get(outBox.getSchedulerId());
+            for (CrawlSchedulerOutBox previous : superseded) {
+                absorbed++;
+                if (complete(previous)) {
+                    success++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+
+        int processed = latest.size() + absorbed;
+        log.info(
+                "아웃박스 일괄 처리: 전체={}, 동기화={}, 흡수={}, 보류={}, 성공={}, 실패={}",
+                outBoxes.size(),
+                claimed.size(),
+                absorbed,
+                outBoxes.size() - processed,
+                success,
+                failed);
+        return SchedulerBatchProcessingResult.of(processed, success, failed);
+    }
+
+    private boolean claim(CrawlSchedulerOutBox outBox) {
+        try {
+            outBox.markAsProcessing(Instant.now());
+            outBoxCommandManager.persist(outBox);
+            outBox.syncVersion();
+            return true;
+        } catch (Exception e) {
+            markAsFailed(outBox, e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<Long, BatchItemResult<Long>> syncAll(List<CrawlSchedulerOutBox> outBoxes) {
+        Map<Long, BatchItemResult<Long>> resultByOutBoxId = new HashMap<>();
+        try {
+            List<BatchItemResult<Long>> results =
+                    eventBridgeSyncManager.syncAllFromOutBox(outBoxes);
+            for (BatchItemResult<Long> result : results) {
+                resultByOutBoxId.put(result.id(), result);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 일괄 동기화 실패: count={}, error={}", outBoxes.size(), e.getMessage());
+        }
+        return resultByOutBoxId;
+    }
+
+    private boolean complete(CrawlSchedulerOutBox outBox) {
+        try {
+            outBox.markAsCompleted(Instant.now());
+            outBoxCommandManager.persist(outBox);
+            outBox.syncVersion();
+            return true;
+        } catch (Exception e) {
+            // 동기화는 완료되었으므로 FAILED로 되돌리지 않음 (다음 주기 또는 PROCESSING 타임아웃 복구에서 재처리)
+            log.error(
+                    "아웃박스 COMPLETED 저장 실패: outBoxId={}, error={}",
+                    outBox.getOutBoxIdValue(),
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private void markAsFailed(CrawlSchedulerOutBox outBox, String errorMessage) {
+        String message =
+                errorMessage != null && !errorMessage.isBlank()
+                        ? errorMessage
+                        : MISSING_RESULT_MESSAGE;
+        try {
+            outBox.markAsFailed(message, Instant.now());
+            outBoxCommandManager.persist(outBox);
+        } catch (Exception e) {
+            log.error(
+                    "아웃박스 FAILED 저장 실패: outBoxId={}, error={}",
+                    outBox.getOutBoxIdValue(),
+                    e.getMessage());
+        }
+        log.error("아웃박스 처리 실패: outBoxId={}, error={}", outBox.getOutBoxIdValue(), message);
+    }
 }
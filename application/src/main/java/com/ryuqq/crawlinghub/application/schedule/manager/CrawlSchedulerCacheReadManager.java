@@ -0,0 +1,90 @@
+package com.ryuqq.crawlinghub.application.schedule.manager;
+
+import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlSchedulerCacheCommandPort;
+import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlScheduleQueryPort;
+import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlSchedulerCacheQueryPort;
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.exception.CrawlSchedulerNotFoundException;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawlScheduler 캐시 조회 전용 Manager
+ *
+ * <p><strong>책임</strong>: 태스크 트리거/상품 갱신 hot path의 CrawlScheduler 조회를 read-through로 처리 (Near Cache
+ * 조회 → 미스 시 DB 조회 → 캐시 적재)
+ *
+ * <p><strong>규칙</strong>: 캐시 Port(조회/적재)와 DB QueryPort만 의존, 트랜잭션 없음 (캐시 hit 시 커넥션을 점유하지 않음).
+ * 존재하지 않는 스케줄러는 캐시하지 않고, 셀러별 활성 스케줄러 목록은 빈 목록도 캐시합니다. (등록/상태 변경 시 무효화)
+ *
+ * <p><strong>주의</strong>: 조회 결과는 여러 스레드가 공유하는 인스턴스입니다. 변경 후 저장하는 Command 흐름에서는 {@link
+ * CrawlSchedulerReadManager}를 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawlSchedulerCacheReadManager {
+
+    private final CrawlSchedulerCacheQueryPort crawlSchedulerCacheQueryPort;
+    private final CrawlSchedulerCacheCommandPort crawlSchedulerCacheCommandPort;
+    private final CrawlScheduleQueryPort crawlScheduleQueryPort;
+
+    public CrawlSchedulerCacheReadManager(
+            CrawlSchedulerCacheQueryPort crawlSchedulerCacheQueryPort,
+            CrawlSchedulerCacheCommandPort crawlSchedulerCacheCommandPort,
+            CrawlScheduleQueryPort crawlScheduleQueryPort) {
+        this.crawlSchedulerCacheQueryPort = crawlSchedulerCacheQueryPort;
+        this.crawlSchedulerCacheCommandPort = crawlSchedulerCacheCommandPort;
+        this.crawlScheduleQueryPort = crawlScheduleQueryPort;
+    }
+
+    /**
+     * 크롤 스케줄러 ID로 단건 조회 (캐시 우선)
+     *
+     * @param crawlSchedulerId 크롤 스케줄러 ID
+     * @return 크롤 스케줄러 (Optional)
+     */
+    public Optional<CrawlScheduler> findById(CrawlSchedulerId crawlSchedulerId) {
+        Optional<CrawlScheduler> cached = crawlSchedulerCacheQueryPort.findById(crawlSchedulerId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<CrawlScheduler> loaded = crawlScheduleQueryPort.findById(crawlSchedulerId);
+        loaded.ifPresent(crawlSchedulerCacheCommandPort::put);
+        return loaded;
+    }
+
+    /**
+     * 크롤 스케줄러 ID로 단건 조회 (캐시 우선, 필수)
+     *
+     * @param crawlSchedulerId 크롤 스케줄러 ID
+     * @return 크롤 스케줄러
+     * @throws CrawlSchedulerNotFoundException 스케줄러가 존재하지 않는 경우
+     */
+    public CrawlScheduler getById(CrawlSchedulerId crawlSchedulerId) {
+        return findById(crawlSchedulerId)
+                .orElseThrow(() -> new CrawlSchedulerNotFoundException(crawlSchedulerId.value()));
+    }
+
+    /**
+     * 셀러의 활성 스케줄러 목록 조회 (캐시 우선)
+     *
+     * @param sellerId 셀러 ID
+     * @return 활성 스케줄러 목록
+     */
+    public List<CrawlScheduler> findActiveSchedulersBySellerId(SellerId sellerId) {
+        Optional<List<CrawlScheduler>> cached =
+                crawlSchedulerCacheQueryPort.findActiveSchedulersBySellerId(sellerId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        List<CrawlScheduler> loaded =
+                List.copyOf(crawlScheduleQueryPort.findActiveSchedulersBySellerId(sellerId));
+        crawlSchedulerCacheCommandPort.putActiveSchedulers(sellerId, loaded);
+        return loaded;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.crawlinghub.application.schedule.manager;
 
 import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlScheduleCommandPort;
+import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlSchedulerCacheCommandPort;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
 import org.springframework.stereotype.Component;
@@ -10,13 +11,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class CrawlSchedulerCommandManager {
 
     private final CrawlScheduleCommandPort crawlSchedulerPersistencePort;
+    private final CrawlSchedulerCacheCommandPort crawlSchedulerCacheCommandPort;
 
-    public CrawlSchedulerCommandManager(CrawlScheduleCommandPort crawlSchedulerPersistencePort) {
+    public CrawlSchedulerCommandManager(
+            CrawlScheduleCommandPort crawlSchedulerPersistencePort,
+            CrawlSchedulerCacheCommandPort crawlSchedulerCacheCommandPort) {
         this.crawlSchedulerPersistencePort = crawlSchedulerPersistencePort;
+        this.crawlSchedulerCacheCommandPort = crawlSchedulerCacheCommandPort;
     }
 
     @Transactional
     public CrawlSchedulerId persist(CrawlScheduler crawlScheduler) {
-        return crawlSchedulerPersistencePort.persist(crawlScheduler);
+        CrawlSchedulerId crawlSchedulerId = crawlSchedulerPersistencePort.persist(crawlScheduler);
+        crawlSchedulerCacheCommandPort.invalidate(crawlSchedulerId, crawlScheduler.getSellerId());
+        return crawlSchedulerId;
     }
 }
@@ -1,7 +1,9 @@
 package com.ryuqq.crawlinghub.application.schedule.manager;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.schedule.port.out.client.EventBridgeClientPort;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
+import java.util.List;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
@@ -31,4 +33,17 @@ public class CrawlSchedulerEventBridgeSyncManager {
     public void syncFromOutBox(CrawlSchedulerOutBox outBox) {
         eventBridgeClientPort.syncFromOutBox(outBox);
     }
+
+    /**
+     * 아웃박스 일괄 동기화 (스케줄러 처리용)
+     *
+     * @param outBoxes 동기화할 아웃박스 목록 (스케줄러 ID별 최신 1건)
+     * @return 아웃박스 ID별 동기화 결과 (일부 실패 시에도 예외 없이 항목별 결과 반환)
+     */
+    public List<BatchItemResult<Long>> syncAllFromOutBox(List<CrawlSchedulerOutBox> outBoxes) {
+        if (outBoxes.isEmpty()) {
+            return List.of();
+        }
+        return eventBridgeClientPort.syncAllFromOutBox(outBoxes);
+    }
 }
@@ -4,6 +4,7 @@ import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlScheduleQu
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.exception.CrawlSchedulerNotFoundException;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.util.List;
@@ -91,6 +92,28 @@ public class CrawlSchedulerReadManager {
         return crawlScheduleQueryPort.countByCriteria(criteria);
     }
 
+    /**
+     * 크롤 스케줄러 커서 조회
+     *
+     * @param criteria 커서 조회 조건
+     * @return 크롤 스케줄러 리스트 (최대 fetchSize건)
+     */
+    @Transactional(readOnly = true)
+    public List<CrawlScheduler> findByCursorCriteria(CrawlSchedulerCursorCriteria criteria) {
+        return crawlScheduleQueryPort.findByCursorCriteria(criteria);
+    }
+
+    /**
+     * 커서 조회 조건의 필터에 맞는 크롤 스케줄러 개수 조회
+     *
+     * @param criteria 커서 조회 조건
+     * @return 총 개수
+     */
+    @Transactional(readOnly = true)
+    public long countByCursorCriteria(CrawlSchedulerCursorCriteria criteria) {
+        return crawlScheduleQueryPort.countByCursorCriteria(criteria);
+    }
+
     /**
      * 셀러별 활성 스케줄러 목록 조회
      *
@@ -0,0 +1,21 @@
+package com.ryuqq.crawlinghub.application.schedule.port.in.query;
+
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
+
+/**
+ * 크롤 스케줄러 커서 기반 다건 조회 UseCase (Port In)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SearchCrawlSchedulerByCursorUseCase {
+
+    /**
+     * 크롤 스케줄러 슬라이스 조회
+     *
+     * @param params 커서 검색 파라미터
+     * @return 스케줄러 슬라이스 결과
+     */
+    CrawlSchedulerSliceResult execute(CrawlSchedulerCursorSearchParams params);
+}
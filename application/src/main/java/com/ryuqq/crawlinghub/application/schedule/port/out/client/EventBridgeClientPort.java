@@ -1,6 +1,8 @@
 package com.ryuqq.crawlinghub.application.schedule.port.out.client;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
+import java.util.List;
 
 /**
  * AWS EventBridge 클라이언트 포트
@@ -20,4 +22,15 @@ public interface EventBridgeClientPort {
      * @param outBox 처리할 아웃박스
      */
     void syncFromOutBox(CrawlSchedulerOutBox outBox);
+
+    /**
+     * 아웃박스 일괄 동기화
+     *
+     * <p>항목 단위로 성공/실패를 반환하며, 일부 항목이 실패해도 예외를 던지지 않습니다. 호출자는 스케줄러 ID별 최신 아웃박스만
+     * 넘겨야 합니다. (같은 스케줄에 대한 동시 요청 순서는 보장하지 않음)
+     *
+     * @param outBoxes 동기화할 아웃박스 목록
+     * @return 아웃박스 ID별 동기화 결과
+     */
+    List<BatchItemResult<Long>> syncAllFromOutBox(List<CrawlSchedulerOutBox> outBoxes);
 }
@@ -0,0 +1,43 @@
+package com.ryuqq.crawlinghub.application.schedule.port.out.command;
+
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+
+/**
+ * CrawlScheduler Cache Command Port (Near Cache 적재/무효화)
+ *
+ * <p>캐시 미스 시 DB에서 읽은 값을 로컬 캐시에 적재하고, CrawlScheduler 변경 시 모든 인스턴스의 로컬 캐시에서 해당 스케줄러와
+ * 셀러별 활성 스케줄러 목록을 제거합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CrawlSchedulerCacheCommandPort {
+
+    /**
+     * CrawlScheduler 캐시 적재 (현재 인스턴스)
+     *
+     * @param crawlScheduler DB에서 조회한 CrawlScheduler
+     */
+    void put(CrawlScheduler crawlScheduler);
+
+    /**
+     * 셀러의 활성 스케줄러 목록 캐시 적재 (현재 인스턴스)
+     *
+     * @param sellerId 셀러 ID
+     * @param activeSchedulers DB에서 조회한 활성 스케줄러 목록 (빈 목록 포함)
+     */
+    void putActiveSchedulers(SellerId sellerId, List<CrawlScheduler> activeSchedulers);
+
+    /**
+     * CrawlScheduler 캐시 무효화
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 다른 인스턴스로 무효화를 전파합니다.
+     *
+     * @param crawlSchedulerId 변경된 CrawlScheduler ID
+     * @param sellerId 스케줄러의 셀러 ID (활성 스케줄러 목록 무효화용)
+     */
+    void invalidate(CrawlSchedulerId crawlSchedulerId, SellerId sellerId);
+}
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.schedule.port.out.query;
 
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.util.List;
@@ -43,6 +44,22 @@ public interface CrawlScheduleQueryPort {
      */
     long countByCriteria(CrawlSchedulerSearchCriteria criteria);
 
+    /**
+     * 크롤 스케줄러 커서 조회 ((정렬 키, id) 순서, 최대 fetchSize건).
+     *
+     * @param criteria 커서 조회 조건
+     * @return 크롤 스케줄러 리스트
+     */
+    List<CrawlScheduler> findByCursorCriteria(CrawlSchedulerCursorCriteria criteria);
+
+    /**
+     * 커서 조회 조건의 필터에 맞는 크롤 스케줄러 개수 조회 (커서 위치 무관).
+     *
+     * @param criteria 커서 조회 조건
+     * @return 총 개수
+     */
+    long countByCursorCriteria(CrawlSchedulerCursorCriteria criteria);
+
     /**
      * 셀러별 활성 스케줄러 목록 조회.
      *
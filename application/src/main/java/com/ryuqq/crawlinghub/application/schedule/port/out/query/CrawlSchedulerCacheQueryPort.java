@@ -0,0 +1,40 @@
+package com.ryuqq.crawlinghub.application.schedule.port.out.query;
+
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * CrawlScheduler Cache Query Port (Near Cache 조회)
+ *
+ * <p>인스턴스 로컬 캐시에 보관된 CrawlScheduler만 조회합니다. 미스 시 DB 조회와 적재는 CrawlSchedulerCacheReadManager가
+ * 담당합니다.
+ *
+ * <p><strong>주의</strong>: 반환된 CrawlScheduler는 캐시에 보관된 인스턴스이므로 변경 용도로 사용하면 안 됩니다. 수정이
+ * 필요한 경우 {@link CrawlScheduleQueryPort}로 조회합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CrawlSchedulerCacheQueryPort {
+
+    /**
+     * ID로 캐시된 CrawlScheduler 조회
+     *
+     * @param crawlSchedulerId CrawlScheduler ID
+     * @return 캐시된 CrawlScheduler (캐시 미스 시 Optional.empty())
+     */
+    Optional<CrawlScheduler> findById(CrawlSchedulerId crawlSchedulerId);
+
+    /**
+     * 캐시된 셀러의 활성 스케줄러 목록 조회
+     *
+     * <p>빈 목록도 캐시되므로 캐시 미스와 구분하기 위해 Optional로 반환합니다.
+     *
+     * @param sellerId 셀러 ID
+     * @return 캐시된 활성 스케줄러 목록 (캐시 미스 시 Optional.empty())
+     */
+    Optional<List<CrawlScheduler>> findActiveSchedulersBySellerId(SellerId sellerId);
+}
@@ -16,6 +16,9 @@ import org.springframework.stereotype.Service;
 /**
  * PENDING 상태의 스케줄러 아웃박스 처리 Service
  *
+ * <p>조회한 아웃박스는 {@link CrawlSchedulerOutBoxProcessor#processOutboxes(List)}로 스케줄러 ID별 최신 상태만
+ * EventBridge에 동기화합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -48,19 +51,9 @@ public class ProcessPendingSchedulerOutboxService implements ProcessPendingSched
 
         log.info("아웃박스 재처리 시작: {} 건", outBoxes.size());
 
-        int success = 0;
-        int failed = 0;
-
-        for (CrawlSchedulerOutBox outBox : outBoxes) {
-            boolean result = processor.processOutbox(outBox);
-            if (result) {
-                success++;
-            } else {
-                failed++;
-            }
-        }
+        SchedulerBatchProcessingResult result = processor.processOutboxes(outBoxes);
 
-        log.info("아웃박스 재처리 완료: 성공={}, 실패={}", success, failed);
-        return SchedulerBatchProcessingResult.of(outBoxes.size(), success, failed);
+        log.info("아웃박스 재처리 완료: 성공={}, 실패={}", result.success(), result.failed());
+        return result;
     }
 }
@@ -0,0 +1,56 @@
+package com.ryuqq.crawlinghub.application.schedule.service.query;
+
+import com.ryuqq.crawlinghub.application.schedule.assembler.CrawlSchedulerAssembler;
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
+import com.ryuqq.crawlinghub.application.schedule.factory.query.CrawlSchedulerQueryFactory;
+import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerReadManager;
+import com.ryuqq.crawlinghub.application.schedule.port.in.query.SearchCrawlSchedulerByCursorUseCase;
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * 크롤 스케줄러 커서 기반 다건 조회 Service
+ *
+ * <p>{@code (정렬 키, id)} 커서 이후를 size + 1건 조회해 다음 슬라이스 존재 여부를 판단합니다. 전체 개수는 includeTotal 요청
+ * 시에만 조회합니다.
+ *
+ * <p><strong>트랜잭션</strong>: QueryService는 @Transactional 금지 (읽기 전용, 불필요)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class SearchCrawlSchedulerByCursorService implements SearchCrawlSchedulerByCursorUseCase {
+
+    private final CrawlSchedulerReadManager readManager;
+    private final CrawlSchedulerQueryFactory queryFactory;
+    private final CrawlSchedulerAssembler assembler;
+
+    public SearchCrawlSchedulerByCursorService(
+            CrawlSchedulerReadManager readManager,
+            CrawlSchedulerQueryFactory queryFactory,
+            CrawlSchedulerAssembler assembler) {
+        this.readManager = readManager;
+        this.queryFactory = queryFactory;
+        this.assembler = assembler;
+    }
+
+    @Override
+    public CrawlSchedulerSliceResult execute(CrawlSchedulerCursorSearchParams params) {
+        CrawlSchedulerCursorCriteria criteria = queryFactory.createCursorCriteria(params);
+
+        List<CrawlScheduler> schedulers = readManager.findByCursorCriteria(criteria);
+        Long totalElements =
+                params.includeTotal() ? readManager.countByCursorCriteria(criteria) : null;
+
+        return assembler.toSliceResult(
+                schedulers,
+                criteria.sortKey(),
+                criteria.sortDirection(),
+                criteria.size(),
+                totalElements);
+    }
+}
@@ -2,8 +2,13 @@ package com.ryuqq.crawlinghub.application.seller.assembler;
 
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerPageResult;
 import com.ryuqq.crawlinghub.application.seller.dto.response.SellerResult;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
 import com.ryuqq.crawlinghub.domain.common.vo.PageMeta;
+import com.ryuqq.crawlinghub.domain.common.vo.SliceMeta;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerSortKey;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -60,4 +65,42 @@ public class SellerAssembler {
         PageMeta pageMeta = PageMeta.of(page, size, totalElements);
         return SellerPageResult.of(results, pageMeta);
     }
+
+    /**
+     * 커서 조회 결과(최대 size + 1건) → SellerSliceResult 변환
+     *
+     * <p>size를 넘는 한 건은 다음 슬라이스 존재 여부 판단에만 사용하고 결과에서 제외합니다. 다음 커서는 마지막 셀러의 정렬 키 값과
+     * ID를 정렬 키/방향과 함께 인코딩한 {@link KeysetCursor}입니다.
+     *
+     * @param sellers 커서 조회 결과 (size + 1건까지)
+     * @param sortKey 조회에 사용한 정렬 키
+     * @param sortDirection 조회에 사용한 정렬 방향
+     * @param size 슬라이스 크기
+     * @param totalElements 전체 데이터 개수 (요청하지 않았으면 null)
+     * @return 슬라이스 결과
+     */
+    public SellerSliceResult toSliceResult(
+            List<Seller> sellers,
+            SellerSortKey sortKey,
+            SortDirection sortDirection,
+            int size,
+            Long totalElements) {
+        boolean hasNext = sellers.size() > size;
+        List<Seller> content = hasNext ? sellers.subList(0, size) : sellers;
+        String nextCursor =
+                hasNext ? toCursor(content.get(content.size() - 1), sortKey, sortDirection) : null;
+        SliceMeta sliceMeta = SliceMeta.withCursor(nextCursor, size, hasNext, content.size());
+        return SellerSliceResult.of(toResults(content), sliceMeta, totalElements);
+    }
+
+    private String toCursor(Seller last, SellerSortKey sortKey, SortDirection sortDirection) {
+        String sortValue =
+                switch (sortKey) {
+                    case CREATED_AT -> last.getCreatedAt().toString();
+                    case UPDATED_AT -> last.getUpdatedAt().toString();
+                };
+        return KeysetCursor.of(
+                        sortKey.fieldName(), sortDirection, sortValue, last.getSellerIdValue())
+                .encode();
+    }
 }
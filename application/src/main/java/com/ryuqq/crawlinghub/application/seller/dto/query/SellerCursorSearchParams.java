@@ -0,0 +1,69 @@
+package com.ryuqq.crawlinghub.application.seller.dto.query;
+
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 셀러 커서 검색 파라미터 (CommonCursorParams 합성)
+ *
+ * @param mustItSellerName 머스트잇 셀러명 필터 (optional)
+ * @param sellerName 셀러명 필터 (optional)
+ * @param statuses 상태 필터 문자열 목록 (optional)
+ * @param createdFrom 생성일 시작 (optional)
+ * @param createdTo 생성일 종료 (optional)
+ * @param sortKey 정렬 키 (optional, 기본값: createdAt)
+ * @param sortDirection 정렬 방향 (optional, 기본값: DESC)
+ * @param cursorParams 공통 커서 파라미터 (커서, 크기)
+ * @param includeTotal 전체 개수 조회 여부 (true일 때만 COUNT 쿼리 실행)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record SellerCursorSearchParams(
+        String mustItSellerName,
+        String sellerName,
+        List<String> statuses,
+        Instant createdFrom,
+        Instant createdTo,
+        String sortKey,
+        String sortDirection,
+        CommonCursorParams cursorParams,
+        boolean includeTotal) {
+
+    public SellerCursorSearchParams {
+        statuses = statuses != null ? List.copyOf(statuses) : null;
+        if (cursorParams == null) {
+            cursorParams = CommonCursorParams.defaultPage();
+        }
+    }
+
+    public static SellerCursorSearchParams of(
+            String mustItSellerName,
+            String sellerName,
+            List<String> statuses,
+            Instant createdFrom,
+            Instant createdTo,
+            String sortKey,
+            String sortDirection,
+            CommonCursorParams cursorParams,
+            boolean includeTotal) {
+        return new SellerCursorSearchParams(
+                mustItSellerName,
+                sellerName,
+                statuses,
+                createdFrom,
+                createdTo,
+                sortKey,
+                sortDirection,
+                cursorParams,
+                includeTotal);
+    }
+
+    public String cursor() {
+        return cursorParams.cursor();
+    }
+
+    public Integer size() {
+        return cursorParams.size();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ryuqq.crawlinghub.application.seller.dto.response;
+
+import com.ryuqq.crawlinghub.domain.common.vo.SliceMeta;
+import java.util.List;
+
+/**
+ * 셀러 슬라이스 조회 결과 (SliceMeta 기반)
+ *
+ * @param results 셀러 결과 목록
+ * @param sliceMeta 슬라이스 메타 정보 (다음 커서 포함)
+ * @param totalElements 전체 데이터 개수 (요청하지 않았으면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record SellerSliceResult(
+        List<SellerResult> results, SliceMeta sliceMeta, Long totalElements) {
+
+    public SellerSliceResult {
+        results = results != null ? List.copyOf(results) : List.of();
+    }
+
+    public static SellerSliceResult of(
+            List<SellerResult> results, SliceMeta sliceMeta, Long totalElements) {
+        return new SellerSliceResult(results, sliceMeta, totalElements);
+    }
+
+    public static SellerSliceResult empty() {
+        return new SellerSliceResult(List.of(), SliceMeta.empty(), null);
+    }
+
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+}
@@ -1,10 +1,19 @@
 package com.ryuqq.crawlinghub.application.seller.factory.query;
 
+import com.ryuqq.crawlinghub.application.common.factory.CommonVoFactory;
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.query.SellerSearchParams;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.seller.query.SellerQueryCriteria;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerSortKey;
 import com.ryuqq.crawlinghub.domain.seller.vo.MustItSellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerStatus;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -16,6 +25,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>SearchParams → Criteria 변환
  *   <li>String 상태값 → SellerStatus Enum 파싱
+ *   <li>CommonVoFactory를 통한 공통 VO 생성 위임
  * </ul>
  *
  * <p><strong>금지</strong>:
@@ -31,6 +41,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class SellerQueryFactory {
 
+    private final CommonVoFactory commonVoFactory;
+
+    public SellerQueryFactory(CommonVoFactory commonVoFactory) {
+        this.commonVoFactory = commonVoFactory;
+    }
+
     /**
      * SellerSearchParams → SellerQueryCriteria 변환
      *
@@ -57,6 +73,76 @@ public class SellerQueryFactory {
                 params.size());
     }
 
+    /**
+     * SellerCursorSearchParams → SellerCursorCriteria 변환
+     *
+     * @param params 셀러 커서 검색 파라미터
+     * @return Domain 커서 조회 조건 객체
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 요청 정렬 키/방향과 맞지 않는 경우 (400)
+     */
+    public SellerCursorCriteria createCursorCriteria(SellerCursorSearchParams params) {
+        MustItSellerName mustItSellerName =
+                params.mustItSellerName() != null
+                        ? MustItSellerName.of(params.mustItSellerName())
+                        : null;
+        SellerName sellerName =
+                params.sellerName() != null ? SellerName.of(params.sellerName()) : null;
+
+        SellerSortKey sortKey = resolveSortKey(params.sortKey());
+        SortDirection sortDirection = commonVoFactory.parseSortDirection(params.sortDirection());
+        KeysetCursor cursor = parseCursor(params.cursor(), sortKey, sortDirection);
+        CursorQueryContext<SellerSortKey, KeysetCursor> cursorContext =
+                commonVoFactory.createCursorQueryContext(
+                        sortKey, sortDirection, cursor, params.size());
+
+        return SellerCursorCriteria.of(
+                mustItSellerName,
+                sellerName,
+                parseStatuses(params.statuses()),
+                params.createdFrom(),
+                params.createdTo(),
+                cursorContext);
+    }
+
+    private KeysetCursor parseCursor(
+            String encoded, SellerSortKey sortKey, SortDirection sortDirection) {
+        if (encoded == null) {
+            return null;
+        }
+        KeysetCursor cursor = KeysetCursor.decode(encoded);
+        if (!cursor.matches(sortKey.fieldName(), sortDirection)) {
+            throw new IllegalArgumentException(
+                    "Cursor was issued for sortKey "
+                            + cursor.sortKey()
+                            + " "
+                            + cursor.direction()
+                            + ", but request is "
+                            + sortKey.fieldName()
+                            + " "
+                            + sortDirection);
+        }
+        try {
+            Instant.parse(cursor.sortValue());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                    "Cursor does not match sortKey " + sortKey.fieldName(), e);
+        }
+        return cursor;
+    }
+
+    private SellerSortKey resolveSortKey(String sortKeyStr) {
+        if (sortKeyStr == null || sortKeyStr.isBlank()) {
+            return SellerSortKey.defaultKey();
+        }
+        for (SellerSortKey key : SellerSortKey.values()) {
+            if (key.fieldName().equalsIgnoreCase(sortKeyStr)
+                    || key.name().equalsIgnoreCase(sortKeyStr)) {
+                return key;
+            }
+        }
+        return SellerSortKey.defaultKey();
+    }
+
     /**
      * 상태 문자열 목록 → SellerStatus Enum 목록 변환
      *
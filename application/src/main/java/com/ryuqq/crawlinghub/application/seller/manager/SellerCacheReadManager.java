@@ -0,0 +1,57 @@
+package com.ryuqq.crawlinghub.application.seller.manager;
+
+import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerCacheCommandPort;
+import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerCacheQueryPort;
+import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerQueryPort;
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seller 캐시 조회 전용 Manager
+ *
+ * <p><strong>책임</strong>: 워커/스케줄러 hot path의 Seller 단건 조회를 read-through로 처리 (Near Cache 조회 → 미스 시
+ * DB 조회 → 캐시 적재)
+ *
+ * <p><strong>규칙</strong>: 캐시 Port(조회/적재)와 DB QueryPort만 의존, 트랜잭션 없음 (캐시 hit 시 커넥션을 점유하지 않음).
+ * 존재하지 않는 Seller는 캐시하지 않습니다.
+ *
+ * <p><strong>주의</strong>: 조회 결과는 여러 스레드가 공유하는 인스턴스입니다. 변경 후 저장하는 Command 흐름에서는 {@link
+ * SellerReadManager}를 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class SellerCacheReadManager {
+
+    private final SellerCacheQueryPort sellerCacheQueryPort;
+    private final SellerCacheCommandPort sellerCacheCommandPort;
+    private final SellerQueryPort sellerQueryPort;
+
+    public SellerCacheReadManager(
+            SellerCacheQueryPort sellerCacheQueryPort,
+            SellerCacheCommandPort sellerCacheCommandPort,
+            SellerQueryPort sellerQueryPort) {
+        this.sellerCacheQueryPort = sellerCacheQueryPort;
+        this.sellerCacheCommandPort = sellerCacheCommandPort;
+        this.sellerQueryPort = sellerQueryPort;
+    }
+
+    /**
+     * ID로 Seller 조회 (캐시 우선)
+     *
+     * @param sellerId Seller ID
+     * @return Seller (없으면 Optional.empty())
+     */
+    public Optional<Seller> findById(SellerId sellerId) {
+        Optional<Seller> cached = sellerCacheQueryPort.findById(sellerId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<Seller> loaded = sellerQueryPort.findById(sellerId);
+        loaded.ifPresent(sellerCacheCommandPort::put);
+        return loaded;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.application.seller.manager;
 
+import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerCacheCommandPort;
 import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerPersistencePort;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
@@ -14,7 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <ul>
  *   <li>영속화 + 트랜잭션 캡슐화
  *   <li>QueryPort 의존성 없음 (Service에서 조회)
- *   <li>단일 PersistencePort 의존성만 보유
+ *   <li>영속화 후 Seller Near Cache 무효화 (커밋 이후 전 인스턴스 전파)
  * </ul>
  *
  * @author development-team
@@ -24,9 +25,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class SellerCommandManager {
 
     private final SellerPersistencePort sellerPersistencePort;
+    private final SellerCacheCommandPort sellerCacheCommandPort;
 
-    public SellerCommandManager(SellerPersistencePort sellerPersistencePort) {
+    public SellerCommandManager(
+            SellerPersistencePort sellerPersistencePort,
+            SellerCacheCommandPort sellerCacheCommandPort) {
         this.sellerPersistencePort = sellerPersistencePort;
+        this.sellerCacheCommandPort = sellerCacheCommandPort;
     }
 
     /**
@@ -39,6 +44,8 @@ public class SellerCommandManager {
      */
     @Transactional
     public SellerId persist(Seller seller) {
-        return sellerPersistencePort.persist(seller);
+        SellerId sellerId = sellerPersistencePort.persist(seller);
+        sellerCacheCommandPort.invalidate(sellerId);
+        return sellerId;
     }
 }
@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.seller.manager;
 import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerQueryPort;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.seller.query.SellerQueryCriteria;
 import com.ryuqq.crawlinghub.domain.seller.vo.MustItSellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
@@ -112,4 +113,24 @@ public class SellerReadManager {
     public long countByCriteria(SellerQueryCriteria criteria) {
         return sellerQueryPort.countByCriteria(criteria);
     }
+
+    /**
+     * 커서 조건으로 Seller 목록 조회
+     *
+     * @param criteria 커서 검색 조건
+     * @return Seller 목록 (최대 fetchSize건)
+     */
+    public List<Seller> findByCursorCriteria(SellerCursorCriteria criteria) {
+        return sellerQueryPort.findByCursorCriteria(criteria);
+    }
+
+    /**
+     * 커서 조건의 필터에 맞는 Seller 개수 조회
+     *
+     * @param criteria 커서 검색 조건
+     * @return 개수
+     */
+    public long countByCursorCriteria(SellerCursorCriteria criteria) {
+        return sellerQueryPort.countByCursorCriteria(criteria);
+    }
 }
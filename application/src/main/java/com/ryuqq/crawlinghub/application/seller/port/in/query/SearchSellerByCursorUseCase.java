@@ -0,0 +1,21 @@
+package com.ryuqq.crawlinghub.application.seller.port.in.query;
+
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
+
+/**
+ * 셀러 커서 기반 다건 조회 UseCase (Port In)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SearchSellerByCursorUseCase {
+
+    /**
+     * 셀러 슬라이스 조회
+     *
+     * @param params 커서 검색 파라미터
+     * @return 셀러 슬라이스 결과
+     */
+    SellerSliceResult execute(SellerCursorSearchParams params);
+}
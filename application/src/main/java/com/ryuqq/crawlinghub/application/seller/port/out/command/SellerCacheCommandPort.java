@@ -0,0 +1,32 @@
+package com.ryuqq.crawlinghub.application.seller.port.out.command;
+
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+
+/**
+ * Seller Cache Command Port (Near Cache 적재/무효화)
+ *
+ * <p>캐시 미스 시 DB에서 읽은 Seller를 로컬 캐시에 적재하고, Seller 변경 시 모든 인스턴스의 로컬 캐시에서 해당 Seller를
+ * 제거합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SellerCacheCommandPort {
+
+    /**
+     * Seller 캐시 적재 (현재 인스턴스)
+     *
+     * @param seller DB에서 조회한 Seller
+     */
+    void put(Seller seller);
+
+    /**
+     * Seller 캐시 무효화
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 다른 인스턴스로 무효화를 전파합니다.
+     *
+     * @param sellerId 변경된 Seller ID
+     */
+    void invalidate(SellerId sellerId);
+}
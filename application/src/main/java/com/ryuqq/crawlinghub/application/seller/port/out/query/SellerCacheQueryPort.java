@@ -0,0 +1,27 @@
+package com.ryuqq.crawlinghub.application.seller.port.out.query;
+
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.Optional;
+
+/**
+ * Seller Cache Query Port (Near Cache 조회)
+ *
+ * <p>인스턴스 로컬 캐시에 보관된 Seller만 조회합니다. 미스 시 DB 조회와 적재는 SellerCacheReadManager가 담당합니다.
+ *
+ * <p><strong>주의</strong>: 반환된 Seller는 캐시에 보관된 인스턴스이므로 변경 용도로 사용하면 안 됩니다. 수정이 필요한 경우
+ * {@link SellerQueryPort}로 조회합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SellerCacheQueryPort {
+
+    /**
+     * ID로 캐시된 Seller 조회
+     *
+     * @param sellerId Seller ID
+     * @return 캐시된 Seller (캐시 미스 시 Optional.empty())
+     */
+    Optional<Seller> findById(SellerId sellerId);
+}
@@ -2,6 +2,7 @@ package com.ryuqq.crawlinghub.application.seller.port.out.query;
 
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.seller.query.SellerQueryCriteria;
 import com.ryuqq.crawlinghub.domain.seller.vo.MustItSellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
@@ -88,4 +89,20 @@ public interface SellerQueryPort {
      * @return 개수
      */
     long countByCriteria(SellerQueryCriteria criteria);
+
+    /**
+     * 커서 조건으로 Seller 목록 조회 (ID 내림차순, 최대 fetchSize건)
+     *
+     * @param criteria 커서 검색 조건
+     * @return Seller 목록
+     */
+    List<Seller> findByCursorCriteria(SellerCursorCriteria criteria);
+
+    /**
+     * 커서 조건의 필터에 맞는 Seller 개수 조회 (커서 위치 무관)
+     *
+     * @param criteria 커서 검색 조건
+     * @return 개수
+     */
+    long countByCursorCriteria(SellerCursorCriteria criteria);
 }
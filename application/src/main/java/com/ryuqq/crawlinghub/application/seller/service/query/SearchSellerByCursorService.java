@@ -0,0 +1,56 @@
+package com.ryuqq.crawlinghub.application.seller.service.query;
+
+import com.ryuqq.crawlinghub.application.seller.assembler.SellerAssembler;
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
+import com.ryuqq.crawlinghub.application.seller.factory.query.SellerQueryFactory;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.seller.port.in.query.SearchSellerByCursorUseCase;
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * 셀러 커서 기반 다건 조회 Service
+ *
+ * <p>{@code (정렬 키, id)} 커서 이후를 size + 1건 조회해 다음 슬라이스 존재 여부를 판단합니다. 전체 개수는 includeTotal 요청
+ * 시에만 조회합니다.
+ *
+ * <p><strong>트랜잭션</strong>: QueryService는 @Transactional 금지 (읽기 전용, 불필요)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class SearchSellerByCursorService implements SearchSellerByCursorUseCase {
+
+    private final SellerReadManager readManager;
+    private final SellerQueryFactory queryFactory;
+    private final SellerAssembler assembler;
+
+    public SearchSellerByCursorService(
+            SellerReadManager readManager,
+            SellerQueryFactory queryFactory,
+            SellerAssembler assembler) {
+        this.readManager = readManager;
+        this.queryFactory = queryFactory;
+        this.assembler = assembler;
+    }
+
+    @Override
+    public SellerSliceResult execute(SellerCursorSearchParams params) {
+        SellerCursorCriteria criteria = queryFactory.createCursorCriteria(params);
+
+        List<Seller> sellers = readManager.findByCursorCriteria(criteria);
+        Long totalElements =
+                params.includeTotal() ? readManager.countByCursorCriteria(criteria) : null;
+
+        return assembler.toSliceResult(
+                sellers,
+                criteria.sortKey(),
+                criteria.sortDirection(),
+                criteria.size(),
+                totalElements);
+    }
+}
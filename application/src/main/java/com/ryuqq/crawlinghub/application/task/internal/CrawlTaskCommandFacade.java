@@ -1,10 +1,15 @@
 package com.ryuqq.crawlinghub.application.task.internal;
 
+import com.ryuqq.crawlinghub.application.common.component.TransactionEventRegistry;
 import com.ryuqq.crawlinghub.application.task.dto.bundle.CrawlTaskBundle;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskCommandManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxCommandManager;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
+import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.event.CrawlTaskOutboxCreatedEvent;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,8 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>CrawlTask 저장 → ID 반환
  *   <li>Bundle에 ID 설정 → Outbox 생성
  *   <li>Outbox 저장
+ *   <li>커밋 후 {@link CrawlTaskOutboxCreatedEvent} 발행 → {@link
+ *       CrawlTaskOutboxImmediateDispatcher}가 즉시 발행
  * </ol>
  *
+ * <p>즉시 발행이 누락되거나 실패한 Outbox는 PENDING으로 남아 폴링 스케줄러가 delay-seconds 이후 발행합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -29,12 +38,15 @@ public class CrawlTaskCommandFacade {
 
     private final CrawlTaskCommandManager commandManager;
     private final CrawlTaskOutboxCommandManager outboxCommandManager;
+    private final TransactionEventRegistry eventRegistry;
 
     public CrawlTaskCommandFacade(
             CrawlTaskCommandManager commandManager,
-            CrawlTaskOutboxCommandManager outboxCommandManager) {
+            CrawlTaskOutboxCommandManager outboxCommandManager,
+            TransactionEventRegistry eventRegistry) {
         this.commandManager = commandManager;
         this.outboxCommandManager = outboxCommandManager;
+        this.eventRegistry = eventRegistry;
     }
 
     /**
@@ -52,11 +64,49 @@ public class CrawlTaskCommandFacade {
 
         // 2. Bundle에 ID 설정 → Outbox 생성 및 저장
         CrawlTaskBundle enrichedBundle = bundle.withTaskId(savedTaskId);
-        outboxCommandManager.persist(enrichedBundle.createOutbox());
+        CrawlTaskOutbox outbox = enrichedBundle.createOutbox();
+        outboxCommandManager.persist(outbox);
+
+        // 3. 커밋 후 즉시 발행 등록
+        eventRegistry.registerForPublish(
+                CrawlTaskOutboxCreatedEvent.of(List.of(savedTaskId), outbox.getCreatedAt()));
 
         return savedTaskId;
     }
 
+    /**
+     * CrawlTask + Outbox 일괄 저장 (단일 트랜잭션)
+     *
+     * <p>CrawlTask 목록을 multi-row INSERT로 저장한 뒤, 반환된 ID로 Outbox를 생성하여 다시 multi-row INSERT로
+     * 저장합니다. 건별 {@link #persist(CrawlTaskBundle)} 호출 대비 트랜잭션과 INSERT 왕복 횟수가 상수로 줄어듭니다.
+     *
+     * @param bundles CrawlTask 번들 목록 (ID 미할당 상태)
+     * @return 저장된 CrawlTask ID 목록 (입력 순서 유지)
+     */
+    @Transactional
+    public List<CrawlTaskId> persistAll(List<CrawlTaskBundle> bundles) {
+        if (bundles.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. CrawlTask 일괄 저장 → ID 목록 반환
+        List<CrawlTask> crawlTasks = bundles.stream().map(CrawlTaskBundle::crawlTask).toList();
+        List<CrawlTaskId> savedTaskIds = commandManager.persistAll(crawlTasks);
+
+        // 2. Bundle에 ID 설정 → Outbox 일괄 생성 및 저장
+        List<CrawlTaskOutbox> outboxes = new ArrayList<>(bundles.size());
+        for (int i = 0; i < bundles.size(); i++) {
+            outboxes.add(bundles.get(i).withTaskId(savedTaskIds.get(i)).createOutbox());
+        }
+        outboxCommandManager.persistAll(outboxes);
+
+        // 3. 커밋 후 즉시 발행 등록
+        eventRegistry.registerForPublish(
+                CrawlTaskOutboxCreatedEvent.of(savedTaskIds, outboxes.get(0).getCreatedAt()));
+
+        return savedTaskIds;
+    }
+
     /**
      * CrawlTask 재시도 (상태 업데이트 + 새 Outbox 생성)
      *
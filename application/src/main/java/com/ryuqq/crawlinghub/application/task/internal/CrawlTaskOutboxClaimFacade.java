@@ -0,0 +1,83 @@
+package com.ryuqq.crawlinghub.application.task.internal;
+
+import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxCommandManager;
+import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxReadManager;
+import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * CrawlTask Outbox 선점 Facade
+ *
+ * <p><strong>책임</strong>: 여러 스케줄러 인스턴스가 PENDING Outbox를 겹치지 않게 나눠 가지도록 선점 트랜잭션 조율
+ *
+ * <p><strong>처리 흐름</strong> (단일 트랜잭션):
+ *
+ * <ol>
+ *   <li>PENDING Outbox를 FOR UPDATE SKIP LOCKED로 조회 (다른 인스턴스가 잠근 행은 건너뜀)
+ *   <li>PENDING → PROCESSING 일괄 전환 (단일 UPDATE)
+ * </ol>
+ *
+ * <p>커밋 이후에는 PROCESSING 상태 자체가 선점 표시가 되어 다른 인스턴스의 PENDING 조회에 잡히지 않습니다. 발행 도중 인스턴스가
+ * 종료되어 남은 PROCESSING Outbox는 {@code RecoverTimeoutCrawlTaskOutboxService}가 processedAt 기준으로
+ * PENDING으로 되돌립니다. SQS 발행은 이 트랜잭션 밖에서 수행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawlTaskOutboxClaimFacade {
+
+    private final CrawlTaskOutboxReadManager outboxReadManager;
+    private final CrawlTaskOutboxCommandManager outboxCommandManager;
+
+    public CrawlTaskOutboxClaimFacade(
+            CrawlTaskOutboxReadManager outboxReadManager,
+            CrawlTaskOutboxCommandManager outboxCommandManager) {
+        this.outboxReadManager = outboxReadManager;
+        this.outboxCommandManager = outboxCommandManager;
+    }
+
+    /**
+     * delaySeconds 이상 경과한 PENDING Outbox 선점
+     *
+     * @param limit 최대 선점 건수
+     * @param delaySeconds 생성 후 경과해야 할 최소 시간 (초)
+     * @return PROCESSING으로 전환된 Outbox 목록
+     */
+    @Transactional
+    public List<CrawlTaskOutbox> claimPendingOlderThan(int limit, int delaySeconds) {
+        List<CrawlTaskOutbox> outboxes =
+                outboxReadManager.findPendingOlderThanForUpdate(limit, delaySeconds);
+
+        Instant now = Instant.now();
+        outboxes.forEach(outbox -> outbox.markAsProcessing(now));
+        outboxCommandManager.markAllAsProcessing(outboxes, now);
+        return outboxes;
+    }
+
+    /**
+     * 지정한 CrawlTask ID의 PENDING Outbox 선점 (커밋 직후 즉시 발행용)
+     *
+     * <p>폴링 스케줄러가 이미 잠갔거나 선점해 PENDING이 아닌 Outbox는 제외됩니다.
+     *
+     * @param crawlTaskIds CrawlTask ID 목록
+     * @return PROCESSING으로 전환된 Outbox 목록
+     */
+    @Transactional
+    public List<CrawlTaskOutbox> claimPendingByCrawlTaskIds(List<CrawlTaskId> crawlTaskIds) {
+        List<CrawlTaskOutbox> outboxes =
+                outboxReadManager.findPendingByCrawlTaskIdsForUpdate(crawlTaskIds);
+        if (outboxes.isEmpty()) {
+            return outboxes;
+        }
+
+        Instant now = Instant.now();
+        outboxes.forEach(outbox -> outbox.markAsProcessing(now));
+        outboxCommandManager.markAllAsProcessing(outboxes, now);
+        return outboxes;
+    }
+}
@@ -0,0 +1,139 @@
+package com.ryuqq.crawlinghub.application.task.internal;
+
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
+import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawlTask Outbox 즉시 발행 Dispatcher
+ *
+ * <p>CrawlTask + Outbox 저장 트랜잭션 커밋 직후 {@code CrawlTaskOutboxCreatedEventListener}가 넘긴 Outbox를 폴링
+ * 지연(delay-seconds) 없이 SQS로 발행합니다. SEARCH 결과로 생성된 DETAIL/OPTION 후속 태스크가 최소 30초씩 대기하던 구간을 제거합니다.
+ *
+ * <p><strong>동작 방식</strong>:
+ *
+ * <ul>
+ *   <li>이벤트 수신 스레드(커밋한 스레드)는 작업을 큐에 넣기만 하고 바로 반환합니다.
+ *   <li>워커 스레드는 Outbox를 ID 기준 FOR UPDATE SKIP LOCKED로 선점(PROCESSING 전환)한 뒤 {@link
+ *       CrawlTaskOutboxProcessor}로 발행합니다. 폴링 스케줄러가 이미 선점한 Outbox는 건너뛰므로 중복 발행되지 않습니다.
+ *   <li>큐가 가득 차거나 선점/발행이 실패하면 Outbox는 PENDING(또는 FAILED)으로 남아 기존 폴링/복구 스케줄러가 처리합니다.
+ * </ul>
+ *
+ * <p><strong>메트릭</strong>: {@code crawlinghub.crawl_task_outbox_immediate_dispatch_total}
+ * (result=dispatched/rejected/skipped/failed)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawlTaskOutboxImmediateDispatcher {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(CrawlTaskOutboxImmediateDispatcher.class);
+
+    static final String DISPATCH_METRIC = "crawl_task_outbox_immediate_dispatch_total";
+
+    /** 발행 워커 스레드 수 (SQS 발행 + 상태 UPDATE 위주의 짧은 I/O 작업) */
+    static final int WORKER_THREADS = 2;
+
+    /** 대기 큐 용량 (초과 시 폴링 스케줄러에 위임) */
+    static final int QUEUE_CAPACITY = 1_000;
+
+    private final CrawlTaskOutboxClaimFacade claimFacade;
+    private final CrawlTaskOutboxProcessor processor;
+    private final CrawlHubMetrics metrics;
+    private final ThreadPoolExecutor executor;
+
+    public CrawlTaskOutboxImmediateDispatcher(
+            CrawlTaskOutboxClaimFacade claimFacade,
+            CrawlTaskOutboxProcessor processor,
+            CrawlHubMetrics metrics) {
+        this.claimFacade = claimFacade;
+        this.processor = processor;
+        this.metrics = metrics;
+        this.executor =
+                new ThreadPoolExecutor(
+                        WORKER_THREADS,
+                        WORKER_THREADS,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                        Thread.ofPlatform().name("outbox-dispatch-", 0).daemon(true).factory(),
+                        new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 즉시 발행 요청 (비동기)
+     *
+     * <p>호출 스레드는 큐에 넣기만 하고 반환합니다. 큐가 가득 차면 요청을 버리고 폴링 스케줄러에 맡깁니다.
+     *
+     * @param crawlTaskIds 발행 대상 CrawlTask ID 목록
+     */
+    public void submit(List<CrawlTaskId> crawlTaskIds) {
+        try {
+            executor.execute(() -> dispatch(crawlTaskIds));
+        } catch (RejectedExecutionException e) {
+            metrics.incrementCounter(DISPATCH_METRIC, "result", "rejected");
+            log.debug("즉시 발행 큐 포화, 폴링 스케줄러에 위임: count={}", crawlTaskIds.size());
+        }
+    }
+
+    /**
+     * 선점 후 발행
+     *
+     * <p>예외를 전파하지 않습니다. 선점 전 실패는 PENDING으로, 발행 실패는 FAILED로 남아 스케줄러가 복구합니다.
+     *
+     * @param crawlTaskIds 발행 대상 CrawlTask ID 목록
+     */
+    void dispatch(List<CrawlTaskId> crawlTaskIds) {
+        try {
+            List<CrawlTaskOutbox> claimed = claimFacade.claimPendingByCrawlTaskIds(crawlTaskIds);
+            if (claimed.size() < crawlTaskIds.size()) {
+                metrics.incrementCounter(DISPATCH_METRIC, "result", "skipped");
+            }
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            SchedulerBatchProcessingResult result =
+                    processor.processOutboxes(
+                            claimed, CrawlTaskOutboxProcessor.DISPATCH_PATH_IMMEDIATE);
+            metrics.incrementCounter(DISPATCH_METRIC, "result", "dispatched");
+            log.debug(
+                    "CrawlTask 아웃박스 즉시 발행: 요청={}, 선점={}, 성공={}",
+                    crawlTaskIds.size(),
+                    claimed.size(),
+                    result.success());
+        } catch (Exception e) {
+            metrics.incrementCounter(DISPATCH_METRIC, "result", "failed");
+            log.warn(
+                    "CrawlTask 아웃박스 즉시 발행 실패, 폴링 스케줄러에 위임: count={}, error={}",
+                    crawlTaskIds.size(),
+                    e.getMessage());
+        }
+    }
+
+    /** 종료 시 대기 중인 작업은 버리고(PENDING 유지) 실행 중인 발행만 마무리합니다. */
+    @PreDestroy
+    public void shutdown() {
+        executor.getQueue().clear();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("CrawlTask 아웃박스 즉시 발행 워커 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
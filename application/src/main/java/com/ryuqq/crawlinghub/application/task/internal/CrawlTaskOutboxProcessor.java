@@ -1,12 +1,20 @@
 package com.ryuqq.crawlinghub.application.task.internal;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskCommandManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskMessageManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxCommandManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskReadManager;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -17,12 +25,15 @@ import org.springframework.stereotype.Component;
  * <p><strong>처리 흐름</strong>:
  *
  * <ol>
- *   <li>PENDING → PROCESSING 전환 (선점)
+ *   <li>PENDING → PROCESSING 전환 ({@link CrawlTaskOutboxClaimFacade}로 이미 선점된 경우 생략)
  *   <li>CrawlTask 상태를 PUBLISHED로 변경
  *   <li>SQS 메시지 발행
  *   <li>성공 시 SENT, 실패 시 FAILED 상태 변경
  * </ol>
  *
+ * <p>{@link #processOutboxes(List)}는 3번 단계를 SendMessageBatch로 묶어 수행하고, 1·2·4번 단계의 상태 전환을 ID 집합
+ * 기반 UPDATE로 일괄 반영합니다. 항목별 발행 결과에 따라 실패한 아웃박스만 FAILED로 전환합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -31,20 +42,31 @@ public class CrawlTaskOutboxProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(CrawlTaskOutboxProcessor.class);
 
+    /** 발행 경로: 폴링 스케줄러 */
+    public static final String DISPATCH_PATH_POLLER = "poller";
+
+    /** 발행 경로: 커밋 직후 즉시 발행 */
+    public static final String DISPATCH_PATH_IMMEDIATE = "immediate";
+
+    private static final String PUBLISH_LATENCY_METRIC = "crawl_task_outbox_publish_latency";
+
     private final CrawlTaskCommandManager commandManager;
     private final CrawlTaskOutboxCommandManager outboxCommandManager;
     private final CrawlTaskReadManager readManager;
     private final CrawlTaskMessageManager messageManager;
+    private final CrawlHubMetrics metrics;
 
     public CrawlTaskOutboxProcessor(
             CrawlTaskCommandManager commandManager,
             CrawlTaskOutboxCommandManager outboxCommandManager,
             CrawlTaskReadManager readManager,
-            CrawlTaskMessageManager messageManager) {
+            CrawlTaskMessageManager messageManager,
+            CrawlHubMetrics metrics) {
         this.commandManager = commandManager;
         this.outboxCommandManager = outboxCommandManager;
         this.readManager = readManager;
         this.messageManager = messageManager;
+        this.metrics = metrics;
     }
 
     /**
@@ -55,24 +77,11 @@ public class CrawlTaskOutboxProcessor {
      */
     public boolean processOutbox(CrawlTaskOutbox outbox) {
         try {
-            // 1. PENDING → PROCESSING 전환
-            outbox.markAsProcessing(Instant.now());
-            outboxCommandManager.persist(outbox);
+            // 1. PENDING → PROCESSING 전환 (선점되지 않은 경우)
+            markAsProcessingIfPending(outbox);
 
             // 2. CrawlTask 상태 → PUBLISHED 전환 (WAITING 또는 RETRY)
-            readManager
-                    .findById(outbox.getCrawlTaskId())
-                    .ifPresent(
-                            task -> {
-                                CrawlTaskStatus status = task.getStatus();
-                                if (status == CrawlTaskStatus.WAITING) {
-                                    task.markAsPublished(Instant.now());
-                                    commandManager.persist(task);
-                                } else if (status == CrawlTaskStatus.RETRY) {
-                                    task.markAsPublishedAfterRetry(Instant.now());
-                                    commandManager.persist(task);
-                                }
-                            });
+            markTaskAsPublished(outbox);
 
             // 3. SQS 메시지 발행
             messageManager.publishFromOutbox(outbox);
@@ -85,14 +94,171 @@ public class CrawlTaskOutboxProcessor {
             return true;
         } catch (Exception e) {
             // 실패 처리
-            outbox.markAsFailed(Instant.now());
-            outboxCommandManager.persist(outbox);
+            markAsFailed(outbox, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 아웃박스 일괄 처리 (SendMessageBatch)
+     *
+     * <p>상태 전환은 Domain에서 메모리로 수행하고, 영속화는 ID 집합 기반 UPDATE로 반영하여 배치 크기와 무관하게 고정 개수의
+     * 문장만 실행합니다. (PROCESSING 1회, CrawlTask PUBLISHED 1회, SENT 1회, FAILED 1회)
+     *
+     * @param outboxes 처리할 아웃박스 목록
+     * @return 처리 결과 (전체/성공/실패 건수)
+     */
+    public SchedulerBatchProcessingResult processOutboxes(List<CrawlTaskOutbox> outboxes) {
+        return processOutboxes(outboxes, DISPATCH_PATH_POLLER);
+    }
+
+    /**
+     * 아웃박스 일괄 처리 (발행 경로 지정)
+     *
+     * <p>발행에 성공한 아웃박스마다 생성 → 발행 지연을 {@code
+     * crawlinghub.crawl_task_outbox_publish_latency{path}}로 기록합니다.
+     *
+     * @param outboxes 처리할 아웃박스 목록
+     * @param dispatchPath 발행 경로 ({@link #DISPATCH_PATH_POLLER}, {@link #DISPATCH_PATH_IMMEDIATE})
+     * @return 처리 결과 (전체/성공/실패 건수)
+     */
+    public SchedulerBatchProcessingResult processOutboxes(
+            List<CrawlTaskOutbox> outboxes, String dispatchPath) {
+        if (outboxes.isEmpty()) {
+            return SchedulerBatchProcessingResult.empty();
+        }
+
+        // 1~2. PROCESSING 전환 및 CrawlTask PUBLISHED 전환 (일괄)
+        try {
+            markAllAsProcessingIfPending(outboxes);
+            commandManager.markAllAsPublished(
+                    outboxes.stream().map(CrawlTaskOutbox::getCrawlTaskId).toList(),
+                    Instant.now());
+        } catch (Exception e) {
+            log.error("아웃박스 일괄 선점 실패: count={}, error={}", outboxes.size(), e.getMessage());
+            markAllAsFailed(outboxes);
+            return SchedulerBatchProcessingResult.of(outboxes.size(), 0, outboxes.size());
+        }
+
+        // 3. SQS 일괄 발행
+        Map<Long, BatchItemResult<Long>> resultByTaskId = publishAll(outboxes);
+
+        // 4. 발행 결과별 SENT / FAILED 일괄 처리
+        List<CrawlTaskOutbox> sent = new ArrayList<>(outboxes.size());
+        List<CrawlTaskOutbox> failed = new ArrayList<>();
+        for (CrawlTaskOutbox outbox : outboxes) {
+            BatchItemResult<Long> result = resultByTaskId.get(outbox.getCrawlTaskIdValue());
+            if (result != null && result.success()) {
+                sent.add(outbox);
+            } else {
+                log.error(
+                        "아웃박스 발행 실패: taskId={}, error={}",
+                        outbox.getCrawlTaskIdValue(),
+                        result != null ? result.errorMessage() : "발행 결과 없음");
+                failed.add(outbox);
+            }
+        }
+
+        int success = markAllAsSent(sent);
+        markAllAsFailed(failed);
+        recordPublishLatency(sent, dispatchPath);
+
+        return SchedulerBatchProcessingResult.of(
+                outboxes.size(), success, outboxes.size() - success);
+    }
 
+    private int markAllAsSent(List<CrawlTaskOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        try {
+            outboxes.forEach(outbox -> outbox.markAsSent(now));
+            outboxCommandManager.markAllAsSent(outboxes, now);
+            return outboxes.size();
+        } catch (Exception e) {
+            // 발행은 완료되었으므로 FAILED로 되돌리지 않음 (PROCESSING 타임아웃 복구 대상)
+            log.error("아웃박스 SENT 일괄 저장 실패: count={}, error={}", outboxes.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private void recordPublishLatency(List<CrawlTaskOutbox> sent, String dispatchPath) {
+        Instant now = Instant.now();
+        for (CrawlTaskOutbox outbox : sent) {
+            metrics.recordDuration(
+                    PUBLISH_LATENCY_METRIC,
+                    Duration.between(outbox.getCreatedAt(), now),
+                    "path",
+                    dispatchPath);
+        }
+    }
+
+    private void markAllAsFailed(List<CrawlTaskOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        try {
+            outboxes.forEach(outbox -> outbox.markAsFailed(now));
+            outboxCommandManager.markAllAsFailed(outboxes, now);
+        } catch (Exception e) {
             log.error(
-                    "아웃박스 처리 실패: taskId={}, error={}",
-                    outbox.getCrawlTaskIdValue(),
-                    e.getMessage());
-            return false;
+                    "아웃박스 FAILED 일괄 저장 실패: count={}, error={}", outboxes.size(), e.getMessage());
+        }
+    }
+
+    private void markAllAsProcessingIfPending(List<CrawlTaskOutbox> outboxes) {
+        List<CrawlTaskOutbox> pending =
+                outboxes.stream().filter(CrawlTaskOutbox::isPending).toList();
+        if (pending.isEmpty()) {
+            return;
         }
+        Instant now = Instant.now();
+        pending.forEach(outbox -> outbox.markAsProcessing(now));
+        outboxCommandManager.markAllAsProcessing(pending, now);
+    }
+
+    private Map<Long, BatchItemResult<Long>> publishAll(List<CrawlTaskOutbox> outboxes) {
+        Map<Long, BatchItemResult<Long>> resultByTaskId = new HashMap<>();
+        try {
+            for (BatchItemResult<Long> result : messageManager.publishAllFromOutbox(outboxes)) {
+                resultByTaskId.put(result.id(), result);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 일괄 발행 실패: count={}, error={}", outboxes.size(), e.getMessage());
+        }
+        return resultByTaskId;
+    }
+
+    private void markAsProcessingIfPending(CrawlTaskOutbox outbox) {
+        if (outbox.isPending()) {
+            outbox.markAsProcessing(Instant.now());
+            outboxCommandManager.persist(outbox);
+        }
+    }
+
+    private void markTaskAsPublished(CrawlTaskOutbox outbox) {
+        readManager
+                .findById(outbox.getCrawlTaskId())
+                .ifPresent(
+                        task -> {
+                            CrawlTaskStatus status = task.getStatus();
+                            if (status == CrawlTaskStatus.WAITING) {
+                                task.markAsPublished(Instant.now());
+                                commandManager.persist(task);
+                            } else if (status == CrawlTaskStatus.RETRY) {
+                                task.markAsPublishedAfterRetry(Instant.now());
+                                commandManager.persist(task);
+                            }
+                        });
+    }
+
+    private void markAsFailed(CrawlTaskOutbox outbox, String errorMessage) {
+        outbox.markAsFailed(Instant.now());
+        outboxCommandManager.persist(outbox);
+
+        log.error(
+                "아웃박스 처리 실패: taskId={}, error={}", outbox.getCrawlTaskIdValue(), errorMessage);
     }
 }
@@ -0,0 +1,36 @@
+package com.ryuqq.crawlinghub.application.task.listener;
+
+import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskOutboxImmediateDispatcher;
+import com.ryuqq.crawlinghub.domain.task.event.CrawlTaskOutboxCreatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * CrawlTask Outbox 생성 이벤트 리스너
+ *
+ * <p>{@code TransactionEventRegistry}가 CrawlTask + Outbox 저장 트랜잭션 커밋 후 발행한 이벤트를 받아 {@link
+ * CrawlTaskOutboxImmediateDispatcher}에 즉시 발행을 요청합니다. 커밋한 스레드를 붙잡지 않도록 발행은 Dispatcher 워커 스레드에서
+ * 수행됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CrawlTaskOutboxCreatedEventListener {
+
+    private final CrawlTaskOutboxImmediateDispatcher dispatcher;
+
+    public CrawlTaskOutboxCreatedEventListener(CrawlTaskOutboxImmediateDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Outbox 생성 이벤트 처리
+     *
+     * @param event Outbox 생성 이벤트
+     */
+    @EventListener
+    public void handle(CrawlTaskOutboxCreatedEvent event) {
+        dispatcher.submit(event.crawlTaskIds());
+    }
+}
@@ -3,6 +3,8 @@ package com.ryuqq.crawlinghub.application.task.manager;
 import com.ryuqq.crawlinghub.application.task.port.out.command.CrawlTaskPersistencePort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -31,4 +33,28 @@ public class CrawlTaskCommandManager {
     public CrawlTaskId persist(CrawlTask crawlTask) {
         return crawlTaskPersistencePort.persist(crawlTask);
     }
+
+    /**
+     * 신규 CrawlTask 일괄 저장
+     *
+     * @param crawlTasks 저장할 신규 CrawlTask 목록
+     * @return 저장된 CrawlTask ID 목록 (입력 순서 유지)
+     */
+    public List<CrawlTaskId> persistAll(List<CrawlTask> crawlTasks) {
+        return crawlTaskPersistencePort.persistAll(crawlTasks);
+    }
+
+    /**
+     * WAITING/RETRY 상태 CrawlTask를 PUBLISHED로 일괄 전환
+     *
+     * @param crawlTaskIds 대상 CrawlTask ID 목록
+     * @param now 전환 시각
+     * @return 전환된 CrawlTask 수
+     */
+    public int markAllAsPublished(List<CrawlTaskId> crawlTaskIds, Instant now) {
+        if (crawlTaskIds.isEmpty()) {
+            return 0;
+        }
+        return crawlTaskPersistencePort.markAllAsPublished(crawlTaskIds, now);
+    }
 }
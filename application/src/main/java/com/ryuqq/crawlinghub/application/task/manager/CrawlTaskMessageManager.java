@@ -1,8 +1,10 @@
 package com.ryuqq.crawlinghub.application.task.manager;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.task.port.out.client.CrawlTaskMessageClient;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>{@link #publishFromOutbox(CrawlTaskOutbox)}: Outbox 기반 발행 (재시도용)
+ *   <li>{@link #publishAllFromOutbox(List)}: Outbox 기반 일괄 발행 (스케줄러용)
  *   <li>{@link #publish(CrawlTask, String)}: 직접 발행 (레거시 지원)
  * </ul>
  *
@@ -52,6 +55,24 @@ public class CrawlTaskMessageManager {
         log.info("CrawlTask 메시지 발행 완료 (Outbox): taskId={}", outbox.getCrawlTaskIdValue());
     }
 
+    /**
+     * Outbox 기반 메시지 일괄 발행 (스케줄러용)
+     *
+     * @param outboxes 발행할 Outbox 목록
+     * @return CrawlTask ID별 발행 결과 (일부 실패 시에도 예외 없이 항목별 결과 반환)
+     */
+    public List<BatchItemResult<Long>> publishAllFromOutbox(List<CrawlTaskOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return List.of();
+        }
+
+        List<BatchItemResult<Long>> results = crawlTaskMessageClient.publishAllFromOutbox(outboxes);
+
+        long failed = results.stream().filter(result -> !result.success()).count();
+        log.info("CrawlTask 메시지 일괄 발행 완료 (Outbox): total={}, failed={}", results.size(), failed);
+        return results;
+    }
+
     /**
      * CrawlTask 직접 발행
      *
@@ -2,6 +2,9 @@ package com.ryuqq.crawlinghub.application.task.manager;
 
 import com.ryuqq.crawlinghub.application.task.port.out.command.CrawlTaskOutboxPersistencePort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -9,6 +12,8 @@ import org.springframework.stereotype.Component;
  *
  * <p><strong>책임</strong>: Outbox 영속성 관리 (persist-only)
  *
+ * <p>{@code markAllAs*} 메서드는 호출 측에서 Domain 상태 전환을 마친 Outbox 목록을 단일 UPDATE로 반영합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -30,4 +35,56 @@ public class CrawlTaskOutboxCommandManager {
     public void persist(CrawlTaskOutbox outbox) {
         crawlTaskOutboxPersistencePort.persist(outbox);
     }
+
+    /**
+     * 신규 CrawlTaskOutbox 일괄 저장
+     *
+     * @param outboxes 저장할 신규 Outbox 목록
+     */
+    public void persistAll(List<CrawlTaskOutbox> outboxes) {
+        crawlTaskOutboxPersistencePort.persistAll(outboxes);
+    }
+
+    /**
+     * PROCESSING 상태로 전환된 Outbox 일괄 반영
+     *
+     * @param outboxes PROCESSING으로 전환된 Outbox 목록
+     * @param processedAt 처리 시각
+     */
+    public void markAllAsProcessing(List<CrawlTaskOutbox> outboxes, Instant processedAt) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        crawlTaskOutboxPersistencePort.markAllAsProcessing(toIds(outboxes), processedAt);
+    }
+
+    /**
+     * SENT 상태로 전환된 Outbox 일괄 반영
+     *
+     * @param outboxes SENT로 전환된 Outbox 목록
+     * @param processedAt 처리 시각
+     */
+    public void markAllAsSent(List<CrawlTaskOutbox> outboxes, Instant processedAt) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        crawlTaskOutboxPersistencePort.markAllAsSent(toIds(outboxes), processedAt);
+    }
+
+    /**
+     * FAILED 상태로 전환된 Outbox 일괄 반영
+     *
+     * @param outboxes FAILED로 전환된 Outbox 목록
+     * @param processedAt 처리 시각
+     */
+    public void markAllAsFailed(List<CrawlTaskOutbox> outboxes, Instant processedAt) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        crawlTaskOutboxPersistencePort.markAllAsFailed(toIds(outboxes), processedAt);
+    }
+
+    private static List<CrawlTaskId> toIds(List<CrawlTaskOutbox> outboxes) {
+        return outboxes.stream().map(CrawlTaskOutbox::getCrawlTaskId).toList();
+    }
 }
@@ -91,6 +91,35 @@ public class CrawlTaskOutboxReadManager {
         return outboxQueryPort.findPendingOlderThan(limit, delaySeconds);
     }
 
+    /**
+     * delaySeconds 이상 경과한 PENDING 상태 Outbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>호출 측 트랜잭션 안에서만 잠금이 유지됩니다.
+     *
+     * @param limit 최대 조회 건수
+     * @param delaySeconds 생성 후 경과해야 할 최소 시간 (초)
+     * @return 잠금을 획득한 PENDING 상태의 Outbox 목록
+     */
+    public List<CrawlTaskOutbox> findPendingOlderThanForUpdate(int limit, int delaySeconds) {
+        return outboxQueryPort.findPendingOlderThanForUpdate(limit, delaySeconds);
+    }
+
+    /**
+     * 지정한 CrawlTask ID의 PENDING 상태 Outbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>호출 측 트랜잭션 안에서만 잠금이 유지됩니다.
+     *
+     * @param crawlTaskIds CrawlTask ID 목록
+     * @return 잠금을 획득한 PENDING 상태의 Outbox 목록
+     */
+    public List<CrawlTaskOutbox> findPendingByCrawlTaskIdsForUpdate(
+            List<CrawlTaskId> crawlTaskIds) {
+        if (crawlTaskIds.isEmpty()) {
+            return List.of();
+        }
+        return outboxQueryPort.findPendingByCrawlTaskIdsForUpdate(crawlTaskIds);
+    }
+
     /**
      * timeoutSeconds 이상 PROCESSING 상태인 좀비 Outbox 조회
      *
@@ -7,11 +7,14 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskStatisticsCriteria;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 
 /**
@@ -118,25 +121,37 @@ public class CrawlTaskReadManager {
     }
 
     /**
-     * 스케줄러 ID, 태스크 타입, 엔드포인트 조합으로 존재 여부 확인
+     * 주어진 Fingerprint 중 하나라도 지정 상태의 Task가 존재하는지 확인
      *
      * <p>중복 Task 생성 방지를 위해 사용
      *
-     * @param crawlSchedulerId 스케줄러 ID
-     * @param taskType 태스크 유형
-     * @param endpointPath 엔드포인트 경로
-     * @param endpointQueryParams 엔드포인트 쿼리 파라미터 (JSON 문자열)
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
      * @param statuses 확인할 상태 목록
-     * @return 존재 여부
+     * @return 하나라도 존재하면 true
+     */
+    public boolean existsAny(
+            Collection<CrawlTaskFingerprint> fingerprints, List<CrawlTaskStatus> statuses) {
+        if (fingerprints.isEmpty()) {
+            return false;
+        }
+        return crawlTaskQueryPort.existsAny(fingerprints, statuses);
+    }
+
+    /**
+     * 주어진 Fingerprint 중 지정 상태의 Task가 이미 존재하는 Fingerprint 조회
+     *
+     * <p>중복 Task 일괄 판정을 위해 사용
+     *
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
+     * @param statuses 확인할 상태 목록
+     * @return 이미 존재하는 Fingerprint 집합
      */
-    public boolean existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-            CrawlSchedulerId crawlSchedulerId,
-            CrawlTaskType taskType,
-            String endpointPath,
-            String endpointQueryParams,
-            List<CrawlTaskStatus> statuses) {
-        return crawlTaskQueryPort.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                crawlSchedulerId, taskType, endpointPath, endpointQueryParams, statuses);
+    public Set<CrawlTaskFingerprint> findExistingFingerprints(
+            Collection<CrawlTaskFingerprint> fingerprints, List<CrawlTaskStatus> statuses) {
+        if (fingerprints.isEmpty()) {
+            return Set.of();
+        }
+        return crawlTaskQueryPort.findExistingFingerprints(fingerprints, statuses);
     }
 
     /**
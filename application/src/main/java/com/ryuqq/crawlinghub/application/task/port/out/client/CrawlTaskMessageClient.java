@@ -1,7 +1,9 @@
 package com.ryuqq.crawlinghub.application.task.port.out.client;
 
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import java.util.List;
 
 /**
  * CrawlTask 메시지 발행 Port (Port Out - Messaging)
@@ -12,6 +14,7 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
  *
  * <ul>
  *   <li>{@link #publishFromOutbox(CrawlTaskOutbox)}: 재시도 스케줄러에서 아웃박스 기반 호출
+ *   <li>{@link #publishAllFromOutbox(List)}: 스케줄러에서 선점한 아웃박스 일괄 발행
  *   <li>{@link #publish(CrawlTask, String)}: 직접 발행 (레거시 지원)
  * </ul>
  *
@@ -38,4 +41,14 @@ public interface CrawlTaskMessageClient {
      * @param outbox 재처리할 아웃박스
      */
     void publishFromOutbox(CrawlTaskOutbox outbox);
+
+    /**
+     * Outbox 기반 메시지 일괄 발행
+     *
+     * <p>항목 단위로 성공/실패를 반환하며, 일부 항목이 실패해도 예외를 던지지 않습니다.
+     *
+     * @param outboxes 발행할 아웃박스 목록
+     * @return CrawlTask ID별 발행 결과
+     */
+    List<BatchItemResult<Long>> publishAllFromOutbox(List<CrawlTaskOutbox> outboxes);
 }
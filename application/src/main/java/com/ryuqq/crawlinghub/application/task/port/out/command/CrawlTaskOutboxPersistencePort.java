@@ -1,6 +1,9 @@
 package com.ryuqq.crawlinghub.application.task.port.out.command;
 
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * CrawlTask Outbox 저장 Port (Port Out - Command)
@@ -16,4 +19,35 @@ public interface CrawlTaskOutboxPersistencePort {
      * @param outbox 저장할 Outbox
      */
     void persist(CrawlTaskOutbox outbox);
+
+    /**
+     * 신규 CrawlTaskOutbox 일괄 저장 (multi-row INSERT)
+     *
+     * @param outboxes 저장할 신규 Outbox 목록
+     */
+    void persistAll(List<CrawlTaskOutbox> outboxes);
+
+    /**
+     * PROCESSING 일괄 전환 (단일 UPDATE)
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsProcessing(List<CrawlTaskId> crawlTaskIds, Instant processedAt);
+
+    /**
+     * SENT 일괄 전환 (단일 UPDATE)
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsSent(List<CrawlTaskId> crawlTaskIds, Instant processedAt);
+
+    /**
+     * FAILED 일괄 전환 (단일 UPDATE, retryCount 1 증가)
+     *
+     * @param crawlTaskIds 대상 Outbox의 CrawlTask ID 목록
+     * @param processedAt 처리 시각
+     */
+    void markAllAsFailed(List<CrawlTaskId> crawlTaskIds, Instant processedAt);
 }
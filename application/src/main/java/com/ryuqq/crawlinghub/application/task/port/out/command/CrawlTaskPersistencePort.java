@@ -2,6 +2,8 @@ package com.ryuqq.crawlinghub.application.task.port.out.command;
 
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * CrawlTask 저장 Port (Port Out - Command)
@@ -18,4 +20,25 @@ public interface CrawlTaskPersistencePort {
      * @return 저장된 CrawlTask의 ID
      */
     CrawlTaskId persist(CrawlTask crawlTask);
+
+    /**
+     * 신규 CrawlTask 일괄 저장 (multi-row INSERT)
+     *
+     * <p>ID가 미할당된 신규 CrawlTask만 허용합니다. 반환 ID 목록은 입력 순서와 동일합니다.
+     *
+     * @param crawlTasks 저장할 신규 CrawlTask 목록
+     * @return 저장된 CrawlTask ID 목록 (입력 순서 유지)
+     */
+    List<CrawlTaskId> persistAll(List<CrawlTask> crawlTasks);
+
+    /**
+     * WAITING/RETRY 상태 CrawlTask를 PUBLISHED로 일괄 전환 (단일 UPDATE)
+     *
+     * <p>그 외 상태의 CrawlTask는 변경하지 않습니다.
+     *
+     * @param crawlTaskIds 대상 CrawlTask ID 목록
+     * @param now 전환 시각
+     * @return 전환된 CrawlTask 수
+     */
+    int markAllAsPublished(List<CrawlTaskId> crawlTaskIds, Instant now);
 }
@@ -55,6 +55,29 @@ public interface CrawlTaskOutboxQueryPort {
      */
     List<CrawlTaskOutbox> findPendingOlderThan(int limit, int delaySeconds);
 
+    /**
+     * delaySeconds 이상 경과한 PENDING 상태 Outbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>다른 트랜잭션이 잠근 행은 건너뛰므로 여러 인스턴스가 동시에 호출해도 서로 겹치지 않는 배치를 반환합니다. 잠금은 호출 측
+     * 트랜잭션이 끝날 때 해제되므로 같은 트랜잭션에서 PROCESSING으로 전환해야 합니다.
+     *
+     * @param limit 최대 조회 건수
+     * @param delaySeconds 생성 후 경과해야 할 최소 시간 (초)
+     * @return 잠금을 획득한 PENDING 상태의 Outbox 목록
+     */
+    List<CrawlTaskOutbox> findPendingOlderThanForUpdate(int limit, int delaySeconds);
+
+    /**
+     * 지정한 CrawlTask ID의 PENDING 상태 Outbox 선점 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>커밋 직후 즉시 발행 경로에서 사용합니다. 이미 다른 인스턴스(폴링 스케줄러 등)가 잠갔거나 PENDING이 아닌 Outbox는 결과에서
+     * 제외되므로 같은 Outbox가 중복 발행되지 않습니다. 같은 트랜잭션에서 PROCESSING으로 전환해야 합니다.
+     *
+     * @param crawlTaskIds CrawlTask ID 목록
+     * @return 잠금을 획득한 PENDING 상태의 Outbox 목록
+     */
+    List<CrawlTaskOutbox> findPendingByCrawlTaskIdsForUpdate(List<CrawlTaskId> crawlTaskIds);
+
     /**
      * timeoutSeconds 이상 PROCESSING 상태인 좀비 Outbox 조회
      *
@@ -6,11 +6,14 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskStatisticsCriteria;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * CrawlTask 조회 Port (Port Out - Query)
@@ -45,31 +48,35 @@ public interface CrawlTaskQueryPort {
      * @param crawlSchedulerId 스케줄러 ID
      * @param statuses 확인할 상태 목록
      * @return 존재 여부
-     * @deprecated 태스크 유형과 엔드포인트까지 확인하는 {@link
-     *     #existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn} 사용 권장
+     * @deprecated Fingerprint 기반 {@link #existsAny} 사용 권장
      */
     @Deprecated
     boolean existsByScheduleIdAndStatusIn(
             CrawlSchedulerId crawlSchedulerId, List<CrawlTaskStatus> statuses);
 
     /**
-     * 스케줄러 ID, 태스크 타입, 엔드포인트 조합으로 존재 여부 확인
+     * 주어진 Fingerprint 중 하나라도 지정 상태의 Task가 존재하는지 확인
      *
-     * <p>동일 스케줄러 내에서도 태스크 타입과 엔드포인트가 다르면 별개의 태스크입니다. 예: SEARCH 태스크가 진행 중이어도 DETAIL 태스크는 새로 생성 가능
+     * <p>(endpoint_fingerprint, status) 커버링 인덱스만으로 판정합니다.
      *
-     * @param crawlSchedulerId 스케줄러 ID
-     * @param taskType 태스크 유형
-     * @param endpointPath 엔드포인트 경로
-     * @param endpointQueryParams 엔드포인트 쿼리 파라미터 (JSON 문자열)
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
      * @param statuses 확인할 상태 목록
-     * @return 존재 여부
+     * @return 하나라도 존재하면 true
+     */
+    boolean existsAny(
+            Collection<CrawlTaskFingerprint> fingerprints, List<CrawlTaskStatus> statuses);
+
+    /**
+     * 주어진 Fingerprint 중 지정 상태의 Task가 이미 존재하는 Fingerprint 조회 (set-based)
+     *
+     * <p>후속 Task 일괄 생성 시 건별 exists 쿼리 대신 단일 쿼리로 중복 여부를 판정하기 위해 사용합니다.
+     *
+     * @param fingerprints 확인할 엔드포인트 Fingerprint 목록
+     * @param statuses 확인할 상태 목록
+     * @return 이미 존재하는 Fingerprint 집합
      */
-    boolean existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-            CrawlSchedulerId crawlSchedulerId,
-            CrawlTaskType taskType,
-            String endpointPath,
-            String endpointQueryParams,
-            List<CrawlTaskStatus> statuses);
+    Set<CrawlTaskFingerprint> findExistingFingerprints(
+            Collection<CrawlTaskFingerprint> fingerprints, List<CrawlTaskStatus> statuses);
 
     /**
      * 조건으로 CrawlTask 목록 조회
@@ -3,8 +3,8 @@ package com.ryuqq.crawlinghub.application.task.service.command;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.common.metric.annotation.BatchMetric;
 import com.ryuqq.crawlinghub.application.task.dto.command.ProcessPendingCrawlTaskOutboxCommand;
+import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskOutboxClaimFacade;
 import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskOutboxProcessor;
-import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxReadManager;
 import com.ryuqq.crawlinghub.application.task.port.in.command.ProcessPendingCrawlTaskOutboxUseCase;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
 import java.util.List;
@@ -15,6 +15,11 @@ import org.springframework.stereotype.Service;
 /**
  * PENDING 상태의 CrawlTask 아웃박스 처리 Service
  *
+ * <p>PENDING Outbox를 FOR UPDATE SKIP LOCKED로 선점(PROCESSING 전환)한 뒤 커밋하고, 선점한 배치만 발행합니다. 여러
+ * 스케줄러 인스턴스가 동시에 실행되어도 같은 Outbox를 중복 발행하지 않습니다.
+ *
+ * <p>선점한 배치는 SQS SendMessageBatch로 묶어 발행하며, 항목별로 실패한 Outbox만 FAILED로 전환됩니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -24,12 +29,12 @@ public class ProcessPendingCrawlTaskOutboxService implements ProcessPendingCrawl
     private static final Logger log =
             LoggerFactory.getLogger(ProcessPendingCrawlTaskOutboxService.class);
 
-    private final CrawlTaskOutboxReadManager outboxReadManager;
+    private final CrawlTaskOutboxClaimFacade claimFacade;
     private final CrawlTaskOutboxProcessor processor;
 
     public ProcessPendingCrawlTaskOutboxService(
-            CrawlTaskOutboxReadManager outboxReadManager, CrawlTaskOutboxProcessor processor) {
-        this.outboxReadManager = outboxReadManager;
+            CrawlTaskOutboxClaimFacade claimFacade, CrawlTaskOutboxProcessor processor) {
+        this.claimFacade = claimFacade;
         this.processor = processor;
     }
 
@@ -37,7 +42,7 @@ public class ProcessPendingCrawlTaskOutboxService implements ProcessPendingCrawl
     @Override
     public SchedulerBatchProcessingResult execute(ProcessPendingCrawlTaskOutboxCommand command) {
         List<CrawlTaskOutbox> outboxes =
-                outboxReadManager.findPendingOlderThan(command.batchSize(), command.delaySeconds());
+                claimFacade.claimPendingOlderThan(command.batchSize(), command.delaySeconds());
 
         if (outboxes.isEmpty()) {
             return SchedulerBatchProcessingResult.empty();
@@ -45,19 +50,9 @@ public class ProcessPendingCrawlTaskOutboxService implements ProcessPendingCrawl
 
         log.info("CrawlTask 아웃박스 처리 시작: {} 건", outboxes.size());
 
-        int success = 0;
-        int failed = 0;
-
-        for (CrawlTaskOutbox outbox : outboxes) {
-            boolean result = processor.processOutbox(outbox);
-            if (result) {
-                success++;
-            } else {
-                failed++;
-            }
-        }
+        SchedulerBatchProcessingResult result = processor.processOutboxes(outboxes);
 
-        log.info("CrawlTask 아웃박스 처리 완료: 성공={}, 실패={}", success, failed);
-        return SchedulerBatchProcessingResult.of(outboxes.size(), success, failed);
+        log.info("CrawlTask 아웃박스 처리 완료: 성공={}, 실패={}", result.success(), result.failed());
+        return result;
     }
 }
@@ -1,7 +1,7 @@
 package com.ryuqq.crawlinghub.application.task.service.command;
 
 import com.ryuqq.crawlinghub.application.common.metric.annotation.CrawlMetric;
-import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerCacheReadManager;
 import com.ryuqq.crawlinghub.application.task.dto.bundle.CrawlTaskBundle;
 import com.ryuqq.crawlinghub.application.task.dto.command.TriggerCrawlTaskCommand;
 import com.ryuqq.crawlinghub.application.task.factory.command.CrawlTaskCommandFactory;
@@ -26,17 +26,17 @@ public class TriggerCrawlTaskService implements TriggerCrawlTaskUseCase {
     private final CrawlTaskPersistenceValidator validator;
     private final CrawlTaskCommandFactory commandFactory;
     private final CrawlTaskCommandFacade coordinator;
-    private final SellerReadManager sellerReadManager;
+    private final SellerCacheReadManager sellerCacheReadManager;
 
     public TriggerCrawlTaskService(
             CrawlTaskPersistenceValidator validator,
             CrawlTaskCommandFactory commandFactory,
             CrawlTaskCommandFacade coordinator,
-            SellerReadManager sellerReadManager) {
+            SellerCacheReadManager sellerCacheReadManager) {
         this.validator = validator;
         this.commandFactory = commandFactory;
         this.coordinator = coordinator;
-        this.sellerReadManager = sellerReadManager;
+        this.sellerCacheReadManager = sellerCacheReadManager;
     }
 
     @CrawlMetric(value = "crawl_task", operation = "trigger")
@@ -49,7 +49,7 @@ public class TriggerCrawlTaskService implements TriggerCrawlTaskUseCase {
 
         // 2. Seller 조회
         Seller seller =
-                sellerReadManager
+                sellerCacheReadManager
                         .findById(scheduler.getSellerId())
                         .orElseThrow(
                                 () -> new SellerNotFoundException(scheduler.getSellerIdValue()));
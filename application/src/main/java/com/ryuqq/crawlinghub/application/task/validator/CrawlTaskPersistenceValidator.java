@@ -1,13 +1,17 @@
 package com.ryuqq.crawlinghub.application.task.validator;
 
-import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerReadManager;
+import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerCacheReadManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskReadManager;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.exception.DuplicateCrawlTaskException;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlEndpoint;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -30,13 +34,13 @@ public class CrawlTaskPersistenceValidator {
 
     private static final Logger log = LoggerFactory.getLogger(CrawlTaskPersistenceValidator.class);
 
-    private final CrawlSchedulerReadManager crawlSchedulerReadManager;
+    private final CrawlSchedulerCacheReadManager crawlSchedulerCacheReadManager;
     private final CrawlTaskReadManager crawlTaskReadManager;
 
     public CrawlTaskPersistenceValidator(
-            CrawlSchedulerReadManager crawlSchedulerReadManager,
+            CrawlSchedulerCacheReadManager crawlSchedulerCacheReadManager,
             CrawlTaskReadManager crawlTaskReadManager) {
-        this.crawlSchedulerReadManager = crawlSchedulerReadManager;
+        this.crawlSchedulerCacheReadManager = crawlSchedulerCacheReadManager;
         this.crawlTaskReadManager = crawlTaskReadManager;
     }
 
@@ -50,7 +54,7 @@ public class CrawlTaskPersistenceValidator {
      * @return 검증된 CrawlScheduler
      */
     public CrawlScheduler findAndValidateScheduler(CrawlSchedulerId crawlSchedulerId) {
-        CrawlScheduler scheduler = crawlSchedulerReadManager.getById(crawlSchedulerId);
+        CrawlScheduler scheduler = crawlSchedulerCacheReadManager.getById(crawlSchedulerId);
         scheduler.validateActive();
         return scheduler;
     }
@@ -61,6 +65,9 @@ public class CrawlTaskPersistenceValidator {
      * <p>동일 스케줄러 내에서도 태스크 타입과 엔드포인트 조합이 다르면 별개의 태스크입니다. 예를 들어, 같은 스케줄러에서 SEARCH 태스크가 진행 중이더라도
      * DETAIL 태스크는 새로 생성 가능합니다.
      *
+     * <p>스케줄러 ID + 태스크 유형 + 엔드포인트 조합의 {@link CrawlTaskFingerprint}로 (endpoint_fingerprint, status)
+     * 인덱스를 조회합니다.
+     *
      * <p><strong>비종료 상태만 체크</strong>:
      *
      * <ul>
@@ -75,12 +82,8 @@ public class CrawlTaskPersistenceValidator {
         CrawlEndpoint endpoint = crawlTask.getEndpoint();
 
         boolean exists =
-                crawlTaskReadManager.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                        crawlTask.getCrawlSchedulerId(),
-                        crawlTask.getTaskType(),
-                        endpoint.path(),
-                        endpoint.toQueryParamsJson(),
-                        CrawlTaskStatus.nonTerminalStatuses());
+                crawlTaskReadManager.existsAny(
+                        List.of(crawlTask.getFingerprint()), CrawlTaskStatus.nonTerminalStatuses());
 
         if (exists) {
             log.warn(
@@ -102,4 +105,32 @@ public class CrawlTaskPersistenceValidator {
                 crawlTask.getTaskType(),
                 endpoint.path());
     }
+
+    /**
+     * 진행 중인 Task가 이미 존재하는 Fingerprint 일괄 조회 (set-based)
+     *
+     * <p>{@link #validateNoDuplicateTask(CrawlTask)}와 동일한 기준(비종료 상태)으로 판정하되, 건별 exists 쿼리 대신 단일
+     * 쿼리로 목록 전체를 확인합니다. 반환된 키에 해당하는 Task는 중복으로 간주해야 합니다.
+     *
+     * @param crawlTasks 검증할 CrawlTask 목록
+     * @return 이미 진행 중인 Task가 존재하는 Fingerprint 집합
+     */
+    public Set<CrawlTaskFingerprint> findOccupiedFingerprints(List<CrawlTask> crawlTasks) {
+        if (crawlTasks.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<CrawlTaskFingerprint> fingerprints = new LinkedHashSet<>();
+        for (CrawlTask crawlTask : crawlTasks) {
+            fingerprints.add(crawlTask.getFingerprint());
+        }
+
+        Set<CrawlTaskFingerprint> occupied =
+                crawlTaskReadManager.findExistingFingerprints(
+                        fingerprints, CrawlTaskStatus.nonTerminalStatuses());
+
+        log.debug(
+                "중복 Task 일괄 검증: requested={}, occupied={}", fingerprints.size(), occupied.size());
+        return occupied;
+    }
 }
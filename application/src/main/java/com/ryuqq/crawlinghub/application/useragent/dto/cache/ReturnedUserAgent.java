@@ -0,0 +1,65 @@
+package com.ryuqq.crawlinghub.application.useragent.dto.cache;
+
+/**
+ * 일괄 반납(returnAgents)에 전달하는 반납 항목 DTO.
+ *
+ * <p>크롤링에 사용한 UserAgent는 결과(성공 여부, 상태 코드 등)와 함께 반납하고, borrow-ahead로 미리 빌렸지만 사용하지 않은
+ * UserAgent는 {@link #unused(long)}로 반납하여 소비했던 토큰을 돌려받습니다.
+ *
+ * @param userAgentId UserAgent ID
+ * @param used 크롤링에 사용했는지 여부 (false면 미사용 반납)
+ * @param success 성공 여부
+ * @param httpStatusCode HTTP 상태 코드
+ * @param healthDelta Health Score 변경량
+ * @param cooldownUntil COOLDOWN 만료 시각 (epoch millis, nullable)
+ * @param consecutiveRateLimits 연속 429 횟수
+ * @author development-team
+ * @since 1.0.0
+ */
+public record ReturnedUserAgent(
+        long userAgentId,
+        boolean used,
+        boolean success,
+        int httpStatusCode,
+        int healthDelta,
+        Long cooldownUntil,
+        int consecutiveRateLimits) {
+
+    /**
+     * 크롤링에 사용한 UserAgent 반납 항목 생성
+     *
+     * @param userAgentId UserAgent ID
+     * @param success 성공 여부
+     * @param httpStatusCode HTTP 상태 코드
+     * @param healthDelta Health Score 변경량
+     * @param cooldownUntil COOLDOWN 만료 시각 (epoch millis, nullable)
+     * @param consecutiveRateLimits 연속 429 횟수
+     * @return ReturnedUserAgent
+     */
+    public static ReturnedUserAgent of(
+            long userAgentId,
+            boolean success,
+            int httpStatusCode,
+            int healthDelta,
+            Long cooldownUntil,
+            int consecutiveRateLimits) {
+        return new ReturnedUserAgent(
+                userAgentId,
+                true,
+                success,
+                httpStatusCode,
+                healthDelta,
+                cooldownUntil,
+                consecutiveRateLimits);
+    }
+
+    /**
+     * 사용하지 않은 UserAgent 반납 항목 생성 (Health/연속 429 변경 없음, 토큰 환불)
+     *
+     * @param userAgentId UserAgent ID
+     * @return ReturnedUserAgent
+     */
+    public static ReturnedUserAgent unused(long userAgentId) {
+        return new ReturnedUserAgent(userAgentId, false, true, 0, 0, null, 0);
+    }
+}
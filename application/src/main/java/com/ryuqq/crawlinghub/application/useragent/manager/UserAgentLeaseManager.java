@@ -0,0 +1,298 @@
+package com.ryuqq.crawlinghub.application.useragent.manager;
+
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserAgent Lease Manager (워커 로컬 borrow-ahead 버퍼)
+ *
+ * <p>Redis Pool과 크롤러 사이에서 UserAgent를 일괄로 빌리고 일괄로 반납하여 크롤링 1건당 Redis 왕복(borrow 스크립트 + HGETALL +
+ * return 스크립트)을 줄입니다.
+ *
+ * <p><strong>Borrow</strong>: 로컬 버퍼에 남은 lease를 먼저 사용하고, 비어 있을 때만 한 번의 스크립트 호출로 여러 개를 빌립니다. 빌리는
+ * 개수는 refill을 기다리는 스레드 수에 맞춰 {@value #MIN_LEASE_BATCH_SIZE}~{@value #MAX_LEASE_BATCH_SIZE}개로 조절합니다.
+ *
+ * <p><strong>Return</strong>: 반납 요청을 큐에 넣고, 먼저 락을 잡은 스레드가 그동안 쌓인 반납을 한 번의 스크립트 호출로 처리합니다
+ * (group commit). 별도 타이머 없이 호출 스레드가 결과를 받을 때까지 대기하므로 반납 결과(SUSPENDED 등)는 기존과 같이 즉시 확인됩니다.
+ *
+ * <p><strong>Token Bucket / Leak Detection</strong>:
+ *
+ * <ul>
+ *   <li>버퍼의 lease는 Redis에서 이미 BORROWED(토큰 1개 차감) 상태이므로 로컬 hand-out은 토큰 규칙을 우회하지 않습니다.
+ *   <li>{@link #MAX_LEASE_AGE}보다 오래 버퍼에 머문 lease와 세션이 만료된 lease는 사용하지 않고 반납하여 토큰을 환불합니다. 이
+ *       값은 Leak 판정 기준(60초)보다 충분히 짧아 정상 lease가 Leak으로 회수되지 않습니다.
+ *   <li>borrow가 끊겨 버퍼를 꺼내는 스레드가 없어도 전용 타이머가 {@link #SWEEP_INTERVAL}마다 만료된 lease를 반납하므로
+ *       (HikariCP housekeeper와 같은 방식) 워커가 유휴 상태일 때 다른 워커의 가용 UserAgent를 붙잡지 않습니다.
+ *   <li>Leak 복구로 이미 회수된 lease의 미사용 반납은 Redis 상태를 바꾸지 않습니다.
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserAgentLeaseManager {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAgentLeaseManager.class);
+
+    /** 한 번에 빌리는 최소 개수 (1개는 즉시 사용, 나머지는 버퍼) */
+    static final int MIN_LEASE_BATCH_SIZE = 2;
+
+    /** 한 번에 빌리는 최대 개수 */
+    static final int MAX_LEASE_BATCH_SIZE = 8;
+
+    /** 버퍼 lease 최대 보관 시간 (Leak 판정 기준보다 충분히 짧게 유지) */
+    static final Duration MAX_LEASE_AGE = Duration.ofSeconds(5);
+
+    /** 한 번의 스크립트 호출로 처리하는 최대 반납 수 */
+    static final int MAX_RETURN_BATCH_SIZE = 32;
+
+    /** 만료 lease 정리 주기 (lease는 최대 MAX_LEASE_AGE + SWEEP_INTERVAL 동안만 버퍼에 머무름) */
+    static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final UserAgentPoolCacheCommandManager cacheCommandManager;
+    private final TimeProvider timeProvider;
+
+    private final Deque<Lease> leases = new ConcurrentLinkedDeque<>();
+    private final Queue<PendingReturn> pendingReturns = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private ScheduledExecutorService sweeper;
+
+    public UserAgentLeaseManager(
+            UserAgentPoolCacheCommandManager cacheCommandManager, TimeProvider timeProvider) {
+        this.cacheCommandManager = cacheCommandManager;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 로컬 버퍼에서 lease 꺼내기 (Redis 호출 없음)
+     *
+     * <p>오래되었거나 세션이 만료된 lease는 미사용 반납으로 돌립니다.
+     *
+     * @return 사용 가능한 UserAgent (버퍼가 비었으면 empty)
+     */
+    public Optional<CachedUserAgent> pollLease() {
+        Instant now = timeProvider.now();
+        boolean released = false;
+        Lease lease;
+        try {
+            while ((lease = leases.pollFirst()) != null) {
+                if (lease.isUsable(now)) {
+                    return Optional.of(lease.userAgent());
+                }
+                enqueueUnused(lease.userAgent());
+                released = true;
+            }
+            return Optional.empty();
+        } finally {
+            if (released) {
+                drainReturns();
+            }
+        }
+    }
+
+    /**
+     * 버퍼에서 만료된 lease를 모두 미사용 반납 (타이머에서 주기적으로 호출)
+     *
+     * <p>{@link #pollLease()}와 달리 버퍼 앞쪽만 보지 않고 전체를 확인하며, 같은 lease를 다른 스레드가 먼저 꺼내간 경우에는
+     * 건너뜁니다.
+     *
+     * @return 반납한 lease 수
+     */
+    public int releaseExpiredLeases() {
+        Instant now = timeProvider.now();
+        int count = 0;
+        for (Lease lease : leases) {
+            if (!lease.isUsable(now) && leases.removeFirstOccurrence(lease)) {
+                enqueueUnused(lease.userAgent());
+                count++;
+            }
+        }
+        if (count > 0) {
+            drainReturns();
+            log.debug("만료된 UserAgent lease 반납: {} 건", count);
+        }
+        return count;
+    }
+
+    /**
+     * Redis에서 일괄 borrow 후 하나를 반환하고 나머지는 버퍼에 보관
+     *
+     * <p>refill은 한 스레드만 수행하며, 락을 기다린 스레드는 먼저 채워진 버퍼를 사용합니다.
+     *
+     * @return borrow된 UserAgent (Pool에 사용 가능한 UserAgent가 없으면 empty)
+     */
+    public Optional<CachedUserAgent> refillAndTake() {
+        refillLock.lock();
+        try {
+            Optional<CachedUserAgent> buffered = pollLease();
+            if (buffered.isPresent()) {
+                return buffered;
+            }
+
+            List<CachedUserAgent> borrowed = cacheCommandManager.borrowBatch(nextBatchSize());
+            if (borrowed.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Instant leasedAt = timeProvider.now();
+            for (CachedUserAgent userAgent : borrowed.subList(1, borrowed.size())) {
+                leases.addLast(new Lease(userAgent, leasedAt));
+            }
+            return Optional.of(borrowed.get(0));
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * UserAgent 반납 (group commit)
+     *
+     * <p>다른 스레드가 반납을 처리 중이면 그 다음 일괄 반납에 포함되어 처리될 때까지 대기합니다.
+     *
+     * @param returned 반납 항목
+     * @return 전환된 상태 코드 (0: IDLE, 1: COOLDOWN, 2: SUSPENDED, -1: 변경 없음)
+     * @throws RuntimeException Redis 일괄 반납 실패 시
+     */
+    public int returnAgent(ReturnedUserAgent returned) {
+        PendingReturn pending = new PendingReturn(returned);
+        pendingReturns.add(pending);
+        drainReturns();
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 만료 lease 정리 타이머 시작 */
+    @PostConstruct
+    void startSweeper() {
+        sweeper =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("useragent-lease-sweeper").daemon(true).factory());
+        long intervalMillis = SWEEP_INTERVAL.toMillis();
+        sweeper.scheduleWithFixedDelay(
+                this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 타이머 중지 후 버퍼에 남은 lease 반납 (종료 시) */
+    @PreDestroy
+    void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        releaseAll();
+    }
+
+    /**
+     * 버퍼에 남은 lease를 모두 미사용 반납
+     *
+     * @return 반납한 lease 수
+     */
+    public int releaseAll() {
+        int count = 0;
+        Lease lease;
+        while ((lease = leases.pollFirst()) != null) {
+            enqueueUnused(lease.userAgent());
+            count++;
+        }
+        drainReturns();
+        if (count > 0) {
+            log.info("버퍼에 남은 UserAgent lease 반납: {} 건", count);
+        }
+        return count;
+    }
+
+    private void sweep() {
+        try {
+            releaseExpiredLeases();
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 실행이 취소되므로 로그만 남기고 다음 주기에 재시도
+            log.warn("만료된 UserAgent lease 정리 실패", e);
+        }
+    }
+
+    private int nextBatchSize() {
+        int waiting = refillLock.getQueueLength();
+        return Math.min(MAX_LEASE_BATCH_SIZE, MIN_LEASE_BATCH_SIZE + waiting);
+    }
+
+    private void enqueueUnused(CachedUserAgent userAgent) {
+        pendingReturns.add(new PendingReturn(ReturnedUserAgent.unused(userAgent.userAgentId())));
+    }
+
+    private void drainReturns() {
+        while (!pendingReturns.isEmpty() && flushLock.tryLock()) {
+            try {
+                flushReturns();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void flushReturns() {
+        List<PendingReturn> batch = new ArrayList<>();
+        PendingReturn pending;
+        while (batch.size() < MAX_RETURN_BATCH_SIZE && (pending = pendingReturns.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Integer> codes =
+                    cacheCommandManager.returnAgents(
+                            batch.stream().map(PendingReturn::returned).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(codes.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("UserAgent 일괄 반납 실패: count={}", batch.size(), e);
+            batch.forEach(failed -> failed.result().completeExceptionally(e));
+        }
+    }
+
+    /** 버퍼에 보관 중인 lease */
+    private record Lease(CachedUserAgent userAgent, Instant leasedAt) {
+
+        boolean isUsable(Instant now) {
+            return now.isBefore(leasedAt.plus(MAX_LEASE_AGE)) && !userAgent.isSessionExpired(now);
+        }
+    }
+
+    /** 처리 대기 중인 반납 */
+    private record PendingReturn(ReturnedUserAgent returned, CompletableFuture<Integer> result) {
+
+        PendingReturn(ReturnedUserAgent returned) {
+            this(returned, new CompletableFuture<>());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.crawlinghub.application.useragent.manager;
 
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.port.out.command.UserAgentPoolCacheCommandPort;
 import com.ryuqq.crawlinghub.domain.useragent.id.UserAgentId;
 import java.time.Instant;
@@ -60,10 +61,6 @@ public class UserAgentPoolCacheCommandManager {
         return commandPort.warmUp(cachedUserAgents);
     }
 
-    public Optional<CachedUserAgent> borrow() {
-        return commandPort.borrow();
-    }
-
     public int returnAgent(
             long userAgentId,
             boolean success,
@@ -80,6 +77,14 @@ public class UserAgentPoolCacheCommandManager {
                 consecutiveRateLimits);
     }
 
+    public List<CachedUserAgent> borrowBatch(int maxCount) {
+        return commandPort.borrowBatch(maxCount);
+    }
+
+    public List<Integer> returnAgents(List<ReturnedUserAgent> returns) {
+        return commandPort.returnAgents(returns);
+    }
+
     public int recoverExpiredCooldowns() {
         return commandPort.recoverExpiredCooldowns();
     }
@@ -88,6 +93,10 @@ public class UserAgentPoolCacheCommandManager {
         return commandPort.detectLeakedAgents(leakThresholdMillis);
     }
 
+    public int migrateLegacyIdleSet() {
+        return commandPort.migrateLegacyIdleSet();
+    }
+
     public boolean isPoolInitialized() {
         return commandPort.isPoolInitialized();
     }
@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.useragent.manager;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.BorrowedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.validator.UserAgentPoolValidator;
 import com.ryuqq.crawlinghub.domain.useragent.aggregate.UserAgent;
 import com.ryuqq.crawlinghub.domain.useragent.exception.NoAvailableUserAgentException;
@@ -24,7 +25,8 @@ import org.springframework.stereotype.Component;
  * <p><strong>주요 기능</strong>:
  *
  * <ul>
- *   <li>borrow / returnAgent (HikariCP getConnection/close 패턴)
+ *   <li>borrow / returnAgent (HikariCP getConnection/close 패턴, {@link UserAgentLeaseManager}로
+ *       일괄 처리)
  *   <li>토큰 소비 (consume) - 하위 호환용, 내부적으로 borrow 위임
  *   <li>결과 기록 (recordResult)
  *   <li>SUSPENDED UserAgent 복구
@@ -40,6 +42,7 @@ public class UserAgentPoolManager {
 
     private final UserAgentPoolValidator poolValidator;
     private final UserAgentPoolCacheCommandManager cacheCommandManager;
+    private final UserAgentLeaseManager leaseManager;
     private final UserAgentPoolCacheStateManager cacheStateManager;
     private final UserAgentPoolCacheQueryManager cacheQueryManager;
     private final UserAgentReadManager readManager;
@@ -48,12 +51,14 @@ public class UserAgentPoolManager {
     public UserAgentPoolManager(
             UserAgentPoolValidator poolValidator,
             UserAgentPoolCacheCommandManager cacheCommandManager,
+            UserAgentLeaseManager leaseManager,
             UserAgentPoolCacheStateManager cacheStateManager,
             UserAgentPoolCacheQueryManager cacheQueryManager,
             UserAgentReadManager readManager,
             UserAgentCommandManager transactionManager) {
         this.poolValidator = poolValidator;
         this.cacheCommandManager = cacheCommandManager;
+        this.leaseManager = leaseManager;
         this.cacheStateManager = cacheStateManager;
         this.cacheQueryManager = cacheQueryManager;
         this.readManager = readManager;
@@ -64,8 +69,9 @@ public class UserAgentPoolManager {
      * UserAgent borrow (HikariCP getConnection() 대응)
      *
      * <ol>
-     *   <li>Circuit Breaker 체크 (Validator)
-     *   <li>Redis에서 IDLE -> BORROWED 전환 (Lua Script)
+     *   <li>Circuit Breaker 체크 (Validator) - 버퍼 hit 여부와 무관하게 항상 먼저 수행
+     *   <li>로컬 lease 버퍼에 남은 UserAgent가 있으면 사용
+     *   <li>버퍼가 비었으면 Redis에서 여러 개를 IDLE -> BORROWED 전환 (Lua Script) 후 하나 사용, 나머지는 버퍼에 보관
      * </ol>
      *
      * @return BorrowedUserAgent (크롤링에 필요한 최소 정보)
@@ -73,15 +79,18 @@ public class UserAgentPoolManager {
      */
     public BorrowedUserAgent borrow() {
         poolValidator.validateAvailability();
-        CachedUserAgent cached =
-                cacheCommandManager.borrow().orElseThrow(NoAvailableUserAgentException::new);
-        return BorrowedUserAgent.from(cached);
+        return leaseManager
+                .pollLease()
+                .or(leaseManager::refillAndTake)
+                .map(BorrowedUserAgent::from)
+                .orElseThrow(NoAvailableUserAgentException::new);
     }
 
     /**
      * UserAgent 반납 (HikariCP connection.close() 대응)
      *
-     * <p>크롤링 결과에 따라 BORROWED -> IDLE/COOLDOWN/SUSPENDED 전환
+     * <p>크롤링 결과에 따라 BORROWED -> IDLE/COOLDOWN/SUSPENDED 전환. 동시에 들어온 반납은 {@link
+     * UserAgentLeaseManager}가 한 번의 Lua Script 호출로 묶어 처리합니다.
      *
      * @param userAgentId UserAgent ID
      * @param success 성공 여부
@@ -103,13 +112,14 @@ public class UserAgentPoolManager {
 
         try {
             int result =
-                    cacheCommandManager.returnAgent(
-                            userAgentId,
-                            success,
-                            httpStatusCode,
-                            healthDelta,
-                            cooldownUntil,
-                            newConsecutive);
+                    leaseManager.returnAgent(
+                            ReturnedUserAgent.of(
+                                    userAgentId,
+                                    success,
+                                    httpStatusCode,
+                                    healthDelta,
+                                    cooldownUntil,
+                                    newConsecutive));
 
             if (result == 2) {
                 syncSuspendedToDb(userAgentId, httpStatusCode);
@@ -0,0 +1,23 @@
+package com.ryuqq.crawlinghub.application.useragent.port.in.query;
+
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+
+/**
+ * Get UserAgent Pool Stats Use Case
+ *
+ * <p>UserAgent Pool 상태 통계 조회 UseCase (Port In)
+ *
+ * <p><strong>책임:</strong> Redis Pool의 상태별 UserAgent 수 조회 (워커 동시성 상한 산정 등에 사용)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetUserAgentPoolStatsUseCase {
+
+    /**
+     * Pool 통계 조회 실행
+     *
+     * @return Pool 상태 통계
+     */
+    PoolStats execute();
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.crawlinghub.application.useragent.port.out.command;
 
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.domain.useragent.id.UserAgentId;
 import java.time.Instant;
 import java.util.List;
@@ -88,15 +89,6 @@ public interface UserAgentPoolCacheCommandPort {
      */
     int warmUp(List<CachedUserAgent> cachedUserAgents);
 
-    /**
-     * UserAgent borrow (IDLE -> BORROWED, Lua Script atomic)
-     *
-     * <p>IDLE 상태 + tokens > 0인 UserAgent를 선택하고 BORROWED 상태로 전환합니다.
-     *
-     * @return borrow된 UserAgent (없으면 empty)
-     */
-    Optional<CachedUserAgent> borrow();
-
     /**
      * UserAgent 반납 (BORROWED -> IDLE/COOLDOWN/SUSPENDED, Lua Script atomic)
      *
@@ -124,6 +116,34 @@ public interface UserAgentPoolCacheCommandPort {
             Long cooldownUntil,
             int consecutiveRateLimits);
 
+    /**
+     * UserAgent 일괄 borrow (IDLE -> BORROWED, Lua Script atomic)
+     *
+     * <p>IDLE 상태 + tokens > 0인 UserAgent를 세션 만료 체크, Token Bucket Lazy Refill, 토큰 1개 차감 규칙으로 최대
+     * maxCount개까지 한 번의 스크립트 호출로 전환하고, 전환된 UserAgent의 Hash 데이터를 함께 반환합니다.
+     *
+     * @param maxCount 최대 borrow 개수
+     * @return borrow된 UserAgent 목록 (없으면 빈 목록)
+     */
+    List<CachedUserAgent> borrowBatch(int maxCount);
+
+    /**
+     * UserAgent 일괄 반납 (Lua Script atomic)
+     *
+     * <p>사용한 항목은 {@link #returnAgent}와 같은 규칙으로 전환하고, 미사용 항목은 토큰을 환불한 뒤 IDLE로 복귀시킵니다.
+     *
+     * <ul>
+     *   <li>0: IDLE로 복귀
+     *   <li>1: COOLDOWN으로 전환
+     *   <li>2: SUSPENDED로 전환
+     *   <li>-1: 미사용 항목이 이미 BORROWED가 아님 (Leak 복구 등으로 먼저 반납됨, 변경 없음)
+     * </ul>
+     *
+     * @param returns 반납 항목 목록
+     * @return 항목 순서대로의 상태 코드
+     */
+    List<Integer> returnAgents(List<ReturnedUserAgent> returns);
+
     /**
      * COOLDOWN 만료 일괄 복구 (Housekeeper용)
      *
@@ -143,6 +163,15 @@ public interface UserAgentPoolCacheCommandPort {
      */
     List<Long> detectLeakedAgents(long leakThresholdMillis);
 
+    /**
+     * 레거시 IDLE 저장 구조를 현재 구조로 이관
+     *
+     * <p>이관할 데이터가 없으면 아무것도 하지 않으므로 WarmUp마다 호출해도 안전합니다.
+     *
+     * @return 이관된 UserAgent 수
+     */
+    int migrateLegacyIdleSet();
+
     /**
      * Pool WarmUp 완료 여부 확인
      *
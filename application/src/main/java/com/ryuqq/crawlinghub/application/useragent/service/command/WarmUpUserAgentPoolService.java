@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
  * <p><strong>WarmUp 흐름</strong>:
  *
  * <ol>
+ *   <li>레거시 IDLE Set이 남아 있으면 IDLE Sorted Set으로 이관 (완료 플래그와 무관하게 매번 시도)
  *   <li>Redis에 WarmUp 완료 플래그 확인 (이미 완료 → skip)
  *   <li>Redis Pool에 데이터 존재 여부 확인 (이미 있음 → skip + 플래그 설정)
  *   <li>SETNX로 분산 락 획득 시도 (다른 인스턴스가 진행 중 → skip)
@@ -48,6 +49,8 @@ public class WarmUpUserAgentPoolService implements WarmUpUserAgentPoolUseCase {
 
     @Override
     public int execute() {
+        migrateLegacyIdleSet();
+
         if (cacheCommandManager.isPoolInitialized()) {
             log.info("[WarmUp] 이미 초기화 완료 → skip");
             return 0;
@@ -82,4 +85,15 @@ public class WarmUpUserAgentPoolService implements WarmUpUserAgentPoolUseCase {
             return 0;
         }
     }
+
+    private void migrateLegacyIdleSet() {
+        try {
+            int migrated = cacheCommandManager.migrateLegacyIdleSet();
+            if (migrated > 0) {
+                log.info("[WarmUp] 레거시 IDLE Set 이관: {}건", migrated);
+            }
+        } catch (Exception e) {
+            log.error("[WarmUp] 레거시 IDLE Set 이관 실패", e);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.ryuqq.crawlinghub.application.useragent.service.query;
+
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.manager.UserAgentPoolCacheQueryManager;
+import com.ryuqq.crawlinghub.application.useragent.port.in.query.GetUserAgentPoolStatsUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * UserAgent Pool 통계 조회 UseCase 구현체
+ *
+ * <p><strong>책임</strong>: CacheQueryManager를 통한 Redis Pool 통계 조회
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetUserAgentPoolStatsService implements GetUserAgentPoolStatsUseCase {
+
+    private final UserAgentPoolCacheQueryManager cacheQueryManager;
+
+    public GetUserAgentPoolStatsService(UserAgentPoolCacheQueryManager cacheQueryManager) {
+        this.cacheQueryManager = cacheQueryManager;
+    }
+
+    @Override
+    public PoolStats execute() {
+        return cacheQueryManager.getPoolStats();
+    }
+}
@@ -66,4 +66,27 @@ class LockTypeTest {
             assertThat(lockKey).isEqualTo("task:abc-123");
         }
     }
+
+    @Nested
+    @DisplayName("SCHEDULER_JOB 테스트")
+    class SchedulerJob {
+
+        @Test
+        @DisplayName("[성공] 락 키 생성")
+        void shouldBuildKeyWithJobName() {
+            // When
+            String lockKey = LockType.SCHEDULER_JOB.buildKey("CrawlTaskOutbox-PublishPending");
+
+            // Then
+            assertThat(lockKey).isEqualTo("scheduler:CrawlTaskOutbox-PublishPending");
+        }
+
+        @Test
+        @DisplayName("[성공] 고정 유지 시간 없이 watchdog으로 연장")
+        void shouldUseWatchdog() {
+            // Then
+            assertThat(LockType.SCHEDULER_JOB.usesWatchdog()).isTrue();
+            assertThat(LockType.CRAWL_TASK.usesWatchdog()).isFalse();
+        }
+    }
 }
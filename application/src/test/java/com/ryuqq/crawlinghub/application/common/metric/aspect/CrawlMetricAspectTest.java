@@ -10,6 +10,8 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -177,4 +179,59 @@ class CrawlMetricAspectTest {
             assertThat(successCounter).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("around() 메서드 테스트 - 비동기 반환")
+    class AroundAsyncTest {
+
+        @Test
+        @DisplayName("[성공] CompletableFuture 반환 시 완료 시점에 success 메트릭을 기록한다")
+        void shouldRecordSuccessWhenFutureCompletes() throws Throwable {
+            // Given
+            given(crawlMetric.value()).willReturn("crawl_task");
+            given(crawlMetric.operation()).willReturn("execute");
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            given(joinPoint.proceed()).willReturn(pending);
+
+            // When
+            Object result = sut.around(joinPoint, crawlMetric);
+
+            // Then
+            assertThat(result).isSameAs(pending);
+            assertThat(meterRegistry.find("crawlinghub.crawl_task_total").counter()).isNull();
+
+            pending.complete(null);
+            Counter counter =
+                    meterRegistry
+                            .find("crawlinghub.crawl_task_total")
+                            .tags("operation", "execute", "outcome", "success")
+                            .counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("[실패] CompletableFuture가 예외로 완료되면 원인 예외로 error 메트릭을 기록한다")
+        void shouldRecordErrorWhenFutureFails() throws Throwable {
+            // Given
+            given(crawlMetric.value()).willReturn("crawl_task");
+            given(crawlMetric.operation()).willReturn("execute");
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            given(joinPoint.proceed()).willReturn(pending);
+
+            // When
+            sut.around(joinPoint, crawlMetric);
+            pending.completeExceptionally(
+                    new CompletionException(new IllegalStateException("비동기 실패")));
+
+            // Then
+            Counter errorsTotal =
+                    meterRegistry
+                            .find("crawlinghub.crawl_task_errors_total")
+                            .tags("operation", "execute", "exception", "IllegalStateException")
+                            .counter();
+            assertThat(errorsTotal).isNotNull();
+            assertThat(errorsTotal.count()).isEqualTo(1.0);
+        }
+    }
 }
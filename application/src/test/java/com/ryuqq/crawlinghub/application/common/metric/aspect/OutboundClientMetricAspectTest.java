@@ -10,6 +10,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -179,4 +180,72 @@ class OutboundClientMetricAspectTest {
             assertThat(successCounter).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("around() 메서드 테스트 - 비동기(CompletableFuture) 케이스")
+    class AroundAsyncTest {
+
+        @Test
+        @DisplayName("[성공] Future 완료 전에는 기록하지 않고, 정상 완료 시 success 메트릭을 기록한다")
+        void shouldRecordSuccessMetricsWhenFutureCompletes() throws Throwable {
+            // Given
+            given(outboundClientMetric.system()).willReturn("http_crawl");
+            given(outboundClientMetric.operation()).willReturn("get_async");
+            CompletableFuture<String> future = new CompletableFuture<>();
+            given(joinPoint.proceed()).willReturn(future);
+
+            // When
+            Object result = sut.around(joinPoint, outboundClientMetric);
+
+            // Then
+            assertThat(meterRegistry.find("crawlinghub.outbound_client_total").counter())
+                    .isNull();
+
+            future.complete("response");
+            assertThat(((CompletableFuture<?>) result).join()).isEqualTo("response");
+
+            Counter counter =
+                    meterRegistry
+                            .find("crawlinghub.outbound_client_total")
+                            .tags(
+                                    "system", "http_crawl",
+                                    "operation", "get_async",
+                                    "outcome", "success")
+                            .counter();
+            assertThat(counter).isNotNull();
+            assertThat(counter.count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("[실패] Future가 예외로 완료되면 원인 예외 기준으로 error 메트릭을 기록한다")
+        void shouldRecordErrorMetricsWhenFutureFails() throws Throwable {
+            // Given
+            given(outboundClientMetric.system()).willReturn("http_crawl");
+            given(outboundClientMetric.operation()).willReturn("get_async");
+            given(joinPoint.proceed())
+                    .willReturn(
+                            CompletableFuture.supplyAsync(
+                                    () -> {
+                                        throw new IllegalStateException("연결 실패");
+                                    }));
+
+            // When
+            Object result = sut.around(joinPoint, outboundClientMetric);
+
+            // Then
+            assertThatThrownBy(((CompletableFuture<?>) result)::join)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+
+            Counter errorsTotal =
+                    meterRegistry
+                            .find("crawlinghub.outbound_client_errors_total")
+                            .tags(
+                                    "system", "http_crawl",
+                                    "operation", "get_async",
+                                    "exception", "IllegalStateException")
+                            .counter();
+            assertThat(errorsTotal).isNotNull();
+            assertThat(errorsTotal.count()).isEqualTo(1.0);
+        }
+    }
 }
@@ -0,0 +1,200 @@
+package com.ryuqq.crawlinghub.application.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("application")
+@DisplayName("JsonStreamReader 단위 테스트")
+class JsonStreamReaderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** 값의 첫 토큰에 위치한 파서 생성 */
+    private static JsonParser parserAt(String json) throws IOException {
+        JsonParser parser = MAPPER.createParser(json);
+        parser.nextToken();
+        return parser;
+    }
+
+    @Nested
+    @DisplayName("readText()")
+    class ReadText {
+
+        @Test
+        @DisplayName("[성공] 문자열 값 읽기")
+        void shouldReturnTextValue() throws IOException {
+            assertThat(JsonStreamReader.readText(parserAt("\"테스트\""))).isEqualTo("테스트");
+        }
+
+        @Test
+        @DisplayName("[성공] 숫자 값 → 문자열 변환")
+        void shouldConvertNumberToText() throws IOException {
+            assertThat(JsonStreamReader.readText(parserAt("129000"))).isEqualTo("129000");
+            assertThat(JsonStreamReader.readText(parserAt("1.50"))).isEqualTo("1.5");
+        }
+
+        @Test
+        @DisplayName("[null] null 값 → null")
+        void shouldReturnNullWhenValueIsNull() throws IOException {
+            assertThat(JsonStreamReader.readText(parserAt("null"))).isNull();
+        }
+
+        @Test
+        @DisplayName("[빈 문자열] 객체 값은 건너뛰고 빈 문자열")
+        void shouldSkipObjectAndReturnEmpty() throws IOException {
+            JsonParser parser = parserAt("{\"a\":{\"b\":[1,2]}}");
+
+            assertThat(JsonStreamReader.readText(parser)).isEmpty();
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+            assertThat(parser.nextToken()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("readLong()")
+    class ReadLong {
+
+        @Test
+        @DisplayName("[성공] 숫자 값 읽기")
+        void shouldReturnLongFromNumber() throws IOException {
+            assertThat(JsonStreamReader.readLong(parserAt("12345"))).isEqualTo(12345L);
+        }
+
+        @Test
+        @DisplayName("[성공] 문자열 숫자 → Long 변환")
+        void shouldParseLongFromString() throws IOException {
+            assertThat(JsonStreamReader.readLong(parserAt("\"67890\""))).isEqualTo(67890L);
+        }
+
+        @Test
+        @DisplayName("[null] 유효하지 않은 문자열 → null")
+        void shouldReturnNullForInvalidString() throws IOException {
+            assertThat(JsonStreamReader.readLong(parserAt("\"abc\""))).isNull();
+        }
+
+        @Test
+        @DisplayName("[기본값] null 값 → 기본값")
+        void shouldReturnDefaultWhenNull() throws IOException {
+            assertThat(JsonStreamReader.readLongOrDefault(parserAt("null"), -1)).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("readIntOrDefault()")
+    class ReadIntOrDefault {
+
+        @Test
+        @DisplayName("[성공] 문자열 숫자 → int 변환")
+        void shouldParseIntFromString() throws IOException {
+            assertThat(JsonStreamReader.readIntOrDefault(parserAt("\"12345\""), 0))
+                    .isEqualTo(12345);
+        }
+
+        @Test
+        @DisplayName("[성공] 실수 → 소수점 버림")
+        void shouldTruncateFloat() throws IOException {
+            assertThat(JsonStreamReader.readIntOrDefault(parserAt("900.9"), 0)).isEqualTo(900);
+        }
+
+        @Test
+        @DisplayName("[기본값] 배열 값은 건너뛰고 기본값")
+        void shouldSkipArrayAndReturnDefault() throws IOException {
+            JsonParser parser = parserAt("[1,2,3]");
+
+            assertThat(JsonStreamReader.readIntOrDefault(parser, -1)).isEqualTo(-1);
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+        }
+    }
+
+    @Nested
+    @DisplayName("readBooleanOrDefault()")
+    class ReadBooleanOrDefault {
+
+        @Test
+        @DisplayName("[성공] boolean/숫자/문자열 값 읽기")
+        void shouldReturnBooleanValue() throws IOException {
+            assertThat(JsonStreamReader.readBooleanOrDefault(parserAt("true"), false)).isTrue();
+            assertThat(JsonStreamReader.readBooleanOrDefault(parserAt("1"), false)).isTrue();
+            assertThat(JsonStreamReader.readBooleanOrDefault(parserAt("\"false\""), true))
+                    .isFalse();
+        }
+
+        @Test
+        @DisplayName("[기본값] 인식할 수 없는 문자열 → 기본값")
+        void shouldReturnDefaultForUnknownText() throws IOException {
+            assertThat(JsonStreamReader.readBooleanOrDefault(parserAt("\"yes\""), true))
+                    .isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("readStringList()")
+    class ReadStringList {
+
+        @Test
+        @DisplayName("[필터링] 문자열이 아니거나 빈 요소 제외")
+        void shouldFilterNonTextAndBlankEntries() throws IOException {
+            JsonParser parser =
+                    parserAt("[\"https://img1.jpg\",\"\",null,3,{\"a\":1},\"https://img2.jpg\"]");
+
+            List<String> result = JsonStreamReader.readStringList(parser);
+
+            assertThat(result).containsExactly("https://img1.jpg", "https://img2.jpg");
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+        }
+
+        @Test
+        @DisplayName("[빈 리스트] 배열이 아니면 빈 리스트")
+        void shouldReturnEmptyListWhenNotArray() throws IOException {
+            assertThat(JsonStreamReader.readStringList(parserAt("\"x\""))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("forEachField()")
+    class ForEachField {
+
+        @Test
+        @DisplayName("[성공] 핸들러가 소비하지 않은 필드도 건너뛰며 객체 끝에서 종료")
+        void shouldVisitFieldsInOrder() throws IOException {
+            JsonParser parser = parserAt("{\"a\":1,\"skip\":{\"x\":[1]},\"b\":\"2\"}");
+            List<String> visited = new ArrayList<>();
+
+            boolean isObject =
+                    JsonStreamReader.forEachField(
+                            parser,
+                            (fieldName, value) -> {
+                                visited.add(fieldName);
+                                value.skipChildren();
+                            });
+
+            assertThat(isObject).isTrue();
+            assertThat(visited).containsExactly("a", "skip", "b");
+            assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+        }
+
+        @Test
+        @DisplayName("[false] 객체가 아니면 핸들러를 호출하지 않음")
+        void shouldReturnFalseWhenNotObject() throws IOException {
+            List<String> visited = new ArrayList<>();
+
+            boolean isObject =
+                    JsonStreamReader.forEachField(
+                            parserAt("[1,2]"), (fieldName, value) -> visited.add(fieldName));
+
+            assertThat(isObject).isFalse();
+            assertThat(visited).isEmpty();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -111,5 +112,10 @@ class CrawlerProviderTest {
         public CrawlResult crawl(CrawlContext context) {
             return CrawlResult.success("{}", 200);
         }
+
+        @Override
+        public CompletableFuture<CrawlResult> crawlAsync(CrawlContext context) {
+            return CompletableFuture.completedFuture(crawl(context));
+        }
     }
 }
@@ -15,6 +15,7 @@ import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -104,7 +105,7 @@ class OptionCrawlerTest {
             // Then
             assertThat(result.isSuccess()).isTrue();
             assertThat(result.httpStatusCode()).isEqualTo(200);
-            assertThat(result.responseBody()).isEqualTo("{\"options\": []}");
+            assertThat(result.responseBody().asText()).isEqualTo("{\"options\": []}");
             verify(httpClient).get(any(HttpRequest.class));
         }
 
@@ -131,6 +132,33 @@ class OptionCrawlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("crawlAsync() 테스트")
+    class CrawlAsync {
+
+        @Test
+        @DisplayName("[성공] 비동기 HTTP 응답을 크롤링 결과로 변환한 Future 반환")
+        void shouldReturnFutureOfCrawlResult() {
+            // Given
+            CrawlContext context = createContext();
+            HttpResponse response = HttpResponse.of(200, "{\"options\": []}");
+            CrawlResult expectedResult = CrawlResult.success("{\"options\": []}", 200);
+
+            given(crawlContextMapper.buildHeaders(context))
+                    .willReturn(Map.of("User-Agent", "Mozilla/5.0"));
+            given(httpClient.getAsync(any(HttpRequest.class)))
+                    .willReturn(CompletableFuture.completedFuture(response));
+            given(crawlResultMapper.toCrawlResult(response)).willReturn(expectedResult);
+
+            // When
+            CompletableFuture<CrawlResult> result = crawler.crawlAsync(context);
+
+            // Then
+            assertThat(result.join()).isEqualTo(expectedResult);
+            verify(httpClient).getAsync(any(HttpRequest.class));
+        }
+    }
+
     // === Helper Methods ===
 
     private CrawlContext createContext() {
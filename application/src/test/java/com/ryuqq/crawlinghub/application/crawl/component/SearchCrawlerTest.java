@@ -15,6 +15,7 @@ import com.ryuqq.crawlinghub.domain.execution.vo.CrawlContext;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -170,7 +171,7 @@ class SearchCrawlerTest {
             // Then
             assertThat(result.isSuccess()).isTrue();
             assertThat(result.httpStatusCode()).isEqualTo(200);
-            assertThat(result.responseBody()).contains("items");
+            assertThat(result.responseBody().asText()).contains("items");
         }
 
         @Test
@@ -237,6 +238,35 @@ class SearchCrawlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("crawlAsync() 테스트")
+    class CrawlAsync {
+
+        @Test
+        @DisplayName("[성공] 비동기 HTTP 응답을 크롤링 결과로 변환한 Future 반환")
+        void shouldReturnFutureOfCrawlResult() {
+            // Given
+            CrawlContext context = createContextWithSearchCookies();
+            HttpResponse response = HttpResponse.of(200, "{\"items\": []}");
+            CrawlResult expectedResult = CrawlResult.success("{\"items\": []}", 200);
+
+            given(crawlContextMapper.buildSearchEndpoint(context))
+                    .willReturn("https://api.example.com/search?nid=test-nid");
+            given(crawlContextMapper.buildHeaders(context))
+                    .willReturn(Map.of("User-Agent", "Mozilla/5.0"));
+            given(httpClient.getAsync(any(HttpRequest.class)))
+                    .willReturn(CompletableFuture.completedFuture(response));
+            given(crawlResultMapper.toCrawlResult(response)).willReturn(expectedResult);
+
+            // When
+            CompletableFuture<CrawlResult> result = crawler.crawlAsync(context);
+
+            // Then
+            assertThat(result.join()).isEqualTo(expectedResult);
+            verify(httpClient).getAsync(any(HttpRequest.class));
+        }
+    }
+
     // === Helper Methods ===
 
     private CrawlContext createContextWithSearchCookies() {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.parser.DetailResponseParser;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductDetailInfo;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,7 +71,8 @@ class DetailResponseParserTest {
                     """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 12345L);
+            Optional<ProductDetailInfo> result =
+                    parser.parse(ResponsePayload.of(responseBody), 12345L);
 
             // Then
             assertThat(result).isPresent();
@@ -111,7 +113,7 @@ class DetailResponseParserTest {
                     """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of(responseBody), 1L);
 
             // Then
             assertThat(result).isPresent();
@@ -159,7 +161,7 @@ class DetailResponseParserTest {
                     """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of(responseBody), 1L);
 
             // Then
             assertThat(result).isPresent();
@@ -198,7 +200,7 @@ class DetailResponseParserTest {
 """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of(responseBody), 1L);
 
             // Then
             assertThat(result).isPresent();
@@ -221,7 +223,7 @@ class DetailResponseParserTest {
         @DisplayName("[실패] 빈 문자열 응답")
         void shouldReturnEmptyForBlankResponse() {
             // When
-            Optional<ProductDetailInfo> result = parser.parse("  ", 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of("  "), 1L);
 
             // Then
             assertThat(result).isEmpty();
@@ -237,7 +239,7 @@ class DetailResponseParserTest {
                     """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of(responseBody), 1L);
 
             // Then
             assertThat(result).isEmpty();
@@ -257,7 +259,7 @@ class DetailResponseParserTest {
                     """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of(responseBody), 1L);
 
             // Then
             assertThat(result).isEmpty();
@@ -270,7 +272,7 @@ class DetailResponseParserTest {
             String responseBody = "invalid json";
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 1L);
+            Optional<ProductDetailInfo> result = parser.parse(ResponsePayload.of(responseBody), 1L);
 
             // Then
             assertThat(result).isEmpty();
@@ -300,7 +302,8 @@ class DetailResponseParserTest {
                     """;
 
             // When
-            Optional<ProductDetailInfo> result = parser.parse(responseBody, 12345L);
+            Optional<ProductDetailInfo> result =
+                    parser.parse(ResponsePayload.of(responseBody), 12345L);
 
             // Then
             assertThat(result).isPresent();
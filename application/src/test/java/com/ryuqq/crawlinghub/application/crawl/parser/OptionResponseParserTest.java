@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.parser.OptionResponseParser;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOption;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,7 +47,7 @@ class OptionResponseParserTest {
 """;
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, 123L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), 123L);
 
             // Then
             assertThat(result).hasSize(2);
@@ -68,7 +69,7 @@ class OptionResponseParserTest {
                     """;
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, 999L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), 999L);
 
             // Then
             assertThat(result).hasSize(1);
@@ -89,7 +90,7 @@ class OptionResponseParserTest {
         @DisplayName("[실패] 빈 문자열 응답")
         void shouldReturnEmptyForBlankResponse() {
             // When
-            List<ProductOption> result = parser.parse("  ", 123L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of("  "), 123L);
 
             // Then
             assertThat(result).isEmpty();
@@ -105,7 +106,7 @@ class OptionResponseParserTest {
                     """;
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, 123L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), 123L);
 
             // Then
             assertThat(result).isEmpty();
@@ -124,7 +125,7 @@ class OptionResponseParserTest {
                     """;
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, 123L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), 123L);
 
             // Then
             assertThat(result).hasSize(1);
@@ -138,7 +139,7 @@ class OptionResponseParserTest {
             String responseBody = "[]";
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, 123L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), 123L);
 
             // Then
             assertThat(result).isEmpty();
@@ -151,7 +152,7 @@ class OptionResponseParserTest {
             String responseBody = "invalid json";
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, 123L);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), 123L);
 
             // Then
             assertThat(result).isEmpty();
@@ -169,7 +170,7 @@ class OptionResponseParserTest {
 """;
 
             // When
-            List<ProductOption> result = parser.parse(responseBody, null);
+            List<ProductOption> result = parser.parse(ResponsePayload.of(responseBody), null);
 
             // Then
             assertThat(result).hasSize(1);
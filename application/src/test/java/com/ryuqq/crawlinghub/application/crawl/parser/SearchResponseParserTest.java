@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.parser.SearchResponseParser;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.vo.SearchParseResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -60,7 +61,7 @@ class SearchResponseParserTest {
                     """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).hasSize(1);
@@ -88,7 +89,7 @@ class SearchResponseParserTest {
                     """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).hasSize(1);
@@ -106,7 +107,7 @@ class SearchResponseParserTest {
                     """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).isEmpty();
@@ -129,7 +130,7 @@ class SearchResponseParserTest {
                     """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).hasSize(1);
@@ -151,7 +152,7 @@ class SearchResponseParserTest {
         @DisplayName("[실패] 빈 문자열 응답")
         void shouldReturnEmptyForBlankResponse() {
             // When
-            SearchParseResult result = parser.parse("  ");
+            SearchParseResult result = parser.parse(ResponsePayload.of("  "));
 
             // Then
             assertThat(result.items()).isEmpty();
@@ -181,7 +182,7 @@ class SearchResponseParserTest {
 """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).hasSize(1);
@@ -204,7 +205,7 @@ class SearchResponseParserTest {
                     """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).hasSize(1);
@@ -217,7 +218,7 @@ class SearchResponseParserTest {
             String responseBody = "invalid json";
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.items()).isEmpty();
@@ -236,7 +237,7 @@ class SearchResponseParserTest {
 """;
 
             // When
-            SearchParseResult result = parser.parse(responseBody);
+            SearchParseResult result = parser.parse(ResponsePayload.of(responseBody));
 
             // Then
             assertThat(result.nextApiUrl()).isNull();
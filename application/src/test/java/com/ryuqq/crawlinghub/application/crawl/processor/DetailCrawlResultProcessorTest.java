@@ -3,7 +3,6 @@ package com.ryuqq.crawlinghub.application.crawl.processor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,8 +15,9 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.processor.Pr
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCoordinator;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
-import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerCacheReadManager;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductDetailInfo;
@@ -50,7 +50,7 @@ class DetailCrawlResultProcessorTest {
     @Mock private DetailResponseParser detailResponseParser;
     @Mock private CrawledRawMapper crawledRawMapper;
     @Mock private CrawledRawTransactionManager crawledRawTransactionManager;
-    @Mock private SellerReadManager sellerReadManager;
+    @Mock private SellerCacheReadManager sellerCacheReadManager;
     @Mock private CrawledProductCoordinator crawledProductCoordinator;
 
     private DetailCrawlResultProcessor processor;
@@ -65,12 +65,12 @@ class DetailCrawlResultProcessorTest {
                         detailResponseParser,
                         crawledRawMapper,
                         crawledRawTransactionManager,
-                        sellerReadManager,
+                        sellerCacheReadManager,
                         crawledProductCoordinator);
 
         // 기본 셀러 조회 stub - fixture의 SellerId(1L)에 대해 mustit-test-seller 반환
         Seller seller = SellerFixture.anActiveSeller();
-        given(sellerReadManager.findById(SellerId.of(1L))).willReturn(Optional.of(seller));
+        given(sellerCacheReadManager.findById(SellerId.of(1L))).willReturn(Optional.of(seller));
     }
 
     @Nested
@@ -99,7 +99,8 @@ class DetailCrawlResultProcessorTest {
             CrawlTask task = CrawlTaskFixture.aWaitingTask();
             CrawlResult crawlResult = CrawlResult.success("invalid", 200);
 
-            given(detailResponseParser.parse(anyString(), any())).willReturn(Optional.empty());
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
+                    .willReturn(Optional.empty());
 
             // When
             ProcessingResult result = processor.process(crawlResult, task);
@@ -117,7 +118,8 @@ class DetailCrawlResultProcessorTest {
             CrawlTask task = CrawlTaskFixture.aWaitingTask();
             CrawlResult crawlResult = CrawlResult.success("{}", 200);
 
-            given(detailResponseParser.parse(anyString(), any())).willReturn(Optional.empty());
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
+                    .willReturn(Optional.empty());
 
             // When
             ProcessingResult result = processor.process(crawlResult, task);
@@ -150,7 +152,7 @@ class DetailCrawlResultProcessorTest {
             CrawledRaw crawledRaw = org.mockito.Mockito.mock(CrawledRaw.class);
             CrawledRawId savedId = CrawledRawId.of(200L);
 
-            given(detailResponseParser.parse(anyString(), any()))
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Optional.of(detailInfo));
             given(crawledRawMapper.toDetailRaw(anyLong(), anyLong(), any(), any()))
                     .willReturn(crawledRaw);
@@ -186,7 +188,7 @@ class DetailCrawlResultProcessorTest {
                             .stock(5)
                             .build();
 
-            given(detailResponseParser.parse(anyString(), any()))
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Optional.of(detailInfo));
             given(crawledRawMapper.toDetailRaw(anyLong(), anyLong(), any(), any()))
                     .willReturn(null);
@@ -222,7 +224,7 @@ class DetailCrawlResultProcessorTest {
 
             CrawledRaw crawledRaw = org.mockito.Mockito.mock(CrawledRaw.class);
 
-            given(detailResponseParser.parse(anyString(), any()))
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Optional.of(detailInfo));
             given(crawledRawMapper.toDetailRaw(anyLong(), anyLong(), any(), any()))
                     .willReturn(crawledRaw);
@@ -256,7 +258,7 @@ class DetailCrawlResultProcessorTest {
                             .stock(5)
                             .build();
 
-            given(detailResponseParser.parse(anyString(), any()))
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Optional.of(detailInfo));
 
             // When
@@ -289,10 +291,10 @@ class DetailCrawlResultProcessorTest {
                             .stock(5)
                             .build();
 
-            given(detailResponseParser.parse(anyString(), any()))
+            given(detailResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Optional.of(detailInfo));
             // 셀러 조회 실패
-            given(sellerReadManager.findById(SellerId.of(1L))).willReturn(Optional.empty());
+            given(sellerCacheReadManager.findById(SellerId.of(1L))).willReturn(Optional.empty());
 
             // When
             ProcessingResult result = processor.process(crawlResult, task);
@@ -3,7 +3,6 @@ package com.ryuqq.crawlinghub.application.crawl.processor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -20,6 +19,7 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.processor.Pr
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductOption;
@@ -105,7 +105,7 @@ class OptionCrawlResultProcessorTest {
             CrawlTask task = anOptionTask();
             CrawlResult crawlResult = CrawlResult.success("[]", 200);
 
-            given(optionResponseParser.parse(anyString(), any()))
+            given(optionResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Collections.emptyList());
 
             // When
@@ -124,7 +124,7 @@ class OptionCrawlResultProcessorTest {
             CrawlTask task = anOptionTask();
             CrawlResult crawlResult = CrawlResult.success("{}", 200);
 
-            given(optionResponseParser.parse(anyString(), any()))
+            given(optionResponseParser.parse(any(ResponsePayload.class), any()))
                     .willReturn(Collections.emptyList());
 
             // When
@@ -150,7 +150,8 @@ class OptionCrawlResultProcessorTest {
             CrawledRaw crawledRaw = org.mockito.Mockito.mock(CrawledRaw.class);
             CrawledRawId savedId = CrawledRawId.of(100L);
 
-            given(optionResponseParser.parse(anyString(), any())).willReturn(options);
+            given(optionResponseParser.parse(any(ResponsePayload.class), any()))
+                    .willReturn(options);
             given(crawledRawMapper.toOptionRaw(anyLong(), anyLong(), anyLong(), any(), any()))
                     .willReturn(crawledRaw);
             given(crawledRawTransactionManager.save(crawledRaw)).willReturn(savedId);
@@ -175,7 +176,8 @@ class OptionCrawlResultProcessorTest {
             ProductOption option = ProductOption.of(1001L, 9999L, "RED", "M", 5, null);
             List<ProductOption> options = List.of(option);
 
-            given(optionResponseParser.parse(anyString(), any())).willReturn(options);
+            given(optionResponseParser.parse(any(ResponsePayload.class), any()))
+                    .willReturn(options);
             given(crawledRawMapper.toOptionRaw(anyLong(), anyLong(), anyLong(), any(), any()))
                     .willReturn(null);
 
@@ -200,7 +202,8 @@ class OptionCrawlResultProcessorTest {
 
             CrawledRaw crawledRaw = org.mockito.Mockito.mock(CrawledRaw.class);
 
-            given(optionResponseParser.parse(anyString(), any())).willReturn(options);
+            given(optionResponseParser.parse(any(ResponsePayload.class), any()))
+                    .willReturn(options);
             given(crawledRawMapper.toOptionRaw(anyLong(), anyLong(), anyLong(), any(), any()))
                     .willReturn(crawledRaw);
             given(crawledRawTransactionManager.save(crawledRaw)).willReturn(null);
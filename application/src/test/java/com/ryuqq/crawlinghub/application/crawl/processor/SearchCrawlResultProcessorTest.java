@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,6 +15,7 @@ import com.ryuqq.crawlinghub.application.execution.internal.crawler.processor.Se
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import com.ryuqq.crawlinghub.domain.product.vo.MiniShopItem;
@@ -85,7 +85,7 @@ class SearchCrawlResultProcessorTest {
             SearchParseResult parseResult =
                     new SearchParseResult(List.of(item), "/v1/search?page=2");
 
-            given(searchResponseParser.parse(anyString())).willReturn(parseResult);
+            given(searchResponseParser.parse(any(ResponsePayload.class))).willReturn(parseResult);
             given(crawledRawMapper.toMiniShopRaws(anyLong(), anyLong(), anyList(), any()))
                     .willReturn(List.of(crawledRaw));
             given(crawledRawTransactionManager.saveAll(anyList()))
@@ -112,7 +112,7 @@ class SearchCrawlResultProcessorTest {
             MiniShopItem item = createMiniShopItem(1001L);
             SearchParseResult parseResult = new SearchParseResult(List.of(item), null);
 
-            given(searchResponseParser.parse(anyString())).willReturn(parseResult);
+            given(searchResponseParser.parse(any(ResponsePayload.class))).willReturn(parseResult);
             given(crawledRawMapper.toMiniShopRaws(anyLong(), anyLong(), anyList(), any()))
                     .willReturn(List.of(crawledRaw));
             given(crawledRawTransactionManager.saveAll(anyList()))
@@ -135,7 +135,7 @@ class SearchCrawlResultProcessorTest {
 
             SearchParseResult parseResult = SearchParseResult.empty();
 
-            given(searchResponseParser.parse(anyString())).willReturn(parseResult);
+            given(searchResponseParser.parse(any(ResponsePayload.class))).willReturn(parseResult);
 
             // When
             ProcessingResult result = processor.process(crawlResult, task);
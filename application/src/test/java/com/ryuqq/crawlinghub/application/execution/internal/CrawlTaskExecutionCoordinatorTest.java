@@ -1,11 +1,13 @@
 package com.ryuqq.crawlinghub.application.execution.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -30,6 +32,10 @@ import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import com.ryuqq.crawlinghub.domain.useragent.exception.CircuitBreakerOpenException;
 import com.ryuqq.crawlinghub.domain.useragent.exception.NoAvailableUserAgentException;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -223,29 +229,148 @@ class CrawlTaskExecutionCoordinatorTest {
             then(commandFacade).should(never()).persist(any());
             then(crawlingProcessor).should(never()).executeCrawling(any());
         }
+    }
+
+    @Nested
+    @DisplayName("executeAsync() 테스트")
+    class ExecuteAsync {
+
+        @Test
+        @DisplayName("[성공] 비동기 크롤링 성공 → completionExecutor에서 completeExecution + returnAgent")
+        void shouldCompleteOnCompletionExecutorWhenCrawlingSucceeds() {
+            // Given
+            CrawlTaskExecutionBundle bundle = createBundle();
+            CrawlResult successResult = CrawlResult.success("{\"data\": []}", 200);
+            ProcessingResult processingResult = ProcessingResult.completed(10, 10);
+            AtomicInteger completionTasks = new AtomicInteger();
+            Executor completionExecutor =
+                    task -> {
+                        completionTasks.incrementAndGet();
+                        task.run();
+                    };
+
+            given(userAgentCoordinator.borrow()).willReturn(createBorrowedAgent());
+            given(
+                            crawlContextMapper.toCrawlContext(
+                                    any(CrawlTask.class), any(BorrowedUserAgent.class)))
+                    .willReturn(createCrawlContext());
+            given(crawlingProcessor.executeCrawlingAsync(any(CrawlTaskExecutionBundle.class)))
+                    .willReturn(CompletableFuture.completedFuture(successResult));
+            given(processorProvider.getProcessor(any(CrawlTaskType.class)))
+                    .willReturn(mockProcessor);
+            given(mockProcessor.process(any(CrawlResult.class), any(CrawlTask.class)))
+                    .willReturn(processingResult);
 
-        private CrawlContext createCrawlContext() {
-            return new CrawlContext(
-                    1L,
-                    100L,
-                    200L,
-                    CrawlTaskType.MINI_SHOP,
-                    "https://example.com",
-                    1L,
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
-                    "session-token-123",
-                    null,
-                    null);
+            // When
+            coordinator.executeAsync(bundle, completionExecutor).join();
+
+            // Then
+            assertThat(completionTasks).hasValue(1);
+            then(commandFacade).should(times(2)).persist(any(CrawlTaskExecutionBundle.class));
+            then(userAgentCoordinator).should().returnAgent(anyLong(), eq(true), eq(200), anyInt());
+            then(crawlingProcessor).should(never()).executeCrawling(any());
         }
 
-        private BorrowedUserAgent createBorrowedAgent() {
-            return new BorrowedUserAgent(
-                    1L,
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
-                    "session-token-123",
-                    null,
-                    null,
-                    0);
+        @Test
+        @DisplayName("[안전 실패] 비동기 크롤링 예외 → safeCompleteWithFailure + returnAgent (Future 정상 완료)")
+        void shouldHandleFailureSafelyWhenAsyncCrawlingFails() {
+            // Given
+            CrawlTaskExecutionBundle bundle = createBundle();
+
+            given(userAgentCoordinator.borrow()).willReturn(createBorrowedAgent());
+            given(
+                            crawlContextMapper.toCrawlContext(
+                                    any(CrawlTask.class), any(BorrowedUserAgent.class)))
+                    .willReturn(createCrawlContext());
+            given(crawlingProcessor.executeCrawlingAsync(any(CrawlTaskExecutionBundle.class)))
+                    .willReturn(
+                            CompletableFuture.failedFuture(
+                                    new RuntimeException("Connection timeout")));
+
+            // When
+            CompletableFuture<Void> future = coordinator.executeAsync(bundle, Runnable::run);
+
+            // Then
+            assertThatCode(future::join).doesNotThrowAnyException();
+            then(commandFacade).should(times(2)).persist(any(CrawlTaskExecutionBundle.class));
+            then(userAgentCoordinator)
+                    .should()
+                    .returnAgent(anyLong(), eq(false), eq(0), anyInt());
+        }
+
+        @Test
+        @DisplayName("[안전 실패] completionExecutor가 거부해도 현재 스레드에서 후처리 + returnAgent")
+        void shouldFinishOnCallerThreadWhenCompletionExecutorRejects() {
+            // Given
+            CrawlTaskExecutionBundle bundle = createBundle();
+            Executor rejectingExecutor =
+                    task -> {
+                        throw new RejectedExecutionException("shutdown");
+                    };
+
+            given(userAgentCoordinator.borrow()).willReturn(createBorrowedAgent());
+            given(
+                            crawlContextMapper.toCrawlContext(
+                                    any(CrawlTask.class), any(BorrowedUserAgent.class)))
+                    .willReturn(createCrawlContext());
+            given(crawlingProcessor.executeCrawlingAsync(any(CrawlTaskExecutionBundle.class)))
+                    .willReturn(
+                            CompletableFuture.completedFuture(CrawlResult.failure(500, "error")));
+
+            // When
+            CompletableFuture<Void> future = coordinator.executeAsync(bundle, rejectingExecutor);
+
+            // Then
+            assertThatCode(future::join).doesNotThrowAnyException();
+            then(commandFacade).should(times(2)).persist(any(CrawlTaskExecutionBundle.class));
+            then(userAgentCoordinator)
+                    .should()
+                    .returnAgent(anyLong(), eq(false), eq(500), anyInt());
         }
+
+        @Test
+        @DisplayName("[재시도] borrow 실패 시 RetryableExecutionException을 동기로 던진다")
+        void shouldThrowRetryableWhenBorrowFails() {
+            // Given
+            CrawlTaskExecutionBundle bundle = createBundle();
+            given(userAgentCoordinator.borrow()).willThrow(new NoAvailableUserAgentException());
+
+            // When & Then
+            assertThatThrownBy(() -> coordinator.executeAsync(bundle, Runnable::run))
+                    .isInstanceOf(RetryableExecutionException.class);
+            then(crawlingProcessor).should(never()).executeCrawlingAsync(any());
+        }
+    }
+
+    private CrawlTaskExecutionBundle createBundle() {
+        CrawlTask task = CrawlTaskFixture.aPublishedTask();
+        ExecuteCrawlTaskCommand command =
+                new ExecuteCrawlTaskCommand(1L, 100L, 200L, "MINI_SHOP", "https://example.com");
+        return CrawlTaskExecutionBundle.of(
+                task, CrawlExecutionFixture.forNew(), command, Instant.now());
+    }
+
+    private CrawlContext createCrawlContext() {
+        return new CrawlContext(
+                1L,
+                100L,
+                200L,
+                CrawlTaskType.MINI_SHOP,
+                "https://example.com",
+                1L,
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
+                "session-token-123",
+                null,
+                null);
+    }
+
+    private BorrowedUserAgent createBorrowedAgent() {
+        return new BorrowedUserAgent(
+                1L,
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
+                "session-token-123",
+                null,
+                null,
+                0);
     }
 }
@@ -15,6 +15,7 @@ import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -97,27 +98,65 @@ class CrawlingProcessorTest {
             assertThat(result.isSuccess()).isFalse();
             assertThat(result.httpStatusCode()).isEqualTo(429);
         }
+    }
+
+    @Nested
+    @DisplayName("executeCrawlingAsync() 테스트")
+    class ExecuteCrawlingAsync {
+
+        @Test
+        @DisplayName("[성공] 크롤러의 비동기 결과 Future를 반환한다")
+        void shouldReturnCrawlerFuture() {
+            // Given
+            CrawlTaskExecutionBundle bundle = createEnrichedBundle();
+            CrawlResult successResult = CrawlResult.success("{\"data\": []}", 200);
+
+            given(crawlerProvider.getCrawler(any(CrawlTaskType.class))).willReturn(mockCrawler);
+            given(mockCrawler.crawlAsync(any(CrawlContext.class)))
+                    .willReturn(CompletableFuture.completedFuture(successResult));
+
+            // When
+            CompletableFuture<CrawlResult> result = processor.executeCrawlingAsync(bundle);
 
-        private CrawlTaskExecutionBundle createEnrichedBundle() {
-            CrawlTask task = CrawlTaskFixture.aRunningTask();
-            ExecuteCrawlTaskCommand command =
-                    new ExecuteCrawlTaskCommand(1L, 1L, 1L, "SEARCH", "https://example.com/api");
-            CrawlTaskExecutionBundle bundle =
-                    CrawlTaskExecutionBundle.of(
-                            task, CrawlExecutionFixture.forNew(), command, Instant.now());
-            CrawlContext context =
-                    new CrawlContext(
-                            1L,
-                            1L,
-                            1L,
-                            CrawlTaskType.SEARCH,
-                            "https://example.com/api",
-                            1L,
-                            "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
-                            "session-token-123",
-                            null,
-                            null);
-            return bundle.withCrawlContext(context);
+            // Then
+            assertThat(result.join()).isEqualTo(successResult);
+        }
+
+        @Test
+        @DisplayName("[실패] 크롤러 조회 실패 시 예외로 완료된 Future를 반환한다")
+        void shouldReturnFailedFutureWhenCrawlerNotFound() {
+            // Given
+            CrawlTaskExecutionBundle bundle = createEnrichedBundle();
+            given(crawlerProvider.getCrawler(any(CrawlTaskType.class)))
+                    .willThrow(new IllegalArgumentException("지원하지 않는 타입"));
+
+            // When
+            CompletableFuture<CrawlResult> result = processor.executeCrawlingAsync(bundle);
+
+            // Then
+            assertThat(result).isCompletedExceptionally();
         }
     }
+
+    private CrawlTaskExecutionBundle createEnrichedBundle() {
+        CrawlTask task = CrawlTaskFixture.aRunningTask();
+        ExecuteCrawlTaskCommand command =
+                new ExecuteCrawlTaskCommand(1L, 1L, 1L, "SEARCH", "https://example.com/api");
+        CrawlTaskExecutionBundle bundle =
+                CrawlTaskExecutionBundle.of(
+                        task, CrawlExecutionFixture.forNew(), command, Instant.now());
+        CrawlContext context =
+                new CrawlContext(
+                        1L,
+                        1L,
+                        1L,
+                        CrawlTaskType.SEARCH,
+                        "https://example.com/api",
+                        1L,
+                        "Mozilla/5.0 (Windows NT 10.0; Win64; x64)",
+                        "session-token-123",
+                        null,
+                        null);
+        return bundle.withCrawlContext(context);
+    }
 }
@@ -1,9 +1,11 @@
 package com.ryuqq.crawlinghub.application.execution.internal;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.ryuqq.crawlinghub.application.task.dto.bundle.CrawlTaskBundle;
@@ -11,8 +13,15 @@ import com.ryuqq.crawlinghub.application.task.dto.command.CreateCrawlTaskCommand
 import com.ryuqq.crawlinghub.application.task.factory.command.CrawlTaskCommandFactory;
 import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskCommandFacade;
 import com.ryuqq.crawlinghub.application.task.validator.CrawlTaskPersistenceValidator;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
+import com.ryuqq.crawlinghub.domain.task.exception.DuplicateCrawlTaskException;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlEndpoint;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -28,6 +37,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("FollowUpTaskCreator 단위 테스트")
 class FollowUpTaskCreatorTest {
 
+    private static final Instant FIXED_NOW = Instant.parse("2025-11-27T12:00:00Z");
+
     @Mock private CrawlTaskPersistenceValidator validator;
 
     @Mock private CrawlTaskCommandFactory commandFactory;
@@ -69,33 +80,64 @@ class FollowUpTaskCreatorTest {
     class ExecuteBatch {
 
         @Test
-        @DisplayName("[성공] 여러 태스크 일괄 생성")
-        void shouldCreateMultipleTasks() {
+        @DisplayName("[성공] 단일 중복 조회 후 일괄 저장")
+        void shouldCreateMultipleTasksWithSinglePersistAll() {
             // Given
-            List<CreateCrawlTaskCommand> commands =
-                    List.of(
-                            CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 100L),
-                            CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 101L),
-                            CreateCrawlTaskCommand.forOption(1L, 1L, "test-seller", 100L));
-
-            given(commandFactory.createBundle(any(CreateCrawlTaskCommand.class)))
-                    .willReturn(mockBundle);
-            given(mockBundle.crawlTask())
-                    .willReturn(
-                            com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture
-                                    .aWaitingTask());
+            CreateCrawlTaskCommand command1 =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 100L);
+            CreateCrawlTaskCommand command2 =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 101L);
+            CreateCrawlTaskCommand command3 =
+                    CreateCrawlTaskCommand.forOption(1L, 1L, "test-seller", 100L);
+            CrawlTaskBundle bundle1 = bundleFor(CrawlTaskType.DETAIL, 100L);
+            CrawlTaskBundle bundle2 = bundleFor(CrawlTaskType.DETAIL, 101L);
+            CrawlTaskBundle bundle3 = bundleFor(CrawlTaskType.OPTION, 100L);
+
+            given(commandFactory.createBundle(command1)).willReturn(bundle1);
+            given(commandFactory.createBundle(command2)).willReturn(bundle2);
+            given(commandFactory.createBundle(command3)).willReturn(bundle3);
+            given(validator.findOccupiedFingerprints(anyList())).willReturn(Set.of());
 
             // When
-            creator.executeBatch(commands);
+            creator.executeBatch(List.of(command1, command2, command3));
+
+            // Then
+            then(validator).should(times(1)).findOccupiedFingerprints(anyList());
+            then(validator).should(never()).validateNoDuplicateTask(any());
+            then(coordinator).should().persistAll(List.of(bundle1, bundle2, bundle3));
+            then(coordinator).should(never()).persist(any());
+        }
+
+        @Test
+        @DisplayName("[성공] DB 내 진행 중 Task 및 배치 내 중복은 스킵")
+        void shouldSkipOccupiedAndInBatchDuplicates() {
+            // Given
+            CreateCrawlTaskCommand occupied =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 100L);
+            CreateCrawlTaskCommand fresh =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 101L);
+            CreateCrawlTaskCommand freshAgain =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 101L);
+            CrawlTaskBundle occupiedBundle = bundleFor(CrawlTaskType.DETAIL, 100L);
+            CrawlTaskBundle freshBundle = bundleFor(CrawlTaskType.DETAIL, 101L);
+            CrawlTaskBundle freshAgainBundle = bundleFor(CrawlTaskType.DETAIL, 101L);
+
+            given(commandFactory.createBundle(occupied)).willReturn(occupiedBundle);
+            given(commandFactory.createBundle(fresh)).willReturn(freshBundle);
+            given(commandFactory.createBundle(freshAgain)).willReturn(freshAgainBundle);
+            given(validator.findOccupiedFingerprints(anyList()))
+                    .willReturn(Set.of(occupiedBundle.crawlTask().getFingerprint()));
+
+            // When
+            creator.executeBatch(List.of(occupied, fresh, freshAgain));
 
             // Then
-            then(commandFactory).should(times(3)).createBundle(any(CreateCrawlTaskCommand.class));
-            then(coordinator).should(times(3)).persist(mockBundle);
+            then(coordinator).should().persistAll(List.of(freshBundle));
         }
 
         @Test
-        @DisplayName("[성공] 일부 태스크 실패해도 나머지 계속 처리")
-        void shouldContinueOnIndividualFailure() {
+        @DisplayName("[성공] 일괄 저장 실패 시 건별 저장으로 폴백하여 나머지 계속 처리")
+        void shouldFallBackToIndividualPersistOnBatchFailure() {
             // Given
             CreateCrawlTaskCommand command1 =
                     CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 100L);
@@ -103,32 +145,21 @@ class FollowUpTaskCreatorTest {
                     CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 101L);
             CreateCrawlTaskCommand command3 =
                     CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 102L);
-            List<CreateCrawlTaskCommand> commands = List.of(command1, command2, command3);
-
-            CrawlTaskBundle bundle1 = org.mockito.Mockito.mock(CrawlTaskBundle.class);
-            CrawlTaskBundle bundle2 = org.mockito.Mockito.mock(CrawlTaskBundle.class);
-            CrawlTaskBundle bundle3 = org.mockito.Mockito.mock(CrawlTaskBundle.class);
+            CrawlTaskBundle bundle1 = bundleFor(CrawlTaskType.DETAIL, 100L);
+            CrawlTaskBundle bundle2 = bundleFor(CrawlTaskType.DETAIL, 101L);
+            CrawlTaskBundle bundle3 = bundleFor(CrawlTaskType.DETAIL, 102L);
 
             given(commandFactory.createBundle(command1)).willReturn(bundle1);
             given(commandFactory.createBundle(command2)).willReturn(bundle2);
             given(commandFactory.createBundle(command3)).willReturn(bundle3);
-            given(bundle1.crawlTask())
-                    .willReturn(
-                            com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture
-                                    .aWaitingTask());
-            given(bundle2.crawlTask())
-                    .willReturn(
-                            com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture
-                                    .aWaitingTask());
-            given(bundle3.crawlTask())
-                    .willReturn(
-                            com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture
-                                    .aWaitingTask());
-
+            given(validator.findOccupiedFingerprints(anyList())).willReturn(Set.of());
+            doThrow(new RuntimeException("batch insert failed"))
+                    .when(coordinator)
+                    .persistAll(anyList());
             doThrow(new RuntimeException("Duplicate task")).when(coordinator).persist(bundle2);
 
             // When
-            creator.executeBatch(commands);
+            creator.executeBatch(List.of(command1, command2, command3));
 
             // Then
             then(coordinator).should().persist(bundle1);
@@ -136,6 +167,34 @@ class FollowUpTaskCreatorTest {
             then(coordinator).should().persist(bundle3);
         }
 
+        @Test
+        @DisplayName("[성공] 중복 일괄 판정 실패 시 건별 검증/저장으로 폴백")
+        void shouldFallBackToIndividualValidationOnLookupFailure() {
+            // Given
+            CreateCrawlTaskCommand command1 =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 100L);
+            CreateCrawlTaskCommand command2 =
+                    CreateCrawlTaskCommand.forDetail(1L, 1L, "test-seller", 101L);
+            CrawlTaskBundle bundle1 = bundleFor(CrawlTaskType.DETAIL, 100L);
+            CrawlTaskBundle bundle2 = bundleFor(CrawlTaskType.DETAIL, 101L);
+
+            given(commandFactory.createBundle(command1)).willReturn(bundle1);
+            given(commandFactory.createBundle(command2)).willReturn(bundle2);
+            given(validator.findOccupiedFingerprints(anyList()))
+                    .willThrow(new RuntimeException("lookup failed"));
+            doThrow(new DuplicateCrawlTaskException(1L, CrawlTaskType.DETAIL))
+                    .when(validator)
+                    .validateNoDuplicateTask(bundle1.crawlTask());
+
+            // When
+            creator.executeBatch(List.of(command1, command2));
+
+            // Then
+            then(coordinator).should(never()).persist(bundle1);
+            then(coordinator).should().persist(bundle2);
+            then(coordinator).should(never()).persistAll(anyList());
+        }
+
         @Test
         @DisplayName("[성공] 빈 목록 처리")
         void shouldHandleEmptyList() {
@@ -147,7 +206,19 @@ class FollowUpTaskCreatorTest {
 
             // Then
             then(commandFactory).shouldHaveNoInteractions();
+            then(validator).shouldHaveNoInteractions();
             then(coordinator).shouldHaveNoInteractions();
         }
     }
+
+    private static CrawlTaskBundle bundleFor(CrawlTaskType taskType, long itemNo) {
+        CrawlEndpoint endpoint =
+                taskType == CrawlTaskType.DETAIL
+                        ? CrawlEndpoint.forProductDetail(itemNo)
+                        : CrawlEndpoint.forProductOption(itemNo);
+        CrawlTask crawlTask =
+                CrawlTask.forNew(
+                        CrawlSchedulerId.of(1L), SellerId.of(1L), taskType, endpoint, FIXED_NOW);
+        return CrawlTaskBundle.of(crawlTask, FIXED_NOW);
+    }
 }
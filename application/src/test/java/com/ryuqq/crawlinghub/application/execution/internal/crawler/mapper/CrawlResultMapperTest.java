@@ -4,6 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.crawlinghub.application.execution.internal.crawler.dto.HttpResponse;
 import com.ryuqq.crawlinghub.domain.execution.vo.CrawlResult;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -31,7 +36,7 @@ class CrawlResultMapperTest {
 
             // Then
             assertThat(result.isSuccess()).isTrue();
-            assertThat(result.responseBody()).isEqualTo("{\"items\":[]}");
+            assertThat(result.responseBody().asText()).isEqualTo("{\"items\":[]}");
             assertThat(result.httpStatusCode()).isEqualTo(200);
             assertThat(result.errorMessage()).isNull();
         }
@@ -40,7 +45,7 @@ class CrawlResultMapperTest {
         @DisplayName("429 응답이면 Rate limited 에러를 반환한다")
         void shouldReturnRateLimitedFor429() {
             // Given
-            HttpResponse response = HttpResponse.of(429, null);
+            HttpResponse response = HttpResponse.of(429, ResponsePayload.empty());
 
             // When
             CrawlResult result = mapper.toCrawlResult(response);
@@ -55,7 +60,7 @@ class CrawlResultMapperTest {
         @DisplayName("5xx 응답이면 Server error를 반환한다")
         void shouldReturnServerErrorFor5xx() {
             // Given
-            HttpResponse response = HttpResponse.of(503, null);
+            HttpResponse response = HttpResponse.of(503, ResponsePayload.empty());
 
             // When
             CrawlResult result = mapper.toCrawlResult(response);
@@ -70,7 +75,7 @@ class CrawlResultMapperTest {
         @DisplayName("4xx 응답이면 Client error를 반환한다")
         void shouldReturnClientErrorFor4xx() {
             // Given
-            HttpResponse response = HttpResponse.of(404, null);
+            HttpResponse response = HttpResponse.of(404, ResponsePayload.empty());
 
             // When
             CrawlResult result = mapper.toCrawlResult(response);
@@ -80,5 +85,46 @@ class CrawlResultMapperTest {
             assertThat(result.httpStatusCode()).isEqualTo(404);
             assertThat(result.errorMessage()).isEqualTo("Client error: 404");
         }
+
+        @Test
+        @DisplayName("실패 응답이면 바디 앞부분만 에러 메시지에 남기고 바디를 반환한다")
+        void shouldReleaseBodyForFailureResponse() {
+            // Given
+            AtomicInteger releaseCount = new AtomicInteger();
+            byte[] bytes = "x".repeat(600).getBytes(StandardCharsets.UTF_8);
+            ResponsePayload body =
+                    ResponsePayload.pooled(
+                            List.of(ByteBuffer.wrap(bytes)), releaseCount::incrementAndGet);
+            HttpResponse response = HttpResponse.of(500, body);
+
+            // When
+            CrawlResult result = mapper.toCrawlResult(response);
+
+            // Then
+            assertThat(result.errorMessage())
+                    .isEqualTo("Server error: 500 | body=" + "x".repeat(500) + "...(truncated)");
+            assertThat(releaseCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("성공 응답이면 바디를 반환하지 않고 결과로 넘긴다")
+        void shouldTransferBodyForSuccessResponse() {
+            // Given
+            AtomicInteger releaseCount = new AtomicInteger();
+            ResponsePayload body =
+                    ResponsePayload.pooled(
+                            List.of(ByteBuffer.wrap("{}".getBytes(StandardCharsets.UTF_8))),
+                            releaseCount::incrementAndGet);
+
+            // When
+            CrawlResult result = mapper.toCrawlResult(HttpResponse.of(200, body));
+
+            // Then
+            assertThat(result.responseBody()).isSameAs(body);
+            assertThat(releaseCount).hasValue(0);
+
+            result.releaseBody();
+            assertThat(releaseCount).hasValue(1);
+        }
     }
 }
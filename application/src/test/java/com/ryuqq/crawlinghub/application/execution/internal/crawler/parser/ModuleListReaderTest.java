@@ -0,0 +1,106 @@
+package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.crawlinghub.application.common.utils.JsonStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ModuleListReader 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("application")
+@DisplayName("ModuleListReader 단위 테스트")
+class ModuleListReaderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Set<String> TARGET_TYPES = Set.of("SearchItemV2");
+
+    @Test
+    @DisplayName("[성공] 대상 타입 모듈의 data만 순서대로 전달하고, 비대상 모듈은 건너뛴다")
+    void shouldHandleOnlyTargetModules() throws IOException {
+        // Given
+        String json =
+                "[{\"type\":\"BannerModule\",\"data\":{\"itemNo\":1}},"
+                        + "{\"type\":\"SearchItemV2\",\"data\":{\"itemNo\":2}},"
+                        + "{\"type\":\"SearchItemV2\",\"data\":{\"itemNo\":3}}]";
+        JsonParser parser = parserAt(json);
+        List<Long> itemNos = new ArrayList<>();
+
+        // When
+        boolean isArray = ModuleListReader.read(parser, TARGET_TYPES, itemNoCollector(itemNos));
+
+        // Then
+        assertThat(isArray).isTrue();
+        assertThat(itemNos).containsExactly(2L, 3L);
+        assertThat(parser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+    }
+
+    @Test
+    @DisplayName("[성공] data가 type보다 먼저 와도 type 확인 후 처리한다")
+    void shouldBufferDataPrecedingType() throws IOException {
+        // Given
+        String json =
+                "[{\"data\":{\"itemNo\":1},\"type\":\"SearchItemV2\"},"
+                        + "{\"data\":{\"itemNo\":2},\"type\":\"BannerModule\"},"
+                        + "{\"data\":{\"itemNo\":3}}]";
+        JsonParser parser = parserAt(json);
+        List<Long> itemNos = new ArrayList<>();
+
+        // When
+        ModuleListReader.read(parser, TARGET_TYPES, itemNoCollector(itemNos));
+
+        // Then
+        assertThat(itemNos).containsExactly(1L);
+        assertThat(parser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+    }
+
+    @Test
+    @DisplayName("[false] moduleList가 배열이 아니면 핸들러를 호출하지 않는다")
+    void shouldReturnFalseWhenNotArray() throws IOException {
+        // Given
+        List<Long> itemNos = new ArrayList<>();
+
+        // When
+        boolean isArray =
+                ModuleListReader.read(
+                        parserAt("{\"type\":\"SearchItemV2\"}"),
+                        TARGET_TYPES,
+                        itemNoCollector(itemNos));
+
+        // Then
+        assertThat(isArray).isFalse();
+        assertThat(itemNos).isEmpty();
+    }
+
+    private static JsonParser parserAt(String json) throws IOException {
+        JsonParser parser = MAPPER.createParser(json);
+        parser.nextToken();
+        return parser;
+    }
+
+    private static ModuleListReader.ModuleDataHandler itemNoCollector(List<Long> itemNos) {
+        return (type, data) ->
+                JsonStreamReader.forEachField(
+                        data,
+                        (fieldName, value) -> {
+                            if ("itemNo".equals(fieldName)) {
+                                itemNos.add(JsonStreamReader.readLong(value));
+                            } else {
+                                value.skipChildren();
+                            }
+                        });
+    }
+}
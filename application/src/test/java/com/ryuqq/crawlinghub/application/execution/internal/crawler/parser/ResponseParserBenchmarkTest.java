@@ -0,0 +1,171 @@
+package com.ryuqq.crawlinghub.application.execution.internal.crawler.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.crawlinghub.domain.execution.vo.ResponsePayload;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductDetailInfo;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductOption;
+import com.ryuqq.crawlinghub.domain.product.vo.SearchParseResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Search/Detail/Option 응답 파서 벤치마크
+ *
+ * <p>기록된 응답(payload/crawl/*.json)으로 JsonNode 트리 생성({@code objectMapper.readTree}, 기존 파서의 최소 비용)과
+ * 스트리밍 파서 전체 파싱의 소요 시간 및 스레드 할당량을 비교합니다. 결과는 로그로 기록하며, 검증은 파싱 결과만 수행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("benchmark")
+@DisplayName("응답 파서 벤치마크")
+class ResponseParserBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseParserBenchmarkTest.class);
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 2_000;
+    private static final Long ITEM_NO = 117005038L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SearchResponseParser searchResponseParser;
+    private DetailResponseParser detailResponseParser;
+    private OptionResponseParser optionResponseParser;
+
+    @BeforeEach
+    void setUp() {
+        searchResponseParser = new SearchResponseParser(objectMapper);
+        detailResponseParser = new DetailResponseParser(objectMapper);
+        optionResponseParser = new OptionResponseParser(objectMapper);
+    }
+
+    @Test
+    @DisplayName("SEARCH 응답: readTree 대비 스트리밍 파싱")
+    void compareSearchParsing() {
+        // given
+        ResponsePayload body = load("search-response.json");
+
+        // when
+        Measurement tree = measure(() -> readTree(body));
+        Measurement streaming = measure(() -> searchResponseParser.parse(body));
+
+        // then
+        report("SEARCH", body, tree, streaming);
+        SearchParseResult result = searchResponseParser.parse(body);
+        assertThat(result.items()).hasSize(40);
+        assertThat(result.hasNextPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DETAIL 응답: readTree 대비 스트리밍 파싱")
+    void compareDetailParsing() {
+        // given
+        ResponsePayload body = load("detail-response.json");
+
+        // when
+        Measurement tree = measure(() -> readTree(body));
+        Measurement streaming = measure(() -> detailResponseParser.parse(body, ITEM_NO));
+
+        // then
+        report("DETAIL", body, tree, streaming);
+        Optional<ProductDetailInfo> result = detailResponseParser.parse(body, ITEM_NO);
+        assertThat(result).isPresent();
+        assertThat(result.get().itemNo()).isEqualTo(ITEM_NO);
+        assertThat(result.get().bannerImages()).hasSize(6);
+        assertThat(result.get().detailImages()).hasSize(12);
+        assertThat(result.get().shipping().shippingType()).isEqualTo("OVERSEAS");
+    }
+
+    @Test
+    @DisplayName("OPTION 응답: readTree 대비 스트리밍 파싱")
+    void compareOptionParsing() {
+        // given
+        ResponsePayload body = load("option-response.json");
+
+        // when
+        Measurement tree = measure(() -> readTree(body));
+        Measurement streaming = measure(() -> optionResponseParser.parse(body, ITEM_NO));
+
+        // then
+        report("OPTION", body, tree, streaming);
+        List<ProductOption> result = optionResponseParser.parse(body, ITEM_NO);
+        assertThat(result).hasSize(24);
+    }
+
+    private Object readTree(ResponsePayload body) {
+        try {
+            return objectMapper.readTree(body.openStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Measurement measure(Supplier<Object> parse) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            assertThat(parse.get()).isNotNull();
+        }
+
+        long[] samples = new long[MEASURED_ROUNDS];
+        long allocatedBefore = allocatedBytes();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            Object result = parse.get();
+            samples[round] = System.nanoTime() - start;
+            assertThat(result).isNotNull();
+        }
+        long allocatedPerRound = (allocatedBytes() - allocatedBefore) / MEASURED_ROUNDS;
+
+        Arrays.sort(samples);
+        return new Measurement(samples[MEASURED_ROUNDS / 2] / 1_000.0, allocatedPerRound);
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean()
+                instanceof com.sun.management.ThreadMXBean threadMXBean) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static void report(
+            String type, ResponsePayload body, Measurement tree, Measurement streaming) {
+        log.info(
+                "[{} parse] bytes={}, readTree={}us/{}B, streaming={}us/{}B, speedup={}x",
+                type,
+                body.length(),
+                String.format("%.1f", tree.medianMicros()),
+                tree.allocatedBytes(),
+                String.format("%.1f", streaming.medianMicros()),
+                streaming.allocatedBytes(),
+                String.format(
+                        "%.1f", tree.medianMicros() / Math.max(streaming.medianMicros(), 0.001)));
+    }
+
+    private static ResponsePayload load(String fileName) {
+        try (InputStream in =
+                ResponseParserBenchmarkTest.class.getResourceAsStream(
+                        "/payload/crawl/" + fileName)) {
+            assertThat(in).as("payload %s", fileName).isNotNull();
+            return ResponsePayload.of(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Measurement(double medianMicros, long allocatedBytes) {}
+}
@@ -1,5 +1,6 @@
 package com.ryuqq.crawlinghub.application.execution.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -18,6 +19,8 @@ import com.ryuqq.crawlinghub.domain.execution.exception.RetryableExecutionExcept
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -125,4 +128,51 @@ class CrawlTaskExecutionServiceTest {
                     .hasMessageContaining("비즈니스 예외");
         }
     }
+
+    @Nested
+    @DisplayName("executeAsync() 크롤 태스크 비동기 실행 테스트")
+    class ExecuteAsync {
+
+        private final Executor completionExecutor = Runnable::run;
+
+        @Test
+        @DisplayName("[성공] 검증 통과 → Factory Bundle 생성 → Coordinator.executeAsync Future 반환")
+        void shouldCreateBundleAndDelegateToCoordinatorAsync() {
+            // Given
+            ExecuteCrawlTaskCommand command =
+                    new ExecuteCrawlTaskCommand(1L, 1L, 1L, "META", "https://example.com/api");
+            CrawlTask task = CrawlTaskFixture.aPublishedTask();
+            CrawlTaskExecutionBundle bundle =
+                    CrawlTaskExecutionBundle.of(
+                            task, CrawlExecutionFixture.forNew(), command, Instant.now());
+            CompletableFuture<Void> expected = new CompletableFuture<>();
+
+            given(validator.validateAndGet(1L)).willReturn(Optional.of(task));
+            given(commandFactory.createExecutionBundle(task, command)).willReturn(bundle);
+            given(coordinator.executeAsync(bundle, completionExecutor)).willReturn(expected);
+
+            // When
+            CompletableFuture<Void> result = service.executeAsync(command, completionExecutor);
+
+            // Then
+            assertThat(result).isSameAs(expected);
+            then(coordinator).should(never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("[멱등성] 이미 처리된 Task인 경우 완료된 Future 반환 (Coordinator 호출하지 않음)")
+        void shouldReturnCompletedFutureWhenTaskAlreadyProcessed() {
+            // Given
+            ExecuteCrawlTaskCommand command =
+                    new ExecuteCrawlTaskCommand(1L, 1L, 1L, "META", "https://example.com/api");
+            given(validator.validateAndGet(1L)).willReturn(Optional.empty());
+
+            // When
+            CompletableFuture<Void> result = service.executeAsync(command, completionExecutor);
+
+            // Then
+            assertThat(result).isCompleted();
+            then(coordinator).should(never()).executeAsync(any(), any());
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.monitoring.dto.composite;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult.SystemStatus;
+import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.Test;
 @DisplayName("DashboardSummaryResult 테스트")
 class DashboardSummaryResultTest {
 
+    private static final Instant AGGREGATED_AT = Instant.parse("2024-01-15T10:00:00Z");
+
     @Nested
     @DisplayName("생성 테스트")
     class Constructor {
@@ -27,7 +30,7 @@ class DashboardSummaryResultTest {
         void shouldCreateHealthyDashboard() {
             // When
             DashboardSummaryResult result =
-                    new DashboardSummaryResult(5L, 3L, 2L, 0L, SystemStatus.HEALTHY);
+                    new DashboardSummaryResult(5L, 3L, 2L, 0L, SystemStatus.HEALTHY, AGGREGATED_AT);
 
             // Then
             assertThat(result.activeSchedulers()).isEqualTo(5L);
@@ -42,7 +45,8 @@ class DashboardSummaryResultTest {
         void shouldCreateWarningDashboard() {
             // When
             DashboardSummaryResult result =
-                    new DashboardSummaryResult(10L, 8L, 15L, 5L, SystemStatus.WARNING);
+                    new DashboardSummaryResult(
+                            10L, 8L, 15L, 5L, SystemStatus.WARNING, AGGREGATED_AT);
 
             // Then
             assertThat(result.overallStatus()).isEqualTo(SystemStatus.WARNING);
@@ -54,7 +58,8 @@ class DashboardSummaryResultTest {
         void shouldCreateCriticalDashboard() {
             // When
             DashboardSummaryResult result =
-                    new DashboardSummaryResult(0L, 0L, 100L, 50L, SystemStatus.CRITICAL);
+                    new DashboardSummaryResult(
+                            0L, 0L, 100L, 50L, SystemStatus.CRITICAL, AGGREGATED_AT);
 
             // Then
             assertThat(result.overallStatus()).isEqualTo(SystemStatus.CRITICAL);
@@ -0,0 +1,132 @@
+package com.ryuqq.crawlinghub.application.monitoring.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
+import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult;
+import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult.SystemStatus;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DashboardSummarySnapshotHolder 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("DashboardSummarySnapshotHolder 테스트")
+class DashboardSummarySnapshotHolderTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+    private static final Duration LOOKBACK = Duration.ofHours(1);
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
+    private DashboardSummarySnapshotHolder holder;
+    private AtomicInteger aggregations;
+
+    @BeforeEach
+    void setUp() {
+        holder =
+                new DashboardSummarySnapshotHolder(
+                        new TimeProvider(Clock.fixed(NOW, ZoneOffset.UTC)));
+        aggregations = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("get() 스냅샷 조회")
+    class Get {
+
+        @Test
+        @DisplayName("[성공] 최대 허용 지연이 지난 스냅샷은 다시 집계한다")
+        void shouldRefreshStaleSnapshot() {
+            // Given
+            holder.get(LOOKBACK, MAX_STALENESS, () -> aggregate(NOW.minusSeconds(31)));
+
+            // When
+            DashboardSummaryResult result =
+                    holder.get(LOOKBACK, MAX_STALENESS, () -> aggregate(NOW));
+
+            // Then
+            assertThat(result.aggregatedAt()).isEqualTo(NOW);
+            assertThat(aggregations.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 조회 기간별로 스냅샷을 따로 보관한다")
+        void shouldKeepSnapshotPerLookback() {
+            // When
+            holder.get(LOOKBACK, MAX_STALENESS, () -> aggregate(NOW));
+            holder.get(Duration.ofHours(24), MAX_STALENESS, () -> aggregate(NOW));
+            holder.get(LOOKBACK, MAX_STALENESS, () -> aggregate(NOW));
+
+            // Then
+            assertThat(aggregations.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 최대 허용 지연이 0이면 매번 집계한다")
+        void shouldAggregateEveryTimeWhenMaxStalenessIsZero() {
+            // When
+            holder.get(LOOKBACK, Duration.ZERO, () -> aggregate(NOW));
+            holder.get(LOOKBACK, Duration.ZERO, () -> aggregate(NOW));
+
+            // Then
+            assertThat(aggregations.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 다른 요청이 갱신 중이면 직전 스냅샷을 바로 반환한다")
+        void shouldServePreviousSnapshotWhileRefreshing() throws Exception {
+            // Given
+            DashboardSummaryResult previous =
+                    holder.get(LOOKBACK, MAX_STALENESS, () -> aggregate(NOW.minusSeconds(60)));
+            CountDownLatch refreshing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<DashboardSummaryResult> refresh =
+                    CompletableFuture.supplyAsync(
+                            () ->
+                                    holder.get(
+                                            LOOKBACK,
+                                            MAX_STALENESS,
+                                            () -> {
+                                                refreshing.countDown();
+                                                await(release);
+                                                return aggregate(NOW);
+                                            }));
+            assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            DashboardSummaryResult result =
+                    holder.get(LOOKBACK, MAX_STALENESS, () -> aggregate(NOW));
+
+            // Then
+            assertThat(result).isEqualTo(previous);
+            release.countDown();
+            assertThat(refresh.get(5, TimeUnit.SECONDS).aggregatedAt()).isEqualTo(NOW);
+            assertThat(aggregations.get()).isEqualTo(2);
+        }
+    }
+
+    private DashboardSummaryResult aggregate(Instant aggregatedAt) {
+        aggregations.incrementAndGet();
+        return new DashboardSummaryResult(1L, 2L, 3L, 0L, SystemStatus.HEALTHY, aggregatedAt);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,15 +4,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult;
 import com.ryuqq.crawlinghub.application.monitoring.dto.composite.DashboardSummaryResult.SystemStatus;
+import com.ryuqq.crawlinghub.application.monitoring.internal.DashboardSummarySnapshotHolder;
 import com.ryuqq.crawlinghub.application.monitoring.port.out.query.MonitoringCompositeQueryPort;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,9 +33,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("GetDashboardSummaryService 테스트")
 class GetDashboardSummaryServiceTest {
 
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(30);
+
     @Mock private MonitoringCompositeQueryPort monitoringCompositeQueryPort;
 
-    @InjectMocks private GetDashboardSummaryService service;
+    private GetDashboardSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        TimeProvider timeProvider = new TimeProvider(Clock.fixed(NOW, ZoneOffset.UTC));
+        service =
+                new GetDashboardSummaryService(
+                        monitoringCompositeQueryPort,
+                        new DashboardSummarySnapshotHolder(timeProvider));
+    }
 
     @Nested
     @DisplayName("execute() 대시보드 요약 조회 테스트")
@@ -42,11 +59,11 @@ class GetDashboardSummaryServiceTest {
             // Given
             Duration lookback = Duration.ofHours(1);
             DashboardSummaryResult expected =
-                    new DashboardSummaryResult(5L, 3L, 2L, 0L, SystemStatus.HEALTHY);
+                    new DashboardSummaryResult(5L, 3L, 2L, 0L, SystemStatus.HEALTHY, NOW);
             given(monitoringCompositeQueryPort.getDashboardSummary(lookback)).willReturn(expected);
 
             // When
-            DashboardSummaryResult result = service.execute(lookback);
+            DashboardSummaryResult result = service.execute(lookback, MAX_STALENESS);
 
             // Then
             assertThat(result).isEqualTo(expected);
@@ -56,20 +73,22 @@ class GetDashboardSummaryServiceTest {
         }
 
         @Test
-        @DisplayName("[성공] 경고 상태 대시보드 반환")
-        void shouldReturnWarningDashboard() {
+        @DisplayName("[성공] 최대 허용 지연 이내의 재조회는 집계 없이 스냅샷을 반환")
+        void shouldServeSnapshotWithinMaxStaleness() {
             // Given
             Duration lookback = Duration.ofHours(24);
             DashboardSummaryResult expected =
-                    new DashboardSummaryResult(10L, 8L, 5L, 3L, SystemStatus.WARNING);
+                    new DashboardSummaryResult(
+                            10L, 8L, 5L, 3L, SystemStatus.WARNING, NOW.minusSeconds(10));
             given(monitoringCompositeQueryPort.getDashboardSummary(lookback)).willReturn(expected);
 
             // When
-            DashboardSummaryResult result = service.execute(lookback);
+            service.execute(lookback, MAX_STALENESS);
+            DashboardSummaryResult result = service.execute(lookback, MAX_STALENESS);
 
             // Then
-            assertThat(result.overallStatus()).isEqualTo(SystemStatus.WARNING);
-            assertThat(result.recentErrors()).isEqualTo(3L);
+            assertThat(result).isEqualTo(expected);
+            then(monitoringCompositeQueryPort).should().getDashboardSummary(lookback);
         }
     }
 }
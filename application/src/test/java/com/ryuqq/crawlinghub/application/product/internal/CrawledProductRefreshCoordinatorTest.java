@@ -2,18 +2,12 @@ package com.ryuqq.crawlinghub.application.product.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
-import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerReadManager;
-import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
+import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerCacheReadManager;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerCacheReadManager;
 import com.ryuqq.crawlinghub.application.task.dto.command.CreateCrawlTaskCommand;
-import com.ryuqq.crawlinghub.domain.common.vo.DeletionStatus;
-import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
-import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
-import com.ryuqq.crawlinghub.domain.product.vo.CrawlCompletionStatus;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductChangeType;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductImages;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductOptions;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductPrice;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
 import com.ryuqq.crawlinghub.domain.schedule.vo.CronExpression;
@@ -26,7 +20,6 @@ import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.time.Instant;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,15 +43,20 @@ class CrawledProductRefreshCoordinatorTest {
     private static final Instant FIXED_INSTANT = Instant.parse("2025-01-01T00:00:00Z");
     private static final SellerId SELLER_ID = SellerId.of(100L);
 
-    @Mock private CrawlSchedulerReadManager crawlSchedulerReadManager;
-    @Mock private SellerReadManager sellerReadManager;
+    @Mock private CrawlSchedulerCacheReadManager crawlSchedulerCacheReadManager;
+    @Mock private SellerCacheReadManager sellerCacheReadManager;
 
     private CrawledProductRefreshCoordinator coordinator;
 
     @BeforeEach
     void setUp() {
         coordinator =
-                new CrawledProductRefreshCoordinator(crawlSchedulerReadManager, sellerReadManager);
+                new CrawledProductRefreshCoordinator(
+                        crawlSchedulerCacheReadManager, sellerCacheReadManager);
+    }
+
+    private StaleCrawledProductKey staleKey(long sellerId, long itemNo) {
+        return new StaleCrawledProductKey(itemNo, sellerId, itemNo, FIXED_INSTANT);
     }
 
     @Nested
@@ -71,18 +69,15 @@ class CrawledProductRefreshCoordinatorTest {
             // Given
             CrawlScheduler scheduler = createTestScheduler(10L, SELLER_ID);
             Seller seller = createTestSeller(SELLER_ID, "testShop");
-            List<CrawledProduct> products =
-                    List.of(
-                            createTestProduct(1L, 100L, 10001L),
-                            createTestProduct(2L, 100L, 10002L));
+            List<StaleCrawledProductKey> keys =
+                    List.of(staleKey(100L, 10001L), staleKey(100L, 10002L));
 
-            given(crawlSchedulerReadManager.findActiveSchedulersBySellerId(SELLER_ID))
+            given(crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(SELLER_ID))
                     .willReturn(List.of(scheduler));
-            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(sellerCacheReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
 
             // When
-            List<CreateCrawlTaskCommand> commands =
-                    coordinator.buildRefreshCommands(SELLER_ID, products);
+            List<CreateCrawlTaskCommand> commands = coordinator.buildRefreshCommands(keys);
 
             // Then
             assertThat(commands).hasSize(4);
@@ -102,13 +97,12 @@ class CrawledProductRefreshCoordinatorTest {
         @DisplayName("[성공] 활성 스케줄러 없음 → 빈 리스트 반환")
         void shouldReturnEmptyWhenNoActiveSchedulers() {
             // Given
-            given(crawlSchedulerReadManager.findActiveSchedulersBySellerId(SELLER_ID))
+            given(crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(SELLER_ID))
                     .willReturn(List.of());
 
             // When
             List<CreateCrawlTaskCommand> commands =
-                    coordinator.buildRefreshCommands(
-                            SELLER_ID, List.of(createTestProduct(1L, 100L, 10001L)));
+                    coordinator.buildRefreshCommands(List.of(staleKey(100L, 10001L)));
 
             // Then
             assertThat(commands).isEmpty();
@@ -119,14 +113,13 @@ class CrawledProductRefreshCoordinatorTest {
         void shouldReturnEmptyWhenSellerNotFound() {
             // Given
             CrawlScheduler scheduler = createTestScheduler(10L, SELLER_ID);
-            given(crawlSchedulerReadManager.findActiveSchedulersBySellerId(SELLER_ID))
+            given(crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(SELLER_ID))
                     .willReturn(List.of(scheduler));
-            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.empty());
+            given(sellerCacheReadManager.findById(SELLER_ID)).willReturn(Optional.empty());
 
             // When
             List<CreateCrawlTaskCommand> commands =
-                    coordinator.buildRefreshCommands(
-                            SELLER_ID, List.of(createTestProduct(1L, 100L, 10001L)));
+                    coordinator.buildRefreshCommands(List.of(staleKey(100L, 10001L)));
 
             // Then
             assertThat(commands).isEmpty();
@@ -139,56 +132,54 @@ class CrawledProductRefreshCoordinatorTest {
             CrawlScheduler scheduler = createTestScheduler(10L, SELLER_ID);
             Seller seller = createTestSeller(SELLER_ID, "testShop");
 
-            given(crawlSchedulerReadManager.findActiveSchedulersBySellerId(SELLER_ID))
+            given(crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(SELLER_ID))
                     .willReturn(List.of(scheduler));
-            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(sellerCacheReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
 
             // When
             List<CreateCrawlTaskCommand> commands =
-                    coordinator.buildRefreshCommands(
-                            SELLER_ID, List.of(createTestProduct(1L, 100L, 10001L)));
+                    coordinator.buildRefreshCommands(List.of(staleKey(100L, 10001L)));
 
             // Then
             assertThat(commands).hasSize(2);
             assertThat(commands.get(0).sellerId()).isEqualTo(100L);
             assertThat(commands.get(1).sellerId()).isEqualTo(100L);
         }
-    }
 
-    private CrawledProduct createTestProduct(long id, long sellerId, long itemNo) {
-        CrawlCompletionStatus status =
-                CrawlCompletionStatus.initial()
-                        .withMiniShopCrawled(FIXED_INSTANT)
-                        .withDetailCrawled(FIXED_INSTANT)
-                        .withOptionCrawled(FIXED_INSTANT);
-
-        return CrawledProduct.reconstitute(
-                CrawledProductId.of(id),
-                SellerId.of(sellerId),
-                itemNo,
-                "Test Product",
-                "Test Brand",
-                0L,
-                ProductPrice.of(10000, 12000, 12000, 9000, 10, 10),
-                ProductImages.empty(),
-                true,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                ProductOptions.empty(),
-                status,
-                itemNo,
-                null,
-                false,
-                EnumSet.noneOf(ProductChangeType.class),
-                DeletionStatus.active(),
-                FIXED_INSTANT,
-                FIXED_INSTANT,
-                null);
+        @Test
+        @DisplayName("[성공] 셀러가 섞인 키 → 셀러당 scheduler/seller 1회 조회, 조회 실패 셀러만 제외")
+        void shouldResolveEachSellerOnce() {
+            // Given
+            SellerId otherSellerId = SellerId.of(200L);
+            CrawlScheduler scheduler = createTestScheduler(10L, SELLER_ID);
+            Seller seller = createTestSeller(SELLER_ID, "testShop");
+            List<StaleCrawledProductKey> keys =
+                    List.of(
+                            staleKey(100L, 10001L),
+                            staleKey(200L, 20001L),
+                            staleKey(100L, 10002L),
+                            staleKey(200L, 20002L));
+
+            given(crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(SELLER_ID))
+                    .willReturn(List.of(scheduler));
+            given(sellerCacheReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(crawlSchedulerCacheReadManager.findActiveSchedulersBySellerId(otherSellerId))
+                    .willReturn(List.of());
+
+            // When
+            List<CreateCrawlTaskCommand> commands = coordinator.buildRefreshCommands(keys);
+
+            // Then
+            assertThat(commands)
+                    .extracting(CreateCrawlTaskCommand::targetId)
+                    .containsExactly(10001L, 10001L, 10002L, 10002L);
+            then(crawlSchedulerCacheReadManager).should().findActiveSchedulersBySellerId(SELLER_ID);
+            then(crawlSchedulerCacheReadManager)
+                    .should()
+                    .findActiveSchedulersBySellerId(otherSellerId);
+            then(sellerCacheReadManager).should().findById(SELLER_ID);
+            then(sellerCacheReadManager).shouldHaveNoMoreInteractions();
+        }
     }
 
     private CrawlScheduler createTestScheduler(long schedulerId, SellerId sellerId) {
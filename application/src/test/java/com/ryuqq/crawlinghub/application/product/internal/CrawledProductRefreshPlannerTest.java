@@ -0,0 +1,126 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
+import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskReadManager;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.manager.UserAgentPoolCacheQueryManager;
+import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawledProductRefreshPlanner 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawledProductRefreshPlanner 테스트")
+class CrawledProductRefreshPlannerTest {
+
+    private static final RefreshStaleCrawledProductsCommand COMMAND =
+            RefreshStaleCrawledProductsCommand.of(40, 500, 2, 180);
+
+    @Mock private CrawlTaskReadManager crawlTaskReadManager;
+    @Mock private UserAgentPoolCacheQueryManager poolCacheQueryManager;
+
+    private CrawledProductRefreshPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new CrawledProductRefreshPlanner(crawlTaskReadManager, poolCacheQueryManager);
+    }
+
+    private PoolStats poolStatsWithIdle(long available) {
+        return new PoolStats(100, available, 0, 0, 0, 90.0, 80, 100);
+    }
+
+    @Nested
+    @DisplayName("planProductBudget")
+    class PlanProductBudget {
+
+        @Test
+        @DisplayName("[성공] 여유가 충분하면 목표 속도 기준 (태스크 40 → 상품 20)")
+        void shouldUseTargetRateWhenCapacityIsAmple() {
+            // Given
+            given(crawlTaskReadManager.countByCriteria(any(CrawlTaskCriteria.class)))
+                    .willReturn(0L);
+            given(poolCacheQueryManager.getPoolStats()).willReturn(poolStatsWithIdle(50));
+
+            // When
+            int budget = planner.planProductBudget(COMMAND);
+
+            // Then
+            assertThat(budget).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("[성공] 대기 큐 여유분이 작으면 큐 기준 (여유 10 → 상품 5)")
+        void shouldLimitByQueueHeadroom() {
+            // Given
+            given(crawlTaskReadManager.countByCriteria(any(CrawlTaskCriteria.class)))
+                    .willReturn(490L);
+            given(poolCacheQueryManager.getPoolStats()).willReturn(poolStatsWithIdle(50));
+
+            // When
+            int budget = planner.planProductBudget(COMMAND);
+
+            // Then
+            assertThat(budget).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("[성공] IDLE UserAgent가 적으면 UserAgent 기준 (IDLE 3 × 2 → 태스크 6 → 상품 3)")
+        void shouldLimitByIdleAgents() {
+            // Given
+            given(crawlTaskReadManager.countByCriteria(any(CrawlTaskCriteria.class)))
+                    .willReturn(0L);
+            given(poolCacheQueryManager.getPoolStats()).willReturn(poolStatsWithIdle(3));
+
+            // When
+            int budget = planner.planProductBudget(COMMAND);
+
+            // Then
+            assertThat(budget).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("[스킵] 대기 큐가 한도를 넘으면 0")
+        void shouldReturnZeroWhenQueueIsFull() {
+            // Given
+            given(crawlTaskReadManager.countByCriteria(any(CrawlTaskCriteria.class)))
+                    .willReturn(800L);
+            given(poolCacheQueryManager.getPoolStats()).willReturn(poolStatsWithIdle(50));
+
+            // When
+            int budget = planner.planProductBudget(COMMAND);
+
+            // Then
+            assertThat(budget).isZero();
+        }
+
+        @Test
+        @DisplayName("[스킵] IDLE UserAgent가 없으면 0")
+        void shouldReturnZeroWhenNoIdleAgents() {
+            // Given
+            given(crawlTaskReadManager.countByCriteria(any(CrawlTaskCriteria.class)))
+                    .willReturn(0L);
+            given(poolCacheQueryManager.getPoolStats()).willReturn(PoolStats.empty());
+
+            // When
+            int budget = planner.planProductBudget(COMMAND);
+
+            // Then
+            assertThat(budget).isZero();
+        }
+    }
+}
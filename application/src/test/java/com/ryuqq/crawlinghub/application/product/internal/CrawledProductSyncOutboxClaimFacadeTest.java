@@ -0,0 +1,116 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixture;
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxCommandManager;
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxReadManager;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductSyncOutboxId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawledProductSyncOutboxClaimFacade 단위 테스트
+ *
+ * <p>Mockist 스타일 테스트: ReadManager, CommandManager 의존성 Mocking
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("application")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawledProductSyncOutboxClaimFacade 단위 테스트")
+class CrawledProductSyncOutboxClaimFacadeTest {
+
+    @Mock private CrawledProductSyncOutboxReadManager readManager;
+    @Mock private CrawledProductSyncOutboxCommandManager commandManager;
+
+    @InjectMocks private CrawledProductSyncOutboxClaimFacade sut;
+
+    @Nested
+    @DisplayName("claimPendingOutboxes() 메서드 테스트")
+    class ClaimPendingOutboxesTest {
+
+        @Test
+        @DisplayName("[성공] 잠금 조회한 PENDING Outbox를 모두 PROCESSING으로 전환")
+        void shouldMarkLockedOutboxesAsProcessing() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending();
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending();
+            given(readManager.findPendingOutboxesForUpdate(50))
+                    .willReturn(List.of(outbox1, outbox2));
+
+            // When
+            List<CrawledProductSyncOutbox> claimed = sut.claimPendingOutboxes(50);
+
+            // Then
+            assertThat(claimed).containsExactly(outbox1, outbox2);
+            then(commandManager).should().markAllAsProcessing(List.of(outbox1, outbox2));
+            then(commandManager).should(never()).markAsProcessing(any());
+        }
+
+        @Test
+        @DisplayName("[성공] 선점 가능한 Outbox가 없으면 빈 목록 반환")
+        void shouldReturnEmptyWhenNothingToClaim() {
+            // Given
+            given(readManager.findPendingOutboxesForUpdate(50)).willReturn(List.of());
+
+            // When
+            List<CrawledProductSyncOutbox> claimed = sut.claimPendingOutboxes(50);
+
+            // Then
+            assertThat(claimed).isEmpty();
+            then(commandManager).should(never()).markAsProcessing(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("claimSentByIds() 메서드 테스트")
+    class ClaimSentByIdsTest {
+
+        @Test
+        @DisplayName("[성공] 잠금 조회한 SENT Outbox만 PROCESSING으로 전환")
+        void shouldMarkOnlyLockedSentOutboxesAsProcessing() {
+            // Given
+            List<CrawledProductSyncOutboxId> ids =
+                    List.of(CrawledProductSyncOutboxId.of(2L), CrawledProductSyncOutboxId.of(3L));
+            CrawledProductSyncOutbox locked =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+            given(readManager.findSentByIdsForUpdate(ids)).willReturn(List.of(locked));
+
+            // When
+            List<CrawledProductSyncOutbox> claimed = sut.claimSentByIds(ids);
+
+            // Then
+            assertThat(claimed).containsExactly(locked);
+            then(commandManager).should().markAllAsProcessing(List.of(locked));
+        }
+
+        @Test
+        @DisplayName("[성공] 후보가 없으면 조회하지 않고 빈 목록 반환")
+        void shouldReturnEmptyWithoutQueryWhenNoIds() {
+            // When
+            List<CrawledProductSyncOutbox> claimed = sut.claimSentByIds(List.of());
+
+            // Then
+            assertThat(claimed).isEmpty();
+            then(readManager).should(never()).findSentByIdsForUpdate(any());
+            then(commandManager).should(never()).markAllAsProcessing(any());
+        }
+    }
+}
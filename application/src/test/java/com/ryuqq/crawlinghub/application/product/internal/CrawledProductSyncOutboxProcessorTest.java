@@ -1,15 +1,23 @@
 package com.ryuqq.crawlinghub.application.product.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixture;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncMessageManager;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxCommandManager;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -64,6 +72,25 @@ class CrawledProductSyncOutboxProcessorTest {
             inOrder.verify(commandManager).markAsSent(outbox);
         }
 
+        @Test
+        @DisplayName("[성공] 이미 선점된 PROCESSING Outbox는 markAsProcessing 없이 발행")
+        void shouldSkipMarkAsProcessingWhenAlreadyClaimed() {
+            // Given
+            CrawledProductSyncOutbox outbox =
+                    CrawledProductSyncOutboxFixture.aReconstitutedProcessing();
+            willDoNothing().given(messageManager).publish(outbox);
+            willDoNothing().given(commandManager).markAsSent(outbox);
+
+            // When
+            boolean result = sut.processOutbox(outbox);
+
+            // Then
+            assertThat(result).isTrue();
+            then(commandManager).should(never()).markAsProcessing(outbox);
+            then(messageManager).should().publish(outbox);
+            then(commandManager).should().markAsSent(outbox);
+        }
+
         @Test
         @DisplayName("[실패] SQS 발행 예외 발생 시 false 반환 및 FAILED 처리")
         void shouldReturnFalseAndMarkAsFailedWhenPublishThrowsException() {
@@ -109,4 +136,125 @@ class CrawledProductSyncOutboxProcessorTest {
                             org.mockito.ArgumentMatchers.contains("SQS 발행 실패"));
         }
     }
+
+    @Nested
+    @DisplayName("processOutboxes() 메서드 테스트")
+    class ProcessOutboxesTest {
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 발행 없이 빈 결과 반환")
+        void shouldReturnEmptyResultWhenNoOutboxes() {
+            // When
+            SchedulerBatchProcessingResult result = sut.processOutboxes(List.of());
+
+            // Then
+            assertThat(result.total()).isZero();
+            then(messageManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("[성공] 한 번의 일괄 발행 후 PROCESSING/SENT 전환을 일괄 반영")
+        void shouldMarkAllAsSentWhenBatchSucceeds() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+            List<CrawledProductSyncOutbox> outboxes = List.of(outbox1, outbox2);
+            given(messageManager.publishAll(outboxes))
+                    .willReturn(List.of(BatchItemResult.success(1L), BatchItemResult.success(2L)));
+
+            // When
+            SchedulerBatchProcessingResult result = sut.processOutboxes(outboxes);
+
+            // Then
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(2);
+            assertThat(result.failed()).isZero();
+            then(commandManager).should().markAllAsProcessing(outboxes);
+            then(commandManager).should().markAllAsSent(outboxes);
+            then(commandManager).should(never()).markAllAsFailed(any());
+            then(commandManager).should(never()).markAsSent(any());
+            then(messageManager).should(never()).publish(outbox1);
+        }
+
+        @Test
+        @DisplayName("[부분 실패] 항목별 발행 실패는 해당 Outbox만 오류 메시지와 함께 FAILED 처리")
+        void shouldMarkOnlyFailedEntriesAsFailed() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+            List<CrawledProductSyncOutbox> outboxes = List.of(outbox1, outbox2);
+            given(messageManager.publishAll(outboxes))
+                    .willReturn(
+                            List.of(
+                                    BatchItemResult.success(1L),
+                                    BatchItemResult.failure(2L, "InternalError", "SQS 오류")));
+
+            // When
+            SchedulerBatchProcessingResult result = sut.processOutboxes(outboxes);
+
+            // Then
+            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.failed()).isEqualTo(1);
+            then(commandManager).should().markAllAsSent(List.of(outbox1));
+            then(commandManager).should().markAllAsFailed(Map.of(outbox2, "SQS 발행 실패: SQS 오류"));
+        }
+
+        @Test
+        @DisplayName("[실패] 일괄 발행 호출 자체가 실패하면 모든 Outbox FAILED 처리")
+        void shouldMarkAllAsFailedWhenBatchCallFails() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+            given(messageManager.publishAll(anyList()))
+                    .willThrow(new RuntimeException("SQS 연결 실패"));
+
+            // When
+            SchedulerBatchProcessingResult result = sut.processOutboxes(List.of(outbox1, outbox2));
+
+            // Then
+            assertThat(result.success()).isZero();
+            assertThat(result.failed()).isEqualTo(2);
+            then(commandManager)
+                    .should()
+                    .markAllAsFailed(
+                            Map.of(
+                                    outbox1, "SQS 발행 실패: 발행 결과 없음",
+                                    outbox2, "SQS 발행 실패: 발행 결과 없음"));
+            then(commandManager).should().markAllAsSent(List.of());
+        }
+
+        @Test
+        @DisplayName("[실패] PROCESSING 일괄 전환 실패 시 발행 없이 모든 Outbox FAILED 처리")
+        void shouldMarkAllAsFailedWhenMarkAllAsProcessingFails() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+            willThrow(new RuntimeException("DB 오류"))
+                    .given(commandManager)
+                    .markAllAsProcessing(anyList());
+
+            // When
+            SchedulerBatchProcessingResult result = sut.processOutboxes(List.of(outbox1, outbox2));
+
+            // Then
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isZero();
+            assertThat(result.failed()).isEqualTo(2);
+            then(messageManager).should(never()).publishAll(anyList());
+            then(commandManager)
+                    .should()
+                    .markAllAsFailed(
+                            Map.of(
+                                    outbox1, "SQS 발행 실패: DB 오류",
+                                    outbox2, "SQS 발행 실패: DB 오류"));
+        }
+    }
 }
@@ -0,0 +1,209 @@
+package com.ryuqq.crawlinghub.application.product.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
+import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand.PartitionKey;
+import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessor;
+import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessorProvider;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
+import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawledRawBatchProcessor 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawledRawBatchProcessor 테스트")
+class CrawledRawBatchProcessorTest {
+
+    @Mock private CrawledRawProcessorProvider crawledRawProcessorProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private RecordingProcessor recordingProcessor;
+    private CrawledRawBatchProcessor sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+        recordingProcessor = new RecordingProcessor();
+        sut =
+                new CrawledRawBatchProcessor(
+                        crawledRawProcessorProvider, new CrawlHubMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("processAll() 파티션 처리")
+    class ProcessAll {
+
+        @Test
+        @DisplayName("[성공] 빈 목록은 프로세서 호출 없이 빈 결과를 반환한다")
+        void shouldReturnEmptyOutcomeForEmptyBatch() {
+            // When
+            CrawledRawBatchProcessor.Outcome outcome =
+                    sut.processAll(List.of(), PartitionKey.SELLER, 4, executor);
+
+            // Then
+            assertThat(outcome.processed()).isEmpty();
+            assertThat(outcome.failed()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("[성공] 같은 셀러의 Raw는 한 스레드에서 조회 순서대로 처리된다")
+        void shouldProcessSameSellerOnSingleThreadInOrder() {
+            // Given
+            given(crawledRawProcessorProvider.getProcessor(CrawlType.DETAIL))
+                    .willReturn(recordingProcessor);
+            List<CrawledRaw> raws = new ArrayList<>();
+            long id = 1L;
+            for (long sellerId = 1L; sellerId <= 4L; sellerId++) {
+                for (long itemNo = 1L; itemNo <= 5L; itemNo++) {
+                    raws.add(raw(id++, sellerId, itemNo));
+                }
+            }
+
+            // When
+            CrawledRawBatchProcessor.Outcome outcome =
+                    sut.processAll(raws, PartitionKey.SELLER, 4, executor);
+
+            // Then
+            assertThat(outcome.processed()).hasSize(20);
+            assertThat(outcome.failed()).isEmpty();
+            for (long sellerId = 1L; sellerId <= 4L; sellerId++) {
+                assertThat(recordingProcessor.threadsBySeller.get(sellerId)).hasSize(1);
+                assertThat(recordingProcessor.itemOrderBySeller.get(sellerId))
+                        .containsExactly(1L, 2L, 3L, 4L, 5L);
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 동시 처리 수는 parallelism을 넘지 않는다")
+        void shouldNotExceedParallelism() {
+            // Given
+            given(crawledRawProcessorProvider.getProcessor(CrawlType.DETAIL))
+                    .willReturn(recordingProcessor);
+            List<CrawledRaw> raws = new ArrayList<>();
+            for (long sellerId = 1L; sellerId <= 10L; sellerId++) {
+                raws.add(raw(sellerId, sellerId, 1L));
+            }
+
+            // When
+            CrawledRawBatchProcessor.Outcome outcome =
+                    sut.processAll(raws, PartitionKey.SELLER_ITEM, 2, executor);
+
+            // Then
+            assertThat(outcome.processed()).hasSize(10);
+            assertThat(recordingProcessor.maxInFlight.get()).isLessThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[실패] 가공 실패한 Raw만 에러 메시지와 함께 실패 목록에 담긴다")
+        void shouldIsolateFailedRaw() {
+            // Given
+            CrawledRaw failing = raw(2L, 1L, 2L);
+            recordingProcessor.failOn = failing;
+            given(crawledRawProcessorProvider.getProcessor(CrawlType.DETAIL))
+                    .willReturn(recordingProcessor);
+            List<CrawledRaw> raws = List.of(raw(1L, 1L, 1L), failing, raw(3L, 2L, 1L));
+
+            // When
+            CrawledRawBatchProcessor.Outcome outcome =
+                    sut.processAll(raws, PartitionKey.SELLER, 2, executor);
+
+            // Then
+            assertThat(outcome.processed()).hasSize(2).doesNotContain(failing);
+            assertThat(outcome.failed()).containsExactly(Map.entry(failing, "역직렬화 실패"));
+            assertThat(
+                            meterRegistry
+                                    .find("crawlinghub.crawled_raw_partition_duration_seconds")
+                                    .timer()
+                                    .count())
+                    .isEqualTo(2L);
+        }
+    }
+
+    private static CrawledRaw raw(long id, long sellerId, long itemNo) {
+        return CrawledRaw.reconstitute(
+                CrawledRawId.of(id),
+                1L,
+                sellerId,
+                itemNo,
+                CrawlType.DETAIL,
+                "{}",
+                RawDataStatus.PENDING,
+                null,
+                Instant.now(),
+                null);
+    }
+
+    /** 처리 스레드, 셀러별 처리 순서, 동시 처리 수를 기록하는 테스트용 프로세서 */
+    private static class RecordingProcessor implements CrawledRawProcessor {
+
+        private final Map<Long, List<String>> threadsBySeller = new ConcurrentHashMap<>();
+        private final Map<Long, List<Long>> itemOrderBySeller = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private volatile CrawledRaw failOn;
+
+        @Override
+        public CrawlType supportedType() {
+            return CrawlType.DETAIL;
+        }
+
+        @Override
+        public void process(CrawledRaw raw) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                if (raw.equals(failOn)) {
+                    throw new IllegalStateException("역직렬화 실패");
+                }
+                String thread = Thread.currentThread().getName();
+                List<String> threads = listOf(threadsBySeller, raw.getSellerId());
+                if (!threads.contains(thread)) {
+                    threads.add(thread);
+                }
+                listOf(itemOrderBySeller, raw.getSellerId()).add(raw.getItemNo());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private static <T> List<T> listOf(Map<Long, List<T>> map, long sellerId) {
+            return map.computeIfAbsent(
+                    sellerId, k -> Collections.synchronizedList(new ArrayList<>()));
+        }
+    }
+}
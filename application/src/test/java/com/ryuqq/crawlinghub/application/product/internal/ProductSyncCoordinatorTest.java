@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessProductSyncCommand;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxCommandManager;
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxReadManager;
 import com.ryuqq.crawlinghub.application.product.port.out.client.ExternalProductServerClient;
 import com.ryuqq.crawlinghub.application.product.validator.ProductSyncValidator;
 import com.ryuqq.crawlinghub.application.product.validator.ProductSyncValidator.SyncTarget;
@@ -36,6 +37,8 @@ import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerStatus;
 import java.time.Instant;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +66,8 @@ class ProductSyncCoordinatorTest {
 
     @Mock private ProductSyncValidator validator;
     @Mock private CrawledProductSyncOutboxCommandManager syncOutboxCommandManager;
+    @Mock private CrawledProductSyncOutboxReadManager syncOutboxReadManager;
+    @Mock private CrawledProductSyncOutboxClaimFacade claimFacade;
     @Mock private CrawledProductCommandFacade commandFacade;
     @Mock private ExternalProductServerClient externalProductServerClient;
     @Mock private SellerReadManager sellerReadManager;
@@ -75,6 +80,8 @@ class ProductSyncCoordinatorTest {
                 new ProductSyncCoordinator(
                         validator,
                         syncOutboxCommandManager,
+                        syncOutboxReadManager,
+                        claimFacade,
                         commandFacade,
                         externalProductServerClient,
                         sellerReadManager);
@@ -199,6 +206,142 @@ class ProductSyncCoordinatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("processSyncRequest() 병합 모드 테스트")
+    class ProcessCoalescedSyncRequest {
+
+        @Test
+        @DisplayName("[성공] 같은 상품의 SENT UPDATE Outbox를 병합하고 SyncType별로 한 번만 호출")
+        void shouldCoalesceSentUpdateOutboxes() {
+            // Given
+            ProcessProductSyncCommand command = createCoalescingCommand();
+            CrawledProductSyncOutbox received = createOutbox(SyncType.UPDATE_PRICE);
+            CrawledProductSyncOutbox samePrice =
+                    createOutbox(2L, SyncType.UPDATE_PRICE, ProductOutboxStatus.SENT);
+            CrawledProductSyncOutbox image =
+                    createOutbox(3L, SyncType.UPDATE_IMAGE, ProductOutboxStatus.SENT);
+            CrawledProductSyncOutbox pending =
+                    createOutbox(4L, SyncType.UPDATE_DESCRIPTION, ProductOutboxStatus.PENDING);
+            CrawledProductSyncOutbox create =
+                    createOutbox(5L, SyncType.CREATE, ProductOutboxStatus.SENT);
+            CrawledProduct product = createMockProduct(EXTERNAL_PRODUCT_ID);
+            Seller seller = createSeller();
+
+            given(validator.validateAndResolve(command.outboxId()))
+                    .willReturn(Optional.of(new SyncTarget(received, product)));
+            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(syncOutboxReadManager.findByCrawledProductId(PRODUCT_ID))
+                    .willReturn(List.of(received, samePrice, image, pending, create));
+            given(claimFacade.claimSentByIds(List.of(samePrice.getId(), image.getId())))
+                    .willReturn(List.of(samePrice, image));
+            given(externalProductServerClient.sync(received, product, seller))
+                    .willReturn(ProductSyncResult.success(EXTERNAL_PRODUCT_ID));
+            given(externalProductServerClient.sync(image, product, seller))
+                    .willReturn(ProductSyncResult.success(EXTERNAL_PRODUCT_ID));
+
+            // When
+            boolean result = coordinator.processSyncRequest(command);
+
+            // Then
+            assertThat(result).isTrue();
+            verify(syncOutboxCommandManager).markAsProcessing(received);
+            verify(externalProductServerClient, never()).sync(eq(samePrice), any(), any());
+            verify(commandFacade).completeAllSyncAndPersist(List.of(received, samePrice, image));
+            verify(syncOutboxCommandManager).markAllAsFailed(Map.of());
+        }
+
+        @Test
+        @DisplayName("[성공] 다른 컨슈머가 먼저 선점한 SENT Outbox는 병합하지 않음")
+        void shouldMergeOnlyClaimedSiblings() {
+            // Given
+            ProcessProductSyncCommand command = createCoalescingCommand();
+            CrawledProductSyncOutbox received = createOutbox(SyncType.UPDATE_PRICE);
+            CrawledProductSyncOutbox image =
+                    createOutbox(3L, SyncType.UPDATE_IMAGE, ProductOutboxStatus.SENT);
+            CrawledProductSyncOutbox description =
+                    createOutbox(4L, SyncType.UPDATE_DESCRIPTION, ProductOutboxStatus.SENT);
+            CrawledProduct product = createMockProduct(EXTERNAL_PRODUCT_ID);
+            Seller seller = createSeller();
+
+            given(validator.validateAndResolve(command.outboxId()))
+                    .willReturn(Optional.of(new SyncTarget(received, product)));
+            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(syncOutboxReadManager.findByCrawledProductId(PRODUCT_ID))
+                    .willReturn(List.of(received, image, description));
+            given(claimFacade.claimSentByIds(List.of(image.getId(), description.getId())))
+                    .willReturn(List.of(image));
+            given(externalProductServerClient.sync(received, product, seller))
+                    .willReturn(ProductSyncResult.success(EXTERNAL_PRODUCT_ID));
+            given(externalProductServerClient.sync(image, product, seller))
+                    .willReturn(ProductSyncResult.success(EXTERNAL_PRODUCT_ID));
+
+            // When
+            boolean result = coordinator.processSyncRequest(command);
+
+            // Then
+            assertThat(result).isTrue();
+            verify(externalProductServerClient, never()).sync(eq(description), any(), any());
+            verify(commandFacade).completeAllSyncAndPersist(List.of(received, image));
+            verify(syncOutboxCommandManager).markAllAsFailed(Map.of());
+        }
+
+        @Test
+        @DisplayName("[부분 실패] 실패한 SyncType의 Outbox만 FAILED 일괄 전환")
+        void shouldMarkOnlyFailedSyncTypeAsFailed() {
+            // Given
+            ProcessProductSyncCommand command = createCoalescingCommand();
+            CrawledProductSyncOutbox received = createOutbox(SyncType.UPDATE_PRICE);
+            CrawledProductSyncOutbox image =
+                    createOutbox(3L, SyncType.UPDATE_IMAGE, ProductOutboxStatus.SENT);
+            CrawledProduct product = createMockProduct(EXTERNAL_PRODUCT_ID);
+            Seller seller = createSeller();
+
+            given(validator.validateAndResolve(command.outboxId()))
+                    .willReturn(Optional.of(new SyncTarget(received, product)));
+            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(syncOutboxReadManager.findByCrawledProductId(PRODUCT_ID))
+                    .willReturn(List.of(received, image));
+            given(claimFacade.claimSentByIds(List.of(image.getId()))).willReturn(List.of(image));
+            given(externalProductServerClient.sync(received, product, seller))
+                    .willReturn(ProductSyncResult.success(EXTERNAL_PRODUCT_ID));
+            given(externalProductServerClient.sync(image, product, seller))
+                    .willThrow(new RuntimeException("Connection refused"));
+
+            // When
+            boolean result = coordinator.processSyncRequest(command);
+
+            // Then
+            assertThat(result).isFalse();
+            verify(commandFacade).completeAllSyncAndPersist(List.of(received));
+            verify(syncOutboxCommandManager)
+                    .markAllAsFailed(Map.of(image, "API 호출 예외: Connection refused"));
+        }
+
+        @Test
+        @DisplayName("[성공] CREATE Outbox는 병합하지 않고 단건 처리")
+        void shouldNotCoalesceCreateOutbox() {
+            // Given
+            ProcessProductSyncCommand command = createCoalescingCommand();
+            CrawledProductSyncOutbox outbox = createOutbox(SyncType.CREATE);
+            CrawledProduct product = createMockProduct(null);
+            Seller seller = createSeller();
+
+            given(validator.validateAndResolve(command.outboxId()))
+                    .willReturn(Optional.of(new SyncTarget(outbox, product)));
+            given(sellerReadManager.findById(SELLER_ID)).willReturn(Optional.of(seller));
+            given(externalProductServerClient.sync(outbox, product, seller))
+                    .willReturn(ProductSyncResult.success(EXTERNAL_PRODUCT_ID));
+
+            // When
+            boolean result = coordinator.processSyncRequest(command);
+
+            // Then
+            assertThat(result).isTrue();
+            verify(syncOutboxReadManager, never()).findByCrawledProductId(any());
+            verify(commandFacade).completeSyncAndPersist(outbox, EXTERNAL_PRODUCT_ID);
+        }
+    }
+
     // === Helper Methods ===
 
     private ProcessProductSyncCommand createCommand() {
@@ -206,17 +349,27 @@ class ProductSyncCoordinatorTest {
                 1L, 1L, 100L, 12345L, "CREATE", null, "idempotency-key-123");
     }
 
+    private ProcessProductSyncCommand createCoalescingCommand() {
+        return new ProcessProductSyncCommand(
+                1L, 1L, 100L, 12345L, "UPDATE_PRICE", EXTERNAL_PRODUCT_ID, "key-123", true);
+    }
+
     private CrawledProductSyncOutbox createOutbox(SyncType syncType) {
+        return createOutbox(1L, syncType, ProductOutboxStatus.SENT);
+    }
+
+    private CrawledProductSyncOutbox createOutbox(
+            long outboxId, SyncType syncType, ProductOutboxStatus status) {
         Long externalProductId = syncType.isCreate() ? null : EXTERNAL_PRODUCT_ID;
         return CrawledProductSyncOutbox.reconstitute(
-                CrawledProductSyncOutboxId.of(1L),
+                CrawledProductSyncOutboxId.of(outboxId),
                 PRODUCT_ID,
                 SELLER_ID,
                 ITEM_NO,
                 syncType,
-                "sync-key-123",
+                "sync-key-" + outboxId,
                 externalProductId,
-                ProductOutboxStatus.SENT,
+                status,
                 0,
                 null,
                 FIXED_INSTANT,
@@ -1,9 +1,15 @@
 package com.ryuqq.crawlinghub.application.product.internal.processor;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductChange;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCommandFacade;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCoordinator;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledProductCommandManager;
@@ -18,13 +24,16 @@ import com.ryuqq.crawlinghub.domain.product.vo.ProductOptions;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductPrice;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -166,6 +175,186 @@ class CrawledProductCoordinatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("createOrUpdateAll")
+    class CreateOrUpdateAll {
+
+        @Test
+        @DisplayName("[성공] 1회 선조회 후 기존 상품 업데이트 + 미존재 상품 생성을 한 번에 저장")
+        void shouldPrefetchOnceAndPersistAllTogether() {
+            // Given
+            CrawledProduct existing = createProduct(1L, ITEM_NO, DeletionStatus.active());
+            CrawledProduct created = createProduct(null, ITEM_NO + 1, DeletionStatus.active());
+            given(readManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                            anyCollection(), anyCollection()))
+                    .willReturn(List.of(existing));
+            given(commandFacade.persistAllAndSync(any())).willReturn(List.of());
+
+            // When
+            coordinator.createOrUpdateAll(
+                    List.of(
+                            CrawledProductChange.upsert(
+                                    SELLER_ID,
+                                    ITEM_NO,
+                                    p -> {},
+                                    () -> {
+                                        throw new AssertionError("creator가 호출되면 안 됨");
+                                    }),
+                            CrawledProductChange.upsert(
+                                    SELLER_ID, ITEM_NO + 1, p -> {}, () -> created)));
+
+            // Then
+            then(commandFacade).should(times(1)).persistAllAndSync(List.of(existing, created));
+            then(readManager).should(never()).findBySellerIdAndItemNo(any(), anyLong());
+            then(commandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("[성공] soft-delete된 상품은 복원 후 업데이트")
+        void shouldRestoreDeletedProduct() {
+            // Given
+            CrawledProduct deleted =
+                    createProduct(1L, ITEM_NO, DeletionStatus.deletedAt(FIXED_INSTANT));
+            given(readManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                            anyCollection(), anyCollection()))
+                    .willReturn(List.of(deleted));
+            given(commandFacade.persistAllAndSync(any())).willReturn(List.of());
+
+            // When
+            coordinator.createOrUpdateAll(
+                    List.of(CrawledProductChange.upsert(SELLER_ID, ITEM_NO, p -> {}, () -> null)));
+
+            // Then
+            assertThat(deleted.isDeleted()).isFalse();
+            then(commandFacade).should(times(1)).persistAllAndSync(List.of(deleted));
+        }
+
+        @Test
+        @DisplayName("[성공] version 충돌 상품만 단건 흐름으로 재처리")
+        void shouldRetryConflictedProductWithSinglePath() {
+            // Given
+            CrawledProduct stale = createProduct(1L, ITEM_NO, DeletionStatus.active());
+            CrawledProduct fresh = createProduct(1L, ITEM_NO, DeletionStatus.active());
+            given(readManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                            anyCollection(), anyCollection()))
+                    .willReturn(List.of(stale));
+            given(commandFacade.persistAllAndSync(any())).willReturn(List.of(stale));
+            given(readManager.findBySellerIdAndItemNo(SELLER_ID, ITEM_NO))
+                    .willReturn(Optional.of(fresh));
+
+            // When
+            coordinator.createOrUpdateAll(
+                    List.of(CrawledProductChange.upsert(SELLER_ID, ITEM_NO, p -> {}, () -> null)));
+
+            // Then
+            then(commandFacade).should(times(1)).persistAndSync(fresh);
+        }
+
+        @Test
+        @DisplayName("[성공] 선조회 이후 다른 트랜잭션이 먼저 INSERT한 신규 상품은 재조회 후 updater로 반영")
+        void shouldRetryDuplicateInsertThroughCreateOrUpdate() {
+            // Given
+            CrawledProduct created = createProduct(null, ITEM_NO, DeletionStatus.active());
+            CrawledProduct concurrent = createProduct(7L, ITEM_NO, DeletionStatus.active());
+            List<CrawledProduct> updated = new ArrayList<>();
+            given(readManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                            anyCollection(), anyCollection()))
+                    .willReturn(List.of());
+            given(commandFacade.persistAllAndSync(List.of(created))).willReturn(List.of(created));
+            given(readManager.findBySellerIdAndItemNo(SELLER_ID, ITEM_NO))
+                    .willReturn(Optional.of(concurrent));
+
+            // When
+            coordinator.createOrUpdateAll(
+                    List.of(
+                            CrawledProductChange.upsert(
+                                    SELLER_ID, ITEM_NO, updated::add, () -> created)));
+
+            // Then
+            assertThat(updated).containsExactly(concurrent);
+            then(commandFacade).should(times(1)).persistAndSync(concurrent);
+            then(commandManager).should(never()).persist(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("updateExistingAllAndSync")
+    class UpdateExistingAllAndSync {
+
+        @Test
+        @DisplayName("[성공] 미존재/soft-delete 상품은 제외하고 기존 상품만 일괄 저장")
+        void shouldSkipMissingAndDeletedProducts() {
+            // Given
+            CrawledProduct active = createProduct(1L, ITEM_NO, DeletionStatus.active());
+            CrawledProduct deleted =
+                    createProduct(2L, ITEM_NO + 1, DeletionStatus.deletedAt(FIXED_INSTANT));
+            given(readManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                            anyCollection(), anyCollection()))
+                    .willReturn(List.of(active, deleted));
+            given(commandFacade.persistAllAndSync(any())).willReturn(List.of());
+
+            // When
+            coordinator.updateExistingAllAndSync(
+                    List.of(
+                            CrawledProductChange.update(SELLER_ID, ITEM_NO, p -> {}),
+                            CrawledProductChange.update(SELLER_ID, ITEM_NO + 1, p -> {}),
+                            CrawledProductChange.update(SELLER_ID, ITEM_NO + 2, p -> {})));
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CrawledProduct>> captor = ArgumentCaptor.forClass(List.class);
+            then(commandFacade).should(times(1)).persistAllAndSync(captor.capture());
+            assertThat(captor.getValue()).containsExactly(active);
+            assertThat(deleted.isDeleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("[성공] 변경 대상 상품이 없으면 저장하지 않음")
+        void shouldDoNothingWhenNoProductExists() {
+            // Given
+            given(readManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                            anyCollection(), anyCollection()))
+                    .willReturn(List.of());
+
+            // When
+            coordinator.updateExistingAllAndSync(
+                    List.of(CrawledProductChange.update(SELLER_ID, ITEM_NO, p -> {})));
+
+            // Then
+            then(commandFacade).shouldHaveNoInteractions();
+        }
+    }
+
+    private CrawledProduct createProduct(Long id, long itemNo, DeletionStatus deletionStatus) {
+        return CrawledProduct.reconstitute(
+                id == null ? CrawledProductId.forNew() : CrawledProductId.of(id),
+                SELLER_ID,
+                itemNo,
+                "Test Product",
+                "Test Brand",
+                0L,
+                ProductPrice.of(10000, 12000, 12000, 9000, 10, 10),
+                ProductImages.empty(),
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                ProductOptions.empty(),
+                CrawlCompletionStatus.initial().withMiniShopCrawled(FIXED_INSTANT),
+                null,
+                null,
+                false,
+                EnumSet.noneOf(ProductChangeType.class),
+                deletionStatus,
+                FIXED_INSTANT,
+                FIXED_INSTANT,
+                0L);
+    }
+
     private CrawledProduct createMockProduct(boolean allCrawled) {
         CrawlCompletionStatus status =
                 allCrawled
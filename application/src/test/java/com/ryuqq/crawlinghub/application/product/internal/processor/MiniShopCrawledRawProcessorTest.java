@@ -1,22 +1,30 @@
 package com.ryuqq.crawlinghub.application.product.internal.processor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.crawlinghub.application.product.assembler.CrawledRawMapper;
 import com.ryuqq.crawlinghub.application.product.factory.CrawledProductFactory;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductCoordinator;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
 import com.ryuqq.crawlinghub.domain.product.vo.MiniShopCrawlData;
 import com.ryuqq.crawlinghub.domain.product.vo.MiniShopItem;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductImages;
 import com.ryuqq.crawlinghub.domain.product.vo.ProductPrice;
+import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +83,71 @@ class MiniShopCrawledRawProcessorTest {
                         eq(SELLER_ID), eq(ITEM_NO), any(Consumer.class), any(Supplier.class));
     }
 
+    @Test
+    @DisplayName("[성공] processAll: 역직렬화 실패 Raw만 실패, 나머지는 createOrUpdateAll 1회 호출")
+    void shouldBatchCreateOrUpdateAndIsolateMappingFailure() {
+        // Given
+        CrawledRaw valid = createRaw(1L, "{\"valid\":true}");
+        CrawledRaw invalid = createRaw(2L, "invalid");
+        MiniShopItem item = createMiniShopItem();
+
+        given(crawledRawMapper.toMiniShopItem(valid.getRawData())).willReturn(item);
+        given(crawledRawMapper.toMiniShopItem(invalid.getRawData()))
+                .willThrow(new IllegalStateException("역직렬화 실패"));
+        given(crawledProductFactory.createMiniShopCrawlData(SELLER_ID, item))
+                .willReturn(createMiniShopCrawlData());
+
+        // When
+        Map<CrawledRaw, String> failed = processor.processAll(List.of(valid, invalid));
+
+        // Then
+        assertThat(failed).containsOnlyKeys(invalid);
+        then(coordinator).should().createOrUpdateAll(anyList());
+        then(coordinator)
+                .should(never())
+                .createOrUpdate(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("[성공] processAll: 일괄 저장 실패 시 건별 createOrUpdate로 전환")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackToSingleProcessingWhenBatchFails() {
+        // Given
+        CrawledRaw raw = createRaw(1L, "{\"json\":true}");
+        MiniShopItem item = createMiniShopItem();
+
+        given(crawledRawMapper.toMiniShopItem(raw.getRawData())).willReturn(item);
+        given(crawledProductFactory.createMiniShopCrawlData(SELLER_ID, item))
+                .willReturn(createMiniShopCrawlData());
+        willThrow(new IllegalStateException("deadlock"))
+                .given(coordinator)
+                .createOrUpdateAll(anyList());
+
+        // When
+        Map<CrawledRaw, String> failed = processor.processAll(List.of(raw));
+
+        // Then
+        assertThat(failed).isEmpty();
+        then(coordinator)
+                .should()
+                .createOrUpdate(
+                        eq(SELLER_ID), eq(ITEM_NO), any(Consumer.class), any(Supplier.class));
+    }
+
+    private CrawledRaw createRaw(long id, String rawData) {
+        return CrawledRaw.reconstitute(
+                CrawledRawId.of(id),
+                1L,
+                100L,
+                ITEM_NO,
+                CrawlType.MINI_SHOP,
+                rawData,
+                RawDataStatus.PENDING,
+                null,
+                FIXED_INSTANT,
+                null);
+    }
+
     private CrawledRaw createRaw() {
         return CrawledRaw.forNew(
                 1L, 100L, ITEM_NO, CrawlType.MINI_SHOP, "{\"json\":true}", FIXED_INSTANT);
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -69,4 +70,24 @@ class CrawledProductCommandManagerTest {
             verify(crawledProductPersistencePort).persist(crawledProduct);
         }
     }
+
+    @Nested
+    @DisplayName("persistAll() 메서드 테스트")
+    class PersistAllTest {
+
+        @Test
+        @DisplayName("[성공] 일괄 저장을 PersistencePort에 위임하고 미반영 상품 반환")
+        void shouldDelegatePersistAllAndReturnUnappliedProducts() {
+            // Given
+            given(crawledProductPersistencePort.persistAll(List.of(crawledProduct)))
+                    .willReturn(List.of(crawledProduct));
+
+            // When
+            List<CrawledProduct> result = sut.persistAll(List.of(crawledProduct));
+
+            // Then
+            assertThat(result).containsExactly(crawledProduct);
+            verify(crawledProductPersistencePort).persistAll(List.of(crawledProduct));
+        }
+    }
 }
@@ -1,13 +1,17 @@
 package com.ryuqq.crawlinghub.application.product.manager;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 
 import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixture;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.product.port.out.client.CrawledProductSyncMessageClient;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -98,4 +102,37 @@ class CrawledProductSyncMessageManagerTest {
             then(messageClient).should().publish(outbox);
         }
     }
+
+    @Nested
+    @DisplayName("publishAll() 메서드 테스트")
+    class PublishAllTest {
+
+        @Test
+        @DisplayName("[성공] Outbox 목록 일괄 발행 - MessageClient 결과 반환")
+        void shouldDelegatePublishAllToMessageClient() {
+            // Given
+            CrawledProductSyncOutbox outbox =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending();
+            List<BatchItemResult<Long>> expected =
+                    List.of(BatchItemResult.failure(outbox.getIdValue(), "InternalError", "오류"));
+            given(messageClient.publishAll(List.of(outbox))).willReturn(expected);
+
+            // When
+            List<BatchItemResult<Long>> result = sut.publishAll(List.of(outbox));
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 MessageClient 호출 없이 빈 결과 반환")
+        void shouldSkipWhenEmpty() {
+            // When
+            List<BatchItemResult<Long>> result = sut.publishAll(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            then(messageClient).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -1,12 +1,20 @@
 package com.ryuqq.crawlinghub.application.product.manager;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixture;
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductSyncOutboxPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductOutboxStatus;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -185,4 +193,87 @@ class CrawledProductSyncOutboxCommandManagerTest {
             then(syncOutboxPersistencePort).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("markAllAs*() 일괄 전환 메서드 테스트")
+    class MarkAllTest {
+
+        @Test
+        @DisplayName("[성공] 모든 Outbox를 PROCESSING 전환 후 ID 목록으로 일괄 반영")
+        void shouldMarkAllAsProcessingAndDelegateIds() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+
+            // When
+            sut.markAllAsProcessing(List.of(outbox1, outbox2));
+
+            // Then
+            assertThat(outbox1.getStatus()).isEqualTo(ProductOutboxStatus.PROCESSING);
+            assertThat(outbox2.getStatus()).isEqualTo(ProductOutboxStatus.PROCESSING);
+            then(syncOutboxPersistencePort)
+                    .should()
+                    .markAllAsProcessing(
+                            eq(List.of(outbox1.getId(), outbox2.getId())), any(Instant.class));
+            then(syncOutboxPersistencePort).should(never()).update(any());
+        }
+
+        @Test
+        @DisplayName("[성공] UPDATE Outbox를 COMPLETED 전환 후 ID 목록으로 일괄 반영")
+        void shouldMarkAllAsCompletedAndDelegateIds() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedProcessingForUpdate(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedProcessingForUpdate(2L);
+
+            // When
+            sut.markAllAsCompleted(List.of(outbox1, outbox2));
+
+            // Then
+            assertThat(outbox1.isCompleted()).isTrue();
+            assertThat(outbox2.isCompleted()).isTrue();
+            then(syncOutboxPersistencePort)
+                    .should()
+                    .markAllAsCompleted(
+                            eq(List.of(outbox1.getId(), outbox2.getId())), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("[성공] Outbox별 오류 메시지로 FAILED 전환 후 ID별 메시지로 일괄 반영")
+        void shouldMarkAllAsFailedWithErrorMessagesById() {
+            // Given
+            CrawledProductSyncOutbox outbox1 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(1L);
+            CrawledProductSyncOutbox outbox2 =
+                    CrawledProductSyncOutboxFixture.aReconstitutedPending(2L);
+            Map<CrawledProductSyncOutbox, String> errorMessages = new LinkedHashMap<>();
+            errorMessages.put(outbox1, "오류1");
+            errorMessages.put(outbox2, "오류2");
+
+            // When
+            sut.markAllAsFailed(errorMessages);
+
+            // Then
+            assertThat(outbox1.getStatus()).isEqualTo(ProductOutboxStatus.FAILED);
+            assertThat(outbox2.getRetryCount()).isEqualTo(1);
+            then(syncOutboxPersistencePort)
+                    .should()
+                    .markAllAsFailed(
+                            eq(Map.of(outbox1.getId(), "오류1", outbox2.getId(), "오류2")),
+                            any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 Port를 호출하지 않음")
+        void shouldSkipWhenEmpty() {
+            // When
+            sut.markAllAsSent(List.of());
+
+            // Then
+            then(syncOutboxPersistencePort).shouldHaveNoInteractions();
+        }
+    }
 }
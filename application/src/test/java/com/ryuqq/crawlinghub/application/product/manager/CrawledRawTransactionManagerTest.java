@@ -2,14 +2,20 @@ package com.ryuqq.crawlinghub.application.product.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledRawPersistencePort;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -153,8 +159,67 @@ class CrawledRawTransactionManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("applyProcessingResults() 테스트")
+    class ApplyProcessingResults {
+
+        @Test
+        @DisplayName("[성공] 처리 완료 ID 집합과 ID별 실패 메시지를 각각 한 번씩 반영")
+        void shouldApplyProcessedAndFailedInOneCallEach() {
+            // Given
+            CrawledRaw processed1 = createPendingRawWithId(1L);
+            CrawledRaw processed2 = createPendingRawWithId(2L);
+            CrawledRaw failed = createPendingRawWithId(3L);
+            Map<CrawledRaw, String> failedRaws = new LinkedHashMap<>();
+            failedRaws.put(failed, "JSON 파싱 실패");
+            Instant now = Instant.now();
+
+            // When
+            manager.applyProcessingResults(List.of(processed1, processed2), failedRaws, now);
+
+            // Then
+            verify(crawledRawPersistencePort)
+                    .markAllAsProcessed(List.of(CrawledRawId.of(1L), CrawledRawId.of(2L)), now);
+            verify(crawledRawPersistencePort)
+                    .markAllAsFailed(Map.of(CrawledRawId.of(3L), "JSON 파싱 실패"), now);
+            verify(crawledRawPersistencePort, never()).persist(any());
+        }
+
+        @Test
+        @DisplayName("[성공] 실패 메시지는 도메인 규칙에 따라 1000자로 잘라 반영")
+        void shouldTruncateErrorMessage() {
+            // Given
+            CrawledRaw failed = createPendingRawWithId(1L);
+            Map<CrawledRaw, String> failedRaws = new LinkedHashMap<>();
+            failedRaws.put(failed, "x".repeat(1500));
+            Instant now = Instant.now();
+
+            // When
+            manager.applyProcessingResults(List.of(), failedRaws, now);
+
+            // Then
+            verify(crawledRawPersistencePort)
+                    .markAllAsFailed(Map.of(CrawledRawId.of(1L), "x".repeat(1000)), now);
+            verify(crawledRawPersistencePort, never()).markAllAsProcessed(anyList(), any());
+        }
+    }
+
     // === Helper Methods ===
 
+    private CrawledRaw createPendingRawWithId(long id) {
+        return CrawledRaw.reconstitute(
+                CrawledRawId.of(id),
+                1L,
+                100L,
+                10000L + id,
+                CrawlType.DETAIL,
+                "{}",
+                RawDataStatus.PENDING,
+                null,
+                Instant.now(),
+                null);
+    }
+
     private CrawledRaw createPendingRaw(long schedulerId, long sellerId, long itemNo) {
         return CrawledRaw.forNew(
                 schedulerId,
@@ -2,15 +2,19 @@ package com.ryuqq.crawlinghub.application.product.service.command;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
 import com.ryuqq.crawlinghub.application.product.dto.command.ProcessPendingCrawledRawCommand;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledRawBatchProcessor;
 import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessor;
 import com.ryuqq.crawlinghub.application.product.internal.processor.CrawledRawProcessorProvider;
 import com.ryuqq.crawlinghub.application.product.manager.CrawledRawReadManager;
@@ -19,8 +23,10 @@ import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
 import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
 import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
 import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -55,7 +61,10 @@ class ProcessPendingCrawledRawServiceTest {
                 new ProcessPendingCrawledRawService(
                         crawledRawReadManager,
                         crawledRawTransactionManager,
-                        crawledRawProcessorProvider);
+                        new CrawledRawBatchProcessor(
+                                crawledRawProcessorProvider,
+                                new CrawlHubMetrics(new SimpleMeterRegistry())));
+        given(mockProcessor.processAll(anyList())).willCallRealMethod();
     }
 
     @Nested
@@ -92,7 +101,7 @@ class ProcessPendingCrawledRawServiceTest {
             then(mockProcessor).should().process(raw);
             then(crawledRawTransactionManager)
                     .should()
-                    .markAsProcessed(eq(raw), any(Instant.class));
+                    .applyProcessingResults(eq(List.of(raw)), eq(Map.of()), any(Instant.class));
         }
 
         @Test
@@ -120,7 +129,8 @@ class ProcessPendingCrawledRawServiceTest {
             assertThat(result.failed()).isEqualTo(1);
             then(crawledRawTransactionManager)
                     .should()
-                    .markAsFailed(eq(raw), anyString(), any(Instant.class));
+                    .applyProcessingResults(
+                            eq(List.of()), eq(Map.of(raw, "역직렬화 실패")), any(Instant.class));
         }
     }
 
@@ -206,7 +216,7 @@ class ProcessPendingCrawledRawServiceTest {
         }
 
         @Test
-        @DisplayName("[성공] 복수 건 처리 - 일부 성공, 일부 실패")
+        @DisplayName("[성공] 복수 건 처리 - 일부 실패해도 나머지는 가공되고 결과는 한 번에 반영")
         void shouldHandleMixedResults() {
             // Given — reconstitute로 서로 다른 ID 부여 (equals 구별 위해)
             Instant now = Instant.now();
@@ -234,9 +244,21 @@ class ProcessPendingCrawledRawServiceTest {
                             null,
                             now,
                             null);
+            CrawledRaw raw3 =
+                    CrawledRaw.reconstitute(
+                            CrawledRawId.of(3L),
+                            1L,
+                            100L,
+                            10003L,
+                            CrawlType.MINI_SHOP,
+                            "{\"valid\":true}",
+                            RawDataStatus.PENDING,
+                            null,
+                            now,
+                            null);
 
             given(crawledRawReadManager.findPendingByType(CrawlType.MINI_SHOP, 100))
-                    .willReturn(List.of(raw1, raw2));
+                    .willReturn(List.of(raw1, raw2, raw3));
             given(crawledRawProcessorProvider.getProcessor(CrawlType.MINI_SHOP))
                     .willReturn(mockProcessor);
             willThrow(new IllegalStateException("역직렬화 실패")).given(mockProcessor).process(raw2);
@@ -248,12 +270,19 @@ class ProcessPendingCrawledRawServiceTest {
             SchedulerBatchProcessingResult result = service.execute(command);
 
             // Then
-            assertThat(result.total()).isEqualTo(2);
-            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.success()).isEqualTo(2);
             assertThat(result.failed()).isEqualTo(1);
-            then(crawledRawTransactionManager).should(times(1)).markAsProcessed(any(), any());
+            then(mockProcessor).should().process(raw3);
             then(crawledRawTransactionManager)
                     .should(times(1))
+                    .applyProcessingResults(
+                            eq(List.of(raw1, raw3)),
+                            eq(Map.of(raw2, "역직렬화 실패")),
+                            any(Instant.class));
+            then(crawledRawTransactionManager).should(never()).markAsProcessed(any(), any());
+            then(crawledRawTransactionManager)
+                    .should(never())
                     .markAsFailed(any(), anyString(), any());
         }
     }
@@ -7,8 +7,8 @@ import static org.mockito.BDDMockito.then;
 import com.ryuqq.cralwinghub.domain.fixture.product.CrawledProductSyncOutboxFixture;
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.product.dto.command.PublishPendingSyncOutboxCommand;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductSyncOutboxClaimFacade;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductSyncOutboxProcessor;
-import com.ryuqq.crawlinghub.application.product.manager.CrawledProductSyncOutboxReadManager;
 import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProductSyncOutbox;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 /**
  * PublishPendingSyncOutboxService 단위 테스트
  *
- * <p>Mockist 스타일 테스트: ReadManager, Processor 의존성 Mocking
+ * <p>Mockist 스타일 테스트: ClaimFacade, Processor 의존성 Mocking
  *
  * @author development-team
  * @since 1.0.0
@@ -34,7 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("PublishPendingSyncOutboxService 단위 테스트")
 class PublishPendingSyncOutboxServiceTest {
 
-    @Mock private CrawledProductSyncOutboxReadManager readManager;
+    @Mock private CrawledProductSyncOutboxClaimFacade claimFacade;
     @Mock private CrawledProductSyncOutboxProcessor processor;
 
     @InjectMocks private PublishPendingSyncOutboxService sut;
@@ -48,7 +48,7 @@ class PublishPendingSyncOutboxServiceTest {
         void shouldReturnEmptyResultWhenNoPendingOutboxes() {
             // Given
             PublishPendingSyncOutboxCommand command = PublishPendingSyncOutboxCommand.of(100, 3);
-            given(readManager.findPendingOutboxes(100)).willReturn(List.of());
+            given(claimFacade.claimPendingOutboxes(100)).willReturn(List.of());
 
             // When
             SchedulerBatchProcessingResult result = sut.execute(command);
@@ -67,8 +67,9 @@ class PublishPendingSyncOutboxServiceTest {
             PublishPendingSyncOutboxCommand command = PublishPendingSyncOutboxCommand.of(100, 3);
             CrawledProductSyncOutbox outbox =
                     CrawledProductSyncOutboxFixture.aReconstitutedPending();
-            given(readManager.findPendingOutboxes(100)).willReturn(List.of(outbox));
-            given(processor.processOutbox(outbox)).willReturn(true);
+            given(claimFacade.claimPendingOutboxes(100)).willReturn(List.of(outbox));
+            given(processor.processOutboxes(List.of(outbox)))
+                    .willReturn(SchedulerBatchProcessingResult.of(1, 1, 0));
 
             // When
             SchedulerBatchProcessingResult result = sut.execute(command);
@@ -77,18 +78,19 @@ class PublishPendingSyncOutboxServiceTest {
             assertThat(result.total()).isEqualTo(1);
             assertThat(result.success()).isEqualTo(1);
             assertThat(result.failed()).isZero();
-            then(processor).should().processOutbox(outbox);
+            then(processor).should().processOutboxes(List.of(outbox));
         }
 
         @Test
         @DisplayName("[실패] Outbox 처리 실패 시 failed 카운트 반영")
-        void shouldCountFailedWhenProcessorReturnsFalse() {
+        void shouldCountFailedWhenProcessorReportsFailure() {
             // Given
             PublishPendingSyncOutboxCommand command = PublishPendingSyncOutboxCommand.of(50, 5);
             CrawledProductSyncOutbox outbox =
                     CrawledProductSyncOutboxFixture.aReconstitutedPending();
-            given(readManager.findPendingOutboxes(50)).willReturn(List.of(outbox));
-            given(processor.processOutbox(outbox)).willReturn(false);
+            given(claimFacade.claimPendingOutboxes(50)).willReturn(List.of(outbox));
+            given(processor.processOutboxes(List.of(outbox)))
+                    .willReturn(SchedulerBatchProcessingResult.of(1, 0, 1));
 
             // When
             SchedulerBatchProcessingResult result = sut.execute(command);
@@ -108,9 +110,9 @@ class PublishPendingSyncOutboxServiceTest {
                     CrawledProductSyncOutboxFixture.aReconstitutedPending();
             CrawledProductSyncOutbox outbox2 =
                     CrawledProductSyncOutboxFixture.aReconstitutedPending();
-            given(readManager.findPendingOutboxes(100)).willReturn(List.of(outbox1, outbox2));
-            given(processor.processOutbox(outbox1)).willReturn(true);
-            given(processor.processOutbox(outbox2)).willReturn(false);
+            given(claimFacade.claimPendingOutboxes(100)).willReturn(List.of(outbox1, outbox2));
+            given(processor.processOutboxes(List.of(outbox1, outbox2)))
+                    .willReturn(SchedulerBatchProcessingResult.of(2, 1, 1));
 
             // When
             SchedulerBatchProcessingResult result = sut.execute(command);
@@ -2,27 +2,25 @@ package com.ryuqq.crawlinghub.application.product.service.command;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
 import com.ryuqq.crawlinghub.application.execution.internal.FollowUpTaskCreator;
+import com.ryuqq.crawlinghub.application.product.dto.command.RefreshStaleCrawledProductsCommand;
+import com.ryuqq.crawlinghub.application.product.dto.result.StaleCrawledProductKey;
 import com.ryuqq.crawlinghub.application.product.internal.CrawledProductRefreshCoordinator;
+import com.ryuqq.crawlinghub.application.product.internal.CrawledProductRefreshPlanner;
+import com.ryuqq.crawlinghub.application.product.port.out.command.CrawledProductRefreshCursorCommandPort;
 import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductQueryPort;
+import com.ryuqq.crawlinghub.application.product.port.out.query.CrawledProductRefreshCursorQueryPort;
 import com.ryuqq.crawlinghub.application.task.dto.command.CreateCrawlTaskCommand;
-import com.ryuqq.crawlinghub.domain.common.vo.DeletionStatus;
-import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
-import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
-import com.ryuqq.crawlinghub.domain.product.vo.CrawlCompletionStatus;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductChangeType;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductImages;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductOptions;
-import com.ryuqq.crawlinghub.domain.product.vo.ProductPrice;
-import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
 import java.time.Instant;
-import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,11 +40,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("RefreshStaleCrawledProductsService 테스트")
 class RefreshStaleCrawledProductsServiceTest {
 
-    private static final Instant FIXED_INSTANT = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Instant STALE_BEFORE = Instant.parse("2025-01-01T09:00:00Z");
+    private static final RefreshStaleCrawledProductsCommand COMMAND =
+            RefreshStaleCrawledProductsCommand.of(40, 500, 1, 180);
 
     @Mock private CrawledProductQueryPort crawledProductQueryPort;
+    @Mock private CrawledProductRefreshCursorQueryPort cursorQueryPort;
+    @Mock private CrawledProductRefreshCursorCommandPort cursorCommandPort;
+    @Mock private CrawledProductRefreshPlanner refreshPlanner;
     @Mock private CrawledProductRefreshCoordinator refreshCoordinator;
     @Mock private FollowUpTaskCreator followUpTaskCreator;
+    @Mock private TimeProvider timeProvider;
 
     private RefreshStaleCrawledProductsService service;
 
@@ -54,7 +59,18 @@ class RefreshStaleCrawledProductsServiceTest {
     void setUp() {
         service =
                 new RefreshStaleCrawledProductsService(
-                        crawledProductQueryPort, refreshCoordinator, followUpTaskCreator);
+                        crawledProductQueryPort,
+                        cursorQueryPort,
+                        cursorCommandPort,
+                        refreshPlanner,
+                        refreshCoordinator,
+                        followUpTaskCreator,
+                        timeProvider);
+    }
+
+    private StaleCrawledProductKey staleKey(long productId, long itemNo) {
+        return new StaleCrawledProductKey(
+                productId, 100L, itemNo, Instant.parse("2024-12-31T00:00:00Z"));
     }
 
     @Nested
@@ -62,41 +78,63 @@ class RefreshStaleCrawledProductsServiceTest {
     class Execute {
 
         @Test
-        @DisplayName("[성공] stale 상품 없음 → 0 반환, 태스크 생성 없음")
-        void shouldReturnZeroWhenNoStaleProducts() {
+        @DisplayName("[스킵] 예산 0 (큐 포화 또는 IDLE UserAgent 없음) → 조회 없이 0 반환")
+        void shouldSkipTickWhenNoBudget() {
             // Given
-            given(crawledProductQueryPort.findStaleProducts(3000)).willReturn(List.of());
+            given(refreshPlanner.planProductBudget(COMMAND)).willReturn(0);
 
             // When
-            int result = service.execute(3000);
+            int result = service.execute(COMMAND);
 
             // Then
             assertThat(result).isZero();
-            then(refreshCoordinator).shouldHaveNoInteractions();
+            then(crawledProductQueryPort).shouldHaveNoInteractions();
+            then(cursorCommandPort).shouldHaveNoInteractions();
             then(followUpTaskCreator).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("[성공] 단일 셀러 상품 2개 → coordinator 위임 후 executeBatch 호출")
-        void shouldDelegateToCoordinatorAndExecuteBatch() {
+        @DisplayName("[성공] stale 상품 없음 → 커서 초기화 후 0 반환")
+        void shouldClearCursorWhenNoStaleProducts() {
             // Given
-            CrawledProduct product1 = createTestProduct(1L, 100L, 10001L);
-            CrawledProduct product2 = createTestProduct(2L, 100L, 10002L);
-            given(crawledProductQueryPort.findStaleProducts(3000))
-                    .willReturn(List.of(product1, product2));
+            given(refreshPlanner.planProductBudget(COMMAND)).willReturn(20);
+            given(timeProvider.now()).willReturn(NOW);
+            given(cursorQueryPort.find()).willReturn(Optional.empty());
+            given(crawledProductQueryPort.findStaleProductKeys(STALE_BEFORE, null, 20))
+                    .willReturn(List.of());
+
+            // When
+            int result = service.execute(COMMAND);
+
+            // Then
+            assertThat(result).isZero();
+            then(cursorCommandPort).should().clear();
+            then(refreshCoordinator).shouldHaveNoInteractions();
+            then(followUpTaskCreator).shouldHaveNoInteractions();
+        }
 
+        @Test
+        @DisplayName("[성공] 예산만큼 조회 → 태스크 생성 후 마지막 상품으로 커서 전진")
+        void shouldAdvanceCursorWhenBudgetFilled() {
+            // Given
+            KeysetCursor savedCursor =
+                    KeysetCursor.of("updatedAt", SortDirection.ASC, "2024-12-30T00:00:00Z", 5L);
+            List<StaleCrawledProductKey> keys = List.of(staleKey(6L, 10001L), staleKey(7L, 10002L));
             List<CreateCrawlTaskCommand> commands =
                     List.of(
                             CreateCrawlTaskCommand.forDetail(10L, 100L, "testShop", 10001L),
                             CreateCrawlTaskCommand.forOption(10L, 100L, "testShop", 10001L),
                             CreateCrawlTaskCommand.forDetail(10L, 100L, "testShop", 10002L),
                             CreateCrawlTaskCommand.forOption(10L, 100L, "testShop", 10002L));
-
-            given(refreshCoordinator.buildRefreshCommands(any(SellerId.class), anyList()))
-                    .willReturn(commands);
+            given(refreshPlanner.planProductBudget(COMMAND)).willReturn(2);
+            given(timeProvider.now()).willReturn(NOW);
+            given(cursorQueryPort.find()).willReturn(Optional.of(savedCursor));
+            given(crawledProductQueryPort.findStaleProductKeys(STALE_BEFORE, savedCursor, 2))
+                    .willReturn(keys);
+            given(refreshCoordinator.buildRefreshCommands(keys)).willReturn(commands);
 
             // When
-            int result = service.execute(3000);
+            int result = service.execute(COMMAND);
 
             // Then
             assertThat(result).isEqualTo(4);
@@ -106,88 +144,29 @@ class RefreshStaleCrawledProductsServiceTest {
                     ArgumentCaptor.forClass(List.class);
             then(followUpTaskCreator).should().executeBatch(captor.capture());
             assertThat(captor.getValue()).hasSize(4);
+            then(cursorCommandPort).should().save(keys.get(1).toCursor());
         }
 
         @Test
-        @DisplayName("[성공] 복수 셀러 상품 → sellerId별로 그룹핑하여 coordinator 호출")
-        void shouldGroupBySellerIdAndCallCoordinator() {
+        @DisplayName("[성공] 예산보다 적게 조회 → 한 바퀴 완료로 보고 커서 초기화")
+        void shouldClearCursorWhenPassCompleted() {
             // Given
-            CrawledProduct product1 = createTestProduct(1L, 100L, 10001L);
-            CrawledProduct product2 = createTestProduct(2L, 200L, 20001L);
-            given(crawledProductQueryPort.findStaleProducts(3000))
-                    .willReturn(List.of(product1, product2));
-
-            // seller 100 → 2 commands, seller 200 → 2 commands
-            given(refreshCoordinator.buildRefreshCommands(SellerId.of(100L), List.of(product1)))
-                    .willReturn(
-                            List.of(
-                                    CreateCrawlTaskCommand.forDetail(10L, 100L, "shop1", 10001L),
-                                    CreateCrawlTaskCommand.forOption(10L, 100L, "shop1", 10001L)));
-            given(refreshCoordinator.buildRefreshCommands(SellerId.of(200L), List.of(product2)))
-                    .willReturn(
-                            List.of(
-                                    CreateCrawlTaskCommand.forDetail(20L, 200L, "shop2", 20001L),
-                                    CreateCrawlTaskCommand.forOption(20L, 200L, "shop2", 20001L)));
+            List<StaleCrawledProductKey> keys = List.of(staleKey(6L, 10001L));
+            given(refreshPlanner.planProductBudget(COMMAND)).willReturn(20);
+            given(timeProvider.now()).willReturn(NOW);
+            given(cursorQueryPort.find()).willReturn(Optional.empty());
+            given(crawledProductQueryPort.findStaleProductKeys(STALE_BEFORE, null, 20))
+                    .willReturn(keys);
+            given(refreshCoordinator.buildRefreshCommands(keys)).willReturn(List.of());
 
             // When
-            int result = service.execute(3000);
-
-            // Then
-            assertThat(result).isEqualTo(4);
-            then(followUpTaskCreator).should().executeBatch(any());
-        }
-
-        @Test
-        @DisplayName("[성공] coordinator가 빈 리스트 반환 → executeBatch 미호출")
-        void shouldNotCallExecuteBatchWhenNoCommands() {
-            // Given
-            CrawledProduct product = createTestProduct(1L, 100L, 10001L);
-            given(crawledProductQueryPort.findStaleProducts(3000)).willReturn(List.of(product));
-            given(refreshCoordinator.buildRefreshCommands(any(SellerId.class), anyList()))
-                    .willReturn(List.of());
-
-            // When
-            int result = service.execute(3000);
+            int result = service.execute(COMMAND);
 
             // Then
             assertThat(result).isZero();
             then(followUpTaskCreator).should(never()).executeBatch(any());
+            then(cursorCommandPort).should().clear();
+            then(cursorCommandPort).should(never()).save(any());
         }
     }
-
-    private CrawledProduct createTestProduct(long id, long sellerId, long itemNo) {
-        CrawlCompletionStatus status =
-                CrawlCompletionStatus.initial()
-                        .withMiniShopCrawled(FIXED_INSTANT)
-                        .withDetailCrawled(FIXED_INSTANT)
-                        .withOptionCrawled(FIXED_INSTANT);
-
-        return CrawledProduct.reconstitute(
-                CrawledProductId.of(id),
-                SellerId.of(sellerId),
-                itemNo,
-                "Test Product",
-                "Test Brand",
-                0L,
-                ProductPrice.of(10000, 12000, 12000, 9000, 10, 10),
-                ProductImages.empty(),
-                true,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                null,
-                ProductOptions.empty(),
-                status,
-                itemNo,
-                null,
-                false,
-                EnumSet.noneOf(ProductChangeType.class),
-                DeletionStatus.active(),
-                FIXED_INSTANT,
-                FIXED_INSTANT,
-                null);
-    }
 }
@@ -1,17 +1,24 @@
 package com.ryuqq.crawlinghub.application.schedule.factory.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
 
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
 import com.ryuqq.crawlinghub.application.common.dto.query.CommonSearchParams;
 import com.ryuqq.crawlinghub.application.common.factory.CommonVoFactory;
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerSearchParams;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorPageRequest;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
 import com.ryuqq.crawlinghub.domain.common.vo.PageRequest;
 import com.ryuqq.crawlinghub.domain.common.vo.QueryContext;
 import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchCriteria;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSearchField;
 import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSortKey;
@@ -236,4 +243,95 @@ class CrawlSchedulerQueryFactoryTest {
                     .isEqualTo(CrawlSchedulerSortKey.SCHEDULER_NAME);
         }
     }
+
+    @Nested
+    @DisplayName("createCursorCriteria() 메서드는")
+    class CreateCursorCriteriaMethod {
+
+        @Test
+        @DisplayName("인코딩된 커서를 복원해 CursorQueryContext에 담는다")
+        void shouldDecodeCursor() {
+            // Given
+            KeysetCursor cursor =
+                    KeysetCursor.of("createdAt", SortDirection.DESC, "2025-11-20T01:30:00Z", 10L);
+            CrawlSchedulerCursorSearchParams params =
+                    CrawlSchedulerCursorSearchParams.of(
+                            null,
+                            null,
+                            null,
+                            null,
+                            "createdAt",
+                            "DESC",
+                            CommonCursorParams.of(cursor.encode(), 20),
+                            false);
+            CursorQueryContext<CrawlSchedulerSortKey, KeysetCursor> context =
+                    CursorQueryContext.of(
+                            CrawlSchedulerSortKey.CREATED_AT,
+                            SortDirection.DESC,
+                            CursorPageRequest.of(cursor, 20));
+
+            given(commonVoFactory.parseSortDirection("DESC")).willReturn(SortDirection.DESC);
+            given(
+                            commonVoFactory.createCursorQueryContext(
+                                    CrawlSchedulerSortKey.CREATED_AT,
+                                    SortDirection.DESC,
+                                    cursor,
+                                    20))
+                    .willReturn(context);
+
+            // When
+            CrawlSchedulerCursorCriteria criteria = factory.createCursorCriteria(params);
+
+            // Then
+            assertThat(criteria.cursor()).isEqualTo(cursor);
+            assertThat(criteria.sortKey()).isEqualTo(CrawlSchedulerSortKey.CREATED_AT);
+        }
+
+        @Test
+        @DisplayName("다른 정렬 키로 발급된 커서면 IllegalArgumentException을 던진다")
+        void shouldRejectCursorFromAnotherSortKey() {
+            // Given
+            String nameCursor =
+                    KeysetCursor.of("schedulerName", SortDirection.DESC, "daily-crawl", 10L)
+                            .encode();
+            CrawlSchedulerCursorSearchParams params = cursorParams("createdAt", "DESC", nameCursor);
+
+            given(commonVoFactory.parseSortDirection("DESC")).willReturn(SortDirection.DESC);
+
+            // When & Then
+            assertThatThrownBy(() -> factory.createCursorCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("schedulerName");
+        }
+
+        @Test
+        @DisplayName("다른 정렬 방향으로 발급된 커서면 IllegalArgumentException을 던진다")
+        void shouldRejectCursorFromAnotherDirection() {
+            // Given
+            String ascCursor =
+                    KeysetCursor.of("createdAt", SortDirection.ASC, "2025-11-20T01:30:00Z", 10L)
+                            .encode();
+            CrawlSchedulerCursorSearchParams params = cursorParams("createdAt", "DESC", ascCursor);
+
+            given(commonVoFactory.parseSortDirection("DESC")).willReturn(SortDirection.DESC);
+
+            // When & Then
+            assertThatThrownBy(() -> factory.createCursorCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ASC");
+        }
+
+        private CrawlSchedulerCursorSearchParams cursorParams(
+                String sortKey, String sortDirection, String cursor) {
+            return CrawlSchedulerCursorSearchParams.of(
+                    null,
+                    null,
+                    null,
+                    null,
+                    sortKey,
+                    sortDirection,
+                    CommonCursorParams.of(cursor, 20),
+                    false);
+        }
+    }
 }
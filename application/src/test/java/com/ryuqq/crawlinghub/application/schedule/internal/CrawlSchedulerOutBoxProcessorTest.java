@@ -1,17 +1,25 @@
 package com.ryuqq.crawlinghub.application.schedule.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerOutBoxFixture;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerEventBridgeSyncManager;
 import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerOutBoxCommandManager;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerHistoryId;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerOutBoxId;
 import com.ryuqq.crawlinghub.domain.schedule.vo.CrawlSchedulerOubBoxStatus;
+import com.ryuqq.crawlinghub.domain.schedule.vo.SchedulerStatus;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -101,4 +109,128 @@ class CrawlSchedulerOutBoxProcessorTest {
             then(outBoxCommandManager).should(times(2)).persist(outBox);
         }
     }
+
+    @Nested
+    @DisplayName("processOutboxes() 아웃박스 일괄 처리 테스트")
+    class ProcessOutboxes {
+
+        private static final Instant BASE_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+        private CrawlSchedulerOutBox pendingOutBox(long outBoxId, long schedulerId, long minute) {
+            return CrawlSchedulerOutBox.reconstitute(
+                    CrawlSchedulerOutBoxId.of(outBoxId),
+                    CrawlSchedulerHistoryId.of(outBoxId),
+                    CrawlSchedulerOubBoxStatus.PENDING,
+                    schedulerId,
+                    1L,
+                    "scheduler-" + schedulerId,
+                    "0 9 * * ? *",
+                    SchedulerStatus.ACTIVE,
+                    null,
+                    0L,
+                    BASE_TIME.plusSeconds(minute * 60),
+                    null);
+        }
+
+        @Test
+        @DisplayName("[성공] 같은 스케줄러의 아웃박스는 최신 1건만 동기화하고 나머지는 COMPLETED 처리")
+        void shouldSyncOnlyLatestOutBoxPerScheduler() {
+            // Given
+            CrawlSchedulerOutBox older = pendingOutBox(1L, 100L, 0);
+            CrawlSchedulerOutBox newer = pendingOutBox(2L, 100L, 5);
+            CrawlSchedulerOutBox other = pendingOutBox(3L, 200L, 1);
+            given(eventBridgeSyncManager.syncAllFromOutBox(List.of(newer, other)))
+                    .willReturn(
+                            List.of(BatchItemResult.success(2L), BatchItemResult.success(3L)));
+
+            // When
+            SchedulerBatchProcessingResult result =
+                    processor.processOutboxes(List.of(older, newer, other));
+
+            // Then
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.success()).isEqualTo(3);
+            assertThat(result.failed()).isZero();
+            assertThat(older.isCompleted()).isTrue();
+            assertThat(newer.isCompleted()).isTrue();
+            assertThat(other.isCompleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("[실패] 최신 아웃박스 동기화 실패 시 최신 건만 FAILED, 이전 건은 PENDING으로 남긴다")
+        void shouldLeaveSupersededPendingWhenLatestSyncFails() {
+            // Given
+            CrawlSchedulerOutBox older = pendingOutBox(1L, 100L, 0);
+            CrawlSchedulerOutBox newer = pendingOutBox(2L, 100L, 5);
+            given(eventBridgeSyncManager.syncAllFromOutBox(List.of(newer)))
+                    .willReturn(
+                            List.of(BatchItemResult.failure(2L, "EVENTBRIDGE_SYNC_FAILED", null)));
+
+            // When
+            SchedulerBatchProcessingResult result =
+                    processor.processOutboxes(List.of(newer, older));
+
+            // Then
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.success()).isZero();
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(newer.isFailed()).isTrue();
+            assertThat(newer.getErrorMessage()).isNotBlank();
+            assertThat(older.isPending()).isTrue();
+            then(outBoxCommandManager).should(never()).persist(older);
+        }
+
+        @Test
+        @DisplayName("[실패] 최신 아웃박스 COMPLETED 저장 실패 시 이전 건은 PENDING으로 남긴다")
+        void shouldLeaveSupersededPendingWhenLatestCompletionFails() {
+            // Given
+            CrawlSchedulerOutBox older = pendingOutBox(1L, 100L, 0);
+            CrawlSchedulerOutBox newer = pendingOutBox(2L, 100L, 5);
+            given(outBoxCommandManager.persist(newer))
+                    .willReturn(CrawlSchedulerOutBoxId.of(2L))
+                    .willThrow(new RuntimeException("DB 저장 실패"));
+            given(eventBridgeSyncManager.syncAllFromOutBox(List.of(newer)))
+                    .willReturn(List.of(BatchItemResult.success(2L)));
+
+            // When
+            SchedulerBatchProcessingResult result =
+                    processor.processOutboxes(List.of(older, newer));
+
+            // Then
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(older.isPending()).isTrue();
+            then(outBoxCommandManager).should(never()).persist(older);
+        }
+
+        @Test
+        @DisplayName("[실패] 일괄 동기화 호출 자체가 실패하면 선점한 아웃박스를 모두 FAILED 처리")
+        void shouldMarkAllClaimedAsFailedWhenSyncThrows() {
+            // Given
+            CrawlSchedulerOutBox first = pendingOutBox(1L, 100L, 0);
+            CrawlSchedulerOutBox second = pendingOutBox(2L, 200L, 0);
+            willThrow(new RuntimeException("EventBridge 연결 실패"))
+                    .given(eventBridgeSyncManager)
+                    .syncAllFromOutBox(any());
+
+            // When
+            SchedulerBatchProcessingResult result =
+                    processor.processOutboxes(List.of(first, second));
+
+            // Then
+            assertThat(result.failed()).isEqualTo(2);
+            assertThat(first.isFailed()).isTrue();
+            assertThat(second.isFailed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 동기화하지 않음")
+        void shouldReturnEmptyWhenNoOutBoxes() {
+            // When
+            SchedulerBatchProcessingResult result = processor.processOutboxes(List.of());
+
+            // Then
+            assertThat(result.total()).isZero();
+            then(eventBridgeSyncManager).shouldHaveNoInteractions();
+        }
+    }
 }
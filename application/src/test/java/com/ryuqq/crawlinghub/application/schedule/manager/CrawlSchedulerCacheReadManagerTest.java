@@ -0,0 +1,140 @@
+package com.ryuqq.crawlinghub.application.schedule.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerFixture;
+import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerIdFixture;
+import com.ryuqq.cralwinghub.domain.fixture.seller.SellerIdFixture;
+import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlSchedulerCacheCommandPort;
+import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlScheduleQueryPort;
+import com.ryuqq.crawlinghub.application.schedule.port.out.query.CrawlSchedulerCacheQueryPort;
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.exception.CrawlSchedulerNotFoundException;
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawlSchedulerCacheReadManager 단위 테스트
+ *
+ * <p>캐시 조회 → 미스 시 DB 조회 → 캐시 적재 흐름 검증
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlSchedulerCacheReadManager 테스트")
+class CrawlSchedulerCacheReadManagerTest {
+
+    @Mock private CrawlSchedulerCacheQueryPort crawlSchedulerCacheQueryPort;
+
+    @Mock private CrawlSchedulerCacheCommandPort crawlSchedulerCacheCommandPort;
+
+    @Mock private CrawlScheduleQueryPort crawlScheduleQueryPort;
+
+    @InjectMocks private CrawlSchedulerCacheReadManager sut;
+
+    @Nested
+    @DisplayName("findById() 테스트")
+    class FindById {
+
+        @Test
+        @DisplayName("[성공] 캐시 hit 시 DB를 조회하지 않는다")
+        void shouldReturnCachedSchedulerWithoutDbRead() {
+            // Given
+            CrawlSchedulerId id = CrawlSchedulerIdFixture.anAssignedId();
+            CrawlScheduler scheduler = CrawlSchedulerFixture.anActiveScheduler();
+            given(crawlSchedulerCacheQueryPort.findById(id)).willReturn(Optional.of(scheduler));
+
+            // When
+            Optional<CrawlScheduler> result = sut.findById(id);
+
+            // Then
+            assertThat(result).contains(scheduler);
+            then(crawlScheduleQueryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("[성공] 캐시 미스 시 DB에서 조회해 캐시에 적재한다")
+        void shouldLoadFromDbAndPutOnMiss() {
+            // Given
+            CrawlSchedulerId id = CrawlSchedulerIdFixture.anAssignedId();
+            CrawlScheduler scheduler = CrawlSchedulerFixture.anActiveScheduler();
+            given(crawlSchedulerCacheQueryPort.findById(id)).willReturn(Optional.empty());
+            given(crawlScheduleQueryPort.findById(id)).willReturn(Optional.of(scheduler));
+
+            // When
+            Optional<CrawlScheduler> result = sut.findById(id);
+
+            // Then
+            assertThat(result).contains(scheduler);
+            then(crawlSchedulerCacheCommandPort).should().put(scheduler);
+        }
+
+        @Test
+        @DisplayName("[실패] getById는 DB에도 없으면 예외를 던지고 캐시하지 않는다")
+        void shouldThrowWhenNotFound() {
+            // Given
+            CrawlSchedulerId id = CrawlSchedulerIdFixture.anAssignedId();
+            given(crawlSchedulerCacheQueryPort.findById(id)).willReturn(Optional.empty());
+            given(crawlScheduleQueryPort.findById(id)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> sut.getById(id))
+                    .isInstanceOf(CrawlSchedulerNotFoundException.class);
+            then(crawlSchedulerCacheCommandPort).should(never()).put(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("findActiveSchedulersBySellerId() 테스트")
+    class FindActiveSchedulersBySellerId {
+
+        @Test
+        @DisplayName("[성공] 캐시된 빈 목록은 DB를 조회하지 않고 그대로 반환한다")
+        void shouldReturnCachedEmptyList() {
+            // Given
+            SellerId sellerId = SellerIdFixture.anAssignedId();
+            given(crawlSchedulerCacheQueryPort.findActiveSchedulersBySellerId(sellerId))
+                    .willReturn(Optional.of(List.of()));
+
+            // When
+            List<CrawlScheduler> result = sut.findActiveSchedulersBySellerId(sellerId);
+
+            // Then
+            assertThat(result).isEmpty();
+            then(crawlScheduleQueryPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("[성공] 캐시 미스 시 DB 조회 결과를 빈 목록이어도 적재한다")
+        void shouldLoadFromDbAndPutOnMiss() {
+            // Given
+            SellerId sellerId = SellerIdFixture.anAssignedId();
+            given(crawlSchedulerCacheQueryPort.findActiveSchedulersBySellerId(sellerId))
+                    .willReturn(Optional.empty());
+            given(crawlScheduleQueryPort.findActiveSchedulersBySellerId(sellerId))
+                    .willReturn(List.of());
+
+            // When
+            List<CrawlScheduler> result = sut.findActiveSchedulersBySellerId(sellerId);
+
+            // Then
+            assertThat(result).isEmpty();
+            then(crawlSchedulerCacheCommandPort).should().putActiveSchedulers(sellerId, List.of());
+        }
+    }
+}
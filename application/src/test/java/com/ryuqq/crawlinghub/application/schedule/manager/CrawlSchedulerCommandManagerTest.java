@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerFixture;
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerIdFixture;
 import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlScheduleCommandPort;
+import com.ryuqq.crawlinghub.application.schedule.port.out.command.CrawlSchedulerCacheCommandPort;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +32,8 @@ class CrawlSchedulerCommandManagerTest {
 
     @Mock private CrawlScheduleCommandPort crawlSchedulerPersistencePort;
 
+    @Mock private CrawlSchedulerCacheCommandPort crawlSchedulerCacheCommandPort;
+
     @InjectMocks private CrawlSchedulerCommandManager manager;
 
     @Nested
@@ -52,6 +55,7 @@ class CrawlSchedulerCommandManagerTest {
             // Then
             assertThat(result).isEqualTo(expectedId);
             verify(crawlSchedulerPersistencePort).persist(scheduler);
+            verify(crawlSchedulerCacheCommandPort).invalidate(expectedId, scheduler.getSellerId());
         }
     }
 }
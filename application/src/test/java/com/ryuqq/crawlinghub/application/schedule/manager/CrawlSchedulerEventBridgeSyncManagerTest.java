@@ -1,10 +1,16 @@
 package com.ryuqq.crawlinghub.application.schedule.manager;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerOutBoxFixture;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.schedule.port.out.client.EventBridgeClientPort;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlSchedulerOutBox;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -59,4 +65,35 @@ class CrawlSchedulerEventBridgeSyncManagerTest {
             then(eventBridgeClientPort).should().syncFromOutBox(outBox);
         }
     }
+
+    @Nested
+    @DisplayName("syncAllFromOutBox() 테스트")
+    class SyncAllFromOutBox {
+
+        @Test
+        @DisplayName("[성공] 아웃박스 목록을 일괄 동기화하고 항목별 결과 반환")
+        void shouldSyncAllOutBoxesToEventBridge() {
+            // Given
+            CrawlSchedulerOutBox outBox = CrawlSchedulerOutBoxFixture.aPendingOutBox();
+            List<BatchItemResult<Long>> expected = List.of(BatchItemResult.success(1L));
+            given(eventBridgeClientPort.syncAllFromOutBox(List.of(outBox))).willReturn(expected);
+
+            // When
+            List<BatchItemResult<Long>> results = manager.syncAllFromOutBox(List.of(outBox));
+
+            // Then
+            assertThat(results).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 포트를 호출하지 않음")
+        void shouldSkipWhenEmpty() {
+            // When
+            List<BatchItemResult<Long>> results = manager.syncAllFromOutBox(List.of());
+
+            // Then
+            assertThat(results).isEmpty();
+            then(eventBridgeClientPort).should(never()).syncAllFromOutBox(any());
+        }
+    }
 }
@@ -59,12 +59,12 @@ class ProcessPendingSchedulerOutboxServiceTest {
             assertThat(result.total()).isZero();
             assertThat(result.success()).isZero();
             assertThat(result.failed()).isZero();
-            then(processor).should(never()).processOutbox(any());
+            then(processor).should(never()).processOutboxes(any());
         }
 
         @Test
-        @DisplayName("[성공] 모든 아웃박스 처리 성공 시 성공 카운트 반영")
-        void shouldCountSuccessesWhenAllProcessed() {
+        @DisplayName("[성공] 조회한 아웃박스를 일괄 처리하고 결과를 그대로 반환")
+        void shouldDelegateToBatchProcessing() {
             // Given
             ProcessPendingSchedulerOutboxCommand command =
                     ProcessPendingSchedulerOutboxCommand.of(10, 30);
@@ -75,68 +75,17 @@ class ProcessPendingSchedulerOutboxServiceTest {
             List<CrawlSchedulerOutBox> outBoxes = List.of(outBox1, outBox2);
 
             given(outBoxReadManager.findPendingOlderThan(10, 30)).willReturn(outBoxes);
-            given(processor.processOutbox(outBox1)).willReturn(true);
-            given(processor.processOutbox(outBox2)).willReturn(true);
+            given(processor.processOutboxes(outBoxes))
+                    .willReturn(SchedulerBatchProcessingResult.of(2, 1, 1));
 
             // When
             SchedulerBatchProcessingResult result = service.execute(command);
 
             // Then
             assertThat(result.total()).isEqualTo(2);
-            assertThat(result.success()).isEqualTo(2);
-            assertThat(result.failed()).isZero();
-        }
-
-        @Test
-        @DisplayName("[부분 실패] 일부 아웃박스 처리 실패 시 실패 카운트 반영")
-        void shouldCountFailuresWhenSomeProcessingFailed() {
-            // Given
-            ProcessPendingSchedulerOutboxCommand command =
-                    ProcessPendingSchedulerOutboxCommand.of(10, 30);
-
-            // CrawlSchedulerOutBox.equals()가 outBoxId 기반이므로 각각 다른 ID를 가진 fixture 사용
-            CrawlSchedulerOutBox outBox1 = CrawlSchedulerOutBoxFixture.aPendingOutBox(); // ID 1L
-            CrawlSchedulerOutBox outBox2 = CrawlSchedulerOutBoxFixture.aCompletedOutBox(); // ID 2L
-            CrawlSchedulerOutBox outBox3 = CrawlSchedulerOutBoxFixture.aFailedOutBox(); // ID 3L
-            List<CrawlSchedulerOutBox> outBoxes = List.of(outBox1, outBox2, outBox3);
-
-            given(outBoxReadManager.findPendingOlderThan(10, 30)).willReturn(outBoxes);
-            given(processor.processOutbox(outBox1)).willReturn(true);
-            given(processor.processOutbox(outBox2)).willReturn(false);
-            given(processor.processOutbox(outBox3)).willReturn(true);
-
-            // When
-            SchedulerBatchProcessingResult result = service.execute(command);
-
-            // Then
-            assertThat(result.total()).isEqualTo(3);
-            assertThat(result.success()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(1);
             assertThat(result.failed()).isEqualTo(1);
-        }
-
-        @Test
-        @DisplayName("[실패] 모든 아웃박스 처리 실패 시 실패 카운트 반영")
-        void shouldCountAllAsFailedWhenAllProcessingFailed() {
-            // Given
-            ProcessPendingSchedulerOutboxCommand command =
-                    ProcessPendingSchedulerOutboxCommand.of(5, 60);
-
-            // CrawlSchedulerOutBox.equals()가 outBoxId 기반이므로 서로 다른 ID 사용
-            CrawlSchedulerOutBox outBox1 = CrawlSchedulerOutBoxFixture.aPendingOutBox(); // ID 1L
-            CrawlSchedulerOutBox outBox2 = CrawlSchedulerOutBoxFixture.aFailedOutBox(); // ID 3L
-            List<CrawlSchedulerOutBox> outBoxes = List.of(outBox1, outBox2);
-
-            given(outBoxReadManager.findPendingOlderThan(5, 60)).willReturn(outBoxes);
-            given(processor.processOutbox(outBox1)).willReturn(false);
-            given(processor.processOutbox(outBox2)).willReturn(false);
-
-            // When
-            SchedulerBatchProcessingResult result = service.execute(command);
-
-            // Then
-            assertThat(result.total()).isEqualTo(2);
-            assertThat(result.success()).isZero();
-            assertThat(result.failed()).isEqualTo(2);
+            then(processor).should(never()).processOutbox(any());
         }
     }
 }
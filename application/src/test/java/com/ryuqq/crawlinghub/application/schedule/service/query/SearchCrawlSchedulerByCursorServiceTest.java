@@ -0,0 +1,140 @@
+package com.ryuqq.crawlinghub.application.schedule.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerFixture;
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.crawlinghub.application.schedule.assembler.CrawlSchedulerAssembler;
+import com.ryuqq.crawlinghub.application.schedule.dto.query.CrawlSchedulerCursorSearchParams;
+import com.ryuqq.crawlinghub.application.schedule.dto.response.CrawlSchedulerSliceResult;
+import com.ryuqq.crawlinghub.application.schedule.factory.query.CrawlSchedulerQueryFactory;
+import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerReadManager;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SliceMeta;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerCursorCriteria;
+import com.ryuqq.crawlinghub.domain.schedule.query.CrawlSchedulerSortKey;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * SearchCrawlSchedulerByCursorService 단위 테스트
+ *
+ * <p>Mockist 스타일 테스트: ReadManager, QueryFactory, Assembler 의존성 Mocking
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchCrawlSchedulerByCursorService 테스트")
+class SearchCrawlSchedulerByCursorServiceTest {
+
+    @Mock private CrawlSchedulerReadManager readManager;
+
+    @Mock private CrawlSchedulerQueryFactory queryFactory;
+
+    @Mock private CrawlSchedulerAssembler assembler;
+
+    @InjectMocks private SearchCrawlSchedulerByCursorService service;
+
+    @Nested
+    @DisplayName("execute() 스케줄러 커서 조회 테스트")
+    class Execute {
+
+        @Test
+        @DisplayName("[성공] includeTotal=false면 count 쿼리 없이 슬라이스를 반환한다")
+        void shouldSkipCountWhenTotalNotRequested() {
+            // Given
+            CrawlSchedulerCursorSearchParams params =
+                    CrawlSchedulerCursorSearchParams.of(
+                            null,
+                            null,
+                            null,
+                            null,
+                            "createdAt",
+                            "DESC",
+                            CommonCursorParams.first(10),
+                            false);
+            CrawlSchedulerCursorCriteria criteria = criteria();
+            List<CrawlScheduler> schedulers = List.of(CrawlSchedulerFixture.anActiveScheduler());
+            CrawlSchedulerSliceResult expected =
+                    CrawlSchedulerSliceResult.of(List.of(), SliceMeta.empty(), null);
+
+            given(queryFactory.createCursorCriteria(params)).willReturn(criteria);
+            given(readManager.findByCursorCriteria(criteria)).willReturn(schedulers);
+            given(
+                            assembler.toSliceResult(
+                                    schedulers,
+                                    CrawlSchedulerSortKey.CREATED_AT,
+                                    SortDirection.DESC,
+                                    10,
+                                    null))
+                    .willReturn(expected);
+
+            // When
+            CrawlSchedulerSliceResult result = service.execute(params);
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+            then(readManager).should(never()).countByCursorCriteria(any());
+        }
+
+        @Test
+        @DisplayName("[성공] includeTotal=true면 전체 개수를 함께 반환한다")
+        void shouldIncludeTotalWhenRequested() {
+            // Given
+            CrawlSchedulerCursorSearchParams params =
+                    CrawlSchedulerCursorSearchParams.of(
+                            null,
+                            null,
+                            null,
+                            null,
+                            "createdAt",
+                            "DESC",
+                            CommonCursorParams.first(10),
+                            true);
+            CrawlSchedulerCursorCriteria criteria = criteria();
+            List<CrawlScheduler> schedulers = List.of(CrawlSchedulerFixture.anActiveScheduler());
+            CrawlSchedulerSliceResult expected =
+                    CrawlSchedulerSliceResult.of(List.of(), SliceMeta.empty(), 12L);
+
+            given(queryFactory.createCursorCriteria(params)).willReturn(criteria);
+            given(readManager.findByCursorCriteria(criteria)).willReturn(schedulers);
+            given(readManager.countByCursorCriteria(criteria)).willReturn(12L);
+            given(
+                            assembler.toSliceResult(
+                                    schedulers,
+                                    CrawlSchedulerSortKey.CREATED_AT,
+                                    SortDirection.DESC,
+                                    10,
+                                    12L))
+                    .willReturn(expected);
+
+            // When
+            CrawlSchedulerSliceResult result = service.execute(params);
+
+            // Then
+            assertThat(result.totalElements()).isEqualTo(12L);
+            then(readManager).should().countByCursorCriteria(criteria);
+        }
+    }
+
+    private CrawlSchedulerCursorCriteria criteria() {
+        CursorQueryContext<CrawlSchedulerSortKey, KeysetCursor> context =
+                CursorQueryContext.firstPage(
+                        CrawlSchedulerSortKey.CREATED_AT, SortDirection.DESC, 10);
+        return CrawlSchedulerCursorCriteria.of(null, null, null, null, context);
+    }
+}
@@ -1,10 +1,18 @@
 package com.ryuqq.crawlinghub.application.seller.factory.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
 import com.ryuqq.crawlinghub.application.common.dto.query.CommonSearchParams;
+import com.ryuqq.crawlinghub.application.common.factory.CommonVoFactory;
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
 import com.ryuqq.crawlinghub.application.seller.dto.query.SellerSearchParams;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
 import com.ryuqq.crawlinghub.domain.seller.query.SellerQueryCriteria;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerSortKey;
 import com.ryuqq.crawlinghub.domain.seller.vo.SellerStatus;
 import java.time.Instant;
 import java.util.List;
@@ -24,7 +32,7 @@ class SellerQueryFactoryTest {
 
     @BeforeEach
     void setUp() {
-        factory = new SellerQueryFactory();
+        factory = new SellerQueryFactory(new CommonVoFactory());
     }
 
     @Nested
@@ -212,4 +220,117 @@ class SellerQueryFactoryTest {
             assertThat(criteria.statuses()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("createCursorCriteria() 메서드는")
+    class CreateCursorCriteriaMethod {
+
+        @Test
+        @DisplayName("인코딩된 커서를 복원해 요청 정렬 조건과 함께 Criteria에 담는다")
+        void shouldDecodeCursorWithSortCondition() {
+            // Given
+            KeysetCursor cursor =
+                    KeysetCursor.of("updatedAt", SortDirection.ASC, "2025-11-20T01:30:00Z", 120L);
+            SellerCursorSearchParams params =
+                    cursorParams(List.of("ACTIVE"), "updatedAt", "ASC", cursor.encode());
+
+            // When
+            SellerCursorCriteria criteria = factory.createCursorCriteria(params);
+
+            // Then
+            assertThat(criteria.hasCursor()).isTrue();
+            assertThat(criteria.cursor()).isEqualTo(cursor);
+            assertThat(criteria.sortKey()).isEqualTo(SellerSortKey.UPDATED_AT);
+            assertThat(criteria.sortDirection()).isEqualTo(SortDirection.ASC);
+            assertThat(criteria.size()).isEqualTo(20);
+            assertThat(criteria.fetchSize()).isEqualTo(21);
+            assertThat(criteria.statuses()).containsExactly(SellerStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("정렬 조건이 없으면 createdAt 내림차순 첫 슬라이스 조건을 만든다")
+        void shouldCreateFirstSliceWithDefaultSort() {
+            // Given
+            SellerCursorSearchParams params = cursorParams(null, null, null, null);
+
+            // When
+            SellerCursorCriteria criteria = factory.createCursorCriteria(params);
+
+            // Then
+            assertThat(criteria.hasCursor()).isFalse();
+            assertThat(criteria.sortKey()).isEqualTo(SellerSortKey.CREATED_AT);
+            assertThat(criteria.sortDirection()).isEqualTo(SortDirection.DESC);
+        }
+
+        @Test
+        @DisplayName("다른 정렬 키로 발급된 커서면 IllegalArgumentException을 던진다")
+        void shouldRejectCursorFromAnotherSortKey() {
+            // Given
+            String updatedAtCursor =
+                    KeysetCursor.of("updatedAt", SortDirection.DESC, "2025-11-20T01:30:00Z", 120L)
+                            .encode();
+            SellerCursorSearchParams params =
+                    cursorParams(null, "createdAt", "DESC", updatedAtCursor);
+
+            // When & Then
+            assertThatThrownBy(() -> factory.createCursorCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("updatedAt");
+        }
+
+        @Test
+        @DisplayName("다른 정렬 방향으로 발급된 커서면 IllegalArgumentException을 던진다")
+        void shouldRejectCursorFromAnotherDirection() {
+            // Given
+            String ascCursor =
+                    KeysetCursor.of("createdAt", SortDirection.ASC, "2025-11-20T01:30:00Z", 120L)
+                            .encode();
+            SellerCursorSearchParams params = cursorParams(null, "createdAt", "DESC", ascCursor);
+
+            // When & Then
+            assertThatThrownBy(() -> factory.createCursorCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ASC");
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서면 IllegalArgumentException을 던진다")
+        void shouldRejectMalformedCursor() {
+            // Given
+            SellerCursorSearchParams params = cursorParams(null, "createdAt", "DESC", "120");
+
+            // When & Then
+            assertThatThrownBy(() -> factory.createCursorCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+
+        @Test
+        @DisplayName("정렬 키 값이 시각이 아닌 커서면 IllegalArgumentException을 던진다")
+        void shouldRejectCursorWithNonInstantSortValue() {
+            // Given
+            String cursor =
+                    KeysetCursor.of("createdAt", SortDirection.DESC, "not-a-time", 120L).encode();
+            SellerCursorSearchParams params = cursorParams(null, "createdAt", "DESC", cursor);
+
+            // When & Then
+            assertThatThrownBy(() -> factory.createCursorCriteria(params))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("createdAt");
+        }
+
+        private SellerCursorSearchParams cursorParams(
+                List<String> statuses, String sortKey, String sortDirection, String cursor) {
+            return SellerCursorSearchParams.of(
+                    null,
+                    null,
+                    statuses,
+                    null,
+                    null,
+                    sortKey,
+                    sortDirection,
+                    CommonCursorParams.of(cursor, 20),
+                    false);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.ryuqq.crawlinghub.application.seller.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.cralwinghub.domain.fixture.seller.SellerFixture;
+import com.ryuqq.cralwinghub.domain.fixture.seller.SellerIdFixture;
+import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerCacheCommandPort;
+import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerCacheQueryPort;
+import com.ryuqq.crawlinghub.application.seller.port.out.query.SellerQueryPort;
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * SellerCacheReadManager 단위 테스트
+ *
+ * <p>캐시 조회 → 미스 시 DB 조회 → 캐시 적재 흐름 검증
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SellerCacheReadManager 테스트")
+class SellerCacheReadManagerTest {
+
+    @Mock private SellerCacheQueryPort sellerCacheQueryPort;
+
+    @Mock private SellerCacheCommandPort sellerCacheCommandPort;
+
+    @Mock private SellerQueryPort sellerQueryPort;
+
+    @InjectMocks private SellerCacheReadManager sut;
+
+    @Nested
+    @DisplayName("findById() 테스트")
+    class FindById {
+
+        @Test
+        @DisplayName("[성공] 캐시 hit 시 DB를 조회하지 않는다")
+        void shouldReturnCachedSellerWithoutDbRead() {
+            // Given
+            SellerId sellerId = SellerIdFixture.anAssignedId();
+            Seller seller = SellerFixture.anActiveSeller();
+            given(sellerCacheQueryPort.findById(sellerId)).willReturn(Optional.of(seller));
+
+            // When
+            Optional<Seller> result = sut.findById(sellerId);
+
+            // Then
+            assertThat(result).contains(seller);
+            then(sellerQueryPort).shouldHaveNoInteractions();
+            then(sellerCacheCommandPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("[성공] 캐시 미스 시 DB에서 조회해 캐시에 적재한다")
+        void shouldLoadFromDbAndPutOnMiss() {
+            // Given
+            SellerId sellerId = SellerIdFixture.anAssignedId();
+            Seller seller = SellerFixture.anActiveSeller();
+            given(sellerCacheQueryPort.findById(sellerId)).willReturn(Optional.empty());
+            given(sellerQueryPort.findById(sellerId)).willReturn(Optional.of(seller));
+
+            // When
+            Optional<Seller> result = sut.findById(sellerId);
+
+            // Then
+            assertThat(result).contains(seller);
+            then(sellerCacheCommandPort).should().put(seller);
+        }
+
+        @Test
+        @DisplayName("[성공] DB에도 없는 Seller는 캐시하지 않는다")
+        void shouldNotPutMissingSeller() {
+            // Given
+            SellerId sellerId = SellerIdFixture.anAssignedId();
+            given(sellerCacheQueryPort.findById(sellerId)).willReturn(Optional.empty());
+            given(sellerQueryPort.findById(sellerId)).willReturn(Optional.empty());
+
+            // When
+            Optional<Seller> result = sut.findById(sellerId);
+
+            // Then
+            assertThat(result).isEmpty();
+            then(sellerCacheCommandPort).should(never()).put(any());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.verify;
 
 import com.ryuqq.cralwinghub.domain.fixture.seller.SellerFixture;
 import com.ryuqq.cralwinghub.domain.fixture.seller.SellerIdFixture;
+import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerCacheCommandPort;
 import com.ryuqq.crawlinghub.application.seller.port.out.command.SellerPersistencePort;
 import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
 import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
@@ -31,6 +32,8 @@ class SellerCommandManagerTest {
 
     @Mock private SellerPersistencePort sellerPersistencePort;
 
+    @Mock private SellerCacheCommandPort sellerCacheCommandPort;
+
     @InjectMocks private SellerCommandManager manager;
 
     @Nested
@@ -52,6 +55,7 @@ class SellerCommandManagerTest {
             // Then
             assertThat(result).isEqualTo(expectedId);
             verify(sellerPersistencePort).persist(seller);
+            verify(sellerCacheCommandPort).invalidate(expectedId);
         }
 
         @Test
@@ -0,0 +1,149 @@
+package com.ryuqq.crawlinghub.application.seller.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.cralwinghub.domain.fixture.seller.SellerFixture;
+import com.ryuqq.crawlinghub.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.crawlinghub.application.seller.assembler.SellerAssembler;
+import com.ryuqq.crawlinghub.application.seller.dto.query.SellerCursorSearchParams;
+import com.ryuqq.crawlinghub.application.seller.dto.response.SellerSliceResult;
+import com.ryuqq.crawlinghub.application.seller.factory.query.SellerQueryFactory;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorPageRequest;
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SliceMeta;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.seller.aggregate.Seller;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerCursorCriteria;
+import com.ryuqq.crawlinghub.domain.seller.query.SellerSortKey;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * SearchSellerByCursorService 단위 테스트
+ *
+ * <p>Mockist 스타일 테스트: ReadManager, QueryFactory, Assembler 의존성 Mocking
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchSellerByCursorService 테스트")
+class SearchSellerByCursorServiceTest {
+
+    @Mock private SellerReadManager readManager;
+
+    @Mock private SellerQueryFactory queryFactory;
+
+    @Mock private SellerAssembler assembler;
+
+    @InjectMocks private SearchSellerByCursorService service;
+
+    @Nested
+    @DisplayName("execute() 셀러 커서 조회 테스트")
+    class Execute {
+
+        @Test
+        @DisplayName("[성공] includeTotal=false면 count 쿼리 없이 슬라이스를 반환한다")
+        void shouldSkipCountWhenTotalNotRequested() {
+            // Given
+            KeysetCursor cursor =
+                    KeysetCursor.of("createdAt", SortDirection.DESC, "2025-11-20T01:30:00Z", 100L);
+            SellerCursorSearchParams params =
+                    SellerCursorSearchParams.of(
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            "createdAt",
+                            "DESC",
+                            CommonCursorParams.of(cursor.encode(), 10),
+                            false);
+            SellerCursorCriteria criteria = criteria(CursorPageRequest.of(cursor, 10));
+            List<Seller> sellers = List.of(SellerFixture.anActiveSeller());
+            SellerSliceResult expected =
+                    SellerSliceResult.of(List.of(), SliceMeta.empty(), null);
+
+            given(queryFactory.createCursorCriteria(params)).willReturn(criteria);
+            given(readManager.findByCursorCriteria(criteria)).willReturn(sellers);
+            given(
+                            assembler.toSliceResult(
+                                    sellers,
+                                    SellerSortKey.CREATED_AT,
+                                    SortDirection.DESC,
+                                    10,
+                                    null))
+                    .willReturn(expected);
+
+            // When
+            SellerSliceResult result = service.execute(params);
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+            then(readManager).should().findByCursorCriteria(criteria);
+            then(readManager).should(never()).countByCursorCriteria(any());
+        }
+
+        @Test
+        @DisplayName("[성공] includeTotal=true면 전체 개수를 함께 반환한다")
+        void shouldIncludeTotalWhenRequested() {
+            // Given
+            SellerCursorSearchParams params =
+                    SellerCursorSearchParams.of(
+                            null,
+                            null,
+                            List.of("ACTIVE"),
+                            null,
+                            null,
+                            "createdAt",
+                            "DESC",
+                            CommonCursorParams.first(10),
+                            true);
+            SellerCursorCriteria criteria = criteria(CursorPageRequest.first(10));
+            List<Seller> sellers = List.of(SellerFixture.anActiveSeller());
+            SellerSliceResult expected =
+                    SellerSliceResult.of(List.of(), SliceMeta.empty(), 35L);
+
+            given(queryFactory.createCursorCriteria(params)).willReturn(criteria);
+            given(readManager.findByCursorCriteria(criteria)).willReturn(sellers);
+            given(readManager.countByCursorCriteria(criteria)).willReturn(35L);
+            given(
+                            assembler.toSliceResult(
+                                    sellers,
+                                    SellerSortKey.CREATED_AT,
+                                    SortDirection.DESC,
+                                    10,
+                                    35L))
+                    .willReturn(expected);
+
+            // When
+            SellerSliceResult result = service.execute(params);
+
+            // Then
+            assertThat(result.totalElements()).isEqualTo(35L);
+            then(readManager).should().countByCursorCriteria(criteria);
+        }
+    }
+
+    private static SellerCursorCriteria criteria(CursorPageRequest<KeysetCursor> pageRequest) {
+        return SellerCursorCriteria.of(
+                null,
+                null,
+                null,
+                null,
+                null,
+                CursorQueryContext.of(SellerSortKey.CREATED_AT, SortDirection.DESC, pageRequest));
+    }
+}
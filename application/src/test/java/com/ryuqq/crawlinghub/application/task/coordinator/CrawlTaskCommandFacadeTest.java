@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture;
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskIdFixture;
@@ -15,10 +16,12 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -85,6 +88,49 @@ class CrawlTaskCommandFacadeTest {
         }
     }
 
+    @Nested
+    @DisplayName("persistAll() 테스트")
+    class PersistAll {
+
+        @Test
+        @DisplayName("[성공] Task 일괄 저장 후 반환 ID로 Outbox 일괄 저장")
+        void shouldPersistAllTasksAndOutboxesInBatch() {
+            // Given
+            CrawlTask first = CrawlTaskFixture.aNewTask();
+            CrawlTask second = CrawlTaskFixture.aNewTask();
+            List<CrawlTaskBundle> bundles =
+                    List.of(
+                            CrawlTaskBundle.of(first, FIXED_INSTANT),
+                            CrawlTaskBundle.of(second, FIXED_INSTANT));
+            List<CrawlTaskId> savedIds = List.of(CrawlTaskId.of(10L), CrawlTaskId.of(11L));
+
+            given(commandManager.persistAll(List.of(first, second))).willReturn(savedIds);
+
+            // When
+            List<CrawlTaskId> result = coordinator.persistAll(bundles);
+
+            // Then
+            assertThat(result).isEqualTo(savedIds);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CrawlTaskOutbox>> captor = ArgumentCaptor.forClass(List.class);
+            verify(outboxCommandManager).persistAll(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(CrawlTaskOutbox::getCrawlTaskIdValue)
+                    .containsExactly(10L, 11L);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 저장하지 않음")
+        void shouldDoNothingWhenEmpty() {
+            // When
+            List<CrawlTaskId> result = coordinator.persistAll(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(commandManager, outboxCommandManager);
+        }
+    }
+
     @Nested
     @DisplayName("retry() 테스트")
     class Retry {
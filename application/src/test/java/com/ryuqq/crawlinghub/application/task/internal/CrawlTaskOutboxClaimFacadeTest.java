@@ -0,0 +1,133 @@
+package com.ryuqq.crawlinghub.application.task.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxCommandManager;
+import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxReadManager;
+import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawlTaskOutboxClaimFacade 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlTaskOutboxClaimFacade 테스트")
+class CrawlTaskOutboxClaimFacadeTest {
+
+    @Mock private CrawlTaskOutboxReadManager outboxReadManager;
+
+    @Mock private CrawlTaskOutboxCommandManager outboxCommandManager;
+
+    @InjectMocks private CrawlTaskOutboxClaimFacade claimFacade;
+
+    private CrawlTaskOutbox createPendingOutbox(long taskId) {
+        return CrawlTaskOutbox.reconstitute(
+                CrawlTaskId.of(taskId),
+                "outbox-" + taskId,
+                "{\"taskId\": " + taskId + "}",
+                OutboxStatus.PENDING,
+                0,
+                Instant.now().minusSeconds(300),
+                null);
+    }
+
+    @Nested
+    @DisplayName("claimPendingOlderThan() 테스트")
+    class ClaimPendingOlderThan {
+
+        @Test
+        @DisplayName("[성공] 잠금 조회한 PENDING 아웃박스를 PROCESSING으로 전환 후 일괄 저장")
+        void shouldMarkLockedOutboxesAsProcessing() {
+            // Given
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            CrawlTaskOutbox outbox2 = createPendingOutbox(2L);
+            given(outboxReadManager.findPendingOlderThanForUpdate(100, 30))
+                    .willReturn(List.of(outbox1, outbox2));
+
+            // When
+            List<CrawlTaskOutbox> claimed = claimFacade.claimPendingOlderThan(100, 30);
+
+            // Then
+            assertThat(claimed).containsExactly(outbox1, outbox2);
+            assertThat(claimed).allMatch(CrawlTaskOutbox::isProcessing);
+            assertThat(claimed).allMatch(outbox -> outbox.getProcessedAt() != null);
+            then(outboxCommandManager)
+                    .should()
+                    .markAllAsProcessing(eq(List.of(outbox1, outbox2)), any(Instant.class));
+            then(outboxCommandManager).should(never()).persist(any(CrawlTaskOutbox.class));
+        }
+
+        @Test
+        @DisplayName("[성공] 선점 가능한 아웃박스가 없으면 저장 없이 빈 목록 반환")
+        void shouldReturnEmptyWhenNothingToClaim() {
+            // Given
+            given(outboxReadManager.findPendingOlderThanForUpdate(100, 30)).willReturn(List.of());
+
+            // When
+            List<CrawlTaskOutbox> claimed = claimFacade.claimPendingOlderThan(100, 30);
+
+            // Then
+            assertThat(claimed).isEmpty();
+            then(outboxCommandManager).should(never()).persist(any(CrawlTaskOutbox.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("claimPendingByCrawlTaskIds() 테스트")
+    class ClaimPendingByCrawlTaskIds {
+
+        @Test
+        @DisplayName("[성공] 지정한 ID 중 잠금을 획득한 PENDING 아웃박스만 PROCESSING으로 전환")
+        void shouldClaimOnlyLockedPendingOutboxes() {
+            // Given
+            List<CrawlTaskId> taskIds = List.of(CrawlTaskId.of(1L), CrawlTaskId.of(2L));
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            given(outboxReadManager.findPendingByCrawlTaskIdsForUpdate(taskIds))
+                    .willReturn(List.of(outbox1));
+
+            // When
+            List<CrawlTaskOutbox> claimed = claimFacade.claimPendingByCrawlTaskIds(taskIds);
+
+            // Then
+            assertThat(claimed).containsExactly(outbox1);
+            assertThat(outbox1.isProcessing()).isTrue();
+            then(outboxCommandManager)
+                    .should()
+                    .markAllAsProcessing(eq(List.of(outbox1)), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("[성공] 이미 선점된 아웃박스뿐이면 저장 없이 빈 목록 반환")
+        void shouldReturnEmptyWhenAlreadyClaimed() {
+            // Given
+            List<CrawlTaskId> taskIds = List.of(CrawlTaskId.of(1L));
+            given(outboxReadManager.findPendingByCrawlTaskIdsForUpdate(taskIds))
+                    .willReturn(List.of());
+
+            // When
+            List<CrawlTaskOutbox> claimed = claimFacade.claimPendingByCrawlTaskIds(taskIds);
+
+            // Then
+            assertThat(claimed).isEmpty();
+            then(outboxCommandManager).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ryuqq.crawlinghub.application.task.internal;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
+import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CrawlTaskOutboxImmediateDispatcher 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CrawlTaskOutboxImmediateDispatcher 테스트")
+class CrawlTaskOutboxImmediateDispatcherTest {
+
+    @Mock private CrawlTaskOutboxClaimFacade claimFacade;
+
+    @Mock private CrawlTaskOutboxProcessor processor;
+
+    @Mock private CrawlHubMetrics metrics;
+
+    private CrawlTaskOutboxImmediateDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new CrawlTaskOutboxImmediateDispatcher(claimFacade, processor, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private CrawlTaskOutbox createProcessingOutbox(long taskId) {
+        return CrawlTaskOutbox.reconstitute(
+                CrawlTaskId.of(taskId),
+                "outbox-" + taskId,
+                "{\"taskId\": " + taskId + "}",
+                OutboxStatus.PROCESSING,
+                0,
+                Instant.now(),
+                Instant.now());
+    }
+
+    @Nested
+    @DisplayName("submit() 테스트")
+    class Submit {
+
+        @Test
+        @DisplayName("[성공] 요청을 받으면 워커 스레드에서 선점 후 즉시 발행")
+        void shouldClaimAndPublishAsynchronously() {
+            // Given
+            List<CrawlTaskId> taskIds = List.of(CrawlTaskId.of(1L));
+            List<CrawlTaskOutbox> claimed = List.of(createProcessingOutbox(1L));
+            given(claimFacade.claimPendingByCrawlTaskIds(taskIds)).willReturn(claimed);
+            given(processor.processOutboxes(claimed, "immediate"))
+                    .willReturn(SchedulerBatchProcessingResult.of(1, 1, 0));
+
+            // When
+            dispatcher.submit(taskIds);
+
+            // Then
+            then(processor).should(timeout(1_000)).processOutboxes(claimed, "immediate");
+        }
+    }
+
+    @Nested
+    @DisplayName("dispatch() 테스트")
+    class Dispatch {
+
+        @Test
+        @DisplayName("[스킵] 폴링 스케줄러가 이미 선점한 경우 발행하지 않음")
+        void shouldSkipWhenAlreadyClaimed() {
+            // Given
+            List<CrawlTaskId> taskIds = List.of(CrawlTaskId.of(1L));
+            given(claimFacade.claimPendingByCrawlTaskIds(taskIds)).willReturn(List.of());
+
+            // When
+            dispatcher.dispatch(taskIds);
+
+            // Then
+            then(processor).should(never()).processOutboxes(anyList(), anyString());
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            CrawlTaskOutboxImmediateDispatcher.DISPATCH_METRIC,
+                            "result",
+                            "skipped");
+        }
+
+        @Test
+        @DisplayName("[실패] 선점 중 예외는 전파하지 않고 폴링 스케줄러에 위임")
+        void shouldSwallowClaimFailure() {
+            // Given
+            List<CrawlTaskId> taskIds = List.of(CrawlTaskId.of(1L));
+            willThrow(new RuntimeException("DB 오류"))
+                    .given(claimFacade)
+                    .claimPendingByCrawlTaskIds(taskIds);
+
+            // When
+            dispatcher.dispatch(taskIds);
+
+            // Then
+            then(processor).should(never()).processOutboxes(anyList(), anyString());
+            then(metrics)
+                    .should()
+                    .incrementCounter(
+                            CrawlTaskOutboxImmediateDispatcher.DISPATCH_METRIC, "result", "failed");
+        }
+    }
+}
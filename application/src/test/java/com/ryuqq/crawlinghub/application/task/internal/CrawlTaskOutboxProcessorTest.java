@@ -2,6 +2,8 @@ package com.ryuqq.crawlinghub.application.task.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
@@ -9,6 +11,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.common.metric.CrawlHubMetrics;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskCommandManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskMessageManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxCommandManager;
@@ -17,7 +22,9 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -45,6 +52,8 @@ class CrawlTaskOutboxProcessorTest {
 
     @Mock private CrawlTaskMessageManager messageManager;
 
+    @Mock private CrawlHubMetrics metrics;
+
     @InjectMocks private CrawlTaskOutboxProcessor processor;
 
     private CrawlTaskOutbox createPendingOutbox(long taskId) {
@@ -78,6 +87,23 @@ class CrawlTaskOutboxProcessorTest {
             then(messageManager).should().publishFromOutbox(outbox);
         }
 
+        @Test
+        @DisplayName("[성공] 이미 선점된 PROCESSING 아웃박스는 PROCESSING 저장 없이 발행")
+        void shouldSkipProcessingPersistWhenAlreadyClaimed() {
+            // Given
+            CrawlTaskOutbox outbox = createPendingOutbox(8L);
+            outbox.markAsProcessing(Instant.now());
+
+            // When
+            boolean result = processor.processOutbox(outbox);
+
+            // Then
+            assertThat(result).isTrue();
+            assertThat(outbox.isSent()).isTrue();
+            then(outboxCommandManager).should(times(1)).persist(outbox);
+            then(messageManager).should().publishFromOutbox(outbox);
+        }
+
         @Test
         @DisplayName("[실패] SQS 발행 실패 시 FAILED 처리 후 false 반환")
         void shouldReturnFalseAndMarkAsFailedOnSqsFailure() {
@@ -185,4 +211,148 @@ class CrawlTaskOutboxProcessorTest {
             then(messageManager).should().publishFromOutbox(outbox);
         }
     }
+
+    @Nested
+    @DisplayName("processOutboxes() 아웃박스 일괄 처리 테스트")
+    class ProcessOutboxes {
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 발행 없이 빈 결과 반환")
+        void shouldReturnEmptyResultWhenNoOutboxes() {
+            // When
+            SchedulerBatchProcessingResult result = processor.processOutboxes(List.of());
+
+            // Then
+            assertThat(result.total()).isZero();
+            then(messageManager).should(never()).publishAllFromOutbox(anyList());
+        }
+
+        @Test
+        @DisplayName("[성공] 한 번의 일괄 발행 후 상태 전환을 항목별 저장 없이 일괄 반영")
+        void shouldMarkAllAsSentWhenBatchSucceeds() {
+            // Given
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            CrawlTaskOutbox outbox2 = createPendingOutbox(2L);
+            List<CrawlTaskOutbox> outboxes = List.of(outbox1, outbox2);
+            given(messageManager.publishAllFromOutbox(outboxes))
+                    .willReturn(List.of(BatchItemResult.success(1L), BatchItemResult.success(2L)));
+
+            // When
+            SchedulerBatchProcessingResult result = processor.processOutboxes(outboxes);
+
+            // Then
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isEqualTo(2);
+            assertThat(result.failed()).isZero();
+            assertThat(outbox1.isSent()).isTrue();
+            assertThat(outbox2.isSent()).isTrue();
+            then(messageManager).should(times(1)).publishAllFromOutbox(outboxes);
+            then(messageManager).should(never()).publishFromOutbox(any(CrawlTaskOutbox.class));
+            then(outboxCommandManager)
+                    .should()
+                    .markAllAsProcessing(eq(outboxes), any(Instant.class));
+            then(commandManager)
+                    .should()
+                    .markAllAsPublished(
+                            eq(List.of(CrawlTaskId.of(1L), CrawlTaskId.of(2L))),
+                            any(Instant.class));
+            then(outboxCommandManager).should().markAllAsSent(eq(outboxes), any(Instant.class));
+            then(outboxCommandManager).should(never()).persist(any(CrawlTaskOutbox.class));
+            then(readManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("[성공] 발행 성공 건의 생성 → 발행 지연을 발행 경로 태그와 함께 기록")
+        void shouldRecordPublishLatencyWithDispatchPath() {
+            // Given
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            List<CrawlTaskOutbox> outboxes = List.of(outbox1);
+            given(messageManager.publishAllFromOutbox(outboxes))
+                    .willReturn(List.of(BatchItemResult.success(1L)));
+
+            // When
+            processor.processOutboxes(outboxes, CrawlTaskOutboxProcessor.DISPATCH_PATH_IMMEDIATE);
+
+            // Then
+            then(metrics)
+                    .should()
+                    .recordDuration(
+                            eq("crawl_task_outbox_publish_latency"),
+                            any(Duration.class),
+                            eq("path"),
+                            eq("immediate"));
+        }
+
+        @Test
+        @DisplayName("[부분 실패] 항목별 발행 실패는 해당 아웃박스만 FAILED 처리")
+        void shouldMarkOnlyFailedEntriesAsFailed() {
+            // Given
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            CrawlTaskOutbox outbox2 = createPendingOutbox(2L);
+            List<CrawlTaskOutbox> outboxes = List.of(outbox1, outbox2);
+            given(messageManager.publishAllFromOutbox(outboxes))
+                    .willReturn(
+                            List.of(
+                                    BatchItemResult.success(1L),
+                                    BatchItemResult.failure(2L, "InternalError", "SQS 오류")));
+
+            // When
+            SchedulerBatchProcessingResult result = processor.processOutboxes(outboxes);
+
+            // Then
+            assertThat(result.success()).isEqualTo(1);
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(outbox1.isSent()).isTrue();
+            assertThat(outbox2.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            then(outboxCommandManager)
+                    .should()
+                    .markAllAsSent(eq(List.of(outbox1)), any(Instant.class));
+            then(outboxCommandManager)
+                    .should()
+                    .markAllAsFailed(eq(List.of(outbox2)), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("[실패] 일괄 발행 호출 자체가 실패하면 모든 아웃박스 FAILED 처리")
+        void shouldMarkAllAsFailedWhenBatchCallFails() {
+            // Given
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            CrawlTaskOutbox outbox2 = createPendingOutbox(2L);
+            List<CrawlTaskOutbox> outboxes = List.of(outbox1, outbox2);
+            given(messageManager.publishAllFromOutbox(outboxes))
+                    .willThrow(new RuntimeException("SQS 연결 실패"));
+
+            // When
+            SchedulerBatchProcessingResult result = processor.processOutboxes(outboxes);
+
+            // Then
+            assertThat(result.success()).isZero();
+            assertThat(result.failed()).isEqualTo(2);
+            assertThat(outbox1.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            assertThat(outbox2.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        }
+
+        @Test
+        @DisplayName("[실패] CrawlTask PUBLISHED 일괄 전환 실패 시 발행 없이 모든 아웃박스 FAILED 처리")
+        void shouldMarkAllAsFailedWhenTaskPublishUpdateFails() {
+            // Given
+            CrawlTaskOutbox outbox1 = createPendingOutbox(1L);
+            CrawlTaskOutbox outbox2 = createPendingOutbox(2L);
+            List<CrawlTaskOutbox> outboxes = List.of(outbox1, outbox2);
+            given(commandManager.markAllAsPublished(anyList(), any(Instant.class)))
+                    .willThrow(new RuntimeException("UPDATE 실패"));
+
+            // When
+            SchedulerBatchProcessingResult result = processor.processOutboxes(outboxes);
+
+            // Then
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.success()).isZero();
+            assertThat(result.failed()).isEqualTo(2);
+            assertThat(outbox1.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            assertThat(outbox2.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            then(messageManager).should(never()).publishAllFromOutbox(anyList());
+            then(outboxCommandManager).should().markAllAsFailed(eq(outboxes), any(Instant.class));
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.ryuqq.crawlinghub.application.task.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture;
@@ -9,6 +11,8 @@ import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskIdFixture;
 import com.ryuqq.crawlinghub.application.task.port.out.command.CrawlTaskPersistencePort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -70,4 +74,38 @@ class CrawlTaskCommandManagerTest {
             assertThat(result).isEqualTo(expectedId);
         }
     }
+
+    @Nested
+    @DisplayName("markAllAsPublished() 테스트")
+    class MarkAllAsPublished {
+
+        @Test
+        @DisplayName("[성공] CrawlTaskId 목록 일괄 PUBLISHED 전환 → 변경 건수 반환")
+        void shouldMarkAllAsPublished() {
+            // Given
+            List<CrawlTaskId> ids =
+                    List.of(
+                            CrawlTaskIdFixture.anAssignedId(1L),
+                            CrawlTaskIdFixture.anAssignedId(2L));
+            Instant now = Instant.now();
+            given(crawlTaskPersistencePort.markAllAsPublished(ids, now)).willReturn(2);
+
+            // When
+            int result = manager.markAllAsPublished(ids, now);
+
+            // Then
+            assertThat(result).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 Port를 호출하지 않고 0 반환")
+        void shouldReturnZeroWhenEmpty() {
+            // When
+            int result = manager.markAllAsPublished(List.of(), Instant.now());
+
+            // Then
+            assertThat(result).isZero();
+            verify(crawlTaskPersistencePort, never()).markAllAsPublished(any(), any());
+        }
+    }
 }
@@ -1,12 +1,18 @@
 package com.ryuqq.crawlinghub.application.task.manager;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture;
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskOutboxFixture;
+import com.ryuqq.crawlinghub.application.common.dto.result.BatchItemResult;
 import com.ryuqq.crawlinghub.application.task.port.out.client.CrawlTaskMessageClient;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -49,6 +55,39 @@ class CrawlTaskMessageManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("publishAllFromOutbox() 테스트")
+    class PublishAllFromOutbox {
+
+        @Test
+        @DisplayName("[성공] Outbox 목록 일괄 발행 결과 반환")
+        void shouldPublishAllFromOutbox() {
+            // Given
+            CrawlTaskOutbox outbox = CrawlTaskOutboxFixture.aPendingOutbox();
+            List<BatchItemResult<Long>> expected =
+                    List.of(BatchItemResult.success(outbox.getCrawlTaskIdValue()));
+            given(crawlTaskMessageClient.publishAllFromOutbox(List.of(outbox)))
+                    .willReturn(expected);
+
+            // When
+            List<BatchItemResult<Long>> result = manager.publishAllFromOutbox(List.of(outbox));
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 발행 호출 없이 빈 결과 반환")
+        void shouldSkipWhenEmpty() {
+            // When
+            List<BatchItemResult<Long>> result = manager.publishAllFromOutbox(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(crawlTaskMessageClient, never()).publishAllFromOutbox(anyList());
+        }
+    }
+
     @Nested
     @DisplayName("publish() 테스트")
     class Publish {
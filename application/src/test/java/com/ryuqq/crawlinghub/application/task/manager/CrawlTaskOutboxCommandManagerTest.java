@@ -1,10 +1,14 @@
 package com.ryuqq.crawlinghub.application.task.manager;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskOutboxFixture;
 import com.ryuqq.crawlinghub.application.task.port.out.command.CrawlTaskOutboxPersistencePort;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -46,4 +50,34 @@ class CrawlTaskOutboxCommandManagerTest {
             verify(crawlTaskOutboxPersistencePort).persist(outbox);
         }
     }
+
+    @Nested
+    @DisplayName("markAllAs*() 일괄 반영 테스트")
+    class MarkAll {
+
+        @Test
+        @DisplayName("[성공] Outbox 목록을 CrawlTaskId 목록으로 변환하여 일괄 SENT 반영")
+        void shouldMarkAllAsSentByIds() {
+            // Given
+            CrawlTaskOutbox outbox = CrawlTaskOutboxFixture.aSentOutbox();
+            Instant now = Instant.now();
+
+            // When
+            manager.markAllAsSent(List.of(outbox), now);
+
+            // Then
+            verify(crawlTaskOutboxPersistencePort)
+                    .markAllAsSent(List.of(outbox.getCrawlTaskId()), now);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 Port를 호출하지 않음")
+        void shouldSkipWhenEmpty() {
+            // When
+            manager.markAllAsFailed(List.of(), Instant.now());
+
+            // Then
+            verify(crawlTaskOutboxPersistencePort, never()).markAllAsFailed(any(), any());
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.ryuqq.crawlinghub.application.task.manager.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskReadManager;
 import com.ryuqq.crawlinghub.application.task.port.out.query.CrawlTaskQueryPort;
@@ -12,11 +13,13 @@ import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskCriteria;
 import com.ryuqq.crawlinghub.domain.task.query.CrawlTaskStatisticsCriteria;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -290,79 +293,74 @@ class CrawlTaskReadManagerTest {
     }
 
     @Nested
-    @DisplayName("existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn() 테스트")
-    class ExistsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn {
+    @DisplayName("existsAny() 테스트")
+    class ExistsAny {
 
         @Test
-        @DisplayName("[성공] 스케줄러 ID, 태스크 유형, 엔드포인트, 상태로 존재 확인")
+        @DisplayName("[성공] Fingerprint 목록과 상태로 존재 확인을 위임")
         void shouldDelegateToQueryPort() {
             // Given
-            CrawlSchedulerId crawlSchedulerId = CrawlSchedulerId.of(1L);
-            CrawlTaskType taskType = CrawlTaskType.SEARCH;
-            String endpointPath = "/api/search";
-            String endpointQueryParams = "{\"keyword\":\"test\"}";
-            List<CrawlTaskStatus> statuses =
-                    List.of(CrawlTaskStatus.WAITING, CrawlTaskStatus.PUBLISHED);
-
-            given(
-                            crawlTaskQueryPort.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                                    crawlSchedulerId,
-                                    taskType,
-                                    endpointPath,
-                                    endpointQueryParams,
-                                    statuses))
-                    .willReturn(true);
+            List<CrawlTaskFingerprint> fingerprints = List.of(fingerprint("a"));
+            List<CrawlTaskStatus> statuses = CrawlTaskStatus.nonTerminalStatuses();
+            given(crawlTaskQueryPort.existsAny(fingerprints, statuses)).willReturn(true);
 
             // When
-            boolean result =
-                    manager.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            crawlSchedulerId,
-                            taskType,
-                            endpointPath,
-                            endpointQueryParams,
-                            statuses);
+            boolean result = manager.existsAny(fingerprints, statuses);
 
             // Then
             assertThat(result).isTrue();
-            verify(crawlTaskQueryPort)
-                    .existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            crawlSchedulerId,
-                            taskType,
-                            endpointPath,
-                            endpointQueryParams,
-                            statuses);
+            verify(crawlTaskQueryPort).existsAny(fingerprints, statuses);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 조회 없이 false 반환")
+        void shouldReturnFalseWithoutQueryWhenEmpty() {
+            // When
+            boolean result = manager.existsAny(List.of(), CrawlTaskStatus.nonTerminalStatuses());
+
+            // Then
+            assertThat(result).isFalse();
+            verifyNoInteractions(crawlTaskQueryPort);
         }
+    }
+
+    @Nested
+    @DisplayName("findExistingFingerprints() 테스트")
+    class FindExistingFingerprints {
 
         @Test
-        @DisplayName("[성공] 존재하지 않는 경우 false 반환")
-        void shouldReturnFalseWhenNotExists() {
+        @DisplayName("[성공] 이미 존재하는 Fingerprint 집합 반환")
+        void shouldDelegateToQueryPort() {
             // Given
-            CrawlSchedulerId crawlSchedulerId = CrawlSchedulerId.of(2L);
-            CrawlTaskType taskType = CrawlTaskType.DETAIL;
-            String endpointPath = "/api/detail/12345";
-            String endpointQueryParams = "{}";
-            List<CrawlTaskStatus> statuses = List.of(CrawlTaskStatus.RUNNING);
-
-            given(
-                            crawlTaskQueryPort.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                                    crawlSchedulerId,
-                                    taskType,
-                                    endpointPath,
-                                    endpointQueryParams,
-                                    statuses))
-                    .willReturn(false);
+            CrawlTaskFingerprint occupied = fingerprint("a");
+            List<CrawlTaskFingerprint> fingerprints = List.of(occupied, fingerprint("b"));
+            List<CrawlTaskStatus> statuses = CrawlTaskStatus.nonTerminalStatuses();
+            given(crawlTaskQueryPort.findExistingFingerprints(fingerprints, statuses))
+                    .willReturn(Set.of(occupied));
 
             // When
-            boolean result =
-                    manager.existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            crawlSchedulerId,
-                            taskType,
-                            endpointPath,
-                            endpointQueryParams,
-                            statuses);
+            Set<CrawlTaskFingerprint> result =
+                    manager.findExistingFingerprints(fingerprints, statuses);
 
             // Then
-            assertThat(result).isFalse();
+            assertThat(result).containsExactly(occupied);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 조회 없이 빈 집합 반환")
+        void shouldReturnEmptyWithoutQueryWhenEmpty() {
+            // When
+            Set<CrawlTaskFingerprint> result =
+                    manager.findExistingFingerprints(
+                            List.of(), CrawlTaskStatus.nonTerminalStatuses());
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(crawlTaskQueryPort);
         }
     }
+
+    private static CrawlTaskFingerprint fingerprint(String seed) {
+        return new CrawlTaskFingerprint(seed.repeat(CrawlTaskFingerprint.LENGTH));
+    }
 }
@@ -1,16 +1,15 @@
 package com.ryuqq.crawlinghub.application.task.service.command;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 
 import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
 import com.ryuqq.crawlinghub.application.task.dto.command.ProcessPendingCrawlTaskOutboxCommand;
+import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskOutboxClaimFacade;
 import com.ryuqq.crawlinghub.application.task.internal.CrawlTaskOutboxProcessor;
-import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskOutboxReadManager;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTaskOutbox;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.vo.OutboxStatus;
@@ -34,7 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("ProcessPendingCrawlTaskOutboxService 테스트")
 class ProcessPendingCrawlTaskOutboxServiceTest {
 
-    @Mock private CrawlTaskOutboxReadManager outboxReadManager;
+    @Mock private CrawlTaskOutboxClaimFacade claimFacade;
 
     @Mock private CrawlTaskOutboxProcessor processor;
 
@@ -62,7 +61,7 @@ class ProcessPendingCrawlTaskOutboxServiceTest {
             ProcessPendingCrawlTaskOutboxCommand command =
                     ProcessPendingCrawlTaskOutboxCommand.of(100, 30);
 
-            given(outboxReadManager.findPendingOlderThan(100, 30)).willReturn(List.of());
+            given(claimFacade.claimPendingOlderThan(100, 30)).willReturn(List.of());
 
             // When
             SchedulerBatchProcessingResult result = service.execute(command);
@@ -71,7 +70,7 @@ class ProcessPendingCrawlTaskOutboxServiceTest {
             assertThat(result.total()).isZero();
             assertThat(result.success()).isZero();
             assertThat(result.failed()).isZero();
-            then(processor).should(never()).processOutbox(any(CrawlTaskOutbox.class));
+            then(processor).should(never()).processOutboxes(anyList());
         }
 
         @Test
@@ -86,8 +85,9 @@ class ProcessPendingCrawlTaskOutboxServiceTest {
             CrawlTaskOutbox outbox3 = createPendingOutbox(3L);
             List<CrawlTaskOutbox> outboxes = List.of(outbox1, outbox2, outbox3);
 
-            given(outboxReadManager.findPendingOlderThan(100, 30)).willReturn(outboxes);
-            given(processor.processOutbox(any(CrawlTaskOutbox.class))).willReturn(true);
+            given(claimFacade.claimPendingOlderThan(100, 30)).willReturn(outboxes);
+            given(processor.processOutboxes(outboxes))
+                    .willReturn(SchedulerBatchProcessingResult.of(3, 3, 0));
 
             // When
             SchedulerBatchProcessingResult result = service.execute(command);
@@ -96,7 +96,7 @@ class ProcessPendingCrawlTaskOutboxServiceTest {
             assertThat(result.total()).isEqualTo(3);
             assertThat(result.success()).isEqualTo(3);
             assertThat(result.failed()).isZero();
-            then(processor).should(times(3)).processOutbox(any(CrawlTaskOutbox.class));
+            then(processor).should().processOutboxes(outboxes);
         }
 
         @Test
@@ -110,9 +110,9 @@ class ProcessPendingCrawlTaskOutboxServiceTest {
             CrawlTaskOutbox outbox2 = createPendingOutbox(2L);
             List<CrawlTaskOutbox> outboxes = List.of(outbox1, outbox2);
 
-            given(outboxReadManager.findPendingOlderThan(100, 30)).willReturn(outboxes);
-            given(processor.processOutbox(outbox1)).willReturn(true);
-            given(processor.processOutbox(outbox2)).willReturn(false);
+            given(claimFacade.claimPendingOlderThan(100, 30)).willReturn(outboxes);
+            given(processor.processOutboxes(outboxes))
+                    .willReturn(SchedulerBatchProcessingResult.of(2, 1, 1));
 
             // When
             SchedulerBatchProcessingResult result = service.execute(command);
@@ -8,7 +8,7 @@ import static org.mockito.Mockito.never;
 
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerFixture;
 import com.ryuqq.cralwinghub.domain.fixture.seller.SellerFixture;
-import com.ryuqq.crawlinghub.application.seller.manager.SellerReadManager;
+import com.ryuqq.crawlinghub.application.seller.manager.SellerCacheReadManager;
 import com.ryuqq.crawlinghub.application.task.dto.bundle.CrawlTaskBundle;
 import com.ryuqq.crawlinghub.application.task.dto.command.TriggerCrawlTaskCommand;
 import com.ryuqq.crawlinghub.application.task.factory.command.CrawlTaskCommandFactory;
@@ -49,7 +49,7 @@ class TriggerCrawlTaskServiceTest {
 
     @Mock private CrawlTaskCommandFacade coordinator;
 
-    @Mock private SellerReadManager sellerReadManager;
+    @Mock private SellerCacheReadManager sellerCacheReadManager;
 
     @Mock private CrawlTaskBundle mockBundle;
 
@@ -72,7 +72,8 @@ class TriggerCrawlTaskServiceTest {
 
             given(validator.findAndValidateScheduler(any(CrawlSchedulerId.class)))
                     .willReturn(scheduler);
-            given(sellerReadManager.findById(any(SellerId.class))).willReturn(Optional.of(seller));
+            given(sellerCacheReadManager.findById(any(SellerId.class)))
+                    .willReturn(Optional.of(seller));
             given(commandFactory.createBundle(scheduler, seller)).willReturn(mockBundle);
             given(mockBundle.crawlTask()).willReturn(crawlTask);
 
@@ -83,7 +84,7 @@ class TriggerCrawlTaskServiceTest {
             then(validator)
                     .should()
                     .findAndValidateScheduler(CrawlSchedulerId.of(crawlSchedulerId));
-            then(sellerReadManager).should().findById(any(SellerId.class));
+            then(sellerCacheReadManager).should().findById(any(SellerId.class));
             then(commandFactory).should().createBundle(scheduler, seller);
             then(validator).should().validateNoDuplicateTask(crawlTask);
             then(coordinator).should().persist(mockBundle);
@@ -4,19 +4,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.cralwinghub.domain.fixture.crawl.task.CrawlTaskFixture;
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerFixture;
 import com.ryuqq.cralwinghub.domain.fixture.schedule.CrawlSchedulerIdFixture;
-import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerReadManager;
+import com.ryuqq.crawlinghub.application.schedule.manager.CrawlSchedulerCacheReadManager;
 import com.ryuqq.crawlinghub.application.task.manager.CrawlTaskReadManager;
 import com.ryuqq.crawlinghub.domain.schedule.aggregate.CrawlScheduler;
 import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
 import com.ryuqq.crawlinghub.domain.task.aggregate.CrawlTask;
 import com.ryuqq.crawlinghub.domain.task.exception.DuplicateCrawlTaskException;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -37,7 +40,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("CrawlTaskPersistenceValidator 테스트")
 class CrawlTaskPersistenceValidatorTest {
 
-    @Mock private CrawlSchedulerReadManager crawlSchedulerReadManager;
+    @Mock private CrawlSchedulerCacheReadManager crawlSchedulerCacheReadManager;
 
     @Mock private CrawlTaskReadManager crawlTaskReadManager;
 
@@ -53,14 +56,14 @@ class CrawlTaskPersistenceValidatorTest {
             // Given
             CrawlSchedulerId schedulerId = CrawlSchedulerIdFixture.anAssignedId();
             CrawlScheduler activeScheduler = CrawlSchedulerFixture.anActiveScheduler();
-            given(crawlSchedulerReadManager.getById(schedulerId)).willReturn(activeScheduler);
+            given(crawlSchedulerCacheReadManager.getById(schedulerId)).willReturn(activeScheduler);
 
             // When
             CrawlScheduler result = validator.findAndValidateScheduler(schedulerId);
 
             // Then
             assertThat(result).isEqualTo(activeScheduler);
-            then(crawlSchedulerReadManager).should().getById(schedulerId);
+            then(crawlSchedulerCacheReadManager).should().getById(schedulerId);
         }
 
         @Test
@@ -69,7 +72,8 @@ class CrawlTaskPersistenceValidatorTest {
             // Given
             CrawlSchedulerId schedulerId = CrawlSchedulerIdFixture.anAssignedId();
             CrawlScheduler inactiveScheduler = CrawlSchedulerFixture.anInactiveScheduler();
-            given(crawlSchedulerReadManager.getById(schedulerId)).willReturn(inactiveScheduler);
+            given(crawlSchedulerCacheReadManager.getById(schedulerId))
+                    .willReturn(inactiveScheduler);
 
             // When / Then
             assertThatThrownBy(() -> validator.findAndValidateScheduler(schedulerId))
@@ -86,18 +90,14 @@ class CrawlTaskPersistenceValidatorTest {
         void shouldNotThrowWhenNoDuplicateTask() {
             // Given
             CrawlTask task = CrawlTaskFixture.aWaitingTask();
-            given(
-                            crawlTaskReadManager
-                                    .existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                                            any(), any(), anyString(), anyString(), anyList()))
+            given(crawlTaskReadManager.existsAny(List.of(task.getFingerprint()), nonTerminal()))
                     .willReturn(false);
 
             // When / Then - 예외 발생하지 않아야 함
             validator.validateNoDuplicateTask(task);
             then(crawlTaskReadManager)
                     .should()
-                    .existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                            any(), any(), anyString(), anyString(), anyList());
+                    .existsAny(List.of(task.getFingerprint()), nonTerminal());
         }
 
         @Test
@@ -105,10 +105,7 @@ class CrawlTaskPersistenceValidatorTest {
         void shouldThrowWhenDuplicateTaskExists() {
             // Given
             CrawlTask task = CrawlTaskFixture.aWaitingTask();
-            given(
-                            crawlTaskReadManager
-                                    .existsBySchedulerIdAndTaskTypeAndEndpointAndStatusIn(
-                                            any(), any(), anyString(), anyString(), anyList()))
+            given(crawlTaskReadManager.existsAny(List.of(task.getFingerprint()), nonTerminal()))
                     .willReturn(true);
 
             // When / Then
@@ -116,4 +113,44 @@ class CrawlTaskPersistenceValidatorTest {
                     .isInstanceOf(DuplicateCrawlTaskException.class);
         }
     }
+
+    @Nested
+    @DisplayName("findOccupiedFingerprints() 테스트")
+    class FindOccupiedFingerprints {
+
+        @Test
+        @DisplayName("[성공] 단일 조회로 진행 중인 Fingerprint 반환")
+        void shouldReturnOccupiedFingerprintsWithSingleLookup() {
+            // Given
+            CrawlTask task = CrawlTaskFixture.aWaitingTask();
+            CrawlTaskFingerprint fingerprint = task.getFingerprint();
+            given(crawlTaskReadManager.findExistingFingerprints(any(), anyList()))
+                    .willReturn(Set.of(fingerprint));
+
+            // When
+            Set<CrawlTaskFingerprint> result =
+                    validator.findOccupiedFingerprints(List.of(task, task));
+
+            // Then
+            assertThat(result).containsExactly(fingerprint);
+            then(crawlTaskReadManager)
+                    .should()
+                    .findExistingFingerprints(Set.of(fingerprint), nonTerminal());
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록이면 조회하지 않음")
+        void shouldSkipLookupWhenEmpty() {
+            // When
+            Set<CrawlTaskFingerprint> result = validator.findOccupiedFingerprints(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+            then(crawlTaskReadManager).shouldHaveNoInteractions();
+        }
+    }
+
+    private static List<CrawlTaskStatus> nonTerminal() {
+        return CrawlTaskStatus.nonTerminalStatuses();
+    }
 }
@@ -0,0 +1,326 @@
+package com.ryuqq.crawlinghub.application.useragent.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
+import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * UserAgentLeaseManager 단위 테스트
+ *
+ * <p>로컬 borrow-ahead 버퍼, 미사용 lease 반납, 일괄 반납(group commit) 검증
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("application")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserAgentLeaseManager 테스트")
+class UserAgentLeaseManagerTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+
+    @Mock private UserAgentPoolCacheCommandManager cacheCommandManager;
+
+    @Mock private TimeProvider timeProvider;
+
+    private UserAgentLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new UserAgentLeaseManager(cacheCommandManager, timeProvider);
+        lenient().when(timeProvider.now()).thenReturn(NOW);
+    }
+
+    @Nested
+    @DisplayName("borrow-ahead 테스트")
+    class BorrowAhead {
+
+        @Test
+        @DisplayName("[성공] refill 시 여러 개를 빌려 하나는 반환하고 나머지는 Redis 호출 없이 hand-out")
+        void shouldHandOutBufferedLeaseWithoutRedis() {
+            // Given
+            given(cacheCommandManager.borrowBatch(UserAgentLeaseManager.MIN_LEASE_BATCH_SIZE))
+                    .willReturn(List.of(createCachedUserAgent(1L), createCachedUserAgent(2L)));
+
+            // When
+            Optional<CachedUserAgent> first = leaseManager.refillAndTake();
+            Optional<CachedUserAgent> second = leaseManager.pollLease();
+            Optional<CachedUserAgent> third = leaseManager.pollLease();
+
+            // Then
+            assertThat(first).map(CachedUserAgent::userAgentId).contains(1L);
+            assertThat(second).map(CachedUserAgent::userAgentId).contains(2L);
+            assertThat(third).isEmpty();
+            verify(cacheCommandManager, times(1)).borrowBatch(anyInt());
+            verify(cacheCommandManager, never()).returnAgents(anyList());
+        }
+
+        @Test
+        @DisplayName("[실패] Pool에 빌릴 UserAgent가 없으면 empty")
+        void shouldReturnEmptyWhenPoolExhausted() {
+            // Given
+            given(cacheCommandManager.borrowBatch(anyInt())).willReturn(List.of());
+
+            // When
+            Optional<CachedUserAgent> result = leaseManager.refillAndTake();
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("[반납] 최대 보관 시간이 지난 lease는 사용하지 않고 미사용 반납")
+        void shouldReleaseStaleLease() {
+            // Given
+            given(cacheCommandManager.borrowBatch(anyInt()))
+                    .willReturn(List.of(createCachedUserAgent(1L), createCachedUserAgent(2L)));
+            given(cacheCommandManager.returnAgents(anyList())).willReturn(List.of(0));
+            leaseManager.refillAndTake();
+            given(timeProvider.now())
+                    .willReturn(NOW.plus(UserAgentLeaseManager.MAX_LEASE_AGE).plusMillis(1));
+
+            // When
+            Optional<CachedUserAgent> result = leaseManager.pollLease();
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(cacheCommandManager).returnAgents(List.of(ReturnedUserAgent.unused(2L)));
+        }
+
+        @Test
+        @DisplayName("[반납] 세션이 만료된 lease는 사용하지 않고 미사용 반납")
+        void shouldReleaseLeaseWithExpiredSession() {
+            // Given
+            CachedUserAgent expiring = createCachedUserAgent(2L, NOW.plusSeconds(1));
+            given(cacheCommandManager.borrowBatch(anyInt()))
+                    .willReturn(List.of(createCachedUserAgent(1L), expiring));
+            given(cacheCommandManager.returnAgents(anyList())).willReturn(List.of(0));
+            leaseManager.refillAndTake();
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(2));
+
+            // When
+            Optional<CachedUserAgent> result = leaseManager.pollLease();
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(cacheCommandManager).returnAgents(List.of(ReturnedUserAgent.unused(2L)));
+        }
+
+        @Test
+        @DisplayName("[반납] releaseExpiredLeases는 pollLease 호출 없이 만료된 lease만 미사용 반납")
+        void shouldReleaseExpiredLeasesWithoutPoll() {
+            // Given
+            CachedUserAgent expiring = createCachedUserAgent(2L, NOW.plusSeconds(1));
+            given(cacheCommandManager.borrowBatch(anyInt()))
+                    .willReturn(
+                            List.of(
+                                    createCachedUserAgent(1L),
+                                    expiring,
+                                    createCachedUserAgent(3L)));
+            given(cacheCommandManager.returnAgents(anyList())).willReturn(List.of(0));
+            leaseManager.refillAndTake();
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(2));
+
+            // When
+            int released = leaseManager.releaseExpiredLeases();
+
+            // Then
+            assertThat(released).isEqualTo(1);
+            verify(cacheCommandManager).returnAgents(List.of(ReturnedUserAgent.unused(2L)));
+            assertThat(leaseManager.pollLease()).map(CachedUserAgent::userAgentId).contains(3L);
+        }
+
+        @Test
+        @DisplayName("[반납] 최대 보관 시간이 지나면 버퍼의 모든 lease를 타이머 정리로 반납")
+        void shouldReleaseAllLeasesOlderThanMaxAge() {
+            // Given
+            given(cacheCommandManager.borrowBatch(anyInt()))
+                    .willReturn(
+                            List.of(
+                                    createCachedUserAgent(1L),
+                                    createCachedUserAgent(2L),
+                                    createCachedUserAgent(3L)));
+            given(cacheCommandManager.returnAgents(anyList())).willReturn(List.of(0, 0));
+            leaseManager.refillAndTake();
+            given(timeProvider.now())
+                    .willReturn(NOW.plus(UserAgentLeaseManager.MAX_LEASE_AGE).plusMillis(1));
+
+            // When
+            int released = leaseManager.releaseExpiredLeases();
+
+            // Then
+            assertThat(released).isEqualTo(2);
+            verify(cacheCommandManager)
+                    .returnAgents(
+                            List.of(ReturnedUserAgent.unused(2L), ReturnedUserAgent.unused(3L)));
+        }
+
+        @Test
+        @DisplayName("[종료] releaseAll은 버퍼의 모든 lease를 한 번에 미사용 반납")
+        void shouldReleaseAllBufferedLeases() {
+            // Given
+            given(cacheCommandManager.borrowBatch(anyInt()))
+                    .willReturn(
+                            List.of(
+                                    createCachedUserAgent(1L),
+                                    createCachedUserAgent(2L),
+                                    createCachedUserAgent(3L)));
+            given(cacheCommandManager.returnAgents(anyList())).willReturn(List.of(0, -1));
+            leaseManager.refillAndTake();
+
+            // When
+            int released = leaseManager.releaseAll();
+
+            // Then
+            assertThat(released).isEqualTo(2);
+            verify(cacheCommandManager)
+                    .returnAgents(
+                            List.of(ReturnedUserAgent.unused(2L), ReturnedUserAgent.unused(3L)));
+        }
+    }
+
+    @Nested
+    @DisplayName("returnAgent() 테스트")
+    class ReturnAgent {
+
+        @Test
+        @DisplayName("[성공] 단독 반납은 한 항목짜리 일괄 반납으로 처리하고 상태 코드 반환")
+        void shouldReturnStatusCode() {
+            // Given
+            ReturnedUserAgent returned = ReturnedUserAgent.of(1L, false, 500, -10, null, 0);
+            given(cacheCommandManager.returnAgents(List.of(returned))).willReturn(List.of(2));
+
+            // When
+            int result = leaseManager.returnAgent(returned);
+
+            // Then
+            assertThat(result).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("[실패] 일괄 반납 실패 시 원인 예외를 호출자에게 전파")
+        void shouldPropagateFailure() {
+            // Given
+            ReturnedUserAgent returned = ReturnedUserAgent.of(1L, true, 200, 5, null, 0);
+            willThrow(new IllegalStateException("Redis down"))
+                    .given(cacheCommandManager)
+                    .returnAgents(anyList());
+
+            // When & Then
+            assertThatThrownBy(() -> leaseManager.returnAgent(returned))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Redis down");
+        }
+
+        @Test
+        @DisplayName("[group commit] 반납 처리 중 들어온 반납은 다음 한 번의 호출로 묶어서 처리")
+        @SuppressWarnings("unchecked")
+        void shouldCoalesceConcurrentReturns() throws Exception {
+            // Given
+            CountDownLatch firstFlushStarted = new CountDownLatch(1);
+            CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+            given(cacheCommandManager.returnAgents(anyList()))
+                    .willAnswer(
+                            invocation -> {
+                                List<ReturnedUserAgent> batch = invocation.getArgument(0);
+                                if (batch.get(0).userAgentId() == 1L) {
+                                    firstFlushStarted.countDown();
+                                    releaseFirstFlush.await(5, TimeUnit.SECONDS);
+                                }
+                                return batch.stream().map(entry -> 0).toList();
+                            });
+
+            Thread first = startReturn(1L);
+            assertThat(firstFlushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Thread> waiting = List.of(startReturn(2L), startReturn(3L));
+            for (Thread thread : waiting) {
+                awaitWaiting(thread);
+            }
+
+            // When
+            releaseFirstFlush.countDown();
+            first.join(5_000);
+            for (Thread thread : waiting) {
+                thread.join(5_000);
+            }
+
+            // Then
+            ArgumentCaptor<List<ReturnedUserAgent>> captor = ArgumentCaptor.forClass(List.class);
+            verify(cacheCommandManager, times(2)).returnAgents(captor.capture());
+            List<Long> secondBatchIds = new ArrayList<>();
+            captor.getAllValues().get(1).forEach(entry -> secondBatchIds.add(entry.userAgentId()));
+            assertThat(secondBatchIds).containsExactlyInAnyOrder(2L, 3L);
+        }
+
+        private Thread startReturn(long userAgentId) {
+            Thread thread =
+                    new Thread(
+                            () ->
+                                    leaseManager.returnAgent(
+                                            ReturnedUserAgent.of(
+                                                    userAgentId, true, 200, 5, null, 0)));
+            thread.start();
+            return thread;
+        }
+
+        private void awaitWaiting(Thread thread) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+        }
+    }
+
+    private static CachedUserAgent createCachedUserAgent(long id) {
+        return createCachedUserAgent(id, NOW.plusSeconds(3600));
+    }
+
+    private static CachedUserAgent createCachedUserAgent(long id, Instant sessionExpiresAt) {
+        return new CachedUserAgent(
+                id,
+                "Mozilla/5.0",
+                "session-token",
+                null,
+                null,
+                sessionExpiresAt,
+                79,
+                80,
+                NOW,
+                NOW.plusSeconds(3600),
+                100,
+                UserAgentStatus.BORROWED,
+                null,
+                NOW,
+                null,
+                0);
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.port.out.command.UserAgentPoolCacheCommandPort;
 import com.ryuqq.crawlinghub.domain.useragent.id.UserAgentId;
 import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
@@ -109,6 +110,25 @@ class UserAgentPoolCacheCommandManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("migrateLegacyIdleSet() 테스트")
+    class MigrateLegacyIdleSet {
+
+        @Test
+        @DisplayName("[성공] 레거시 IDLE Set 이관 위임 및 이관 건수 반환")
+        void shouldDelegateMigration() {
+            // Given
+            given(commandPort.migrateLegacyIdleSet()).willReturn(3);
+
+            // When
+            int result = manager.migrateLegacyIdleSet();
+
+            // Then
+            assertThat(result).isEqualTo(3);
+            then(commandPort).should().migrateLegacyIdleSet();
+        }
+    }
+
     @Nested
     @DisplayName("warmUp() 테스트")
     class WarmUp {
@@ -223,35 +243,46 @@ class UserAgentPoolCacheCommandManagerTest {
     }
 
     @Nested
-    @DisplayName("borrow() 테스트")
-    class Borrow {
+    @DisplayName("borrowBatch() 테스트")
+    class BorrowBatch {
 
         @Test
-        @DisplayName("[성공] IDLE -> BORROWED 전환 및 CachedUserAgent 반환")
-        void shouldReturnCachedUserAgentOnBorrow() {
+        @DisplayName("[성공] borrowBatch 위임 및 결과 반환")
+        void shouldDelegateBorrowBatch() {
             // Given
-            CachedUserAgent cached = createCachedUserAgent(5L);
-            given(commandPort.borrow()).willReturn(Optional.of(cached));
+            List<CachedUserAgent> borrowed =
+                    List.of(createCachedUserAgent(1L), createCachedUserAgent(2L));
+            given(commandPort.borrowBatch(2)).willReturn(borrowed);
 
             // When
-            Optional<CachedUserAgent> result = manager.borrow();
+            List<CachedUserAgent> result = manager.borrowBatch(2);
 
             // Then
-            assertThat(result).isPresent().contains(cached);
-            then(commandPort).should().borrow();
+            assertThat(result).isEqualTo(borrowed);
+            then(commandPort).should().borrowBatch(2);
         }
+    }
+
+    @Nested
+    @DisplayName("returnAgents() 테스트")
+    class ReturnAgents {
 
         @Test
-        @DisplayName("[성공] IDLE UserAgent 없으면 empty 반환")
-        void shouldReturnEmptyWhenNoIdleAgent() {
+        @DisplayName("[성공] returnAgents 위임 및 결과 반환")
+        void shouldDelegateReturnAgents() {
             // Given
-            given(commandPort.borrow()).willReturn(Optional.empty());
+            List<ReturnedUserAgent> returns =
+                    List.of(
+                            ReturnedUserAgent.of(1L, true, 200, 5, null, 0),
+                            ReturnedUserAgent.unused(2L));
+            given(commandPort.returnAgents(returns)).willReturn(List.of(0, -1));
 
             // When
-            Optional<CachedUserAgent> result = manager.borrow();
+            List<Integer> result = manager.returnAgents(returns);
 
             // Then
-            assertThat(result).isEmpty();
+            assertThat(result).containsExactly(0, -1);
+            then(commandPort).should().returnAgents(returns);
         }
     }
 
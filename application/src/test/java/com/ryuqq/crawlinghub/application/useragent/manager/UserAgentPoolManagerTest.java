@@ -3,11 +3,7 @@ package com.ryuqq.crawlinghub.application.useragent.manager;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
@@ -18,6 +14,7 @@ import com.ryuqq.cralwinghub.domain.fixture.useragent.UserAgentIdFixture;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.BorrowedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
 import com.ryuqq.crawlinghub.application.useragent.validator.UserAgentPoolValidator;
 import com.ryuqq.crawlinghub.domain.useragent.aggregate.UserAgent;
 import com.ryuqq.crawlinghub.domain.useragent.exception.CircuitBreakerOpenException;
@@ -30,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,7 +36,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * UserAgentPoolManager 단위 테스트
  *
  * <p>Mockist 스타일 테스트:
- * Validator/CacheCommandManager/CacheQueryManager/ReadManager/TransactionManager Mocking
+ * Validator/CacheCommandManager/LeaseManager/CacheQueryManager/ReadManager/TransactionManager
+ * Mocking
  *
  * @author development-team
  * @since 1.0.0
@@ -51,6 +50,8 @@ class UserAgentPoolManagerTest {
 
     @Mock private UserAgentPoolCacheCommandManager cacheCommandManager;
 
+    @Mock private UserAgentLeaseManager leaseManager;
+
     @Mock private UserAgentPoolCacheStateManager cacheStateManager;
 
     @Mock private UserAgentPoolCacheQueryManager cacheQueryManager;
@@ -268,12 +269,30 @@ class UserAgentPoolManagerTest {
     class Borrow {
 
         @Test
-        @DisplayName("[성공] borrow -> BorrowedUserAgent 반환")
+        @DisplayName("[성공] 로컬 lease 버퍼 hit -> Validator 체크 후 refill 없이 BorrowedUserAgent 반환")
+        void shouldBorrowFromLeaseBuffer() {
+            // Given
+            UserAgent userAgent = UserAgentFixture.anAvailableUserAgent();
+            CachedUserAgent cached = CachedUserAgent.forNew(userAgent);
+            given(leaseManager.pollLease()).willReturn(Optional.of(cached));
+
+            // When
+            BorrowedUserAgent result = manager.borrow();
+
+            // Then
+            assertThat(result.userAgentId()).isEqualTo(cached.userAgentId());
+            verify(poolValidator).validateAvailability();
+            verify(leaseManager, never()).refillAndTake();
+        }
+
+        @Test
+        @DisplayName("[성공] 버퍼 비어있음 -> Validator 체크 후 refill하여 BorrowedUserAgent 반환")
         void shouldBorrowSuccessfully() {
             // Given
             UserAgent userAgent = UserAgentFixture.anAvailableUserAgent();
             CachedUserAgent cached = CachedUserAgent.forNew(userAgent);
-            given(cacheCommandManager.borrow()).willReturn(Optional.of(cached));
+            given(leaseManager.pollLease()).willReturn(Optional.empty());
+            given(leaseManager.refillAndTake()).willReturn(Optional.of(cached));
 
             // When
             BorrowedUserAgent result = manager.borrow();
@@ -282,14 +301,15 @@ class UserAgentPoolManagerTest {
             assertThat(result).isNotNull();
             assertThat(result.userAgentId()).isEqualTo(cached.userAgentId());
             verify(poolValidator).validateAvailability();
-            verify(cacheCommandManager).borrow();
+            verify(leaseManager).refillAndTake();
         }
 
         @Test
         @DisplayName("[실패] Pool에 IDLE UserAgent 없음 -> NoAvailableUserAgentException")
         void shouldThrowWhenNoIdleAgent() {
             // Given
-            given(cacheCommandManager.borrow()).willReturn(Optional.empty());
+            given(leaseManager.pollLease()).willReturn(Optional.empty());
+            given(leaseManager.refillAndTake()).willReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> manager.borrow())
@@ -297,7 +317,7 @@ class UserAgentPoolManagerTest {
         }
 
         @Test
-        @DisplayName("[실패] CircuitBreaker Open -> CircuitBreakerOpenException 전파")
+        @DisplayName("[실패] CircuitBreaker Open -> 버퍼를 사용하지 않고 CircuitBreakerOpenException 전파")
         void shouldThrowCircuitBreakerOpenException() {
             // Given
             willThrow(new CircuitBreakerOpenException(10.0))
@@ -307,6 +327,8 @@ class UserAgentPoolManagerTest {
             // When & Then
             assertThatThrownBy(() -> manager.borrow())
                     .isInstanceOf(CircuitBreakerOpenException.class);
+            verify(leaseManager, never()).pollLease();
+            verify(leaseManager, never()).refillAndTake();
         }
     }
 
@@ -318,22 +340,22 @@ class UserAgentPoolManagerTest {
         @DisplayName("[성공] 성공 케이스 -> IDLE 전환, result=0 (SUSPENDED 아님)")
         void shouldReturnAgentSuccessfully() {
             // Given
-            given(
-                            cacheCommandManager.returnAgent(
-                                    anyLong(),
-                                    anyBoolean(),
-                                    anyInt(),
-                                    anyInt(),
-                                    isNull(),
-                                    anyInt()))
-                    .willReturn(0);
+            given(leaseManager.returnAgent(any(ReturnedUserAgent.class))).willReturn(0);
 
             // When
             manager.returnAgent(1L, true, 200, 0);
 
             // Then
-            verify(cacheCommandManager)
-                    .returnAgent(eq(1L), eq(true), eq(200), anyInt(), isNull(), eq(0));
+            ArgumentCaptor<ReturnedUserAgent> captor =
+                    ArgumentCaptor.forClass(ReturnedUserAgent.class);
+            verify(leaseManager).returnAgent(captor.capture());
+            ReturnedUserAgent returned = captor.getValue();
+            assertThat(returned.userAgentId()).isEqualTo(1L);
+            assertThat(returned.used()).isTrue();
+            assertThat(returned.success()).isTrue();
+            assertThat(returned.httpStatusCode()).isEqualTo(200);
+            assertThat(returned.cooldownUntil()).isNull();
+            assertThat(returned.consecutiveRateLimits()).isZero();
             // result=0이므로 syncSuspendedToDb 호출 없음
             verify(readManager, never()).findById(any(UserAgentId.class));
         }
@@ -343,15 +365,7 @@ class UserAgentPoolManagerTest {
         void shouldSyncToDbWhenSuspended() {
             // Given
             UserAgent userAgent = UserAgentFixture.anAvailableUserAgent();
-            given(
-                            cacheCommandManager.returnAgent(
-                                    anyLong(),
-                                    anyBoolean(),
-                                    anyInt(),
-                                    anyInt(),
-                                    isNull(),
-                                    anyInt()))
-                    .willReturn(2);
+            given(leaseManager.returnAgent(any(ReturnedUserAgent.class))).willReturn(2);
             given(readManager.findById(any(UserAgentId.class))).willReturn(Optional.of(userAgent));
 
             // When
@@ -366,24 +380,20 @@ class UserAgentPoolManagerTest {
         @DisplayName("[성공] Rate Limit (429) -> cooldownUntil 설정하여 returnAgent 호출")
         void shouldSetCooldownWhenRateLimited() {
             // Given
-            given(
-                            cacheCommandManager.returnAgent(
-                                    anyLong(), anyBoolean(), anyInt(), anyInt(), any(), anyInt()))
-                    .willReturn(0);
+            given(leaseManager.returnAgent(any(ReturnedUserAgent.class))).willReturn(1);
 
             // When
             manager.returnAgent(1L, false, HealthScore.RATE_LIMIT_STATUS_CODE, 0);
 
             // Then
             // cooldownUntil이 non-null로 전달되어야 함
-            verify(cacheCommandManager)
-                    .returnAgent(
-                            eq(1L),
-                            eq(false),
-                            eq(HealthScore.RATE_LIMIT_STATUS_CODE),
-                            anyInt(),
-                            any(Long.class),
-                            anyInt());
+            ArgumentCaptor<ReturnedUserAgent> captor =
+                    ArgumentCaptor.forClass(ReturnedUserAgent.class);
+            verify(leaseManager).returnAgent(captor.capture());
+            assertThat(captor.getValue().success()).isFalse();
+            assertThat(captor.getValue().httpStatusCode())
+                    .isEqualTo(HealthScore.RATE_LIMIT_STATUS_CODE);
+            assertThat(captor.getValue().cooldownUntil()).isNotNull();
         }
 
         @Test
@@ -392,8 +402,8 @@ class UserAgentPoolManagerTest {
             // Given
             UserAgent userAgent = UserAgentFixture.anAvailableUserAgent();
             willThrow(new RuntimeException("Redis down"))
-                    .given(cacheCommandManager)
-                    .returnAgent(anyLong(), anyBoolean(), anyInt(), anyInt(), any(), anyInt());
+                    .given(leaseManager)
+                    .returnAgent(any(ReturnedUserAgent.class));
             given(readManager.findById(any(UserAgentId.class))).willReturn(Optional.of(userAgent));
 
             // When
@@ -410,8 +420,8 @@ class UserAgentPoolManagerTest {
             // Given
             UserAgent userAgent = UserAgentFixture.anAvailableUserAgent();
             willThrow(new RuntimeException("Redis down"))
-                    .given(cacheCommandManager)
-                    .returnAgent(anyLong(), anyBoolean(), anyInt(), anyInt(), any(), anyInt());
+                    .given(leaseManager)
+                    .returnAgent(any(ReturnedUserAgent.class));
             given(readManager.findById(any(UserAgentId.class))).willReturn(Optional.of(userAgent));
 
             // When
@@ -427,8 +437,8 @@ class UserAgentPoolManagerTest {
         void shouldHandleMissingAgentWhenRedisFails() {
             // Given
             willThrow(new RuntimeException("Redis down"))
-                    .given(cacheCommandManager)
-                    .returnAgent(anyLong(), anyBoolean(), anyInt(), anyInt(), any(), anyInt());
+                    .given(leaseManager)
+                    .returnAgent(any(ReturnedUserAgent.class));
             given(readManager.findById(any(UserAgentId.class))).willReturn(Optional.empty());
 
             // When
@@ -443,15 +453,7 @@ class UserAgentPoolManagerTest {
         @DisplayName("[성공] result=2 + DB에 없음 -> syncSuspendedToDb 처리하지만 persist 안함")
         void shouldHandleMissingAgentWhenSuspended() {
             // Given
-            given(
-                            cacheCommandManager.returnAgent(
-                                    anyLong(),
-                                    anyBoolean(),
-                                    anyInt(),
-                                    anyInt(),
-                                    isNull(),
-                                    anyInt()))
-                    .willReturn(2);
+            given(leaseManager.returnAgent(any(ReturnedUserAgent.class))).willReturn(2);
             given(readManager.findById(any(UserAgentId.class))).willReturn(Optional.empty());
 
             // When
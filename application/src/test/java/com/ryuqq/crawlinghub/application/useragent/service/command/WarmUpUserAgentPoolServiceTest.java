@@ -57,6 +57,39 @@ class WarmUpUserAgentPoolServiceTest {
             then(readManager).should(never()).findAllAvailable();
         }
 
+        @Test
+        @DisplayName("[이관] 이미 초기화된 경우에도 레거시 IDLE Set 이관을 먼저 시도")
+        void shouldMigrateLegacyIdleSetEvenWhenInitialized() {
+            // Given
+            given(cacheCommandManager.migrateLegacyIdleSet()).willReturn(3);
+            given(cacheCommandManager.isPoolInitialized()).willReturn(true);
+
+            // When
+            int result = sut.execute();
+
+            // Then
+            assertThat(result).isZero();
+            then(cacheCommandManager).should().migrateLegacyIdleSet();
+            then(cacheCommandManager).should(never()).warmUp(anyList());
+        }
+
+        @Test
+        @DisplayName("[이관] 레거시 IDLE Set 이관 실패는 WarmUp을 막지 않음")
+        void shouldContinueWhenMigrationFails() {
+            // Given
+            given(cacheCommandManager.migrateLegacyIdleSet())
+                    .willThrow(new RuntimeException("Redis 오류"));
+            given(cacheCommandManager.isPoolInitialized()).willReturn(false);
+            given(cacheCommandManager.tryAcquireWarmUpLock()).willReturn(false);
+
+            // When
+            int result = sut.execute();
+
+            // Then
+            assertThat(result).isZero();
+            then(cacheCommandManager).should().tryAcquireWarmUpLock();
+        }
+
         @Test
         @DisplayName("[스킵] 분산 락 획득 실패 시 0 반환")
         void shouldSkipWhenLockNotAcquired() {
@@ -0,0 +1,52 @@
+package com.ryuqq.crawlinghub.application.useragent.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.PoolStats;
+import com.ryuqq.crawlinghub.application.useragent.manager.UserAgentPoolCacheQueryManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetUserAgentPoolStatsService 단위 테스트
+ *
+ * <p>Mockist 스타일 테스트: CacheQueryManager 의존성 Mocking
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetUserAgentPoolStatsService 테스트")
+class GetUserAgentPoolStatsServiceTest {
+
+    @Mock private UserAgentPoolCacheQueryManager cacheQueryManager;
+
+    @InjectMocks private GetUserAgentPoolStatsService service;
+
+    @Nested
+    @DisplayName("execute() Pool 통계 조회 테스트")
+    class Execute {
+
+        @Test
+        @DisplayName("[성공] CacheQueryManager의 Pool 통계를 그대로 반환한다")
+        void shouldReturnPoolStatsFromCacheQueryManager() {
+            // Given
+            PoolStats stats = new PoolStats(10, 6, 3, 1, 0, 87.5, 60, 100);
+            given(cacheQueryManager.getPoolStats()).willReturn(stats);
+
+            // When
+            PoolStats result = service.execute();
+
+            // Then
+            assertThat(result).isEqualTo(stats);
+        }
+    }
+}
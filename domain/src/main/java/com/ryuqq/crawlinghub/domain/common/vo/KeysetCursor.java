@@ -0,0 +1,120 @@
+package com.ryuqq.crawlinghub.domain.common.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * KeysetCursor - (정렬 키 값, ID) 복합 커서
+ *
+ * <p>정렬 키만으로는 순서가 유일하지 않으므로 마지막 항목의 ID를 함께 보관해 {@code (sort_key, id)} 튜플 기준으로 다음 슬라이스를
+ * 조회합니다. API 경계에서는 {@link #encode()}로 만든 불투명 문자열로 주고받습니다.
+ *
+ * <p>커서를 발급한 정렬 키와 방향도 함께 인코딩합니다. 다른 정렬 키나 방향의 요청에 커서를 재사용하면 정렬 키 값의 의미나 부등호
+ * 방향이 달라져 항목이 누락·중복되므로, 조회 측은 {@link #matches(String, SortDirection)}로 확인 후 사용합니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * // 마지막 항목으로 다음 커서 생성
+ * String sortValue = last.getCreatedAt().toString();
+ * String nextCursor =
+ *         KeysetCursor.of("createdAt", SortDirection.DESC, sortValue, last.getId()).encode();
+ *
+ * // 요청 커서 복원 및 정렬 조건 확인
+ * KeysetCursor cursor = KeysetCursor.decode(nextCursor);
+ * cursor.matches("createdAt", SortDirection.DESC);
+ * }</pre>
+ *
+ * @param sortKey 커서를 발급한 정렬 키 이름
+ * @param direction 커서를 발급한 정렬 방향
+ * @param sortValue 마지막 항목의 정렬 키 값 (문자열 표현)
+ * @param id 마지막 항목의 ID
+ * @author development-team
+ * @since 1.0.0
+ */
+public record KeysetCursor(String sortKey, SortDirection direction, String sortValue, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /** Compact Constructor - 유효성 검증 */
+    public KeysetCursor {
+        if (sortKey == null || sortKey.isBlank() || sortKey.indexOf(SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("sortKey must be a non-blank name without '|'");
+        }
+        if (direction == null) {
+            throw new IllegalArgumentException("direction must not be null");
+        }
+        if (sortValue == null) {
+            throw new IllegalArgumentException("sortValue must not be null");
+        }
+    }
+
+    /**
+     * KeysetCursor 생성
+     *
+     * @param sortKey 정렬 키 이름
+     * @param direction 정렬 방향
+     * @param sortValue 정렬 키 값
+     * @param id 항목 ID
+     * @return KeysetCursor
+     */
+    public static KeysetCursor of(
+            String sortKey, SortDirection direction, String sortValue, long id) {
+        return new KeysetCursor(sortKey, direction, sortValue, id);
+    }
+
+    /**
+     * 불투명 커서 문자열 복원
+     *
+     * @param encoded {@link #encode()}로 생성한 문자열
+     * @return KeysetCursor
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String encoded) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded, e);
+        }
+        int sortKeyEnd = raw.indexOf(SEPARATOR);
+        int directionEnd = raw.indexOf(SEPARATOR, sortKeyEnd + 1);
+        int sortValueEnd = raw.lastIndexOf(SEPARATOR);
+        if (sortKeyEnd < 0 || directionEnd < 0 || sortValueEnd <= directionEnd) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded);
+        }
+        try {
+            return new KeysetCursor(
+                    raw.substring(0, sortKeyEnd),
+                    SortDirection.valueOf(raw.substring(sortKeyEnd + 1, directionEnd)),
+                    raw.substring(directionEnd + 1, sortValueEnd),
+                    Long.parseLong(raw.substring(sortValueEnd + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded, e);
+        }
+    }
+
+    /**
+     * 요청한 정렬 조건으로 발급된 커서인지 확인
+     *
+     * @param expectedSortKey 요청 정렬 키 이름
+     * @param expectedDirection 요청 정렬 방향
+     * @return 정렬 키와 방향이 모두 같으면 true
+     */
+    public boolean matches(String expectedSortKey, SortDirection expectedDirection) {
+        return sortKey.equals(expectedSortKey) && direction == expectedDirection;
+    }
+
+    /**
+     * 불투명 커서 문자열 생성 (URL-safe Base64)
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw =
+                sortKey + SEPARATOR + direction.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,25 +5,42 @@ package com.ryuqq.crawlinghub.domain.execution.vo;
  *
  * <p>크롤러 실행 결과를 담는 불변 도메인 Value Object. HTTP 응답 정보와 성공/실패 상태를 포함.
  *
+ * <p><strong>응답 바디 해제</strong>: 성공 결과의 응답 바디는 풀 버퍼일 수 있으므로, 결과 처리가 끝나면 {@link
+ * #releaseBody()}로 반환해야 합니다.
+ *
  * @param success 성공 여부
- * @param responseBody HTTP 응답 바디
+ * @param responseBody HTTP 응답 바디 (실패 시 null)
  * @param httpStatusCode HTTP 상태 코드
  * @param errorMessage 에러 메시지 (실패 시)
  * @author development-team
  * @since 1.0.0
  */
 public record CrawlResult(
-        boolean success, String responseBody, Integer httpStatusCode, String errorMessage) {
+        boolean success,
+        ResponsePayload responseBody,
+        Integer httpStatusCode,
+        String errorMessage) {
 
     /**
      * 성공 결과 생성
      *
+     * @param responseBody HTTP 응답 바디 (소유권 이전)
+     * @param httpStatusCode HTTP 상태 코드
+     * @return 성공 결과
+     */
+    public static CrawlResult success(ResponsePayload responseBody, int httpStatusCode) {
+        return new CrawlResult(true, responseBody, httpStatusCode, null);
+    }
+
+    /**
+     * 성공 결과 생성 (문자열 바디)
+     *
      * @param responseBody HTTP 응답 바디
      * @param httpStatusCode HTTP 상태 코드
      * @return 성공 결과
      */
     public static CrawlResult success(String responseBody, int httpStatusCode) {
-        return new CrawlResult(true, responseBody, httpStatusCode, null);
+        return success(ResponsePayload.of(responseBody), httpStatusCode);
     }
 
     /**
@@ -55,4 +72,11 @@ public record CrawlResult(
     public boolean isSuccess() {
         return success;
     }
+
+    /** 응답 바디 반환 (바디가 없거나 이미 반환된 경우 무시) */
+    public void releaseBody() {
+        if (responseBody != null) {
+            responseBody.close();
+        }
+    }
 }
@@ -0,0 +1,274 @@
+package com.ryuqq.crawlinghub.domain.execution.vo;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HTTP 응답 본문 Value Object
+ *
+ * <p>응답 본문을 문자열로 디코딩하지 않고 바이트 세그먼트(읽기 전용 {@link ByteBuffer} 뷰)로 보관합니다. 파서는 {@link
+ * #openStream()}으로 바이트를 직접 읽고, 로그/요약에는 {@link #preview(int)}로 앞부분만 디코딩합니다.
+ *
+ * <p><strong>해제</strong>: 풀(pool)에서 할당된 버퍼를 감싼 경우 {@link #close()}로 반드시 반환해야 합니다. 해제는 한 번만 수행되며,
+ * 해제 후에는 본문을 읽을 수 없습니다. {@link #of(byte[])}/{@link #of(String)}로 만든 힙 본문은 해제가 필요 없습니다.
+ *
+ * <p><strong>인코딩</strong>: 본문은 UTF-8로 가정합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class ResponsePayload implements AutoCloseable {
+
+    private static final Runnable NO_OP = () -> {};
+    private static final ResponsePayload EMPTY = new ResponsePayload(List.of(), NO_OP);
+
+    private final List<ByteBuffer> segments;
+    private final int length;
+    private final Runnable releaser;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private ResponsePayload(List<ByteBuffer> segments, Runnable releaser) {
+        List<ByteBuffer> views = new ArrayList<>(segments.size());
+        long total = 0;
+        for (ByteBuffer segment : segments) {
+            views.add(segment.asReadOnlyBuffer());
+            total += segment.remaining();
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("응답 본문이 너무 큽니다: " + total + " bytes");
+        }
+        this.segments = List.copyOf(views);
+        this.length = (int) total;
+        this.releaser = releaser;
+    }
+
+    /**
+     * 빈 본문
+     *
+     * @return 길이 0인 본문
+     */
+    public static ResponsePayload empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 힙 바이트 배열로 생성 (복사하지 않음, 해제 불필요)
+     *
+     * @param bytes 본문 바이트
+     * @return ResponsePayload
+     */
+    public static ResponsePayload of(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+        return new ResponsePayload(List.of(ByteBuffer.wrap(bytes)), NO_OP);
+    }
+
+    /**
+     * 문자열로 생성 (UTF-8 인코딩, 해제 불필요)
+     *
+     * <p>에러 메시지나 테스트처럼 작은 본문에만 사용합니다.
+     *
+     * @param text 본문 문자열
+     * @return ResponsePayload
+     */
+    public static ResponsePayload of(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+        return of(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 풀 버퍼 세그먼트로 생성
+     *
+     * @param segments 본문 세그먼트 (position~limit이 읽을 범위)
+     * @param releaser 버퍼 반환 함수 ({@link #close()} 시 한 번 호출)
+     * @return ResponsePayload
+     */
+    public static ResponsePayload pooled(List<ByteBuffer> segments, Runnable releaser) {
+        return new ResponsePayload(segments, releaser);
+    }
+
+    /**
+     * 본문 바이트 길이
+     *
+     * @return 바이트 수
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 본문이 비어있는지 확인
+     *
+     * @return 길이가 0이면 true
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * 본문 바이트 스트림 열기
+     *
+     * <p>호출마다 처음부터 읽는 독립 스트림을 반환하며, 바이트를 복사하지 않습니다.
+     *
+     * @return 본문 InputStream
+     * @throws IllegalStateException 이미 해제된 경우
+     */
+    public InputStream openStream() {
+        ensureNotReleased();
+        List<ByteBuffer> views = new ArrayList<>(segments.size());
+        for (ByteBuffer segment : segments) {
+            views.add(segment.duplicate());
+        }
+        return new SegmentInputStream(views);
+    }
+
+    /**
+     * 앞부분만 디코딩
+     *
+     * <p>로그/요약용입니다. 잘린 위치의 불완전한 문자는 대체 문자로 디코딩됩니다.
+     *
+     * @param maxBytes 디코딩할 최대 바이트 수
+     * @return 앞부분 문자열 (본문이 더 길면 "...(truncated)" 접미사)
+     */
+    public String preview(int maxBytes) {
+        ensureNotReleased();
+        int size = Math.min(length, Math.max(0, maxBytes));
+        String text = new String(copyPrefix(size), StandardCharsets.UTF_8);
+        return length > size ? text + "...(truncated)" : text;
+    }
+
+    /**
+     * 전체 디코딩
+     *
+     * <p>본문 전체를 문자열로 복사하므로 작은 본문(에러 응답, 테스트)에만 사용합니다.
+     *
+     * @return 본문 문자열
+     */
+    public String asText() {
+        ensureNotReleased();
+        return new String(copyPrefix(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 해제 여부 확인
+     *
+     * @return 해제되었으면 true
+     */
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    /** 버퍼 반환 (여러 번 호출해도 한 번만 반환) */
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            releaser.run();
+        }
+    }
+
+    private void ensureNotReleased() {
+        if (isUnreadable()) {
+            throw new IllegalStateException("이미 해제된 응답 본문입니다.");
+        }
+    }
+
+    /** 풀 버퍼가 반환되어 내용을 읽을 수 없는 상태 (힙 본문은 해제 후에도 읽을 수 있음) */
+    private boolean isUnreadable() {
+        return released.get() && releaser != NO_OP;
+    }
+
+    private byte[] copyPrefix(int size) {
+        byte[] bytes = new byte[size];
+        int offset = 0;
+        for (ByteBuffer segment : segments) {
+            if (offset == size) {
+                break;
+            }
+            int count = Math.min(segment.remaining(), size - offset);
+            segment.duplicate().get(bytes, offset, count);
+            offset += count;
+        }
+        return bytes;
+    }
+
+    /** 본문 내용이 같으면 동일 (반환된 풀 버퍼는 자기 자신과만 동일) */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResponsePayload other)
+                || length != other.length
+                || isUnreadable()
+                || other.isUnreadable()) {
+            return false;
+        }
+        return Arrays.equals(copyPrefix(length), other.copyPrefix(other.length));
+    }
+
+    @Override
+    public int hashCode() {
+        return isUnreadable() ? length : Arrays.hashCode(copyPrefix(length));
+    }
+
+    @Override
+    public String toString() {
+        return "ResponsePayload{length=" + length + ", released=" + released.get() + "}";
+    }
+
+    /** 세그먼트 순차 InputStream */
+    private static final class SegmentInputStream extends InputStream {
+
+        private final List<ByteBuffer> segments;
+        private int index;
+
+        private SegmentInputStream(List<ByteBuffer> segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer segment = current();
+            return segment == null ? -1 : segment.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer segment = current();
+            if (segment == null) {
+                return -1;
+            }
+            int count = Math.min(len, segment.remaining());
+            segment.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            ByteBuffer segment = current();
+            return segment == null ? 0 : segment.remaining();
+        }
+
+        private ByteBuffer current() {
+            while (index < segments.size()) {
+                ByteBuffer segment = segments.get(index);
+                if (segment.hasRemaining()) {
+                    return segment;
+                }
+                index++;
+            }
+            return null;
+        }
+    }
+}
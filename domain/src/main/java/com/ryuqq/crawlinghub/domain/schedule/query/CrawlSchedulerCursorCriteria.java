@@ -0,0 +1,86 @@
+package com.ryuqq.crawlinghub.domain.schedule.query;
+
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.schedule.vo.SchedulerStatus;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import java.util.List;
+
+/**
+ * 크롤 스케줄러 커서 검색 조건 (CursorQueryContext 기반)
+ *
+ * <p>{@code (정렬 키, id)} 튜플 기준 keyset 조회 조건입니다. 커서는 직전 슬라이스 마지막 항목의 정렬 키 값과 ID입니다.
+ *
+ * @param sellerId 셀러 ID (optional, null이면 전체 조회)
+ * @param statuses 스케줄러 상태 필터 목록 (optional)
+ * @param searchField 검색 필드 (optional)
+ * @param searchWord 검색어 (optional)
+ * @param cursorContext 정렬 + 커서 페이징 컨텍스트
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawlSchedulerCursorCriteria(
+        SellerId sellerId,
+        List<SchedulerStatus> statuses,
+        CrawlSchedulerSearchField searchField,
+        String searchWord,
+        CursorQueryContext<CrawlSchedulerSortKey, KeysetCursor> cursorContext) {
+
+    public CrawlSchedulerCursorCriteria {
+        statuses = statuses != null ? List.copyOf(statuses) : null;
+        if (cursorContext == null) {
+            throw new IllegalArgumentException("cursorContext must not be null");
+        }
+    }
+
+    public static CrawlSchedulerCursorCriteria of(
+            SellerId sellerId,
+            List<SchedulerStatus> statuses,
+            CrawlSchedulerSearchField searchField,
+            String searchWord,
+            CursorQueryContext<CrawlSchedulerSortKey, KeysetCursor> cursorContext) {
+        return new CrawlSchedulerCursorCriteria(
+                sellerId, statuses, searchField, searchWord, cursorContext);
+    }
+
+    public boolean hasSellerFilter() {
+        return sellerId != null;
+    }
+
+    public boolean hasStatusFilter() {
+        return statuses != null && !statuses.isEmpty();
+    }
+
+    public boolean hasSearchCondition() {
+        return searchField != null && searchWord != null && !searchWord.isBlank();
+    }
+
+    public boolean hasCursor() {
+        return cursorContext.hasCursor();
+    }
+
+    public KeysetCursor cursor() {
+        return cursorContext.cursor();
+    }
+
+    public CrawlSchedulerSortKey sortKey() {
+        return cursorContext.sortKey();
+    }
+
+    public SortDirection sortDirection() {
+        return cursorContext.sortDirection();
+    }
+
+    public boolean isAscending() {
+        return cursorContext.isAscending();
+    }
+
+    public int size() {
+        return cursorContext.size();
+    }
+
+    public int fetchSize() {
+        return cursorContext.fetchSize();
+    }
+}
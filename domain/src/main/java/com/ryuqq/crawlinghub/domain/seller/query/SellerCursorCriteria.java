@@ -0,0 +1,87 @@
+package com.ryuqq.crawlinghub.domain.seller.query;
+
+import com.ryuqq.crawlinghub.domain.common.vo.CursorQueryContext;
+import com.ryuqq.crawlinghub.domain.common.vo.KeysetCursor;
+import com.ryuqq.crawlinghub.domain.common.vo.SortDirection;
+import com.ryuqq.crawlinghub.domain.seller.vo.MustItSellerName;
+import com.ryuqq.crawlinghub.domain.seller.vo.SellerName;
+import com.ryuqq.crawlinghub.domain.seller.vo.SellerStatus;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Seller Cursor Criteria
+ *
+ * <p>셀러 커서(keyset) 조회 조건 VO. {@code (정렬 키, id)} 튜플 기준으로 조회하며, 커서는 직전 슬라이스 마지막 셀러의 정렬 키
+ * 값과 ID입니다.
+ *
+ * @param mustItSellerName 머스트잇 셀러명 (부분 일치 검색)
+ * @param sellerName 셀러명 (부분 일치 검색)
+ * @param statuses 셀러 상태 목록 (다중 선택 가능)
+ * @param createdFrom 생성일 시작
+ * @param createdTo 생성일 종료
+ * @param cursorContext 정렬 + 커서 페이징 컨텍스트
+ * @author development-team
+ * @since 1.0.0
+ */
+public record SellerCursorCriteria(
+        MustItSellerName mustItSellerName,
+        SellerName sellerName,
+        List<SellerStatus> statuses,
+        Instant createdFrom,
+        Instant createdTo,
+        CursorQueryContext<SellerSortKey, KeysetCursor> cursorContext) {
+
+    public SellerCursorCriteria {
+        statuses = statuses != null ? List.copyOf(statuses) : null;
+        if (cursorContext == null) {
+            throw new IllegalArgumentException("cursorContext must not be null");
+        }
+    }
+
+    public static SellerCursorCriteria of(
+            MustItSellerName mustItSellerName,
+            SellerName sellerName,
+            List<SellerStatus> statuses,
+            Instant createdFrom,
+            Instant createdTo,
+            CursorQueryContext<SellerSortKey, KeysetCursor> cursorContext) {
+        return new SellerCursorCriteria(
+                mustItSellerName, sellerName, statuses, createdFrom, createdTo, cursorContext);
+    }
+
+    /** 상태 필터 여부 (다중 상태) */
+    public boolean hasStatusFilter() {
+        return statuses != null && !statuses.isEmpty();
+    }
+
+    /** 커서 존재 여부 (false면 첫 슬라이스) */
+    public boolean hasCursor() {
+        return cursorContext.hasCursor();
+    }
+
+    public KeysetCursor cursor() {
+        return cursorContext.cursor();
+    }
+
+    public SellerSortKey sortKey() {
+        return cursorContext.sortKey();
+    }
+
+    public SortDirection sortDirection() {
+        return cursorContext.sortDirection();
+    }
+
+    public boolean isAscending() {
+        return cursorContext.isAscending();
+    }
+
+    public int size() {
+        return cursorContext.size();
+    }
+
+    /** 다음 슬라이스 존재 여부 판단용 조회 건수 (size + 1) */
+    public int fetchSize() {
+        return cursorContext.fetchSize();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ryuqq.crawlinghub.domain.seller.query;
+
+import com.ryuqq.crawlinghub.domain.common.vo.SortKey;
+
+/**
+ * Seller 정렬 키
+ *
+ * <p>셀러 커서 목록 조회 시 사용 가능한 정렬 필드를 정의합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum SellerSortKey implements SortKey {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String fieldName;
+
+    SellerSortKey(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public static SellerSortKey defaultKey() {
+        return CREATED_AT;
+    }
+}
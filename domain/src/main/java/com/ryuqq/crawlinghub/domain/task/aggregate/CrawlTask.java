@@ -5,6 +5,7 @@ import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
 import com.ryuqq.crawlinghub.domain.task.exception.InvalidCrawlTaskStateException;
 import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlEndpoint;
+import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskFingerprint;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskStatus;
 import com.ryuqq.crawlinghub.domain.task.vo.CrawlTaskType;
 import com.ryuqq.crawlinghub.domain.task.vo.RetryCount;
@@ -380,6 +381,17 @@ public class CrawlTask {
         return endpoint;
     }
 
+    /**
+     * 엔드포인트 Fingerprint 조회
+     *
+     * <p>스케줄러 ID + 태스크 유형 + 엔드포인트 조합의 해시로, 중복 Task 판정에 사용합니다.
+     *
+     * @return CrawlTaskFingerprint
+     */
+    public CrawlTaskFingerprint getFingerprint() {
+        return CrawlTaskFingerprint.of(crawlSchedulerId, taskType, endpoint);
+    }
+
     /**
      * 머스트잇 셀러명 조회
      *
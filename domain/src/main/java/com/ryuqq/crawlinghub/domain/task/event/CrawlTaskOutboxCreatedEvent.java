@@ -0,0 +1,43 @@
+package com.ryuqq.crawlinghub.domain.task.event;
+
+import com.ryuqq.crawlinghub.domain.common.event.DomainEvent;
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * CrawlTask Outbox 생성 이벤트
+ *
+ * <p><strong>용도</strong>: CrawlTask + Outbox 저장 트랜잭션이 커밋된 직후 발행하여, 폴링 지연(delay-seconds) 없이 해당
+ * Outbox를 즉시 SQS로 발행하도록 합니다.
+ *
+ * @param crawlTaskIds 새로 저장된 Outbox의 CrawlTask ID 목록
+ * @param occurredAt 이벤트 발생 시각
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawlTaskOutboxCreatedEvent(List<CrawlTaskId> crawlTaskIds, Instant occurredAt)
+        implements DomainEvent {
+
+    /** Compact Constructor (검증 로직) */
+    public CrawlTaskOutboxCreatedEvent {
+        if (crawlTaskIds == null || crawlTaskIds.isEmpty()) {
+            throw new IllegalArgumentException("crawlTaskIds는 비어 있을 수 없습니다.");
+        }
+        if (occurredAt == null) {
+            throw new IllegalArgumentException("occurredAt은 null일 수 없습니다.");
+        }
+        crawlTaskIds = List.copyOf(crawlTaskIds);
+    }
+
+    /**
+     * 팩토리 메서드
+     *
+     * @param crawlTaskIds CrawlTask ID 목록
+     * @param now 현재 시각
+     * @return CrawlTaskOutboxCreatedEvent
+     */
+    public static CrawlTaskOutboxCreatedEvent of(List<CrawlTaskId> crawlTaskIds, Instant now) {
+        return new CrawlTaskOutboxCreatedEvent(crawlTaskIds, now);
+    }
+}
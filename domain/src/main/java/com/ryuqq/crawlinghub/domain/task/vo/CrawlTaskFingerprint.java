@@ -0,0 +1,71 @@
+package com.ryuqq.crawlinghub.domain.task.vo;
+
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * CrawlTask 엔드포인트 Fingerprint Value Object
+ *
+ * <p>스케줄러 ID + 태스크 유형 + 엔드포인트(path, 정렬된 queryParams JSON) 조합의 SHA-256 해시입니다. 동일 Task 여부를 단일 고정
+ * 길이 컬럼으로 판정하기 위해 사용합니다.
+ *
+ * <p><strong>해시 입력 형식</strong>:
+ *
+ * <pre>
+ * {crawlSchedulerId}|{taskType}|{endpointPath}|{queryParamsJson 또는 빈 문자열}
+ * </pre>
+ *
+ * <p>crawl_task.endpoint_fingerprint 생성 컬럼(V26, {@code SHA2(CONCAT(...), 256)})과 동일한 형식이므로 한쪽만
+ * 변경하면 안 됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CrawlTaskFingerprint(String value) {
+
+    public static final int LENGTH = 64;
+
+    private static final String DELIMITER = "|";
+    private static final String ALGORITHM = "SHA-256";
+
+    public CrawlTaskFingerprint {
+        if (value == null || value.length() != LENGTH) {
+            throw new IllegalArgumentException(
+                    "CrawlTaskFingerprint는 " + LENGTH + "자리 hex 문자열이어야 합니다: " + value);
+        }
+    }
+
+    /**
+     * 스케줄러 ID, 태스크 유형, 엔드포인트로 Fingerprint 생성
+     *
+     * @param crawlSchedulerId 스케줄러 ID
+     * @param taskType 태스크 유형
+     * @param endpoint 크롤링 엔드포인트
+     * @return CrawlTaskFingerprint
+     */
+    public static CrawlTaskFingerprint of(
+            CrawlSchedulerId crawlSchedulerId, CrawlTaskType taskType, CrawlEndpoint endpoint) {
+        String queryParamsJson = endpoint.toQueryParamsJson();
+        String source =
+                crawlSchedulerId.value()
+                        + DELIMITER
+                        + taskType.name()
+                        + DELIMITER
+                        + endpoint.path()
+                        + DELIMITER
+                        + (queryParamsJson == null ? "" : queryParamsJson);
+        return new CrawlTaskFingerprint(sha256Hex(source));
+    }
+
+    private static String sha256Hex(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.ryuqq.crawlinghub.domain.common.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("domain")
+@Tag("vo")
+@DisplayName("KeysetCursor Value Object 단위 테스트")
+class KeysetCursorTest {
+
+    @Nested
+    @DisplayName("encode/decode 테스트")
+    class EncodeDecodeTest {
+
+        @Test
+        @DisplayName("인코딩한 커서를 그대로 복원한다")
+        void roundTrip() {
+            // given
+            KeysetCursor cursor =
+                    KeysetCursor.of("createdAt", SortDirection.DESC, "2025-01-01T00:00:00Z", 42L);
+
+            // when
+            KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("정렬 키 값에 구분자가 포함되어도 복원한다")
+        void roundTripWithSeparatorInSortValue() {
+            // given
+            KeysetCursor cursor =
+                    KeysetCursor.of("schedulerName", SortDirection.ASC, "daily|crawl", 7L);
+
+            // when
+            KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded.sortKey()).isEqualTo("schedulerName");
+            assertThat(decoded.direction()).isEqualTo(SortDirection.ASC);
+            assertThat(decoded.sortValue()).isEqualTo("daily|crawl");
+            assertThat(decoded.id()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("인코딩 결과는 URL-safe 문자만 사용한다")
+        void encodeIsUrlSafe() {
+            // when
+            String encoded =
+                    KeysetCursor.of("schedulerName", SortDirection.ASC, "스케줄러/이름?", 1L).encode();
+
+            // then
+            assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 테스트")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("Base64 형식이 아니면 예외가 발생한다")
+        void invalidBase64() {
+            assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("정렬 키와 방향이 없는 이전 형식이면 예외가 발생한다")
+        void legacyFormat() {
+            // given - "value|1"
+            String encoded = "dmFsdWV8MQ";
+
+            // when & then
+            assertThatThrownBy(() -> KeysetCursor.decode(encoded))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("정렬 방향이 ASC/DESC가 아니면 예외가 발생한다")
+        void invalidDirection() {
+            // given - "createdAt|UP|value|1"
+            String encoded = "Y3JlYXRlZEF0fFVQfHZhbHVlfDE";
+
+            // when & then
+            assertThatThrownBy(() -> KeysetCursor.decode(encoded))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("ID가 숫자가 아니면 예외가 발생한다")
+        void invalidId() {
+            // given - "createdAt|DESC|value|a"
+            String encoded = "Y3JlYXRlZEF0fERFU0N8dmFsdWV8YQ";
+
+            // when & then
+            assertThatThrownBy(() -> KeysetCursor.decode(encoded))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("정렬 키 값이 null이면 예외가 발생한다")
+        void nullSortValue() {
+            assertThatThrownBy(() -> KeysetCursor.of("createdAt", SortDirection.DESC, null, 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("정렬 키 이름에 구분자가 포함되면 예외가 발생한다")
+        void sortKeyWithSeparator() {
+            assertThatThrownBy(() -> KeysetCursor.of("created|At", SortDirection.DESC, "v", 1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("matches 테스트")
+    class MatchesTest {
+
+        @Test
+        @DisplayName("발급 시 정렬 키와 방향이 모두 같을 때만 일치한다")
+        void matchesOnlySameSortKeyAndDirection() {
+            // given
+            KeysetCursor cursor = KeysetCursor.of("createdAt", SortDirection.DESC, "v", 1L);
+
+            // when & then
+            assertThat(cursor.matches("createdAt", SortDirection.DESC)).isTrue();
+            assertThat(cursor.matches("createdAt", SortDirection.ASC)).isFalse();
+            assertThat(cursor.matches("updatedAt", SortDirection.DESC)).isFalse();
+        }
+    }
+}
@@ -26,7 +26,7 @@ class CrawlResultTest {
             // then
             assertThat(result.success()).isTrue();
             assertThat(result.isSuccess()).isTrue();
-            assertThat(result.responseBody()).isEqualTo("{\"items\":[]}");
+            assertThat(result.responseBody().asText()).isEqualTo("{\"items\":[]}");
             assertThat(result.httpStatusCode()).isEqualTo(200);
             assertThat(result.errorMessage()).isNull();
         }
@@ -65,6 +65,37 @@ class CrawlResultTest {
         }
     }
 
+    @Nested
+    @DisplayName("releaseBody() 테스트")
+    class ReleaseBodyTest {
+
+        @Test
+        @DisplayName("성공 결과의 응답 바디를 반환한다")
+        void releaseResponseBody() {
+            // given
+            CrawlResult result = CrawlResult.success("{}", 200);
+
+            // when
+            result.releaseBody();
+
+            // then
+            assertThat(result.responseBody().isReleased()).isTrue();
+        }
+
+        @Test
+        @DisplayName("바디가 없는 실패 결과는 무시한다")
+        void ignoreFailureWithoutBody() {
+            // given
+            CrawlResult result = CrawlResult.failure("error");
+
+            // when
+            result.releaseBody();
+
+            // then
+            assertThat(result.responseBody()).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("동등성 테스트")
     class EqualityTest {
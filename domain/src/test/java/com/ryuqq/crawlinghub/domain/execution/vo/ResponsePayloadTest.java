@@ -0,0 +1,176 @@
+package com.ryuqq.crawlinghub.domain.execution.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("domain")
+@Tag("vo")
+@DisplayName("ResponsePayload 단위 테스트")
+class ResponsePayloadTest {
+
+    private static ByteBuffer utf8(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("문자열로 생성하면 UTF-8 바이트 길이를 가진다")
+        void createFromText() {
+            // when
+            ResponsePayload payload = ResponsePayload.of("상품");
+
+            // then
+            assertThat(payload.length()).isEqualTo(6);
+            assertThat(payload.asText()).isEqualTo("상품");
+        }
+
+        @Test
+        @DisplayName("null 또는 빈 입력은 빈 본문이다")
+        void createEmpty() {
+            assertThat(ResponsePayload.of((String) null).isEmpty()).isTrue();
+            assertThat(ResponsePayload.of(new byte[0])).isSameAs(ResponsePayload.empty());
+        }
+
+        @Test
+        @DisplayName("원본 버퍼의 position을 변경하지 않는다")
+        void keepSourcePosition() throws IOException {
+            // given
+            ByteBuffer source = utf8("{}");
+
+            // when
+            ResponsePayload.pooled(List.of(source), () -> {}).openStream().readAllBytes();
+
+            // then
+            assertThat(source.position()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("openStream() 테스트")
+    class OpenStreamTest {
+
+        @Test
+        @DisplayName("여러 세그먼트를 순서대로 읽는다")
+        void readSegmentsInOrder() throws IOException {
+            // given
+            ResponsePayload payload =
+                    ResponsePayload.pooled(
+                            List.of(utf8("{\"a\":"), ByteBuffer.allocate(0), utf8("1}")),
+                            () -> {});
+
+            // when
+            byte[] bytes;
+            try (InputStream in = payload.openStream()) {
+                bytes = in.readAllBytes();
+            }
+
+            // then
+            assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}");
+            assertThat(payload.length()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("호출마다 처음부터 읽는 독립 스트림을 반환한다")
+        void openIndependentStreams() throws IOException {
+            // given
+            ResponsePayload payload = ResponsePayload.of("abc");
+
+            // when
+            InputStream first = payload.openStream();
+            first.read();
+            InputStream second = payload.openStream();
+
+            // then
+            assertThat(second.readAllBytes()).hasSize(3);
+            assertThat(first.readAllBytes()).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("preview() 테스트")
+    class PreviewTest {
+
+        @Test
+        @DisplayName("최대 바이트보다 길면 앞부분만 디코딩하고 접미사를 붙인다")
+        void truncateLongBody() {
+            // given
+            ResponsePayload payload =
+                    ResponsePayload.pooled(List.of(utf8("abc"), utf8("def")), () -> {});
+
+            // when & then
+            assertThat(payload.preview(4)).isEqualTo("abcd...(truncated)");
+            assertThat(payload.preview(6)).isEqualTo("abcdef");
+        }
+    }
+
+    @Nested
+    @DisplayName("close() 테스트")
+    class CloseTest {
+
+        @Test
+        @DisplayName("풀 버퍼는 한 번만 반환하고 이후 읽기를 거부한다")
+        void releaseOnce() {
+            // given
+            AtomicInteger releaseCount = new AtomicInteger();
+            ResponsePayload payload =
+                    ResponsePayload.pooled(List.of(utf8("{}")), releaseCount::incrementAndGet);
+
+            // when
+            payload.close();
+            payload.close();
+
+            // then
+            assertThat(releaseCount).hasValue(1);
+            assertThat(payload.isReleased()).isTrue();
+            assertThatThrownBy(payload::openStream).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> payload.preview(10))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("힙 본문은 해제 후에도 읽을 수 있다")
+        void heapBodyReadableAfterClose() {
+            // given
+            ResponsePayload payload = ResponsePayload.of("{}");
+
+            // when
+            payload.close();
+
+            // then
+            assertThat(payload.asText()).isEqualTo("{}");
+        }
+    }
+
+    @Nested
+    @DisplayName("동등성 테스트")
+    class EqualityTest {
+
+        @Test
+        @DisplayName("세그먼트 구성이 달라도 내용이 같으면 동일하다")
+        void sameContentIsEqual() {
+            // given
+            ResponsePayload heap = ResponsePayload.of("abcdef");
+            ResponsePayload pooled =
+                    ResponsePayload.pooled(List.of(utf8("abc"), utf8("def")), () -> {});
+
+            // then
+            assertThat(heap).isEqualTo(pooled);
+            assertThat(heap.hashCode()).isEqualTo(pooled.hashCode());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ryuqq.crawlinghub.domain.seller.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.domain.common.vo.SortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@Tag("unit")
+@Tag("domain")
+@Tag("query")
+@DisplayName("SellerSortKey 단위 테스트")
+class SellerSortKeyTest {
+
+    @Nested
+    @DisplayName("SortKey 구현 검증")
+    class SortKeyImplementation {
+
+        @ParameterizedTest
+        @EnumSource(SellerSortKey.class)
+        @DisplayName("모든 SellerSortKey는 SortKey 인터페이스를 구현한다")
+        void shouldImplementSortKeyInterface(SellerSortKey sortKey) {
+            // then
+            assertThat(sortKey).isInstanceOf(SortKey.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("개별 SortKey 값 검증")
+    class IndividualSortKeyValues {
+
+        @Test
+        @DisplayName("CREATED_AT은 createdAt 필드명을 가진다")
+        void createdAtHasCorrectFieldName() {
+            assertThat(SellerSortKey.CREATED_AT.fieldName()).isEqualTo("createdAt");
+        }
+
+        @Test
+        @DisplayName("UPDATED_AT은 updatedAt 필드명을 가진다")
+        void updatedAtHasCorrectFieldName() {
+            assertThat(SellerSortKey.UPDATED_AT.fieldName()).isEqualTo("updatedAt");
+        }
+    }
+
+    @Nested
+    @DisplayName("defaultKey() 메서드 테스트")
+    class DefaultKeyTest {
+
+        @Test
+        @DisplayName("기본 정렬 키는 CREATED_AT이다")
+        void defaultKeyIsCreatedAt() {
+            assertThat(SellerSortKey.defaultKey()).isEqualTo(SellerSortKey.CREATED_AT);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ryuqq.crawlinghub.domain.task.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.crawlinghub.domain.task.id.CrawlTaskId;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("domain")
+@Tag("event")
+@DisplayName("CrawlTaskOutboxCreatedEvent 단위 테스트")
+class CrawlTaskOutboxCreatedEventTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreationTest {
+
+        @Test
+        @DisplayName("ID 목록을 불변 복사본으로 보관한다")
+        void copiesTaskIds() {
+            List<CrawlTaskId> taskIds = new ArrayList<>(List.of(CrawlTaskId.of(1L)));
+
+            CrawlTaskOutboxCreatedEvent event = CrawlTaskOutboxCreatedEvent.of(taskIds, NOW);
+            taskIds.add(CrawlTaskId.of(2L));
+
+            assertThat(event.crawlTaskIds()).containsExactly(CrawlTaskId.of(1L));
+            assertThat(event.occurredAt()).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("ID 목록이 비어 있으면 예외가 발생한다")
+        void emptyTaskIdsThrowsException() {
+            assertThatThrownBy(() -> CrawlTaskOutboxCreatedEvent.of(List.of(), NOW))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("crawlTaskIds");
+        }
+
+        @Test
+        @DisplayName("occurredAt이 null이면 예외가 발생한다")
+        void nullOccurredAtThrowsException() {
+            assertThatThrownBy(
+                            () -> CrawlTaskOutboxCreatedEvent.of(List.of(CrawlTaskId.of(1L)), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("occurredAt");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ryuqq.crawlinghub.domain.task.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.crawlinghub.domain.schedule.id.CrawlSchedulerId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Tag("domain")
+@Tag("vo")
+@DisplayName("CrawlTaskFingerprint Value Object 단위 테스트")
+class CrawlTaskFingerprintTest {
+
+    private static final String BASE_URL = "https://m.web.mustit.co.kr";
+    private static final CrawlSchedulerId SCHEDULER_ID = CrawlSchedulerId.of(1L);
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreationTest {
+
+        @Test
+        @DisplayName("64자리가 아니면 예외가 발생한다")
+        void invalidLengthThrowsException() {
+            assertThatThrownBy(() -> new CrawlTaskFingerprint("abc"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("64");
+        }
+
+        @Test
+        @DisplayName("null이면 예외가 발생한다")
+        void nullThrowsException() {
+            assertThatThrownBy(() -> new CrawlTaskFingerprint(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("of() 팩토리 메서드 테스트")
+    class OfTest {
+
+        @Test
+        @DisplayName("queryParams가 없으면 생성 컬럼(SHA2)과 동일한 SHA-256 값을 반환한다")
+        void matchesGeneratedColumnWithoutQueryParams() {
+            CrawlEndpoint endpoint = new CrawlEndpoint(BASE_URL, "/items", Map.of());
+
+            CrawlTaskFingerprint fingerprint =
+                    CrawlTaskFingerprint.of(SCHEDULER_ID, CrawlTaskType.SEARCH, endpoint);
+
+            assertThat(fingerprint.value())
+                    .isEqualTo("ba0e479aa528ab7aca3e74a78c7834616c6219f1e7df55b8f5ff62ddb27052db");
+        }
+
+        @Test
+        @DisplayName("queryParams 입력 순서와 무관하게 동일한 값을 반환한다")
+        void isIndependentOfQueryParamOrder() {
+            Map<String, String> forward = new LinkedHashMap<>();
+            forward.put("a", "1");
+            forward.put("b", "2");
+            Map<String, String> reverse = new LinkedHashMap<>();
+            reverse.put("b", "2");
+            reverse.put("a", "1");
+
+            CrawlTaskFingerprint first =
+                    CrawlTaskFingerprint.of(
+                            SCHEDULER_ID,
+                            CrawlTaskType.SEARCH,
+                            new CrawlEndpoint(BASE_URL, "/items", forward));
+            CrawlTaskFingerprint second =
+                    CrawlTaskFingerprint.of(
+                            SCHEDULER_ID,
+                            CrawlTaskType.SEARCH,
+                            new CrawlEndpoint(BASE_URL, "/items", reverse));
+
+            assertThat(first).isEqualTo(second);
+            assertThat(first.value())
+                    .isEqualTo("9fe0102a6a928273a53c600e99aa70bcfabc52b93e120d16b1c0a974e90ce44a");
+        }
+
+        @Test
+        @DisplayName("태스크 유형이 다르면 다른 값을 반환한다")
+        void differsByTaskType() {
+            CrawlEndpoint endpoint = new CrawlEndpoint(BASE_URL, "/items", Map.of());
+
+            CrawlTaskFingerprint search =
+                    CrawlTaskFingerprint.of(SCHEDULER_ID, CrawlTaskType.SEARCH, endpoint);
+            CrawlTaskFingerprint detail =
+                    CrawlTaskFingerprint.of(SCHEDULER_ID, CrawlTaskType.DETAIL, endpoint);
+
+            assertThat(search).isNotEqualTo(detail);
+        }
+
+        @Test
+        @DisplayName("스케줄러가 다르면 다른 값을 반환한다")
+        void differsByScheduler() {
+            CrawlEndpoint endpoint = new CrawlEndpoint(BASE_URL, "/items", Map.of());
+
+            CrawlTaskFingerprint first =
+                    CrawlTaskFingerprint.of(SCHEDULER_ID, CrawlTaskType.SEARCH, endpoint);
+            CrawlTaskFingerprint second =
+                    CrawlTaskFingerprint.of(
+                            CrawlSchedulerId.of(2L), CrawlTaskType.SEARCH, endpoint);
+
+            assertThat(first).isNotEqualTo(second);
+        }
+    }
+}
@@ -54,9 +54,19 @@ public final class CrawledProductSyncOutboxFixture {
      * @return CrawledProductSyncOutbox
      */
     public static CrawledProductSyncOutbox aReconstitutedPending() {
+        return aReconstitutedPending(1L);
+    }
+
+    /**
+     * 지정한 ID로 복원된 PENDING 상태 Outbox 생성
+     *
+     * @param outboxId Outbox ID (CrawledProduct ID로도 사용)
+     * @return CrawledProductSyncOutbox
+     */
+    public static CrawledProductSyncOutbox aReconstitutedPending(long outboxId) {
         return CrawledProductSyncOutbox.reconstitute(
-                CrawledProductSyncOutboxId.of(1L),
-                CrawledProductId.of(1L),
+                CrawledProductSyncOutboxId.of(outboxId),
+                CrawledProductId.of(outboxId),
                 SellerId.of(100L),
                 12345L,
                 SyncType.CREATE,
@@ -90,6 +100,28 @@ public final class CrawledProductSyncOutboxFixture {
                 Instant.now());
     }
 
+    /**
+     * 지정한 ID로 복원된 갱신용 PROCESSING 상태 Outbox 생성
+     *
+     * @param outboxId Outbox ID
+     * @return CrawledProductSyncOutbox
+     */
+    public static CrawledProductSyncOutbox aReconstitutedProcessingForUpdate(long outboxId) {
+        return CrawledProductSyncOutbox.reconstitute(
+                CrawledProductSyncOutboxId.of(outboxId),
+                CrawledProductId.of(1L),
+                SellerId.of(100L),
+                12345L,
+                SyncType.UPDATE_PRICE,
+                "sync-key-" + outboxId,
+                99999L,
+                ProductOutboxStatus.PROCESSING,
+                0,
+                null,
+                Instant.now(),
+                Instant.now());
+    }
+
     /**
      * 복원된 COMPLETED 상태 Outbox 생성
      *
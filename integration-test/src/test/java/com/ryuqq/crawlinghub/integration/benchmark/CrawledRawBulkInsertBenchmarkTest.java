@@ -0,0 +1,157 @@
+package com.ryuqq.crawlinghub.integration.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.entity.CrawledRawJpaEntity;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledRawJdbcRepository;
+import com.ryuqq.crawlinghub.adapter.out.persistence.product.repository.CrawledRawJpaRepository;
+import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
+import com.ryuqq.crawlinghub.integration.base.WorkerIntegrationTest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * CrawledRaw 벌크 INSERT 벤치마크
+ *
+ * <p>IDENTITY 전략에서 {@code CrawledRawJpaRepository.saveAll()}(건별 INSERT)과 {@code
+ * CrawledRawJdbcRepository.insertAll()}(JDBC batch → multi-row INSERT)의 소요 시간을 비교합니다. SEARCH 페이지 1건
+ * 기준(40), 다중 페이지(200, 1000) 규모로 측정합니다.
+ *
+ * <p>운영과 동일하게 {@code rewriteBatchedStatements=true}를 적용하고, SQL 로깅이 측정값을 왜곡하지 않도록 비활성화합니다.
+ * 결과는 표준 출력으로 기록하며, 검증은 두 경로의 저장 결과(건수, ID 순서)만 수행합니다.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code ./gradlew :integration-test:benchmarkTest}로 실행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("benchmark")
+@DisplayName("CrawledRaw 벌크 INSERT 벤치마크")
+@TestPropertySource(
+        properties = {
+            "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.format_sql=false",
+            "spring.jpa.properties.hibernate.use_sql_comments=false",
+            "logging.level.org.hibernate.SQL=WARN",
+            "logging.level.org.hibernate.orm.jdbc.bind=WARN"
+        })
+class CrawledRawBulkInsertBenchmarkTest extends WorkerIntegrationTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(CrawledRawBulkInsertBenchmarkTest.class);
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final String RAW_DATA = buildRawData();
+
+    @Autowired private CrawledRawJpaRepository crawledRawJpaRepository;
+
+    @Autowired private CrawledRawJdbcRepository crawledRawJdbcRepository;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clean();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @ParameterizedTest(name = "rows={0}")
+    @ValueSource(ints = {40, 200, 1000})
+    @DisplayName("JPA saveAll 대비 JDBC multi-row INSERT 소요 시간 비교")
+    void compareSaveAllWithJdbcInsertAll(int rows) {
+        // given / when
+        long jpaMedianMicros =
+                measure(
+                        rows,
+                        entities ->
+                                crawledRawJpaRepository.saveAll(entities).stream()
+                                        .map(CrawledRawJpaEntity::getId)
+                                        .toList());
+        long jdbcMedianMicros = measure(rows, crawledRawJdbcRepository::insertAll);
+
+        // then
+        log.info(
+                "[CrawledRaw bulk insert] rows={}, jpaSaveAll={}ms, jdbcInsertAll={}ms,"
+                        + " speedup={}x",
+                rows,
+                String.format("%.2f", jpaMedianMicros / 1000.0),
+                String.format("%.2f", jdbcMedianMicros / 1000.0),
+                String.format("%.1f", (double) jpaMedianMicros / Math.max(jdbcMedianMicros, 1)));
+
+        long expectedRows = (long) rows * (WARMUP_ROUNDS + MEASURED_ROUNDS) * 2;
+        assertThat(crawledRawJpaRepository.count()).isEqualTo(expectedRows);
+    }
+
+    private long measure(int rows, Function<List<CrawledRawJpaEntity>, List<Long>> insert) {
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            List<CrawledRawJpaEntity> entities = newEntities(rows);
+
+            long start = System.nanoTime();
+            List<Long> ids = transactionTemplate.execute(status -> insert.apply(entities));
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+
+            assertThat(ids).hasSize(rows).doesNotContainNull().isSorted();
+            if (round >= WARMUP_ROUNDS) {
+                samples[round - WARMUP_ROUNDS] = elapsedMicros;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ROUNDS / 2];
+    }
+
+    private static List<CrawledRawJpaEntity> newEntities(int rows) {
+        Instant now = Instant.now();
+        List<CrawledRawJpaEntity> entities = new ArrayList<>(rows);
+        IntStream.range(0, rows)
+                .forEach(
+                        i ->
+                                entities.add(
+                                        CrawledRawJpaEntity.of(
+                                                null,
+                                                1L,
+                                                1L,
+                                                100_000L + i,
+                                                CrawlType.MINI_SHOP,
+                                                RAW_DATA,
+                                                RawDataStatus.PENDING,
+                                                null,
+                                                now,
+                                                null)));
+        return entities;
+    }
+
+    /** MINI_SHOP 파싱 결과와 비슷한 크기(약 1KB)의 JSON */
+    private static String buildRawData() {
+        StringBuilder json = new StringBuilder("{\"itemNo\":100000,\"name\":\"");
+        json.append("상품명".repeat(40));
+        json.append("\",\"price\":129000,\"discountPrice\":99000,\"images\":[");
+        for (int i = 0; i < 5; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"https://cdn.example.com/images/item/100000/").append(i).append(".jpg\"");
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,211 @@
+package com.ryuqq.crawlinghub.integration.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.adapter.out.redis.adapter.UserAgentPoolCacheCommandAdapter;
+import com.ryuqq.crawlinghub.adapter.out.redis.config.UserAgentPoolProperties;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.CachedUserAgentRedisMapper;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.UserAgentPoolKeyResolver;
+import com.ryuqq.crawlinghub.adapter.out.redis.support.UserAgentPoolLuaScriptHolder;
+import com.ryuqq.crawlinghub.application.common.time.TimeProvider;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.CachedUserAgent;
+import com.ryuqq.crawlinghub.application.useragent.dto.cache.ReturnedUserAgent;
+import com.ryuqq.crawlinghub.domain.useragent.id.UserAgentId;
+import com.ryuqq.crawlinghub.domain.useragent.vo.UserAgentStatus;
+import com.ryuqq.crawlinghub.integration.base.WorkerIntegrationTest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * UserAgent 일괄 borrow 왕복 벤치마크
+ *
+ * <p>Testcontainers Redis에서 기존 borrow 경로(스크립트가 ID만 반환 → UserAgent마다 {@code readAllMap()} 추가
+ * 왕복)와 스크립트가 HGETALL 결과를 함께 반환하는 현재 경로({@link UserAgentPoolCacheCommandAdapter#borrowBatch(int)})의
+ * 지연 시간을 비교합니다. 기존 경로는 현재 스크립트의 결과 적재 문만 ID로 바꿔 같은 전환 규칙으로 재현합니다.
+ *
+ * <p>반납은 측정 구간 밖에서 수행하며, 결과는 로그로 기록하고 검증은 borrow 결과만 수행합니다.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code ./gradlew :integration-test:benchmarkTest}로 실행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("benchmark")
+@DisplayName("UserAgent 일괄 borrow 왕복 벤치마크")
+class UserAgentBorrowBenchmarkTest extends WorkerIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAgentBorrowBenchmarkTest.class);
+
+    private static final int POOL_SIZE = 20;
+    private static final int BATCH_SIZE = 4;
+    private static final int WARMUP_ROUNDS = 500;
+    private static final int MEASURED_ROUNDS = 2_000;
+    private static final int UNLIMITED_TOKENS = 1_000_000;
+    private static final String INLINE_HASH_APPEND =
+            "borrowed[#borrowed + 1] = redis.call('HGETALL', poolKey)";
+
+    @Autowired private UserAgentPoolCacheCommandAdapter commandAdapter;
+
+    @Autowired private UserAgentPoolLuaScriptHolder luaScriptHolder;
+
+    @Autowired private UserAgentPoolKeyResolver keyResolver;
+
+    @Autowired private UserAgentPoolProperties properties;
+
+    @Autowired private CachedUserAgentRedisMapper mapper;
+
+    @Autowired private RedissonClient redissonClient;
+
+    @Autowired private TimeProvider timeProvider;
+
+    @BeforeEach
+    void seedPool() {
+        commandAdapter.clearPool();
+        Instant sessionExpiresAt = timeProvider.now().plusSeconds(3600);
+        List<CachedUserAgent> agents = new ArrayList<>(POOL_SIZE);
+        for (long id = 1; id <= POOL_SIZE; id++) {
+            agents.add(newAgent(id));
+        }
+        commandAdapter.warmUp(agents);
+        for (CachedUserAgent agent : agents) {
+            commandAdapter.updateSession(
+                    UserAgentId.of(agent.userAgentId()),
+                    "session-" + agent.userAgentId(),
+                    "nid",
+                    "uid",
+                    sessionExpiresAt);
+        }
+    }
+
+    @AfterEach
+    void clearPool() {
+        commandAdapter.clearPool();
+    }
+
+    @Test
+    @DisplayName("ID 반환 + readAllMap 대비 HGETALL 인라인 반환 일괄 borrow 지연 시간 비교")
+    void compareBorrowBatchRoundTrips() {
+        // given
+        String borrowBatchScript = luaScriptHolder.borrowBatchScript();
+        String idOnlyScript =
+                borrowBatchScript.replace(INLINE_HASH_APPEND, "borrowed[#borrowed + 1] = id");
+        assertThat(idOnlyScript).isNotEqualTo(borrowBatchScript);
+
+        // when
+        Measurement separateReads = measure(() -> borrowBatchWithSeparateReads(idOnlyScript));
+        Measurement singleRoundTrip = measure(() -> commandAdapter.borrowBatch(BATCH_SIZE));
+
+        // then
+        log.info(
+                "[UserAgent borrowBatch] batchSize={}, idPlusReadAllMap=p50 {}us/p99 {}us,"
+                        + " inlineHgetall=p50 {}us/p99 {}us, speedup(p50)={}x",
+                BATCH_SIZE,
+                String.format("%.1f", separateReads.p50Micros()),
+                String.format("%.1f", separateReads.p99Micros()),
+                String.format("%.1f", singleRoundTrip.p50Micros()),
+                String.format("%.1f", singleRoundTrip.p99Micros()),
+                String.format(
+                        "%.1f",
+                        separateReads.p50Micros()
+                                / Math.max(singleRoundTrip.p50Micros(), 0.001)));
+
+        List<CachedUserAgent> borrowed = commandAdapter.borrowBatch(BATCH_SIZE);
+        assertThat(borrowed).hasSize(BATCH_SIZE);
+        assertThat(borrowed)
+                .allSatisfy(
+                        agent -> {
+                            assertThat(agent.status()).isEqualTo(UserAgentStatus.BORROWED);
+                            assertThat(agent.sessionToken()).startsWith("session-");
+                        });
+    }
+
+    /** 기존 경로: 스크립트는 ID 목록만 반환하고, Hash는 UserAgent마다 별도 왕복으로 조회 */
+    private List<CachedUserAgent> borrowBatchWithSeparateReads(String idOnlyScript) {
+        List<Object> ids =
+                redissonClient
+                        .getScript(StringCodec.INSTANCE)
+                        .eval(
+                                RScript.Mode.READ_WRITE,
+                                idOnlyScript,
+                                RScript.ReturnType.MULTI,
+                                List.of(
+                                        keyResolver.idleSetKey(),
+                                        keyResolver.poolKeyPrefix(),
+                                        keyResolver.borrowedSetKey(),
+                                        keyResolver.sessionRequiredSetKey()),
+                                String.valueOf(timeProvider.now().toEpochMilli()),
+                                String.valueOf(properties.getMaxTokens()),
+                                String.valueOf(properties.getWindowDurationMillis()),
+                                String.valueOf(BATCH_SIZE));
+        List<CachedUserAgent> borrowed = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Map<String, String> data =
+                    redissonClient
+                            .<String, String>getMap(
+                                    keyResolver.poolKey(Long.parseLong(id.toString())),
+                                    StringCodec.INSTANCE)
+                            .readAllMap();
+            borrowed.add(mapper.mapToCachedUserAgent(data));
+        }
+        return borrowed;
+    }
+
+    private Measurement measure(Supplier<List<CachedUserAgent>> borrowBatch) {
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<CachedUserAgent> borrowed = borrowBatch.get();
+            long elapsedNanos = System.nanoTime() - start;
+
+            assertThat(borrowed).hasSize(BATCH_SIZE);
+            commandAdapter.returnAgents(
+                    borrowed.stream()
+                            .map(agent -> ReturnedUserAgent.unused(agent.userAgentId()))
+                            .toList());
+            if (round >= WARMUP_ROUNDS) {
+                samples[round - WARMUP_ROUNDS] = elapsedNanos;
+            }
+        }
+        Arrays.sort(samples);
+        return new Measurement(
+                samples[MEASURED_ROUNDS / 2] / 1_000.0,
+                samples[(int) (MEASURED_ROUNDS * 0.99)] / 1_000.0);
+    }
+
+    private static CachedUserAgent newAgent(long id) {
+        return new CachedUserAgent(
+                id,
+                "Mozilla/5.0 (Benchmark " + id + ")",
+                null,
+                null,
+                null,
+                null,
+                UNLIMITED_TOKENS,
+                UNLIMITED_TOKENS,
+                null,
+                null,
+                100,
+                UserAgentStatus.SESSION_REQUIRED,
+                null,
+                null,
+                null,
+                0);
+    }
+
+    private record Measurement(double p50Micros, double p99Micros) {}
+}
@@ -0,0 +1,147 @@
+package com.ryuqq.crawlinghub.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductCommandManager;
+import com.ryuqq.crawlinghub.application.product.manager.CrawledProductReadManager;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledProduct;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledProductId;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductImages;
+import com.ryuqq.crawlinghub.domain.product.vo.ProductPrice;
+import com.ryuqq.crawlinghub.domain.seller.id.SellerId;
+import com.ryuqq.crawlinghub.integration.base.SchedulerIntegrationTest;
+import com.ryuqq.crawlinghub.integration.helper.TestDataHelper;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * CrawledProduct 일괄 선조회/저장 통합 테스트
+ *
+ * <p>배치 선조회가 삭제 상품까지 한 번에 가져오는지, version 조건 UPDATE가 충돌을 감지하는지, 신규 상품 INSERT IGNORE가
+ * 유니크 키 충돌 시 기존 행을 덮어쓰지 않고 미반영으로 반환하는지 실제 MySQL에서 검증합니다.
+ */
+@DisplayName("CrawledProduct 일괄 선조회/저장 통합 테스트")
+class CrawledProductBulkUpsertIntegrationTest extends SchedulerIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private TestDataHelper testDataHelper;
+
+    @Autowired private CrawledProductReadManager crawledProductReadManager;
+
+    @Autowired private CrawledProductCommandManager crawledProductCommandManager;
+
+    @BeforeEach
+    void setUp() {
+        testDataHelper.insertCrawledProductTestData();
+    }
+
+    @Test
+    @DisplayName("삭제된 상품을 포함해 (셀러, 상품번호) 목록의 상품을 한 번에 조회해야 한다")
+    void shouldPrefetchIncludingDeleted() {
+        // given
+        jdbcTemplate.update("UPDATE crawled_product SET deleted_at = UTC_TIMESTAMP() WHERE id = 3");
+
+        // when
+        List<CrawledProduct> products =
+                crawledProductReadManager.findAllBySellerIdsAndItemNosIncludingDeleted(
+                        List.of(SellerId.of(1L)), List.of(10001L, 10003L, 99999L));
+
+        // then
+        assertThat(products)
+                .extracting(CrawledProduct::getItemNo)
+                .containsExactlyInAnyOrder(10001L, 10003L);
+    }
+
+    @Test
+    @DisplayName("선조회 이후 다른 트랜잭션이 수정한 상품은 충돌로 반환되고 나머지는 저장되어야 한다")
+    void shouldReportVersionConflict() {
+        // given
+        CrawledProduct product =
+                crawledProductReadManager
+                        .findAllBySellerIdsAndItemNosIncludingDeleted(
+                                List.of(SellerId.of(1L)), List.of(10003L))
+                        .get(0);
+        jdbcTemplate.update("UPDATE crawled_product SET version = version + 1 WHERE id = 3");
+        CrawledProduct created = newProduct(10004L, "신규 상품");
+
+        // when
+        List<CrawledProduct> unapplied =
+                crawledProductCommandManager.persistAll(List.of(product, created));
+
+        // then
+        assertThat(unapplied)
+                .extracting(CrawledProduct::getId)
+                .containsExactly(CrawledProductId.of(3L));
+        Map<String, Object> row =
+                jdbcTemplate.queryForMap(
+                        "SELECT item_name, version FROM crawled_product WHERE item_no = 10004");
+        assertThat(row.get("item_name")).isEqualTo("신규 상품");
+        assertThat(((Number) row.get("version")).longValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("신규 상품이 유니크 키와 충돌하면 기존 행을 덮어쓰지 않고 미반영으로 반환해야 한다")
+    void shouldReportDuplicateInsertWithoutOverwriting() {
+        // given
+        Map<String, Object> before =
+                jdbcTemplate.queryForMap(
+                        "SELECT item_name, version FROM crawled_product WHERE id = 3");
+        CrawledProduct duplicated = newProduct(10003L, "다시 수집된 상품");
+
+        // when
+        List<CrawledProduct> unapplied =
+                crawledProductCommandManager.persistAll(List.of(duplicated));
+
+        // then
+        assertThat(unapplied).containsExactly(duplicated);
+        List<Map<String, Object>> rows =
+                jdbcTemplate.queryForList(
+                        "SELECT id, item_name, version FROM crawled_product"
+                                + " WHERE seller_id = 1 AND item_no = 10003");
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("item_name")).isEqualTo(before.get("item_name"));
+        assertThat(rows.get(0).get("version")).isEqualTo(before.get("version"));
+    }
+
+    @Test
+    @DisplayName("한 청크에 중복 상품이 하나 섞이면 그 상품만 미반영으로 반환하고 나머지는 저장해야 한다")
+    void shouldReportOnlyDuplicateRowInChunkAsUnapplied() {
+        // given
+        CrawledProduct first = newProduct(10004L, "신규 상품 1");
+        CrawledProduct duplicated = newProduct(10003L, "다시 수집된 상품");
+        CrawledProduct second = newProduct(10005L, "신규 상품 2");
+
+        // when
+        List<CrawledProduct> unapplied =
+                crawledProductCommandManager.persistAll(List.of(first, duplicated, second));
+
+        // then
+        assertThat(unapplied).containsExactly(duplicated);
+        assertThat(
+                        jdbcTemplate.queryForList(
+                                "SELECT item_name FROM crawled_product"
+                                        + " WHERE seller_id = 1 AND item_no IN (10004, 10005)"
+                                        + " ORDER BY item_no",
+                                String.class))
+                .containsExactly("신규 상품 1", "신규 상품 2");
+    }
+
+    private static CrawledProduct newProduct(long itemNo, String itemName) {
+        return CrawledProduct.fromMiniShop(
+                SellerId.of(1L),
+                itemNo,
+                itemName,
+                "테스트 브랜드",
+                ProductPrice.of(9000, 10000, 10000, 9000, 10, 10),
+                ProductImages.empty(),
+                true,
+                Instant.now());
+    }
+}
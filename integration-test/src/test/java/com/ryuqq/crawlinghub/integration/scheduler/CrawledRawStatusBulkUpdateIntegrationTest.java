@@ -0,0 +1,80 @@
+package com.ryuqq.crawlinghub.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.application.product.manager.CrawledRawTransactionManager;
+import com.ryuqq.crawlinghub.domain.product.aggregate.CrawledRaw;
+import com.ryuqq.crawlinghub.domain.product.id.CrawledRawId;
+import com.ryuqq.crawlinghub.domain.product.vo.CrawlType;
+import com.ryuqq.crawlinghub.domain.product.vo.RawDataStatus;
+import com.ryuqq.crawlinghub.integration.base.SchedulerIntegrationTest;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * CrawledRaw 가공 결과 일괄 반영 통합 테스트
+ *
+ * <p>처리 완료 ID 집합 UPDATE와 ID별 에러 메시지 UPDATE가 실제 MySQL에서 대상 행만 정확히 변경하는지 검증합니다.
+ */
+@DisplayName("CrawledRaw 가공 결과 일괄 반영 통합 테스트")
+class CrawledRawStatusBulkUpdateIntegrationTest extends SchedulerIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private CrawledRawTransactionManager crawledRawTransactionManager;
+
+    @Test
+    @DisplayName("성공/실패가 섞인 배치는 PROCESSED와 ID별 FAILED 메시지로 반영되고 나머지 행은 변경되지 않아야 한다")
+    void shouldApplyMixedOutcomes() {
+        // given
+        for (long id = 1; id <= 4; id++) {
+            jdbcTemplate.update(
+                    "INSERT INTO crawled_raw (id, crawl_scheduler_id, seller_id, item_no,"
+                            + " crawl_type, raw_data, status, created_at) VALUES (?, 1, 1, ?,"
+                            + " 'DETAIL', '{}', 'PENDING', UTC_TIMESTAMP())",
+                    id,
+                    10_000L + id);
+        }
+
+        Map<CrawledRaw, String> failedRaws = new LinkedHashMap<>();
+        failedRaws.put(pendingRaw(3L), "역직렬화 실패");
+        failedRaws.put(pendingRaw(4L), "상품 없음");
+
+        // when
+        crawledRawTransactionManager.applyProcessingResults(
+                List.of(pendingRaw(1L), pendingRaw(2L)), failedRaws, Instant.now());
+
+        // then
+        List<Map<String, Object>> rows =
+                jdbcTemplate.queryForList(
+                        "SELECT id, status, error_message, processed_at FROM crawled_raw"
+                                + " ORDER BY id");
+        assertThat(rows)
+                .extracting(row -> row.get("status"))
+                .containsExactly("PROCESSED", "PROCESSED", "FAILED", "FAILED");
+        assertThat(rows)
+                .extracting(row -> row.get("error_message"))
+                .containsExactly(null, null, "역직렬화 실패", "상품 없음");
+        assertThat(rows).allMatch(row -> row.get("processed_at") != null);
+    }
+
+    private static CrawledRaw pendingRaw(long id) {
+        return CrawledRaw.reconstitute(
+                CrawledRawId.of(id),
+                1L,
+                1L,
+                10_000L + id,
+                CrawlType.DETAIL,
+                "{}",
+                RawDataStatus.PENDING,
+                null,
+                Instant.now(),
+                null);
+    }
+}
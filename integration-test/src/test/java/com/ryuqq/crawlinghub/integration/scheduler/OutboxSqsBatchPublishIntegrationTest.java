@@ -0,0 +1,128 @@
+package com.ryuqq.crawlinghub.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.crawlinghub.application.common.dto.result.SchedulerBatchProcessingResult;
+import com.ryuqq.crawlinghub.application.task.dto.command.ProcessPendingCrawlTaskOutboxCommand;
+import com.ryuqq.crawlinghub.application.task.port.in.command.ProcessPendingCrawlTaskOutboxUseCase;
+import com.ryuqq.crawlinghub.integration.base.SchedulerIntegrationTest;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+/**
+ * Outbox SQS SendMessageBatch 발행 통합 테스트
+ *
+ * <p>LocalStack SQS에 10건 단위 SendMessageBatch로 발행된 CrawlTask Outbox가 모두 SENT로 전환되고, 큐에 누락·중복 없이
+ * 도착하는지 검증합니다.
+ */
+@DisplayName("Outbox SQS 일괄 발행 통합 테스트")
+class OutboxSqsBatchPublishIntegrationTest extends SchedulerIntegrationTest {
+
+    private static final int OUTBOX_COUNT = 25;
+    private static final long FIRST_TASK_ID = 1_000L;
+    private static final int MAX_RECEIVE_ATTEMPTS = 20;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private ProcessPendingCrawlTaskOutboxUseCase processPendingUseCase;
+
+    @Value("${sqs.queues.crawl-task}")
+    private String crawlTaskQueueUrl;
+
+    private SqsClient sqsClient;
+
+    @BeforeEach
+    void createSqsClient() {
+        sqsClient =
+                SqsClient.builder()
+                        .endpointOverride(LOCALSTACK_CONTAINER.getEndpoint())
+                        .region(Region.US_EAST_1)
+                        .credentialsProvider(
+                                StaticCredentialsProvider.create(
+                                        AwsBasicCredentials.create("test", "test")))
+                        .build();
+    }
+
+    @AfterEach
+    void closeSqsClient() {
+        sqsClient.close();
+    }
+
+    @Test
+    @DisplayName("25건의 PENDING Outbox가 일괄 발행되어 모두 SENT로 전환되고 큐에 25건이 도착해야 한다")
+    void shouldPublishAllPendingOutboxesInBatches() {
+        // given
+        String marker = "batch-it-" + UUID.randomUUID();
+        for (int i = 0; i < OUTBOX_COUNT; i++) {
+            long taskId = FIRST_TASK_ID + i;
+            jdbcTemplate.update(
+                    "INSERT INTO crawl_task_outbox (crawl_task_id, idempotency_key, payload,"
+                            + " status, retry_count, created_at, processed_at) VALUES (?, ?, ?,"
+                            + " 'PENDING', 0, UTC_TIMESTAMP() - INTERVAL 1 MINUTE, NULL)",
+                    taskId,
+                    marker + "-" + taskId,
+                    "{\"taskId\":" + taskId + ",\"marker\":\"" + marker + "\"}");
+        }
+
+        // when
+        SchedulerBatchProcessingResult result =
+                processPendingUseCase.execute(ProcessPendingCrawlTaskOutboxCommand.of(100, 0));
+
+        // then
+        assertThat(result.total()).isEqualTo(OUTBOX_COUNT);
+        assertThat(result.success()).isEqualTo(OUTBOX_COUNT);
+        assertThat(result.failed()).isZero();
+
+        Integer sentCount =
+                jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM crawl_task_outbox"
+                                + " WHERE idempotency_key LIKE ? AND status = 'SENT'",
+                        Integer.class,
+                        marker + "-%");
+        assertThat(sentCount).isEqualTo(OUTBOX_COUNT);
+
+        assertThat(receiveBodiesContaining(marker)).hasSize(OUTBOX_COUNT);
+    }
+
+    private Set<String> receiveBodiesContaining(String marker) {
+        Set<String> bodies = new HashSet<>();
+        for (int attempt = 0;
+                attempt < MAX_RECEIVE_ATTEMPTS && bodies.size() < OUTBOX_COUNT;
+                attempt++) {
+            List<Message> messages =
+                    sqsClient
+                            .receiveMessage(
+                                    ReceiveMessageRequest.builder()
+                                            .queueUrl(crawlTaskQueueUrl)
+                                            .maxNumberOfMessages(10)
+                                            .waitTimeSeconds(1)
+                                            .build())
+                            .messages();
+            for (Message message : messages) {
+                if (message.body().contains(marker)) {
+                    bodies.add(message.body());
+                }
+                sqsClient.deleteMessage(
+                        request ->
+                                request.queueUrl(crawlTaskQueueUrl)
+                                        .receiptHandle(message.receiptHandle()));
+            }
+        }
+        return bodies;
+    }
+}
@@ -80,6 +80,8 @@ class MonitoringIntegrationTest extends WebApiIntegrationTest {
             assertThat(data.get("pendingOutbox")).isEqualTo(0);
             assertThat(data.get("recentErrors")).isEqualTo(0);
             assertThat(data.get("overallStatus")).isEqualTo("HEALTHY");
+            assertThat(data.get("aggregatedAt")).isNotNull();
+            assertThat(data.get("maxStalenessSeconds")).isEqualTo(0);
         }
 
         @Test